@@ -0,0 +1,42 @@
+package com.hartwig.serve;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.hartwig.serve.datamodel.Knowledgebase;
+import com.hartwig.serve.extraction.ExtractionResult;
+import com.hartwig.serve.extraction.variant.ProteinAnnotationQuery;
+
+import org.jetbrains.annotations.NotNull;
+
+class KnowledgeExtraction {
+
+    @NotNull
+    private final Knowledgebase knowledgebase;
+    @NotNull
+    private final Set<ProteinAnnotationQuery> proteinAnnotationQueries;
+    @NotNull
+    private final Supplier<ExtractionResult> extraction;
+
+    KnowledgeExtraction(@NotNull final Knowledgebase knowledgebase, @NotNull final Set<ProteinAnnotationQuery> proteinAnnotationQueries,
+            @NotNull final Supplier<ExtractionResult> extraction) {
+        this.knowledgebase = knowledgebase;
+        this.proteinAnnotationQueries = proteinAnnotationQueries;
+        this.extraction = extraction;
+    }
+
+    @NotNull
+    public Knowledgebase knowledgebase() {
+        return knowledgebase;
+    }
+
+    @NotNull
+    public Set<ProteinAnnotationQuery> proteinAnnotationQueries() {
+        return proteinAnnotationQueries;
+    }
+
+    @NotNull
+    public ExtractionResult extract() {
+        return extraction.get();
+    }
+}
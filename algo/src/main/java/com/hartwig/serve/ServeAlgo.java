@@ -1,19 +1,26 @@
 package com.hartwig.serve;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.hartwig.serve.ckb.classification.CkbClassificationConfig;
 import com.hartwig.serve.ckb.datamodel.CkbEntry;
 import com.hartwig.serve.common.classification.EventClassifierConfig;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.RefGenome;
 import com.hartwig.serve.extraction.ExtractionResult;
+import com.hartwig.serve.extraction.variant.ProteinAnnotationPreResolver;
+import com.hartwig.serve.extraction.variant.ProteinAnnotationQuery;
 import com.hartwig.serve.refgenome.RefGenomeManager;
 import com.hartwig.serve.refgenome.RefGenomeResource;
 import com.hartwig.serve.sources.ckb.CkbExtractor;
@@ -46,6 +53,7 @@ import com.hartwig.serve.sources.vicc.ViccExtractorFactory;
 import com.hartwig.serve.sources.vicc.ViccReader;
 import com.hartwig.serve.sources.vicc.doid.DoidLookup;
 import com.hartwig.serve.sources.vicc.doid.DoidLookupFactory;
+import com.hartwig.serve.util.StageTimer;
 import com.hartwig.serve.vicc.annotation.ViccClassificationConfig;
 import com.hartwig.serve.vicc.datamodel.ViccEntry;
 import com.hartwig.serve.vicc.datamodel.ViccSource;
@@ -70,38 +78,132 @@ public class ServeAlgo {
 
     @NotNull
     public Map<RefGenome, ExtractionResult> run(@NotNull ServeConfig config) throws IOException {
-        List<ExtractionResult> extractions = Stream.of(config.useVicc()
-                                ? extractViccKnowledge(config.viccJson(), config.viccSources(), config.viccMissingDoidsMappingTsv())
-                                : null,
-                        config.useCkb() ? extractCkbKnowledge(config.ckbDir(),
-                                config.ckbMolecularProfileFilterTsv(),
-                                config.ckbEvidenceFilterTsv(),
-                                config.ckbTrialFilterTsv(),
-                                config.ckbDrugCurationTsv(),
-                                config.ckbRegionsToIncludeTsv(),
-                                config.ckbFacilityCurationNameTsv(),
-                                config.ckbFacilityCurationZipTsv(),
-                                config.ckbFacilityCurationManualTsv()) : null,
-                        config.useDocm() ? extractDocmKnowledge(config.docmTsv()) : null,
-                        config.useHartwigCohortHotspots() ? extractHartwigCohortHotspotKnowledge(config.hartwigCohortHotspotTsv(),
-                                !config.skipVariantResolving()) : null,
-                        config.useHartwigCuratedHotspots() ? extractHartwigCuratedHotspotKnowledge(config.hartwigCuratedHotspotTsv(),
-                                !config.skipVariantResolving()) : null,
-                        config.useHartwigDriverGenes() ? extractHartwigDriverGeneKnowledge(config.driverGene37Tsv()) : null,
-                        config.useHartwigCuratedGenes() ? extractHartwigCuratedGeneKnowledge(config.hartwigCuratedGeneTsv()) : null,
-                        config.useHartwigCuratedTrials() ? extractHartwigCuratedTrialKnowledge(config.hartwigCuratedTrialTsv()) : null)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
-        Map<RefGenome, ExtractionResult> versionedMap = refGenomeManager.makeVersioned(extractions);
+        Map<String, StageTimer.Stage<KnowledgeExtraction, IOException>> preparations = Maps.newLinkedHashMap();
+        if (config.useVicc()) {
+            preparations.put("VICC",
+                    () -> prepareViccExtraction(config.viccJson(), config.viccSources(), config.viccMissingDoidsMappingTsv()));
+        }
+        if (config.useCkb()) {
+            preparations.put("CKB",
+                    () -> prepareCkbExtraction(config.ckbDir(),
+                            config.ckbMolecularProfileFilterTsv(),
+                            config.ckbEvidenceFilterTsv(),
+                            config.ckbTrialFilterTsv(),
+                            config.ckbDrugCurationTsv(),
+                            config.ckbRegionsToIncludeTsv(),
+                            config.ckbFacilityCurationNameTsv(),
+                            config.ckbFacilityCurationZipTsv(),
+                            config.ckbFacilityCurationManualTsv()));
+        }
+        if (config.useDocm()) {
+            preparations.put("DoCM", () -> prepareDocmExtraction(config.docmTsv()));
+        }
+        if (config.useHartwigCohortHotspots()) {
+            preparations.put("Hartwig cohort hotspots",
+                    () -> prepareHartwigCohortHotspotExtraction(config.hartwigCohortHotspotTsv(), !config.skipVariantResolving()));
+        }
+        if (config.useHartwigCuratedHotspots()) {
+            preparations.put("Hartwig curated hotspots",
+                    () -> prepareHartwigCuratedHotspotExtraction(config.hartwigCuratedHotspotTsv(), !config.skipVariantResolving()));
+        }
+        if (config.useHartwigDriverGenes()) {
+            preparations.put("Hartwig driver genes", () -> prepareHartwigDriverGeneExtraction(config.driverGene37Tsv()));
+        }
+        if (config.useHartwigCuratedGenes()) {
+            preparations.put("Hartwig curated genes", () -> prepareHartwigCuratedGeneExtraction(config.hartwigCuratedGeneTsv()));
+        }
+        if (config.useHartwigCuratedTrials()) {
+            preparations.put("Hartwig curated trials", () -> prepareHartwigCuratedTrialExtraction(config.hartwigCuratedTrialTsv()));
+        }
+
+        int parallelism = config.extractionParallelism();
+        Map<String, KnowledgeExtraction> knowledgeExtractions = runStages("Read", preparations, parallelism);
+
+        if (!config.skipVariantResolving()) {
+            StageTimer.time("Pre-resolve protein annotations",
+                    () -> preResolveProteinAnnotations(knowledgeExtractions.values(), proteinResolverParallelism(config)));
+        }
+
+        Map<String, StageTimer.Stage<ExtractionResult, IOException>> extractionStages = Maps.newLinkedHashMap();
+        for (Map.Entry<String, KnowledgeExtraction> entry : knowledgeExtractions.entrySet()) {
+            extractionStages.put(entry.getKey(), entry.getValue()::extract);
+        }
+        List<ExtractionResult> extractions = Lists.newArrayList(runStages("Extract", extractionStages, parallelism).values());
+
+        Map<RefGenome, ExtractionResult> versionedMap =
+                StageTimer.time("Create versioned extraction results", () -> refGenomeManager.makeVersioned(extractions));
 
         refGenomeManager.evaluate();
+        refGenomeManager.persistProteinResolvers();
 
         return versionedMap;
     }
 
     @NotNull
-    private ExtractionResult extractViccKnowledge(@NotNull String viccJson, @NotNull Set<ViccSource> viccSources,
+    private static <T> Map<String, T> runStages(@NotNull String stageType,
+            @NotNull Map<String, StageTimer.Stage<T, IOException>> stagesPerSource, int parallelism) throws IOException {
+        // Results are collected in the order in which the sources were configured, regardless of which source finishes first.
+        Map<String, T> resultsPerSource = Maps.newLinkedHashMap();
+        if (parallelism <= 1) {
+            for (Map.Entry<String, StageTimer.Stage<T, IOException>> entry : stagesPerSource.entrySet()) {
+                resultsPerSource.put(entry.getKey(), StageTimer.time(stageType + " " + entry.getKey(), entry.getValue()));
+            }
+            return resultsPerSource;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, stagesPerSource.size())));
+        try {
+            Map<String, Future<T>> futuresPerSource = Maps.newLinkedHashMap();
+            for (Map.Entry<String, StageTimer.Stage<T, IOException>> entry : stagesPerSource.entrySet()) {
+                String label = stageType + " " + entry.getKey();
+                futuresPerSource.put(entry.getKey(), executor.submit(() -> StageTimer.time(label, entry.getValue())));
+            }
+
+            for (Map.Entry<String, Future<T>> entry : futuresPerSource.entrySet()) {
+                resultsPerSource.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running " + stageType.toLowerCase() + " stages", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        return resultsPerSource;
+    }
+
+    @NotNull
+    private Void preResolveProteinAnnotations(@NotNull Collection<KnowledgeExtraction> knowledgeExtractions, int parallelism) {
+        // Every source may resolve the same protein annotation, so we collect distinct queries per ref genome across all sources.
+        Map<RefGenome, Set<ProteinAnnotationQuery>> queriesPerRefGenome = Maps.newTreeMap();
+        for (KnowledgeExtraction knowledgeExtraction : knowledgeExtractions) {
+            queriesPerRefGenome.computeIfAbsent(knowledgeExtraction.knowledgebase().refGenomeVersion(), refGenome -> Sets.newHashSet())
+                    .addAll(knowledgeExtraction.proteinAnnotationQueries());
+        }
+
+        for (Map.Entry<RefGenome, Set<ProteinAnnotationQuery>> entry : queriesPerRefGenome.entrySet()) {
+            LOGGER.info("Pre-resolving protein annotations for ref genome version {}", entry.getKey());
+            ProteinAnnotationPreResolver.preResolve(refGenomeManager.proteinResolverForRefGenome(entry.getKey()),
+                    entry.getValue(),
+                    parallelism);
+        }
+        return null;
+    }
+
+    private static int proteinResolverParallelism(@NotNull ServeConfig config) {
+        // With persistent workers there is no point in resolving more annotations concurrently than there are workers.
+        return config.transvarWorkerCount() > 0 ? config.transvarWorkerCount() : Runtime.getRuntime().availableProcessors();
+    }
+
+    @NotNull
+    private KnowledgeExtraction prepareViccExtraction(@NotNull String viccJson, @NotNull Set<ViccSource> viccSources,
             @NotNull String viccMissingDoidsMappingTsv) throws IOException {
         LOGGER.info("Creating missing doid lookup mapping from {}", viccMissingDoidsMappingTsv);
         DoidLookup missingDoidLookup = DoidLookupFactory.buildFromMappingTsv(viccMissingDoidsMappingTsv);
@@ -113,15 +215,17 @@ public class ServeAlgo {
         RefGenomeResource refGenomeResource = refGenomeManager.pickResourceForKnowledgebase(Knowledgebase.VICC_CIVIC);
         ViccExtractor extractor = ViccExtractorFactory.create(config, refGenomeResource, missingDoidLookup);
 
-        LOGGER.info("Running VICC knowledge extraction");
-        ExtractionResult result = extractor.extract(entries);
+        return new KnowledgeExtraction(Knowledgebase.VICC_CIVIC, extractor.proteinAnnotationQueries(entries), () -> {
+            LOGGER.info("Running VICC knowledge extraction");
+            ExtractionResult result = extractor.extract(entries);
 
-        missingDoidLookup.evaluate();
-        return result;
+            missingDoidLookup.evaluate();
+            return result;
+        });
     }
 
     @NotNull
-    private ExtractionResult extractCkbKnowledge(@NotNull String ckbDir, @NotNull String molecularProfileFilterTsv,
+    private KnowledgeExtraction prepareCkbExtraction(@NotNull String ckbDir, @NotNull String molecularProfileFilterTsv,
             @NotNull String ckbEvidenceFilterTsv, @NotNull String ckbTrialFilterTsv, @NotNull String ckbDrugCurationTsv,
             @NotNull String ckbRegionTsv, @NotNull String facilityCurationNameTsv, @NotNull String facilityCurationZipTsv,
             @NotNull String facilityCurationManualTsv) throws IOException {
@@ -159,29 +263,34 @@ public class ServeAlgo {
                 trialFilter,
                 regionsToInclude);
 
-        LOGGER.info("Running CKB knowledge extraction");
-        ExtractionResult result = extractor.extract(ckbEntries);
+        return new KnowledgeExtraction(Knowledgebase.CKB, extractor.proteinAnnotationQueries(ckbEntries), () -> {
+            LOGGER.info("Running CKB knowledge extraction");
+            ExtractionResult result = extractor.extract(ckbEntries);
 
-        evidenceFilter.reportUnusedFilterEntries();
-        trialFilter.reportUnusedFilterEntries();
-        treatmentApproachCurator.reportUnusedCuratedEntries();
+            evidenceFilter.reportUnusedFilterEntries();
+            trialFilter.reportUnusedFilterEntries();
+            treatmentApproachCurator.reportUnusedCuratedEntries();
 
-        return result;
+            return result;
+        });
     }
 
     @NotNull
-    private ExtractionResult extractDocmKnowledge(@NotNull String docmTsv) throws IOException {
+    private KnowledgeExtraction prepareDocmExtraction(@NotNull String docmTsv) throws IOException {
         List<DocmEntry> entries = DocmReader.readAndCurate(docmTsv);
 
         RefGenomeResource refGenomeResource = refGenomeManager.pickResourceForKnowledgebase(Knowledgebase.DOCM);
         DocmExtractor extractor = new DocmExtractor(refGenomeResource.proteinResolver());
-        LOGGER.info("Running DoCM knowledge extraction");
-        return extractor.extract(entries);
+
+        return new KnowledgeExtraction(Knowledgebase.DOCM, extractor.proteinAnnotationQueries(entries), () -> {
+            LOGGER.info("Running DoCM knowledge extraction");
+            return extractor.extract(entries);
+        });
     }
 
     @NotNull
-    private ExtractionResult extractHartwigCohortHotspotKnowledge(@NotNull String hartwigCohortHotspotTsv, boolean addExplicitHotspots)
-            throws IOException {
+    private KnowledgeExtraction prepareHartwigCohortHotspotExtraction(@NotNull String hartwigCohortHotspotTsv,
+            boolean addExplicitHotspots) throws IOException {
         LOGGER.info("Reading Hartwig Cohort Hotspot TSV from '{}'", hartwigCohortHotspotTsv);
         List<HartwigHotspotEntry> entries = HartwigHotspotFileReader.read(hartwigCohortHotspotTsv);
         LOGGER.info(" Read {} entries", entries.size());
@@ -189,13 +298,16 @@ public class ServeAlgo {
         RefGenomeResource refGenomeResource = refGenomeManager.pickResourceForKnowledgebase(Knowledgebase.HARTWIG_HOTSPOT_COHORT);
         HartwigHotspotExtractor extractor =
                 new HartwigHotspotExtractor(Knowledgebase.HARTWIG_HOTSPOT_COHORT, refGenomeResource.proteinResolver(), addExplicitHotspots);
-        LOGGER.info("Running Hartwig cohort hotspot knowledge extraction");
-        return extractor.extract(entries);
+
+        return new KnowledgeExtraction(Knowledgebase.HARTWIG_HOTSPOT_COHORT, extractor.proteinAnnotationQueries(entries), () -> {
+            LOGGER.info("Running Hartwig cohort hotspot knowledge extraction");
+            return extractor.extract(entries);
+        });
     }
 
     @NotNull
-    private ExtractionResult extractHartwigCuratedHotspotKnowledge(@NotNull String hartwigCuratedHotspotTsv, boolean addExplicitHotspots)
-            throws IOException {
+    private KnowledgeExtraction prepareHartwigCuratedHotspotExtraction(@NotNull String hartwigCuratedHotspotTsv,
+            boolean addExplicitHotspots) throws IOException {
         LOGGER.info("Reading Hartwig Curated Hotspot TSV from '{}'", hartwigCuratedHotspotTsv);
         List<HartwigHotspotEntry> entries = HartwigHotspotFileReader.read(hartwigCuratedHotspotTsv);
         LOGGER.info(" Read {} entries", entries.size());
@@ -204,41 +316,54 @@ public class ServeAlgo {
         HartwigHotspotExtractor extractor = new HartwigHotspotExtractor(Knowledgebase.HARTWIG_HOTSPOT_CURATED,
                 refGenomeResource.proteinResolver(),
                 addExplicitHotspots);
-        LOGGER.info("Running Hartwig curated hotspot knowledge extraction");
-        return extractor.extract(entries);
+
+        return new KnowledgeExtraction(Knowledgebase.HARTWIG_HOTSPOT_CURATED, extractor.proteinAnnotationQueries(entries), () -> {
+            LOGGER.info("Running Hartwig curated hotspot knowledge extraction");
+            return extractor.extract(entries);
+        });
     }
 
     @NotNull
-    private ExtractionResult extractHartwigDriverGeneKnowledge(@NotNull String driverGeneFileTsv) throws IOException {
+    private KnowledgeExtraction prepareHartwigDriverGeneExtraction(@NotNull String driverGeneFileTsv) throws IOException {
         LOGGER.info("Reading Hartwig Driver Gene TSV from '{}'", driverGeneFileTsv);
         List<HartwigGeneEntry> entries = HartwigGeneFileReader.readDriverGenes(driverGeneFileTsv);
         LOGGER.info(" Read {} entries", entries.size());
 
         HartwigGeneExtractor extractor = new HartwigGeneExtractor(Knowledgebase.HARTWIG_GENE_DRIVER_PANEL);
-        LOGGER.info("Running Hartwig driver gene knowledge extraction");
-        return extractor.extract(entries);
+
+        return new KnowledgeExtraction(Knowledgebase.HARTWIG_GENE_DRIVER_PANEL, Set.of(), () -> {
+            LOGGER.info("Running Hartwig driver gene knowledge extraction");
+            return extractor.extract(entries);
+        });
     }
 
     @NotNull
-    private ExtractionResult extractHartwigCuratedGeneKnowledge(@NotNull String curatedGeneFileTsv) throws IOException {
+    private KnowledgeExtraction prepareHartwigCuratedGeneExtraction(@NotNull String curatedGeneFileTsv) throws IOException {
         LOGGER.info("Reading Hartwig Curated Gene TSV from '{}'", curatedGeneFileTsv);
         List<HartwigGeneEntry> entries = HartwigGeneFileReader.readCuratedGenes(curatedGeneFileTsv);
         LOGGER.info(" Read {} entries", entries.size());
 
         HartwigGeneExtractor extractor = new HartwigGeneExtractor(Knowledgebase.HARTWIG_GENE_CURATED);
-        LOGGER.info("Running Hartwig curated gene knowledge extraction");
-        return extractor.extract(entries);
+
+        return new KnowledgeExtraction(Knowledgebase.HARTWIG_GENE_CURATED, Set.of(), () -> {
+            LOGGER.info("Running Hartwig curated gene knowledge extraction");
+            return extractor.extract(entries);
+        });
     }
 
     @NotNull
-    private ExtractionResult extractHartwigCuratedTrialKnowledge(@NotNull String curatedTrialFileTsv) throws IOException {
+    private KnowledgeExtraction prepareHartwigCuratedTrialExtraction(@NotNull String curatedTrialFileTsv) throws IOException {
         LOGGER.info("Reading Hartwig Curated Trial TSV from '{}'", curatedTrialFileTsv);
         List<HartwigTrialEntry> entries = HartwigTrialReader.read(curatedTrialFileTsv);
         LOGGER.info(" Read {} entries", entries.size());
 
         RefGenomeResource refGenomeResource = refGenomeManager.pickResourceForKnowledgebase(Knowledgebase.HARTWIG_TRIAL_CURATED);
         HartwigTrialExtractor extractor = HartwigTrialExtractorFactory.createCkbEmulatedExtractor(refGenomeResource);
-        LOGGER.info("Running Hartwig curated trial knowledge extraction");
-        return extractor.extract(entries);
+
+        // The few hotspots configured in curated trials are left to be resolved during extraction.
+        return new KnowledgeExtraction(Knowledgebase.HARTWIG_TRIAL_CURATED, Set.of(), () -> {
+            LOGGER.info("Running Hartwig curated trial knowledge extraction");
+            return extractor.extract(entries);
+        });
     }
-}
\ No newline at end of file
+}
@@ -33,12 +33,12 @@ public class ServeApplication {
             System.exit(1);
         }
 
-        RefGenomeManager refGenomeManager = RefGenomeManagerFactory.createFromServeConfig(config);
+        try (RefGenomeManager refGenomeManager = RefGenomeManagerFactory.createFromServeConfig(config)) {
+            ServeAlgo algo = new ServeAlgo(refGenomeManager);
 
-        ServeAlgo algo = new ServeAlgo(refGenomeManager);
-
-        ExtractionResultWriter writer = new ExtractionResultWriter(VERSION, refGenomeManager, config.outputDir());
-        writer.write(algo.run(config));
+            ExtractionResultWriter writer = new ExtractionResultWriter(VERSION, refGenomeManager, config.outputDir());
+            writer.write(algo.run(config));
+        }
 
         LOGGER.info("Complete!");
     }
@@ -63,6 +63,10 @@ public interface ServeConfig {
     String DRIVER_GENE_38_TSV = "driver_gene_38_tsv";
     String KNOWN_FUSION_37_FILE = "known_fusion_37_file";
     String KNOWN_FUSION_38_FILE = "known_fusion_38_file";
+    String PROTEIN_RESOLVER_CACHE_DIR = "protein_resolver_cache_dir";
+    String ENSEMBL_DATA_CACHE_SNAPSHOT_DIR = "ensembl_data_cache_snapshot_dir";
+    String TRANSVAR_WORKER_COUNT = "transvar_worker_count";
+    String EXTRACTION_PARALLELISM = "extraction_parallelism";
 
     // All output from SERVE will be written to this dir
     String OUTPUT_DIR = "output_dir";
@@ -113,6 +117,18 @@ public interface ServeConfig {
         options.addOption(DRIVER_GENE_38_TSV, true, "Path to driver gene v38 TSV");
         options.addOption(KNOWN_FUSION_37_FILE, true, "Path to the known fusion v37 file");
         options.addOption(KNOWN_FUSION_38_FILE, true, "Path to the known fusion v38 file");
+        options.addOption(PROTEIN_RESOLVER_CACHE_DIR,
+                true,
+                "Optional dir holding the protein resolver cache. Resolved protein annotations are re-used across runs when provided.");
+        options.addOption(ENSEMBL_DATA_CACHE_SNAPSHOT_DIR,
+                true,
+                "Optional dir holding binary snapshots of the ensembl data caches. Speeds up loading the caches when provided.");
+        options.addOption(TRANSVAR_WORKER_COUNT,
+                true,
+                "Number of persistent transvar workers per ref genome. If not provided, transvar is started once per protein annotation.");
+        options.addOption(EXTRACTION_PARALLELISM,
+                true,
+                "Maximum number of sources that are read and extracted concurrently. If not provided, sources are processed one by one.");
 
         options.addOption(OUTPUT_DIR, true, "Dir which will hold all SERVE output files");
 
@@ -218,6 +234,22 @@ public interface ServeConfig {
     @NotNull
     String knownFusion38File();
 
+    @Nullable
+    String proteinResolverCacheDir();
+
+    @Nullable
+    String ensemblDataCacheSnapshotDir();
+
+    @Value.Default
+    default int transvarWorkerCount() {
+        return 0;
+    }
+
+    @Value.Default
+    default int extractionParallelism() {
+        return 1;
+    }
+
     @NotNull
     String outputDir();
 
@@ -275,6 +307,10 @@ public interface ServeConfig {
                 .driverGene38Tsv(nonOptionalFile(cmd, DRIVER_GENE_38_TSV))
                 .knownFusion37File(nonOptionalFile(cmd, KNOWN_FUSION_37_FILE))
                 .knownFusion38File(nonOptionalFile(cmd, KNOWN_FUSION_38_FILE))
+                .proteinResolverCacheDir(optionalDir(cmd, PROTEIN_RESOLVER_CACHE_DIR))
+                .ensemblDataCacheSnapshotDir(optionalDir(cmd, ENSEMBL_DATA_CACHE_SNAPSHOT_DIR))
+                .transvarWorkerCount(optionalInteger(cmd, TRANSVAR_WORKER_COUNT, 0, 0))
+                .extractionParallelism(optionalInteger(cmd, EXTRACTION_PARALLELISM, 1, 1))
                 .outputDir(nonOptionalDir(cmd, OUTPUT_DIR))
                 .skipVariantResolving(cmd.hasOption(SKIP_VARIANT_RESOLVING))
                 .build();
@@ -311,6 +347,29 @@ public interface ServeConfig {
         return value;
     }
 
+    @Nullable
+    static String optionalDir(@NotNull CommandLine cmd, @NotNull String param) throws ParseException {
+        return cmd.hasOption(param) ? nonOptionalDir(cmd, param) : null;
+    }
+
+    static int optionalInteger(@NotNull CommandLine cmd, @NotNull String param, int defaultValue, int minimumValue)
+            throws ParseException {
+        if (!cmd.hasOption(param)) {
+            return defaultValue;
+        }
+
+        String value = nonOptionalValue(cmd, param);
+        try {
+            int integer = Integer.parseInt(value);
+            if (integer < minimumValue) {
+                throw new ParseException("Parameter '" + param + "' must be an integer of at least " + minimumValue + ": " + value);
+            }
+            return integer;
+        } catch (NumberFormatException exception) {
+            throw new ParseException("Parameter '" + param + "' must be an integer of at least " + minimumValue + ": " + value);
+        }
+    }
+
     @NotNull
     static String nonOptionalFile(@NotNull CommandLine cmd, @NotNull String param) throws ParseException {
         String value = nonOptionalValue(cmd, param);
@@ -9,6 +9,8 @@ import java.util.Set;
 import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.hartwig.serve.datamodel.molecular.MolecularCriterium;
 import com.hartwig.serve.datamodel.trial.ActionableTrial;
 import com.hartwig.serve.datamodel.trial.Country;
@@ -16,7 +18,10 @@ import com.hartwig.serve.datamodel.trial.Hospital;
 
 import org.jetbrains.annotations.NotNull;
 import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep12;
+import org.jooq.InsertValuesStep2;
 
+@SuppressWarnings({ "ResultOfMethodCallIgnored", "unchecked" })
 class ActionableTrialDAO {
 
     @NotNull
@@ -35,46 +40,70 @@ class ActionableTrialDAO {
     }
 
     public void write(@NotNull List<ActionableTrial> actionableTrials) {
-        for (ActionableTrial actionableTrial : actionableTrials) {
-            int actionableTrialId = context.insertInto(ACTIONABLETRIAL,
-                            ACTIONABLETRIAL.SOURCE,
-                            ACTIONABLETRIAL.NCTID,
-                            ACTIONABLETRIAL.TITLE,
-                            ACTIONABLETRIAL.ACRONYM,
-                            ACTIONABLETRIAL.PHASE,
-                            ACTIONABLETRIAL.COUNTRIESANDCITIES,
-                            ACTIONABLETRIAL.HOSPITALSPERCITY,
-                            ACTIONABLETRIAL.THERAPYNAMES,
-                            ACTIONABLETRIAL.GENDERCRITERIUM,
-                            ACTIONABLETRIAL.INDICATIONS,
-                            ACTIONABLETRIAL.URLS)
-                    .values(actionableTrial.source().name(),
-                            actionableTrial.nctId(),
-                            actionableTrial.title(),
-                            actionableTrial.acronym(),
-                            actionableTrial.phase().name(),
-                            extractCountriesWithCities(actionableTrial.countries()),
-                            extractHospitalsPerCity(actionableTrial.countries()),
-                            DatabaseUtil.concat(actionableTrial.therapyNames()),
-                            actionableTrial.genderCriterium().name(),
-                            DatabaseUtil.concat(actionableTrial.indications()
-                                    .stream()
-                                    .map(DatabaseUtil::formatIndication)
-                                    .collect(Collectors.toSet())),
-                            DatabaseUtil.concat(actionableTrial.urls()))
-                    .returning(ACTIONABLETRIAL.ID)
-                    .fetchOne()
-                    .getValue(ACTIONABLETRIAL.ID);
+        // IDs are assigned client-side so that trials can be written using multi-row inserts rather than one round trip per trial.
+        int nextId = DatabaseUtil.nextId(context, ACTIONABLETRIAL, ACTIONABLETRIAL.ID);
 
+        List<Integer> actionableTrialIds = Lists.newArrayListWithCapacity(actionableTrials.size());
+        List<Integer> criteriumTrialIds = Lists.newArrayList();
+        List<MolecularCriterium> molecularCriteria = Lists.newArrayList();
+        for (ActionableTrial actionableTrial : actionableTrials) {
+            int actionableTrialId = nextId++;
+            actionableTrialIds.add(actionableTrialId);
             for (MolecularCriterium molecularCriterium : actionableTrial.anyMolecularCriteria()) {
-                int molecularCriteriumId = molecularCriteriumDAO.write(molecularCriterium);
+                criteriumTrialIds.add(actionableTrialId);
+                molecularCriteria.add(molecularCriterium);
+            }
+        }
 
-                context.insertInto(TRIALMOLECULARCRITERIUM,
-                        TRIALMOLECULARCRITERIUM.ACTIONABLETRIALID,
-                        TRIALMOLECULARCRITERIUM.MOLECULARCRITERIUMID).values(actionableTrialId, molecularCriteriumId).execute();
+        int offset = 0;
+        for (List<ActionableTrial> batch : Iterables.partition(actionableTrials, DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
+            InsertValuesStep12 inserter = context.insertInto(ACTIONABLETRIAL,
+                    ACTIONABLETRIAL.ID,
+                    ACTIONABLETRIAL.SOURCE,
+                    ACTIONABLETRIAL.NCTID,
+                    ACTIONABLETRIAL.TITLE,
+                    ACTIONABLETRIAL.ACRONYM,
+                    ACTIONABLETRIAL.PHASE,
+                    ACTIONABLETRIAL.COUNTRIESANDCITIES,
+                    ACTIONABLETRIAL.HOSPITALSPERCITY,
+                    ACTIONABLETRIAL.THERAPYNAMES,
+                    ACTIONABLETRIAL.GENDERCRITERIUM,
+                    ACTIONABLETRIAL.INDICATIONS,
+                    ACTIONABLETRIAL.URLS);
+            for (int i = 0; i < batch.size(); i++) {
+                writeActionableTrial(inserter, actionableTrialIds.get(offset + i), batch.get(i));
             }
+            inserter.execute();
+            offset += batch.size();
         }
 
+        List<Integer> molecularCriteriumIds = molecularCriteriumDAO.write(molecularCriteria);
+        for (int start = 0; start < molecularCriteriumIds.size(); start += DatabaseUtil.DB_BATCH_INSERT_SIZE) {
+            InsertValuesStep2 inserter = context.insertInto(TRIALMOLECULARCRITERIUM,
+                    TRIALMOLECULARCRITERIUM.ACTIONABLETRIALID,
+                    TRIALMOLECULARCRITERIUM.MOLECULARCRITERIUMID);
+            int end = Math.min(start + DatabaseUtil.DB_BATCH_INSERT_SIZE, molecularCriteriumIds.size());
+            for (int i = start; i < end; i++) {
+                inserter.values(criteriumTrialIds.get(i), molecularCriteriumIds.get(i));
+            }
+            inserter.execute();
+        }
+    }
+
+    private static void writeActionableTrial(@NotNull InsertValuesStep12 inserter, int actionableTrialId,
+            @NotNull ActionableTrial actionableTrial) {
+        inserter.values(actionableTrialId,
+                actionableTrial.source().name(),
+                actionableTrial.nctId(),
+                actionableTrial.title(),
+                actionableTrial.acronym(),
+                actionableTrial.phase().name(),
+                extractCountriesWithCities(actionableTrial.countries()),
+                extractHospitalsPerCity(actionableTrial.countries()),
+                DatabaseUtil.concat(actionableTrial.therapyNames()),
+                actionableTrial.genderCriterium().name(),
+                DatabaseUtil.concat(actionableTrial.indications().stream().map(DatabaseUtil::formatIndication).collect(Collectors.toSet())),
+                DatabaseUtil.concat(actionableTrial.urls()));
     }
 
     @NotNull
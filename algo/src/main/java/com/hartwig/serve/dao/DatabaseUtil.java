@@ -10,6 +10,10 @@ import com.hartwig.serve.datamodel.common.Indication;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
 
 public final class DatabaseUtil {
 
@@ -35,6 +39,11 @@ public final class DatabaseUtil {
         return joiner.toString();
     }
 
+    public static int nextId(@NotNull DSLContext context, @NotNull Table<?> table, @NotNull Field<Integer> idField) {
+        Integer maxId = context.select(DSL.max(idField)).from(table).fetchOne(0, Integer.class);
+        return maxId != null ? maxId + 1 : 1;
+    }
+
     @NotNull
     public static String formatIndication(@NotNull Indication indication) {
         String base = formatCancerType(indication.applicableType());
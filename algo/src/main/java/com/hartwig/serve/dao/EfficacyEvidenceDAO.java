@@ -2,13 +2,13 @@ package com.hartwig.serve.dao;
 
 import static com.hartwig.serve.database.Tables.EFFICACYEVIDENCE;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.Iterables;
 import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
+import com.hartwig.serve.datamodel.molecular.MolecularCriterium;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -33,12 +33,11 @@ class EfficacyEvidenceDAO {
     }
 
     public void write(@NotNull List<EfficacyEvidence> efficacyEvidences) {
-        Map<EfficacyEvidence, Integer> molecularCriteriumIdPerEfficacyEvidence = new HashMap<>();
-        for (EfficacyEvidence efficacyEvidence : efficacyEvidences) {
-            molecularCriteriumIdPerEfficacyEvidence.put(efficacyEvidence,
-                    molecularCriteriumDAO.write(efficacyEvidence.molecularCriterium()));
-        }
+        List<MolecularCriterium> molecularCriteria =
+                efficacyEvidences.stream().map(EfficacyEvidence::molecularCriterium).collect(Collectors.toList());
+        List<Integer> molecularCriteriumIds = molecularCriteriumDAO.write(molecularCriteria);
 
+        int offset = 0;
         for (List<EfficacyEvidence> batch : Iterables.partition(efficacyEvidences, DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
             InsertValuesStep12 inserter = context.insertInto(EFFICACYEVIDENCE,
                     EFFICACYEVIDENCE.SOURCE,
@@ -53,8 +52,11 @@ class EfficacyEvidenceDAO {
                     EFFICACYEVIDENCE.EVIDENCEDIRECTION,
                     EFFICACYEVIDENCE.EVIDENCEYEAR,
                     EFFICACYEVIDENCE.EVIDENCEURLS);
-            batch.forEach(entry -> writeEfficacyEvidence(inserter, entry, molecularCriteriumIdPerEfficacyEvidence.get(entry)));
+            for (int i = 0; i < batch.size(); i++) {
+                writeEfficacyEvidence(inserter, batch.get(i), molecularCriteriumIds.get(offset + i));
+            }
             inserter.execute();
+            offset += batch.size();
         }
     }
 
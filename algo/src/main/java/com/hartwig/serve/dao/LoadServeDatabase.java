@@ -7,7 +7,6 @@ import java.sql.SQLException;
 import java.util.List;
 
 import com.hartwig.serve.datamodel.RefGenome;
-import com.hartwig.serve.datamodel.ServeDatabase;
 import com.hartwig.serve.datamodel.ServeRecord;
 import com.hartwig.serve.datamodel.serialization.ServeJson;
 import com.hartwig.serve.extraction.events.EventInterpretation;
@@ -49,8 +48,7 @@ public class LoadServeDatabase {
     private static ServeRecord loadServeRecord(@NotNull String serveActionabilityDir, @NotNull RefGenome refGenome) throws IOException {
         String serveJsonFile = ServeJson.jsonFilePath(serveActionabilityDir);
         LOGGER.info("Loading SERVE from {} for ref genome {}", serveJsonFile, refGenome);
-        ServeDatabase serveDatabase = ServeJson.read(serveJsonFile);
-        ServeRecord serveRecord = serveDatabase.records().get(refGenome);
+        ServeRecord serveRecord = ServeJson.readRecord(serveJsonFile, refGenome);
 
         if (serveRecord == null) {
             throw new IllegalStateException("Could not find SERVE record for ref genome version '" + refGenome + "'");
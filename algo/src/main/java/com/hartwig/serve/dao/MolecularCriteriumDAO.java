@@ -9,8 +9,12 @@ import static com.hartwig.serve.database.Tables.ACTIONABLEHLA;
 import static com.hartwig.serve.database.Tables.ACTIONABLEHOTSPOT;
 import static com.hartwig.serve.database.Tables.MOLECULARCRITERIUM;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.hartwig.serve.datamodel.molecular.MolecularCriterium;
 import com.hartwig.serve.datamodel.molecular.characteristic.ActionableCharacteristic;
 import com.hartwig.serve.datamodel.molecular.fusion.ActionableFusion;
@@ -22,7 +26,13 @@ import com.hartwig.serve.datamodel.molecular.range.ActionableRange;
 
 import org.jetbrains.annotations.NotNull;
 import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep1;
+import org.jooq.InsertValuesStep10;
+import org.jooq.InsertValuesStep6;
+import org.jooq.InsertValuesStep7;
+import org.jooq.InsertValuesStep9;
 
+@SuppressWarnings({ "ResultOfMethodCallIgnored", "unchecked" })
 class MolecularCriteriumDAO {
 
     @NotNull
@@ -43,190 +53,250 @@ class MolecularCriteriumDAO {
         context.deleteFrom(ACTIONABLEHLA).execute();
     }
 
-    public int write(@NotNull MolecularCriterium molecularCriterium) {
-        int molecularCriteriumId =
-                context.insertInto(MOLECULARCRITERIUM).values().returning(MOLECULARCRITERIUM.ID).fetchOne().getValue(MOLECULARCRITERIUM.ID);
-
-        writeActionableHotspots(molecularCriteriumId, molecularCriterium.hotspots());
-        writeActionableCodons(molecularCriteriumId, molecularCriterium.codons());
-        writeActionableExons(molecularCriteriumId, molecularCriterium.exons());
-        writeActionableGenes(molecularCriteriumId, molecularCriterium.genes());
-        writeActionableFusions(molecularCriteriumId, molecularCriterium.fusions());
-        writeActionableCharacteristics(molecularCriteriumId, molecularCriterium.characteristics());
-        writeActionableHla(molecularCriteriumId, molecularCriterium.hla());
-
-        return molecularCriteriumId;
-    }
-
-    private void writeActionableHotspots(int molecularCriteriumId, @NotNull Set<ActionableHotspot> hotspots) {
-        for (ActionableHotspot hotspot : hotspots) {
-            // TODO (KZ) do we need a subset id to model the hotspot grouping?
-            for (VariantAnnotation variant : hotspot.variants()) {
-                context.insertInto(ACTIONABLEHOTSPOT,
-                                ACTIONABLEHOTSPOT.MOLECULARCRITERIUMID,
-                                ACTIONABLEHOTSPOT.SOURCEDATE,
-                                ACTIONABLEHOTSPOT.SOURCEEVENT,
-                                ACTIONABLEHOTSPOT.SOURCEURLS,
-                                ACTIONABLEHOTSPOT.GENE,
-                                ACTIONABLEHOTSPOT.CHROMOSOME,
-                                ACTIONABLEHOTSPOT.POSITION,
-                                ACTIONABLEHOTSPOT.REF,
-                                ACTIONABLEHOTSPOT.ALT)
-                        .values(molecularCriteriumId,
-                                hotspot.sourceDate(),
-                                hotspot.sourceEvent(),
-                                DatabaseUtil.concat(hotspot.sourceUrls()),
-                                variant.gene(),
-                                variant.chromosome(),
-                                variant.position(),
-                                variant.ref(),
-                                variant.alt())
-                        .execute();
+    @NotNull
+    public List<Integer> write(@NotNull List<MolecularCriterium> molecularCriteria) {
+        // IDs are assigned client-side so that criteria and all their actionable events can be written using multi-row inserts
+        // rather than one round trip per criterium to fetch its generated ID.
+        int nextId = DatabaseUtil.nextId(context, MOLECULARCRITERIUM, MOLECULARCRITERIUM.ID);
+
+        List<Integer> molecularCriteriumIds = Lists.newArrayListWithCapacity(molecularCriteria.size());
+        for (int i = 0; i < molecularCriteria.size(); i++) {
+            molecularCriteriumIds.add(nextId + i);
+        }
+
+        for (List<Integer> batch : Iterables.partition(molecularCriteriumIds, DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
+            InsertValuesStep1 inserter = context.insertInto(MOLECULARCRITERIUM, MOLECULARCRITERIUM.ID);
+            batch.forEach(id -> inserter.values(id));
+            inserter.execute();
+        }
+
+        writeActionableHotspots(collect(molecularCriteriumIds, molecularCriteria, MolecularCriterium::hotspots));
+        writeActionableCodons(collect(molecularCriteriumIds, molecularCriteria, MolecularCriterium::codons));
+        writeActionableExons(collect(molecularCriteriumIds, molecularCriteria, MolecularCriterium::exons));
+        writeActionableGenes(collect(molecularCriteriumIds, molecularCriteria, MolecularCriterium::genes));
+        writeActionableFusions(collect(molecularCriteriumIds, molecularCriteria, MolecularCriterium::fusions));
+        writeActionableCharacteristics(collect(molecularCriteriumIds, molecularCriteria, MolecularCriterium::characteristics));
+        writeActionableHla(collect(molecularCriteriumIds, molecularCriteria, MolecularCriterium::hla));
+
+        return molecularCriteriumIds;
+    }
+
+    @NotNull
+    private static <T> List<CriteriumEntry<T>> collect(@NotNull List<Integer> molecularCriteriumIds,
+            @NotNull List<MolecularCriterium> molecularCriteria, @NotNull Function<MolecularCriterium, Set<T>> entryExtractor) {
+        List<CriteriumEntry<T>> entries = Lists.newArrayList();
+        for (int i = 0; i < molecularCriteria.size(); i++) {
+            for (T entry : entryExtractor.apply(molecularCriteria.get(i))) {
+                entries.add(new CriteriumEntry<>(molecularCriteriumIds.get(i), entry));
             }
         }
+        return entries;
     }
 
-    private void writeActionableCodons(int molecularCriteriumId, @NotNull Set<ActionableRange> codons) {
-        for (ActionableRange codon : codons) {
-            context.insertInto(ACTIONABLECODON,
-                            ACTIONABLECODON.MOLECULARCRITERIUMID,
-                            ACTIONABLECODON.SOURCEDATE,
-                            ACTIONABLECODON.SOURCEEVENT,
-                            ACTIONABLECODON.SOURCEURLS,
-                            ACTIONABLECODON.GENE,
-                            ACTIONABLECODON.CHROMOSOME,
-                            ACTIONABLECODON.START,
-                            ACTIONABLECODON.END,
-                            ACTIONABLECODON.APPLICABLEMUTATIONTYPE)
-                    .values(molecularCriteriumId,
-                            codon.sourceDate(),
-                            codon.sourceEvent(),
-                            DatabaseUtil.concat(codon.sourceUrls()),
-                            codon.gene(),
-                            codon.chromosome(),
-                            codon.start(),
-                            codon.end(),
-                            codon.applicableMutationType().name())
-                    .execute();
+    private void writeActionableHotspots(@NotNull List<CriteriumEntry<ActionableHotspot>> hotspots) {
+        for (List<CriteriumEntry<ActionableHotspot>> batch : Iterables.partition(hotspots, DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
+            InsertValuesStep9 inserter = context.insertInto(ACTIONABLEHOTSPOT,
+                    ACTIONABLEHOTSPOT.MOLECULARCRITERIUMID,
+                    ACTIONABLEHOTSPOT.SOURCEDATE,
+                    ACTIONABLEHOTSPOT.SOURCEEVENT,
+                    ACTIONABLEHOTSPOT.SOURCEURLS,
+                    ACTIONABLEHOTSPOT.GENE,
+                    ACTIONABLEHOTSPOT.CHROMOSOME,
+                    ACTIONABLEHOTSPOT.POSITION,
+                    ACTIONABLEHOTSPOT.REF,
+                    ACTIONABLEHOTSPOT.ALT);
+            batch.forEach(entry -> writeActionableHotspotBatch(inserter, entry.molecularCriteriumId, entry.value));
+            inserter.execute();
         }
     }
 
-    private void writeActionableExons(int molecularCriteriumId, @NotNull Set<ActionableRange> exons) {
-        for (ActionableRange exon : exons) {
-            context.insertInto(ACTIONABLEEXON,
-                            ACTIONABLEEXON.MOLECULARCRITERIUMID,
-                            ACTIONABLEEXON.SOURCEDATE,
-                            ACTIONABLEEXON.SOURCEEVENT,
-                            ACTIONABLEEXON.SOURCEURLS,
-                            ACTIONABLEEXON.GENE,
-                            ACTIONABLEEXON.CHROMOSOME,
-                            ACTIONABLEEXON.START,
-                            ACTIONABLEEXON.END,
-                            ACTIONABLEEXON.APPLICABLEMUTATIONTYPE)
-                    .values(molecularCriteriumId,
-                            exon.sourceDate(),
-                            exon.sourceEvent(),
-                            DatabaseUtil.concat(exon.sourceUrls()),
-                            exon.gene(),
-                            exon.chromosome(),
-                            exon.start(),
-                            exon.end(),
-                            exon.applicableMutationType().name())
-                    .execute();
+    private static void writeActionableHotspotBatch(@NotNull InsertValuesStep9 inserter, int molecularCriteriumId,
+            @NotNull ActionableHotspot hotspot) {
+        // TODO (KZ) do we need a subset id to model the hotspot grouping?
+        for (VariantAnnotation variant : hotspot.variants()) {
+            inserter.values(molecularCriteriumId,
+                    hotspot.sourceDate(),
+                    hotspot.sourceEvent(),
+                    DatabaseUtil.concat(hotspot.sourceUrls()),
+                    variant.gene(),
+                    variant.chromosome(),
+                    variant.position(),
+                    variant.ref(),
+                    variant.alt());
         }
     }
 
-    private void writeActionableGenes(int molecularCriteriumId, @NotNull Set<ActionableGene> genes) {
-        for (ActionableGene gene : genes) {
-            context.insertInto(ACTIONABLEGENE,
-                            ACTIONABLEGENE.MOLECULARCRITERIUMID,
-                            ACTIONABLEGENE.SOURCEDATE,
-                            ACTIONABLEGENE.SOURCEEVENT,
-                            ACTIONABLEGENE.SOURCEURLS,
-                            ACTIONABLEGENE.GENE,
-                            ACTIONABLEGENE.EVENT)
-                    .values(molecularCriteriumId,
-                            gene.sourceDate(),
-                            gene.sourceEvent(),
-                            DatabaseUtil.concat(gene.sourceUrls()),
-                            gene.gene(),
-                            gene.event().name())
-                    .execute();
+    private void writeActionableCodons(@NotNull List<CriteriumEntry<ActionableRange>> codons) {
+        for (List<CriteriumEntry<ActionableRange>> batch : Iterables.partition(codons, DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
+            InsertValuesStep9 inserter = context.insertInto(ACTIONABLECODON,
+                    ACTIONABLECODON.MOLECULARCRITERIUMID,
+                    ACTIONABLECODON.SOURCEDATE,
+                    ACTIONABLECODON.SOURCEEVENT,
+                    ACTIONABLECODON.SOURCEURLS,
+                    ACTIONABLECODON.GENE,
+                    ACTIONABLECODON.CHROMOSOME,
+                    ACTIONABLECODON.START,
+                    ACTIONABLECODON.END,
+                    ACTIONABLECODON.APPLICABLEMUTATIONTYPE);
+            batch.forEach(entry -> writeActionableRangeBatch(inserter, entry.molecularCriteriumId, entry.value));
+            inserter.execute();
         }
     }
 
-    private void writeActionableFusions(int molecularCriteriumId, @NotNull Set<ActionableFusion> fusions) {
-        for (ActionableFusion fusion : fusions) {
-            context.insertInto(ACTIONABLEFUSION,
-                            ACTIONABLEFUSION.MOLECULARCRITERIUMID,
-                            ACTIONABLEFUSION.SOURCEDATE,
-                            ACTIONABLEFUSION.SOURCEEVENT,
-                            ACTIONABLEFUSION.SOURCEURLS,
-                            ACTIONABLEFUSION.GENEUP,
-                            ACTIONABLEFUSION.MINEXONUP,
-                            ACTIONABLEFUSION.MAXEXONUP,
-                            ACTIONABLEFUSION.GENEDOWN,
-                            ACTIONABLEFUSION.MINEXONDOWN,
-                            ACTIONABLEFUSION.MAXEXONDOWN)
-                    .values(molecularCriteriumId,
-                            fusion.sourceDate(),
-                            fusion.sourceEvent(),
-                            DatabaseUtil.concat(fusion.sourceUrls()),
-                            fusion.geneUp(),
-                            fusion.minExonUp(),
-                            fusion.maxExonUp(),
-                            fusion.geneDown(),
-                            fusion.minExonDown(),
-                            fusion.maxExonDown())
-                    .execute();
+    private void writeActionableExons(@NotNull List<CriteriumEntry<ActionableRange>> exons) {
+        for (List<CriteriumEntry<ActionableRange>> batch : Iterables.partition(exons, DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
+            InsertValuesStep9 inserter = context.insertInto(ACTIONABLEEXON,
+                    ACTIONABLEEXON.MOLECULARCRITERIUMID,
+                    ACTIONABLEEXON.SOURCEDATE,
+                    ACTIONABLEEXON.SOURCEEVENT,
+                    ACTIONABLEEXON.SOURCEURLS,
+                    ACTIONABLEEXON.GENE,
+                    ACTIONABLEEXON.CHROMOSOME,
+                    ACTIONABLEEXON.START,
+                    ACTIONABLEEXON.END,
+                    ACTIONABLEEXON.APPLICABLEMUTATIONTYPE);
+            batch.forEach(entry -> writeActionableRangeBatch(inserter, entry.molecularCriteriumId, entry.value));
+            inserter.execute();
         }
     }
 
-    private void writeActionableCharacteristics(int molecularCriteriumId, @NotNull Set<ActionableCharacteristic> characteristics) {
-        for (ActionableCharacteristic characteristic : characteristics) {
-            context.insertInto(ACTIONABLECHARACTERISTIC,
-                            ACTIONABLECHARACTERISTIC.MOLECULARCRITERIUMID,
-                            ACTIONABLECHARACTERISTIC.SOURCEDATE,
-                            ACTIONABLECHARACTERISTIC.SOURCEEVENT,
-                            ACTIONABLECHARACTERISTIC.SOURCEURLS,
-                            ACTIONABLECHARACTERISTIC.TYPE,
-                            ACTIONABLECHARACTERISTIC.CUTOFFTYPE,
-                            ACTIONABLECHARACTERISTIC.CUTOFF)
-                    .values(molecularCriteriumId,
-                            characteristic.sourceDate(),
-                            characteristic.sourceEvent(),
-                            DatabaseUtil.concat(characteristic.sourceUrls()),
-                            characteristic.type().name(),
-                            characteristic.cutoffType() != null ? characteristic.cutoffType().name() : null,
-                            characteristic.cutoff())
-                    .execute();
+    private static void writeActionableRangeBatch(@NotNull InsertValuesStep9 inserter, int molecularCriteriumId,
+            @NotNull ActionableRange range) {
+        inserter.values(molecularCriteriumId,
+                range.sourceDate(),
+                range.sourceEvent(),
+                DatabaseUtil.concat(range.sourceUrls()),
+                range.gene(),
+                range.chromosome(),
+                range.start(),
+                range.end(),
+                range.applicableMutationType().name());
+    }
+
+    private void writeActionableGenes(@NotNull List<CriteriumEntry<ActionableGene>> genes) {
+        for (List<CriteriumEntry<ActionableGene>> batch : Iterables.partition(genes, DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
+            InsertValuesStep6 inserter = context.insertInto(ACTIONABLEGENE,
+                    ACTIONABLEGENE.MOLECULARCRITERIUMID,
+                    ACTIONABLEGENE.SOURCEDATE,
+                    ACTIONABLEGENE.SOURCEEVENT,
+                    ACTIONABLEGENE.SOURCEURLS,
+                    ACTIONABLEGENE.GENE,
+                    ACTIONABLEGENE.EVENT);
+            batch.forEach(entry -> writeActionableGeneBatch(inserter, entry.molecularCriteriumId, entry.value));
+            inserter.execute();
         }
     }
 
-    private void writeActionableHla(int molecularCriteriumId, @NotNull Set<ActionableHLA> hlas) {
-        for (ActionableHLA hla : hlas) {
-            context.insertInto(ACTIONABLEHLA,
-                            ACTIONABLEHLA.MOLECULARCRITERIUMID,
-                            ACTIONABLEHLA.SOURCEDATE,
-                            ACTIONABLEHLA.SOURCEEVENT,
-                            ACTIONABLEHLA.SOURCEURLS,
-                            ACTIONABLEHLA.GENE,
-                            ACTIONABLEHLA.ALLELEGROUP,
-                            ACTIONABLEHLA.HLAPROTEIN,
-                            ACTIONABLEHLA.SYNONYMOUSDNACHANGE,
-                            ACTIONABLEHLA.NONCODINGDIFFERENCES,
-                            ACTIONABLEHLA.EXPRESSIONSTATUS)
-                    .values(molecularCriteriumId,
-                            hla.sourceDate(),
-                            hla.sourceEvent(),
-                            DatabaseUtil.concat(hla.sourceUrls()),
-                            hla.gene(),
-                            hla.alleleGroup(),
-                            hla.hlaProtein(),
-                            hla.synonymousDnaChange(),
-                            hla.nonCodingDifferences(),
-                            hla.expressionStatus())
-                    .execute();
+    private static void writeActionableGeneBatch(@NotNull InsertValuesStep6 inserter, int molecularCriteriumId,
+            @NotNull ActionableGene gene) {
+        inserter.values(molecularCriteriumId,
+                gene.sourceDate(),
+                gene.sourceEvent(),
+                DatabaseUtil.concat(gene.sourceUrls()),
+                gene.gene(),
+                gene.event().name());
+    }
+
+    private void writeActionableFusions(@NotNull List<CriteriumEntry<ActionableFusion>> fusions) {
+        for (List<CriteriumEntry<ActionableFusion>> batch : Iterables.partition(fusions, DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
+            InsertValuesStep10 inserter = context.insertInto(ACTIONABLEFUSION,
+                    ACTIONABLEFUSION.MOLECULARCRITERIUMID,
+                    ACTIONABLEFUSION.SOURCEDATE,
+                    ACTIONABLEFUSION.SOURCEEVENT,
+                    ACTIONABLEFUSION.SOURCEURLS,
+                    ACTIONABLEFUSION.GENEUP,
+                    ACTIONABLEFUSION.MINEXONUP,
+                    ACTIONABLEFUSION.MAXEXONUP,
+                    ACTIONABLEFUSION.GENEDOWN,
+                    ACTIONABLEFUSION.MINEXONDOWN,
+                    ACTIONABLEFUSION.MAXEXONDOWN);
+            batch.forEach(entry -> writeActionableFusionBatch(inserter, entry.molecularCriteriumId, entry.value));
+            inserter.execute();
+        }
+    }
+
+    private static void writeActionableFusionBatch(@NotNull InsertValuesStep10 inserter, int molecularCriteriumId,
+            @NotNull ActionableFusion fusion) {
+        inserter.values(molecularCriteriumId,
+                fusion.sourceDate(),
+                fusion.sourceEvent(),
+                DatabaseUtil.concat(fusion.sourceUrls()),
+                fusion.geneUp(),
+                fusion.minExonUp(),
+                fusion.maxExonUp(),
+                fusion.geneDown(),
+                fusion.minExonDown(),
+                fusion.maxExonDown());
+    }
+
+    private void writeActionableCharacteristics(@NotNull List<CriteriumEntry<ActionableCharacteristic>> characteristics) {
+        for (List<CriteriumEntry<ActionableCharacteristic>> batch : Iterables.partition(characteristics,
+                DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
+            InsertValuesStep7 inserter = context.insertInto(ACTIONABLECHARACTERISTIC,
+                    ACTIONABLECHARACTERISTIC.MOLECULARCRITERIUMID,
+                    ACTIONABLECHARACTERISTIC.SOURCEDATE,
+                    ACTIONABLECHARACTERISTIC.SOURCEEVENT,
+                    ACTIONABLECHARACTERISTIC.SOURCEURLS,
+                    ACTIONABLECHARACTERISTIC.TYPE,
+                    ACTIONABLECHARACTERISTIC.CUTOFFTYPE,
+                    ACTIONABLECHARACTERISTIC.CUTOFF);
+            batch.forEach(entry -> writeActionableCharacteristicBatch(inserter, entry.molecularCriteriumId, entry.value));
+            inserter.execute();
+        }
+    }
+
+    private static void writeActionableCharacteristicBatch(@NotNull InsertValuesStep7 inserter, int molecularCriteriumId,
+            @NotNull ActionableCharacteristic characteristic) {
+        inserter.values(molecularCriteriumId,
+                characteristic.sourceDate(),
+                characteristic.sourceEvent(),
+                DatabaseUtil.concat(characteristic.sourceUrls()),
+                characteristic.type().name(),
+                characteristic.cutoffType() != null ? characteristic.cutoffType().name() : null,
+                characteristic.cutoff());
+    }
+
+    private void writeActionableHla(@NotNull List<CriteriumEntry<ActionableHLA>> hlas) {
+        for (List<CriteriumEntry<ActionableHLA>> batch : Iterables.partition(hlas, DatabaseUtil.DB_BATCH_INSERT_SIZE)) {
+            InsertValuesStep10 inserter = context.insertInto(ACTIONABLEHLA,
+                    ACTIONABLEHLA.MOLECULARCRITERIUMID,
+                    ACTIONABLEHLA.SOURCEDATE,
+                    ACTIONABLEHLA.SOURCEEVENT,
+                    ACTIONABLEHLA.SOURCEURLS,
+                    ACTIONABLEHLA.GENE,
+                    ACTIONABLEHLA.ALLELEGROUP,
+                    ACTIONABLEHLA.HLAPROTEIN,
+                    ACTIONABLEHLA.SYNONYMOUSDNACHANGE,
+                    ACTIONABLEHLA.NONCODINGDIFFERENCES,
+                    ACTIONABLEHLA.EXPRESSIONSTATUS);
+            batch.forEach(entry -> writeActionableHlaBatch(inserter, entry.molecularCriteriumId, entry.value));
+            inserter.execute();
+        }
+    }
+
+    private static void writeActionableHlaBatch(@NotNull InsertValuesStep10 inserter, int molecularCriteriumId,
+            @NotNull ActionableHLA hla) {
+        inserter.values(molecularCriteriumId,
+                hla.sourceDate(),
+                hla.sourceEvent(),
+                DatabaseUtil.concat(hla.sourceUrls()),
+                hla.gene(),
+                hla.alleleGroup(),
+                hla.hlaProtein(),
+                hla.synonymousDnaChange(),
+                hla.nonCodingDifferences(),
+                hla.expressionStatus());
+    }
+
+    private static final class CriteriumEntry<T> {
+
+        private final int molecularCriteriumId;
+        @NotNull
+        private final T value;
+
+        private CriteriumEntry(int molecularCriteriumId, @NotNull final T value) {
+            this.molecularCriteriumId = molecularCriteriumId;
+            this.value = value;
         }
     }
-}
\ No newline at end of file
+}
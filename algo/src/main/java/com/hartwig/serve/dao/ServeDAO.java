@@ -9,44 +9,38 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 
 class ServeDAO {
 
     private static final Logger LOGGER = LogManager.getLogger(ServeDAO.class);
 
     @NotNull
-    private final KnownEventsDAO knownEventsDAO;
-    @NotNull
-    private final EventInterpretationDAO eventInterpretationDAO;
-    @NotNull
-    private final MolecularCriteriumDAO molecularCriteriumDAO;
-    @NotNull
-    private final EfficacyEvidenceDAO efficacyEvidenceDAO;
-    @NotNull
-    private final ActionableTrialDAO actionableTrialDAO;
+    private final DSLContext context;
 
     @NotNull
     public static ServeDAO create(@NotNull DSLContext context) {
-        KnownEventsDAO knownEventsDAO = new KnownEventsDAO(context);
-        EventInterpretationDAO eventInterpretationDAO = new EventInterpretationDAO(context);
-        MolecularCriteriumDAO molecularCriteriumDAO = new MolecularCriteriumDAO(context);
-        EfficacyEvidenceDAO efficacyEvidenceDAO = new EfficacyEvidenceDAO(context, molecularCriteriumDAO);
-        ActionableTrialDAO actionableTrialDAO = new ActionableTrialDAO(context, molecularCriteriumDAO);
-
-        return new ServeDAO(knownEventsDAO, eventInterpretationDAO, molecularCriteriumDAO, efficacyEvidenceDAO, actionableTrialDAO);
+        return new ServeDAO(context);
     }
 
-    private ServeDAO(@NotNull final KnownEventsDAO knownEventsDAO, @NotNull final EventInterpretationDAO eventInterpretationDAO,
-            @NotNull final MolecularCriteriumDAO molecularCriteriumDAO, @NotNull final EfficacyEvidenceDAO efficacyEvidenceDAO,
-            @NotNull final ActionableTrialDAO actionableTrialDAO) {
-        this.knownEventsDAO = knownEventsDAO;
-        this.eventInterpretationDAO = eventInterpretationDAO;
-        this.molecularCriteriumDAO = molecularCriteriumDAO;
-        this.efficacyEvidenceDAO = efficacyEvidenceDAO;
-        this.actionableTrialDAO = actionableTrialDAO;
+    private ServeDAO(@NotNull final DSLContext context) {
+        this.context = context;
     }
 
     public void repopulate(@NotNull ServeRecord serveRecord, @NotNull List<EventInterpretation> eventInterpretations) {
+        // Everything is written in a single transaction so that the database never exposes a partially written SERVE record, and
+        // so that the batched inserts are not committed one by one.
+        context.transaction(configuration -> repopulate(DSL.using(configuration), serveRecord, eventInterpretations));
+    }
+
+    private static void repopulate(@NotNull DSLContext transaction, @NotNull ServeRecord serveRecord,
+            @NotNull List<EventInterpretation> eventInterpretations) {
+        KnownEventsDAO knownEventsDAO = new KnownEventsDAO(transaction);
+        EventInterpretationDAO eventInterpretationDAO = new EventInterpretationDAO(transaction);
+        MolecularCriteriumDAO molecularCriteriumDAO = new MolecularCriteriumDAO(transaction);
+        EfficacyEvidenceDAO efficacyEvidenceDAO = new EfficacyEvidenceDAO(transaction, molecularCriteriumDAO);
+        ActionableTrialDAO actionableTrialDAO = new ActionableTrialDAO(transaction, molecularCriteriumDAO);
+
         LOGGER.info("Deleting all data from SERVE database");
         knownEventsDAO.deleteAll();
         eventInterpretationDAO.deleteAll();
@@ -66,4 +60,4 @@ class ServeDAO {
         LOGGER.info("Writing actionable trials");
         actionableTrialDAO.write(serveRecord.trials());
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import com.hartwig.serve.extraction.exon.ExonExtractor;
 import com.hartwig.serve.extraction.fusion.FusionExtractor;
 import com.hartwig.serve.extraction.gene.GeneLevelExtractor;
 import com.hartwig.serve.extraction.immuno.ImmunoHLAExtractor;
+import com.hartwig.serve.extraction.variant.ProteinAnnotationQuery;
 import com.hartwig.serve.extraction.variant.VariantExtractor;
 
 import org.jetbrains.annotations.NotNull;
@@ -60,4 +61,10 @@ public class EventExtractor {
                 .hla(immunoHLAExtractor.extract(gene, type, event))
                 .build();
     }
+
+    @Nullable
+    public ProteinAnnotationQuery proteinAnnotationQuery(@NotNull String gene, @Nullable String transcriptId, @NotNull EventType type,
+            @NotNull String event) {
+        return variantExtractor.toProteinAnnotationQuery(gene, transcriptId, type, event);
+    }
 }
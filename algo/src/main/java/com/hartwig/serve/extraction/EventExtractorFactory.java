@@ -5,6 +5,7 @@ import java.util.Set;
 
 import com.google.common.collect.Sets;
 import com.hartwig.serve.common.classification.EventClassifierConfig;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.common.ensemblcache.EnsemblDataCache;
 import com.hartwig.serve.common.ensemblcache.GeneData;
 import com.hartwig.serve.common.knownfusion.KnownFusionCache;
@@ -41,31 +42,32 @@ public final class EventExtractorFactory {
         fusionGeneSet.addAll(extractAllGenesInvolvedInFusions(refGenomeResource.knownFusionCache()));
         GeneChecker fusionGeneChecker = new GeneChecker(fusionGeneSet);
 
-        MutationTypeFilterAlgo mutationTypeFilterAlgo = new MutationTypeFilterAlgo(refGenomeResource.driverGenes());
+        DriverGeneCatalog driverGeneCatalog = refGenomeResource.driverGeneCatalog();
+        MutationTypeFilterAlgo mutationTypeFilterAlgo = new MutationTypeFilterAlgo(driverGeneCatalog);
         return new EventExtractor(new VariantExtractor(exomeGeneChecker,
                 refGenomeResource.proteinResolver(),
                 config.proteinAnnotationExtractor(),
                 driverInconsistencyMode,
-                refGenomeResource.driverGenes()),
+                driverGeneCatalog),
                 new CodonExtractor(exomeGeneChecker,
                         mutationTypeFilterAlgo,
-                        refGenomeResource.ensemblDataCache(),
+                        refGenomeResource.ensemblTranscriptIndex(),
                         driverInconsistencyMode,
-                        refGenomeResource.driverGenes()),
+                        driverGeneCatalog),
                 new ExonExtractor(exomeGeneChecker,
                         mutationTypeFilterAlgo,
-                        refGenomeResource.ensemblDataCache(),
+                        refGenomeResource.ensemblTranscriptIndex(),
                         driverInconsistencyMode,
-                        refGenomeResource.driverGenes()),
+                        driverGeneCatalog),
                 new GeneLevelExtractor(exomeGeneChecker,
                         fusionGeneChecker,
-                        refGenomeResource.driverGenes(),
+                        driverGeneCatalog,
                         refGenomeResource.knownFusionCache(),
                         config.activatingGeneLevelKeyPhrases(),
                         config.inactivatingGeneLevelKeyPhrases(),
                         config.genericGeneLevelKeyPhrases(),
                         driverInconsistencyMode),
-                new CopyNumberExtractor(exomeGeneChecker, refGenomeResource.driverGenes(), driverInconsistencyMode),
+                new CopyNumberExtractor(exomeGeneChecker, driverGeneCatalog, driverInconsistencyMode),
                 new FusionExtractor(fusionGeneChecker,
                         refGenomeResource.knownFusionCache(),
                         config.exonicDelDupFusionKeyPhrases(),
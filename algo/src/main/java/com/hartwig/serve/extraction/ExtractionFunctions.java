@@ -1,30 +1,34 @@
 package com.hartwig.serve.extraction;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.datamodel.common.Indication;
 import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
 import com.hartwig.serve.datamodel.efficacy.ImmutableEfficacyEvidence;
 import com.hartwig.serve.datamodel.molecular.ImmutableKnownEvents;
 import com.hartwig.serve.datamodel.molecular.KnownEvents;
+import com.hartwig.serve.datamodel.molecular.MolecularCriterium;
 import com.hartwig.serve.datamodel.trial.ActionableTrial;
 import com.hartwig.serve.datamodel.trial.ImmutableActionableTrial;
 import com.hartwig.serve.extraction.codon.CodonConsolidation;
 import com.hartwig.serve.extraction.copynumber.CopyNumberConsolidation;
-import com.hartwig.serve.extraction.events.EventInterpretation;
 import com.hartwig.serve.extraction.exon.ExonConsolidation;
 import com.hartwig.serve.extraction.fusion.FusionConsolidation;
 import com.hartwig.serve.extraction.gene.GeneConsolidation;
+import com.hartwig.serve.extraction.util.HashConsolidation;
 import com.hartwig.serve.extraction.variant.KnownHotspotConsolidation;
 
 import org.apache.commons.compress.utils.Lists;
@@ -37,85 +41,59 @@ public final class ExtractionFunctions {
 
     private static final Logger LOGGER = LogManager.getLogger(ExtractionFunctions.class);
 
+    private static final List<Function<ActionableTrial, ?>> UNIQUE_TRIAL_FIELDS = List.of(ActionableTrial::source,
+            ActionableTrial::nctId,
+            ActionableTrial::title,
+            ActionableTrial::acronym,
+            ActionableTrial::phase,
+            ActionableTrial::countries,
+            ActionableTrial::therapyNames,
+            ActionableTrial::genderCriterium,
+            ActionableTrial::urls);
+
     private ExtractionFunctions() {
     }
 
     @NotNull
     public static ExtractionResult merge(@NotNull List<ExtractionResult> results) {
-        RefGenome version = uniqueVersion(results);
-        Set<EventInterpretation> mergedInterpretations = Sets.newHashSet();
-        ImmutableKnownEvents.Builder unconsolidatedKnownEventsBuilder = null;
-        List<EfficacyEvidence> unconsolidatedEvidences = null;
-        List<ActionableTrial> unconsolidatedTrials = null;
-
-        for (ExtractionResult result : results) {
-            mergedInterpretations.addAll(result.eventInterpretations());
-            if (result.knownEvents() != null) {
-                if (unconsolidatedKnownEventsBuilder == null) {
-                    unconsolidatedKnownEventsBuilder = ImmutableKnownEvents.builder();
-                }
-                unconsolidatedKnownEventsBuilder.from(result.knownEvents());
-            }
-            
-            List<EfficacyEvidence> evidences = result.evidences();
-            if (evidences != null) {
-                if (unconsolidatedEvidences == null) {
-                    unconsolidatedEvidences = Lists.newArrayList();
-                }
-                unconsolidatedEvidences.addAll(evidences);
-            }
-            
-            List<ActionableTrial> trials =  result.trials();
-            if (trials!= null) {
-                if (unconsolidatedTrials == null) {
-                    unconsolidatedTrials = Lists.newArrayList();
-                }
-                unconsolidatedTrials.addAll(trials);
-            }
-        }
-
-        KnownEvents unconsolidatedKnownEvents = unconsolidatedKnownEventsBuilder != null ? unconsolidatedKnownEventsBuilder.build() : null;
-
-        return ImmutableExtractionResult.builder()
-                .refGenomeVersion(version)
-                .eventInterpretations(mergedInterpretations)
-                .knownEvents(consolidateKnownEvents(unconsolidatedKnownEvents))
-                .evidences(consolidateEvidences(unconsolidatedEvidences))
-                .trials(consolidateTrials(unconsolidatedTrials))
-                .build();
+        return results.stream().collect(toMergedExtractionResult());
     }
 
     @NotNull
-    private static RefGenome uniqueVersion(@NotNull List<ExtractionResult> results) {
-        if (results.isEmpty()) {
-            RefGenome defaultVersion = RefGenome.V38;
-            LOGGER.warn("Cannot extract ref genome version for empty list of results. Reverting to default {}", defaultVersion);
-            return defaultVersion;
-        }
+    public static Collector<ExtractionResult, ?, ExtractionResult> toMergedExtractionResult() {
+        // Every worker of a parallel stream folds its results into an accumulator of its own, after which accumulators are combined.
+        return Collector.of(ExtractionResultAccumulator::new,
+                ExtractionResultAccumulator::add,
+                ExtractionResultAccumulator::combine,
+                ExtractionFunctions::consolidate);
+    }
 
-        RefGenome version = results.get(0).refGenomeVersion();
-        for (ExtractionResult result : results) {
-            if (result.refGenomeVersion() != version) {
-                throw new IllegalStateException("Ref genome version is not unique amongst list of extraction results");
-            }
+    @NotNull
+    private static ExtractionResult consolidate(@NotNull ExtractionResultAccumulator accumulator) {
+        RefGenome version = accumulator.refGenomeVersion();
+        if (version == null) {
+            version = RefGenome.V38;
+            LOGGER.warn("Cannot extract ref genome version for empty list of results. Reverting to default {}", version);
         }
 
-        return version;
+        return ImmutableExtractionResult.builder()
+                .refGenomeVersion(version)
+                .eventInterpretations(accumulator.eventInterpretations())
+                .knownEvents(accumulator.hasKnownEvents() ? consolidateKnownEvents(accumulator) : null)
+                .evidences(consolidateEvidences(accumulator.evidences()))
+                .trials(consolidateTrials(accumulator.trials()))
+                .build();
     }
 
-    @Nullable
-    private static KnownEvents consolidateKnownEvents(@Nullable KnownEvents unconsolidated) {
-        if (unconsolidated == null) {
-            return null;
-        }
-
+    @NotNull
+    private static KnownEvents consolidateKnownEvents(@NotNull ExtractionResultAccumulator accumulator) {
         return ImmutableKnownEvents.builder()
-                .hotspots(KnownHotspotConsolidation.consolidate(unconsolidated.hotspots()))
-                .codons(CodonConsolidation.consolidate(unconsolidated.codons()))
-                .exons(ExonConsolidation.consolidate(unconsolidated.exons()))
-                .genes(GeneConsolidation.consolidate(unconsolidated.genes()))
-                .copyNumbers(CopyNumberConsolidation.consolidate(unconsolidated.copyNumbers()))
-                .fusions(FusionConsolidation.consolidate(unconsolidated.fusions()))
+                .hotspots(KnownHotspotConsolidation.consolidate(accumulator.hotspots()))
+                .codons(CodonConsolidation.consolidate(accumulator.codons()))
+                .exons(ExonConsolidation.consolidate(accumulator.exons()))
+                .genes(GeneConsolidation.consolidate(accumulator.genes()))
+                .copyNumbers(CopyNumberConsolidation.consolidate(accumulator.copyNumbers()))
+                .fusions(FusionConsolidation.consolidate(accumulator.fusions()))
                 .build();
     }
 
@@ -125,24 +103,27 @@ public final class ExtractionFunctions {
             return null;
         }
 
-        Map<EfficacyEvidence, Set<String>> urlsPerEvidence = Maps.newHashMap();
-        for (EfficacyEvidence evidence : unconsolidatedEvidences) {
-            EfficacyEvidence stripped = ImmutableEfficacyEvidence.builder().from(evidence).urls(Set.of()).build();
-            Set<String> urls = urlsPerEvidence.get(stripped);
-            if (urls == null) {
-                urls = Sets.newTreeSet();
-            }
-            urls.addAll(evidence.urls());
-            urlsPerEvidence.put(stripped, urls);
-        }
-
-        List<EfficacyEvidence> consolidatedEvents = Lists.newArrayList();
-        for (Map.Entry<EfficacyEvidence, Set<String>> entry : urlsPerEvidence.entrySet()) {
-            consolidatedEvents.add(ImmutableEfficacyEvidence.builder().from(entry.getKey()).urls(entry.getValue()).build());
-        }
-        
-        Collections.sort(consolidatedEvents);
-        return consolidatedEvents;
+        // Evidences are consolidated on all fields except for their urls, which are merged instead.
+        List<EfficacyEvidence> consolidatedEvidences = HashConsolidation.consolidate(unconsolidatedEvidences,
+                evidence -> evidence.treatment().name(),
+                evidence -> Arrays.asList(evidence.source(),
+                        evidence.treatment(),
+                        evidence.indication(),
+                        evidence.molecularCriterium(),
+                        evidence.efficacyDescription(),
+                        evidence.evidenceLevel(),
+                        evidence.evidenceLevelDetails(),
+                        evidence.evidenceDirection(),
+                        evidence.evidenceYear()),
+                evidence -> Sets.newTreeSet(evidence.urls()),
+                (addedUrls, existingUrls) -> {
+                    existingUrls.addAll(addedUrls);
+                    return existingUrls;
+                },
+                (evidence, urls) -> ImmutableEfficacyEvidence.builder().from(evidence).urls(urls).build());
+
+        Collections.sort(consolidatedEvidences);
+        return consolidatedEvidences;
     }
 
     @Nullable
@@ -151,58 +132,42 @@ public final class ExtractionFunctions {
             return null;
         }
 
-        List<ActionableTrial> consolidatedTrials = new ArrayList<>();
-        Set<Knowledgebase> sources =
-                unconsolidatedTrials.stream().map(ActionableTrial::source).collect(Collectors.toCollection(TreeSet::new));
-        for (Knowledgebase source : sources) {
-            Set<String> uniqueNctIds = unconsolidatedTrials.stream()
-                    .filter(trial -> trial.source() == source)
-                    .map(ActionableTrial::nctId)
-                    .collect(Collectors.toCollection(TreeSet::new));
-
-            for (String nctId : uniqueNctIds) {
-                List<ActionableTrial> trialsForSingleNctId = unconsolidatedTrials.stream()
-                        .filter(trial -> trial.source() == source && trial.nctId().equals(nctId))
-                        .collect(Collectors.toList());
-
-                consolidatedTrials.add(consolidateTrialsForNctId(trialsForSingleNctId));
-            }
+        // Trials are grouped in a single pass, after which every group of trials for the same nct id is consolidated independently.
+        Map<Map.Entry<Knowledgebase, String>, List<ActionableTrial>> trialsPerSourceAndNctId = Maps.newHashMap();
+        for (ActionableTrial trial : unconsolidatedTrials) {
+            trialsPerSourceAndNctId.computeIfAbsent(Maps.immutableEntry(trial.source(), trial.nctId()), key -> Lists.newArrayList())
+                    .add(trial);
         }
 
+        List<ActionableTrial> consolidatedTrials = trialsPerSourceAndNctId.values()
+                .parallelStream()
+                .map(ExtractionFunctions::consolidateTrialsForNctId)
+                .collect(Collectors.toCollection(ArrayList::new));
+
         Collections.sort(consolidatedTrials);
         return consolidatedTrials;
     }
 
     @NotNull
     private static ActionableTrial consolidateTrialsForNctId(@NotNull List<ActionableTrial> trialsForSingleNctId) {
-        return ImmutableActionableTrial.builder()
-                .source(unique(trialsForSingleNctId.stream().map(ActionableTrial::source)))
-                .nctId(unique(trialsForSingleNctId.stream().map(ActionableTrial::nctId)))
-                .title(unique(trialsForSingleNctId.stream().map(ActionableTrial::title)))
-                .acronym(unique(trialsForSingleNctId.stream().map(ActionableTrial::acronym)))
-                .phase(unique(trialsForSingleNctId.stream().map(ActionableTrial::phase)))
-                .countries(unique(trialsForSingleNctId.stream().map(ActionableTrial::countries)))
-                .therapyNames(unique(trialsForSingleNctId.stream().map(ActionableTrial::therapyNames)))
-                .genderCriterium(unique(trialsForSingleNctId.stream().map(ActionableTrial::genderCriterium)))
-                .indications(mergeSet(trialsForSingleNctId.stream().map(ActionableTrial::indications)))
-                .anyMolecularCriteria(mergeSet(trialsForSingleNctId.stream().map(ActionableTrial::anyMolecularCriteria)))
-                .urls(unique(trialsForSingleNctId.stream().map(ActionableTrial::urls)))
-                .build();
-    }
-
-    @NotNull
-    private static <T extends Comparable<T>> Set<T> mergeSet(@NotNull Stream<Set<T>> streamOfSets) {
-        return streamOfSets.flatMap(Set::stream).collect(Collectors.toCollection(TreeSet::new));
-    }
-
-    @Nullable
-    private static <T> T unique(@NotNull Stream<T> stream) {
-        Set<T> set = stream.collect(Collectors.toSet());
-        if (set.size() != 1) {
-            throw new IllegalStateException("Set does not contain exactly 1 element: " + set);
+        ActionableTrial first = trialsForSingleNctId.get(0);
+        Set<Indication> indications = Sets.newTreeSet();
+        Set<MolecularCriterium> anyMolecularCriteria = Sets.newTreeSet();
+        for (ActionableTrial trial : trialsForSingleNctId) {
+            for (Function<ActionableTrial, ?> field : UNIQUE_TRIAL_FIELDS) {
+                if (!Objects.equals(field.apply(first), field.apply(trial))) {
+                    Set<?> values = trialsForSingleNctId.stream().map(field).collect(Collectors.toSet());
+                    throw new IllegalStateException("Set does not contain exactly 1 element: " + values);
+                }
+            }
+            indications.addAll(trial.indications());
+            anyMolecularCriteria.addAll(trial.anyMolecularCriteria());
         }
 
-        return set.iterator().next();
+        return ImmutableActionableTrial.builder()
+                .from(first)
+                .indications(indications)
+                .anyMolecularCriteria(anyMolecularCriteria)
+                .build();
     }
 }
-
@@ -0,0 +1,168 @@
+package com.hartwig.serve.extraction;
+
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
+import com.hartwig.serve.datamodel.molecular.KnownEvents;
+import com.hartwig.serve.datamodel.molecular.fusion.KnownFusion;
+import com.hartwig.serve.datamodel.molecular.gene.KnownCopyNumber;
+import com.hartwig.serve.datamodel.molecular.gene.KnownGene;
+import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
+import com.hartwig.serve.datamodel.molecular.range.KnownCodon;
+import com.hartwig.serve.datamodel.molecular.range.KnownExon;
+import com.hartwig.serve.datamodel.trial.ActionableTrial;
+import com.hartwig.serve.extraction.events.EventInterpretation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+class ExtractionResultAccumulator {
+
+    @Nullable
+    private RefGenome refGenomeVersion;
+    @NotNull
+    private final Set<EventInterpretation> eventInterpretations = Sets.newHashSet();
+    private boolean hasKnownEvents;
+    // Known events are kept in insertion order without duplicates, in line with building known events from every single result.
+    @NotNull
+    private final Set<KnownHotspot> hotspots = Sets.newLinkedHashSet();
+    @NotNull
+    private final Set<KnownCodon> codons = Sets.newLinkedHashSet();
+    @NotNull
+    private final Set<KnownExon> exons = Sets.newLinkedHashSet();
+    @NotNull
+    private final Set<KnownGene> genes = Sets.newLinkedHashSet();
+    @NotNull
+    private final Set<KnownCopyNumber> copyNumbers = Sets.newLinkedHashSet();
+    @NotNull
+    private final Set<KnownFusion> fusions = Sets.newLinkedHashSet();
+    @Nullable
+    private List<EfficacyEvidence> evidences;
+    @Nullable
+    private List<ActionableTrial> trials;
+
+    public void add(@NotNull ExtractionResult result) {
+        addRefGenomeVersion(result.refGenomeVersion());
+        eventInterpretations.addAll(result.eventInterpretations());
+
+        KnownEvents knownEvents = result.knownEvents();
+        if (knownEvents != null) {
+            hasKnownEvents = true;
+            hotspots.addAll(knownEvents.hotspots());
+            codons.addAll(knownEvents.codons());
+            exons.addAll(knownEvents.exons());
+            genes.addAll(knownEvents.genes());
+            copyNumbers.addAll(knownEvents.copyNumbers());
+            fusions.addAll(knownEvents.fusions());
+        }
+
+        addEvidences(result.evidences());
+        addTrials(result.trials());
+    }
+
+    @NotNull
+    public ExtractionResultAccumulator combine(@NotNull ExtractionResultAccumulator other) {
+        if (other.refGenomeVersion != null) {
+            addRefGenomeVersion(other.refGenomeVersion);
+        }
+        eventInterpretations.addAll(other.eventInterpretations);
+
+        if (other.hasKnownEvents) {
+            hasKnownEvents = true;
+            hotspots.addAll(other.hotspots);
+            codons.addAll(other.codons);
+            exons.addAll(other.exons);
+            genes.addAll(other.genes);
+            copyNumbers.addAll(other.copyNumbers);
+            fusions.addAll(other.fusions);
+        }
+
+        addEvidences(other.evidences);
+        addTrials(other.trials);
+        return this;
+    }
+
+    @Nullable
+    public RefGenome refGenomeVersion() {
+        return refGenomeVersion;
+    }
+
+    @NotNull
+    public Set<EventInterpretation> eventInterpretations() {
+        return eventInterpretations;
+    }
+
+    public boolean hasKnownEvents() {
+        return hasKnownEvents;
+    }
+
+    @NotNull
+    public Set<KnownHotspot> hotspots() {
+        return hotspots;
+    }
+
+    @NotNull
+    public Set<KnownCodon> codons() {
+        return codons;
+    }
+
+    @NotNull
+    public Set<KnownExon> exons() {
+        return exons;
+    }
+
+    @NotNull
+    public Set<KnownGene> genes() {
+        return genes;
+    }
+
+    @NotNull
+    public Set<KnownCopyNumber> copyNumbers() {
+        return copyNumbers;
+    }
+
+    @NotNull
+    public Set<KnownFusion> fusions() {
+        return fusions;
+    }
+
+    @Nullable
+    public List<EfficacyEvidence> evidences() {
+        return evidences;
+    }
+
+    @Nullable
+    public List<ActionableTrial> trials() {
+        return trials;
+    }
+
+    private void addRefGenomeVersion(@NotNull RefGenome version) {
+        if (refGenomeVersion == null) {
+            refGenomeVersion = version;
+        } else if (refGenomeVersion != version) {
+            throw new IllegalStateException("Ref genome version is not unique amongst list of extraction results");
+        }
+    }
+
+    private void addEvidences(@Nullable List<EfficacyEvidence> evidencesToAdd) {
+        if (evidencesToAdd != null) {
+            if (evidences == null) {
+                evidences = Lists.newArrayList();
+            }
+            evidences.addAll(evidencesToAdd);
+        }
+    }
+
+    private void addTrials(@Nullable List<ActionableTrial> trialsToAdd) {
+        if (trialsToAdd != null) {
+            if (trials == null) {
+                trials = Lists.newArrayList();
+            }
+            trials.addAll(trialsToAdd);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.hartwig.serve.datamodel.ServeRecord;
 import com.hartwig.serve.datamodel.molecular.ImmutableKnownEvents;
 import com.hartwig.serve.datamodel.molecular.KnownEvents;
 import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
+import com.hartwig.serve.datamodel.serialization.ServeBinary;
 import com.hartwig.serve.datamodel.serialization.ServeJson;
 import com.hartwig.serve.extraction.events.EventInterpretation;
 import com.hartwig.serve.extraction.events.EventInterpretationFile;
@@ -76,6 +77,10 @@ public class ExtractionResultWriter {
         String filepath = ServeJson.jsonFilePath(outputDir);
         LOGGER.info(" Writing SERVE database to {}", filepath);
         ServeJson.write(serveDatabase, filepath);
+
+        String binaryFilepath = ServeBinary.binaryFilePath(outputDir);
+        LOGGER.info(" Writing binary SERVE database to {}", binaryFilepath);
+        ServeBinary.write(serveDatabase, binaryFilepath);
     }
 
     @NotNull
@@ -1,17 +1,17 @@
 package com.hartwig.serve.extraction.codon;
 
+import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableSortedSet;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.molecular.common.ProteinEffect;
 import com.hartwig.serve.datamodel.molecular.range.ImmutableKnownCodon;
 import com.hartwig.serve.datamodel.molecular.range.KnownCodon;
 import com.hartwig.serve.datamodel.molecular.range.KnownCodonComparator;
+import com.hartwig.serve.extraction.util.HashConsolidation;
 import com.hartwig.serve.extraction.util.ProteinEffectConsolidation;
 
 import org.jetbrains.annotations.NotNull;
@@ -23,33 +23,35 @@ public final class CodonConsolidation {
 
     @NotNull
     public static Set<KnownCodon> consolidate(@NotNull Iterable<KnownCodon> codons) {
-        Map<KnownCodon, ConsolidatedData> dataPerConsolidatedCodon = new TreeMap<>(new KnownCodonComparator());
-        for (KnownCodon codon : codons) {
-            KnownCodon key = createKey(codon);
-
-            ConsolidatedData data = ConsolidatedData.fromCodon(codon);
-            if (dataPerConsolidatedCodon.containsKey(key)) {
-                dataPerConsolidatedCodon.put(key, merge(data, dataPerConsolidatedCodon.get(key)));
-            } else {
-                dataPerConsolidatedCodon.put(key, data);
-            }
-        }
+        List<KnownCodon> consolidated = HashConsolidation.consolidate(codons,
+                KnownCodon::chromosome,
+                CodonConsolidation::createKey,
+                ConsolidatedData::fromCodon,
+                CodonConsolidation::merge,
+                CodonConsolidation::build);
+        return ImmutableSortedSet.copyOf(new KnownCodonComparator(), consolidated);
+    }
 
-        Set<KnownCodon> consolidated = new TreeSet<>(new KnownCodonComparator());
-        for (Map.Entry<KnownCodon, ConsolidatedData> entry : dataPerConsolidatedCodon.entrySet()) {
-            ConsolidatedData consolidatedData = entry.getValue();
-            consolidated.add(ImmutableKnownCodon.builder()
-                    .from(entry.getKey())
-                    .sources(consolidatedData.sources())
-                    .proteinEffect(consolidatedData.proteinEffect())
-                    .build());
-        }
-        return consolidated;
+    @NotNull
+    private static List<Object> createKey(@NotNull KnownCodon codon) {
+        return Arrays.asList(codon.chromosome(),
+                codon.start(),
+                codon.end(),
+                codon.gene(),
+                codon.applicableMutationType(),
+                codon.geneRole(),
+                codon.associatedWithDrugResistance(),
+                codon.inputTranscript(),
+                codon.inputCodonRank());
     }
 
     @NotNull
-    private static KnownCodon createKey(@NotNull KnownCodon codon) {
-        return ImmutableKnownCodon.builder().from(codon).sources(Sets.newHashSet()).proteinEffect(ProteinEffect.UNKNOWN).build();
+    private static KnownCodon build(@NotNull KnownCodon codon, @NotNull ConsolidatedData consolidatedData) {
+        return ImmutableKnownCodon.builder()
+                .from(codon)
+                .sources(consolidatedData.sources())
+                .proteinEffect(consolidatedData.proteinEffect())
+                .build();
     }
 
     @NotNull
@@ -5,15 +5,13 @@ import java.util.List;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.hartwig.serve.common.classification.EventType;
-import com.hartwig.serve.common.drivergene.DriverGene;
-import com.hartwig.serve.common.ensemblcache.EnsemblDataCache;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.datamodel.molecular.MutationType;
 import com.hartwig.serve.datamodel.molecular.common.GenomeRegion;
 import com.hartwig.serve.extraction.util.DriverInconsistencyMode;
-import com.hartwig.serve.extraction.util.EnsemblFunctions;
+import com.hartwig.serve.extraction.util.EnsemblTranscriptIndex;
 import com.hartwig.serve.extraction.util.GeneChecker;
 import com.hartwig.serve.extraction.util.HmfTranscriptRegion;
-import com.hartwig.serve.extraction.util.HmfTranscriptRegionUtils;
 import com.hartwig.serve.extraction.util.MutationTypeFilterAlgo;
 
 import org.apache.logging.log4j.LogManager;
@@ -30,27 +28,27 @@ public class CodonExtractor {
     @NotNull
     private final MutationTypeFilterAlgo mutationTypeFilterAlgo;
     @NotNull
-    private final EnsemblDataCache ensemblDataCache;
+    private final EnsemblTranscriptIndex ensemblTranscriptIndex;
     @NotNull
     private final DriverInconsistencyMode driverInconsistencyMode;
     @NotNull
-    private final List<DriverGene> driverGenes;
+    private final DriverGeneCatalog driverGeneCatalog;
 
     public CodonExtractor(@NotNull final GeneChecker geneChecker, @NotNull final MutationTypeFilterAlgo mutationTypeFilterAlgo,
-            @NotNull final EnsemblDataCache ensemblDataCache, @NotNull final DriverInconsistencyMode driverInconsistencyMode,
-            @NotNull final List<DriverGene> driverGenes) {
+            @NotNull final EnsemblTranscriptIndex ensemblTranscriptIndex, @NotNull final DriverInconsistencyMode driverInconsistencyMode,
+            @NotNull final DriverGeneCatalog driverGeneCatalog) {
         this.geneChecker = geneChecker;
         this.mutationTypeFilterAlgo = mutationTypeFilterAlgo;
-        this.ensemblDataCache = ensemblDataCache;
+        this.ensemblTranscriptIndex = ensemblTranscriptIndex;
         this.driverInconsistencyMode = driverInconsistencyMode;
-        this.driverGenes = driverGenes;
+        this.driverGeneCatalog = driverGeneCatalog;
     }
 
     @Nullable
     public List<CodonAnnotation> extract(@NotNull String gene, @Nullable String transcriptId, @NotNull EventType type,
             @NotNull String event) {
         if (type == EventType.CODON && geneChecker.isValidGene(gene)) {
-            boolean geneInDriverGenesDatabase = geneInDriverGenes(driverGenes, gene);
+            boolean geneInDriverGenesDatabase = driverGeneCatalog.contains(gene);
             if (!geneInDriverGenesDatabase && driverInconsistencyMode.isActive()) {
                 if (driverInconsistencyMode == DriverInconsistencyMode.WARN_ONLY) {
                     LOGGER.warn("Codon event on {} on {} is not included in driver catalog and won't ever be reported.", type, gene);
@@ -62,7 +60,7 @@ public class CodonExtractor {
                 }
             }
 
-            HmfTranscriptRegion canonicalTranscript = EnsemblFunctions.findCanonicalTranscript(ensemblDataCache, gene);
+            HmfTranscriptRegion canonicalTranscript = ensemblTranscriptIndex.findCanonicalTranscript(gene);
             assert canonicalTranscript != null;
 
             if (transcriptId == null || transcriptId.equals(canonicalTranscript.transcriptId())) {
@@ -95,16 +93,6 @@ public class CodonExtractor {
         return null;
     }
 
-    @VisibleForTesting
-    static boolean geneInDriverGenes(@NotNull List<DriverGene> driverGenes, @NotNull String gene) {
-        for (DriverGene driverGene : driverGenes) {
-            if (driverGene.gene().equals(gene)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     @Nullable
     @VisibleForTesting
     static Integer extractCodonRank(@NotNull String event) {
@@ -123,11 +111,11 @@ public class CodonExtractor {
     }
 
     @Nullable
-    private static List<CodonAnnotation> determineCodonAnnotations(@NotNull String gene, @NotNull HmfTranscriptRegion canonicalTranscript,
+    private List<CodonAnnotation> determineCodonAnnotations(@NotNull String gene, @NotNull HmfTranscriptRegion canonicalTranscript,
             @Nullable Integer codonRank, @NotNull MutationType applicableMutationType) {
         List<GenomeRegion> regions = Lists.newArrayList();
         if (codonRank != null) {
-            regions = HmfTranscriptRegionUtils.codonRangeByRank(canonicalTranscript, codonRank, codonRank);
+            regions = ensemblTranscriptIndex.canonicalCodonRangeByRank(gene, codonRank);
         }
 
         if (regions != null) {
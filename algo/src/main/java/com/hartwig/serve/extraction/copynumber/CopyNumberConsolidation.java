@@ -1,17 +1,17 @@
 package com.hartwig.serve.extraction.copynumber;
 
+import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableSortedSet;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.molecular.common.ProteinEffect;
 import com.hartwig.serve.datamodel.molecular.gene.ImmutableKnownCopyNumber;
 import com.hartwig.serve.datamodel.molecular.gene.KnownCopyNumber;
 import com.hartwig.serve.datamodel.molecular.gene.KnownCopyNumberComparator;
+import com.hartwig.serve.extraction.util.HashConsolidation;
 import com.hartwig.serve.extraction.util.ProteinEffectConsolidation;
 
 import org.jetbrains.annotations.NotNull;
@@ -23,33 +23,30 @@ public final class CopyNumberConsolidation {
 
     @NotNull
     public static Set<KnownCopyNumber> consolidate(@NotNull Iterable<KnownCopyNumber> copyNumbers) {
-        Map<KnownCopyNumber, ConsolidatedData> dataPerConsolidatedCopyNumber = new TreeMap<>(new KnownCopyNumberComparator());
-        for (KnownCopyNumber copyNumber : copyNumbers) {
-            KnownCopyNumber key = createKey(copyNumber);
-
-            ConsolidatedData data = ConsolidatedData.fromCopyNumber(copyNumber);
-            if (dataPerConsolidatedCopyNumber.containsKey(key)) {
-                dataPerConsolidatedCopyNumber.put(key, merge(data, dataPerConsolidatedCopyNumber.get(key)));
-            } else {
-                dataPerConsolidatedCopyNumber.put(key, data);
-            }
-        }
+        List<KnownCopyNumber> consolidated = HashConsolidation.consolidate(copyNumbers,
+                KnownCopyNumber::gene,
+                CopyNumberConsolidation::createKey,
+                ConsolidatedData::fromCopyNumber,
+                CopyNumberConsolidation::merge,
+                CopyNumberConsolidation::build);
+        return ImmutableSortedSet.copyOf(new KnownCopyNumberComparator(), consolidated);
+    }
 
-        Set<KnownCopyNumber> consolidated = new TreeSet<>(new KnownCopyNumberComparator());
-        for (Map.Entry<KnownCopyNumber, ConsolidatedData> entry : dataPerConsolidatedCopyNumber.entrySet()) {
-            ConsolidatedData consolidatedData = entry.getValue();
-            consolidated.add(ImmutableKnownCopyNumber.builder()
-                    .from(entry.getKey())
-                    .sources(consolidatedData.sources())
-                    .proteinEffect(consolidatedData.proteinEffect())
-                    .build());
-        }
-        return consolidated;
+    @NotNull
+    private static List<Object> createKey(@NotNull KnownCopyNumber copyNumber) {
+        return Arrays.asList(copyNumber.gene(),
+                copyNumber.event(),
+                copyNumber.geneRole(),
+                copyNumber.associatedWithDrugResistance());
     }
 
     @NotNull
-    private static KnownCopyNumber createKey(@NotNull KnownCopyNumber copyNumber) {
-        return ImmutableKnownCopyNumber.builder().from(copyNumber).sources(Sets.newHashSet()).proteinEffect(ProteinEffect.UNKNOWN).build();
+    private static KnownCopyNumber build(@NotNull KnownCopyNumber copyNumber, @NotNull ConsolidatedData consolidatedData) {
+        return ImmutableKnownCopyNumber.builder()
+                .from(copyNumber)
+                .sources(consolidatedData.sources())
+                .proteinEffect(consolidatedData.proteinEffect())
+                .build();
     }
 
     @NotNull
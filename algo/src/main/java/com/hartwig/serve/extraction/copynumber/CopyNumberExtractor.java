@@ -1,12 +1,11 @@
 package com.hartwig.serve.extraction.copynumber;
 
-import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Sets;
 import com.hartwig.serve.common.classification.EventType;
 import com.hartwig.serve.common.drivergene.DriverCategory;
-import com.hartwig.serve.common.drivergene.DriverGene;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.datamodel.molecular.gene.GeneAnnotation;
 import com.hartwig.serve.datamodel.molecular.gene.GeneEvent;
 import com.hartwig.serve.extraction.gene.ImmutableGeneAnnotationImpl;
@@ -28,20 +27,20 @@ public class CopyNumberExtractor {
     @NotNull
     private final GeneChecker geneChecker;
     @NotNull
-    private final List<DriverGene> driverGenes;
+    private final DriverGeneCatalog driverGeneCatalog;
     private final DriverInconsistencyMode driverInconsistencyMode;
 
-    public CopyNumberExtractor(@NotNull final GeneChecker geneChecker, @NotNull final List<DriverGene> driverGenes,
+    public CopyNumberExtractor(@NotNull final GeneChecker geneChecker, @NotNull final DriverGeneCatalog driverGeneCatalog,
             @NotNull final DriverInconsistencyMode driverInconsistencyMode) {
         this.geneChecker = geneChecker;
-        this.driverGenes = driverGenes;
+        this.driverGeneCatalog = driverGeneCatalog;
         this.driverInconsistencyMode = driverInconsistencyMode;
     }
 
     @Nullable
     public GeneAnnotation extract(@NotNull String gene, @NotNull EventType type) {
         if (COPY_NUMBER_EVENTS.contains(type) && geneChecker.isValidGene(gene)) {
-            DriverCategory driverCategory = findByGene(driverGenes, gene);
+            DriverCategory driverCategory = driverGeneCatalog.findCategoryByGene(gene);
 
             if (driverInconsistencyMode.isActive()) {
                 if ((driverCategory == DriverCategory.TSG && type == EventType.AMPLIFICATION) || (driverCategory == DriverCategory.TSG
@@ -65,16 +64,6 @@ public class CopyNumberExtractor {
         return null;
     }
 
-    @Nullable
-    private static DriverCategory findByGene(@NotNull List<DriverGene> driverGenes, @NotNull String gene) {
-        for (DriverGene driverGene : driverGenes) {
-            if (driverGene.gene().equals(gene)) {
-                return driverGene.likelihoodType();
-            }
-        }
-        return null;
-    }
-
     @NotNull
     private static GeneEvent toCopyNumberEvent(@NotNull EventType eventType) {
         assert COPY_NUMBER_EVENTS.contains(eventType);
@@ -1,17 +1,17 @@
 package com.hartwig.serve.extraction.exon;
 
+import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableSortedSet;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.molecular.common.ProteinEffect;
 import com.hartwig.serve.datamodel.molecular.range.ImmutableKnownExon;
 import com.hartwig.serve.datamodel.molecular.range.KnownExon;
 import com.hartwig.serve.datamodel.molecular.range.KnownExonComparator;
+import com.hartwig.serve.extraction.util.HashConsolidation;
 import com.hartwig.serve.extraction.util.ProteinEffectConsolidation;
 
 import org.jetbrains.annotations.NotNull;
@@ -23,33 +23,35 @@ public final class ExonConsolidation {
 
     @NotNull
     public static Set<KnownExon> consolidate(@NotNull Iterable<KnownExon> exons) {
-        Map<KnownExon, ConsolidatedData> dataPerConsolidatedExon = new TreeMap<>(new KnownExonComparator());
-        for (KnownExon exon : exons) {
-            KnownExon key = createKey(exon);
-
-            ConsolidatedData data = ConsolidatedData.fromExon(exon);
-            if (dataPerConsolidatedExon.containsKey(key)) {
-                dataPerConsolidatedExon.put(key, merge(data, dataPerConsolidatedExon.get(key)));
-            } else {
-                dataPerConsolidatedExon.put(key, data);
-            }
-        }
+        List<KnownExon> consolidated = HashConsolidation.consolidate(exons,
+                KnownExon::chromosome,
+                ExonConsolidation::createKey,
+                ConsolidatedData::fromExon,
+                ExonConsolidation::merge,
+                ExonConsolidation::build);
+        return ImmutableSortedSet.copyOf(new KnownExonComparator(), consolidated);
+    }
 
-        Set<KnownExon> consolidated = new TreeSet<>(new KnownExonComparator());
-        for (Map.Entry<KnownExon, ConsolidatedData> entry : dataPerConsolidatedExon.entrySet()) {
-            ConsolidatedData consolidatedData = entry.getValue();
-            consolidated.add(ImmutableKnownExon.builder()
-                    .from(entry.getKey())
-                    .sources(consolidatedData.sources())
-                    .proteinEffect(consolidatedData.proteinEffect())
-                    .build());
-        }
-        return consolidated;
+    @NotNull
+    private static List<Object> createKey(@NotNull KnownExon exon) {
+        return Arrays.asList(exon.chromosome(),
+                exon.start(),
+                exon.end(),
+                exon.gene(),
+                exon.applicableMutationType(),
+                exon.geneRole(),
+                exon.associatedWithDrugResistance(),
+                exon.inputTranscript(),
+                exon.inputExonRank());
     }
 
     @NotNull
-    private static KnownExon createKey(@NotNull KnownExon exon) {
-        return ImmutableKnownExon.builder().from(exon).sources(Sets.newHashSet()).proteinEffect(ProteinEffect.UNKNOWN).build();
+    private static KnownExon build(@NotNull KnownExon exon, @NotNull ConsolidatedData consolidatedData) {
+        return ImmutableKnownExon.builder()
+                .from(exon)
+                .sources(consolidatedData.sources())
+                .proteinEffect(consolidatedData.proteinEffect())
+                .build();
     }
 
     @NotNull
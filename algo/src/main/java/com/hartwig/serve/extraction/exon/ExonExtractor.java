@@ -7,11 +7,10 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.hartwig.serve.common.classification.EventType;
-import com.hartwig.serve.common.drivergene.DriverGene;
-import com.hartwig.serve.common.ensemblcache.EnsemblDataCache;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.datamodel.molecular.MutationType;
 import com.hartwig.serve.extraction.util.DriverInconsistencyMode;
-import com.hartwig.serve.extraction.util.EnsemblFunctions;
+import com.hartwig.serve.extraction.util.EnsemblTranscriptIndex;
 import com.hartwig.serve.extraction.util.GeneChecker;
 import com.hartwig.serve.extraction.util.HmfExonRegion;
 import com.hartwig.serve.extraction.util.HmfTranscriptRegion;
@@ -35,36 +34,27 @@ public class ExonExtractor {
     @NotNull
     private final MutationTypeFilterAlgo mutationTypeFilterAlgo;
     @NotNull
-    private final EnsemblDataCache ensemblDataCache;
+    private final EnsemblTranscriptIndex ensemblTranscriptIndex;
     @NotNull
     private final DriverInconsistencyMode driverInconsistencyMode;
     @NotNull
-    private final List<DriverGene> driverGenes;
+    private final DriverGeneCatalog driverGeneCatalog;
 
     public ExonExtractor(@NotNull final GeneChecker geneChecker, @NotNull final MutationTypeFilterAlgo mutationTypeFilterAlgo,
-            @NotNull final EnsemblDataCache ensemblDataCache, @NotNull final DriverInconsistencyMode driverInconsistencyMode,
-            @NotNull final List<DriverGene> driverGenes) {
+            @NotNull final EnsemblTranscriptIndex ensemblTranscriptIndex, @NotNull final DriverInconsistencyMode driverInconsistencyMode,
+            @NotNull final DriverGeneCatalog driverGeneCatalog) {
         this.geneChecker = geneChecker;
         this.mutationTypeFilterAlgo = mutationTypeFilterAlgo;
-        this.ensemblDataCache = ensemblDataCache;
+        this.ensemblTranscriptIndex = ensemblTranscriptIndex;
         this.driverInconsistencyMode = driverInconsistencyMode;
-        this.driverGenes = driverGenes;
-    }
-
-    static boolean geneInDriverGenes(@NotNull List<DriverGene> driverGenes, @NotNull String gene) {
-        for (DriverGene driverGene : driverGenes) {
-            if (driverGene.gene().equals(gene)) {
-                return true;
-            }
-        }
-        return false;
+        this.driverGeneCatalog = driverGeneCatalog;
     }
 
     @Nullable
     public List<ExonAnnotation> extract(@NotNull String gene, @Nullable String transcriptId, @NotNull EventType type,
             @NotNull String event) {
         if (EXON_EVENTS.contains(type) && geneChecker.isValidGene(gene)) {
-            boolean geneInDriverGenesDatabase = geneInDriverGenes(driverGenes, gene);
+            boolean geneInDriverGenesDatabase = driverGeneCatalog.contains(gene);
             if (!geneInDriverGenesDatabase && driverInconsistencyMode.isActive()) {
                 if (driverInconsistencyMode == DriverInconsistencyMode.WARN_ONLY) {
                     LOGGER.warn("Exon event on {} on {} is not included in driver catalog and won't ever be reported.", type, gene);
@@ -76,7 +66,7 @@ public class ExonExtractor {
                 }
             }
 
-            HmfTranscriptRegion canonicalTranscript = EnsemblFunctions.findCanonicalTranscript(ensemblDataCache, gene);
+            HmfTranscriptRegion canonicalTranscript = ensemblTranscriptIndex.findCanonicalTranscript(gene);
             assert canonicalTranscript != null;
 
             if (transcriptId == null || transcriptId.equals(canonicalTranscript.transcriptId())) {
@@ -1,6 +1,5 @@
 package com.hartwig.serve.extraction.exon.tools;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Set;
@@ -10,7 +9,6 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.RefGenome;
-import com.hartwig.serve.datamodel.ServeDatabase;
 import com.hartwig.serve.datamodel.ServeRecord;
 import com.hartwig.serve.datamodel.molecular.KnownEvent;
 import com.hartwig.serve.datamodel.molecular.range.KnownExon;
@@ -18,6 +16,7 @@ import com.hartwig.serve.datamodel.serialization.ServeJson;
 import com.hartwig.serve.extraction.util.GenerateAltBase;
 import com.hartwig.serve.extraction.util.KeyFormatter;
 import com.hartwig.serve.extraction.util.VCFWriterFactory;
+import com.hartwig.serve.refgenome.RefSequenceService;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -25,7 +24,6 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.config.Configurator;
 import org.jetbrains.annotations.NotNull;
 
-import htsjdk.samtools.reference.IndexedFastaSequenceFile;
 import htsjdk.variant.variantcontext.Allele;
 import htsjdk.variant.variantcontext.VariantContext;
 import htsjdk.variant.variantcontext.VariantContextBuilder;
@@ -47,14 +45,13 @@ public class ExonAnnotationToVCFConverter {
             Configurator.setRootLevel(Level.DEBUG);
         }
 
-        IndexedFastaSequenceFile refSequence37 = new IndexedFastaSequenceFile(new File(REF_GENOME_FASTA_37));
+        RefSequenceService refSequence37 = RefSequenceService.fromFastaFile(REF_GENOME_FASTA_37);
 
         String serveJson = System.getProperty("user.home") + "/hmf/tmp/serve.json";
         String outputVcf = System.getProperty("user.home") + "/hmf/tmp/exons.vcf.gz";
         GenerateAltBase altBaseGenerator = new GenerateAltBase(RefGenome.V37, refSequence37);
 
-        ServeDatabase serveDatabase = ServeJson.read(serveJson);
-        ServeRecord serveRecord = serveDatabase.records().get(RefGenome.V37);
+        ServeRecord serveRecord = ServeJson.readRecord(serveJson, RefGenome.V37);
         List<KnownExon> exons = serveRecord.knownEvents().exons().stream().sorted().collect(Collectors.toList());
         LOGGER.info("The number of known exons in the known exon file is {}", exons.size());
 
@@ -84,6 +81,7 @@ public class ExonAnnotationToVCFConverter {
         }
 
         writer.close();
+        refSequence37.close();
 
         LOGGER.info("All known exons are converted and written to '{}'", outputVcf);
     }
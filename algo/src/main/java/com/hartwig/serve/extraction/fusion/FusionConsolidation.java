@@ -1,17 +1,17 @@
 package com.hartwig.serve.extraction.fusion;
 
+import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableSortedSet;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.molecular.common.ProteinEffect;
 import com.hartwig.serve.datamodel.molecular.fusion.ImmutableKnownFusion;
 import com.hartwig.serve.datamodel.molecular.fusion.KnownFusion;
 import com.hartwig.serve.datamodel.molecular.fusion.KnownFusionComparator;
+import com.hartwig.serve.extraction.util.HashConsolidation;
 import com.hartwig.serve.extraction.util.ProteinEffectConsolidation;
 
 import org.jetbrains.annotations.NotNull;
@@ -23,33 +23,32 @@ public final class FusionConsolidation {
 
     @NotNull
     public static Set<KnownFusion> consolidate(@NotNull Iterable<KnownFusion> fusions) {
-        Map<KnownFusion, ConsolidatedData> dataPerConsolidatedFusion = new TreeMap<>(new KnownFusionComparator());
-        for (KnownFusion fusion : fusions) {
-            KnownFusion key = createKey(fusion);
-
-            ConsolidatedData data = ConsolidatedData.fromFusion(fusion);
-            if (dataPerConsolidatedFusion.containsKey(key)) {
-                dataPerConsolidatedFusion.put(key, merge(data, dataPerConsolidatedFusion.get(key)));
-            } else {
-                dataPerConsolidatedFusion.put(key, data);
-            }
-        }
+        List<KnownFusion> consolidated = HashConsolidation.consolidate(fusions,
+                KnownFusion::geneUp,
+                FusionConsolidation::createKey,
+                ConsolidatedData::fromFusion,
+                FusionConsolidation::merge,
+                FusionConsolidation::build);
+        return ImmutableSortedSet.copyOf(new KnownFusionComparator(), consolidated);
+    }
 
-        Set<KnownFusion> consolidated = new TreeSet<>(new KnownFusionComparator());
-        for (Map.Entry<KnownFusion, ConsolidatedData> entry : dataPerConsolidatedFusion.entrySet()) {
-            ConsolidatedData consolidatedData = entry.getValue();
-            consolidated.add(ImmutableKnownFusion.builder()
-                    .from(entry.getKey())
-                    .sources(consolidatedData.sources())
-                    .proteinEffect(consolidatedData.proteinEffect())
-                    .build());
-        }
-        return consolidated;
+    @NotNull
+    private static List<Object> createKey(@NotNull KnownFusion fusion) {
+        // The max exons are not part of the key, in line with the fusion comparator used to sort the consolidated fusions.
+        return Arrays.asList(fusion.geneUp(),
+                fusion.geneDown(),
+                fusion.minExonUp(),
+                fusion.minExonDown(),
+                fusion.associatedWithDrugResistance());
     }
 
     @NotNull
-    private static KnownFusion createKey(@NotNull KnownFusion fusion) {
-        return ImmutableKnownFusion.builder().from(fusion).sources(Sets.newHashSet()).proteinEffect(ProteinEffect.UNKNOWN).build();
+    private static KnownFusion build(@NotNull KnownFusion fusion, @NotNull ConsolidatedData consolidatedData) {
+        return ImmutableKnownFusion.builder()
+                .from(fusion)
+                .sources(consolidatedData.sources())
+                .proteinEffect(consolidatedData.proteinEffect())
+                .build();
     }
 
     @NotNull
@@ -1,18 +1,16 @@
 package com.hartwig.serve.extraction.gene;
 
-import static java.util.Collections.emptySet;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
-
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 
+import com.google.common.collect.ImmutableSortedSet;
+import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.molecular.gene.ImmutableKnownGene;
 import com.hartwig.serve.datamodel.molecular.gene.KnownGene;
 import com.hartwig.serve.datamodel.molecular.gene.KnownGeneComparator;
+import com.hartwig.serve.extraction.util.HashConsolidation;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -23,13 +21,20 @@ public final class GeneConsolidation {
 
     @NotNull
     public static Set<KnownGene> consolidate(@NotNull Iterable<KnownGene> genes) {
-        return stream(genes.spliterator(), false).collect(groupingBy(gene -> ImmutableKnownGene.copyOf(gene).withSources(emptySet()),
-                        () -> new TreeMap<>(new KnownGeneComparator()),
-                        toList()))
-                .entrySet()
-                .stream()
-                .map(entry -> ImmutableKnownGene.copyOf(entry.getKey())
-                        .withSources(entry.getValue().stream().flatMap(gene -> gene.sources().stream()).collect(toList())))
-                .collect(Collectors.toCollection(() -> new TreeSet<>(new KnownGeneComparator())));
+        List<KnownGene> consolidated = HashConsolidation.consolidate(genes,
+                KnownGene::gene,
+                gene -> Arrays.asList(gene.gene(), gene.geneRole()),
+                KnownGene::sources,
+                GeneConsolidation::mergeSources,
+                (gene, sources) -> ImmutableKnownGene.copyOf(gene).withSources(sources));
+        return ImmutableSortedSet.copyOf(new KnownGeneComparator(), consolidated);
+    }
+
+    @NotNull
+    private static Set<Knowledgebase> mergeSources(@NotNull Set<Knowledgebase> sources1, @NotNull Set<Knowledgebase> sources2) {
+        Set<Knowledgebase> sources = EnumSet.noneOf(Knowledgebase.class);
+        sources.addAll(sources1);
+        sources.addAll(sources2);
+        return sources;
     }
-}
\ No newline at end of file
+}
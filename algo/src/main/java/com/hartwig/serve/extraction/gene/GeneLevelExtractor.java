@@ -1,12 +1,11 @@
 package com.hartwig.serve.extraction.gene;
 
-import java.util.List;
 import java.util.Set;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.hartwig.serve.common.classification.EventType;
 import com.hartwig.serve.common.drivergene.DriverCategory;
-import com.hartwig.serve.common.drivergene.DriverGene;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.common.knownfusion.KnownFusionCache;
 import com.hartwig.serve.datamodel.molecular.gene.GeneAnnotation;
 import com.hartwig.serve.datamodel.molecular.gene.GeneEvent;
@@ -27,7 +26,7 @@ public class GeneLevelExtractor {
     @NotNull
     private final GeneChecker fusionGeneChecker;
     @NotNull
-    private final List<DriverGene> driverGenes;
+    private final DriverGeneCatalog driverGeneCatalog;
     @NotNull
     private final KnownFusionCache knownFusionCache;
     @NotNull
@@ -39,12 +38,12 @@ public class GeneLevelExtractor {
     private final DriverInconsistencyMode driverInconsistencyMode;
 
     public GeneLevelExtractor(@NotNull final GeneChecker exomeGeneChecker, @NotNull final GeneChecker fusionGeneChecker,
-            @NotNull final List<DriverGene> driverGenes, @NotNull final KnownFusionCache knownFusionCache,
+            @NotNull final DriverGeneCatalog driverGeneCatalog, @NotNull final KnownFusionCache knownFusionCache,
             @NotNull final Set<String> activationKeyPhrases, @NotNull final Set<String> inactivationKeyPhrases,
             @NotNull final Set<String> genericKeyPhrases, @NotNull DriverInconsistencyMode driverInconsistencyMode) {
         this.exomeGeneChecker = exomeGeneChecker;
         this.fusionGeneChecker = fusionGeneChecker;
-        this.driverGenes = driverGenes;
+        this.driverGeneCatalog = driverGeneCatalog;
         this.knownFusionCache = knownFusionCache;
         this.activationKeyPhrases = activationKeyPhrases;
         this.inactivationKeyPhrases = inactivationKeyPhrases;
@@ -70,7 +69,7 @@ public class GeneLevelExtractor {
 
     @Nullable
     GeneAnnotation extractWildTypeEvent(@NotNull String gene, @NotNull EventType type) {
-        boolean geneInDriverGenesDatabase = geneInDriverGenes(driverGenes, gene);
+        boolean geneInDriverGenesDatabase = driverGeneCatalog.contains(gene);
 
         if (!geneInDriverGenesDatabase && driverInconsistencyMode.isActive()) {
             if (driverInconsistencyMode == DriverInconsistencyMode.WARN_ONLY) {
@@ -109,13 +108,13 @@ public class GeneLevelExtractor {
             }
         }
 
-        GeneEvent driverBasedEvent = determineGeneLevelEventFromDriverGenes(driverGenes, gene);
+        GeneEvent driverBasedEvent = determineGeneLevelEventFromDriverGenes(driverGeneCatalog, gene);
 
         if (driverInconsistencyMode.isActive()) {
             if (driverInconsistencyMode == DriverInconsistencyMode.WARN_ONLY) {
-                if (!geneInDriverGenes(driverGenes, gene)) {
+                if (!driverGeneCatalog.contains(gene)) {
                     LOGGER.warn("Gene level event on gene {} not present in driver catalog. {} will never be reported", gene, result);
-                } else if (geneInDriverGenes(driverGenes, gene) && result != GeneEvent.ANY_MUTATION && result != driverBasedEvent) {
+                } else if (driverGeneCatalog.contains(gene) && result != GeneEvent.ANY_MUTATION && result != driverBasedEvent) {
                     LOGGER.warn(
                             "Gene level event mismatch in driver gene event for '{}'. Event suggests {} while driver catalog suggests {}",
                             gene,
@@ -123,12 +122,12 @@ public class GeneLevelExtractor {
                             driverBasedEvent);
                 }
             } else if (driverInconsistencyMode == DriverInconsistencyMode.FILTER) {
-                if (!geneInDriverGenes(driverGenes, gene)) {
+                if (!driverGeneCatalog.contains(gene)) {
                     LOGGER.info("Gene level event filtered -- {} on {} is not included in driver catalog and won't ever be reported.",
                             result,
                             gene);
                     return null;
-                } else if (geneInDriverGenes(driverGenes, gene) && result != GeneEvent.ANY_MUTATION && result != driverBasedEvent) {
+                } else if (driverGeneCatalog.contains(gene) && result != GeneEvent.ANY_MUTATION && result != driverBasedEvent) {
                     LOGGER.info("Gene level event filtered -- Mismatch in driver gene event for '{}'. "
                             + "Event suggests {} while driver catalog suggests {}", gene, result, driverBasedEvent);
                     return null;
@@ -141,15 +140,12 @@ public class GeneLevelExtractor {
 
     @NotNull
     @VisibleForTesting
-    static GeneEvent determineGeneLevelEventFromDriverGenes(@NotNull List<DriverGene> driverGenes, @NotNull String gene) {
-        for (DriverGene driverGene : driverGenes) {
-            if (driverGene.gene().equals(gene)) {
-                if (driverGene.likelihoodType() == DriverCategory.ONCO) {
-                    return GeneEvent.ACTIVATION;
-                } else if (driverGene.likelihoodType() == DriverCategory.TSG) {
-                    return GeneEvent.INACTIVATION;
-                }
-            }
+    static GeneEvent determineGeneLevelEventFromDriverGenes(@NotNull DriverGeneCatalog driverGeneCatalog, @NotNull String gene) {
+        DriverCategory driverCategory = driverGeneCatalog.findCategoryByGene(gene);
+        if (driverCategory == DriverCategory.ONCO) {
+            return GeneEvent.ACTIVATION;
+        } else if (driverCategory == DriverCategory.TSG) {
+            return GeneEvent.INACTIVATION;
         }
         return GeneEvent.ANY_MUTATION;
     }
@@ -171,7 +167,7 @@ public class GeneLevelExtractor {
     @Nullable
     @VisibleForTesting
     GeneAnnotation extractProteinEvent(@NotNull String gene, @NotNull EventType type) {
-        boolean geneInDriverGenesDatabase = geneInDriverGenes(driverGenes, gene);
+        boolean geneInDriverGenesDatabase = driverGeneCatalog.contains(gene);
         GeneEvent geneEvent;
         if (type == EventType.ABSENCE_OF_PROTEIN) {
             geneEvent = GeneEvent.ABSENCE_OF_PROTEIN;
@@ -196,15 +192,6 @@ public class GeneLevelExtractor {
         return ImmutableGeneAnnotationImpl.builder().gene(gene).event(geneEvent).build();
     }
 
-    private static boolean geneInDriverGenes(@NotNull List<DriverGene> driverGenes, @NotNull String gene) {
-        for (DriverGene driverGene : driverGenes) {
-            if (driverGene.gene().equals(gene)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private boolean geneIsPresentInFusionCache(@NotNull String gene) {
         return knownFusionCache.hasKnownPairGene(gene) || knownFusionCache.hasPromiscuousFiveGene(gene)
                 || knownFusionCache.hasPromiscuousThreeGene(gene) || knownFusionCache.hasAnyIgFusion(gene);
@@ -0,0 +1,55 @@
+package com.hartwig.serve.extraction.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hartwig.serve.common.ensemblcache.EnsemblDataCache;
+import com.hartwig.serve.datamodel.molecular.common.GenomeRegion;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class EnsemblTranscriptIndex {
+
+    @NotNull
+    private final EnsemblDataCache ensemblDataCache;
+    // Extraction only looks up a small subset of all genes, so canonical transcripts are only built for the genes that are looked up.
+    @NotNull
+    private final Map<String, Optional<HmfTranscriptRegion>> canonicalTranscriptPerGene = new ConcurrentHashMap<>();
+    @NotNull
+    private final Map<String, Optional<List<GenomeRegion>>> codonRegionsPerGeneAndRank = new ConcurrentHashMap<>();
+
+    @NotNull
+    public static EnsemblTranscriptIndex create(@NotNull EnsemblDataCache ensemblDataCache) {
+        return new EnsemblTranscriptIndex(ensemblDataCache);
+    }
+
+    private EnsemblTranscriptIndex(@NotNull final EnsemblDataCache ensemblDataCache) {
+        this.ensemblDataCache = ensemblDataCache;
+    }
+
+    @NotNull
+    public EnsemblDataCache ensemblDataCache() {
+        return ensemblDataCache;
+    }
+
+    @Nullable
+    public HmfTranscriptRegion findCanonicalTranscript(@NotNull String gene) {
+        return canonicalTranscriptPerGene.computeIfAbsent(gene,
+                key -> Optional.ofNullable(EnsemblFunctions.findCanonicalTranscript(ensemblDataCache, key))).orElse(null);
+    }
+
+    @Nullable
+    public List<GenomeRegion> canonicalCodonRangeByRank(@NotNull String gene, int codonRank) {
+        HmfTranscriptRegion canonicalTranscript = findCanonicalTranscript(gene);
+        if (canonicalTranscript == null) {
+            return null;
+        }
+
+        return codonRegionsPerGeneAndRank.computeIfAbsent(gene + ":" + codonRank,
+                key -> Optional.ofNullable(HmfTranscriptRegionUtils.codonRangeByRank(canonicalTranscript, codonRank, codonRank)))
+                .orElse(null);
+    }
+}
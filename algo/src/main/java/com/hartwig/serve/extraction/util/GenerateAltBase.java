@@ -2,21 +2,20 @@ package com.hartwig.serve.extraction.util;
 
 import com.hartwig.serve.common.RefGenomeFunctions;
 import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.refgenome.RefSequenceService;
 
 import org.jetbrains.annotations.NotNull;
 
-import htsjdk.samtools.reference.IndexedFastaSequenceFile;
-
 public class GenerateAltBase {
 
     @NotNull
     private final RefGenome refGenome;
     @NotNull
-    private final IndexedFastaSequenceFile refGenomeFasta;
+    private final RefSequenceService refSequence;
 
-    public GenerateAltBase(@NotNull final RefGenome refGenome, @NotNull final IndexedFastaSequenceFile refGenomeFasta) {
+    public GenerateAltBase(@NotNull final RefGenome refGenome, @NotNull final RefSequenceService refSequence) {
         this.refGenome = refGenome;
-        this.refGenomeFasta = refGenomeFasta;
+        this.refSequence = refSequence;
     }
 
     @NotNull
@@ -40,6 +39,6 @@ public class GenerateAltBase {
     @NotNull
     public String extractRefBaseAtGenomicPosition(@NotNull String chromosome, long position) {
         String versionedChromosome = RefGenomeFunctions.versionedChromosome(chromosome, refGenome);
-        return refGenomeFasta.getSubsequenceAt(versionedChromosome, position, position).getBaseString();
+        return refSequence.subsequence(versionedChromosome, position, position);
     }
 }
@@ -0,0 +1,57 @@
+package com.hartwig.serve.extraction.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import org.jetbrains.annotations.NotNull;
+
+public final class HashConsolidation {
+
+    static final int MIN_INPUTS_FOR_PARALLEL_CONSOLIDATION = 10000;
+
+    private HashConsolidation() {
+    }
+
+    @NotNull
+    public static <T, K, D> List<T> consolidate(@NotNull Iterable<T> inputs, @NotNull Function<T, String> partitionFunction,
+            @NotNull Function<T, K> keyFunction, @NotNull Function<T, D> dataFunction, @NotNull BinaryOperator<D> mergeFunction,
+            @NotNull BiFunction<T, D, T> buildFunction) {
+        // Inputs sharing a key always end up in the same partition, so every partition can be consolidated independently.
+        Map<String, List<T>> inputsPerPartition = Maps.newHashMap();
+        int inputCount = 0;
+        for (T input : inputs) {
+            inputsPerPartition.computeIfAbsent(partitionFunction.apply(input), partition -> Lists.newArrayList()).add(input);
+            inputCount++;
+        }
+
+        Stream<List<T>> partitions = inputCount >= MIN_INPUTS_FOR_PARALLEL_CONSOLIDATION
+                ? inputsPerPartition.values().parallelStream()
+                : inputsPerPartition.values().stream();
+
+        return partitions.flatMap(partition -> consolidatePartition(partition, keyFunction, dataFunction, mergeFunction, buildFunction))
+                .collect(Collectors.toList());
+    }
+
+    @NotNull
+    private static <T, K, D> Stream<T> consolidatePartition(@NotNull List<T> partition, @NotNull Function<T, K> keyFunction,
+            @NotNull Function<T, D> dataFunction, @NotNull BinaryOperator<D> mergeFunction, @NotNull BiFunction<T, D, T> buildFunction) {
+        // Within a partition inputs are merged in iteration order, passing the data of the added input first to the merge function.
+        Map<K, Map.Entry<T, D>> firstInputAndDataPerKey = Maps.newHashMapWithExpectedSize(partition.size());
+        for (T input : partition) {
+            firstInputAndDataPerKey.merge(keyFunction.apply(input),
+                    Maps.immutableEntry(input, dataFunction.apply(input)),
+                    (existing, added) -> Maps.immutableEntry(existing.getKey(),
+                            mergeFunction.apply(added.getValue(), existing.getValue())));
+        }
+
+        return firstInputAndDataPerKey.values().stream().map(entry -> buildFunction.apply(entry.getKey(), entry.getValue()));
+    }
+}
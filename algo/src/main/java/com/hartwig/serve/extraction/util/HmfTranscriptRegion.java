@@ -48,6 +48,7 @@ public abstract class HmfTranscriptRegion implements TranscriptRegion {
     }
 
     @NotNull
+    @Value.Lazy
     public List<HmfExonRegion> strandSortedExome() {
         return strand() == Strand.FORWARD ? exons() : Lists.reverse(exons());
     }
@@ -1,21 +1,18 @@
 package com.hartwig.serve.extraction.util;
 
-import java.util.List;
-
 import com.hartwig.serve.common.drivergene.DriverCategory;
-import com.hartwig.serve.common.drivergene.DriverGene;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.datamodel.molecular.MutationType;
 
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 public class MutationTypeFilterAlgo {
 
     @NotNull
-    private final List<DriverGene> driverGenes;
+    private final DriverGeneCatalog driverGeneCatalog;
 
-    public MutationTypeFilterAlgo(@NotNull final List<DriverGene> driverGenes) {
-        this.driverGenes = driverGenes;
+    public MutationTypeFilterAlgo(@NotNull final DriverGeneCatalog driverGeneCatalog) {
+        this.driverGeneCatalog = driverGeneCatalog;
     }
 
     @NotNull
@@ -33,26 +30,14 @@ public class MutationTypeFilterAlgo {
         } else if (formattedEvent.contains("frameshift")) {
             return MutationType.NONSENSE_OR_FRAMESHIFT;
         } else {
-            DriverGene driverGene = findByGene(gene);
-            if (driverGene != null) {
-                if (driverGene.likelihoodType() == DriverCategory.ONCO) {
-                    return MutationType.MISSENSE;
-                } else if (driverGene.likelihoodType() == DriverCategory.TSG) {
-                    return MutationType.ANY;
-                }
+            DriverCategory driverCategory = driverGeneCatalog.findCategoryByGene(gene);
+            if (driverCategory == DriverCategory.ONCO) {
+                return MutationType.MISSENSE;
+            } else if (driverCategory == DriverCategory.TSG) {
+                return MutationType.ANY;
             }
         }
 
         return MutationType.ANY;
     }
-
-    @Nullable
-    private DriverGene findByGene(@NotNull String gene) {
-        for (DriverGene driverGene : driverGenes) {
-            if (driverGene.gene().equals(gene)) {
-                return driverGene;
-            }
-        }
-        return null;
-    }
 }
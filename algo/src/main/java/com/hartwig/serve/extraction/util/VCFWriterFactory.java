@@ -4,12 +4,12 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.hartwig.serve.extraction.variant.HumanChromosome;
 import com.hartwig.serve.extraction.variant.MitochondrialChromosome;
+import com.hartwig.serve.refgenome.RefSequenceService;
 
 import org.jetbrains.annotations.NotNull;
 
 import htsjdk.samtools.SAMSequenceDictionary;
 import htsjdk.samtools.SAMSequenceRecord;
-import htsjdk.samtools.reference.IndexedFastaSequenceFile;
 import htsjdk.variant.variantcontext.writer.Options;
 import htsjdk.variant.variantcontext.writer.VariantContextWriter;
 import htsjdk.variant.variantcontext.writer.VariantContextWriterBuilder;
@@ -27,9 +27,9 @@ public final class VCFWriterFactory {
     }
 
     @NotNull
-    public static VariantContextWriter openIndexedVCFWriter(@NotNull String outputVcf, @NotNull IndexedFastaSequenceFile refSequence,
+    public static VariantContextWriter openIndexedVCFWriter(@NotNull String outputVcf, @NotNull RefSequenceService refSequence,
             @NotNull String sources) {
-        SAMSequenceDictionary sequenceDictionary = refSequence.getSequenceDictionary();
+        SAMSequenceDictionary sequenceDictionary = refSequence.sequenceDictionary();
         VariantContextWriter writer = createBaseWriterBuilder(outputVcf).modifyOption(Options.INDEX_ON_THE_FLY, true)
                 .setReferenceDictionary(sequenceDictionary)
                 .build();
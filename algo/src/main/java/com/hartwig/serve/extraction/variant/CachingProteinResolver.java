@@ -0,0 +1,80 @@
+package com.hartwig.serve.extraction.variant;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.Sets;
+import com.hartwig.serve.extraction.util.KeyFormatter;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class CachingProteinResolver implements ProteinResolver {
+
+    private static final Logger LOGGER = LogManager.getLogger(CachingProteinResolver.class);
+
+    @NotNull
+    private final ProteinResolver resolver;
+    @NotNull
+    private final String cacheFile;
+    @NotNull
+    private final String fingerprint;
+    @NotNull
+    private final Map<String, List<Variant>> variantsByProteinKey;
+    @NotNull
+    private final Set<String> unresolvedCachedProteinAnnotations = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    @NotNull
+    public static CachingProteinResolver load(@NotNull ProteinResolver resolver, @NotNull String cacheFile, @NotNull String fingerprint)
+            throws IOException {
+        return new CachingProteinResolver(resolver, cacheFile, fingerprint, ProteinResolverCacheFile.read(cacheFile, fingerprint));
+    }
+
+    CachingProteinResolver(@NotNull final ProteinResolver resolver, @NotNull final String cacheFile, @NotNull final String fingerprint,
+            @NotNull final Map<String, List<Variant>> cachedVariantsByProteinKey) {
+        this.resolver = resolver;
+        this.cacheFile = cacheFile;
+        this.fingerprint = fingerprint;
+        this.variantsByProteinKey = new ConcurrentHashMap<>(cachedVariantsByProteinKey);
+    }
+
+    @NotNull
+    @Override
+    public List<Variant> resolve(@NotNull String gene, @Nullable String specificTranscript, @NotNull String proteinAnnotation) {
+        String proteinKey = KeyFormatter.toProteinKey(gene, specificTranscript, proteinAnnotation);
+        List<Variant> cachedVariants = variantsByProteinKey.get(proteinKey);
+        if (cachedVariants != null) {
+            if (cachedVariants.isEmpty()) {
+                unresolvedCachedProteinAnnotations.add(proteinKey);
+            }
+            return cachedVariants;
+        }
+
+        List<Variant> variants = resolver.resolve(gene, specificTranscript, proteinAnnotation);
+        variantsByProteinKey.put(proteinKey, variants);
+        return variants;
+    }
+
+    @NotNull
+    @Override
+    public Set<String> unresolvedProteinAnnotations() {
+        return Sets.union(unresolvedCachedProteinAnnotations, resolver.unresolvedProteinAnnotations());
+    }
+
+    @Override
+    public void persist() throws IOException {
+        LOGGER.info("Writing {} protein annotations to protein resolver cache {}", variantsByProteinKey.size(), cacheFile);
+        ProteinResolverCacheFile.write(cacheFile, fingerprint, variantsByProteinKey);
+    }
+
+    @Override
+    public void close() throws IOException {
+        resolver.close();
+    }
+}
@@ -1,20 +1,19 @@
 package com.hartwig.serve.extraction.variant;
 
+import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableSortedSet;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.molecular.common.ProteinEffect;
 import com.hartwig.serve.datamodel.molecular.hotspot.ImmutableKnownHotspot;
 import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
 import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspotComparator;
+import com.hartwig.serve.extraction.util.HashConsolidation;
 import com.hartwig.serve.extraction.util.ProteinEffectConsolidation;
 
-import org.apache.logging.log4j.util.Strings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -25,42 +24,35 @@ public final class KnownHotspotConsolidation {
 
     @NotNull
     public static Set<KnownHotspot> consolidate(@NotNull Iterable<KnownHotspot> hotspots) {
-        Map<KnownHotspot, ConsolidatedData> dataPerConsolidatedHotspot = new TreeMap<>(new KnownHotspotComparator());
-        for (KnownHotspot hotspot : hotspots) {
-            KnownHotspot key = createKey(hotspot);
-
-            ConsolidatedData data = ConsolidatedData.fromHotspot(hotspot);
-            if (dataPerConsolidatedHotspot.containsKey(key)) {
-                dataPerConsolidatedHotspot.put(key, merge(data, dataPerConsolidatedHotspot.get(key)));
-            } else {
-                dataPerConsolidatedHotspot.put(key, data);
-            }
-        }
+        List<KnownHotspot> consolidatedHotspots = HashConsolidation.consolidate(hotspots,
+                KnownHotspot::chromosome,
+                KnownHotspotConsolidation::createKey,
+                ConsolidatedData::fromHotspot,
+                KnownHotspotConsolidation::merge,
+                KnownHotspotConsolidation::build);
+        return ImmutableSortedSet.copyOf(new KnownHotspotComparator(), consolidatedHotspots);
+    }
 
-        Set<KnownHotspot> consolidatedHotspots = new TreeSet<>(new KnownHotspotComparator());
-        for (Map.Entry<KnownHotspot, ConsolidatedData> entry : dataPerConsolidatedHotspot.entrySet()) {
-            ConsolidatedData consolidatedData = entry.getValue();
-            consolidatedHotspots.add(ImmutableKnownHotspot.builder()
-                    .from(entry.getKey())
-                    .sources(consolidatedData.sources())
-                    .gene(consolidatedData.gene())
-                    .inputTranscript(consolidatedData.inputTranscript())
-                    .inputProteinAnnotation(consolidatedData.inputProteinAnnotation())
-                    .proteinEffect(consolidatedData.proteinEffect())
-                    .build());
-        }
-        return consolidatedHotspots;
+    @NotNull
+    private static List<Object> createKey(@NotNull KnownHotspot hotspot) {
+        // Gene, input transcript and input protein annotation are consolidated rather than used to tell hotspots apart.
+        return Arrays.asList(hotspot.chromosome(),
+                hotspot.position(),
+                hotspot.ref(),
+                hotspot.alt(),
+                hotspot.geneRole(),
+                hotspot.associatedWithDrugResistance());
     }
 
     @NotNull
-    private static KnownHotspot createKey(@NotNull KnownHotspot hotspot) {
+    private static KnownHotspot build(@NotNull KnownHotspot hotspot, @NotNull ConsolidatedData consolidatedData) {
         return ImmutableKnownHotspot.builder()
                 .from(hotspot)
-                .sources(Sets.newHashSet())
-                .gene(Strings.EMPTY)
-                .inputTranscript(Strings.EMPTY)
-                .inputProteinAnnotation(Strings.EMPTY)
-                .proteinEffect(ProteinEffect.UNKNOWN)
+                .sources(consolidatedData.sources())
+                .gene(consolidatedData.gene())
+                .inputTranscript(consolidatedData.inputTranscript())
+                .inputProteinAnnotation(consolidatedData.inputProteinAnnotation())
+                .proteinEffect(consolidatedData.proteinEffect())
                 .build();
     }
 
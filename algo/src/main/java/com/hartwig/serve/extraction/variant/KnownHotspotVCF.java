@@ -17,6 +17,7 @@ import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
 import com.hartwig.serve.datamodel.molecular.hotspot.VariantHotspot;
 import com.hartwig.serve.datamodel.molecular.hotspot.VariantHotspotComparator;
 import com.hartwig.serve.extraction.util.VCFWriterFactory;
+import com.hartwig.serve.refgenome.RefSequenceService;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -24,7 +25,6 @@ import org.apache.logging.log4j.util.Strings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import htsjdk.samtools.reference.IndexedFastaSequenceFile;
 import htsjdk.tribble.AbstractFeatureReader;
 import htsjdk.tribble.readers.LineIterator;
 import htsjdk.variant.variantcontext.Allele;
@@ -48,7 +48,7 @@ public final class KnownHotspotVCF {
         return addVersionToFilePath(refGenome, outputDir + File.separator + KNOWN_HOTSPOT_VCF);
     }
 
-    public static void write(@NotNull String hotspotVcf, @NotNull IndexedFastaSequenceFile refSequence,
+    public static void write(@NotNull String hotspotVcf, @NotNull RefSequenceService refSequence,
             @NotNull Iterable<KnownHotspot> hotspots) {
         VariantContextWriter writer = VCFWriterFactory.openIndexedVCFWriter(hotspotVcf, refSequence, uniqueSourcesString(hotspots));
 
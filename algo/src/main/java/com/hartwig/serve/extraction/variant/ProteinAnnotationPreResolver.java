@@ -0,0 +1,57 @@
+package com.hartwig.serve.extraction.variant;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.collect.Lists;
+import com.hartwig.serve.util.ProgressTracker;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+public final class ProteinAnnotationPreResolver {
+
+    private static final Logger LOGGER = LogManager.getLogger(ProteinAnnotationPreResolver.class);
+
+    private ProteinAnnotationPreResolver() {
+    }
+
+    public static void preResolve(@NotNull ProteinResolver proteinResolver, @NotNull Collection<ProteinAnnotationQuery> queries,
+            int parallelism) {
+        if (queries.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info(" Pre-resolving {} distinct protein annotations using {} threads", queries.size(), parallelism);
+        ProgressTracker tracker = new ProgressTracker("protein annotation", queries.size());
+
+        // Resolving is dominated by waiting on external processes, so virtual threads suffice. The pool size bounds the number of
+        // concurrent resolves rather than the number of carrier threads.
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("protein-resolver-", 0).factory());
+        try {
+            List<Future<?>> futures = Lists.newArrayList();
+            for (ProteinAnnotationQuery query : queries) {
+                futures.add(executor.submit(() -> {
+                    proteinResolver.resolve(query.gene(), query.transcript(), query.proteinAnnotation());
+                    tracker.update();
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while pre-resolving protein annotations", exception);
+        } catch (ExecutionException exception) {
+            throw new RuntimeException("Could not pre-resolve protein annotations", exception.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.hartwig.serve.extraction.variant;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@Value.Immutable
+@Value.Style(passAnnotations = { NotNull.class, Nullable.class })
+public abstract class ProteinAnnotationQuery {
+
+    @NotNull
+    public abstract String gene();
+
+    @Nullable
+    public abstract String transcript();
+
+    @NotNull
+    public abstract String proteinAnnotation();
+
+}
@@ -1,16 +1,27 @@
 package com.hartwig.serve.extraction.variant;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public interface ProteinResolver {
+public interface ProteinResolver extends Closeable {
 
     @NotNull
     List<Variant> resolve(@NotNull String gene, @Nullable String specificTranscript, @NotNull String proteinAnnotation);
 
     @NotNull
     Set<String> unresolvedProteinAnnotations();
+
+    default void persist() throws IOException {
+        // By default a protein resolver keeps no state that outlives a single run.
+    }
+
+    @Override
+    default void close() throws IOException {
+        // By default a protein resolver holds no resources that need to be released.
+    }
 }
@@ -0,0 +1,188 @@
+package com.hartwig.serve.extraction.variant;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import com.hartwig.serve.datamodel.RefGenome;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public final class ProteinResolverCacheFile {
+
+    private static final Logger LOGGER = LogManager.getLogger(ProteinResolverCacheFile.class);
+
+    // Bump whenever the format of the cache file or the interpretation of protein annotations changes.
+    private static final int CACHE_FORMAT_VERSION = 1;
+
+    private static final String FINGERPRINT_PREFIX = "#fingerprint";
+    private static final String FIELD_DELIMITER = "\t";
+    private static final String VARIANT_DELIMITER = ";";
+    private static final String VARIANT_FIELD_DELIMITER = ":";
+
+    private static final String ENSEMBL_GENE_DATA_FILE = "ensembl_gene_data.csv";
+    private static final String ENSEMBL_TRANS_EXON_DATA_FILE = "ensembl_trans_exon_data.csv";
+
+    private ProteinResolverCacheFile() {
+    }
+
+    @NotNull
+    public static String cacheFile(@NotNull String cacheDir, @NotNull RefGenome refGenome) {
+        return cacheDir + File.separator + "protein_resolver_cache." + refGenome.toString().toLowerCase() + ".tsv";
+    }
+
+    @NotNull
+    public static String fingerprint(@NotNull RefGenome refGenome, @NotNull String refGenomeFastaFile, @NotNull String ensemblDataDir)
+            throws IOException {
+        return new StringJoiner(";").add("version=" + CACHE_FORMAT_VERSION)
+                .add("refGenome=" + refGenome)
+                .add("fasta=" + refGenomeFastaChecksum(refGenomeFastaFile))
+                .add("ensembl=" + ensemblDataChecksum(ensemblDataDir))
+                .toString();
+    }
+
+    @NotNull
+    public static Map<String, List<Variant>> read(@NotNull String file, @NotNull String expectedFingerprint) throws IOException {
+        File cacheFile = new File(file);
+        if (!cacheFile.exists()) {
+            LOGGER.info(" No protein resolver cache present at {}", file);
+            return Maps.newHashMap();
+        }
+
+        List<String> lines = Files.readAllLines(cacheFile.toPath());
+        String fingerprint = !lines.isEmpty() ? extractFingerprint(lines.get(0)) : null;
+        if (!expectedFingerprint.equals(fingerprint)) {
+            LOGGER.info(" Ignoring stale protein resolver cache at {} since its fingerprint '{}' does not match '{}'",
+                    file,
+                    fingerprint,
+                    expectedFingerprint);
+            return Maps.newHashMap();
+        }
+
+        // Skip the fingerprint and header lines.
+        Map<String, List<Variant>> variantsByProteinKey = fromLines(lines.subList(2, lines.size()));
+        LOGGER.info(" Read {} cached protein annotations from {}", variantsByProteinKey.size(), file);
+        return variantsByProteinKey;
+    }
+
+    public static void write(@NotNull String file, @NotNull String fingerprint, @NotNull Map<String, List<Variant>> variantsByProteinKey)
+            throws IOException {
+        List<String> lines = Lists.newArrayList();
+        lines.add(FINGERPRINT_PREFIX + FIELD_DELIMITER + fingerprint);
+        lines.add(header());
+        lines.addAll(toLines(variantsByProteinKey));
+
+        // Write to a temporary file first so that an interrupted run never leaves a corrupt cache behind.
+        File target = new File(file);
+        File temporary = new File(file + ".tmp");
+        Files.write(temporary.toPath(), lines);
+        Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Nullable
+    private static String extractFingerprint(@NotNull String line) {
+        String[] values = line.split(FIELD_DELIMITER, -1);
+        return values.length == 2 && values[0].equals(FINGERPRINT_PREFIX) ? values[1] : null;
+    }
+
+    @NotNull
+    private static String header() {
+        return new StringJoiner(FIELD_DELIMITER).add("proteinKey").add("variants").toString();
+    }
+
+    @NotNull
+    @VisibleForTesting
+    static Map<String, List<Variant>> fromLines(@NotNull List<String> lines) {
+        Map<String, List<Variant>> variantsByProteinKey = Maps.newHashMap();
+        for (String line : lines) {
+            String[] values = line.split(FIELD_DELIMITER, -1);
+            variantsByProteinKey.put(values[0], toVariants(values[1]));
+        }
+        return variantsByProteinKey;
+    }
+
+    @NotNull
+    @VisibleForTesting
+    static List<String> toLines(@NotNull Map<String, List<Variant>> variantsByProteinKey) {
+        List<String> lines = Lists.newArrayList();
+        // Sort on protein key to keep the cache file stable between runs.
+        for (String proteinKey : variantsByProteinKey.keySet().stream().sorted().toList()) {
+            String variants = fromVariants(variantsByProteinKey.get(proteinKey));
+            lines.add(new StringJoiner(FIELD_DELIMITER).add(proteinKey).add(variants).toString());
+        }
+        return lines;
+    }
+
+    @NotNull
+    private static List<Variant> toVariants(@NotNull String field) {
+        List<Variant> variants = Lists.newArrayList();
+        if (field.isEmpty()) {
+            return variants;
+        }
+
+        for (String variantString : field.split(VARIANT_DELIMITER)) {
+            String[] parts = variantString.split(VARIANT_FIELD_DELIMITER);
+            variants.add(ImmutableVariant.builder()
+                    .chromosome(parts[0])
+                    .position(Integer.parseInt(parts[1]))
+                    .ref(parts[2])
+                    .alt(parts[3])
+                    .build());
+        }
+        return variants;
+    }
+
+    @NotNull
+    private static String fromVariants(@NotNull List<Variant> variants) {
+        StringJoiner joiner = new StringJoiner(VARIANT_DELIMITER);
+        for (Variant variant : variants) {
+            joiner.add(new StringJoiner(VARIANT_FIELD_DELIMITER).add(variant.chromosome())
+                    .add(String.valueOf(variant.position()))
+                    .add(variant.ref())
+                    .add(variant.alt())
+                    .toString());
+        }
+        return joiner.toString();
+    }
+
+    @NotNull
+    private static String refGenomeFastaChecksum(@NotNull String refGenomeFastaFile) throws IOException {
+        // Hashing a full ref genome fasta on every run is too expensive. The fasta index captures every contig with its length
+        // and offset, which together with the size of the fasta itself identifies the ref genome sufficiently.
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putLong(new File(refGenomeFastaFile).length());
+        File indexFile = new File(refGenomeFastaFile + ".fai");
+        if (indexFile.exists()) {
+            hasher.putBytes(checksum(indexFile));
+        }
+        return hasher.hash().toString();
+    }
+
+    @NotNull
+    private static String ensemblDataChecksum(@NotNull String ensemblDataDir) throws IOException {
+        // The ensembl data files are hundreds of MB, so they are hashed while streaming rather than read into memory.
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String ensemblFile : List.of(ENSEMBL_GENE_DATA_FILE, ENSEMBL_TRANS_EXON_DATA_FILE)) {
+            hasher.putBytes(checksum(new File(ensemblDataDir, ensemblFile)));
+        }
+        return hasher.hash().toString();
+    }
+
+    @NotNull
+    private static byte[] checksum(@NotNull File file) throws IOException {
+        return MoreFiles.asByteSource(file.toPath()).hash(Hashing.sha256()).asBytes();
+    }
+}
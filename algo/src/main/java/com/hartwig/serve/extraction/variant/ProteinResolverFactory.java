@@ -1,13 +1,14 @@
 package com.hartwig.serve.extraction.variant;
 
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
-import com.hartwig.serve.common.ensemblcache.EnsemblDataCache;
 import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.extraction.util.EnsemblTranscriptIndex;
+import com.hartwig.serve.refgenome.RefSequenceService;
 import com.hartwig.serve.transvar.Transvar;
 
 import org.jetbrains.annotations.NotNull;
@@ -20,8 +21,26 @@ public final class ProteinResolverFactory {
 
     @NotNull
     public static ProteinResolver transvarWithRefGenome(@NotNull RefGenome refGenome, @NotNull String refGenomeFastaFile,
-            @NotNull EnsemblDataCache ensemblDataCache) throws FileNotFoundException {
-        return Transvar.withRefGenome(refGenome, refGenomeFastaFile, ensemblDataCache);
+            @NotNull RefSequenceService refSequence, @NotNull EnsemblTranscriptIndex ensemblTranscriptIndex) {
+        return Transvar.withRefGenome(refGenome, refGenomeFastaFile, refSequence, ensemblTranscriptIndex);
+    }
+
+    @NotNull
+    public static ProteinResolver transvarWithRefGenome(@NotNull RefGenome refGenome, @NotNull String refGenomeFastaFile,
+            @NotNull RefSequenceService refSequence, @NotNull EnsemblTranscriptIndex ensemblTranscriptIndex, int transvarWorkerCount) {
+        return Transvar.withRefGenome(refGenome, refGenomeFastaFile, refSequence, ensemblTranscriptIndex, transvarWorkerCount);
+    }
+
+    @NotNull
+    public static ProteinResolver cachedTransvarWithRefGenome(@NotNull RefGenome refGenome, @NotNull String refGenomeFastaFile,
+            @NotNull RefSequenceService refSequence, @NotNull EnsemblTranscriptIndex ensemblTranscriptIndex, int transvarWorkerCount,
+            @NotNull String ensemblDataDir, @NotNull String cacheDir) throws IOException {
+        String cacheFile = ProteinResolverCacheFile.cacheFile(cacheDir, refGenome);
+        String fingerprint = ProteinResolverCacheFile.fingerprint(refGenome, refGenomeFastaFile, ensemblDataDir);
+        ProteinResolver transvar =
+                transvarWithRefGenome(refGenome, refGenomeFastaFile, refSequence, ensemblTranscriptIndex, transvarWorkerCount);
+
+        return CachingProteinResolver.load(transvar, cacheFile, fingerprint);
     }
 
     @NotNull
@@ -2,12 +2,11 @@ package com.hartwig.serve.extraction.variant;
 
 import java.util.List;
 
-import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.hartwig.serve.common.classification.EventPreprocessor;
 import com.hartwig.serve.common.classification.EventType;
 import com.hartwig.serve.common.drivergene.DriverCategory;
-import com.hartwig.serve.common.drivergene.DriverGene;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.datamodel.molecular.hotspot.ImmutableVariantAnnotation;
 import com.hartwig.serve.datamodel.molecular.hotspot.VariantAnnotation;
 import com.hartwig.serve.extraction.util.DriverInconsistencyMode;
@@ -31,23 +30,23 @@ public class VariantExtractor {
     @NotNull
     private final DriverInconsistencyMode driverInconsistencyMode;
     @NotNull
-    private final List<DriverGene> driverGenes;
+    private final DriverGeneCatalog driverGeneCatalog;
 
     public VariantExtractor(@NotNull final GeneChecker geneChecker, @NotNull final ProteinResolver proteinResolver,
             @NotNull final EventPreprocessor proteinAnnotationExtractor, @NotNull final DriverInconsistencyMode driverInconsistencyMode,
-            @NotNull final List<DriverGene> driverGenes) {
+            @NotNull final DriverGeneCatalog driverGeneCatalog) {
         this.geneChecker = geneChecker;
         this.proteinResolver = proteinResolver;
         this.proteinAnnotationExtractor = proteinAnnotationExtractor;
         this.driverInconsistencyMode = driverInconsistencyMode;
-        this.driverGenes = driverGenes;
+        this.driverGeneCatalog = driverGeneCatalog;
     }
     
     @Nullable
     public List<VariantAnnotation> extract(@NotNull String gene, @Nullable String transcriptId, @NotNull EventType type,
             @NotNull String event) {
         if (type == EventType.VARIANT && geneChecker.isValidGene(gene)) {
-            DriverCategory driverCategory = findByGene(driverGenes, gene);
+            DriverCategory driverCategory = driverGeneCatalog.findCategoryByGene(gene);
             if (driverCategory == null && driverInconsistencyMode.isActive()) {
                 if (driverInconsistencyMode == DriverInconsistencyMode.WARN_ONLY) {
                     LOGGER.warn("Variant event on {} on {} is not included in driver catalog and won't ever be reported.", type, gene);
@@ -70,13 +69,21 @@ public class VariantExtractor {
     }
 
     @Nullable
-    @VisibleForTesting
-    static DriverCategory findByGene(@NotNull List<DriverGene> driverGenes, @NotNull String gene) {
-        for (DriverGene driverGene : driverGenes) {
-            if (driverGene.gene().equals(gene)) {
-                return driverGene.likelihoodType();
-            }
+    public ProteinAnnotationQuery toProteinAnnotationQuery(@NotNull String gene, @Nullable String transcriptId, @NotNull EventType type,
+            @NotNull String event) {
+        // Mirrors the conditions under which extract resolves a protein annotation, without logging about invalid genes or drivers.
+        if (type != EventType.VARIANT || !geneChecker.geneExistsInAllValidGenes(gene)) {
+            return null;
         }
-        return null;
+
+        if (driverInconsistencyMode == DriverInconsistencyMode.FILTER && driverGeneCatalog.findCategoryByGene(gene) == null) {
+            return null;
+        }
+
+        return ImmutableProteinAnnotationQuery.builder()
+                .gene(gene)
+                .transcript(transcriptId)
+                .proteinAnnotation(proteinAnnotationExtractor.apply(event))
+                .build();
     }
 }
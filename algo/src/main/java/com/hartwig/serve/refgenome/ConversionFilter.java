@@ -2,6 +2,7 @@ package com.hartwig.serve.refgenome;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.Sets;
 import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
@@ -35,7 +36,7 @@ class ConversionFilter {
     private static final Logger LOGGER = LogManager.getLogger(ConversionFilter.class);
 
     @NotNull
-    private final Set<String> filteredGenes = Sets.newHashSet();
+    private final Set<String> filteredGenes = ConcurrentHashMap.newKeySet();
 
     @NotNull
     public ExtractionResult filter(@NotNull ExtractionResult extractionResult) {
@@ -1,7 +1,9 @@
 package com.hartwig.serve.refgenome;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.Sets;
 import com.hartwig.serve.common.RefGenomeFunctions;
@@ -34,14 +36,11 @@ import com.hartwig.serve.refgenome.liftover.LiftOverAlgo;
 import com.hartwig.serve.refgenome.liftover.LiftOverChecker;
 import com.hartwig.serve.refgenome.liftover.LiftOverResult;
 
-import org.apache.commons.compress.utils.Lists;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import htsjdk.samtools.reference.IndexedFastaSequenceFile;
-
 class RefGenomeConverter {
 
     private static final Logger LOGGER = LogManager.getLogger(RefGenomeConverter.class);
@@ -51,12 +50,12 @@ class RefGenomeConverter {
     @NotNull
     private final RefGenome targetVersion;
     @NotNull
-    private final IndexedFastaSequenceFile targetSequence;
+    private final RefSequenceService targetSequence;
     @NotNull
     private final LiftOverAlgo liftOverAlgo;
 
     public RefGenomeConverter(@NotNull final RefGenome sourceVersion, @NotNull final RefGenome targetVersion,
-            @NotNull final IndexedFastaSequenceFile targetSequence, @NotNull final LiftOverAlgo liftOverAlgo) {
+            @NotNull final RefSequenceService targetSequence, @NotNull final LiftOverAlgo liftOverAlgo) {
         this.sourceVersion = sourceVersion;
         this.targetVersion = targetVersion;
         this.targetSequence = targetSequence;
@@ -83,11 +82,8 @@ class RefGenomeConverter {
             return null;
         }
 
-        List<EfficacyEvidence> converted = Lists.newArrayList();
-        for (EfficacyEvidence evidence : evidences) {
-            converted.add(convertEfficacyEvidence(evidence));
-        }
-        return converted;
+        // Parallel streams retain encounter order when collected to a list, so the converted evidences keep their original order.
+        return evidences.parallelStream().map(this::convertEfficacyEvidence).collect(Collectors.toList());
     }
 
     @Nullable
@@ -96,59 +92,36 @@ class RefGenomeConverter {
             return null;
         }
 
-        List<ActionableTrial> converted = Lists.newArrayList();
-        for (ActionableTrial clinicalTrial : trials) {
-            converted.add(convertClinicalTrial(clinicalTrial));
-        }
-        return converted;
+        return trials.parallelStream().map(this::convertClinicalTrial).collect(Collectors.toList());
     }
 
     @NotNull
     private Set<KnownHotspot> convertKnownHotspots(@NotNull Set<KnownHotspot> hotspots) {
-        Set<KnownHotspot> convertedHotspots = Sets.newHashSet();
-        for (KnownHotspot hotspot : hotspots) {
-            KnownHotspot lifted = liftOverKnownHotspot(hotspot);
-
-            if (lifted != null) {
-                convertedHotspots.add(lifted);
-            }
-        }
-
-        return convertedHotspots;
+        return hotspots.parallelStream().map(this::liftOverKnownHotspot).filter(Objects::nonNull).collect(Collectors.toSet());
     }
 
     @NotNull
     private Set<KnownCodon> convertKnownCodons(@NotNull Set<KnownCodon> codons) {
-        Set<KnownCodon> convertedCodons = Sets.newHashSet();
-        for (KnownCodon codon : codons) {
-            KnownCodon lifted = liftOverKnownCodon(codon);
-            if (lifted != null) {
-                if (codon.end() - codon.start() == 2 && lifted.end() - lifted.start() != 2) {
-                    LOGGER.warn(" Skipping liftover from {} to {}: Lifted codon '{}' is no longer 3 bases long. Lifted codon: '{}'",
-                            sourceVersion,
-                            targetVersion,
-                            codon,
-                            lifted);
-                } else {
-                    convertedCodons.add(lifted);
-                }
-            }
-        }
+        return codons.parallelStream().map(this::convertKnownCodon).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
 
-        return convertedCodons;
+    @Nullable
+    private KnownCodon convertKnownCodon(@NotNull KnownCodon codon) {
+        KnownCodon lifted = liftOverKnownCodon(codon);
+        if (lifted != null && codon.end() - codon.start() == 2 && lifted.end() - lifted.start() != 2) {
+            LOGGER.warn(" Skipping liftover from {} to {}: Lifted codon '{}' is no longer 3 bases long. Lifted codon: '{}'",
+                    sourceVersion,
+                    targetVersion,
+                    codon,
+                    lifted);
+            return null;
+        }
+        return lifted;
     }
 
     @NotNull
     private Set<KnownExon> convertKnownExons(@NotNull Set<KnownExon> exons) {
-        Set<KnownExon> convertedExons = Sets.newHashSet();
-        for (KnownExon exon : exons) {
-            KnownExon lifted = liftOverKnownExon(exon);
-            if (lifted != null) {
-                convertedExons.add(lifted);
-            }
-        }
-
-        return convertedExons;
+        return exons.parallelStream().map(this::liftOverKnownExon).filter(Objects::nonNull).collect(Collectors.toSet());
     }
 
     @NotNull
@@ -333,6 +306,6 @@ class RefGenomeConverter {
     @NotNull
     private String sequence(@NotNull String chromosome, long start, long length) {
         String targetChromosome = RefGenomeFunctions.versionedChromosome(chromosome, targetVersion);
-        return targetSequence.getSubsequenceAt(targetChromosome, start, start + length - 1).getBaseString();
+        return targetSequence.subsequence(targetChromosome, start, start + length - 1);
     }
 }
\ No newline at end of file
@@ -1,15 +1,21 @@
 package com.hartwig.serve.refgenome;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import com.google.common.io.Closer;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.RefGenome;
 import com.hartwig.serve.extraction.ExtractionFunctions;
 import com.hartwig.serve.extraction.ExtractionResult;
 import com.hartwig.serve.extraction.ImmutableExtractionResult;
+import com.hartwig.serve.extraction.variant.ProteinResolver;
+import com.hartwig.serve.refgenome.liftover.CachingLiftOverAlgo;
 import com.hartwig.serve.refgenome.liftover.LiftOverAlgo;
 import com.hartwig.serve.refgenome.liftover.UCSCLiftOver;
 
@@ -17,9 +23,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 
-import htsjdk.samtools.reference.IndexedFastaSequenceFile;
-
-public class RefGenomeManager {
+public class RefGenomeManager implements Closeable {
 
     private static final Logger LOGGER = LogManager.getLogger(RefGenomeManager.class);
 
@@ -27,6 +31,8 @@ public class RefGenomeManager {
     private final Map<RefGenome, RefGenomeResource> refGenomeResourceMap;
     @NotNull
     private final ConversionFilter conversionFilter;
+    @NotNull
+    private final Map<String, LiftOverAlgo> liftOverAlgoPerChainFile = new ConcurrentHashMap<>();
 
     public RefGenomeManager(@NotNull final Map<RefGenome, RefGenomeResource> refGenomeResourceMap) {
         this.refGenomeResourceMap = refGenomeResourceMap;
@@ -39,22 +45,45 @@ public class RefGenomeManager {
     }
 
     @NotNull
-    public IndexedFastaSequenceFile refSequenceForRefGenome(@NotNull RefGenome version) {
+    public RefSequenceService refSequenceForRefGenome(@NotNull RefGenome version) {
         return checkedRetrieve(version).refSequence();
     }
 
+    @NotNull
+    public ProteinResolver proteinResolverForRefGenome(@NotNull RefGenome version) {
+        return checkedRetrieve(version).proteinResolver();
+    }
+
     public void evaluate() {
         evaluateProteinResolving();
 
         conversionFilter.reportUnusedFilterEntries();
     }
 
+    public void persistProteinResolvers() throws IOException {
+        for (RefGenomeResource resource : refGenomeResourceMap.values()) {
+            resource.proteinResolver().persist();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Every resource is closed, also when closing one of them fails, so that no transvar worker or fasta reader is left behind.
+        Closer closer = Closer.create();
+        for (RefGenomeResource resource : refGenomeResourceMap.values()) {
+            closer.register(resource.refSequence());
+            closer.register(resource.proteinResolver());
+        }
+        closer.close();
+    }
+
     @NotNull
     public Map<RefGenome, ExtractionResult> makeVersioned(@NotNull List<ExtractionResult> extractions) {
-        return refGenomeResourceMap.keySet().stream().map(version -> {
+        // Every ref genome version is produced concurrently, and every extraction result is converted concurrently as well.
+        return refGenomeResourceMap.keySet().parallelStream().map(version -> {
             LOGGER.info("Creating extraction results for ref genome version {}", version);
             List<ExtractionResult> converted =
-                    extractions.stream().map(extractionResult -> convert(extractionResult, version)).collect(Collectors.toList());
+                    extractions.parallelStream().map(extractionResult -> convert(extractionResult, version)).collect(Collectors.toList());
             return Map.entry(version, ExtractionFunctions.merge(converted));
         }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
@@ -67,10 +96,11 @@ public class RefGenomeManager {
         }
 
         RefGenomeResource sourceResource = checkedRetrieve(sourceVersion);
-        IndexedFastaSequenceFile targetSequence = refSequenceForRefGenome(targetVersion);
+        RefSequenceService targetSequence = refSequenceForRefGenome(targetVersion);
         String chainFromSourceToTarget = sourceResource.chainToOtherRefGenomeMap().get(targetVersion);
 
-        LiftOverAlgo liftOverAlgo = UCSCLiftOver.fromChainFile(chainFromSourceToTarget, targetVersion);
+        LiftOverAlgo liftOverAlgo = liftOverAlgoPerChainFile.computeIfAbsent(chainFromSourceToTarget,
+                chainFile -> new CachingLiftOverAlgo(UCSCLiftOver.fromChainFile(chainFile, targetVersion)));
         RefGenomeConverter converter = new RefGenomeConverter(sourceVersion, targetVersion, targetSequence, liftOverAlgo);
         ExtractionResult filteredExtraction = conversionFilter.filter(extraction);
 
@@ -1,6 +1,5 @@
 package com.hartwig.serve.refgenome;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -15,14 +14,14 @@ import com.hartwig.serve.common.ensemblcache.GeneData;
 import com.hartwig.serve.common.knownfusion.KnownFusionCache;
 import com.hartwig.serve.common.knownfusion.KnownFusionCacheLoader;
 import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.extraction.util.EnsemblTranscriptIndex;
 import com.hartwig.serve.extraction.variant.ProteinResolver;
 import com.hartwig.serve.extraction.variant.ProteinResolverFactory;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
-
-import htsjdk.samtools.reference.IndexedFastaSequenceFile;
+import org.jetbrains.annotations.Nullable;
 
 public final class RefGenomeManagerFactory {
 
@@ -43,16 +42,21 @@ public final class RefGenomeManagerFactory {
     private static RefGenomeResource buildRefGenomeResource37(@NotNull ServeConfig config) throws IOException {
         String fastaFile37 = config.refGenome37FastaFile();
         LOGGER.info("Creating ref genome resource for V37 using fasta {}", fastaFile37);
-        EnsemblDataCache ensemblDataCache37 = loadEnsemblDataCache(RefGenome.V37, config.ensemblDataDir37());
-        ProteinResolver proteinResolver37 = config.skipVariantResolving()
-                ? ProteinResolverFactory.dummy()
-                : ProteinResolverFactory.transvarWithRefGenome(RefGenome.V37, fastaFile37, ensemblDataCache37);
+        RefSequenceService refSequence37 = RefSequenceService.fromFastaFile(fastaFile37);
+        EnsemblTranscriptIndex ensemblTranscriptIndex37 =
+                loadEnsemblTranscriptIndex(RefGenome.V37, config.ensemblDataDir37(), config.ensemblDataCacheSnapshotDir());
+        ProteinResolver proteinResolver37 = buildProteinResolver(config,
+                RefGenome.V37,
+                fastaFile37,
+                refSequence37,
+                ensemblTranscriptIndex37,
+                config.ensemblDataDir37());
 
         return ImmutableRefGenomeResource.builder()
-                .refSequence(new IndexedFastaSequenceFile(new File(fastaFile37)))
+                .refSequence(refSequence37)
                 .driverGenes(readDriverGenesFromFile(config.driverGene37Tsv()))
                 .knownFusionCache(buildKnownFusionCacheFromFile(config.knownFusion37File()))
-                .ensemblDataCache(ensemblDataCache37)
+                .ensemblTranscriptIndex(ensemblTranscriptIndex37)
                 .putChainToOtherRefGenomeMap(RefGenome.V38, config.refGenome37To38Chain())
                 .proteinResolver(proteinResolver37)
                 .build();
@@ -62,21 +66,55 @@ public final class RefGenomeManagerFactory {
     private static RefGenomeResource buildRefGenomeResource38(@NotNull ServeConfig config) throws IOException {
         String fastaFile38 = config.refGenome38FastaFile();
         LOGGER.info("Creating ref genome resource for V38 using fasta {}", fastaFile38);
-        EnsemblDataCache ensemblDataCache38 = loadEnsemblDataCache(RefGenome.V38, config.ensemblDataDir38());
-        ProteinResolver proteinResolver38 = config.skipVariantResolving()
-                ? ProteinResolverFactory.dummy()
-                : ProteinResolverFactory.transvarWithRefGenome(RefGenome.V38, fastaFile38, ensemblDataCache38);
+        RefSequenceService refSequence38 = RefSequenceService.fromFastaFile(fastaFile38);
+        EnsemblTranscriptIndex ensemblTranscriptIndex38 =
+                loadEnsemblTranscriptIndex(RefGenome.V38, config.ensemblDataDir38(), config.ensemblDataCacheSnapshotDir());
+        ProteinResolver proteinResolver38 = buildProteinResolver(config,
+                RefGenome.V38,
+                fastaFile38,
+                refSequence38,
+                ensemblTranscriptIndex38,
+                config.ensemblDataDir38());
 
         return ImmutableRefGenomeResource.builder()
-                .refSequence(new IndexedFastaSequenceFile(new File(fastaFile38)))
+                .refSequence(refSequence38)
                 .driverGenes(readDriverGenesFromFile(config.driverGene38Tsv()))
                 .knownFusionCache(buildKnownFusionCacheFromFile(config.knownFusion38File()))
-                .ensemblDataCache(ensemblDataCache38)
+                .ensemblTranscriptIndex(ensemblTranscriptIndex38)
                 .putChainToOtherRefGenomeMap(RefGenome.V37, config.refGenome38To37Chain())
                 .proteinResolver(proteinResolver38)
                 .build();
     }
 
+    @NotNull
+    private static ProteinResolver buildProteinResolver(@NotNull ServeConfig config, @NotNull RefGenome refGenome,
+            @NotNull String fastaFile, @NotNull RefSequenceService refSequence, @NotNull EnsemblTranscriptIndex ensemblTranscriptIndex,
+            @NotNull String ensemblDataDir)
+            throws IOException {
+        if (config.skipVariantResolving()) {
+            return ProteinResolverFactory.dummy();
+        }
+
+        int workerCount = config.transvarWorkerCount();
+        if (workerCount > 0) {
+            LOGGER.info(" Resolving protein annotations using {} transvar workers", workerCount);
+        }
+
+        String cacheDir = config.proteinResolverCacheDir();
+        if (cacheDir == null) {
+            return ProteinResolverFactory.transvarWithRefGenome(refGenome, fastaFile, refSequence, ensemblTranscriptIndex, workerCount);
+        }
+
+        LOGGER.info(" Loading protein resolver cache from {}", cacheDir);
+        return ProteinResolverFactory.cachedTransvarWithRefGenome(refGenome,
+                fastaFile,
+                refSequence,
+                ensemblTranscriptIndex,
+                workerCount,
+                ensemblDataDir,
+                cacheDir);
+    }
+
     @NotNull
     private static List<DriverGene> readDriverGenesFromFile(@NotNull String driverGeneTsv) throws IOException {
         LOGGER.info(" Reading driver genes from {}", driverGeneTsv);
@@ -94,14 +132,15 @@ public final class RefGenomeManagerFactory {
     }
 
     @NotNull
-    private static EnsemblDataCache loadEnsemblDataCache(@NotNull RefGenome refGenome, @NotNull String ensemblDataDir) throws IOException {
+    private static EnsemblTranscriptIndex loadEnsemblTranscriptIndex(@NotNull RefGenome refGenome, @NotNull String ensemblDataDir,
+            @Nullable String snapshotDir) throws IOException {
         LOGGER.info(" Reading ensembl data cache from {}", ensemblDataDir);
-        EnsemblDataCache ensemblDataCache = EnsemblDataLoader.load(ensemblDataDir, refGenome);
+        EnsemblDataCache ensemblDataCache = EnsemblDataLoader.load(ensemblDataDir, refGenome, snapshotDir);
         int geneCount = 0;
         for (List<GeneData> genesPerChromosome : ensemblDataCache.genesPerChromosome().values()) {
             geneCount += genesPerChromosome.size();
         }
         LOGGER.info("  Loaded entries for {} genes", geneCount);
-        return ensemblDataCache;
+        return EnsemblTranscriptIndex.create(ensemblDataCache);
     }
 }
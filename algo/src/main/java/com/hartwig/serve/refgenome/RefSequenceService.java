@@ -0,0 +1,150 @@
+package com.hartwig.serve.refgenome;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import org.jetbrains.annotations.NotNull;
+
+import htsjdk.samtools.SAMSequenceDictionary;
+import htsjdk.samtools.reference.FastaSequenceIndex;
+import htsjdk.samtools.reference.FastaSequenceIndexEntry;
+import htsjdk.samtools.reference.IndexedFastaSequenceFile;
+
+public class RefSequenceService implements Closeable {
+
+    static final int DEFAULT_WINDOW_SIZE = 1024;
+    static final int DEFAULT_MAX_CACHED_WINDOWS = 4096;
+
+    @NotNull
+    private final File fastaFile;
+    @NotNull
+    private final FastaSequenceIndex fastaIndex;
+    private final int windowSize;
+    @NotNull
+    private final List<IndexedFastaSequenceFile> readers = Lists.newArrayList();
+    @NotNull
+    private final Queue<IndexedFastaSequenceFile> idleReaders = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+    @NotNull
+    private final LoadingCache<Map.Entry<String, Integer>, String> basesPerWindow;
+
+    @NotNull
+    public static RefSequenceService fromFastaFile(@NotNull String fastaFile) throws FileNotFoundException {
+        return new RefSequenceService(new File(fastaFile), DEFAULT_WINDOW_SIZE, DEFAULT_MAX_CACHED_WINDOWS);
+    }
+
+    RefSequenceService(@NotNull final File fastaFile, int windowSize, int maxCachedWindows) throws FileNotFoundException {
+        File indexFile = new File(fastaFile.getPath() + ".fai");
+        if (!fastaFile.exists() || !indexFile.exists()) {
+            throw new FileNotFoundException("Could not find fasta file or index for " + fastaFile);
+        }
+
+        this.fastaFile = fastaFile;
+        this.fastaIndex = new FastaSequenceIndex(indexFile.toPath());
+        this.windowSize = windowSize;
+        this.basesPerWindow = CacheBuilder.newBuilder().maximumSize(maxCachedWindows).build(new CacheLoader<>() {
+            @NotNull
+            @Override
+            public String load(@NotNull Map.Entry<String, Integer> window) {
+                return readWindow(window.getKey(), window.getValue());
+            }
+        });
+    }
+
+    @NotNull
+    public SAMSequenceDictionary sequenceDictionary() {
+        return withReader(IndexedFastaSequenceFile::getSequenceDictionary);
+    }
+
+    @NotNull
+    public String subsequence(@NotNull String chromosome, long start, long end) {
+        checkNotClosed();
+
+        FastaSequenceIndexEntry entry = fastaIndex.hasIndexEntry(chromosome) ? fastaIndex.getIndexEntry(chromosome) : null;
+        if (entry == null || start < 1 || end < start || end > entry.getSize()) {
+            // Requests outside of the contig are passed on as-is to let the reader report them.
+            return withReader(reader -> reader.getSubsequenceAt(chromosome, start, end).getBaseString());
+        }
+
+        // Known events cluster in a limited set of genes, so bases are read and cached per window around the requested range.
+        int firstWindow = (int) ((start - 1) / windowSize);
+        int lastWindow = (int) ((end - 1) / windowSize);
+        StringBuilder bases = new StringBuilder((int) (end - start + 1));
+        for (int window = firstWindow; window <= lastWindow; window++) {
+            String windowBases = basesPerWindow.getUnchecked(Maps.immutableEntry(chromosome, window));
+            long windowStart = (long) window * windowSize + 1;
+            int from = (int) (Math.max(start, windowStart) - windowStart);
+            int to = (int) (Math.min(end, windowStart + windowBases.length() - 1) - windowStart + 1);
+            bases.append(windowBases, from, to);
+        }
+        return bases.toString();
+    }
+
+    @NotNull
+    private String readWindow(@NotNull String chromosome, int window) {
+        long windowStart = (long) window * windowSize + 1;
+        long windowEnd = Math.min(windowStart + windowSize - 1, fastaIndex.getIndexEntry(chromosome).getSize());
+        return withReader(reader -> reader.getSubsequenceAt(chromosome, windowStart, windowEnd).getBaseString());
+    }
+
+    @NotNull
+    private <T> T withReader(@NotNull Function<IndexedFastaSequenceFile, T> read) {
+        // The htsjdk fasta reader keeps state between reads, so a reader is only used by one thread at a time. Readers are reused
+        // across threads, so that no more readers are opened than the number of threads reading concurrently.
+        checkNotClosed();
+        IndexedFastaSequenceFile reader = idleReaders.poll();
+        if (reader == null) {
+            reader = openReader();
+        }
+
+        try {
+            return read.apply(reader);
+        } finally {
+            idleReaders.offer(reader);
+        }
+    }
+
+    @NotNull
+    private synchronized IndexedFastaSequenceFile openReader() {
+        checkNotClosed();
+        IndexedFastaSequenceFile reader = new IndexedFastaSequenceFile(fastaFile, fastaIndex);
+        readers.add(reader);
+        return reader;
+    }
+
+    @VisibleForTesting
+    synchronized int openedReaderCount() {
+        return readers.size();
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("Ref sequence service for " + fastaFile + " has been closed");
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        // Every reader ever opened is closed, including readers that are in use by another thread at this moment.
+        closed = true;
+        idleReaders.clear();
+        for (IndexedFastaSequenceFile reader : readers) {
+            reader.close();
+        }
+        readers.clear();
+    }
+}
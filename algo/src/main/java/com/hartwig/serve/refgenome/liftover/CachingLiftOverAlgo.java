@@ -0,0 +1,58 @@
+package com.hartwig.serve.refgenome.liftover;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class CachingLiftOverAlgo implements LiftOverAlgo {
+
+    @NotNull
+    private final LiftOverAlgo liftOverAlgo;
+    @NotNull
+    private final Map<PositionKey, Optional<LiftOverResult>> liftOverCache = new ConcurrentHashMap<>();
+
+    public CachingLiftOverAlgo(@NotNull final LiftOverAlgo liftOverAlgo) {
+        this.liftOverAlgo = liftOverAlgo;
+    }
+
+    @Nullable
+    @Override
+    public LiftOverResult liftOver(@NotNull String chromosome, int position) {
+        // Positions that can't be lifted are cached as well, as they are typically requested repeatedly.
+        return liftOverCache.computeIfAbsent(new PositionKey(chromosome, position),
+                key -> Optional.ofNullable(liftOverAlgo.liftOver(chromosome, position))).orElse(null);
+    }
+
+    private static class PositionKey {
+
+        @NotNull
+        private final String chromosome;
+        private final int position;
+
+        public PositionKey(@NotNull final String chromosome, final int position) {
+            this.chromosome = chromosome;
+            this.position = position;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final PositionKey that = (PositionKey) o;
+            return position == that.position && chromosome.equals(that.chromosome);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(chromosome, position);
+        }
+    }
+}
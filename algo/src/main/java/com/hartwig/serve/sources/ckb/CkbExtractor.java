@@ -5,6 +5,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.Sets;
 import com.hartwig.serve.ckb.classification.CkbConstants;
 import com.hartwig.serve.ckb.classification.CkbEventAndGeneExtractor;
 import com.hartwig.serve.ckb.classification.CkbEventTypeExtractor;
@@ -24,6 +25,7 @@ import com.hartwig.serve.extraction.ImmutableEventExtractorOutput;
 import com.hartwig.serve.extraction.ImmutableExtractionResult;
 import com.hartwig.serve.extraction.events.EventInterpretation;
 import com.hartwig.serve.extraction.events.ImmutableEventInterpretation;
+import com.hartwig.serve.extraction.variant.ProteinAnnotationQuery;
 import com.hartwig.serve.util.ProgressTracker;
 
 import org.apache.logging.log4j.LogManager;
@@ -55,13 +57,33 @@ public class CkbExtractor {
     public ExtractionResult extract(@NotNull List<CkbEntry> entries) {
         ProgressTracker tracker = new ProgressTracker("CKB", entries.size());
         // Assume entries without variants are filtered out prior to extraction
-        List<ExtractionResult> extractions = entries.parallelStream()
+        return entries.parallelStream()
                 .map(this::getExtractionResult)
                 .peek(e -> tracker.update())
                 .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+                .collect(ExtractionFunctions.toMergedExtractionResult());
+    }
+
+    @NotNull
+    public Set<ProteinAnnotationQuery> proteinAnnotationQueries(@NotNull List<CkbEntry> entries) {
+        Set<ProteinAnnotationQuery> queries = Sets.newHashSet();
+        for (CkbEntry entry : entries) {
+            if (entry.type() == EventType.UNKNOWN) {
+                continue;
+            }
 
-        return ExtractionFunctions.merge(extractions);
+            for (Variant variant : entry.variants()) {
+                EventType eventType = CkbEventTypeExtractor.classify(variant);
+                String gene = CkbEventAndGeneExtractor.extractGene(variant);
+                String event = CkbEventAndGeneExtractor.extractEvent(variant);
+
+                ProteinAnnotationQuery query = eventExtractor.proteinAnnotationQuery(gene, null, eventType, event);
+                if (query != null) {
+                    queries.add(query);
+                }
+            }
+        }
+        return queries;
     }
 
     @Nullable
@@ -13,7 +13,9 @@ import com.hartwig.serve.datamodel.molecular.hotspot.ImmutableKnownHotspot;
 import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
 import com.hartwig.serve.extraction.ExtractionResult;
 import com.hartwig.serve.extraction.ImmutableExtractionResult;
+import com.hartwig.serve.extraction.variant.ImmutableProteinAnnotationQuery;
 import com.hartwig.serve.extraction.variant.KnownHotspotConsolidation;
+import com.hartwig.serve.extraction.variant.ProteinAnnotationQuery;
 import com.hartwig.serve.extraction.variant.ProteinResolver;
 import com.hartwig.serve.extraction.variant.Variant;
 import com.hartwig.serve.util.ProgressTracker;
@@ -29,6 +31,17 @@ public class DocmExtractor {
         this.proteinResolver = proteinResolver;
     }
 
+    @NotNull
+    public Set<ProteinAnnotationQuery> proteinAnnotationQueries(@NotNull List<DocmEntry> entries) {
+        return entries.stream()
+                .map(entry -> ImmutableProteinAnnotationQuery.builder()
+                        .gene(entry.gene())
+                        .transcript(entry.transcript())
+                        .proteinAnnotation(entry.proteinAnnotation())
+                        .build())
+                .collect(Collectors.toSet());
+    }
+
     @NotNull
     public ExtractionResult extract(@NotNull List<DocmEntry> entries) {
         ProgressTracker tracker = new ProgressTracker("DoCM", entries.size());
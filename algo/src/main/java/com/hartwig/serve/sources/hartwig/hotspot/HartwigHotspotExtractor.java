@@ -17,8 +17,10 @@ import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
 import com.hartwig.serve.extraction.ExtractionResult;
 import com.hartwig.serve.extraction.ImmutableExtractionResult;
 import com.hartwig.serve.extraction.util.KeyFormatter;
+import com.hartwig.serve.extraction.variant.ImmutableProteinAnnotationQuery;
 import com.hartwig.serve.extraction.variant.ImmutableVariant;
 import com.hartwig.serve.extraction.variant.KnownHotspotConsolidation;
+import com.hartwig.serve.extraction.variant.ProteinAnnotationQuery;
 import com.hartwig.serve.extraction.variant.ProteinResolver;
 import com.hartwig.serve.extraction.variant.Variant;
 import com.hartwig.serve.util.ProgressTracker;
@@ -44,6 +46,18 @@ public class HartwigHotspotExtractor {
         this.addExplicitHotspots = addExplicitHotspots;
     }
 
+    @NotNull
+    public Set<ProteinAnnotationQuery> proteinAnnotationQueries(@NotNull List<HartwigHotspotEntry> entries) {
+        return entries.stream()
+                .filter(entry -> !entry.proteinAnnotation().isEmpty())
+                .map(entry -> ImmutableProteinAnnotationQuery.builder()
+                        .gene(entry.gene())
+                        .transcript(entry.transcript())
+                        .proteinAnnotation(entry.proteinAnnotation())
+                        .build())
+                .collect(Collectors.toSet());
+    }
+
     @NotNull
     public ExtractionResult extract(@NotNull List<HartwigHotspotEntry> entries) {
         ProgressTracker tracker = new ProgressTracker("Hartwig Hotspots", entries.size());
@@ -51,6 +51,7 @@ import com.hartwig.serve.extraction.exon.ExonConsolidation;
 import com.hartwig.serve.extraction.fusion.FusionConsolidation;
 import com.hartwig.serve.extraction.immuno.ImmunoHLA;
 import com.hartwig.serve.extraction.variant.KnownHotspotConsolidation;
+import com.hartwig.serve.extraction.variant.ProteinAnnotationQuery;
 import com.hartwig.serve.util.ProgressTracker;
 import com.hartwig.serve.vicc.annotation.ViccProteinAnnotationExtractor;
 import com.hartwig.serve.vicc.datamodel.Feature;
@@ -94,6 +95,24 @@ public final class ViccExtractor {
         return ExtractionFunctions.merge(extractions);
     }
 
+    @NotNull
+    public Set<ProteinAnnotationQuery> proteinAnnotationQueries(@NotNull List<ViccEntry> entries) {
+        Set<ProteinAnnotationQuery> queries = Sets.newHashSet();
+        for (ViccEntry entry : entries) {
+            for (Feature feature : entry.features()) {
+                String gene = feature.geneSymbol();
+                if (gene != null) {
+                    ProteinAnnotationQuery query =
+                            eventExtractor.proteinAnnotationQuery(gene, entry.transcriptId(), feature.type(), feature.name());
+                    if (query != null) {
+                        queries.add(query);
+                    }
+                }
+            }
+        }
+        return queries;
+    }
+
     @NotNull
     private ViccExtractionResult extractEntry(@NotNull ViccEntry entry) {
         Map<Feature, EventInterpretation> eventInterpretationPerFeature = Maps.newHashMap();
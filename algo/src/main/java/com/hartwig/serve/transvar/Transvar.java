@@ -1,6 +1,5 @@
 package com.hartwig.serve.transvar;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
@@ -8,13 +7,13 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.hartwig.serve.common.ensemblcache.EnsemblDataCache;
 import com.hartwig.serve.datamodel.RefGenome;
-import com.hartwig.serve.extraction.util.EnsemblFunctions;
+import com.hartwig.serve.extraction.util.EnsemblTranscriptIndex;
 import com.hartwig.serve.extraction.util.HmfTranscriptRegion;
 import com.hartwig.serve.extraction.util.KeyFormatter;
 import com.hartwig.serve.extraction.variant.ProteinResolver;
 import com.hartwig.serve.extraction.variant.Variant;
+import com.hartwig.serve.refgenome.RefSequenceService;
 import com.hartwig.serve.transvar.datamodel.TransvarRecord;
 
 import org.apache.logging.log4j.LogManager;
@@ -31,7 +30,7 @@ public class Transvar implements ProteinResolver {
     @NotNull
     private final TransvarInterpreter interpreter;
     @NotNull
-    private final EnsemblDataCache ensemblDataCache;
+    private final EnsemblTranscriptIndex ensemblTranscriptIndex;
     @NotNull
     private final ConcurrentHashMap<String, List<Variant>> variantsByProteinKey = new ConcurrentHashMap<>();
     @NotNull
@@ -39,18 +38,27 @@ public class Transvar implements ProteinResolver {
 
     @NotNull
     public static Transvar withRefGenome(@NotNull RefGenome refGenome, @NotNull String refGenomeFastaFile,
-            @NotNull EnsemblDataCache ensemblDataCache) throws FileNotFoundException {
-        return new Transvar(new TransvarProcessImpl(refGenome, refGenomeFastaFile),
-                TransvarInterpreter.withRefGenome(refGenome, refGenomeFastaFile),
-                ensemblDataCache);
+            @NotNull RefSequenceService refSequence, @NotNull EnsemblTranscriptIndex ensemblTranscriptIndex) {
+        return withRefGenome(refGenome, refGenomeFastaFile, refSequence, ensemblTranscriptIndex, 0);
+    }
+
+    @NotNull
+    public static Transvar withRefGenome(@NotNull RefGenome refGenome, @NotNull String refGenomeFastaFile,
+            @NotNull RefSequenceService refSequence, @NotNull EnsemblTranscriptIndex ensemblTranscriptIndex, int workerCount) {
+        // Without workers, every protein annotation is resolved by a dedicated transvar process.
+        TransvarProcess process = workerCount > 0
+                ? new TransvarWorkerPool(refGenome, refGenomeFastaFile, workerCount)
+                : new TransvarProcessImpl(refGenome, refGenomeFastaFile);
+
+        return new Transvar(process, TransvarInterpreter.withRefGenome(refGenome, refSequence), ensemblTranscriptIndex);
     }
 
     @VisibleForTesting
     Transvar(@NotNull final TransvarProcess process, @NotNull final TransvarInterpreter interpreter,
-            @NotNull final EnsemblDataCache ensemblDataCache) {
+            @NotNull final EnsemblTranscriptIndex ensemblTranscriptIndex) {
         this.process = process;
         this.interpreter = interpreter;
-        this.ensemblDataCache = ensemblDataCache;
+        this.ensemblTranscriptIndex = ensemblTranscriptIndex;
     }
 
     @Override
@@ -77,6 +85,11 @@ public class Transvar implements ProteinResolver {
         return unresolvedProteinAnnotations;
     }
 
+    @Override
+    public void close() {
+        process.close();
+    }
+
     @NotNull
     private List<Variant> extractVariantsForAnnotation(@NotNull String gene, @Nullable String specificTranscript,
             @NotNull String proteinAnnotation) {
@@ -87,7 +100,7 @@ public class Transvar implements ProteinResolver {
             return Collections.emptyList();
         }
 
-        HmfTranscriptRegion canonicalTranscript = EnsemblFunctions.findCanonicalTranscript(ensemblDataCache, gene);
+        HmfTranscriptRegion canonicalTranscript = ensemblTranscriptIndex.findCanonicalTranscript(gene);
         if (canonicalTranscript == null) {
             LOGGER.warn("Could not find canonical transcript for '{}' in ensembl data cache. Skipping variant extraction for 'p.{}'",
                     gene,
@@ -3,8 +3,6 @@ package com.hartwig.serve.transvar;
 import static com.hartwig.serve.transvar.util.Nucleotides.reverseStrandBases;
 import static com.hartwig.serve.util.AminoAcids.findAminoAcidForCodon;
 
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.util.List;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -14,6 +12,7 @@ import com.hartwig.serve.common.ensemblcache.Strand;
 import com.hartwig.serve.datamodel.RefGenome;
 import com.hartwig.serve.extraction.variant.ImmutableVariant;
 import com.hartwig.serve.extraction.variant.Variant;
+import com.hartwig.serve.refgenome.RefSequenceService;
 import com.hartwig.serve.transvar.datamodel.TransvarAnnotation;
 import com.hartwig.serve.transvar.datamodel.TransvarComplexInsertDelete;
 import com.hartwig.serve.transvar.datamodel.TransvarDeletion;
@@ -30,8 +29,6 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import htsjdk.samtools.reference.IndexedFastaSequenceFile;
-
 class TransvarInterpreter {
 
     private static final Logger LOGGER = LogManager.getLogger(TransvarInterpreter.class);
@@ -39,17 +36,16 @@ class TransvarInterpreter {
     @NotNull
     private final RefGenome refGenome;
     @NotNull
-    private final IndexedFastaSequenceFile refGenomeFasta;
+    private final RefSequenceService refSequence;
 
     @NotNull
-    static TransvarInterpreter withRefGenome(@NotNull RefGenome refGenome, @NotNull String refGenomeFastaFile)
-            throws FileNotFoundException {
-        return new TransvarInterpreter(refGenome, new IndexedFastaSequenceFile(new File(refGenomeFastaFile)));
+    static TransvarInterpreter withRefGenome(@NotNull RefGenome refGenome, @NotNull RefSequenceService refSequence) {
+        return new TransvarInterpreter(refGenome, refSequence);
     }
 
-    private TransvarInterpreter(@NotNull final RefGenome refGenome, @NotNull final IndexedFastaSequenceFile refGenomeFasta) {
+    private TransvarInterpreter(@NotNull final RefGenome refGenome, @NotNull final RefSequenceService refSequence) {
         this.refGenome = refGenome;
-        this.refGenomeFasta = refGenomeFasta;
+        this.refSequence = refSequence;
     }
 
     @NotNull
@@ -463,7 +459,7 @@ class TransvarInterpreter {
     @NotNull
     private String refSequence(@NotNull String chromosome, int start, int end) {
         String versionedChromosome = RefGenomeFunctions.versionedChromosome(chromosome, refGenome);
-        return refGenomeFasta.getSubsequenceAt(versionedChromosome, start, end).getBaseString();
+        return refSequence.subsequence(versionedChromosome, start, end);
     }
 
     @NotNull
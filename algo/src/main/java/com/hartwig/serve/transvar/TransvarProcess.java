@@ -1,5 +1,6 @@
 package com.hartwig.serve.transvar;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
 
@@ -7,8 +8,13 @@ import com.hartwig.serve.transvar.datamodel.TransvarRecord;
 
 import org.jetbrains.annotations.NotNull;
 
-interface TransvarProcess {
+interface TransvarProcess extends Closeable {
 
     @NotNull
     List<TransvarRecord> runTransvarPanno(@NotNull String gene, @NotNull String proteinAnnotation) throws InterruptedException, IOException;
+
+    @Override
+    default void close() {
+        // By default a transvar process holds no resources beyond a single annotation.
+    }
 }
@@ -24,7 +24,7 @@ class TransvarProcessImpl implements TransvarProcess {
     // DUPs give rise to errors in transvar but do lead to interpretable output so error can be ignored.
     private static final Set<String> ERRORS_TO_IGNORE = Sets.newHashSet("warning: unknown alternative: DUP, ignore alternative");
 
-    private static final int TRANSVAR_TIMEOUT_SEC = 120;
+    static final int TRANSVAR_TIMEOUT_SEC = 120;
 
     @NotNull
     private final RefGenome refGenome;
@@ -57,32 +57,49 @@ class TransvarProcessImpl implements TransvarProcess {
             throw new RuntimeException(String.format("'%s' failed with non-zero exit code '%s'", command, process.exitValue()));
         }
 
-        List<String> stderr = filterErrorOutput(captureStderr(process));
+        reportErrorOutput(command, captureStderr(process));
+
+        return toTransvarRecords(captureStdout(process));
+    }
+
+    static void reportErrorOutput(@NotNull String command, @NotNull List<String> errors) {
+        List<String> stderr = filterErrorOutput(errors);
         if (!stderr.isEmpty()) {
             LOGGER.warn("Non-empty stderr when running '{}'!", command);
             for (String errLine : stderr) {
                 LOGGER.warn(" {}", errLine);
             }
         }
+    }
 
+    @NotNull
+    static List<TransvarRecord> toTransvarRecords(@NotNull List<String> stdoutLines) {
         List<TransvarRecord> records = Lists.newArrayList();
-        for (String stdoutLine : captureStdout(process)) {
+        for (String stdoutLine : stdoutLines) {
             LOGGER.debug("Converting transvar output line to TransvarRecord: '{}'", stdoutLine);
             TransvarRecord record = TransvarConverter.toTransvarRecord(stdoutLine);
             if (record != null) {
                 records.add(record);
             }
         }
-
         return records;
     }
 
     @NotNull
     private ProcessBuilder buildProcessBuilder(@NotNull String gene, @NotNull String proteinAnnotation) {
-        String curatedGene = curator.curateGene(gene);
-        String curatedProteinAnnotation = curator.curateProteinAnnotation(proteinAnnotation);
+        String input = toTransvarInput(curator, gene, proteinAnnotation);
+        ProcessBuilder processBuilder = new ProcessBuilder(transvarPannoCommand(refGenome, refGenomeFastaFile, "-i", input));
 
-        ProcessBuilder processBuilder = new ProcessBuilder("transvar",
+        // Below is required on environments where LC_CTYPE is not properly configured (usually on apple).
+        processBuilder.environment().put("LC_CTYPE", "UTF-8");
+
+        return processBuilder;
+    }
+
+    @NotNull
+    static List<String> transvarPannoCommand(@NotNull RefGenome refGenome, @NotNull String refGenomeFastaFile, @NotNull String inputFlag,
+            @NotNull String input) {
+        return Lists.newArrayList("transvar",
                 "panno",
                 "--reference",
                 refGenomeFastaFile,
@@ -90,13 +107,13 @@ class TransvarProcessImpl implements TransvarProcess {
                 toTransvarRefVersion(refGenome),
                 "--noheader",
                 "--ensembl",
-                "-i",
-                curatedGene + ":p." + curatedProteinAnnotation);
-
-        // Below is required on environments where LC_CTYPE is not properly configured (usually on apple).
-        processBuilder.environment().put("LC_CTYPE", "UTF-8");
+                inputFlag,
+                input);
+    }
 
-        return processBuilder;
+    @NotNull
+    static String toTransvarInput(@NotNull TransvarCurator curator, @NotNull String gene, @NotNull String proteinAnnotation) {
+        return curator.curateGene(gene) + ":p." + curator.curateProteinAnnotation(proteinAnnotation);
     }
 
     @NotNull
@@ -0,0 +1,226 @@
+package com.hartwig.serve.transvar;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+class TransvarWorker {
+
+    private static final Logger LOGGER = LogManager.getLogger(TransvarWorker.class);
+
+    // Every query is followed by a query that transvar can never resolve. Transvar echoes every input as the first column of its
+    // output, so the line for this query marks the end of the output for the actual query.
+    private static final String END_OF_QUERY_GENE = "SERVE_END_OF_QUERY";
+    static final String END_OF_QUERY_INPUT = END_OF_QUERY_GENE + ":p.M1I";
+
+    private static final String FIELD_DELIMITER = "\t";
+    private static final int MAX_ATTEMPTS = 2;
+
+    @NotNull
+    private final List<String> command;
+    private final int timeoutSeconds;
+    // A lock rather than synchronized, so that virtual threads waiting for the transvar process do not pin their carrier thread.
+    @NotNull
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean closed;
+    @Nullable
+    private Process process;
+    @Nullable
+    private BufferedWriter stdin;
+    @Nullable
+    private BufferedReader output;
+    @Nullable
+    private ExecutorService outputReader;
+
+    TransvarWorker(@NotNull final List<String> command, int timeoutSeconds) {
+        this.command = command;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @NotNull
+    List<String> query(@NotNull String input) throws IOException, InterruptedException {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            ensureStarted();
+
+            List<String> errors = Lists.newArrayList();
+            List<String> output = sendAndReceive(input, errors);
+            TransvarProcessImpl.reportErrorOutput(String.join(" ", command), errors);
+            if (output != null) {
+                return output;
+            }
+
+            LOGGER.warn("Transvar worker '{}' terminated while processing '{}' (attempt {} of {})",
+                    String.join(" ", command),
+                    input,
+                    attempt,
+                    MAX_ATTEMPTS);
+            stop();
+        }
+
+        throw new RuntimeException(String.format("Transvar worker '%s' repeatedly failed to process '%s'",
+                String.join(" ", command),
+                input));
+    }
+
+    void close() {
+        // A closed worker never starts a new transvar process, also not when it is closed while processing a query.
+        closed = true;
+        stop();
+    }
+
+    private void stop() {
+        lock.lock();
+        try {
+            if (process != null) {
+                try {
+                    // Closing stdin makes transvar exit gracefully once all pending input has been processed.
+                    stdin.close();
+                    if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                } catch (IOException | InterruptedException exception) {
+                    process.destroyForcibly();
+                }
+                outputReader.shutdownNow();
+                process = null;
+                stdin = null;
+                output = null;
+                outputReader = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureStarted() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IOException("Transvar worker '" + String.join(" ", command) + "' has been closed");
+            }
+
+            if (process == null || !process.isAlive()) {
+                // Release the remains of a process that terminated by itself before starting a new one.
+                stop();
+                start();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void start() throws IOException {
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+        // Below is required on environments where LC_CTYPE is not properly configured (usually on apple).
+        processBuilder.environment().put("LC_CTYPE", "UTF-8");
+        // Make sure transvar flushes every output line rather than buffering until it exits.
+        processBuilder.environment().put("PYTHONUNBUFFERED", "1");
+        // Stderr is merged into stdout so that errors arrive in order with the output, and hence before the end-of-query marker.
+        processBuilder.redirectErrorStream(true);
+
+        LOGGER.debug("Starting transvar worker '{}'", String.join(" ", command));
+        process = processBuilder.start();
+        stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
+        output = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        outputReader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transvar-worker-output");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Nullable
+    private List<String> sendAndReceive(@NotNull String input, @NotNull List<String> errors) throws IOException, InterruptedException {
+        BufferedWriter writer;
+        BufferedReader reader;
+        ExecutorService executor;
+        lock.lock();
+        try {
+            if (process == null) {
+                return null;
+            }
+            writer = stdin;
+            reader = output;
+            executor = outputReader;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writer.write(input);
+            writer.newLine();
+            writer.write(END_OF_QUERY_INPUT);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException exception) {
+            LOGGER.debug("Could not send '{}' to transvar worker", input, exception);
+            return null;
+        }
+
+        Future<List<String>> queryOutput;
+        try {
+            queryOutput = executor.submit(() -> readUntilEndOfQuery(reader, input, errors));
+        } catch (RejectedExecutionException exception) {
+            // The worker has been stopped in the meantime.
+            return null;
+        }
+
+        try {
+            try {
+                return queryOutput.get(timeoutSeconds, TimeUnit.SECONDS);
+            } catch (TimeoutException exception) {
+                LOGGER.info("Timeout. Transvar worker took more than {} {} to process '{}'", timeoutSeconds, TimeUnit.SECONDS, input);
+                // We still continue to wait forever. Assume transvar will eventually succeed.
+                return queryOutput.get();
+            }
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof IOException) {
+                LOGGER.debug("Could not read output of transvar worker for '{}'", input, exception.getCause());
+                return null;
+            }
+            throw new RuntimeException(exception.getCause());
+        }
+    }
+
+    @VisibleForTesting
+    @Nullable
+    static List<String> readUntilEndOfQuery(@NotNull BufferedReader reader, @NotNull String input, @NotNull List<String> errors)
+            throws IOException {
+        List<String> output = Lists.newArrayList();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String echoedInput = line.split(FIELD_DELIMITER, 2)[0];
+            if (echoedInput.equals(END_OF_QUERY_INPUT)) {
+                return output;
+            } else if (echoedInput.equals(input)) {
+                output.add(line);
+            } else if (!line.contains(END_OF_QUERY_GENE)) {
+                // The end-of-query marker can never be resolved, any complaints about it are expected.
+                errors.add(line);
+            }
+        }
+
+        // The worker terminated before the end of the query was reached.
+        return null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.hartwig.serve.transvar;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.transvar.datamodel.TransvarRecord;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+class TransvarWorkerPool implements TransvarProcess {
+
+    private static final Logger LOGGER = LogManager.getLogger(TransvarWorkerPool.class);
+
+    @NotNull
+    private final TransvarCurator curator = new TransvarCurator();
+    @NotNull
+    private final List<TransvarWorker> workers;
+    @NotNull
+    private final BlockingQueue<TransvarWorker> idleWorkers;
+
+    TransvarWorkerPool(@NotNull RefGenome refGenome, @NotNull String refGenomeFastaFile, int workerCount) {
+        this(TransvarProcessImpl.transvarPannoCommand(refGenome, refGenomeFastaFile, "-l", "/dev/stdin"), workerCount);
+    }
+
+    TransvarWorkerPool(@NotNull List<String> workerCommand, int workerCount) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Transvar worker pool requires at least one worker: " + workerCount);
+        }
+
+        LOGGER.debug("Creating transvar worker pool with {} workers running '{}'", workerCount, String.join(" ", workerCommand));
+        List<TransvarWorker> createdWorkers = Lists.newArrayList();
+        for (int i = 0; i < workerCount; i++) {
+            // Workers only start their transvar process upon their first query.
+            createdWorkers.add(new TransvarWorker(workerCommand, TransvarProcessImpl.TRANSVAR_TIMEOUT_SEC));
+        }
+        this.workers = ImmutableList.copyOf(createdWorkers);
+        this.idleWorkers = new ArrayBlockingQueue<>(workerCount, false, workers);
+    }
+
+    @NotNull
+    @Override
+    public List<TransvarRecord> runTransvarPanno(@NotNull String gene, @NotNull String proteinAnnotation)
+            throws InterruptedException, IOException {
+        return TransvarProcessImpl.toTransvarRecords(query(TransvarProcessImpl.toTransvarInput(curator, gene, proteinAnnotation)));
+    }
+
+    @NotNull
+    List<String> query(@NotNull String input) throws InterruptedException, IOException {
+        TransvarWorker worker = idleWorkers.take();
+        try {
+            return worker.query(input);
+        } finally {
+            idleWorkers.put(worker);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Workers that are processing a query are closed as well, so that no transvar process outlives the pool.
+        for (TransvarWorker worker : workers) {
+            worker.close();
+        }
+    }
+}
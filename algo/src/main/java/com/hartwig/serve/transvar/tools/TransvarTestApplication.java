@@ -5,7 +5,9 @@ import java.util.List;
 
 import com.hartwig.serve.common.ensemblcache.EnsemblDataLoader;
 import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.extraction.util.EnsemblTranscriptIndex;
 import com.hartwig.serve.extraction.variant.Variant;
+import com.hartwig.serve.refgenome.RefSequenceService;
 import com.hartwig.serve.transvar.Transvar;
 
 import org.apache.commons.cli.DefaultParser;
@@ -39,13 +41,15 @@ public class TransvarTestApplication {
 
         Transvar transvar37 = Transvar.withRefGenome(RefGenome.V37,
                 config.refGenome37FastaFile(),
-                EnsemblDataLoader.load(config.ensemblDataDir37(), RefGenome.V37));
+                RefSequenceService.fromFastaFile(config.refGenome37FastaFile()),
+                EnsemblTranscriptIndex.create(EnsemblDataLoader.load(config.ensemblDataDir37(), RefGenome.V37)));
 
         extractAndPrintVariants(transvar37, config.gene37(), config.transcript37(), config.protein37());
 
         Transvar transvar38 = Transvar.withRefGenome(RefGenome.V38,
                 config.refGenome38FastaFile(),
-                EnsemblDataLoader.load(config.ensemblDataDir38(), RefGenome.V38));
+                RefSequenceService.fromFastaFile(config.refGenome38FastaFile()),
+                EnsemblTranscriptIndex.create(EnsemblDataLoader.load(config.ensemblDataDir38(), RefGenome.V38)));
 
         extractAndPrintVariants(transvar38, config.gene38(), config.transcript38(), config.protein38());
     }
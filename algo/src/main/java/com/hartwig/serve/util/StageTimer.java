@@ -0,0 +1,49 @@
+package com.hartwig.serve.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+public final class StageTimer {
+
+    private static final Logger LOGGER = LogManager.getLogger(StageTimer.class);
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private StageTimer() {
+    }
+
+    public interface Stage<T, E extends Exception> {
+
+        T run() throws E;
+    }
+
+    public static <T, E extends Exception> T time(@NotNull String label, @NotNull Stage<T, E> stage) throws E {
+        long wallStart = System.nanoTime();
+        long cpuStart = threadCpuTime();
+        try {
+            return stage.run();
+        } finally {
+            long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - wallStart);
+            long cpuEnd = threadCpuTime();
+            if (cpuStart >= 0 && cpuEnd >= 0) {
+                // Stages run concurrently, so only the CPU time of the thread running the stage can be attributed to it. Work that the
+                // stage hands off to parallel streams or transvar processes is not included.
+                LOGGER.info("Stage '{}' completed in {} ms wall-clock time and {} ms CPU time on the stage thread",
+                        label,
+                        wallMillis,
+                        TimeUnit.NANOSECONDS.toMillis(cpuEnd - cpuStart));
+            } else {
+                LOGGER.info("Stage '{}' completed in {} ms wall-clock time", label, wallMillis);
+            }
+        }
+    }
+
+    private static long threadCpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+}
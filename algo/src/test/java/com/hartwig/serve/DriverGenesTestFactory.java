@@ -5,6 +5,7 @@ import java.util.List;
 import com.google.common.collect.Lists;
 import com.hartwig.serve.common.drivergene.DriverCategory;
 import com.hartwig.serve.common.drivergene.DriverGene;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.common.drivergene.GermlineReportingMode;
 import com.hartwig.serve.common.drivergene.ImmutableDriverGene;
 
@@ -24,6 +25,11 @@ public final class DriverGenesTestFactory {
         return Lists.newArrayList(driverGeneTsg, driverGeneOnco);
     }
 
+    @NotNull
+    public static DriverGeneCatalog createDriverGeneCatalog(@NotNull String geneTsg, @NotNull String geneOnco) {
+        return DriverGeneCatalog.create(createDriverGenes(geneTsg, geneOnco));
+    }
+
     @NotNull
     private static ImmutableDriverGene.Builder builder() {
         return ImmutableDriverGene.builder()
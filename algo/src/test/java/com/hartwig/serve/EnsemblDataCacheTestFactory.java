@@ -6,6 +6,7 @@ import com.google.common.io.Resources;
 import com.hartwig.serve.common.ensemblcache.EnsemblDataCache;
 import com.hartwig.serve.common.ensemblcache.EnsemblDataLoader;
 import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.extraction.util.EnsemblTranscriptIndex;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -24,4 +25,9 @@ public final class EnsemblDataCacheTestFactory {
             throw new IllegalStateException("Could not load test ensembl cache");
         }
     }
+
+    @NotNull
+    public static EnsemblTranscriptIndex createIndex37() {
+        return EnsemblTranscriptIndex.create(create37());
+    }
 }
\ No newline at end of file
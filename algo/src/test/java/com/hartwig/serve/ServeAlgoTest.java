@@ -1,10 +1,14 @@
 package com.hartwig.serve;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.IOException;
+import java.util.Map;
 
 import com.google.common.io.Resources;
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.extraction.ExtractionResult;
 import com.hartwig.serve.refgenome.RefGenomeManagerFactory;
 import com.hartwig.serve.vicc.datamodel.ViccSource;
 
@@ -50,7 +54,29 @@ public class ServeAlgoTest {
 
     @Test
     public void canRunServeAlgo() throws IOException {
-        ServeConfig config = algoBuilder().useVicc(true)
+        ServeConfig config = createConfigForAllSources().build();
+
+        ServeAlgo algo = new ServeAlgo(RefGenomeManagerFactory.createFromServeConfig(config));
+
+        assertNotNull(algo.run(config));
+    }
+
+    @Test
+    public void concurrentExtractionGivesSameResultAsSequentialExtraction() throws IOException {
+        ServeConfig sequentialConfig = createConfigForAllSources().extractionParallelism(1).build();
+        ServeConfig concurrentConfig = createConfigForAllSources().extractionParallelism(4).build();
+
+        Map<RefGenome, ExtractionResult> sequentialResult =
+                new ServeAlgo(RefGenomeManagerFactory.createFromServeConfig(sequentialConfig)).run(sequentialConfig);
+        Map<RefGenome, ExtractionResult> concurrentResult =
+                new ServeAlgo(RefGenomeManagerFactory.createFromServeConfig(concurrentConfig)).run(concurrentConfig);
+
+        assertEquals(sequentialResult, concurrentResult);
+    }
+
+    @NotNull
+    private static ImmutableServeConfig.Builder createConfigForAllSources() {
+        return algoBuilder().useVicc(true)
                 .viccJson(VICC_JSON)
                 .addViccSources(ViccSource.CIVIC, ViccSource.CGI)
                 .viccMissingDoidsMappingTsv(VICC_MISSING_DOIDS_MAPPING_TSV)
@@ -84,12 +110,7 @@ public class ServeAlgoTest {
                 .driverGene37Tsv(DRIVER_GENE_37_TSV)
                 .driverGene38Tsv(DRIVER_GENE_38_TSV)
                 .knownFusion37File(KNOWN_FUSION_37_FILE)
-                .knownFusion38File(KNOWN_FUSION_38_FILE)
-                .build();
-
-        ServeAlgo algo = new ServeAlgo(RefGenomeManagerFactory.createFromServeConfig(config));
-
-        assertNotNull(algo.run(config));
+                .knownFusion38File(KNOWN_FUSION_38_FILE);
     }
 
     @NotNull
@@ -44,6 +44,29 @@ public class ExtractionFunctionsTest {
         assertEquals(2, merged.trials().size());
     }
 
+    @Test
+    public void canMergeExtractionResultsInParallel() {
+        List<ExtractionResult> results = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            results.add(ExtractionResultTestFactory.createProperResultForSource(i % 2 == 0 ? SOURCE_1 : SOURCE_2));
+            results.add(ExtractionResultTestFactory.createMinimalResultForSource(SOURCE_1));
+        }
+
+        ExtractionResult merged = ExtractionFunctions.merge(results);
+        assertEquals(merged, results.parallelStream().collect(ExtractionFunctions.toMergedExtractionResult()));
+        assertEquals(ExtractionFunctions.merge(results.subList(0, 4)), merged);
+    }
+
+    @Test
+    public void canMergeEmptyExtractionResults() {
+        ExtractionResult merged = ExtractionFunctions.merge(Lists.newArrayList());
+
+        assertTrue(merged.eventInterpretations().isEmpty());
+        assertNull(merged.knownEvents());
+        assertNull(merged.evidences());
+        assertNull(merged.trials());
+    }
+
     @Test
     public void shouldConsolidateTrialsFromSingleSourceOnNctId() {
         MolecularCriterium molecularCriterium1 = MolecularCriteriumTestFactory.createWithTestActionableCharacteristic();
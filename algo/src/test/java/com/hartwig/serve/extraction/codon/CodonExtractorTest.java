@@ -11,7 +11,7 @@ import com.google.common.collect.Sets;
 import com.hartwig.serve.DriverGenesTestFactory;
 import com.hartwig.serve.EnsemblDataCacheTestFactory;
 import com.hartwig.serve.common.classification.EventType;
-import com.hartwig.serve.common.drivergene.DriverGene;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.datamodel.molecular.MutationType;
 import com.hartwig.serve.extraction.util.DriverInconsistencyMode;
 import com.hartwig.serve.extraction.util.GeneChecker;
@@ -22,14 +22,6 @@ import org.junit.Test;
 
 public class CodonExtractorTest {
 
-    @Test
-    public void canFindByGene() {
-        List<DriverGene> driverGenes = createTestDriverGenes();
-        assertTrue(CodonExtractor.geneInDriverGenes(driverGenes, "TP53"));
-        assertTrue(CodonExtractor.geneInDriverGenes(driverGenes, "KRAS"));
-        assertFalse(CodonExtractor.geneInDriverGenes(driverGenes, "AB"));
-    }
-
     @Test
     public void canCheckFilterNotInCatalog() {
         CodonExtractor extractorFilter = createWithDriverGenes(createTestDriverGenes(), DriverInconsistencyMode.FILTER);
@@ -117,16 +109,16 @@ public class CodonExtractorTest {
     }
 
     @NotNull
-    private static List<DriverGene> createTestDriverGenes() {
-        return DriverGenesTestFactory.createDriverGenes("TP53", "KRAS");
+    private static DriverGeneCatalog createTestDriverGenes() {
+        return DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KRAS");
     }
 
     @NotNull
-    private static CodonExtractor createWithDriverGenes(@NotNull List<DriverGene> driverGenes,
+    private static CodonExtractor createWithDriverGenes(@NotNull DriverGeneCatalog driverGeneCatalog,
             @NotNull DriverInconsistencyMode annotation) {
         return new CodonExtractor(new GeneChecker(Sets.newHashSet("TP53", "KRAS", "EGFR")),
-                new MutationTypeFilterAlgo(driverGenes),
-                EnsemblDataCacheTestFactory.create37(),
+                new MutationTypeFilterAlgo(driverGeneCatalog),
+                EnsemblDataCacheTestFactory.createIndex37(),
                 annotation,
                 createTestDriverGenes());
     }
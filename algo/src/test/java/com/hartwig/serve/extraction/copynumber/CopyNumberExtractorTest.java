@@ -76,7 +76,7 @@ public class CopyNumberExtractorTest {
     @NotNull
     private static CopyNumberExtractor createTestExtractor(@NotNull DriverInconsistencyMode mode) {
         return new CopyNumberExtractor(new GeneChecker(Sets.newHashSet("PTEN", "AKT1", "KRAS")),
-                DriverGenesTestFactory.createDriverGenes("KRAS", "AKT1"),
+                DriverGenesTestFactory.createDriverGeneCatalog("KRAS", "AKT1"),
                 mode);
     }
 }
\ No newline at end of file
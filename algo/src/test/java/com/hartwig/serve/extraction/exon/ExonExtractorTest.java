@@ -10,7 +10,7 @@ import com.google.common.collect.Sets;
 import com.hartwig.serve.DriverGenesTestFactory;
 import com.hartwig.serve.EnsemblDataCacheTestFactory;
 import com.hartwig.serve.common.classification.EventType;
-import com.hartwig.serve.common.drivergene.DriverGene;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.datamodel.molecular.MutationType;
 import com.hartwig.serve.extraction.util.DriverInconsistencyMode;
 import com.hartwig.serve.extraction.util.GeneChecker;
@@ -24,17 +24,17 @@ public class ExonExtractorTest {
     @Test
     public void canFilterInCatalog() {
         ExonExtractor exonExtractorIgnore =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KIT"), DriverInconsistencyMode.IGNORE);
         List<ExonAnnotation> exonsIgnore = exonExtractorIgnore.extract("KIT", null, EventType.FUSION_PAIR_AND_EXON, "EXON 11 MUTATION");
         assertEquals(1, exonsIgnore.size());
 
         ExonExtractor exonExtractorFilter =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "KIT"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KIT"), DriverInconsistencyMode.FILTER);
         List<ExonAnnotation> exonsFilter = exonExtractorFilter.extract("KIT", null, EventType.FUSION_PAIR_AND_EXON, "EXON 11 MUTATION");
         assertEquals(1, exonsFilter.size());
 
         ExonExtractor exonExtractorWarn =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "KIT"), DriverInconsistencyMode.WARN_ONLY);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KIT"), DriverInconsistencyMode.WARN_ONLY);
         List<ExonAnnotation> exonsWarn = exonExtractorWarn.extract("KIT", null, EventType.FUSION_PAIR_AND_EXON, "EXON 11 MUTATION");
         assertEquals(1, exonsWarn.size());
     }
@@ -42,17 +42,17 @@ public class ExonExtractorTest {
     @Test
     public void canFilterNotInCatalog() {
         ExonExtractor exonExtractorIgnore =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KIT"), DriverInconsistencyMode.IGNORE);
         List<ExonAnnotation> exonsIgnore = exonExtractorIgnore.extract("KRAS", null, EventType.FUSION_PAIR_AND_EXON, "EXON 2 MUTATION");
         assertEquals(1, exonsIgnore.size());
 
         ExonExtractor exonExtractorFilter =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "KIT"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KIT"), DriverInconsistencyMode.FILTER);
         List<ExonAnnotation> exonsFilter = exonExtractorFilter.extract("KRAS", null, EventType.FUSION_PAIR_AND_EXON, "EXON 3 MUTATION");
         assertNull(exonsFilter);
 
         ExonExtractor exonExtractorWarn =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "KIT"), DriverInconsistencyMode.WARN_ONLY);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KIT"), DriverInconsistencyMode.WARN_ONLY);
         List<ExonAnnotation> exonsWarn = exonExtractorWarn.extract("KRAS", null, EventType.FUSION_PAIR_AND_EXON, "EXON 2 MUTATION");
         assertEquals(1, exonsWarn.size());
     }
@@ -60,7 +60,7 @@ public class ExonExtractorTest {
     @Test
     public void canExtractExonForExonAndFusion() {
         ExonExtractor extractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KIT"), DriverInconsistencyMode.IGNORE);
         List<ExonAnnotation> exons = extractor.extract("KIT", null, EventType.FUSION_PAIR_AND_EXON, "EXON 11 MUTATION");
 
         assertEquals(1, exons.size());
@@ -75,7 +75,7 @@ public class ExonExtractorTest {
     @Test
     public void canExtractExonForwardStrand() {
         ExonExtractor extractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
         List<ExonAnnotation> exons = extractor.extract("EGFR", null, EventType.EXON, "EXON 19 DELETION");
 
         assertEquals(1, exons.size());
@@ -90,7 +90,7 @@ public class ExonExtractorTest {
     @Test
     public void canExtractExonReverseStrand() {
         ExonExtractor extractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
         List<ExonAnnotation> exons = extractor.extract("KRAS", null, EventType.EXON, "EXON 2 DELETION");
 
         assertEquals(1, exons.size());
@@ -105,21 +105,21 @@ public class ExonExtractorTest {
     @Test
     public void canFilterOnNonCanonicalTranscript() {
         ExonExtractor extractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
         assertNull(extractor.extract("KRAS", "not the canonical transcript", EventType.EXON, "EXON 2 DELETION"));
     }
 
     @Test
     public void canFilterWhenExonIndicesDoNotExist() {
         ExonExtractor extractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
         assertNull(extractor.extract("KRAS", "ENST00000256078", EventType.EXON, "not a correct event"));
     }
 
     @Test
     public void canFilterWhenExonIndexNotOnTranscript() {
         ExonExtractor extractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "EGFR"), DriverInconsistencyMode.IGNORE);
         assertNull(extractor.extract("KRAS", "ENST00000256078", EventType.EXON, "Exon 2000 deletion"));
     }
 
@@ -136,11 +136,11 @@ public class ExonExtractorTest {
     }
 
     @NotNull
-    private static ExonExtractor createWithDriverGenes(@NotNull List<DriverGene> driverGenes, @NotNull DriverInconsistencyMode annotation) {
+    private static ExonExtractor createWithDriverGenes(@NotNull DriverGeneCatalog driverGeneCatalog, @NotNull DriverInconsistencyMode annotation) {
         return new ExonExtractor(new GeneChecker(Sets.newHashSet("TP53", "KIT", "EGFR", "KRAS")),
-                new MutationTypeFilterAlgo(driverGenes),
-                EnsemblDataCacheTestFactory.create37(),
+                new MutationTypeFilterAlgo(driverGeneCatalog),
+                EnsemblDataCacheTestFactory.createIndex37(),
                 annotation,
-                DriverGenesTestFactory.createDriverGenes("TP53", "KIT"));
+                DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KIT"));
     }
 }
\ No newline at end of file
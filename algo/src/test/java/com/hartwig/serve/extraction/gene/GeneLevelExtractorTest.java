@@ -5,12 +5,11 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
-import java.util.List;
 
 import com.google.common.collect.Sets;
 import com.hartwig.serve.DriverGenesTestFactory;
 import com.hartwig.serve.common.classification.EventType;
-import com.hartwig.serve.common.drivergene.DriverGene;
+import com.hartwig.serve.common.drivergene.DriverGeneCatalog;
 import com.hartwig.serve.datamodel.molecular.gene.GeneAnnotation;
 import com.hartwig.serve.datamodel.molecular.gene.GeneEvent;
 import com.hartwig.serve.datamodel.molecular.gene.GeneTestFactory;
@@ -29,7 +28,7 @@ public class GeneLevelExtractorTest {
     @Test
     public void canExtractWildTypeEvents() {
         GeneLevelExtractor geneLevelExtractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("NOTCH1", "MET"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("NOTCH1", "MET"), DriverInconsistencyMode.IGNORE);
         assertEquals(testBuilder().gene("MET").event(GeneEvent.WILD_TYPE).build(),
                 geneLevelExtractor.extractWildTypeEvent("MET", EventType.WILD_TYPE));
         assertEquals(testBuilder().gene("AB").event(GeneEvent.WILD_TYPE).build(),
@@ -41,7 +40,7 @@ public class GeneLevelExtractorTest {
     @Test
     public void canExtractGeneLevelEvent() {
         GeneLevelExtractor geneLevelExtractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("NOTCH1", "MET"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("NOTCH1", "MET"), DriverInconsistencyMode.FILTER);
 
         assertEquals(testBuilder().gene("MET").event(GeneEvent.ACTIVATION).build(),
                 geneLevelExtractor.extractGeneLevelEvent("MET", "MET activating mutation"));
@@ -65,7 +64,7 @@ public class GeneLevelExtractorTest {
     @Test
     public void canExtractGeneLevelEventOnco() {
         GeneLevelExtractor geneLevelExtractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
         GeneAnnotation geneAnnotation = geneLevelExtractor.extract("KIT", EventType.GENE_LEVEL, "KIT act mut");
 
         assertNotNull(geneAnnotation);
@@ -76,7 +75,7 @@ public class GeneLevelExtractorTest {
     @Test
     public void canExtractGeneLevelEventTsg() {
         GeneLevelExtractor geneLevelExtractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("TP53", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("TP53", "KIT"), DriverInconsistencyMode.IGNORE);
         GeneAnnotation geneAnnotation = geneLevelExtractor.extract("TP53", EventType.GENE_LEVEL, "TP53 inact mut");
 
         assertNotNull(geneAnnotation);
@@ -87,7 +86,7 @@ public class GeneLevelExtractorTest {
     @Test
     public void canExtractGeneLevelEventFusion() {
         GeneLevelExtractor geneLevelExtractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "MET"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "MET"), DriverInconsistencyMode.IGNORE);
         GeneAnnotation geneAnnotation = geneLevelExtractor.extract("NTRK3", EventType.PROMISCUOUS_FUSION, "NTRK3 fusion");
 
         assertNotNull(geneAnnotation);
@@ -98,7 +97,7 @@ public class GeneLevelExtractorTest {
     @Test
     public void canExtractProteinEvents() {
         GeneLevelExtractor geneLevelExtractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("NOTCH1", "MET"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("NOTCH1", "MET"), DriverInconsistencyMode.IGNORE);
         assertEquals(testBuilder().gene("MET").event(GeneEvent.ABSENCE_OF_PROTEIN).build(),
                 geneLevelExtractor.extractProteinEvent("MET", EventType.ABSENCE_OF_PROTEIN));
         assertEquals(testBuilder().gene("NOTCH1").event(GeneEvent.PRESENCE_OF_PROTEIN).build(),
@@ -108,115 +107,115 @@ public class GeneLevelExtractorTest {
     @Test(expected = IllegalStateException.class)
     public void hasIllegalProteinEvents() {
         GeneLevelExtractor geneLevelExtractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("NOTCH1", "MET"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("NOTCH1", "MET"), DriverInconsistencyMode.IGNORE);
         geneLevelExtractor.extractProteinEvent("NOTCH1", EventType.OVEREXPRESSION);
     }
 
     @Test
     public void canFilterInCatalogFusion() {
         GeneLevelExtractor geneLevelExtractorIgnore =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
         assertNotNull(geneLevelExtractorIgnore.extract("NTRK3", EventType.PROMISCUOUS_FUSION, "NTRK3  fusion"));
 
         GeneLevelExtractor geneLevelExtractorWarn =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
         assertNotNull(geneLevelExtractorWarn.extract("NTRK3", EventType.PROMISCUOUS_FUSION, "NTRK3  fusion"));
 
         GeneLevelExtractor geneLevelExtractorFilter =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.FILTER);
         assertNotNull(geneLevelExtractorFilter.extract("NTRK3", EventType.PROMISCUOUS_FUSION, "NTRK3  fusion"));
     }
 
     @Test
     public void canFilterNotInCatalogFusion() {
         GeneLevelExtractor geneLevelExtractorIgnore =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
         assertNotNull(geneLevelExtractorIgnore.extract("KIT", EventType.PROMISCUOUS_FUSION, "KIT  fusion"));
 
         GeneLevelExtractor geneLevelExtractorWarn =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
         assertNotNull(geneLevelExtractorWarn.extract("KIT", EventType.PROMISCUOUS_FUSION, "KIT  fusion"));
 
         GeneLevelExtractor geneLevelExtractorFilter =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.FILTER);
         assertNull(geneLevelExtractorFilter.extract("KIT", EventType.PROMISCUOUS_FUSION, "KIT  fusion"));
     }
 
     @Test
     public void canFilterInCatalogWildType() {
         GeneLevelExtractor geneLevelExtractorIgnore =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
         assertNotNull(geneLevelExtractorIgnore.extract("KIT", EventType.WILD_TYPE, "KIT  wild type"));
 
         GeneLevelExtractor geneLevelExtractorWarn =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
         assertNotNull(geneLevelExtractorWarn.extract("KIT", EventType.WILD_TYPE, "KIT  wild type"));
 
         GeneLevelExtractor geneLevelExtractorFilter =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.FILTER);
         assertNotNull(geneLevelExtractorFilter.extract("KIT", EventType.WILD_TYPE, "KIT  wild type"));
     }
 
     @Test
     public void canFilterNotInCatalogWildType() {
         GeneLevelExtractor geneLevelExtractorIgnore =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KRAS"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KRAS"), DriverInconsistencyMode.IGNORE);
         assertNotNull(geneLevelExtractorIgnore.extract("BRAF", EventType.WILD_TYPE, "BRAF  wild type"));
 
         GeneLevelExtractor geneLevelExtractorWarn =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KRAS"), DriverInconsistencyMode.WARN_ONLY);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KRAS"), DriverInconsistencyMode.WARN_ONLY);
         assertNotNull(geneLevelExtractorWarn.extract("BRAF", EventType.WILD_TYPE, "BRAF  wild type"));
 
         GeneLevelExtractor geneLevelExtractorFilter =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KRAS"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KRAS"), DriverInconsistencyMode.FILTER);
         assertNull(geneLevelExtractorFilter.extract("BRAF", EventType.WILD_TYPE, "BRAF  wild type"));
     }
 
     @Test
     public void canFilterInCatalogGeneLevel() {
         GeneLevelExtractor geneLevelExtractorIgnore =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
         assertNotNull(geneLevelExtractorIgnore.extract("KIT", EventType.GENE_LEVEL, "KIT  mutant"));
 
         GeneLevelExtractor geneLevelExtractorWarnMis =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
         assertNotNull(geneLevelExtractorWarnMis.extract("STK11", EventType.GENE_LEVEL, "STK11  act mut"));
 
         GeneLevelExtractor geneLevelExtractorFilter =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.FILTER);
         assertNotNull(geneLevelExtractorFilter.extract("KIT", EventType.GENE_LEVEL, "KIT  mutant"));
 
         GeneLevelExtractor geneLevelExtractorFilterMismatch =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.FILTER);
         assertNull(geneLevelExtractorFilterMismatch.extract("STK11", EventType.GENE_LEVEL, "STK11  act mut"));
     }
 
     @Test
     public void canFilterNotInCatalogGeneLevel() {
         GeneLevelExtractor geneLevelExtractorIgnore =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.IGNORE);
         assertNotNull(geneLevelExtractorIgnore.extract("MET", EventType.GENE_LEVEL, "MET  activation"));
 
         GeneLevelExtractor geneLevelExtractorWarn =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.WARN_ONLY);
         assertNotNull(geneLevelExtractorWarn.extract("MET", EventType.GENE_LEVEL, "MET  activation"));
 
         GeneLevelExtractor geneLevelExtractorFilter =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.FILTER);
         assertNull(geneLevelExtractorFilter.extract("MET", EventType.GENE_LEVEL, "MET  activation"));
     }
 
     @Test
     public void filtersNonExistingGenes() {
         GeneLevelExtractor geneLevelExtractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "MET"), DriverInconsistencyMode.IGNORE);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "MET"), DriverInconsistencyMode.IGNORE);
         assertNull(geneLevelExtractor.extract("NOT-A-GENE", EventType.PROMISCUOUS_FUSION, "NTRK3 fusion"));
     }
 
     @Test
     public void filtersEventsOnConflict() {
         GeneLevelExtractor geneLevelExtractor =
-                createWithDriverGenes(DriverGenesTestFactory.createDriverGenes("STK11", "KIT"), DriverInconsistencyMode.FILTER);
+                createWithDriverGenes(DriverGenesTestFactory.createDriverGeneCatalog("STK11", "KIT"), DriverInconsistencyMode.FILTER);
 
         GeneAnnotation conflictingGeneAnnotation = geneLevelExtractor.extract("STK11", EventType.GENE_LEVEL, "STK11 activating mutation");
         assertNull(conflictingGeneAnnotation);
@@ -224,19 +223,19 @@ public class GeneLevelExtractorTest {
 
     @Test
     public void canDetermineGeneLevelFromDriverGenes() {
-        List<DriverGene> driverGenes = DriverGenesTestFactory.createDriverGenes("STK11", "MET");
+        DriverGeneCatalog driverGeneCatalog = DriverGenesTestFactory.createDriverGeneCatalog("STK11", "MET");
 
-        assertEquals(GeneEvent.ACTIVATION, GeneLevelExtractor.determineGeneLevelEventFromDriverGenes(driverGenes, "MET"));
-        assertEquals(GeneEvent.INACTIVATION, GeneLevelExtractor.determineGeneLevelEventFromDriverGenes(driverGenes, "STK11"));
-        assertEquals(GeneEvent.ANY_MUTATION, GeneLevelExtractor.determineGeneLevelEventFromDriverGenes(driverGenes, "MAP1K1"));
+        assertEquals(GeneEvent.ACTIVATION, GeneLevelExtractor.determineGeneLevelEventFromDriverGenes(driverGeneCatalog, "MET"));
+        assertEquals(GeneEvent.INACTIVATION, GeneLevelExtractor.determineGeneLevelEventFromDriverGenes(driverGeneCatalog, "STK11"));
+        assertEquals(GeneEvent.ANY_MUTATION, GeneLevelExtractor.determineGeneLevelEventFromDriverGenes(driverGeneCatalog, "MAP1K1"));
     }
 
     @NotNull
-    private static GeneLevelExtractor createWithDriverGenes(@NotNull List<DriverGene> driverGenes,
+    private static GeneLevelExtractor createWithDriverGenes(@NotNull DriverGeneCatalog driverGeneCatalog,
             @NotNull DriverInconsistencyMode annotation) {
         return new GeneLevelExtractor(GENE_CHECKER,
                 GENE_CHECKER,
-                driverGenes,
+                driverGeneCatalog,
                 RefGenomeResourceTestFactory.buildTestResource37().knownFusionCache(),
                 Sets.newHashSet("activating mutation", "act mut"),
                 Sets.newHashSet("LOSS-OF-FUNCTION", "inact mut"),
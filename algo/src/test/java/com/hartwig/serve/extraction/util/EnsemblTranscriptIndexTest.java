@@ -0,0 +1,39 @@
+package com.hartwig.serve.extraction.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.hartwig.serve.EnsemblDataCacheTestFactory;
+import com.hartwig.serve.common.ensemblcache.EnsemblDataCache;
+
+import org.junit.Test;
+
+public class EnsemblTranscriptIndexTest {
+
+    private static final EnsemblDataCache ENSEMBL_DATA_CACHE = EnsemblDataCacheTestFactory.create37();
+    private static final EnsemblTranscriptIndex INDEX = EnsemblTranscriptIndex.create(ENSEMBL_DATA_CACHE);
+
+    @Test
+    public void canFindSameCanonicalTranscriptsAsEnsemblFunctions() {
+        HmfTranscriptRegion braf = INDEX.findCanonicalTranscript("BRAF");
+        assertNotNull(braf);
+        assertEquals(EnsemblFunctions.findCanonicalTranscript(ENSEMBL_DATA_CACHE, "BRAF"), braf);
+        assertSame(braf, INDEX.findCanonicalTranscript("BRAF"));
+
+        assertNull(INDEX.findCanonicalTranscript("DOES NOT EXIST"));
+    }
+
+    @Test
+    public void canDetermineCodonRangesOnCanonicalTranscript() {
+        HmfTranscriptRegion kras = INDEX.findCanonicalTranscript("KRAS");
+        assertNotNull(kras);
+
+        assertEquals(HmfTranscriptRegionUtils.codonRangeByRank(kras, 12, 12), INDEX.canonicalCodonRangeByRank("KRAS", 12));
+        assertSame(INDEX.canonicalCodonRangeByRank("KRAS", 12), INDEX.canonicalCodonRangeByRank("KRAS", 12));
+
+        assertNull(INDEX.canonicalCodonRangeByRank("KRAS", 0));
+        assertNull(INDEX.canonicalCodonRangeByRank("DOES NOT EXIST", 12));
+    }
+}
@@ -0,0 +1,67 @@
+package com.hartwig.serve.extraction.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class HashConsolidationTest {
+
+    @Test
+    public void canConsolidateEmptyInputs() {
+        assertTrue(consolidate(Lists.newArrayList()).isEmpty());
+    }
+
+    @Test
+    public void canConsolidateInputsSharingKeysInIterationOrder() {
+        List<Map.Entry<String, String>> inputs = Lists.newArrayList(Maps.immutableEntry("a1", "x"),
+                Maps.immutableEntry("b1", "y"),
+                Maps.immutableEntry("a1", "z"),
+                Maps.immutableEntry("a2", "w"),
+                Maps.immutableEntry("a1", "v"));
+
+        Map<String, String> consolidated = consolidate(inputs);
+        assertEquals(3, consolidated.size());
+        assertEquals("xzv", consolidated.get("a1"));
+        assertEquals("w", consolidated.get("a2"));
+        assertEquals("y", consolidated.get("b1"));
+    }
+
+    @Test
+    public void canConsolidateLargeInputsInParallel() {
+        List<Map.Entry<String, String>> inputs = Lists.newArrayList();
+        for (int i = 0; i < 2 * HashConsolidation.MIN_INPUTS_FOR_PARALLEL_CONSOLIDATION; i++) {
+            inputs.add(Maps.immutableEntry((char) ('a' + i % 20) + String.valueOf(i % 500), String.valueOf(i / 500 % 10)));
+        }
+
+        Map<String, String> consolidated = consolidate(inputs);
+        assertEquals(500, consolidated.size());
+        for (Map.Entry<String, String> entry : consolidated.entrySet()) {
+            assertEquals("0123456789".repeat(4), entry.getValue());
+        }
+    }
+
+    @NotNull
+    private static Map<String, String> consolidate(@NotNull List<Map.Entry<String, String>> inputs) {
+        List<Map.Entry<String, String>> consolidated = HashConsolidation.consolidate(inputs,
+                input -> input.getKey().substring(0, 1),
+                Map.Entry::getKey,
+                Map.Entry::getValue,
+                (added, existing) -> existing + added,
+                (first, value) -> Maps.immutableEntry(first.getKey(), value));
+
+        Map<String, String> valuePerKey = Maps.newHashMap();
+        for (Map.Entry<String, String> entry : consolidated) {
+            assertNull(valuePerKey.put(entry.getKey(), entry.getValue()));
+        }
+        return valuePerKey;
+    }
+}
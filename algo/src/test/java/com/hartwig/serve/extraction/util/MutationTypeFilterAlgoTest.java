@@ -14,7 +14,7 @@ public class MutationTypeFilterAlgoTest {
         String tsg = "tsg";
         String onco = "onco";
 
-        MutationTypeFilterAlgo algo = new MutationTypeFilterAlgo(DriverGenesTestFactory.createDriverGenes(tsg, onco));
+        MutationTypeFilterAlgo algo = new MutationTypeFilterAlgo(DriverGenesTestFactory.createDriverGeneCatalog(tsg, onco));
 
         assertEquals(MutationType.NONSENSE_OR_FRAMESHIFT, algo.determine(onco, "EXON 9 FRAMESHIFT"));
         assertEquals(MutationType.SPLICE, algo.determine(onco, "Exon 12 splice site insertion"));
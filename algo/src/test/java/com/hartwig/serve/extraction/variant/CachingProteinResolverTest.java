@@ -0,0 +1,64 @@
+package com.hartwig.serve.extraction.variant;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+public class CachingProteinResolverTest {
+
+    private static final Variant VARIANT = ImmutableVariant.builder().chromosome("7").position(10).ref("A").alt("T").build();
+
+    @Test
+    public void canServeResolvedAndUnresolvedAnnotationsFromCache() {
+        Map<String, List<Variant>> cache = Maps.newHashMap();
+        cache.put("BRAF|null|p.V600E", Lists.newArrayList(VARIANT));
+        cache.put("BRAF|null|p.X", Lists.newArrayList());
+
+        CountingProteinResolver counter = new CountingProteinResolver();
+        CachingProteinResolver resolver = new CachingProteinResolver(counter, "cache.tsv", "fingerprint", cache);
+
+        assertEquals(Lists.newArrayList(VARIANT), resolver.resolve("BRAF", null, "V600E"));
+        assertTrue(resolver.resolve("BRAF", null, "X").isEmpty());
+        assertEquals(0, counter.calls);
+        assertEquals(Sets.newHashSet("BRAF|null|p.X"), resolver.unresolvedProteinAnnotations());
+    }
+
+    @Test
+    public void fallsBackToResolverOnlyOncePerProteinKey() {
+        CountingProteinResolver counter = new CountingProteinResolver();
+        CachingProteinResolver resolver = new CachingProteinResolver(counter, "cache.tsv", "fingerprint", Maps.newHashMap());
+
+        assertEquals(Lists.newArrayList(VARIANT), resolver.resolve("KIT", null, "K642E"));
+        assertEquals(Lists.newArrayList(VARIANT), resolver.resolve("KIT", null, "K642E"));
+        assertEquals(1, counter.calls);
+    }
+
+    private static class CountingProteinResolver implements ProteinResolver {
+
+        private int calls = 0;
+
+        @NotNull
+        @Override
+        public List<Variant> resolve(@NotNull String gene, @Nullable String specificTranscript, @NotNull String proteinAnnotation) {
+            calls++;
+            return Lists.newArrayList(VARIANT);
+        }
+
+        @NotNull
+        @Override
+        public Set<String> unresolvedProteinAnnotations() {
+            return Sets.newHashSet();
+        }
+    }
+}
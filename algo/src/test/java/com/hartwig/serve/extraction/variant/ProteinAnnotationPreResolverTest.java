@@ -0,0 +1,61 @@
+package com.hartwig.serve.extraction.variant;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+public class ProteinAnnotationPreResolverTest {
+
+    @Test
+    public void canPreResolveAllQueries() {
+        Set<ProteinAnnotationQuery> queries = Sets.newHashSet();
+        for (int i = 1; i <= 50; i++) {
+            queries.add(ImmutableProteinAnnotationQuery.builder().gene("BRAF").transcript(null).proteinAnnotation("V" + i + "E").build());
+        }
+
+        RecordingProteinResolver resolver = new RecordingProteinResolver();
+        ProteinAnnotationPreResolver.preResolve(resolver, queries, 4);
+
+        assertEquals(50, resolver.callsPerAnnotation.size());
+        for (AtomicInteger calls : resolver.callsPerAnnotation.values()) {
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Test
+    public void canPreResolveWithoutQueries() {
+        RecordingProteinResolver resolver = new RecordingProteinResolver();
+        ProteinAnnotationPreResolver.preResolve(resolver, Sets.newHashSet(), 4);
+
+        assertEquals(0, resolver.callsPerAnnotation.size());
+    }
+
+    private static class RecordingProteinResolver implements ProteinResolver {
+
+        private final Map<String, AtomicInteger> callsPerAnnotation = new ConcurrentHashMap<>();
+
+        @NotNull
+        @Override
+        public List<Variant> resolve(@NotNull String gene, @Nullable String specificTranscript, @NotNull String proteinAnnotation) {
+            callsPerAnnotation.computeIfAbsent(gene + ":" + proteinAnnotation, key -> new AtomicInteger()).incrementAndGet();
+            return Lists.newArrayList();
+        }
+
+        @NotNull
+        @Override
+        public Set<String> unresolvedProteinAnnotations() {
+            return Sets.newHashSet();
+        }
+    }
+}
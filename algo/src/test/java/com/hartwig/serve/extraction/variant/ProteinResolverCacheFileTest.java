@@ -0,0 +1,79 @@
+package com.hartwig.serve.extraction.variant;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.io.Resources;
+import com.hartwig.serve.datamodel.RefGenome;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class ProteinResolverCacheFileTest {
+
+    private static final String REF_GENOME_FASTA_FILE = Resources.getResource("refgenome/v37/ref.fasta").getPath();
+    private static final String ENSEMBL_DATA_DIR_37 = Resources.getResource("ensembl_data_cache/v37").getPath();
+    private static final String ENSEMBL_DATA_DIR_38 = Resources.getResource("ensembl_data_cache/v38").getPath();
+
+    @Test
+    public void canConvertBackAndForthIncludingUnresolvedAnnotations() {
+        Map<String, List<Variant>> variantsByProteinKey = createTestCache();
+
+        assertEquals(variantsByProteinKey, ProteinResolverCacheFile.fromLines(ProteinResolverCacheFile.toLines(variantsByProteinKey)));
+    }
+
+    @Test
+    public void canWriteAndReadCacheWithMatchingFingerprint() throws IOException {
+        String cacheDir = Files.createTempDirectory("protein_resolver_cache").toString();
+        String cacheFile = ProteinResolverCacheFile.cacheFile(cacheDir, RefGenome.V37);
+        String fingerprint = ProteinResolverCacheFile.fingerprint(RefGenome.V37, REF_GENOME_FASTA_FILE, ENSEMBL_DATA_DIR_37);
+
+        Map<String, List<Variant>> variantsByProteinKey = createTestCache();
+        ProteinResolverCacheFile.write(cacheFile, fingerprint, variantsByProteinKey);
+
+        assertEquals(variantsByProteinKey, ProteinResolverCacheFile.read(cacheFile, fingerprint));
+
+        new File(cacheFile).delete();
+    }
+
+    @Test
+    public void ignoresCacheWithStaleFingerprint() throws IOException {
+        String cacheDir = Files.createTempDirectory("protein_resolver_cache").toString();
+        String cacheFile = ProteinResolverCacheFile.cacheFile(cacheDir, RefGenome.V37);
+        String fingerprint37 = ProteinResolverCacheFile.fingerprint(RefGenome.V37, REF_GENOME_FASTA_FILE, ENSEMBL_DATA_DIR_37);
+        String fingerprint38 = ProteinResolverCacheFile.fingerprint(RefGenome.V37, REF_GENOME_FASTA_FILE, ENSEMBL_DATA_DIR_38);
+        assertNotEquals(fingerprint37, fingerprint38);
+
+        ProteinResolverCacheFile.write(cacheFile, fingerprint37, createTestCache());
+
+        assertTrue(ProteinResolverCacheFile.read(cacheFile, fingerprint38).isEmpty());
+
+        new File(cacheFile).delete();
+    }
+
+    @Test
+    public void returnsEmptyCacheWhenFileDoesNotExist() throws IOException {
+        assertTrue(ProteinResolverCacheFile.read("does/not/exist.tsv", "fingerprint").isEmpty());
+    }
+
+    @NotNull
+    private static Map<String, List<Variant>> createTestCache() {
+        Map<String, List<Variant>> variantsByProteinKey = Maps.newHashMap();
+        variantsByProteinKey.put("BRAF|null|p.V600E",
+                Lists.newArrayList(ImmutableVariant.builder().chromosome("7").position(140453136).ref("A").alt("T").build()));
+        variantsByProteinKey.put("KIT|ENST00000288135|p.K550_W557del",
+                Lists.newArrayList(ImmutableVariant.builder().chromosome("4").position(55593580).ref("CAAAC").alt("C").build(),
+                        ImmutableVariant.builder().chromosome("4").position(55593581).ref("AAACC").alt("A").build()));
+        variantsByProteinKey.put("EGFR|null|p.X", Lists.newArrayList());
+        return variantsByProteinKey;
+    }
+}
@@ -7,6 +7,7 @@ import java.io.FileNotFoundException;
 import com.google.common.io.Resources;
 import com.hartwig.serve.EnsemblDataCacheTestFactory;
 import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.refgenome.RefSequenceService;
 
 import org.junit.Test;
 
@@ -18,6 +19,7 @@ public class ProteinResolverFactoryTest {
     public void canCreateTransvarResolver() throws FileNotFoundException {
         assertNotNull(ProteinResolverFactory.transvarWithRefGenome(RefGenome.V37,
                 REF_GENOME_FASTA_FILE,
-                EnsemblDataCacheTestFactory.create37()));
+                RefSequenceService.fromFastaFile(REF_GENOME_FASTA_FILE),
+                EnsemblDataCacheTestFactory.createIndex37()));
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.hartwig.serve.extraction.variant;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
 import java.util.List;
@@ -10,8 +11,6 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.hartwig.serve.DriverGenesTestFactory;
 import com.hartwig.serve.common.classification.EventType;
-import com.hartwig.serve.common.drivergene.DriverCategory;
-import com.hartwig.serve.common.drivergene.DriverGene;
 import com.hartwig.serve.datamodel.molecular.hotspot.ImmutableVariantAnnotation;
 import com.hartwig.serve.datamodel.molecular.hotspot.VariantAnnotation;
 import com.hartwig.serve.extraction.util.DriverInconsistencyMode;
@@ -33,14 +32,6 @@ public class VariantExtractorTest {
     private static final VariantAnnotation TEST_KRAS_VARIANT =
             ImmutableVariantAnnotation.builder().gene("KRAS").chromosome("1").position(10).ref("A").alt("T").build();
 
-    @Test
-    public void canFindGene() {
-        List<DriverGene> driverGenes = DriverGenesTestFactory.createDriverGenes("BRAF", "KIT");
-        assertEquals(DriverCategory.TSG, VariantExtractor.findByGene(driverGenes, "BRAF"));
-        assertEquals(DriverCategory.ONCO, VariantExtractor.findByGene(driverGenes, "KIT"));
-        assertNull(VariantExtractor.findByGene(driverGenes, "KRAS"));
-    }
-
     @Test
     public void canFilterInCatalog() {
         String protein = "V600E";
@@ -98,13 +89,27 @@ public class VariantExtractorTest {
         assertNull(variantExtractor.extract("NOT-A-GENE", null, EventType.VARIANT, "V600E"));
     }
 
+    @Test
+    public void canDetermineProteinAnnotationQueries() {
+        VariantExtractor variantExtractorFilter = createWithProtein("V600E", DriverInconsistencyMode.FILTER);
+        ProteinAnnotationQuery query = variantExtractorFilter.toProteinAnnotationQuery("BRAF", "ENST01", EventType.VARIANT, "V600E");
+        assertEquals(ImmutableProteinAnnotationQuery.builder().gene("BRAF").transcript("ENST01").proteinAnnotation("V600E").build(), query);
+
+        assertNull(variantExtractorFilter.toProteinAnnotationQuery("KRAS", null, EventType.VARIANT, "G12D"));
+        assertNull(variantExtractorFilter.toProteinAnnotationQuery("NOT-A-GENE", null, EventType.VARIANT, "V600E"));
+        assertNull(variantExtractorFilter.toProteinAnnotationQuery("BRAF", null, EventType.CODON, "V600X"));
+
+        VariantExtractor variantExtractorIgnore = createWithProtein("V600E", DriverInconsistencyMode.IGNORE);
+        assertNotNull(variantExtractorIgnore.toProteinAnnotationQuery("KRAS", null, EventType.VARIANT, "G12D"));
+    }
+
     @NotNull
     private static VariantExtractor createWithProtein(@NotNull String protein, @NotNull DriverInconsistencyMode annotation) {
         return new VariantExtractor(GENE_CHECKER,
                 new TestProteinResolver(protein),
                 event -> event,
                 annotation,
-                DriverGenesTestFactory.createDriverGenes("BRAF", "KIT"));
+                DriverGenesTestFactory.createDriverGeneCatalog("BRAF", "KIT"));
     }
 
     private static class TestProteinResolver implements ProteinResolver {
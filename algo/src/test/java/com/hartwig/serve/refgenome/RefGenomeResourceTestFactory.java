@@ -1,6 +1,5 @@
 package com.hartwig.serve.refgenome;
 
-import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.List;
 import java.util.Set;
@@ -18,8 +17,6 @@ import com.hartwig.serve.extraction.variant.Variant;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import htsjdk.samtools.reference.IndexedFastaSequenceFile;
-
 public final class RefGenomeResourceTestFactory {
 
     private static final String REF_GENOME_37_FASTA_FILE = Resources.getResource("refgenome/v37/ref.fasta").getPath();
@@ -34,26 +31,26 @@ public final class RefGenomeResourceTestFactory {
                 .refSequence(loadTestRefSequence37())
                 .driverGenes(DriverGenesTestFactory.createDriverGenes("BRAF", "KIT"))
                 .knownFusionCache(KnownFusionCacheTestFactory.create37())
-                .ensemblDataCache(EnsemblDataCacheTestFactory.create37())
+                .ensemblTranscriptIndex(EnsemblDataCacheTestFactory.createIndex37())
                 .proteinResolver(new TestProteinResolver())
                 .build();
     }
 
     @NotNull
-    public static IndexedFastaSequenceFile loadTestRefSequence37() {
+    public static RefSequenceService loadTestRefSequence37() {
         return loadRefFromFastaFile(REF_GENOME_37_FASTA_FILE);
     }
 
     @NotNull
-    public static IndexedFastaSequenceFile loadTestRefSequence38() {
+    public static RefSequenceService loadTestRefSequence38() {
         return loadRefFromFastaFile(REF_GENOME_38_FASTA_FILE);
     }
 
     @NotNull
-    private static IndexedFastaSequenceFile loadRefFromFastaFile(@NotNull String fastaFile) {
-        IndexedFastaSequenceFile refSequence;
+    private static RefSequenceService loadRefFromFastaFile(@NotNull String fastaFile) {
+        RefSequenceService refSequence;
         try {
-            refSequence = new IndexedFastaSequenceFile(new File(fastaFile));
+            refSequence = RefSequenceService.fromFastaFile(fastaFile);
         } catch (FileNotFoundException e) {
             throw new IllegalStateException("Could not create ref sequence from " + fastaFile);
         }
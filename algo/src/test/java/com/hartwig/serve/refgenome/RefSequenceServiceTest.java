@@ -0,0 +1,88 @@
+package com.hartwig.serve.refgenome;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import com.google.common.io.Resources;
+
+import org.junit.Test;
+
+import htsjdk.samtools.SAMException;
+import htsjdk.samtools.reference.IndexedFastaSequenceFile;
+
+public class RefSequenceServiceTest {
+
+    private static final String REF_GENOME_FASTA_FILE = Resources.getResource("refgenome/v37/ref.fasta").getPath();
+
+    @Test
+    public void canReadSubsequencesAcrossWindows() throws FileNotFoundException {
+        RefSequenceService refSequence = new RefSequenceService(new File(REF_GENOME_FASTA_FILE), 3, 2);
+        IndexedFastaSequenceFile fasta = new IndexedFastaSequenceFile(new File(REF_GENOME_FASTA_FILE));
+
+        for (int start = 1; start <= 8; start++) {
+            for (int end = start; end <= 8; end++) {
+                String expected = fasta.getSubsequenceAt("1", start, end).getBaseString();
+                assertEquals(expected, refSequence.subsequence("1", start, end));
+            }
+        }
+    }
+
+    @Test
+    public void canReadSubsequencesConcurrently() throws FileNotFoundException {
+        RefSequenceService refSequence = new RefSequenceService(new File(REF_GENOME_FASTA_FILE), 3, 2);
+
+        IntStream.range(0, 1000).parallel().forEach(i -> {
+            String chromosome = String.valueOf(1 + i % 22);
+            assertEquals("GATCGATC", refSequence.subsequence(chromosome, 1, 8));
+            assertEquals("TCG", refSequence.subsequence(chromosome, 3, 5));
+        });
+
+        // Readers are only opened when all readers are in use, so there are never more readers than concurrently reading threads.
+        assertTrue(refSequence.openedReaderCount() <= ForkJoinPool.getCommonPoolParallelism() + 1);
+    }
+
+    @Test
+    public void canReuseReaderForConsecutiveReads() throws FileNotFoundException {
+        RefSequenceService refSequence = new RefSequenceService(new File(REF_GENOME_FASTA_FILE), 3, 0);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("GATCGATC", refSequence.subsequence("1", 1, 8));
+        }
+        assertNotNull(refSequence.sequenceDictionary());
+
+        assertEquals(1, refSequence.openedReaderCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void crashOnReadingAfterClose() throws IOException {
+        RefSequenceService refSequence = new RefSequenceService(new File(REF_GENOME_FASTA_FILE), 3, 0);
+        assertEquals("GATCGATC", refSequence.subsequence("1", 1, 8));
+
+        refSequence.close();
+        assertEquals(0, refSequence.openedReaderCount());
+
+        refSequence.subsequence("1", 1, 8);
+    }
+
+    @Test
+    public void canProvideSequenceDictionary() throws FileNotFoundException {
+        assertNotNull(RefSequenceService.fromFastaFile(REF_GENOME_FASTA_FILE).sequenceDictionary());
+    }
+
+    @Test(expected = SAMException.class)
+    public void crashOnSubsequenceOutsideOfContig() throws FileNotFoundException {
+        RefSequenceService.fromFastaFile(REF_GENOME_FASTA_FILE).subsequence("1", 5, 9);
+    }
+
+    @Test(expected = FileNotFoundException.class)
+    public void crashOnMissingFastaFile() throws FileNotFoundException {
+        RefSequenceService.fromFastaFile("does_not_exist.fasta");
+    }
+}
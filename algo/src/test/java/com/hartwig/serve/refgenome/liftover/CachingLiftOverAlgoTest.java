@@ -0,0 +1,33 @@
+package com.hartwig.serve.refgenome.liftover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class CachingLiftOverAlgoTest {
+
+    @Test
+    public void canCacheLiftedAndUnliftablePositions() {
+        AtomicInteger invocations = new AtomicInteger();
+        LiftOverAlgo delegate = (chromosome, position) -> {
+            invocations.incrementAndGet();
+            return position > 0 ? ImmutableLiftOverResult.builder().chromosome(chromosome).position(position + 1).build() : null;
+        };
+
+        CachingLiftOverAlgo cachingLiftOverAlgo = new CachingLiftOverAlgo(delegate);
+
+        assertEquals(11, cachingLiftOverAlgo.liftOver("1", 10).position());
+        assertEquals(11, cachingLiftOverAlgo.liftOver("1", 10).position());
+        assertEquals(1, invocations.get());
+
+        assertNull(cachingLiftOverAlgo.liftOver("1", 0));
+        assertNull(cachingLiftOverAlgo.liftOver("1", 0));
+        assertEquals(2, invocations.get());
+
+        assertEquals(11, cachingLiftOverAlgo.liftOver("2", 10).position());
+        assertEquals(3, invocations.get());
+    }
+}
@@ -4,10 +4,15 @@ import static com.hartwig.serve.sources.ckb.CkbTestFactory.createCombinedEntry;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import com.google.common.io.Resources;
 import com.hartwig.serve.ckb.classification.CkbClassificationConfig;
 import com.hartwig.serve.ckb.datamodel.CkbEntry;
 import com.hartwig.serve.ckb.datamodel.clinicaltrial.ImmutableVariantRequirementDetail;
@@ -16,6 +21,8 @@ import com.hartwig.serve.common.classification.EventType;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.RefGenome;
 import com.hartwig.serve.datamodel.molecular.MolecularCriterium;
+import com.hartwig.serve.datamodel.trial.ActionableTrial;
+import com.hartwig.serve.datamodel.trial.ImmutableActionableTrial;
 import com.hartwig.serve.extraction.ExtractionResult;
 import com.hartwig.serve.extraction.ImmutableExtractionResult;
 import com.hartwig.serve.extraction.events.EventInterpretation;
@@ -32,6 +39,13 @@ import org.junit.Test;
 
 public class CkbExtractorTest {
 
+    private static final String CKB_DIR = Resources.getResource("ckb_data").getPath();
+    private static final String CKB_MOLECULAR_PROFILE_FILTER_TSV =
+            Resources.getResource("ckb_filter/ckb_molecular_profile_filter.tsv").getPath();
+    private static final String CKB_FACILITY_CURATION_NAME_TSV = Resources.getResource("ckb_curation/ckb_facility_name.tsv").getPath();
+    private static final String CKB_FACILITY_CURATION_ZIP_TSV = Resources.getResource("ckb_curation/ckb_facility_zip.tsv").getPath();
+    private static final String CKB_FACILITY_CURATION_MANUAL_TSV = Resources.getResource("ckb_curation/ckb_facility_manual.tsv").getPath();
+
     @Test
     public void canExtractEvidenceAndTrialsFromCkbEntries() {
         ExtractionResult result = ckbExtractor().extract(createCkbEntryTestDatabase());
@@ -46,6 +60,47 @@ public class CkbExtractorTest {
         assertEquals(3, result.knownEvents().genes().size());
     }
 
+    @Test
+    public void canConsolidateTrialsSharingNctIdAcrossEntries() {
+        List<CkbEntry> ckbEntries = Lists.newArrayList();
+        ckbEntries.addAll(createCkbEntryTestDatabase());
+        ckbEntries.add(createWithOpenMolecularTrial("nct1", "BRAF", "V600E", "BRAF V600E", "gain of function", "sensitive", "Actionable"));
+        ckbEntries.add(createWithOpenMolecularTrial("nct1", "KIT", "loss", "KIT loss", "loss of function", "sensitive", "Actionable"));
+        ckbEntries.add(createWithOpenMolecularTrial("nct2", "KRAS", "G12D", "KRAS G12D", "gain of function", "sensitive", "Actionable"));
+
+        CkbExtractor extractor = ckbExtractor();
+        List<ActionableTrial> unconsolidatedTrials = Lists.newArrayList();
+        for (CkbEntry entry : ckbEntries) {
+            unconsolidatedTrials.addAll(extractor.extract(List.of(entry)).trials());
+        }
+
+        List<ActionableTrial> trials = extractor.extract(ckbEntries).trials();
+        assertEquals(7, trials.size());
+        assertEquals(consolidateTrialsAsBefore(unconsolidatedTrials), trials);
+    }
+
+    @Test
+    public void consolidatesTrialsOfCkbTestResourcesAsBefore() throws IOException {
+        // The CKB test resources hold no trials by themselves, hence trials sharing nct ids across entries are added to them.
+        List<CkbEntry> ckbEntries = Lists.newArrayList();
+        ckbEntries.addAll(CkbReader.readAndCurate(CKB_DIR,
+                CKB_MOLECULAR_PROFILE_FILTER_TSV,
+                CKB_FACILITY_CURATION_NAME_TSV,
+                CKB_FACILITY_CURATION_ZIP_TSV,
+                CKB_FACILITY_CURATION_MANUAL_TSV));
+        ckbEntries.addAll(createCkbEntryTestDatabase());
+        ckbEntries.add(createWithOpenMolecularTrial("nct3", "BRAF", "V600E", "BRAF V600E", "gain of function", "sensitive", "Actionable"));
+        ckbEntries.add(createWithOpenMolecularTrial("nct3", "KIT", "amp", "KIT amp", "no effect", "sensitive", "Actionable"));
+
+        CkbExtractor extractor = ckbExtractor();
+        List<ActionableTrial> unconsolidatedTrials = Lists.newArrayList();
+        for (CkbEntry entry : ckbEntries) {
+            unconsolidatedTrials.addAll(extractor.extract(List.of(entry)).trials());
+        }
+
+        assertEquals(consolidateTrialsAsBefore(unconsolidatedTrials), extractor.extract(ckbEntries).trials());
+    }
+
     @Test
     public void canExtractEvidenceWithCombinedCriteria() {
         List<CkbEntry> ckbEntries = Lists.newArrayList();
@@ -144,6 +199,51 @@ public class CkbExtractorTest {
         return ImmutableEventInterpretation.builder().source(Knowledgebase.CKB);
     }
 
+    @NotNull
+    private static List<ActionableTrial> consolidateTrialsAsBefore(@NotNull List<ActionableTrial> unconsolidatedTrials) {
+        // The consolidation as it was done before trials were grouped in a single pass, which scans all trials per source and nct id.
+        List<ActionableTrial> consolidatedTrials = Lists.newArrayList();
+        Set<Knowledgebase> sources =
+                unconsolidatedTrials.stream().map(ActionableTrial::source).collect(Collectors.toCollection(TreeSet::new));
+        for (Knowledgebase source : sources) {
+            Set<String> nctIds = unconsolidatedTrials.stream()
+                    .filter(trial -> trial.source() == source)
+                    .map(ActionableTrial::nctId)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            for (String nctId : nctIds) {
+                List<ActionableTrial> trialsForNctId = unconsolidatedTrials.stream()
+                        .filter(trial -> trial.source() == source && trial.nctId().equals(nctId))
+                        .collect(Collectors.toList());
+                consolidatedTrials.add(ImmutableActionableTrial.builder()
+                        .source(unique(trialsForNctId, ActionableTrial::source))
+                        .nctId(unique(trialsForNctId, ActionableTrial::nctId))
+                        .title(unique(trialsForNctId, ActionableTrial::title))
+                        .acronym(unique(trialsForNctId, ActionableTrial::acronym))
+                        .phase(unique(trialsForNctId, ActionableTrial::phase))
+                        .countries(unique(trialsForNctId, ActionableTrial::countries))
+                        .therapyNames(unique(trialsForNctId, ActionableTrial::therapyNames))
+                        .genderCriterium(unique(trialsForNctId, ActionableTrial::genderCriterium))
+                        .indications(trialsForNctId.stream()
+                                .flatMap(trial -> trial.indications().stream())
+                                .collect(Collectors.toCollection(TreeSet::new)))
+                        .anyMolecularCriteria(trialsForNctId.stream()
+                                .flatMap(trial -> trial.anyMolecularCriteria().stream())
+                                .collect(Collectors.toCollection(TreeSet::new)))
+                        .urls(unique(trialsForNctId, ActionableTrial::urls))
+                        .build());
+            }
+        }
+        Collections.sort(consolidatedTrials);
+        return consolidatedTrials;
+    }
+
+    @Nullable
+    private static <T> T unique(@NotNull List<ActionableTrial> trials, @NotNull Function<ActionableTrial, T> field) {
+        Set<T> values = trials.stream().map(field).collect(Collectors.toSet());
+        assertEquals(1, values.size());
+        return values.iterator().next();
+    }
+
     @NotNull
     private static CkbExtractor ckbExtractor() {
         return CkbExtractorFactory.createExtractor(CkbClassificationConfig.build(),
@@ -5,6 +5,7 @@ import java.io.FileNotFoundException;
 import com.google.common.io.Resources;
 import com.hartwig.serve.EnsemblDataCacheTestFactory;
 import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.refgenome.RefSequenceService;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -18,13 +19,13 @@ public final class TransvarTestFactory {
 
     @NotNull
     static Transvar testTransvar37(@NotNull TransvarProcess process) {
-        return new Transvar(process, testInterpreter37(), EnsemblDataCacheTestFactory.create37());
+        return new Transvar(process, testInterpreter37(), EnsemblDataCacheTestFactory.createIndex37());
     }
 
     @NotNull
     static TransvarInterpreter testInterpreter37() {
         try {
-            return TransvarInterpreter.withRefGenome(RefGenome.V37, REF_GENOME_FASTA_FILE_37);
+            return TransvarInterpreter.withRefGenome(RefGenome.V37, RefSequenceService.fromFastaFile(REF_GENOME_FASTA_FILE_37));
         } catch (FileNotFoundException exception) {
             throw new IllegalStateException("Cannot create test interpreter! Message=" + exception.getMessage());
         }
@@ -33,7 +34,7 @@ public final class TransvarTestFactory {
     @NotNull
     static TransvarInterpreter testInterpreter38() {
         try {
-            return TransvarInterpreter.withRefGenome(RefGenome.V38, REF_GENOME_FASTA_FILE_38);
+            return TransvarInterpreter.withRefGenome(RefGenome.V38, RefSequenceService.fromFastaFile(REF_GENOME_FASTA_FILE_38));
         } catch (FileNotFoundException exception) {
             throw new IllegalStateException("Cannot create test interpreter! Message=" + exception.getMessage());
         }
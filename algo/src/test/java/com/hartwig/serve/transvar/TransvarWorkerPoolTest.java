@@ -0,0 +1,86 @@
+package com.hartwig.serve.transvar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class TransvarWorkerPoolTest {
+
+    // Emulates transvar by echoing every input followed by a fixed set of columns, terminates upon any input containing CRASH and
+    // takes a while to process any input containing SLOW.
+    private static final String FAKE_TRANSVAR_SCRIPT = "while read input; do "
+            + "case \"$input\" in *CRASH*) exit 1;; *SLOW*) sleep 2;; esac; "
+            + "printf '%s\\tENST1 (protein_coding)\\tBRAF\\t-\\tchr7:g.1A>T/c.1T>A/p.V1E\\tinside_[cds_in_exon_1]\\tmsg\\n' \"$input\"; "
+            + "done";
+
+    @Test
+    public void canQueryPersistentWorkers() throws IOException, InterruptedException {
+        TransvarWorkerPool pool = createFakePool();
+
+        List<String> output = pool.query("BRAF:p.V600E");
+        assertEquals(1, output.size());
+        assertTrue(output.get(0).startsWith("BRAF:p.V600E\t"));
+
+        assertEquals(1, pool.query("KIT:p.K642E").size());
+
+        pool.close();
+    }
+
+    @Test
+    public void restartsWorkerAfterCrash() throws IOException, InterruptedException {
+        TransvarWorkerPool pool = createFakePool();
+
+        boolean failed = false;
+        try {
+            pool.query("CRASH:p.V600E");
+        } catch (RuntimeException exception) {
+            failed = true;
+        }
+        assertTrue(failed);
+
+        assertEquals(1, pool.query("BRAF:p.V600E").size());
+
+        pool.close();
+    }
+
+    @Test
+    public void closesWorkersThatAreProcessingQuery() throws InterruptedException {
+        TransvarWorkerPool pool = createFakePool();
+
+        List<String> output = Lists.newArrayList();
+        Thread query = new Thread(() -> {
+            try {
+                output.addAll(pool.query("SLOW:p.V600E"));
+            } catch (IOException | InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+        });
+        query.start();
+        Thread.sleep(500);
+
+        // Closing lets the worker finish its pending query gracefully, after which it does not accept any further queries.
+        pool.close();
+        query.join();
+        assertEquals(1, output.size());
+
+        boolean failed = false;
+        try {
+            pool.query("BRAF:p.V600E");
+        } catch (IOException exception) {
+            failed = true;
+        }
+        assertTrue(failed);
+    }
+
+    @NotNull
+    private static TransvarWorkerPool createFakePool() {
+        return new TransvarWorkerPool(Lists.newArrayList("sh", "-c", FAKE_TRANSVAR_SCRIPT), 1);
+    }
+}
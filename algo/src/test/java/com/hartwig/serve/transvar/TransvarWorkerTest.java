@@ -0,0 +1,36 @@
+package com.hartwig.serve.transvar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Test;
+
+public class TransvarWorkerTest {
+
+    @Test
+    public void canSeparateOutputAndErrorsOfSingleQuery() throws IOException {
+        String lines = "[_annotate] warning: unknown alternative: DUP\n" + "BRAF:p.V600E\tENST1\tBRAF\n" + "[_parse] warning: invalid gene "
+                + "SERVE_END_OF_QUERY\n" + TransvarWorker.END_OF_QUERY_INPUT + "\t.\t.\n" + "[_annotate] warning: next query\n"
+                + "KIT:p.K642E\tENST2\tKIT\n" + TransvarWorker.END_OF_QUERY_INPUT + "\t.\t.\n";
+        BufferedReader reader = new BufferedReader(new StringReader(lines));
+
+        List<String> firstErrors = Lists.newArrayList();
+        List<String> firstOutput = TransvarWorker.readUntilEndOfQuery(reader, "BRAF:p.V600E", firstErrors);
+        assertEquals(Lists.newArrayList("BRAF:p.V600E\tENST1\tBRAF"), firstOutput);
+        assertEquals(Lists.newArrayList("[_annotate] warning: unknown alternative: DUP"), firstErrors);
+
+        List<String> secondErrors = Lists.newArrayList();
+        List<String> secondOutput = TransvarWorker.readUntilEndOfQuery(reader, "KIT:p.K642E", secondErrors);
+        assertEquals(Lists.newArrayList("KIT:p.K642E\tENST2\tKIT"), secondOutput);
+        assertEquals(Lists.newArrayList("[_annotate] warning: next query"), secondErrors);
+
+        assertNull(TransvarWorker.readUntilEndOfQuery(reader, "EGFR:p.L858R", Lists.newArrayList()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.hartwig.serve.benchmark;
+
+import java.io.File;
+
+import org.jetbrains.annotations.NotNull;
+
+public final class BenchmarkResources {
+
+    // Benchmarks run on the test resources of the other modules, which are resolved against the root of the SERVE repository.
+    private static final String SERVE_ROOT = System.getProperty("serve.root", ".");
+
+    public static final String CKB_DIR = "ckb-importer/src/test/resources/ckb";
+    public static final String CKB_VARIANTS_DIR = "ckb-importer/src/test/resources/ckb_variants";
+    public static final String SERVE_JSON = "datamodel/src/test/resources/example.serve.json";
+    public static final String REF_GENOME_37_FASTA = "algo/src/test/resources/refgenome/v37/ref.fasta";
+    public static final String REF_GENOME_38_FASTA = "algo/src/test/resources/refgenome/v38/ref.fasta";
+
+    private BenchmarkResources() {
+    }
+
+    @NotNull
+    public static String resolve(@NotNull String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? path : new File(SERVE_ROOT, path).getPath();
+    }
+}
@@ -0,0 +1,35 @@
+package com.hartwig.serve.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.hartwig.serve.ckb.json.CkbJsonDatabase;
+import com.hartwig.serve.ckb.json.CkbJsonReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CkbJsonReaderBenchmark {
+
+    @Param(BenchmarkResources.CKB_DIR)
+    public String ckbDir;
+
+    @Benchmark
+    public CkbJsonDatabase read() throws IOException {
+        return CkbJsonReader.read(BenchmarkResources.resolve(ckbDir));
+    }
+}
@@ -0,0 +1,113 @@
+package com.hartwig.serve.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.hartwig.serve.ckb.CkbEntryReader;
+import com.hartwig.serve.ckb.classification.CkbClassificationConfig;
+import com.hartwig.serve.ckb.classification.CkbEventAndGeneExtractor;
+import com.hartwig.serve.ckb.datamodel.CkbEntry;
+import com.hartwig.serve.ckb.datamodel.variant.Variant;
+import com.hartwig.serve.common.classification.EventClassifier;
+import com.hartwig.serve.common.classification.EventClassifierConfig;
+import com.hartwig.serve.common.classification.EventClassifierFactory;
+import com.hartwig.serve.common.classification.matchers.EventMatcherFactory;
+import com.hartwig.serve.vicc.annotation.ViccClassificationConfig;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Every iteration classifies all CKB events once using a freshly built classifier, like a single SERVE run does.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2000)
+@Measurement(iterations = 1000)
+@Fork(1)
+public class EventClassifierBenchmark {
+
+    @Param(BenchmarkResources.CKB_VARIANTS_DIR)
+    public String ckbDir;
+
+    @Param({ "CKB", "VICC" })
+    public String config;
+
+    // FLAT is the classifier from before the matcher tiers, which evaluates all matchers at once. TIERED only evaluates later tiers
+    // when no earlier tier matched, CACHED adds a cache of the types per gene and event on top.
+    @Param({ "FLAT", "TIERED", "CACHED" })
+    public String classifierType;
+
+    private EventClassifierConfig classifierConfig;
+    private List<Map.Entry<String, String>> genesAndEvents;
+    private EventClassifier classifier;
+
+    @Setup(Level.Trial)
+    public void loadGenesAndEvents() throws IOException {
+        classifierConfig = config.equals("CKB") ? CkbClassificationConfig.build() : ViccClassificationConfig.build();
+
+        genesAndEvents = Lists.newArrayList();
+        for (CkbEntry entry : CkbEntryReader.read(BenchmarkResources.resolve(ckbDir), false)) {
+            for (Variant variant : entry.variants()) {
+                genesAndEvents.add(Maps.immutableEntry(CkbEventAndGeneExtractor.extractGene(variant),
+                        CkbEventAndGeneExtractor.extractEvent(variant)));
+            }
+        }
+        if (genesAndEvents.isEmpty()) {
+            throw new IllegalStateException("No CKB variants found in " + ckbDir);
+        }
+
+        // Every variant has to classify the events the same as the flat classifier, otherwise their timings are meaningless.
+        EventClassifier flatClassifier = new EventClassifier(EventMatcherFactory.buildMatcherMap(classifierConfig));
+        EventClassifier classifierToVerify = buildClassifier();
+        for (Map.Entry<String, String> geneAndEvent : genesAndEvents) {
+            String gene = geneAndEvent.getKey();
+            String event = geneAndEvent.getValue();
+            if (classifierToVerify.determineType(gene, event) != flatClassifier.determineType(gene, event)) {
+                throw new IllegalStateException("Classifiers disagree on '" + event + "' on '" + gene + "'");
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setupClassifier() {
+        // A new classifier per iteration, so that neither the type cache nor the shared protein annotations carry over.
+        classifier = buildClassifier();
+    }
+
+    @Benchmark
+    public void determineType(Blackhole blackhole) {
+        for (Map.Entry<String, String> geneAndEvent : genesAndEvents) {
+            blackhole.consume(classifier.determineType(geneAndEvent.getKey(), geneAndEvent.getValue()));
+        }
+    }
+
+    @NotNull
+    private EventClassifier buildClassifier() {
+        switch (classifierType) {
+            case "FLAT":
+                return new EventClassifier(EventMatcherFactory.buildMatcherMap(classifierConfig));
+            case "TIERED":
+                return new EventClassifier(EventMatcherFactory.buildMatcherTiers(classifierConfig), 0);
+            case "CACHED":
+                return EventClassifierFactory.buildClassifier(classifierConfig);
+            default:
+                throw new IllegalArgumentException("Unknown classifier type: " + classifierType);
+        }
+    }
+}
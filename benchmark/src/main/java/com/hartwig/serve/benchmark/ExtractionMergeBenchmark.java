@@ -0,0 +1,77 @@
+package com.hartwig.serve.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import com.hartwig.serve.common.classification.EventType;
+import com.hartwig.serve.datamodel.Knowledgebase;
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
+import com.hartwig.serve.extraction.ExtractionFunctions;
+import com.hartwig.serve.extraction.ExtractionResult;
+import com.hartwig.serve.extraction.ImmutableExtractionResult;
+import com.hartwig.serve.extraction.events.ImmutableEventInterpretation;
+import com.hartwig.serve.extraction.variant.KnownHotspotConsolidation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExtractionMergeBenchmark {
+
+    @Param({ "1000", "50000" })
+    public int resultCount;
+
+    private List<ExtractionResult> results;
+    private List<KnownHotspot> hotspots;
+
+    @Setup
+    public void setup() {
+        results = Lists.newArrayListWithCapacity(resultCount);
+        for (int i = 0; i < resultCount; i++) {
+            results.add(ImmutableExtractionResult.builder()
+                    .refGenomeVersion(RefGenome.V38)
+                    .eventInterpretations(Set.of(ImmutableEventInterpretation.builder()
+                            .source(Knowledgebase.CKB)
+                            .sourceEvent("event " + i)
+                            .interpretedGene("GENE" + i)
+                            .interpretedEvent("event " + i)
+                            .interpretedEventType(EventType.VARIANT)
+                            .build()))
+                    .knownEvents(SyntheticKnownEvents.create(i, "chr"))
+                    .build());
+        }
+        hotspots = SyntheticKnownEvents.createHotspots(resultCount, "chr");
+    }
+
+    @Benchmark
+    public ExtractionResult merge() {
+        return ExtractionFunctions.merge(results);
+    }
+
+    @Benchmark
+    public ExtractionResult mergeInParallel() {
+        return results.parallelStream().collect(ExtractionFunctions.toMergedExtractionResult());
+    }
+
+    @Benchmark
+    public Set<KnownHotspot> consolidateHotspots() {
+        return KnownHotspotConsolidation.consolidate(hotspots);
+    }
+}
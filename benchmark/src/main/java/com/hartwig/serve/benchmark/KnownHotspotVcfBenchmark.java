@@ -0,0 +1,68 @@
+package com.hartwig.serve.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
+import com.hartwig.serve.extraction.variant.KnownHotspotVCF;
+import com.hartwig.serve.refgenome.RefSequenceService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KnownHotspotVcfBenchmark {
+
+    @Param(BenchmarkResources.REF_GENOME_37_FASTA)
+    public String refGenomeFasta;
+
+    @Param({ "1000", "50000" })
+    public int hotspotCount;
+
+    private RefSequenceService refSequence;
+    private List<KnownHotspot> hotspots;
+    private File outputDir;
+
+    @Setup
+    public void setup() throws IOException {
+        refSequence = RefSequenceService.fromFastaFile(BenchmarkResources.resolve(refGenomeFasta));
+        hotspots = SyntheticKnownEvents.createHotspots(hotspotCount, "");
+        outputDir = Files.createTempDirectory("serve").toFile();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        refSequence.close();
+
+        File[] files = outputDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        outputDir.delete();
+    }
+
+    @Benchmark
+    public void write() {
+        KnownHotspotVCF.write(new File(outputDir, "known_hotspots.vcf.gz").getPath(), refSequence, hotspots);
+    }
+}
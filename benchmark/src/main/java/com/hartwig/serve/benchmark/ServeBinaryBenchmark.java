@@ -0,0 +1,74 @@
+package com.hartwig.serve.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.datamodel.ServeDatabase;
+import com.hartwig.serve.datamodel.ServeRecord;
+import com.hartwig.serve.datamodel.serialization.ServeBinary;
+import com.hartwig.serve.datamodel.serialization.ServeJson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Runs on the same input as ServeJsonBenchmark, so that the results of both can be compared directly.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ServeBinaryBenchmark {
+
+    @Param(BenchmarkResources.SERVE_JSON)
+    public String serveJson;
+
+    @Param("V37")
+    public String refGenome;
+
+    private ServeDatabase database;
+    private File inputBinary;
+    private File outputBinary;
+
+    @Setup
+    public void setup() throws IOException {
+        database = ServeJson.read(BenchmarkResources.resolve(serveJson));
+        inputBinary = Files.createTempFile("serve", ".bin").toFile();
+        outputBinary = Files.createTempFile("serve", ".bin").toFile();
+        ServeBinary.write(database, inputBinary.getPath());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(inputBinary.toPath());
+        Files.deleteIfExists(outputBinary.toPath());
+    }
+
+    @Benchmark
+    public ServeDatabase read() throws IOException {
+        return ServeBinary.read(inputBinary.getPath());
+    }
+
+    @Benchmark
+    public ServeRecord readRecord() throws IOException {
+        return ServeBinary.readRecord(inputBinary.getPath(), RefGenome.valueOf(refGenome));
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        ServeBinary.write(database, outputBinary.getPath());
+    }
+}
@@ -0,0 +1,65 @@
+package com.hartwig.serve.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+
+import com.hartwig.serve.datamodel.ServeDatabase;
+import com.hartwig.serve.datamodel.serialization.ServeBinary;
+import com.hartwig.serve.datamodel.serialization.ServeJson;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+// Measures the heap that is retained by a SERVE database after loading it from json and from the binary format.
+public final class ServeDatabaseFootprint {
+
+    private static final Logger LOGGER = LogManager.getLogger(ServeDatabaseFootprint.class);
+
+    private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+
+    private ServeDatabaseFootprint() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String serveJson = BenchmarkResources.resolve(args.length > 0 ? args[0] : BenchmarkResources.SERVE_JSON);
+
+        File serveBinary = Files.createTempFile("serve", ".bin").toFile();
+        try {
+            ServeBinary.write(ServeJson.read(serveJson), serveBinary.getPath());
+
+            long jsonBytes = retainedBytes(() -> ServeJson.read(serveJson));
+            long binaryBytes = retainedBytes(() -> ServeBinary.read(serveBinary.getPath()));
+
+            LOGGER.info("Loading {} ({} bytes) from json retains {} bytes of heap", serveJson, new File(serveJson).length(), jsonBytes);
+            LOGGER.info("Loading {} ({} bytes) from binary retains {} bytes of heap", serveJson, serveBinary.length(), binaryBytes);
+        } finally {
+            Files.delete(serveBinary.toPath());
+        }
+    }
+
+    private static long retainedBytes(@NotNull DatabaseLoader loader) throws IOException {
+        long before = usedHeapAfterGc();
+        ServeDatabase database = loader.load();
+        long after = usedHeapAfterGc();
+        // Keeps the database reachable until the heap has been measured.
+        LOGGER.debug("Loaded SERVE database version {}", database.version());
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed();
+    }
+
+    private interface DatabaseLoader {
+
+        @NotNull
+        ServeDatabase load() throws IOException;
+    }
+}
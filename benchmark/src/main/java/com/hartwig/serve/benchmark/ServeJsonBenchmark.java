@@ -0,0 +1,68 @@
+package com.hartwig.serve.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.datamodel.ServeDatabase;
+import com.hartwig.serve.datamodel.ServeRecord;
+import com.hartwig.serve.datamodel.serialization.ServeJson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ServeJsonBenchmark {
+
+    @Param(BenchmarkResources.SERVE_JSON)
+    public String serveJson;
+
+    @Param("V37")
+    public String refGenome;
+
+    private ServeDatabase database;
+    private File outputJson;
+
+    @Setup
+    public void setup() throws IOException {
+        database = ServeJson.read(BenchmarkResources.resolve(serveJson));
+        outputJson = Files.createTempFile("serve", ".json").toFile();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(outputJson.toPath());
+    }
+
+    @Benchmark
+    public ServeDatabase read() throws IOException {
+        return ServeJson.read(BenchmarkResources.resolve(serveJson));
+    }
+
+    @Benchmark
+    public ServeRecord readRecord() throws IOException {
+        return ServeJson.readRecord(BenchmarkResources.resolve(serveJson), RefGenome.valueOf(refGenome));
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        ServeJson.write(database, outputJson.getPath());
+    }
+}
@@ -0,0 +1,110 @@
+package com.hartwig.serve.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.hartwig.serve.datamodel.ImmutableServeDatabase;
+import com.hartwig.serve.datamodel.ImmutableServeRecord;
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.datamodel.ServeDatabase;
+import com.hartwig.serve.datamodel.ServeRecord;
+import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
+import com.hartwig.serve.datamodel.efficacy.ImmutableEfficacyEvidence;
+import com.hartwig.serve.datamodel.molecular.ImmutableKnownEvents;
+import com.hartwig.serve.datamodel.serialization.ServeJson;
+import com.hartwig.serve.datamodel.trial.ActionableTrial;
+import com.hartwig.serve.datamodel.trial.ImmutableActionableTrial;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+// Scales the CKB and SERVE test resources up to inputs of a size that is representative for a real SERVE run.
+public final class SyntheticInputs {
+
+    private static final Logger LOGGER = LogManager.getLogger(SyntheticInputs.class);
+
+    private static final int DEFAULT_COPIES = 1000;
+
+    private SyntheticInputs() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: SyntheticInputs <output dir> [copies]");
+        }
+
+        File outputDir = new File(args[0]);
+        int copies = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_COPIES;
+
+        writeCkbDir(new File(BenchmarkResources.resolve(BenchmarkResources.CKB_DIR)), new File(outputDir, "ckb"), copies);
+        writeServeJson(BenchmarkResources.resolve(BenchmarkResources.SERVE_JSON), new File(outputDir, "serve.json").getPath(), copies);
+    }
+
+    private static void writeCkbDir(@NotNull File ckbDir, @NotNull File outputDir, int copies) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        File[] typeDirs = ckbDir.listFiles(File::isDirectory);
+        if (typeDirs == null) {
+            throw new IOException("Could not list CKB dir " + ckbDir);
+        }
+
+        for (File typeDir : typeDirs) {
+            File outputTypeDir = new File(outputDir, typeDir.getName());
+            if (!outputTypeDir.mkdirs() && !outputTypeDir.isDirectory()) {
+                throw new IOException("Could not create " + outputTypeDir);
+            }
+
+            File[] files = typeDir.listFiles((dir, name) -> name.endsWith(".json"));
+            for (File file : files != null ? files : new File[0]) {
+                ObjectNode entry = (ObjectNode) mapper.readTree(file);
+                String name = file.getName().substring(0, file.getName().length() - ".json".length());
+                for (int i = 0; i < copies; i++) {
+                    // Every copy gets its own id so that the copies do not collapse when CKB entries are indexed by id.
+                    if (entry.has("id")) {
+                        entry.put("id", i);
+                    }
+                    if (entry.has("nctId")) {
+                        entry.put("nctId", String.format("NCT%08d", i));
+                    }
+                    mapper.writeValue(new File(outputTypeDir, name + "_" + i + ".json"), entry);
+                }
+            }
+        }
+        LOGGER.info("Written {} copies of every CKB entry to {}", copies, outputDir);
+    }
+
+    private static void writeServeJson(@NotNull String serveJson, @NotNull String outputJson, int copies) throws IOException {
+        ServeDatabase database = ServeJson.read(serveJson);
+
+        Map<RefGenome, ServeRecord> records = Maps.newHashMap();
+        for (Map.Entry<RefGenome, ServeRecord> entry : database.records().entrySet()) {
+            String chromosomePrefix = entry.getKey() == RefGenome.V38 ? "chr" : "";
+            ImmutableKnownEvents.Builder knownEvents = ImmutableKnownEvents.builder().from(entry.getValue().knownEvents());
+            List<EfficacyEvidence> evidences = Lists.newArrayList();
+            List<ActionableTrial> trials = Lists.newArrayList();
+
+            for (int i = 0; i < copies; i++) {
+                knownEvents.from(SyntheticKnownEvents.create(i, chromosomePrefix));
+                for (EfficacyEvidence evidence : entry.getValue().evidences()) {
+                    evidences.add(ImmutableEfficacyEvidence.copyOf(evidence)
+                            .withEfficacyDescription(evidence.efficacyDescription() + " " + i));
+                }
+                for (ActionableTrial trial : entry.getValue().trials()) {
+                    trials.add(ImmutableActionableTrial.copyOf(trial).withNctId(String.format("NCT%08d", trials.size())));
+                }
+            }
+
+            records.put(entry.getKey(),
+                    ImmutableServeRecord.builder().knownEvents(knownEvents.build()).evidences(evidences).trials(trials).build());
+        }
+
+        ServeJson.write(ImmutableServeDatabase.builder().from(database).records(records).build(), outputJson);
+        LOGGER.info("Written {} copies of every SERVE evidence and trial to {}", copies, outputJson);
+    }
+}
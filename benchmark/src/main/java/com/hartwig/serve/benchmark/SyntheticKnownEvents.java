@@ -0,0 +1,100 @@
+package com.hartwig.serve.benchmark;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.hartwig.serve.datamodel.Knowledgebase;
+import com.hartwig.serve.datamodel.molecular.ImmutableKnownEvents;
+import com.hartwig.serve.datamodel.molecular.KnownEvents;
+import com.hartwig.serve.datamodel.molecular.MutationType;
+import com.hartwig.serve.datamodel.molecular.common.GeneRole;
+import com.hartwig.serve.datamodel.molecular.common.ProteinEffect;
+import com.hartwig.serve.datamodel.molecular.gene.GeneEvent;
+import com.hartwig.serve.datamodel.molecular.gene.ImmutableKnownCopyNumber;
+import com.hartwig.serve.datamodel.molecular.gene.ImmutableKnownGene;
+import com.hartwig.serve.datamodel.molecular.gene.KnownCopyNumber;
+import com.hartwig.serve.datamodel.molecular.gene.KnownGene;
+import com.hartwig.serve.datamodel.molecular.hotspot.ImmutableKnownHotspot;
+import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
+import com.hartwig.serve.datamodel.molecular.range.ImmutableKnownCodon;
+import com.hartwig.serve.datamodel.molecular.range.KnownCodon;
+
+import org.jetbrains.annotations.NotNull;
+
+public final class SyntheticKnownEvents {
+
+    // The test ref genomes hold 8 bases per chromosome, with this sequence on every chromosome.
+    private static final String TEST_REF_SEQUENCE = "GATCGATC";
+    private static final int CHROMOSOME_COUNT = 22;
+    private static final int GENE_COUNT = 500;
+
+    private static final Knowledgebase[] SOURCES = { Knowledgebase.CKB, Knowledgebase.VICC_CIVIC, Knowledgebase.VICC_CGI };
+    private static final ProteinEffect[] PROTEIN_EFFECTS =
+            { ProteinEffect.GAIN_OF_FUNCTION, ProteinEffect.GAIN_OF_FUNCTION_PREDICTED, ProteinEffect.UNKNOWN };
+
+    private SyntheticKnownEvents() {
+    }
+
+    @NotNull
+    public static KnownEvents create(int index, @NotNull String chromosomePrefix) {
+        // Indices are spread over a limited set of chromosomes, positions and genes so that events overlap between indices.
+        String chromosome = chromosomePrefix + (1 + index % CHROMOSOME_COUNT);
+        int position = 1 + index % TEST_REF_SEQUENCE.length();
+        String gene = "GENE" + index % GENE_COUNT;
+        Knowledgebase source = SOURCES[index % SOURCES.length];
+        ProteinEffect proteinEffect = PROTEIN_EFFECTS[index % PROTEIN_EFFECTS.length];
+        String ref = TEST_REF_SEQUENCE.substring(position - 1, position);
+
+        KnownHotspot hotspot = ImmutableKnownHotspot.builder()
+                .gene(gene)
+                .chromosome(chromosome)
+                .position(position)
+                .ref(ref)
+                .alt(ref.equals("A") ? "T" : "A")
+                .geneRole(GeneRole.ONCO)
+                .proteinEffect(proteinEffect)
+                .addSources(source)
+                .inputTranscript("ENST" + index % 7)
+                .inputProteinAnnotation("p.X" + index % 11 + "Y")
+                .build();
+
+        KnownCodon codon = ImmutableKnownCodon.builder()
+                .gene(gene)
+                .chromosome(chromosome)
+                .start(1)
+                .end(3)
+                .applicableMutationType(MutationType.MISSENSE)
+                .geneRole(GeneRole.ONCO)
+                .proteinEffect(proteinEffect)
+                .addSources(source)
+                .inputTranscript("ENST" + index % 7)
+                .inputCodonRank(1 + index % 3)
+                .build();
+
+        KnownGene knownGene = ImmutableKnownGene.builder().gene(gene).geneRole(GeneRole.BOTH).addSources(source).build();
+
+        KnownCopyNumber copyNumber = ImmutableKnownCopyNumber.builder()
+                .gene(gene)
+                .event(index % 2 == 0 ? GeneEvent.AMPLIFICATION : GeneEvent.DELETION)
+                .geneRole(GeneRole.BOTH)
+                .proteinEffect(proteinEffect)
+                .addSources(source)
+                .build();
+
+        return ImmutableKnownEvents.builder()
+                .addHotspots(hotspot)
+                .addCodons(codon)
+                .addGenes(knownGene)
+                .addCopyNumbers(copyNumber)
+                .build();
+    }
+
+    @NotNull
+    public static List<KnownHotspot> createHotspots(int count, @NotNull String chromosomePrefix) {
+        List<KnownHotspot> hotspots = Lists.newArrayListWithCapacity(count);
+        for (int i = 0; i < count; i++) {
+            hotspots.addAll(create(i, chromosomePrefix).hotspots());
+        }
+        return hotspots;
+    }
+}
@@ -0,0 +1,82 @@
+package com.hartwig.serve.refgenome;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.hartwig.serve.benchmark.BenchmarkResources;
+import com.hartwig.serve.benchmark.SyntheticKnownEvents;
+import com.hartwig.serve.common.RefGenomeFunctions;
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.datamodel.molecular.ImmutableKnownEvents;
+import com.hartwig.serve.datamodel.molecular.KnownEvents;
+import com.hartwig.serve.refgenome.liftover.CachingLiftOverAlgo;
+import com.hartwig.serve.refgenome.liftover.ImmutableLiftOverResult;
+import com.hartwig.serve.refgenome.liftover.LiftOverAlgo;
+import com.hartwig.serve.refgenome.liftover.UCSCLiftOver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Lives in the refgenome package since the ref genome converter is not part of the public API of the algo module.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RefGenomeConverterBenchmark {
+
+    // Without a chain file positions are lifted onto themselves, which isolates the conversion from the UCSC liftover itself.
+    @Param("")
+    public String chainFile;
+
+    @Param(BenchmarkResources.REF_GENOME_38_FASTA)
+    public String targetFasta;
+
+    @Param({ "1000", "50000" })
+    public int eventCount;
+
+    private RefSequenceService targetSequence;
+    private RefGenomeConverter converter;
+    private KnownEvents knownEvents;
+
+    @Setup
+    public void setup() throws FileNotFoundException {
+        LiftOverAlgo liftOverAlgo = chainFile.isEmpty()
+                ? (chromosome, position) -> ImmutableLiftOverResult.builder()
+                        .chromosome(RefGenomeFunctions.versionedChromosome(chromosome, RefGenome.V38))
+                        .position(position)
+                        .build()
+                : new CachingLiftOverAlgo(UCSCLiftOver.fromChainFile(BenchmarkResources.resolve(chainFile), RefGenome.V38));
+
+        targetSequence = RefSequenceService.fromFastaFile(BenchmarkResources.resolve(targetFasta));
+        converter = new RefGenomeConverter(RefGenome.V37, RefGenome.V38, targetSequence, liftOverAlgo);
+
+        ImmutableKnownEvents.Builder builder = ImmutableKnownEvents.builder();
+        for (int i = 0; i < eventCount; i++) {
+            builder.from(SyntheticKnownEvents.create(i, ""));
+        }
+        knownEvents = builder.build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        targetSequence.close();
+    }
+
+    @Benchmark
+    public KnownEvents convertKnownEvents() {
+        return converter.convertKnownEvents(knownEvents);
+    }
+}
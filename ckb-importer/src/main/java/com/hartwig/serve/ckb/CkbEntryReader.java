@@ -16,7 +16,12 @@ public final class CkbEntryReader {
 
     @NotNull
     public static List<CkbEntry> read(@NotNull String ckbDir) throws IOException {
-        CkbJsonDatabase ckbJsonDatabase = CkbJsonReader.read(ckbDir);
+        return read(ckbDir, true);
+    }
+
+    @NotNull
+    public static List<CkbEntry> read(@NotNull String ckbDir, boolean checkDatamodel) throws IOException {
+        CkbJsonDatabase ckbJsonDatabase = CkbJsonReader.read(ckbDir, checkDatamodel);
         return JsonDatabaseToCkbEntryConverter.convert(ckbJsonDatabase);
     }
 }
@@ -5,6 +5,7 @@ import java.sql.SQLException;
 import java.util.List;
 
 import com.hartwig.serve.ckb.dao.CkbDAO;
+import com.hartwig.serve.ckb.dao.CkbEntryDelta;
 import com.hartwig.serve.ckb.datamodel.CkbEntry;
 
 import org.apache.commons.cli.DefaultParser;
@@ -35,7 +36,7 @@ public class CkbImporterApplication {
         }
 
         LOGGER.info("Reading CKB database from {}", config.ckbDir());
-        List<CkbEntry> ckbEntries = CkbEntryReader.read(config.ckbDir());
+        List<CkbEntry> ckbEntries = CkbEntryReader.read(config.ckbDir(), !config.skipJsonDatamodelCheck());
         LOGGER.info(" Read {} entries", ckbEntries.size());
 
         updateCkbSqlDatabase(config, ckbEntries);
@@ -49,18 +50,20 @@ public class CkbImporterApplication {
         } else {
             CkbDAO ckbDAO = CkbDAO.connectToCkbDAO(config.dbUser(), config.dbPass(), "jdbc:" + config.dbUrl());
 
-            LOGGER.info("Deleting all data from CKB database");
-            ckbDAO.deleteAll();
+            if (config.incrementalUpdate()) {
+                LOGGER.info("Updating CKB database with {} CKB entries", ckbEntries.size());
+                CkbEntryDelta delta = ckbDAO.update(ckbEntries);
+                LOGGER.info(" Inserted {} new, rewrote {} changed and deleted {} removed CKB entries, {} entries are unchanged",
+                        delta.addedEntries().size(),
+                        delta.changedEntries().size(),
+                        delta.removedProfileIds().size(),
+                        delta.unchangedEntryCount());
+            } else {
+                LOGGER.info("Deleting all data from CKB database");
+                ckbDAO.deleteAll();
 
-            LOGGER.info("Inserting {} CKB entries", ckbEntries.size());
-            int current = 0;
-            int report = (int) Math.round(ckbEntries.size() / 10D);
-            for (CkbEntry entry : ckbEntries) {
-                ckbDAO.write(entry);
-                current++;
-                if (current % report == 0) {
-                    LOGGER.debug(" Inserted {} of {} CKB entries", current, ckbEntries.size());
-                }
+                LOGGER.info("Inserting {} CKB entries", ckbEntries.size());
+                ckbDAO.write(ckbEntries);
             }
         }
     }
@@ -23,6 +23,8 @@ public interface CkbImporterConfig {
     String DB_URL = "db_url";
 
     String SKIP_DATABASE_WRITING = "skip_database_writing";
+    String INCREMENTAL_UPDATE = "incremental_update";
+    String SKIP_JSON_DATAMODEL_CHECK = "skip_json_datamodel_check";
     String LOG_DEBUG = "log_debug";
 
     @NotNull
@@ -37,6 +39,12 @@ public interface CkbImporterConfig {
         options.addOption(DB_URL, true, "Database url.");
 
         options.addOption(SKIP_DATABASE_WRITING, false, "If this flag is set, we skip writing to the database");
+        options.addOption(SKIP_JSON_DATAMODEL_CHECK,
+                false,
+                "If this flag is set, we skip verifying that the CKB json files match the expected datamodel");
+        options.addOption(INCREMENTAL_UPDATE,
+                false,
+                "If this flag is set, only profiles that have been added, changed or removed since the previous import are written");
 
         return options;
     }
@@ -55,6 +63,10 @@ public interface CkbImporterConfig {
 
     boolean skipDatabaseWriting();
 
+    boolean incrementalUpdate();
+
+    boolean skipJsonDatamodelCheck();
+
     @NotNull
     static CkbImporterConfig createConfig(@NotNull CommandLine cmd) throws ParseException {
         if (cmd.hasOption(LOG_DEBUG)) {
@@ -66,6 +78,8 @@ public interface CkbImporterConfig {
                 .dbPass(nonOptionalValue(cmd, DB_PASS))
                 .dbUrl(nonOptionalValue(cmd, DB_URL))
                 .skipDatabaseWriting(cmd.hasOption(SKIP_DATABASE_WRITING))
+                .incrementalUpdate(cmd.hasOption(INCREMENTAL_UPDATE))
+                .skipJsonDatamodelCheck(cmd.hasOption(SKIP_JSON_DATAMODEL_CHECK))
                 .build();
     }
 
@@ -29,7 +29,7 @@ public class CkbJsonReaderTestApp {
             ckbDir = System.getProperty("user.home") + "/hmf/serve/ckb";
         }
 
-        CkbJsonReader.read(ckbDir, maxFilesToReadPerType);
+        CkbJsonReader.read(ckbDir, maxFilesToReadPerType, true);
 
         LOGGER.info("Complete!");
     }
@@ -7,7 +7,11 @@ import java.util.stream.Collectors;
 import com.hartwig.serve.ckb.datamodel.CkbEntry;
 import com.hartwig.serve.ckb.datamodel.ImmutableCkbEntry;
 import com.hartwig.serve.ckb.datamodel.clinicaltrial.ClinicalTrialFactory;
+import com.hartwig.serve.ckb.datamodel.drug.DrugFactory;
 import com.hartwig.serve.ckb.datamodel.evidence.EvidenceFactory;
+import com.hartwig.serve.ckb.datamodel.indication.IndicationFactory;
+import com.hartwig.serve.ckb.datamodel.therapy.TherapyFactory;
+import com.hartwig.serve.ckb.datamodel.treatmentapproaches.RelevantTreatmentApproachesFactory;
 import com.hartwig.serve.ckb.datamodel.variant.VariantFactory;
 import com.hartwig.serve.ckb.json.CkbJsonDatabase;
 
@@ -27,7 +31,17 @@ final class JsonDatabaseToCkbEntryConverter {
         int profileCount = ckbJsonDatabase.molecularProfiles().size();
         LOGGER.debug(" Converting {} CKB molecular profiles to interpreted CKB entries", profileCount);
 
+        // The factories share every resolved therapy, drug, indication, clinical trial and variant between all molecular profiles.
         VariantFactory variantFactory = new VariantFactory(ckbJsonDatabase);
+        DrugFactory drugFactory = new DrugFactory(ckbJsonDatabase);
+        IndicationFactory indicationFactory = new IndicationFactory(ckbJsonDatabase);
+        TherapyFactory therapyFactory = new TherapyFactory(ckbJsonDatabase, drugFactory);
+        RelevantTreatmentApproachesFactory treatmentApproachesFactory =
+                new RelevantTreatmentApproachesFactory(ckbJsonDatabase, drugFactory, therapyFactory);
+        EvidenceFactory evidenceFactory =
+                new EvidenceFactory(ckbJsonDatabase, therapyFactory, indicationFactory, treatmentApproachesFactory);
+        ClinicalTrialFactory clinicalTrialFactory = new ClinicalTrialFactory(ckbJsonDatabase, therapyFactory, indicationFactory);
+
         AtomicInteger current = new AtomicInteger(0);
         int report = Math.max((int) Math.round(profileCount / 10D), 1);
 
@@ -38,9 +52,8 @@ final class JsonDatabaseToCkbEntryConverter {
                     .updateDate(molecularProfile.updateDate())
                     .profileName(molecularProfile.profileName())
                     .variants(variantFactory.extractVariants(molecularProfile.geneVariants()))
-                    .evidences(EvidenceFactory.extractEvidences(ckbJsonDatabase, molecularProfile.variantLevelEvidence().evidences()))
-                    .clinicalTrials(ClinicalTrialFactory.extractClinicalTrials(ckbJsonDatabase,
-                            molecularProfile.variantAssociatedClinicalTrials()))
+                    .evidences(evidenceFactory.extractEvidences(molecularProfile.variantLevelEvidence().evidences()))
+                    .clinicalTrials(clinicalTrialFactory.extractClinicalTrials(molecularProfile.variantAssociatedClinicalTrials()))
                     .build();
 
             int processed = current.addAndGet(1);
@@ -3,18 +3,27 @@ package com.hartwig.serve.ckb.dao;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.hartwig.serve.ckb.database.tables.Ckbentry;
 import com.hartwig.serve.ckb.datamodel.CkbEntry;
 import com.hartwig.serve.ckb.datamodel.clinicaltrial.ClinicalTrial;
 import com.hartwig.serve.ckb.datamodel.evidence.Evidence;
 import com.hartwig.serve.ckb.datamodel.variant.Variant;
+import com.hartwig.serve.common.dao.InsertBatcher;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jooq.DSLContext;
+import org.jooq.Record;
 import org.jooq.SQLDialect;
 import org.jooq.conf.MappedSchema;
 import org.jooq.conf.RenderMapping;
@@ -30,6 +39,10 @@ public final class CkbDAO {
     @NotNull
     private final DSLContext context;
     @NotNull
+    private final InsertBatcher batcher;
+    @NotNull
+    private final InsertBatcher.Batch ckbEntries;
+    @NotNull
     private final TherapyDAO therapyDAO;
     @NotNull
     private final IndicationDAO indicationDAO;
@@ -66,12 +79,22 @@ public final class CkbDAO {
 
     private CkbDAO(@NotNull final DSLContext context) {
         this.context = context;
-        this.therapyDAO = new TherapyDAO(context);
-        this.indicationDAO = new IndicationDAO(context);
-        this.variantDAO = new VariantDAO(context);
-        this.treatmentApproachDAO = new TreatmentApproachDAO(context);
-        this.evidenceDAO = new EvidenceDAO(context, therapyDAO, indicationDAO, treatmentApproachDAO);
-        this.clinicalTrialDAO = new ClinicalTrialDAO(context, therapyDAO, indicationDAO);
+        this.batcher = new InsertBatcher(context);
+
+        // The order of construction determines the order in which batches are flushed, so every DAO has to be created after the DAOs
+        // whose rows it refers to.
+        this.ckbEntries = batcher.into(Ckbentry.CKBENTRY,
+                Ckbentry.CKBENTRY.ID,
+                Ckbentry.CKBENTRY.CKBPROFILEID,
+                Ckbentry.CKBENTRY.CREATEDATE,
+                Ckbentry.CKBENTRY.UPDATEDATE,
+                Ckbentry.CKBENTRY.PROFILENAME);
+        this.therapyDAO = new TherapyDAO(context, batcher);
+        this.indicationDAO = new IndicationDAO(context, batcher);
+        this.treatmentApproachDAO = new TreatmentApproachDAO(context, batcher);
+        this.variantDAO = new VariantDAO(context, batcher);
+        this.evidenceDAO = new EvidenceDAO(context, batcher, therapyDAO, indicationDAO, treatmentApproachDAO);
+        this.clinicalTrialDAO = new ClinicalTrialDAO(context, batcher, therapyDAO, indicationDAO);
     }
 
     public void deleteAll() {
@@ -89,16 +112,86 @@ public final class CkbDAO {
         context.deleteFrom(Ckbentry.CKBENTRY).execute();
     }
 
-    public void write(@NotNull CkbEntry ckbEntry) {
-        int id = context.insertInto(Ckbentry.CKBENTRY,
-                        Ckbentry.CKBENTRY.CKBPROFILEID,
-                        Ckbentry.CKBENTRY.CREATEDATE,
-                        Ckbentry.CKBENTRY.UPDATEDATE,
-                        Ckbentry.CKBENTRY.PROFILENAME)
-                .values(ckbEntry.profileId(), ckbEntry.createDate(), ckbEntry.updateDate(), ckbEntry.profileName())
-                .returning(Ckbentry.CKBENTRY.ID)
-                .fetchOne()
-                .getValue(Ckbentry.CKBENTRY.ID);
+    public void write(@NotNull List<CkbEntry> entries) {
+        // All entries are written in a single transaction so that a failing import never leaves a partially filled database behind.
+        context.transaction(configuration -> new CkbDAO(DSL.using(configuration)).writeInTransaction(entries));
+    }
+
+    @NotNull
+    public CkbEntryDelta update(@NotNull List<CkbEntry> entries) {
+        // The update runs in a single transaction so that a failing import never leaves a partially updated database behind.
+        return context.transactionResult(configuration -> new CkbDAO(DSL.using(configuration)).updateInTransaction(entries));
+    }
+
+    @NotNull
+    private CkbEntryDelta updateInTransaction(@NotNull List<CkbEntry> entries) {
+        Map<Integer, Integer> storedIdPerProfileId = Maps.newHashMap();
+        Map<Integer, LocalDate> storedUpdateDatePerProfileId = Maps.newHashMap();
+        for (Record record : context.select(Ckbentry.CKBENTRY.ID, Ckbentry.CKBENTRY.CKBPROFILEID, Ckbentry.CKBENTRY.UPDATEDATE)
+                .from(Ckbentry.CKBENTRY)
+                .fetch()) {
+            int profileId = record.getValue(Ckbentry.CKBENTRY.CKBPROFILEID);
+            storedIdPerProfileId.put(profileId, record.getValue(Ckbentry.CKBENTRY.ID));
+            storedUpdateDatePerProfileId.put(profileId, record.getValue(Ckbentry.CKBENTRY.UPDATEDATE));
+        }
+
+        CkbEntryDelta delta = CkbEntryDeltaFactory.create(storedUpdateDatePerProfileId, entries);
+
+        // Changed entries are removed entirely and then written again as if they were new.
+        Set<Integer> entryIdsToDelete = Sets.newHashSet();
+        for (CkbEntry changedEntry : delta.changedEntries()) {
+            entryIdsToDelete.add(storedIdPerProfileId.get(changedEntry.profileId()));
+        }
+        for (int removedProfileId : delta.removedProfileIds()) {
+            entryIdsToDelete.add(storedIdPerProfileId.get(removedProfileId));
+        }
+        deleteEntries(entryIdsToDelete);
+
+        // Shared therapies, indications and treatment approaches are reused by all entries that are written again.
+        therapyDAO.loadStored();
+        indicationDAO.loadStored();
+        treatmentApproachDAO.loadStored();
+
+        List<CkbEntry> entriesToWrite = Lists.newArrayList(delta.addedEntries());
+        entriesToWrite.addAll(delta.changedEntries());
+        writeInTransaction(entriesToWrite);
+
+        therapyDAO.deleteUnreferenced();
+        indicationDAO.deleteUnreferenced();
+        treatmentApproachDAO.deleteUnreferenced();
+
+        return delta;
+    }
+
+    private void deleteEntries(@NotNull Set<Integer> ckbEntryIds) {
+        if (ckbEntryIds.isEmpty()) {
+            return;
+        }
+
+        // Note that deletions should go from branch to root
+        variantDAO.deleteForEntries(ckbEntryIds);
+        evidenceDAO.deleteForEntries(ckbEntryIds);
+        clinicalTrialDAO.deleteForEntries(ckbEntryIds);
+
+        context.deleteFrom(Ckbentry.CKBENTRY).where(Ckbentry.CKBENTRY.ID.in(ckbEntryIds)).execute();
+    }
+
+    private void writeInTransaction(@NotNull List<CkbEntry> entries) {
+        int current = 0;
+        int report = Math.max(1, (int) Math.round(entries.size() / 10D));
+        for (CkbEntry entry : entries) {
+            write(entry);
+            current++;
+            if (current % report == 0) {
+                LOGGER.debug(" Inserted {} of {} CKB entries", current, entries.size());
+            }
+        }
+        batcher.flush();
+    }
+
+    private void write(@NotNull CkbEntry ckbEntry) {
+        int id = batcher.nextId(Ckbentry.CKBENTRY.ID);
+        ckbEntries.values(id, ckbEntry.profileId(), ckbEntry.createDate(), ckbEntry.updateDate(), ckbEntry.profileName());
 
         for (Variant variant : ckbEntry.variants()) {
             variantDAO.write(variant, id);
@@ -0,0 +1,26 @@
+package com.hartwig.serve.ckb.dao;
+
+import java.util.List;
+import java.util.Set;
+
+import com.hartwig.serve.ckb.datamodel.CkbEntry;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@Value.Immutable
+@Value.Style(passAnnotations = { NotNull.class, Nullable.class })
+public abstract class CkbEntryDelta {
+
+    @NotNull
+    public abstract List<CkbEntry> addedEntries();
+
+    @NotNull
+    public abstract List<CkbEntry> changedEntries();
+
+    @NotNull
+    public abstract Set<Integer> removedProfileIds();
+
+    public abstract int unchangedEntryCount();
+}
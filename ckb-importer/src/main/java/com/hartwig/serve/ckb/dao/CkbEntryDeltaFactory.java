@@ -0,0 +1,48 @@
+package com.hartwig.serve.ckb.dao;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.hartwig.serve.ckb.datamodel.CkbEntry;
+
+import org.jetbrains.annotations.NotNull;
+
+final class CkbEntryDeltaFactory {
+
+    private CkbEntryDeltaFactory() {
+    }
+
+    @NotNull
+    static CkbEntryDelta create(@NotNull Map<Integer, LocalDate> storedUpdateDatePerProfileId, @NotNull List<CkbEntry> entries) {
+        List<CkbEntry> addedEntries = Lists.newArrayList();
+        List<CkbEntry> changedEntries = Lists.newArrayList();
+        Set<Integer> incomingProfileIds = Sets.newHashSet();
+        int unchangedEntryCount = 0;
+
+        for (CkbEntry entry : entries) {
+            incomingProfileIds.add(entry.profileId());
+
+            LocalDate storedUpdateDate = storedUpdateDatePerProfileId.get(entry.profileId());
+            if (storedUpdateDate == null) {
+                addedEntries.add(entry);
+            } else if (!storedUpdateDate.equals(entry.updateDate())) {
+                changedEntries.add(entry);
+            } else {
+                unchangedEntryCount++;
+            }
+        }
+
+        Set<Integer> removedProfileIds = Sets.newTreeSet(Sets.difference(storedUpdateDatePerProfileId.keySet(), incomingProfileIds));
+
+        return ImmutableCkbEntryDelta.builder()
+                .addedEntries(addedEntries)
+                .changedEntries(changedEntries)
+                .removedProfileIds(removedProfileIds)
+                .unchangedEntryCount(unchangedEntryCount)
+                .build();
+    }
+}
@@ -1,5 +1,9 @@
 package com.hartwig.serve.ckb.dao;
 
+import java.util.Collection;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
 import com.hartwig.serve.ckb.database.tables.Clinicaltrial;
 import com.hartwig.serve.ckb.database.tables.Clinicaltrialagegroup;
 import com.hartwig.serve.ckb.database.tables.Contact;
@@ -11,24 +15,90 @@ import com.hartwig.serve.ckb.datamodel.clinicaltrial.ClinicalTrial;
 import com.hartwig.serve.ckb.datamodel.clinicaltrial.VariantRequirementDetail;
 import com.hartwig.serve.ckb.datamodel.indication.Indication;
 import com.hartwig.serve.ckb.datamodel.therapy.Therapy;
+import com.hartwig.serve.common.dao.InsertBatcher;
 
 import org.jetbrains.annotations.NotNull;
 import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
 
 class ClinicalTrialDAO {
 
     @NotNull
     private final DSLContext context;
     @NotNull
+    private final InsertBatcher batcher;
+    @NotNull
     private final TherapyDAO therapyDAO;
     @NotNull
     private final IndicationDAO indicationDAO;
 
-    public ClinicalTrialDAO(@NotNull final DSLContext context, @NotNull final TherapyDAO therapyDAO,
+    @NotNull
+    private final InsertBatcher.Batch clinicalTrials;
+    @NotNull
+    private final InsertBatcher.Batch therapyClinicalTrials;
+    @NotNull
+    private final InsertBatcher.Batch indicationClinicalTrials;
+    @NotNull
+    private final InsertBatcher.Batch clinicalTrialAgeGroups;
+    @NotNull
+    private final InsertBatcher.Batch variantRequirementDetails;
+    @NotNull
+    private final InsertBatcher.Batch locations;
+    @NotNull
+    private final InsertBatcher.Batch contacts;
+
+    public ClinicalTrialDAO(@NotNull final DSLContext context, @NotNull final InsertBatcher batcher, @NotNull final TherapyDAO therapyDAO,
             @NotNull final IndicationDAO indicationDAO) {
         this.context = context;
+        this.batcher = batcher;
         this.therapyDAO = therapyDAO;
         this.indicationDAO = indicationDAO;
+
+        this.clinicalTrials = batcher.into(Clinicaltrial.CLINICALTRIAL,
+                Clinicaltrial.CLINICALTRIAL.ID,
+                Clinicaltrial.CLINICALTRIAL.CKBENTRYID,
+                Clinicaltrial.CLINICALTRIAL.UPDATEDATE,
+                Clinicaltrial.CLINICALTRIAL.NCTID,
+                Clinicaltrial.CLINICALTRIAL.TITLE,
+                Clinicaltrial.CLINICALTRIAL.ACRONYM,
+                Clinicaltrial.CLINICALTRIAL.PHASE,
+                Clinicaltrial.CLINICALTRIAL.RECRUITMENT,
+                Clinicaltrial.CLINICALTRIAL.GENDER,
+                Clinicaltrial.CLINICALTRIAL.SPONSORS,
+                Clinicaltrial.CLINICALTRIAL.VARIANTREQUIREMENT);
+        this.therapyClinicalTrials = batcher.into(Therapyclinicaltrial.THERAPYCLINICALTRIAL,
+                Therapyclinicaltrial.THERAPYCLINICALTRIAL.CLINICALTRIALID,
+                Therapyclinicaltrial.THERAPYCLINICALTRIAL.THERAPYID);
+        this.indicationClinicalTrials = batcher.into(Indicationclinicaltrial.INDICATIONCLINICALTRIAL,
+                Indicationclinicaltrial.INDICATIONCLINICALTRIAL.CLINICALTRIALID,
+                Indicationclinicaltrial.INDICATIONCLINICALTRIAL.INDICATIONID);
+        this.clinicalTrialAgeGroups = batcher.into(Clinicaltrialagegroup.CLINICALTRIALAGEGROUP,
+                Clinicaltrialagegroup.CLINICALTRIALAGEGROUP.CLINICALTRIALID,
+                Clinicaltrialagegroup.CLINICALTRIALAGEGROUP.AGEGROUP);
+        this.variantRequirementDetails = batcher.into(Variantrequirementdetail.VARIANTREQUIREMENTDETAIL,
+                Variantrequirementdetail.VARIANTREQUIREMENTDETAIL.CLINICALTRIALID,
+                Variantrequirementdetail.VARIANTREQUIREMENTDETAIL.CKBPROFILEID,
+                Variantrequirementdetail.VARIANTREQUIREMENTDETAIL.REQUIREMENTTYPE,
+                Variantrequirementdetail.VARIANTREQUIREMENTDETAIL.VARIANTORIGIN);
+        this.locations = batcher.into(Location.LOCATION,
+                Location.LOCATION.ID,
+                Location.LOCATION.CLINICALTRIALID,
+                Location.LOCATION.NCTID,
+                Location.LOCATION.STATUS,
+                Location.LOCATION.FACILITY,
+                Location.LOCATION.CITY,
+                Location.LOCATION.STATE,
+                Location.LOCATION.ZIP,
+                Location.LOCATION.COUNTRY);
+        this.contacts = batcher.into(Contact.CONTACT,
+                Contact.CONTACT.LOCATIONID,
+                Contact.CONTACT.NAME,
+                Contact.CONTACT.EMAIL,
+                Contact.CONTACT.PHONE,
+                Contact.CONTACT.PHONEEXT,
+                Contact.CONTACT.ROLE);
     }
 
     public void deleteAll() {
@@ -45,103 +115,94 @@ class ClinicalTrialDAO {
         context.deleteFrom(Clinicaltrial.CLINICALTRIAL).execute();
     }
 
-    public void write(@NotNull ClinicalTrial clinicalTrial, int ckbEntryId) {
-        int id = context.insertInto(Clinicaltrial.CLINICALTRIAL,
-                        Clinicaltrial.CLINICALTRIAL.CKBENTRYID,
-                        Clinicaltrial.CLINICALTRIAL.UPDATEDATE,
-                        Clinicaltrial.CLINICALTRIAL.NCTID,
-                        Clinicaltrial.CLINICALTRIAL.TITLE,
-                        Clinicaltrial.CLINICALTRIAL.ACRONYM,
-                        Clinicaltrial.CLINICALTRIAL.PHASE,
-                        Clinicaltrial.CLINICALTRIAL.RECRUITMENT,
-                        Clinicaltrial.CLINICALTRIAL.GENDER,
-                        Clinicaltrial.CLINICALTRIAL.SPONSORS,
-                        Clinicaltrial.CLINICALTRIAL.VARIANTREQUIREMENT)
-                .values(ckbEntryId,
-                        clinicalTrial.updateDate(),
-                        clinicalTrial.nctId(),
-                        clinicalTrial.title(),
-                        clinicalTrial.acronym(),
-                        clinicalTrial.phase(),
-                        clinicalTrial.recruitment(),
-                        clinicalTrial.gender(),
-                        clinicalTrial.sponsors(),
-                        clinicalTrial.variantRequirement())
-                .returning(Clinicaltrial.CLINICALTRIAL.ID)
-                .fetchOne()
-                .getValue(Clinicaltrial.CLINICALTRIAL.ID);
+    public void deleteForEntries(@NotNull Collection<Integer> ckbEntryIds) {
+        // Note that deletions should go from branch to root
+        Select<Record1<Integer>> clinicalTrialIds = DSL.select(Clinicaltrial.CLINICALTRIAL.ID)
+                .from(Clinicaltrial.CLINICALTRIAL)
+                .where(Clinicaltrial.CLINICALTRIAL.CKBENTRYID.in(ckbEntryIds));
+        Select<Record1<Integer>> locationIds =
+                DSL.select(Location.LOCATION.ID).from(Location.LOCATION).where(Location.LOCATION.CLINICALTRIALID.in(clinicalTrialIds));
+        context.deleteFrom(Contact.CONTACT).where(Contact.CONTACT.LOCATIONID.in(locationIds)).execute();
+        context.deleteFrom(Location.LOCATION).where(Location.LOCATION.CLINICALTRIALID.in(clinicalTrialIds)).execute();
+
+        context.deleteFrom(Variantrequirementdetail.VARIANTREQUIREMENTDETAIL)
+                .where(Variantrequirementdetail.VARIANTREQUIREMENTDETAIL.CLINICALTRIALID.in(clinicalTrialIds))
+                .execute();
+        context.deleteFrom(Clinicaltrialagegroup.CLINICALTRIALAGEGROUP)
+                .where(Clinicaltrialagegroup.CLINICALTRIALAGEGROUP.CLINICALTRIALID.in(clinicalTrialIds))
+                .execute();
+
+        context.deleteFrom(Indicationclinicaltrial.INDICATIONCLINICALTRIAL)
+                .where(Indicationclinicaltrial.INDICATIONCLINICALTRIAL.CLINICALTRIALID.in(clinicalTrialIds))
+                .execute();
+        context.deleteFrom(Therapyclinicaltrial.THERAPYCLINICALTRIAL)
+                .where(Therapyclinicaltrial.THERAPYCLINICALTRIAL.CLINICALTRIALID.in(clinicalTrialIds))
+                .execute();
+
+        context.deleteFrom(Clinicaltrial.CLINICALTRIAL).where(Clinicaltrial.CLINICALTRIAL.CKBENTRYID.in(ckbEntryIds)).execute();
+    }
 
+    public void write(@NotNull ClinicalTrial clinicalTrial, int ckbEntryId) {
+        int id = batcher.nextId(Clinicaltrial.CLINICALTRIAL.ID);
+        clinicalTrials.values(id,
+                ckbEntryId,
+                clinicalTrial.updateDate(),
+                clinicalTrial.nctId(),
+                clinicalTrial.title(),
+                clinicalTrial.acronym(),
+                clinicalTrial.phase(),
+                clinicalTrial.recruitment(),
+                clinicalTrial.gender(),
+                clinicalTrial.sponsors(),
+                clinicalTrial.variantRequirement());
+
+        // Therapies and indications are shared, so a trial listing the same one twice should still only be linked to it once.
+        Set<Integer> therapyIds = Sets.newLinkedHashSet();
         for (Therapy therapy : clinicalTrial.therapies()) {
-            int therapyId = therapyDAO.write(therapy);
-            context.insertInto(Therapyclinicaltrial.THERAPYCLINICALTRIAL,
-                    Therapyclinicaltrial.THERAPYCLINICALTRIAL.CLINICALTRIALID,
-                    Therapyclinicaltrial.THERAPYCLINICALTRIAL.THERAPYID).values(id, therapyId).execute();
+            therapyIds.add(therapyDAO.write(therapy));
+        }
+        for (int therapyId : therapyIds) {
+            therapyClinicalTrials.values(id, therapyId);
         }
 
+        Set<Integer> indicationIds = Sets.newLinkedHashSet();
         for (Indication indication : clinicalTrial.indications()) {
-            int indicationId = indicationDAO.write(indication);
-            context.insertInto(Indicationclinicaltrial.INDICATIONCLINICALTRIAL,
-                    Indicationclinicaltrial.INDICATIONCLINICALTRIAL.CLINICALTRIALID,
-                    Indicationclinicaltrial.INDICATIONCLINICALTRIAL.INDICATIONID).values(id, indicationId).execute();
+            indicationIds.add(indicationDAO.write(indication));
+        }
+        for (int indicationId : indicationIds) {
+            indicationClinicalTrials.values(id, indicationId);
         }
 
         for (String ageGroup : clinicalTrial.ageGroups()) {
-            context.insertInto(Clinicaltrialagegroup.CLINICALTRIALAGEGROUP, Clinicaltrialagegroup.CLINICALTRIALAGEGROUP.CLINICALTRIALID, Clinicaltrialagegroup.CLINICALTRIALAGEGROUP.AGEGROUP)
-                    .values(id, ageGroup)
-                    .execute();
+            clinicalTrialAgeGroups.values(id, ageGroup);
         }
 
         for (VariantRequirementDetail variantRequirementDetail : clinicalTrial.variantRequirementDetails()) {
-            context.insertInto(Variantrequirementdetail.VARIANTREQUIREMENTDETAIL,
-                            Variantrequirementdetail.VARIANTREQUIREMENTDETAIL.CLINICALTRIALID,
-                            Variantrequirementdetail.VARIANTREQUIREMENTDETAIL.CKBPROFILEID,
-                            Variantrequirementdetail.VARIANTREQUIREMENTDETAIL.REQUIREMENTTYPE,
-                            Variantrequirementdetail.VARIANTREQUIREMENTDETAIL.VARIANTORIGIN)
-                    .values(id,
-                            variantRequirementDetail.profileId(),
-                            variantRequirementDetail.requirementType(),
-                            variantRequirementDetail.variantOrigin())
-                    .execute();
+            variantRequirementDetails.values(id,
+                    variantRequirementDetail.profileId(),
+                    variantRequirementDetail.requirementType(),
+                    variantRequirementDetail.variantOrigin());
         }
 
         for (com.hartwig.serve.ckb.datamodel.clinicaltrial.Location location : clinicalTrial.locations()) {
             writeLocation(location, id);
         }
-
     }
 
     private void writeLocation(@NotNull com.hartwig.serve.ckb.datamodel.clinicaltrial.Location location, int clinicalTrialId) {
-        int id = context.insertInto(Location.LOCATION,
-                        Location.LOCATION.CLINICALTRIALID,
-                        Location.LOCATION.NCTID,
-                        Location.LOCATION.STATUS,
-                        Location.LOCATION.FACILITY,
-                        Location.LOCATION.CITY,
-                        Location.LOCATION.STATE,
-                        Location.LOCATION.ZIP,
-                        Location.LOCATION.COUNTRY)
-                .values(clinicalTrialId,
-                        location.nctId(),
-                        location.status(),
-                        location.facility(),
-                        location.city(),
-                        location.state(),
-                        location.zip(),
-                        location.country())
-                .returning(Location.LOCATION.ID)
-                .fetchOne()
-                .getValue(Location.LOCATION.ID);
+        int id = batcher.nextId(Location.LOCATION.ID);
+        locations.values(id,
+                clinicalTrialId,
+                location.nctId(),
+                location.status(),
+                location.facility(),
+                location.city(),
+                location.state(),
+                location.zip(),
+                location.country());
 
         for (com.hartwig.serve.ckb.datamodel.clinicaltrial.Contact contact : location.contacts()) {
-            context.insertInto(Contact.CONTACT,
-                            Contact.CONTACT.LOCATIONID,
-                            Contact.CONTACT.NAME,
-                            Contact.CONTACT.EMAIL,
-                            Contact.CONTACT.PHONE,
-                            Contact.CONTACT.PHONEEXT,
-                            Contact.CONTACT.ROLE)
-                    .values(id, contact.name(), contact.email(), contact.phone(), contact.phoneExt(), contact.role())
-                    .execute();
+            contacts.values(id, contact.name(), contact.email(), contact.phone(), contact.phoneExt(), contact.role());
         }
     }
 }
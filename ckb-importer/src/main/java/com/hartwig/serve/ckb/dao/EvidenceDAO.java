@@ -1,5 +1,9 @@
 package com.hartwig.serve.ckb.dao;
 
+import java.util.Collection;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
 import com.hartwig.serve.ckb.database.tables.Evidence;
 import com.hartwig.serve.ckb.database.tables.Evidenceagegroup;
 import com.hartwig.serve.ckb.database.tables.Evidencereference;
@@ -9,27 +13,86 @@ import com.hartwig.serve.ckb.database.tables.Treatmentapproachevidence;
 import com.hartwig.serve.ckb.datamodel.reference.Reference;
 import com.hartwig.serve.ckb.datamodel.treatmentapproaches.DrugClassTreatmentApproach;
 import com.hartwig.serve.ckb.datamodel.treatmentapproaches.TherapyTreatmentApproach;
+import com.hartwig.serve.common.dao.InsertBatcher;
 
 import org.jetbrains.annotations.NotNull;
 import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
 
 class EvidenceDAO {
 
     @NotNull
     private final DSLContext context;
     @NotNull
+    private final InsertBatcher batcher;
+    @NotNull
     private final TherapyDAO therapyDAO;
     @NotNull
     private final IndicationDAO indicationDAO;
     @NotNull
     private final TreatmentApproachDAO treatmentApproachDAO;
 
-    public EvidenceDAO(@NotNull final DSLContext context, @NotNull final TherapyDAO therapyDAO, @NotNull final IndicationDAO indicationDAO,
-            @NotNull final TreatmentApproachDAO treatmentApproachDAO) {
+    @NotNull
+    private final InsertBatcher.Batch evidences;
+    @NotNull
+    private final InsertBatcher.Batch therapyEvidences;
+    @NotNull
+    private final InsertBatcher.Batch indicationEvidences;
+    @NotNull
+    private final InsertBatcher.Batch treatmentApproachEvidences;
+    @NotNull
+    private final InsertBatcher.Batch evidenceAgeGroups;
+    @NotNull
+    private final InsertBatcher.Batch evidenceReferences;
+
+    public EvidenceDAO(@NotNull final DSLContext context, @NotNull final InsertBatcher batcher, @NotNull final TherapyDAO therapyDAO,
+            @NotNull final IndicationDAO indicationDAO, @NotNull final TreatmentApproachDAO treatmentApproachDAO) {
         this.context = context;
+        this.batcher = batcher;
         this.therapyDAO = therapyDAO;
         this.indicationDAO = indicationDAO;
         this.treatmentApproachDAO = treatmentApproachDAO;
+
+        this.evidences = batcher.into(Evidence.EVIDENCE,
+                Evidence.EVIDENCE.ID,
+                Evidence.EVIDENCE.CKBENTRYID,
+                Evidence.EVIDENCE.CKBEVIDENCEID,
+                Evidence.EVIDENCE.RESPONSETYPE,
+                Evidence.EVIDENCE.EVIDENCETYPE,
+                Evidence.EVIDENCE.VARIANTORIGIN,
+                Evidence.EVIDENCE.EFFICACYEVIDENCE,
+                Evidence.EVIDENCE.APPROVALSTATUS,
+                Evidence.EVIDENCE.AMPCAPASCOEVIDENCELEVEL,
+                Evidence.EVIDENCE.AMPCAPASCOINFERREDTIER);
+        this.therapyEvidences = batcher.into(Therapyevidence.THERAPYEVIDENCE,
+                Therapyevidence.THERAPYEVIDENCE.EVIDENCEID,
+                Therapyevidence.THERAPYEVIDENCE.THERAPYID);
+        this.indicationEvidences = batcher.into(Indicationevidence.INDICATIONEVIDENCE,
+                Indicationevidence.INDICATIONEVIDENCE.EVIDENCEID,
+                Indicationevidence.INDICATIONEVIDENCE.INDICATIONID);
+        this.treatmentApproachEvidences = batcher.into(Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE,
+                Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE.EVIDENCEID,
+                Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE.TREATMENTAPPROACHEVIDENCEID);
+        this.evidenceAgeGroups = batcher.into(Evidenceagegroup.EVIDENCEAGEGROUP,
+                Evidenceagegroup.EVIDENCEAGEGROUP.EVIDENCEID,
+                Evidenceagegroup.EVIDENCEAGEGROUP.AGEGROUP);
+        this.evidenceReferences = batcher.into(Evidencereference.EVIDENCEREFERENCE,
+                Evidencereference.EVIDENCEREFERENCE.EVIDENCEID,
+                Evidencereference.EVIDENCEREFERENCE.CKBREFERENCEID,
+                Evidencereference.EVIDENCEREFERENCE.PUBMEDID,
+                Evidencereference.EVIDENCEREFERENCE.TITLE,
+                Evidencereference.EVIDENCEREFERENCE.SHORTJOURNALTITLE,
+                Evidencereference.EVIDENCEREFERENCE.PAGES,
+                Evidencereference.EVIDENCEREFERENCE.ABSTRACTTEXT,
+                Evidencereference.EVIDENCEREFERENCE.URL,
+                Evidencereference.EVIDENCEREFERENCE.JOURNAL,
+                Evidencereference.EVIDENCEREFERENCE.AUTHORS,
+                Evidencereference.EVIDENCEREFERENCE.VOLUME,
+                Evidencereference.EVIDENCEREFERENCE.ISSUE,
+                Evidencereference.EVIDENCEREFERENCE.DATE,
+                Evidencereference.EVIDENCEREFERENCE.YEAR);
     }
 
     public void deleteAll() {
@@ -42,101 +105,58 @@ class EvidenceDAO {
         context.deleteFrom(Evidence.EVIDENCE).execute();
     }
 
-    public void write(@NotNull com.hartwig.serve.ckb.datamodel.evidence.Evidence evidence, int ckbEntryId) {
-        int id = context.insertInto(Evidence.EVIDENCE,
-                        Evidence.EVIDENCE.CKBENTRYID,
-                        Evidence.EVIDENCE.CKBEVIDENCEID,
-                        Evidence.EVIDENCE.RESPONSETYPE,
-                        Evidence.EVIDENCE.EVIDENCETYPE,
-                        Evidence.EVIDENCE.VARIANTORIGIN,
-                        Evidence.EVIDENCE.EFFICACYEVIDENCE,
-                        Evidence.EVIDENCE.APPROVALSTATUS,
-                        Evidence.EVIDENCE.AMPCAPASCOEVIDENCELEVEL,
-                        Evidence.EVIDENCE.AMPCAPASCOINFERREDTIER)
-                .values(ckbEntryId,
-                        evidence.id(),
-                        evidence.responseType(),
-                        evidence.evidenceType(),
-                        evidence.variantOrigin(),
-                        evidence.efficacyEvidence(),
-                        evidence.approvalStatus(),
-                        evidence.ampCapAscoEvidenceLevel(),
-                        evidence.ampCapAscoInferredTier())
-                .returning(Evidence.EVIDENCE.ID)
-                .fetchOne()
-                .getValue(Evidence.EVIDENCE.ID);
-
-        int therapyId = therapyDAO.write(evidence.therapy());
-        context.insertInto(Therapyevidence.THERAPYEVIDENCE,
-                Therapyevidence.THERAPYEVIDENCE.EVIDENCEID,
-                Therapyevidence.THERAPYEVIDENCE.THERAPYID).values(id, therapyId).execute();
-
-        int indicationId = indicationDAO.write(evidence.indication());
-        context.insertInto(Indicationevidence.INDICATIONEVIDENCE,
-                Indicationevidence.INDICATIONEVIDENCE.EVIDENCEID,
-                Indicationevidence.INDICATIONEVIDENCE.INDICATIONID).values(id, indicationId).execute();
-
-        for (DrugClassTreatmentApproach treatmentApproaches : evidence.drugTreatmentApproaches()) {
-            int treatmentApproachId = treatmentApproachDAO.write(treatmentApproaches);
+    public void deleteForEntries(@NotNull Collection<Integer> ckbEntryIds) {
+        // Note that deletions should go from branch to root
+        Select<Record1<Integer>> evidenceIds =
+                DSL.select(Evidence.EVIDENCE.ID).from(Evidence.EVIDENCE).where(Evidence.EVIDENCE.CKBENTRYID.in(ckbEntryIds));
+        context.deleteFrom(Evidencereference.EVIDENCEREFERENCE)
+                .where(Evidencereference.EVIDENCEREFERENCE.EVIDENCEID.in(evidenceIds))
+                .execute();
+        context.deleteFrom(Therapyevidence.THERAPYEVIDENCE).where(Therapyevidence.THERAPYEVIDENCE.EVIDENCEID.in(evidenceIds)).execute();
+        context.deleteFrom(Indicationevidence.INDICATIONEVIDENCE)
+                .where(Indicationevidence.INDICATIONEVIDENCE.EVIDENCEID.in(evidenceIds))
+                .execute();
+        context.deleteFrom(Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE)
+                .where(Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE.EVIDENCEID.in(evidenceIds))
+                .execute();
+        context.deleteFrom(Evidenceagegroup.EVIDENCEAGEGROUP).where(Evidenceagegroup.EVIDENCEAGEGROUP.EVIDENCEID.in(evidenceIds)).execute();
+        context.deleteFrom(Evidence.EVIDENCE).where(Evidence.EVIDENCE.CKBENTRYID.in(ckbEntryIds)).execute();
+    }
 
-            context.insertInto(Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE,
-                            Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE.EVIDENCEID,
-                            Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE.TREATMENTAPPROACHEVIDENCEID)
-                    .values(id, treatmentApproachId)
-                    .execute();
+    public void write(@NotNull com.hartwig.serve.ckb.datamodel.evidence.Evidence evidence, int ckbEntryId) {
+        int id = batcher.nextId(Evidence.EVIDENCE.ID);
+        evidences.values(id,
+                ckbEntryId,
+                evidence.id(),
+                evidence.responseType(),
+                evidence.evidenceType(),
+                evidence.variantOrigin(),
+                evidence.efficacyEvidence(),
+                evidence.approvalStatus(),
+                evidence.ampCapAscoEvidenceLevel(),
+                evidence.ampCapAscoInferredTier());
+
+        therapyEvidences.values(id, therapyDAO.write(evidence.therapy()));
+        indicationEvidences.values(id, indicationDAO.write(evidence.indication()));
+
+        // Treatment approaches are shared, so an evidence listing the same approach twice should still only be linked to it once.
+        Set<Integer> treatmentApproachIds = Sets.newLinkedHashSet();
+        for (DrugClassTreatmentApproach treatmentApproach : evidence.drugTreatmentApproaches()) {
+            treatmentApproachIds.add(treatmentApproachDAO.write(treatmentApproach));
         }
-
-        for (TherapyTreatmentApproach treatmentApproaches : evidence.therapyTreatmentApproaches()) {
-            int treatmentApproachId = treatmentApproachDAO.write(treatmentApproaches);
-
-            context.insertInto(Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE,
-                            Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE.EVIDENCEID,
-                            Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE.TREATMENTAPPROACHEVIDENCEID)
-                    .values(id, treatmentApproachId)
-                    .execute();
+        for (TherapyTreatmentApproach treatmentApproach : evidence.therapyTreatmentApproaches()) {
+            treatmentApproachIds.add(treatmentApproachDAO.write(treatmentApproach));
+        }
+        for (int treatmentApproachId : treatmentApproachIds) {
+            treatmentApproachEvidences.values(id, treatmentApproachId);
         }
 
         for (String ageGroup : evidence.ageGroups()) {
-            context.insertInto(Evidenceagegroup.EVIDENCEAGEGROUP, Evidenceagegroup.EVIDENCEAGEGROUP.EVIDENCEID, Evidenceagegroup.EVIDENCEAGEGROUP.AGEGROUP)
-                    .values(id, ageGroup)
-                    .execute();
+            evidenceAgeGroups.values(id, ageGroup);
         }
 
         for (Reference reference : evidence.references()) {
-            writeReference(reference, id);
+            evidenceReferences.values(Util.referenceRow(id, reference));
         }
     }
-
-    private void writeReference(@NotNull Reference reference, int evidenceId) {
-        context.insertInto(Evidencereference.EVIDENCEREFERENCE,
-                        Evidencereference.EVIDENCEREFERENCE.EVIDENCEID,
-                        Evidencereference.EVIDENCEREFERENCE.CKBREFERENCEID,
-                        Evidencereference.EVIDENCEREFERENCE.PUBMEDID,
-                        Evidencereference.EVIDENCEREFERENCE.TITLE,
-                        Evidencereference.EVIDENCEREFERENCE.SHORTJOURNALTITLE,
-                        Evidencereference.EVIDENCEREFERENCE.PAGES,
-                        Evidencereference.EVIDENCEREFERENCE.ABSTRACTTEXT,
-                        Evidencereference.EVIDENCEREFERENCE.URL,
-                        Evidencereference.EVIDENCEREFERENCE.JOURNAL,
-                        Evidencereference.EVIDENCEREFERENCE.AUTHORS,
-                        Evidencereference.EVIDENCEREFERENCE.VOLUME,
-                        Evidencereference.EVIDENCEREFERENCE.ISSUE,
-                        Evidencereference.EVIDENCEREFERENCE.DATE,
-                        Evidencereference.EVIDENCEREFERENCE.YEAR)
-                .values(evidenceId,
-                        reference.id(),
-                        reference.pubMedId(),
-                        reference.title(),
-                        reference.shortJournalTitle(),
-                        reference.pages(),
-                        reference.abstractText(),
-                        reference.url(),
-                        reference.journal(),
-                        reference.authors(),
-                        reference.volume(),
-                        reference.issue(),
-                        reference.date(),
-                        reference.year())
-                .execute();
-    }
 }
@@ -1,18 +1,53 @@
 package com.hartwig.serve.ckb.dao;
 
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.collect.Maps;
 import com.hartwig.serve.ckb.database.tables.Indication;
 import com.hartwig.serve.ckb.database.tables.Indicationaltid;
+import com.hartwig.serve.ckb.database.tables.Indicationclinicaltrial;
+import com.hartwig.serve.ckb.database.tables.Indicationevidence;
+import com.hartwig.serve.common.dao.InsertBatcher;
 
 import org.jetbrains.annotations.NotNull;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
 
 class IndicationDAO {
 
     @NotNull
     private final DSLContext context;
+    @NotNull
+    private final InsertBatcher batcher;
+    @NotNull
+    private final Map<Integer, Integer> idPerCkbIndicationId = Maps.newHashMap();
+    @NotNull
+    private final Map<Integer, StoredRow> storedRowPerCkbIndicationId = Maps.newHashMap();
+
+    @NotNull
+    private final InsertBatcher.Batch indications;
+    @NotNull
+    private final InsertBatcher.Batch indicationAltIds;
 
-    public IndicationDAO(@NotNull final DSLContext context) {
+    public IndicationDAO(@NotNull final DSLContext context, @NotNull final InsertBatcher batcher) {
         this.context = context;
+        this.batcher = batcher;
+
+        this.indications = batcher.into(Indication.INDICATION,
+                Indication.INDICATION.ID,
+                Indication.INDICATION.CKBINDICATIONID,
+                Indication.INDICATION.NAME,
+                Indication.INDICATION.SOURCE,
+                Indication.INDICATION.DEFINITION,
+                Indication.INDICATION.CURRENTPREFERREDTERM,
+                Indication.INDICATION.LASTUPDATEDATEFROMDO,
+                Indication.INDICATION.TERMID);
+        this.indicationAltIds = batcher.into(Indicationaltid.INDICATIONALTID,
+                Indicationaltid.INDICATIONALTID.INDICATIONID,
+                Indicationaltid.INDICATIONALTID.ALTID);
     }
 
     public void deleteAll() {
@@ -21,30 +56,75 @@ class IndicationDAO {
         context.deleteFrom(Indication.INDICATION).execute();
     }
 
-    public int write(@NotNull com.hartwig.serve.ckb.datamodel.indication.Indication indication) {
-        int id = context.insertInto(Indication.INDICATION,
+    public void loadStored() {
+        for (Record record : context.select(Indication.INDICATION.ID,
                         Indication.INDICATION.CKBINDICATIONID,
-                        Indication.INDICATION.NAME,
-                        Indication.INDICATION.SOURCE,
-                        Indication.INDICATION.DEFINITION,
-                        Indication.INDICATION.CURRENTPREFERREDTERM,
-                        Indication.INDICATION.LASTUPDATEDATEFROMDO,
-                        Indication.INDICATION.TERMID)
-                .values(indication.id(),
-                        indication.name(),
-                        indication.source(),
-                        indication.definition(),
-                        indication.currentPreferredTerm(),
-                        indication.lastUpdateDateFromDO(),
-                        indication.termId())
-                .returning(Indication.INDICATION.ID)
-                .fetchOne()
-                .getValue(Indication.INDICATION.ID);
+                        Indication.INDICATION.LASTUPDATEDATEFROMDO)
+                .from(Indication.INDICATION)
+                .orderBy(Indication.INDICATION.ID)
+                .fetch()) {
+            storedRowPerCkbIndicationId.putIfAbsent(record.getValue(Indication.INDICATION.CKBINDICATIONID),
+                    new StoredRow(record.getValue(Indication.INDICATION.ID), record.getValue(Indication.INDICATION.LASTUPDATEDATEFROMDO)));
+        }
+    }
+
+    public void deleteUnreferenced() {
+        Condition unreferenced = Indication.INDICATION.ID.notIn(DSL.select(Indicationevidence.INDICATIONEVIDENCE.INDICATIONID)
+                        .from(Indicationevidence.INDICATIONEVIDENCE))
+                .and(Indication.INDICATION.ID.notIn(DSL.select(Indicationclinicaltrial.INDICATIONCLINICALTRIAL.INDICATIONID)
+                        .from(Indicationclinicaltrial.INDICATIONCLINICALTRIAL)));
+
+        context.deleteFrom(Indicationaltid.INDICATIONALTID)
+                .where(Indicationaltid.INDICATIONALTID.INDICATIONID.in(DSL.select(Indication.INDICATION.ID)
+                        .from(Indication.INDICATION)
+                        .where(unreferenced)))
+                .execute();
+        context.deleteFrom(Indication.INDICATION).where(unreferenced).execute();
+    }
+
+    public int write(@NotNull com.hartwig.serve.ckb.datamodel.indication.Indication indication) {
+        // Every indication is written only once, all evidences and trials referring to it share the same row.
+        Integer existingId = idPerCkbIndicationId.get(indication.id());
+        if (existingId != null) {
+            return existingId;
+        }
+
+        StoredRow storedRow = storedRowPerCkbIndicationId.remove(indication.id());
+        int id;
+        if (storedRow == null) {
+            id = batcher.nextId(Indication.INDICATION.ID);
+            idPerCkbIndicationId.put(indication.id(), id);
+            indications.values(id,
+                    indication.id(),
+                    indication.name(),
+                    indication.source(),
+                    indication.definition(),
+                    indication.currentPreferredTerm(),
+                    indication.lastUpdateDateFromDO(),
+                    indication.termId());
+        } else {
+            id = storedRow.id();
+            idPerCkbIndicationId.put(indication.id(), id);
+            if (Objects.equals(storedRow.updateDate(), indication.lastUpdateDateFromDO())) {
+                return id;
+            }
+
+            // An indication that changed since the previous import is refreshed in place, so that unchanged evidences keep referring
+            // to it.
+            context.deleteFrom(Indicationaltid.INDICATIONALTID).where(Indicationaltid.INDICATIONALTID.INDICATIONID.eq(id)).execute();
+            context.update(Indication.INDICATION)
+                    .set(Indication.INDICATION.NAME, indication.name())
+                    .set(Indication.INDICATION.SOURCE, indication.source())
+                    .set(Indication.INDICATION.DEFINITION, indication.definition())
+                    .set(Indication.INDICATION.CURRENTPREFERREDTERM, indication.currentPreferredTerm())
+                    .set(Indication.INDICATION.LASTUPDATEDATEFROMDO, indication.lastUpdateDateFromDO())
+                    .set(Indication.INDICATION.TERMID, indication.termId())
+                    .where(Indication.INDICATION.ID.eq(id))
+                    .execute();
+        }
 
         for (String altId : indication.altIds()) {
-            context.insertInto(Indicationaltid.INDICATIONALTID,
-                    Indicationaltid.INDICATIONALTID.INDICATIONID,
-                    Indicationaltid.INDICATIONALTID.ALTID).values(id, altId).execute();
+            indicationAltIds.values(id, altId);
         }
 
         return id;
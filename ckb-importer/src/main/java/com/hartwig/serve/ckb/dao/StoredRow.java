@@ -0,0 +1,26 @@
+package com.hartwig.serve.ckb.dao;
+
+import java.time.LocalDate;
+
+import org.jetbrains.annotations.Nullable;
+
+final class StoredRow {
+
+    private final int id;
+    @Nullable
+    private final LocalDate updateDate;
+
+    StoredRow(int id, @Nullable final LocalDate updateDate) {
+        this.id = id;
+        this.updateDate = updateDate;
+    }
+
+    int id() {
+        return id;
+    }
+
+    @Nullable
+    LocalDate updateDate() {
+        return updateDate;
+    }
+}
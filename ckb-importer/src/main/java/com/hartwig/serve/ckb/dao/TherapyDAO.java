@@ -1,5 +1,9 @@
 package com.hartwig.serve.ckb.dao;
 
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.collect.Maps;
 import com.hartwig.serve.ckb.database.Tables;
 import com.hartwig.serve.ckb.database.tables.Drug;
 import com.hartwig.serve.ckb.database.tables.Drugclass;
@@ -7,21 +11,120 @@ import com.hartwig.serve.ckb.database.tables.Drugsynonym;
 import com.hartwig.serve.ckb.database.tables.Drugterm;
 import com.hartwig.serve.ckb.database.tables.Globalapprovalstatus;
 import com.hartwig.serve.ckb.database.tables.Therapy;
+import com.hartwig.serve.ckb.database.tables.Therapyclinicaltrial;
+import com.hartwig.serve.ckb.database.tables.Therapyevidence;
 import com.hartwig.serve.ckb.database.tables.Therapysynonym;
 import com.hartwig.serve.ckb.datamodel.drug.DrugClass;
 import com.hartwig.serve.ckb.datamodel.reference.Reference;
 import com.hartwig.serve.ckb.datamodel.therapy.GlobalApprovalStatus;
+import com.hartwig.serve.common.dao.InsertBatcher;
 
 import org.jetbrains.annotations.NotNull;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
 
 class TherapyDAO {
 
     @NotNull
     private final DSLContext context;
+    @NotNull
+    private final InsertBatcher batcher;
+    @NotNull
+    private final Map<Integer, Integer> idPerCkbTherapyId = Maps.newHashMap();
+    @NotNull
+    private final Map<Integer, StoredRow> storedRowPerCkbTherapyId = Maps.newHashMap();
 
-    public TherapyDAO(@NotNull final DSLContext context) {
+    @NotNull
+    private final InsertBatcher.Batch therapies;
+    @NotNull
+    private final InsertBatcher.Batch therapySynonyms;
+    @NotNull
+    private final InsertBatcher.Batch therapyReferences;
+    @NotNull
+    private final InsertBatcher.Batch globalApprovalStatuses;
+    @NotNull
+    private final InsertBatcher.Batch drugs;
+    @NotNull
+    private final InsertBatcher.Batch drugClasses;
+    @NotNull
+    private final InsertBatcher.Batch drugTerms;
+    @NotNull
+    private final InsertBatcher.Batch drugSynonyms;
+    @NotNull
+    private final InsertBatcher.Batch drugReferences;
+
+    public TherapyDAO(@NotNull final DSLContext context, @NotNull final InsertBatcher batcher) {
         this.context = context;
+        this.batcher = batcher;
+
+        this.therapies = batcher.into(Therapy.THERAPY,
+                Therapy.THERAPY.ID,
+                Therapy.THERAPY.CKBTHERAPYID,
+                Therapy.THERAPY.CREATEDATE,
+                Therapy.THERAPY.UPDATEDATE,
+                Therapy.THERAPY.THERAPYNAME,
+                Therapy.THERAPY.DESCRIPTION);
+        this.therapySynonyms = batcher.into(Therapysynonym.THERAPYSYNONYM,
+                Therapysynonym.THERAPYSYNONYM.THERAPYID,
+                Therapysynonym.THERAPYSYNONYM.SYNONYM);
+        this.therapyReferences = batcher.into(Tables.THERAPYREFERENCE,
+                Tables.THERAPYREFERENCE.THERAPYID,
+                Tables.THERAPYREFERENCE.CKBREFERENCEID,
+                Tables.THERAPYREFERENCE.PUBMEDID,
+                Tables.THERAPYREFERENCE.TITLE,
+                Tables.THERAPYREFERENCE.SHORTJOURNALTITLE,
+                Tables.THERAPYREFERENCE.PAGES,
+                Tables.THERAPYREFERENCE.ABSTRACTTEXT,
+                Tables.THERAPYREFERENCE.URL,
+                Tables.THERAPYREFERENCE.JOURNAL,
+                Tables.THERAPYREFERENCE.AUTHORS,
+                Tables.THERAPYREFERENCE.VOLUME,
+                Tables.THERAPYREFERENCE.ISSUE,
+                Tables.THERAPYREFERENCE.DATE,
+                Tables.THERAPYREFERENCE.YEAR);
+        this.globalApprovalStatuses = batcher.into(Globalapprovalstatus.GLOBALAPPROVALSTATUS,
+                Globalapprovalstatus.GLOBALAPPROVALSTATUS.THERAPYID,
+                Globalapprovalstatus.GLOBALAPPROVALSTATUS.CKBGLOBALAPPROVALSTATUSID,
+                Globalapprovalstatus.GLOBALAPPROVALSTATUS.CKBPROFILEID,
+                Globalapprovalstatus.GLOBALAPPROVALSTATUS.CKBINDICATIONID,
+                Globalapprovalstatus.GLOBALAPPROVALSTATUS.APPROVALSTATUS,
+                Globalapprovalstatus.GLOBALAPPROVALSTATUS.APPROVALAUTHORITY);
+        this.drugs = batcher.into(Drug.DRUG,
+                Drug.DRUG.ID,
+                Drug.DRUG.THERAPYID,
+                Drug.DRUG.CKBDRUGID,
+                Drug.DRUG.CREATEDATE,
+                Drug.DRUG.DRUGNAME,
+                Drug.DRUG.TRADENAME,
+                Drug.DRUG.CASREGISTRYNUM,
+                Drug.DRUG.NCITID,
+                Drug.DRUG.DESCRIPTION);
+        this.drugClasses = batcher.into(Drugclass.DRUGCLASS,
+                Drugclass.DRUGCLASS.DRUGID,
+                Drugclass.DRUGCLASS.CKBDRUGCLASSID,
+                Drugclass.DRUGCLASS.CREATEDATE,
+                Drugclass.DRUGCLASS.DRUGCLASS_);
+        this.drugTerms = batcher.into(Drugterm.DRUGTERM, Drugterm.DRUGTERM.DRUGID, Drugterm.DRUGTERM.TERM);
+        this.drugSynonyms = batcher.into(Drugsynonym.DRUGSYNONYM, Drugsynonym.DRUGSYNONYM.DRUGID, Drugsynonym.DRUGSYNONYM.SYNONYM);
+        this.drugReferences = batcher.into(Tables.DRUGREFERENCE,
+                Tables.DRUGREFERENCE.DRUGID,
+                Tables.DRUGREFERENCE.CKBREFERENCEID,
+                Tables.DRUGREFERENCE.PUBMEDID,
+                Tables.DRUGREFERENCE.TITLE,
+                Tables.DRUGREFERENCE.SHORTJOURNALTITLE,
+                Tables.DRUGREFERENCE.PAGES,
+                Tables.DRUGREFERENCE.ABSTRACTTEXT,
+                Tables.DRUGREFERENCE.URL,
+                Tables.DRUGREFERENCE.JOURNAL,
+                Tables.DRUGREFERENCE.AUTHORS,
+                Tables.DRUGREFERENCE.VOLUME,
+                Tables.DRUGREFERENCE.ISSUE,
+                Tables.DRUGREFERENCE.DATE,
+                Tables.DRUGREFERENCE.YEAR);
     }
 
     public void deleteAll() {
@@ -40,17 +143,56 @@ class TherapyDAO {
         context.deleteFrom(Therapy.THERAPY).execute();
     }
 
+    public void loadStored() {
+        for (Record record : context.select(Therapy.THERAPY.ID, Therapy.THERAPY.CKBTHERAPYID, Therapy.THERAPY.UPDATEDATE)
+                .from(Therapy.THERAPY)
+                .orderBy(Therapy.THERAPY.ID)
+                .fetch()) {
+            storedRowPerCkbTherapyId.putIfAbsent(record.getValue(Therapy.THERAPY.CKBTHERAPYID),
+                    new StoredRow(record.getValue(Therapy.THERAPY.ID), record.getValue(Therapy.THERAPY.UPDATEDATE)));
+        }
+    }
+
+    public void deleteUnreferenced() {
+        Condition unreferenced = Therapy.THERAPY.ID.notIn(DSL.select(Therapyevidence.THERAPYEVIDENCE.THERAPYID)
+                        .from(Therapyevidence.THERAPYEVIDENCE))
+                .and(Therapy.THERAPY.ID.notIn(DSL.select(Therapyclinicaltrial.THERAPYCLINICALTRIAL.THERAPYID)
+                        .from(Therapyclinicaltrial.THERAPYCLINICALTRIAL)));
+
+        deleteChildren(DSL.select(Therapy.THERAPY.ID).from(Therapy.THERAPY).where(unreferenced));
+        context.deleteFrom(Therapy.THERAPY).where(unreferenced).execute();
+    }
+
     public int write(@NotNull com.hartwig.serve.ckb.datamodel.therapy.Therapy therapy) {
-        int id = context.insertInto(Therapy.THERAPY,
-                        Therapy.THERAPY.CKBTHERAPYID,
-                        Therapy.THERAPY.CREATEDATE,
-                        Therapy.THERAPY.UPDATEDATE,
-                        Therapy.THERAPY.THERAPYNAME,
-                        Therapy.THERAPY.DESCRIPTION)
-                .values(therapy.id(), therapy.createDate(), therapy.updateDate(), therapy.therapyName(), therapy.description())
-                .returning(Therapy.THERAPY.ID)
-                .fetchOne()
-                .getValue(Therapy.THERAPY.ID);
+        // Every therapy is written only once, all evidences and trials referring to it share the same row.
+        Integer existingId = idPerCkbTherapyId.get(therapy.id());
+        if (existingId != null) {
+            return existingId;
+        }
+
+        StoredRow storedRow = storedRowPerCkbTherapyId.remove(therapy.id());
+        int id;
+        if (storedRow == null) {
+            id = batcher.nextId(Therapy.THERAPY.ID);
+            idPerCkbTherapyId.put(therapy.id(), id);
+            therapies.values(id, therapy.id(), therapy.createDate(), therapy.updateDate(), therapy.therapyName(), therapy.description());
+        } else {
+            id = storedRow.id();
+            idPerCkbTherapyId.put(therapy.id(), id);
+            if (Objects.equals(storedRow.updateDate(), therapy.updateDate())) {
+                return id;
+            }
+
+            // A therapy that changed since the previous import is refreshed in place, so that unchanged evidences keep referring to it.
+            deleteChildren(DSL.select(DSL.val(id)));
+            context.update(Therapy.THERAPY)
+                    .set(Therapy.THERAPY.CREATEDATE, therapy.createDate())
+                    .set(Therapy.THERAPY.UPDATEDATE, therapy.updateDate())
+                    .set(Therapy.THERAPY.THERAPYNAME, therapy.therapyName())
+                    .set(Therapy.THERAPY.DESCRIPTION, therapy.description())
+                    .where(Therapy.THERAPY.ID.eq(id))
+                    .execute();
+        }
 
         for (com.hartwig.serve.ckb.datamodel.drug.Drug drug : therapy.drugs()) {
             writeDrug(drug, id);
@@ -58,143 +200,68 @@ class TherapyDAO {
 
         if (therapy.synonyms() != null) {
             for (String synonym : therapy.synonyms()) {
-                context.insertInto(Therapysynonym.THERAPYSYNONYM,
-                        Therapysynonym.THERAPYSYNONYM.THERAPYID,
-                        Therapysynonym.THERAPYSYNONYM.SYNONYM).values(id, synonym).execute();
+                therapySynonyms.values(id, synonym);
             }
         }
 
         for (Reference reference : therapy.references()) {
-            writeTherapyReference(reference, id);
+            therapyReferences.values(Util.referenceRow(id, reference));
         }
 
         for (GlobalApprovalStatus globalApprovalStatus : therapy.globalApprovalStatuses()) {
-            context.insertInto(Globalapprovalstatus.GLOBALAPPROVALSTATUS,
-                            Globalapprovalstatus.GLOBALAPPROVALSTATUS.THERAPYID,
-                            Globalapprovalstatus.GLOBALAPPROVALSTATUS.CKBGLOBALAPPROVALSTATUSID,
-                            Globalapprovalstatus.GLOBALAPPROVALSTATUS.CKBPROFILEID,
-                            Globalapprovalstatus.GLOBALAPPROVALSTATUS.CKBINDICATIONID,
-                            Globalapprovalstatus.GLOBALAPPROVALSTATUS.APPROVALSTATUS,
-                            Globalapprovalstatus.GLOBALAPPROVALSTATUS.APPROVALAUTHORITY)
-                    .values(id,
-                            globalApprovalStatus.id(),
-                            globalApprovalStatus.profileId(),
-                            globalApprovalStatus.indicationId(),
-                            globalApprovalStatus.approvalStatus(),
-                            globalApprovalStatus.approvalAuthority())
-                    .execute();
+            globalApprovalStatuses.values(id,
+                    globalApprovalStatus.id(),
+                    globalApprovalStatus.profileId(),
+                    globalApprovalStatus.indicationId(),
+                    globalApprovalStatus.approvalStatus(),
+                    globalApprovalStatus.approvalAuthority());
         }
         return id;
     }
 
+    private void deleteChildren(@NotNull Select<? extends Record1<Integer>> therapyIds) {
+        // Note that deletions should go from branch to root
+        Select<Record1<Integer>> drugIds = DSL.select(Drug.DRUG.ID).from(Drug.DRUG).where(Drug.DRUG.THERAPYID.in(therapyIds));
+        context.deleteFrom(Tables.DRUGREFERENCE).where(Tables.DRUGREFERENCE.DRUGID.in(drugIds)).execute();
+        context.deleteFrom(Drugterm.DRUGTERM).where(Drugterm.DRUGTERM.DRUGID.in(drugIds)).execute();
+        context.deleteFrom(Drugsynonym.DRUGSYNONYM).where(Drugsynonym.DRUGSYNONYM.DRUGID.in(drugIds)).execute();
+        context.deleteFrom(Drugclass.DRUGCLASS).where(Drugclass.DRUGCLASS.DRUGID.in(drugIds)).execute();
+        context.deleteFrom(Drug.DRUG).where(Drug.DRUG.THERAPYID.in(therapyIds)).execute();
+
+        context.deleteFrom(Therapysynonym.THERAPYSYNONYM).where(Therapysynonym.THERAPYSYNONYM.THERAPYID.in(therapyIds)).execute();
+        context.deleteFrom(Tables.THERAPYREFERENCE).where(Tables.THERAPYREFERENCE.THERAPYID.in(therapyIds)).execute();
+
+        context.deleteFrom(Globalapprovalstatus.GLOBALAPPROVALSTATUS)
+                .where(Globalapprovalstatus.GLOBALAPPROVALSTATUS.THERAPYID.in(therapyIds))
+                .execute();
+    }
+
     private void writeDrug(@NotNull com.hartwig.serve.ckb.datamodel.drug.Drug drug, int therapyId) {
-        int id = context.insertInto(Drug.DRUG,
-                        Drug.DRUG.THERAPYID,
-                        Drug.DRUG.CKBDRUGID,
-                        Drug.DRUG.CREATEDATE,
-                        Drug.DRUG.DRUGNAME,
-                        Drug.DRUG.TRADENAME,
-                        Drug.DRUG.CASREGISTRYNUM,
-                        Drug.DRUG.NCITID,
-                        Drug.DRUG.DESCRIPTION)
-                .values(therapyId,
-                        drug.id(),
-                        drug.createDate(),
-                        drug.drugName(),
-                        drug.tradeName(),
-                        drug.casRegistryNum(),
-                        drug.ncitId(),
-                        drug.description())
-                .returning(Drug.DRUG.ID)
-                .fetchOne()
-                .getValue(Drug.DRUG.ID);
+        int id = batcher.nextId(Drug.DRUG.ID);
+        drugs.values(id,
+                therapyId,
+                drug.id(),
+                drug.createDate(),
+                drug.drugName(),
+                drug.tradeName(),
+                drug.casRegistryNum(),
+                drug.ncitId(),
+                drug.description());
 
         for (DrugClass drugClass : drug.drugClasses()) {
-            context.insertInto(Drugclass.DRUGCLASS,
-                    Drugclass.DRUGCLASS.DRUGID,
-                    Drugclass.DRUGCLASS.CKBDRUGCLASSID,
-                    Drugclass.DRUGCLASS.CREATEDATE,
-                    Drugclass.DRUGCLASS.DRUGCLASS_).values(id, drugClass.id(), drugClass.createDate(), drugClass.drugClass()).execute();
+            drugClasses.values(id, drugClass.id(), drugClass.createDate(), drugClass.drugClass());
         }
 
         for (String term : drug.terms()) {
-            context.insertInto(Drugterm.DRUGTERM, Drugterm.DRUGTERM.DRUGID, Drugterm.DRUGTERM.TERM).values(id, term).execute();
+            drugTerms.values(id, term);
         }
 
         for (String synonym : drug.synonyms()) {
-            context.insertInto(Drugsynonym.DRUGSYNONYM, Drugsynonym.DRUGSYNONYM.DRUGID, Drugsynonym.DRUGSYNONYM.SYNONYM)
-                    .values(id, synonym)
-                    .execute();
+            drugSynonyms.values(id, synonym);
         }
 
         for (Reference reference : drug.references()) {
-            writeDrugReference(reference, id);
+            drugReferences.values(Util.referenceRow(id, reference));
         }
     }
-
-    private void writeDrugReference(@NotNull Reference reference, int drugId) {
-        context.insertInto(Tables.DRUGREFERENCE,
-                        Tables.DRUGREFERENCE.DRUGID,
-                        Tables.DRUGREFERENCE.CKBREFERENCEID,
-                        Tables.DRUGREFERENCE.PUBMEDID,
-                        Tables.DRUGREFERENCE.TITLE,
-                        Tables.DRUGREFERENCE.SHORTJOURNALTITLE,
-                        Tables.DRUGREFERENCE.PAGES,
-                        Tables.DRUGREFERENCE.ABSTRACTTEXT,
-                        Tables.DRUGREFERENCE.URL,
-                        Tables.DRUGREFERENCE.JOURNAL,
-                        Tables.DRUGREFERENCE.AUTHORS,
-                        Tables.DRUGREFERENCE.VOLUME,
-                        Tables.DRUGREFERENCE.ISSUE,
-                        Tables.DRUGREFERENCE.DATE,
-                        Tables.DRUGREFERENCE.YEAR)
-                .values(drugId,
-                        reference.id(),
-                        reference.pubMedId(),
-                        reference.title(),
-                        reference.shortJournalTitle(),
-                        reference.pages(),
-                        reference.abstractText(),
-                        reference.url(),
-                        reference.journal(),
-                        reference.authors(),
-                        reference.volume(),
-                        reference.issue(),
-                        reference.date(),
-                        reference.year())
-                .execute();
-    }
-
-    private void writeTherapyReference(@NotNull Reference reference, int therapyId) {
-        context.insertInto(Tables.THERAPYREFERENCE,
-                        Tables.THERAPYREFERENCE.THERAPYID,
-                        Tables.THERAPYREFERENCE.CKBREFERENCEID,
-                        Tables.THERAPYREFERENCE.PUBMEDID,
-                        Tables.THERAPYREFERENCE.TITLE,
-                        Tables.THERAPYREFERENCE.SHORTJOURNALTITLE,
-                        Tables.THERAPYREFERENCE.PAGES,
-                        Tables.THERAPYREFERENCE.ABSTRACTTEXT,
-                        Tables.THERAPYREFERENCE.URL,
-                        Tables.THERAPYREFERENCE.JOURNAL,
-                        Tables.THERAPYREFERENCE.AUTHORS,
-                        Tables.THERAPYREFERENCE.VOLUME,
-                        Tables.THERAPYREFERENCE.ISSUE,
-                        Tables.THERAPYREFERENCE.DATE,
-                        Tables.THERAPYREFERENCE.YEAR)
-                .values(therapyId,
-                        reference.id(),
-                        reference.pubMedId(),
-                        reference.title(),
-                        reference.shortJournalTitle(),
-                        reference.pages(),
-                        reference.abstractText(),
-                        reference.url(),
-                        reference.journal(),
-                        reference.authors(),
-                        reference.volume(),
-                        reference.issue(),
-                        reference.date(),
-                        reference.year())
-                .execute();
-    }
 }
@@ -1,21 +1,81 @@
 package com.hartwig.serve.ckb.dao;
 
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.collect.Maps;
 import com.hartwig.serve.ckb.database.Tables;
 import com.hartwig.serve.ckb.database.tables.Treatmentapproach;
+import com.hartwig.serve.ckb.database.tables.Treatmentapproachevidence;
 import com.hartwig.serve.ckb.datamodel.reference.Reference;
 import com.hartwig.serve.ckb.datamodel.treatmentapproaches.DrugClassTreatmentApproach;
+import com.hartwig.serve.ckb.datamodel.treatmentapproaches.RelevantTreatmentApproaches;
 import com.hartwig.serve.ckb.datamodel.treatmentapproaches.TherapyTreatmentApproach;
+import com.hartwig.serve.common.dao.InsertBatcher;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
 
 class TreatmentApproachDAO {
 
     @NotNull
     private final DSLContext context;
+    @NotNull
+    private final InsertBatcher batcher;
+    @NotNull
+    private final Map<Integer, Integer> idPerCkbDrugClassTreatmentApproachId = Maps.newHashMap();
+    @NotNull
+    private final Map<Integer, Integer> idPerCkbTherapyTreatmentApproachId = Maps.newHashMap();
+    @NotNull
+    private final Map<Integer, StoredRow> storedRowPerCkbTreatmentApproachId = Maps.newHashMap();
+
+    @NotNull
+    private final InsertBatcher.Batch treatmentApproaches;
+    @NotNull
+    private final InsertBatcher.Batch treatmentApproachDrugClasses;
+    @NotNull
+    private final InsertBatcher.Batch treatmentApproachTherapies;
+    @NotNull
+    private final InsertBatcher.Batch treatmentApproachReferences;
 
-    public TreatmentApproachDAO(@NotNull final DSLContext context) {
+    public TreatmentApproachDAO(@NotNull final DSLContext context, @NotNull final InsertBatcher batcher) {
         this.context = context;
+        this.batcher = batcher;
+
+        this.treatmentApproaches = batcher.into(Treatmentapproach.TREATMENTAPPROACH,
+                Treatmentapproach.TREATMENTAPPROACH.ID,
+                Treatmentapproach.TREATMENTAPPROACH.TREATMENTAPPROACHID,
+                Treatmentapproach.TREATMENTAPPROACH.CREATEDATE,
+                Treatmentapproach.TREATMENTAPPROACH.UPDATEDATE);
+        this.treatmentApproachDrugClasses = batcher.into(Tables.TREATMENTAPPROACHDRUGCLASS,
+                Tables.TREATMENTAPPROACHDRUGCLASS.TREATMENTAPPROACHID,
+                Tables.TREATMENTAPPROACHDRUGCLASS.DRUGCLASSID,
+                Tables.TREATMENTAPPROACHDRUGCLASS.DRUGCLASS);
+        this.treatmentApproachTherapies = batcher.into(Tables.TREATMENTAPPROACHTHERAPY,
+                Tables.TREATMENTAPPROACHTHERAPY.TREATMENTAPPROACHID,
+                Tables.TREATMENTAPPROACHTHERAPY.THERAPYID,
+                Tables.TREATMENTAPPROACHTHERAPY.THERAPYNAME);
+        this.treatmentApproachReferences = batcher.into(Tables.TREATMENTAPPROACHREFERENCE,
+                Tables.TREATMENTAPPROACHREFERENCE.TREATMENTAPPROACHID,
+                Tables.TREATMENTAPPROACHREFERENCE.REFERENCEID,
+                Tables.TREATMENTAPPROACHREFERENCE.PUBMEDID,
+                Tables.TREATMENTAPPROACHREFERENCE.TITLE,
+                Tables.TREATMENTAPPROACHREFERENCE.SHORTJOURNALTITLE,
+                Tables.TREATMENTAPPROACHREFERENCE.PAGES,
+                Tables.TREATMENTAPPROACHREFERENCE.ABSTRACTTEXT,
+                Tables.TREATMENTAPPROACHREFERENCE.URL,
+                Tables.TREATMENTAPPROACHREFERENCE.JOURNAL,
+                Tables.TREATMENTAPPROACHREFERENCE.AUTHORS,
+                Tables.TREATMENTAPPROACHREFERENCE.VOLUME,
+                Tables.TREATMENTAPPROACHREFERENCE.ISSUE,
+                Tables.TREATMENTAPPROACHREFERENCE.DATE,
+                Tables.TREATMENTAPPROACHREFERENCE.YEAR);
     }
 
     public void deleteAll() {
@@ -28,96 +88,103 @@ class TreatmentApproachDAO {
 
     }
 
-    public int write(@NotNull DrugClassTreatmentApproach treatmentApproaches) {
-        int id = context.insertInto(Treatmentapproach.TREATMENTAPPROACH,
+    public void loadStored() {
+        for (Record record : context.select(Treatmentapproach.TREATMENTAPPROACH.ID,
                         Treatmentapproach.TREATMENTAPPROACH.TREATMENTAPPROACHID,
-                        Treatmentapproach.TREATMENTAPPROACH.CREATEDATE,
                         Treatmentapproach.TREATMENTAPPROACH.UPDATEDATE)
-                .values(treatmentApproaches.id(), treatmentApproaches.createDate(), treatmentApproaches.updateDate())
-                .returning(Treatmentapproach.TREATMENTAPPROACH.ID)
-                .fetchOne()
-                .getValue(Treatmentapproach.TREATMENTAPPROACH.ID);
+                .from(Treatmentapproach.TREATMENTAPPROACH)
+                .orderBy(Treatmentapproach.TREATMENTAPPROACH.ID)
+                .fetch()) {
+            storedRowPerCkbTreatmentApproachId.putIfAbsent(record.getValue(Treatmentapproach.TREATMENTAPPROACH.TREATMENTAPPROACHID),
+                    new StoredRow(record.getValue(Treatmentapproach.TREATMENTAPPROACH.ID),
+                            record.getValue(Treatmentapproach.TREATMENTAPPROACH.UPDATEDATE)));
+        }
+    }
 
-        writeTreatmentDrugClass(treatmentApproaches, id);
+    public void deleteUnreferenced() {
+        Select<Record1<Integer>> referencedIds = DSL.select(Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE.TREATMENTAPPROACHEVIDENCEID)
+                .from(Treatmentapproachevidence.TREATMENTAPPROACHEVIDENCE);
+        Condition unreferenced = Treatmentapproach.TREATMENTAPPROACH.ID.notIn(referencedIds);
 
-        for (Reference reference : treatmentApproaches.references()) {
-            writeTreatmentReference(reference, id);
+        deleteChildren(DSL.select(Treatmentapproach.TREATMENTAPPROACH.ID).from(Treatmentapproach.TREATMENTAPPROACH).where(unreferenced));
+        context.deleteFrom(Treatmentapproach.TREATMENTAPPROACH).where(unreferenced).execute();
+    }
+
+    public int write(@NotNull DrugClassTreatmentApproach treatmentApproach) {
+        Integer existingId = idPerCkbDrugClassTreatmentApproachId.get(treatmentApproach.id());
+        if (existingId != null) {
+            return existingId;
         }
 
+        StoredRow storedRow = storedRowPerCkbTreatmentApproachId.remove(treatmentApproach.id());
+        if (storedRow != null && Objects.equals(storedRow.updateDate(), treatmentApproach.updateDate())) {
+            idPerCkbDrugClassTreatmentApproachId.put(treatmentApproach.id(), storedRow.id());
+            return storedRow.id();
+        }
+
+        int id = writeTreatmentApproach(treatmentApproach, storedRow);
+        idPerCkbDrugClassTreatmentApproachId.put(treatmentApproach.id(), id);
+
+        //Only written relevant drug class name for treatment approach and other redundant for table drugclass
+        treatmentApproachDrugClasses.values(id, treatmentApproach.drugClass().id(), treatmentApproach.drugClass().drugClass());
+
         return id;
     }
 
-    public int write(@NotNull TherapyTreatmentApproach treatmentApproaches) {
-        int id = context.insertInto(Treatmentapproach.TREATMENTAPPROACH,
-                        Treatmentapproach.TREATMENTAPPROACH.TREATMENTAPPROACHID,
-                        Treatmentapproach.TREATMENTAPPROACH.CREATEDATE,
-                        Treatmentapproach.TREATMENTAPPROACH.UPDATEDATE)
-                .values(treatmentApproaches.id(), treatmentApproaches.createDate(), treatmentApproaches.updateDate())
-                .returning(Treatmentapproach.TREATMENTAPPROACH.ID)
-                .fetchOne()
-                .getValue(Treatmentapproach.TREATMENTAPPROACH.ID);
-
-        writeTreatmentTherapy(treatmentApproaches, id);
+    public int write(@NotNull TherapyTreatmentApproach treatmentApproach) {
+        Integer existingId = idPerCkbTherapyTreatmentApproachId.get(treatmentApproach.id());
+        if (existingId != null) {
+            return existingId;
+        }
 
-        for (Reference reference : treatmentApproaches.references()) {
-            writeTreatmentReference(reference, id);
+        StoredRow storedRow = storedRowPerCkbTreatmentApproachId.remove(treatmentApproach.id());
+        if (storedRow != null && Objects.equals(storedRow.updateDate(), treatmentApproach.updateDate())) {
+            idPerCkbTherapyTreatmentApproachId.put(treatmentApproach.id(), storedRow.id());
+            return storedRow.id();
         }
 
+        int id = writeTreatmentApproach(treatmentApproach, storedRow);
+        idPerCkbTherapyTreatmentApproachId.put(treatmentApproach.id(), id);
+
+        //Only written relevant therapy name for treatment approach and other redundant for tables therapy/therapy synonym
+        treatmentApproachTherapies.values(id, treatmentApproach.therapy().id(), treatmentApproach.therapy().therapyName());
+
         return id;
     }
 
-    private void writeTreatmentDrugClass(@NotNull DrugClassTreatmentApproach drugClassTreatmentApproach, int treatmentApproachDrugClassId) {
-        //Only written relevant drug class name for treatment approach and other redundant for table drugclass
-        context.insertInto(Tables.TREATMENTAPPROACHDRUGCLASS,
-                        Tables.TREATMENTAPPROACHDRUGCLASS.TREATMENTAPPROACHID,
-                        Tables.TREATMENTAPPROACHDRUGCLASS.DRUGCLASSID,
-                        Tables.TREATMENTAPPROACHDRUGCLASS.DRUGCLASS)
-                .values(treatmentApproachDrugClassId, drugClassTreatmentApproach.drugClass().id(), drugClassTreatmentApproach.drugClass().drugClass())
-                .execute();
-    }
+    private int writeTreatmentApproach(@NotNull RelevantTreatmentApproaches treatmentApproach, @Nullable StoredRow staleRow) {
+        int id;
+        if (staleRow == null) {
+            id = batcher.nextId(Treatmentapproach.TREATMENTAPPROACH.ID);
+            treatmentApproaches.values(id, treatmentApproach.id(), treatmentApproach.createDate(), treatmentApproach.updateDate());
+        } else {
+            // A treatment approach that changed since the previous import is refreshed in place, so that unchanged evidences keep
+            // referring to it.
+            id = staleRow.id();
+            deleteChildren(DSL.select(DSL.val(id)));
+            context.update(Treatmentapproach.TREATMENTAPPROACH)
+                    .set(Treatmentapproach.TREATMENTAPPROACH.CREATEDATE, treatmentApproach.createDate())
+                    .set(Treatmentapproach.TREATMENTAPPROACH.UPDATEDATE, treatmentApproach.updateDate())
+                    .where(Treatmentapproach.TREATMENTAPPROACH.ID.eq(id))
+                    .execute();
+        }
 
-    private void writeTreatmentTherapy(@NotNull TherapyTreatmentApproach therapyTreatmentApproach, int treatmentApproachDrugClassId) {
-        //Only written relevant therapy name for treatment approach and other redundant for tables therapy/therapy synonym
-        context.insertInto(Tables.TREATMENTAPPROACHTHERAPY,
-                        Tables.TREATMENTAPPROACHTHERAPY.TREATMENTAPPROACHID,
-                        Tables.TREATMENTAPPROACHTHERAPY.THERAPYID,
-                        Tables.TREATMENTAPPROACHTHERAPY.THERAPYNAME)
-                .values(treatmentApproachDrugClassId,
-                        therapyTreatmentApproach.therapy().id(),
-                        therapyTreatmentApproach.therapy().therapyName())
-                .execute();
+        for (Reference reference : treatmentApproach.references()) {
+            treatmentApproachReferences.values(Util.referenceRow(id, reference));
+        }
+
+        return id;
     }
 
-    private void writeTreatmentReference(@NotNull Reference reference, int treatmentApproachReferenceId) {
-        context.insertInto(Tables.TREATMENTAPPROACHREFERENCE,
-                        Tables.TREATMENTAPPROACHREFERENCE.TREATMENTAPPROACHID,
-                        Tables.TREATMENTAPPROACHREFERENCE.REFERENCEID,
-                        Tables.TREATMENTAPPROACHREFERENCE.PUBMEDID,
-                        Tables.TREATMENTAPPROACHREFERENCE.TITLE,
-                        Tables.TREATMENTAPPROACHREFERENCE.SHORTJOURNALTITLE,
-                        Tables.TREATMENTAPPROACHREFERENCE.PAGES,
-                        Tables.TREATMENTAPPROACHREFERENCE.ABSTRACTTEXT,
-                        Tables.TREATMENTAPPROACHREFERENCE.URL,
-                        Tables.TREATMENTAPPROACHREFERENCE.JOURNAL,
-                        Tables.TREATMENTAPPROACHREFERENCE.AUTHORS,
-                        Tables.TREATMENTAPPROACHREFERENCE.VOLUME,
-                        Tables.TREATMENTAPPROACHREFERENCE.ISSUE,
-                        Tables.TREATMENTAPPROACHREFERENCE.DATE,
-                        Tables.TREATMENTAPPROACHREFERENCE.YEAR)
-                .values(treatmentApproachReferenceId,
-                        reference.id(),
-                        reference.pubMedId(),
-                        reference.title(),
-                        reference.shortJournalTitle(),
-                        reference.pages(),
-                        reference.abstractText(),
-                        reference.url(),
-                        reference.journal(),
-                        reference.authors(),
-                        reference.volume(),
-                        reference.issue(),
-                        reference.date(),
-                        reference.year())
+    private void deleteChildren(@NotNull Select<? extends Record1<Integer>> treatmentApproachIds) {
+        context.deleteFrom(Tables.TREATMENTAPPROACHDRUGCLASS)
+                .where(Tables.TREATMENTAPPROACHDRUGCLASS.TREATMENTAPPROACHID.in(treatmentApproachIds))
+                .execute();
+        context.deleteFrom(Tables.TREATMENTAPPROACHTHERAPY)
+                .where(Tables.TREATMENTAPPROACHTHERAPY.TREATMENTAPPROACHID.in(treatmentApproachIds))
+                .execute();
+        context.deleteFrom(Tables.TREATMENTAPPROACHREFERENCE)
+                .where(Tables.TREATMENTAPPROACHREFERENCE.TREATMENTAPPROACHID.in(treatmentApproachIds))
                 .execute();
     }
 }
@@ -1,5 +1,9 @@
 package com.hartwig.serve.ckb.dao;
 
+import com.hartwig.serve.ckb.datamodel.reference.Reference;
+
+import org.jetbrains.annotations.NotNull;
+
 final class Util {
 
     private Util() {
@@ -8,4 +12,11 @@ final class Util {
     public static byte toByte(boolean value) {
         return value ? (byte) 1 : (byte) 0;
     }
+
+    @NotNull
+    public static Object[] referenceRow(int ownerId, @NotNull Reference reference) {
+        return new Object[] { ownerId, reference.id(), reference.pubMedId(), reference.title(), reference.shortJournalTitle(),
+                reference.pages(), reference.abstractText(), reference.url(), reference.journal(), reference.authors(), reference.volume(),
+                reference.issue(), reference.date(), reference.year() };
+    }
 }
@@ -1,5 +1,7 @@
 package com.hartwig.serve.ckb.dao;
 
+import java.util.Collection;
+
 import com.hartwig.serve.ckb.database.Tables;
 import com.hartwig.serve.ckb.database.tables.Categoryvariantpath;
 import com.hartwig.serve.ckb.database.tables.Gene;
@@ -11,18 +13,125 @@ import com.hartwig.serve.ckb.database.tables.Variant;
 import com.hartwig.serve.ckb.datamodel.reference.Reference;
 import com.hartwig.serve.ckb.datamodel.variant.MemberVariant;
 import com.hartwig.serve.ckb.datamodel.variant.TranscriptCoordinate;
+import com.hartwig.serve.common.dao.InsertBatcher;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
 
 class VariantDAO {
 
     @NotNull
     private final DSLContext context;
+    @NotNull
+    private final InsertBatcher batcher;
+
+    @NotNull
+    private final InsertBatcher.Batch variants;
+    @NotNull
+    private final InsertBatcher.Batch variantReferences;
+    @NotNull
+    private final InsertBatcher.Batch genes;
+    @NotNull
+    private final InsertBatcher.Batch geneTerms;
+    @NotNull
+    private final InsertBatcher.Batch geneSynonyms;
+    @NotNull
+    private final InsertBatcher.Batch geneReferences;
+    @NotNull
+    private final InsertBatcher.Batch transcriptCoordinates;
+    @NotNull
+    private final InsertBatcher.Batch categoryVariantPaths;
+    @NotNull
+    private final InsertBatcher.Batch memberVariants;
 
-    public VariantDAO(@NotNull final DSLContext context) {
+    public VariantDAO(@NotNull final DSLContext context, @NotNull final InsertBatcher batcher) {
         this.context = context;
+        this.batcher = batcher;
+
+        this.variants = batcher.into(Variant.VARIANT,
+                Variant.VARIANT.ID,
+                Variant.VARIANT.CKBENTRYID,
+                Variant.VARIANT.CKBVARIANTID,
+                Variant.VARIANT.CREATEDATE,
+                Variant.VARIANT.UPDATEDATE,
+                Variant.VARIANT.FULLNAME,
+                Variant.VARIANT.VARIANT_,
+                Variant.VARIANT.IMPACT,
+                Variant.VARIANT.PROTEINEFFECT,
+                Variant.VARIANT.TYPE,
+                Variant.VARIANT.ASSOCIATEDWITHDRUGRESISTANCE,
+                Variant.VARIANT.TRANSFORMINGACTIVITY,
+                Variant.VARIANT.POLYMORPHISM,
+                Variant.VARIANT.HOTSPOTREFERENCE,
+                Variant.VARIANT.ISHOTSPOT,
+                Variant.VARIANT.DESCRIPTION);
+        this.variantReferences = batcher.into(Tables.VARIANTREFERENCE,
+                Tables.VARIANTREFERENCE.VARIANTID,
+                Tables.VARIANTREFERENCE.CKBREFERENCEID,
+                Tables.VARIANTREFERENCE.PUBMEDID,
+                Tables.VARIANTREFERENCE.TITLE,
+                Tables.VARIANTREFERENCE.SHORTJOURNALTITLE,
+                Tables.VARIANTREFERENCE.PAGES,
+                Tables.VARIANTREFERENCE.ABSTRACTTEXT,
+                Tables.VARIANTREFERENCE.URL,
+                Tables.VARIANTREFERENCE.JOURNAL,
+                Tables.VARIANTREFERENCE.AUTHORS,
+                Tables.VARIANTREFERENCE.VOLUME,
+                Tables.VARIANTREFERENCE.ISSUE,
+                Tables.VARIANTREFERENCE.DATE,
+                Tables.VARIANTREFERENCE.YEAR);
+        this.genes = batcher.into(Gene.GENE,
+                Gene.GENE.ID,
+                Gene.GENE.VARIANTID,
+                Gene.GENE.CKBGENEID,
+                Gene.GENE.CREATEDATE,
+                Gene.GENE.UPDATEDATE,
+                Gene.GENE.GENESYMBOL,
+                Gene.GENE.GENEROLE,
+                Gene.GENE.ENTREZID,
+                Gene.GENE.CHROMOSOME,
+                Gene.GENE.MAPLOCATION,
+                Gene.GENE.CANONICALTRANSCRIPT,
+                Gene.GENE.DESCRIPTION);
+        this.geneTerms = batcher.into(Geneterm.GENETERM, Geneterm.GENETERM.GENEID, Geneterm.GENETERM.TERM);
+        this.geneSynonyms = batcher.into(Genesynonym.GENESYNONYM, Genesynonym.GENESYNONYM.GENEID, Genesynonym.GENESYNONYM.SYNONYM);
+        this.geneReferences = batcher.into(Tables.GENEREFERENCE,
+                Tables.GENEREFERENCE.GENEID,
+                Tables.GENEREFERENCE.CKBREFERENCEID,
+                Tables.GENEREFERENCE.PUBMEDID,
+                Tables.GENEREFERENCE.TITLE,
+                Tables.GENEREFERENCE.SHORTJOURNALTITLE,
+                Tables.GENEREFERENCE.PAGES,
+                Tables.GENEREFERENCE.ABSTRACTTEXT,
+                Tables.GENEREFERENCE.URL,
+                Tables.GENEREFERENCE.JOURNAL,
+                Tables.GENEREFERENCE.AUTHORS,
+                Tables.GENEREFERENCE.VOLUME,
+                Tables.GENEREFERENCE.ISSUE,
+                Tables.GENEREFERENCE.DATE,
+                Tables.GENEREFERENCE.YEAR);
+        this.transcriptCoordinates = batcher.into(Transcriptcoordinate.TRANSCRIPTCOORDINATE,
+                Transcriptcoordinate.TRANSCRIPTCOORDINATE.VARIANTID,
+                Transcriptcoordinate.TRANSCRIPTCOORDINATE.ISREFERENCETRANSCRIPTCOORDINATE,
+                Transcriptcoordinate.TRANSCRIPTCOORDINATE.TRANSCRIPT,
+                Transcriptcoordinate.TRANSCRIPTCOORDINATE.GDNA,
+                Transcriptcoordinate.TRANSCRIPTCOORDINATE.CDNA,
+                Transcriptcoordinate.TRANSCRIPTCOORDINATE.PROTEIN,
+                Transcriptcoordinate.TRANSCRIPTCOORDINATE.SOURCEDB,
+                Transcriptcoordinate.TRANSCRIPTCOORDINATE.REFGENOMEBUILD);
+        this.categoryVariantPaths = batcher.into(Categoryvariantpath.CATEGORYVARIANTPATH,
+                Categoryvariantpath.CATEGORYVARIANTPATH.VARIANTID,
+                Categoryvariantpath.CATEGORYVARIANTPATH.VARIANTPATH);
+        this.memberVariants = batcher.into(Membervariant.MEMBERVARIANT,
+                Membervariant.MEMBERVARIANT.VARIANTID,
+                Membervariant.MEMBERVARIANT.CKBVARIANTID,
+                Membervariant.MEMBERVARIANT.FULLNAME,
+                Membervariant.MEMBERVARIANT.IMPACT,
+                Membervariant.MEMBERVARIANT.PROTEINEFFECT);
     }
 
     public void deleteAll() {
@@ -40,41 +149,46 @@ class VariantDAO {
         context.deleteFrom(Variant.VARIANT).execute();
     }
 
+    public void deleteForEntries(@NotNull Collection<Integer> ckbEntryIds) {
+        // Note that deletions should go from branch to root
+        Select<Record1<Integer>> variantIds =
+                DSL.select(Variant.VARIANT.ID).from(Variant.VARIANT).where(Variant.VARIANT.CKBENTRYID.in(ckbEntryIds));
+        context.deleteFrom(Membervariant.MEMBERVARIANT).where(Membervariant.MEMBERVARIANT.VARIANTID.in(variantIds)).execute();
+        context.deleteFrom(Categoryvariantpath.CATEGORYVARIANTPATH)
+                .where(Categoryvariantpath.CATEGORYVARIANTPATH.VARIANTID.in(variantIds))
+                .execute();
+        context.deleteFrom(Transcriptcoordinate.TRANSCRIPTCOORDINATE)
+                .where(Transcriptcoordinate.TRANSCRIPTCOORDINATE.VARIANTID.in(variantIds))
+                .execute();
+        context.deleteFrom(Tables.VARIANTREFERENCE).where(Tables.VARIANTREFERENCE.VARIANTID.in(variantIds)).execute();
+
+        Select<Record1<Integer>> geneIds = DSL.select(Gene.GENE.ID).from(Gene.GENE).where(Gene.GENE.VARIANTID.in(variantIds));
+        context.deleteFrom(Tables.GENEREFERENCE).where(Tables.GENEREFERENCE.GENEID.in(geneIds)).execute();
+        context.deleteFrom(Genesynonym.GENESYNONYM).where(Genesynonym.GENESYNONYM.GENEID.in(geneIds)).execute();
+        context.deleteFrom(Geneterm.GENETERM).where(Geneterm.GENETERM.GENEID.in(geneIds)).execute();
+        context.deleteFrom(Gene.GENE).where(Gene.GENE.VARIANTID.in(variantIds)).execute();
+
+        context.deleteFrom(Variant.VARIANT).where(Variant.VARIANT.CKBENTRYID.in(ckbEntryIds)).execute();
+    }
+
     public void write(@NotNull com.hartwig.serve.ckb.datamodel.variant.Variant variant, int ckbEntryId) {
-        int id = context.insertInto(Variant.VARIANT,
-                        Variant.VARIANT.CKBENTRYID,
-                        Variant.VARIANT.CKBVARIANTID,
-                        Variant.VARIANT.CREATEDATE,
-                        Variant.VARIANT.UPDATEDATE,
-                        Variant.VARIANT.FULLNAME,
-                        Variant.VARIANT.VARIANT_,
-                        Variant.VARIANT.IMPACT,
-                        Variant.VARIANT.PROTEINEFFECT,
-                        Variant.VARIANT.TYPE,
-                        Variant.VARIANT.ASSOCIATEDWITHDRUGRESISTANCE,
-                        Variant.VARIANT.TRANSFORMINGACTIVITY,
-                        Variant.VARIANT.POLYMORPHISM,
-                        Variant.VARIANT.HOTSPOTREFERENCE,
-                        Variant.VARIANT.ISHOTSPOT,
-                        Variant.VARIANT.DESCRIPTION)
-                .values(ckbEntryId,
-                        variant.id(),
-                        variant.createDate(),
-                        variant.updateDate(),
-                        variant.fullName(),
-                        variant.variant(),
-                        variant.impact(),
-                        variant.proteinEffect(),
-                        variant.type(),
-                        variant.associatedWithDrugResistance(),
-                        variant.transformingActivity(),
-                        variant.polymorphism(),
-                        variant.hotspotReference(),
-                        Util.toByte(variant.isHotspot()),
-                        variant.description())
-                .returning(Variant.VARIANT.ID)
-                .fetchOne()
-                .getValue(Variant.VARIANT.ID);
+        int id = batcher.nextId(Variant.VARIANT.ID);
+        variants.values(id,
+                ckbEntryId,
+                variant.id(),
+                variant.createDate(),
+                variant.updateDate(),
+                variant.fullName(),
+                variant.variant(),
+                variant.impact(),
+                variant.proteinEffect(),
+                variant.type(),
+                variant.associatedWithDrugResistance(),
+                variant.transformingActivity(),
+                variant.polymorphism(),
+                variant.hotspotReference(),
+                Util.toByte(variant.isHotspot()),
+                variant.description());
 
         writeGene(variant.gene(), id);
 
@@ -84,161 +198,57 @@ class VariantDAO {
         }
 
         for (String categoryVariantPath : variant.categoryVariantPaths()) {
-            context.insertInto(Categoryvariantpath.CATEGORYVARIANTPATH,
-                    Categoryvariantpath.CATEGORYVARIANTPATH.VARIANTID,
-                    Categoryvariantpath.CATEGORYVARIANTPATH.VARIANTPATH).values(id, categoryVariantPath).execute();
+            categoryVariantPaths.values(id, categoryVariantPath);
         }
 
         for (MemberVariant memberVariant : variant.memberVariants()) {
-            writeMemberVariant(memberVariant, id);
+            memberVariants.values(id, memberVariant.id(), memberVariant.fullName(), memberVariant.impact(), memberVariant.proteinEffect());
         }
 
         for (Reference variantReference : variant.references()) {
-            writeVariantReference(variantReference, id);
+            variantReferences.values(Util.referenceRow(id, variantReference));
         }
     }
 
     private void writeGene(@NotNull com.hartwig.serve.ckb.datamodel.variant.Gene gene, int variantId) {
-        int id = context.insertInto(Gene.GENE,
-                        Gene.GENE.VARIANTID,
-                        Gene.GENE.CKBGENEID,
-                        Gene.GENE.CREATEDATE,
-                        Gene.GENE.UPDATEDATE,
-                        Gene.GENE.GENESYMBOL,
-                        Gene.GENE.GENEROLE,
-                        Gene.GENE.ENTREZID,
-                        Gene.GENE.CHROMOSOME,
-                        Gene.GENE.MAPLOCATION,
-                        Gene.GENE.CANONICALTRANSCRIPT,
-                        Gene.GENE.DESCRIPTION)
-                .values(variantId,
-                        gene.id(),
-                        gene.createDate(),
-                        gene.updateDate(),
-                        gene.geneSymbol(),
-                        gene.geneRole(),
-                        gene.entrezId(),
-                        gene.chromosome(),
-                        gene.mapLocation(),
-                        gene.canonicalTranscript(),
-                        gene.description())
-                .returning(Gene.GENE.ID)
-                .fetchOne()
-                .getValue(Gene.GENE.ID);
+        int id = batcher.nextId(Gene.GENE.ID);
+        genes.values(id,
+                variantId,
+                gene.id(),
+                gene.createDate(),
+                gene.updateDate(),
+                gene.geneSymbol(),
+                gene.geneRole(),
+                gene.entrezId(),
+                gene.chromosome(),
+                gene.mapLocation(),
+                gene.canonicalTranscript(),
+                gene.description());
 
         for (String term : gene.terms()) {
-            context.insertInto(Geneterm.GENETERM, Geneterm.GENETERM.GENEID, Geneterm.GENETERM.TERM).values(id, term).execute();
+            geneTerms.values(id, term);
         }
 
         for (String synonym : gene.synonyms()) {
-            context.insertInto(Genesynonym.GENESYNONYM, Genesynonym.GENESYNONYM.GENEID, Genesynonym.GENESYNONYM.SYNONYM)
-                    .values(id, synonym)
-                    .execute();
+            geneSynonyms.values(id, synonym);
         }
 
         for (Reference geneReference : gene.references()) {
-            writeGeneReference(geneReference, id);
+            geneReferences.values(Util.referenceRow(id, geneReference));
         }
     }
 
-    private void writeGeneReference(@NotNull Reference reference, int geneId) {
-        context.insertInto(Tables.GENEREFERENCE,
-                        Tables.GENEREFERENCE.GENEID,
-                        Tables.GENEREFERENCE.CKBREFERENCEID,
-                        Tables.GENEREFERENCE.PUBMEDID,
-                        Tables.GENEREFERENCE.TITLE,
-                        Tables.GENEREFERENCE.SHORTJOURNALTITLE,
-                        Tables.GENEREFERENCE.PAGES,
-                        Tables.GENEREFERENCE.ABSTRACTTEXT,
-                        Tables.GENEREFERENCE.URL,
-                        Tables.GENEREFERENCE.JOURNAL,
-                        Tables.GENEREFERENCE.AUTHORS,
-                        Tables.GENEREFERENCE.VOLUME,
-                        Tables.GENEREFERENCE.ISSUE,
-                        Tables.GENEREFERENCE.DATE,
-                        Tables.GENEREFERENCE.YEAR)
-                .values(geneId,
-                        reference.id(),
-                        reference.pubMedId(),
-                        reference.title(),
-                        reference.shortJournalTitle(),
-                        reference.pages(),
-                        reference.abstractText(),
-                        reference.url(),
-                        reference.journal(),
-                        reference.authors(),
-                        reference.volume(),
-                        reference.issue(),
-                        reference.date(),
-                        reference.year())
-                .execute();
-    }
-
-    private void writeVariantReference(@NotNull Reference reference, int variantId) {
-        context.insertInto(Tables.VARIANTREFERENCE,
-                        Tables.VARIANTREFERENCE.VARIANTID,
-                        Tables.VARIANTREFERENCE.CKBREFERENCEID,
-                        Tables.VARIANTREFERENCE.PUBMEDID,
-                        Tables.VARIANTREFERENCE.TITLE,
-                        Tables.VARIANTREFERENCE.SHORTJOURNALTITLE,
-                        Tables.VARIANTREFERENCE.PAGES,
-                        Tables.VARIANTREFERENCE.ABSTRACTTEXT,
-                        Tables.VARIANTREFERENCE.URL,
-                        Tables.VARIANTREFERENCE.JOURNAL,
-                        Tables.VARIANTREFERENCE.AUTHORS,
-                        Tables.VARIANTREFERENCE.VOLUME,
-                        Tables.VARIANTREFERENCE.ISSUE,
-                        Tables.VARIANTREFERENCE.DATE,
-                        Tables.VARIANTREFERENCE.YEAR)
-                .values(variantId,
-                        reference.id(),
-                        reference.pubMedId(),
-                        reference.title(),
-                        reference.shortJournalTitle(),
-                        reference.pages(),
-                        reference.abstractText(),
-                        reference.url(),
-                        reference.journal(),
-                        reference.authors(),
-                        reference.volume(),
-                        reference.issue(),
-                        reference.date(),
-                        reference.year())
-                .execute();
-    }
-
     private void writeTranscriptCoordinate(@Nullable TranscriptCoordinate transcriptCoordinate, int variantId,
             boolean isReferenceTranscriptCoordinate) {
         if (transcriptCoordinate != null) {
-            context.insertInto(Transcriptcoordinate.TRANSCRIPTCOORDINATE,
-                            Transcriptcoordinate.TRANSCRIPTCOORDINATE.VARIANTID,
-                            Transcriptcoordinate.TRANSCRIPTCOORDINATE.ISREFERENCETRANSCRIPTCOORDINATE,
-                            Transcriptcoordinate.TRANSCRIPTCOORDINATE.TRANSCRIPT,
-                            Transcriptcoordinate.TRANSCRIPTCOORDINATE.GDNA,
-                            Transcriptcoordinate.TRANSCRIPTCOORDINATE.CDNA,
-                            Transcriptcoordinate.TRANSCRIPTCOORDINATE.PROTEIN,
-                            Transcriptcoordinate.TRANSCRIPTCOORDINATE.SOURCEDB,
-                            Transcriptcoordinate.TRANSCRIPTCOORDINATE.REFGENOMEBUILD)
-                    .values(variantId,
-                            Util.toByte(isReferenceTranscriptCoordinate),
-                            transcriptCoordinate.transcript(),
-                            transcriptCoordinate.gDna(),
-                            transcriptCoordinate.cDna(),
-                            transcriptCoordinate.protein(),
-                            transcriptCoordinate.sourceDb(),
-                            transcriptCoordinate.refGenomeBuild())
-                    .execute();
+            transcriptCoordinates.values(variantId,
+                    Util.toByte(isReferenceTranscriptCoordinate),
+                    transcriptCoordinate.transcript(),
+                    transcriptCoordinate.gDna(),
+                    transcriptCoordinate.cDna(),
+                    transcriptCoordinate.protein(),
+                    transcriptCoordinate.sourceDb(),
+                    transcriptCoordinate.refGenomeBuild());
         }
     }
-
-    private void writeMemberVariant(@NotNull MemberVariant memberVariant, int variantId) {
-        context.insertInto(Membervariant.MEMBERVARIANT,
-                        Membervariant.MEMBERVARIANT.VARIANTID,
-                        Membervariant.MEMBERVARIANT.CKBVARIANTID,
-                        Membervariant.MEMBERVARIANT.FULLNAME,
-                        Membervariant.MEMBERVARIANT.IMPACT,
-                        Membervariant.MEMBERVARIANT.PROTEINEFFECT)
-                .values(variantId, memberVariant.id(), memberVariant.fullName(), memberVariant.impact(), memberVariant.proteinEffect())
-                .execute();
-    }
 }
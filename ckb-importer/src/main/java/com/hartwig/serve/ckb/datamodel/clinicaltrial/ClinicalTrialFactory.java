@@ -1,6 +1,8 @@
 package com.hartwig.serve.ckb.datamodel.clinicaltrial;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.Lists;
 import com.hartwig.serve.ckb.datamodel.indication.IndicationFactory;
@@ -16,44 +18,54 @@ import org.jetbrains.annotations.NotNull;
 
 public final class ClinicalTrialFactory {
 
-    private ClinicalTrialFactory() {
+    @NotNull
+    private final CkbJsonDatabase ckbJsonDatabase;
+    @NotNull
+    private final TherapyFactory therapyFactory;
+    @NotNull
+    private final IndicationFactory indicationFactory;
+    @NotNull
+    private final Map<String, ClinicalTrial> clinicalTrialsByNctId = new ConcurrentHashMap<>();
+
+    public ClinicalTrialFactory(@NotNull final CkbJsonDatabase ckbJsonDatabase, @NotNull final TherapyFactory therapyFactory,
+            @NotNull final IndicationFactory indicationFactory) {
+        this.ckbJsonDatabase = ckbJsonDatabase;
+        this.therapyFactory = therapyFactory;
+        this.indicationFactory = indicationFactory;
     }
 
     @NotNull
-    public static List<ClinicalTrial> extractClinicalTrials(@NotNull CkbJsonDatabase ckbJsonDatabase,
-            @NotNull List<ClinicalTrialInfo> clinicalTrialInfos) {
+    public List<ClinicalTrial> extractClinicalTrials(@NotNull List<ClinicalTrialInfo> clinicalTrialInfos) {
         List<ClinicalTrial> clinicalTrials = Lists.newArrayList();
         for (ClinicalTrialInfo clinicalTrialInfo : clinicalTrialInfos) {
-            clinicalTrials.add(resolveClinicalTrial(ckbJsonDatabase, clinicalTrialInfo));
+            clinicalTrials.add(clinicalTrialsByNctId.computeIfAbsent(clinicalTrialInfo.nctId(), this::createClinicalTrial));
         }
         return clinicalTrials;
     }
 
     @NotNull
-    private static ClinicalTrial resolveClinicalTrial(@NotNull CkbJsonDatabase ckbJsonDatabase,
-            @NotNull ClinicalTrialInfo clinicalTrialInfo) {
-        for (JsonClinicalTrial clinicalTrial : ckbJsonDatabase.clinicalTrials()) {
-            if (clinicalTrialInfo.nctId().equals(clinicalTrial.nctId())) {
-                return ImmutableClinicalTrial.builder()
-                        .updateDate(clinicalTrial.updateDate())
-                        .nctId(clinicalTrial.nctId())
-                        .title(clinicalTrial.title())
-                        .acronym(clinicalTrial.acronym())
-                        .therapies(TherapyFactory.extractTherapies(ckbJsonDatabase, clinicalTrial.therapies()))
-                        .indications(IndicationFactory.extractIndications(ckbJsonDatabase, clinicalTrial.indications()))
-                        .phase(clinicalTrial.phase())
-                        .recruitment(clinicalTrial.recruitment())
-                        .ageGroups(clinicalTrial.ageGroups())
-                        .gender(clinicalTrial.gender())
-                        .sponsors(clinicalTrial.sponsors())
-                        .variantRequirement(clinicalTrial.variantRequirements())
-                        .variantRequirementDetails(convertRequirementDetails(clinicalTrial.variantRequirementDetails()))
-                        .locations(convertLocations(clinicalTrial.locations()))
-                        .build();
-            }
+    private ClinicalTrial createClinicalTrial(@NotNull String nctId) {
+        JsonClinicalTrial clinicalTrial = ckbJsonDatabase.clinicalTrialsByNctId().get(nctId);
+        if (clinicalTrial == null) {
+            throw new IllegalStateException("Could not resolve CKB clinical trial with nct '" + nctId + "'");
         }
 
-        throw new IllegalStateException("Could not resolve CKB clinical trial with nct '" + clinicalTrialInfo.nctId() + "'");
+        return ImmutableClinicalTrial.builder()
+                .updateDate(clinicalTrial.updateDate())
+                .nctId(clinicalTrial.nctId())
+                .title(clinicalTrial.title())
+                .acronym(clinicalTrial.acronym())
+                .therapies(therapyFactory.extractTherapies(clinicalTrial.therapies()))
+                .indications(indicationFactory.extractIndications(clinicalTrial.indications()))
+                .phase(clinicalTrial.phase())
+                .recruitment(clinicalTrial.recruitment())
+                .ageGroups(clinicalTrial.ageGroups())
+                .gender(clinicalTrial.gender())
+                .sponsors(clinicalTrial.sponsors())
+                .variantRequirement(clinicalTrial.variantRequirements())
+                .variantRequirementDetails(convertRequirementDetails(clinicalTrial.variantRequirementDetails()))
+                .locations(convertLocations(clinicalTrial.locations()))
+                .build();
     }
 
     @NotNull
@@ -1,6 +1,8 @@
 package com.hartwig.serve.ckb.datamodel.drug;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.Lists;
 import com.hartwig.serve.ckb.datamodel.reference.ReferenceFactory;
@@ -14,63 +16,69 @@ import org.jetbrains.annotations.NotNull;
 
 public final class DrugFactory {
 
-    private DrugFactory() {
+    @NotNull
+    private final CkbJsonDatabase ckbJsonDatabase;
+    @NotNull
+    private final Map<Integer, Drug> drugsById = new ConcurrentHashMap<>();
+    @NotNull
+    private final Map<Integer, DrugClass> drugClassesById = new ConcurrentHashMap<>();
+
+    public DrugFactory(@NotNull final CkbJsonDatabase ckbJsonDatabase) {
+        this.ckbJsonDatabase = ckbJsonDatabase;
     }
 
     @NotNull
-    public static List<Drug> extractDrugs(@NotNull CkbJsonDatabase ckbJsonDatabase, @NotNull List<DrugInfo> drugInfos) {
+    public List<Drug> extractDrugs(@NotNull List<DrugInfo> drugInfos) {
         List<Drug> drugs = Lists.newArrayList();
         for (DrugInfo drugInfo : drugInfos) {
-            drugs.add(resolveDrug(ckbJsonDatabase, drugInfo));
+            drugs.add(drugsById.computeIfAbsent(drugInfo.id(), this::createDrug));
         }
         return drugs;
     }
 
     @NotNull
-    private static Drug resolveDrug(@NotNull CkbJsonDatabase ckbJsonDatabase, @NotNull DrugInfo drugInfo) {
-        for (JsonDrug drug : ckbJsonDatabase.drugs()) {
-            if (drug.id() == drugInfo.id()) {
-                return ImmutableDrug.builder()
-                        .id(drug.id())
-                        .createDate(drug.createDate())
-                        .drugName(drug.drugName())
-                        .drugClasses(extractDrugClasses(ckbJsonDatabase, drug.drugClasses()))
-                        .terms(drug.terms())
-                        .synonyms(drug.synonyms())
-                        .tradeName(drug.tradeName())
-                        .casRegistryNum(drug.casRegistryNum())
-                        .ncitId(drug.ncitId())
-                        .description(ReferenceFactory.extractDescription("drug", drug.id(), drug.descriptions()))
-                        .references(ReferenceFactory.extractDescriptionReferences(ckbJsonDatabase, drug.descriptions()))
-                        .build();
-            }
+    private Drug createDrug(int drugId) {
+        JsonDrug drug = ckbJsonDatabase.drugsById().get(drugId);
+        if (drug == null) {
+            throw new IllegalStateException("Could not resolve CKB drug with id '" + drugId + "'");
         }
 
-        throw new IllegalStateException("Could not resolve CKB drug with id '" + drugInfo.id() + "'");
+        return ImmutableDrug.builder()
+                .id(drug.id())
+                .createDate(drug.createDate())
+                .drugName(drug.drugName())
+                .drugClasses(extractDrugClasses(drug.drugClasses()))
+                .terms(drug.terms())
+                .synonyms(drug.synonyms())
+                .tradeName(drug.tradeName())
+                .casRegistryNum(drug.casRegistryNum())
+                .ncitId(drug.ncitId())
+                .description(ReferenceFactory.extractDescription("drug", drug.id(), drug.descriptions()))
+                .references(ReferenceFactory.extractDescriptionReferences(ckbJsonDatabase, drug.descriptions()))
+                .build();
     }
 
     @NotNull
-    private static List<DrugClass> extractDrugClasses(@NotNull CkbJsonDatabase ckbJsonDatabase,
-            @NotNull List<DrugClassInfo> drugClassInfos) {
+    private List<DrugClass> extractDrugClasses(@NotNull List<DrugClassInfo> drugClassInfos) {
         List<DrugClass> drugClasses = Lists.newArrayList();
         for (DrugClassInfo drugClassInfo : drugClassInfos) {
-            drugClasses.add(resolveDrugClass(ckbJsonDatabase, drugClassInfo));
+            drugClasses.add(resolveDrugClass(drugClassInfo));
         }
         return drugClasses;
     }
 
     @NotNull
-    public static DrugClass resolveDrugClass(@NotNull CkbJsonDatabase ckbJsonDatabase, @NotNull DrugClassInfo drugClassInfo) {
-        for (JsonDrugClass drugClass : ckbJsonDatabase.drugClasses()) {
-            if (drugClassInfo.id() == drugClass.id()) {
-                return ImmutableDrugClass.builder()
-                        .id(drugClass.id())
-                        .createDate(drugClass.createDate())
-                        .drugClass(drugClass.drugClass())
-                        .build();
-            }
+    public DrugClass resolveDrugClass(@NotNull DrugClassInfo drugClassInfo) {
+        return drugClassesById.computeIfAbsent(drugClassInfo.id(), this::createDrugClass);
+    }
+
+    @NotNull
+    private DrugClass createDrugClass(int drugClassId) {
+        JsonDrugClass drugClass = ckbJsonDatabase.drugClassesById().get(drugClassId);
+        if (drugClass == null) {
+            throw new IllegalStateException("Could not resolve CKB drug class with id '" + drugClassId + "'");
         }
 
-        throw new IllegalStateException("Could not resolve CKB drug class with id '" + drugClassInfo.id() + "'");
+        return ImmutableDrugClass.builder().id(drugClass.id()).createDate(drugClass.createDate()).drugClass(drugClass.drugClass()).build();
     }
-}
\ No newline at end of file
+}
@@ -14,21 +14,35 @@ import org.jetbrains.annotations.NotNull;
 
 public final class EvidenceFactory {
 
-    private EvidenceFactory() {
+    @NotNull
+    private final CkbJsonDatabase ckbJsonDatabase;
+    @NotNull
+    private final TherapyFactory therapyFactory;
+    @NotNull
+    private final IndicationFactory indicationFactory;
+    @NotNull
+    private final RelevantTreatmentApproachesFactory treatmentApproachesFactory;
+
+    public EvidenceFactory(@NotNull final CkbJsonDatabase ckbJsonDatabase, @NotNull final TherapyFactory therapyFactory,
+            @NotNull final IndicationFactory indicationFactory,
+            @NotNull final RelevantTreatmentApproachesFactory treatmentApproachesFactory) {
+        this.ckbJsonDatabase = ckbJsonDatabase;
+        this.therapyFactory = therapyFactory;
+        this.indicationFactory = indicationFactory;
+        this.treatmentApproachesFactory = treatmentApproachesFactory;
     }
 
     @NotNull
-    public static List<Evidence> extractEvidences(@NotNull CkbJsonDatabase ckbJsonDatabase, @NotNull List<EvidenceInfo> evidenceInfos) {
+    public List<Evidence> extractEvidences(@NotNull List<EvidenceInfo> evidenceInfos) {
         List<Evidence> evidences = Lists.newArrayList();
         for (EvidenceInfo evidenceInfo : evidenceInfos) {
             evidences.add(ImmutableEvidence.builder()
                     .id(evidenceInfo.id())
-                    .therapy(TherapyFactory.resolveTherapy(ckbJsonDatabase, evidenceInfo.therapy()))
-                    .indication(IndicationFactory.resolveIndication(ckbJsonDatabase, evidenceInfo.indication()))
+                    .therapy(therapyFactory.resolveTherapy(evidenceInfo.therapy()))
+                    .indication(indicationFactory.resolveIndication(evidenceInfo.indication()))
                     .responseType(evidenceInfo.responseType())
-                    .drugTreatmentApproaches(RelevantTreatmentApproachesFactory.extractDrugTreatmentApproaches(ckbJsonDatabase,
-                            evidenceInfo.treatmentApproaches()))
-                    .therapyTreatmentApproaches(RelevantTreatmentApproachesFactory.extractTherapyTreatmentApproaches(ckbJsonDatabase,
+                    .drugTreatmentApproaches(treatmentApproachesFactory.extractDrugTreatmentApproaches(evidenceInfo.treatmentApproaches()))
+                    .therapyTreatmentApproaches(treatmentApproachesFactory.extractTherapyTreatmentApproaches(
                             evidenceInfo.treatmentApproaches()))
                     .evidenceType(evidenceInfo.evidenceType()).variantOrigin(evidenceInfo.variantOrigin())
                     .efficacyEvidence(evidenceInfo.efficacyEvidence())
@@ -41,4 +55,4 @@ public final class EvidenceFactory {
         }
         return evidences;
     }
-}
\ No newline at end of file
+}
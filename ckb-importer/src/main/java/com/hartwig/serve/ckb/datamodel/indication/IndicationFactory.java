@@ -1,6 +1,8 @@
 package com.hartwig.serve.ckb.datamodel.indication;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.Lists;
 import com.hartwig.serve.ckb.json.CkbJsonDatabase;
@@ -11,36 +13,45 @@ import org.jetbrains.annotations.NotNull;
 
 public final class IndicationFactory {
 
-    private IndicationFactory() {
+    @NotNull
+    private final CkbJsonDatabase ckbJsonDatabase;
+    @NotNull
+    private final Map<Integer, Indication> indicationsById = new ConcurrentHashMap<>();
+
+    public IndicationFactory(@NotNull final CkbJsonDatabase ckbJsonDatabase) {
+        this.ckbJsonDatabase = ckbJsonDatabase;
     }
 
     @NotNull
-    public static List<Indication> extractIndications(@NotNull CkbJsonDatabase ckbJsonDatabase,
-            @NotNull List<IndicationInfo> indicationInfos) {
+    public List<Indication> extractIndications(@NotNull List<IndicationInfo> indicationInfos) {
         List<Indication> indications = Lists.newArrayList();
         for (IndicationInfo indicationInfo : indicationInfos) {
-            indications.add(resolveIndication(ckbJsonDatabase, indicationInfo));
+            indications.add(resolveIndication(indicationInfo));
         }
         return indications;
     }
 
     @NotNull
-    public static Indication resolveIndication(@NotNull CkbJsonDatabase ckbJsonDatabase, @NotNull IndicationInfo indicationInfo) {
-        for (JsonIndication indication : ckbJsonDatabase.indications()) {
-            if (indicationInfo.id() == indication.id()) {
-                return ImmutableIndication.builder()
-                        .id(indication.id())
-                        .name(indication.name())
-                        .source(indication.source())
-                        .definition(indication.definition())
-                        .currentPreferredTerm(indication.currentPreferredTerm())
-                        .lastUpdateDateFromDO(indication.lastUpdateDateFromDO())
-                        .termId(indication.termId())
-                        .altIds(indication.altIds())
-                        .build();
-            }
+    public Indication resolveIndication(@NotNull IndicationInfo indicationInfo) {
+        return indicationsById.computeIfAbsent(indicationInfo.id(), this::createIndication);
+    }
+
+    @NotNull
+    private Indication createIndication(int indicationId) {
+        JsonIndication indication = ckbJsonDatabase.indicationsById().get(indicationId);
+        if (indication == null) {
+            throw new IllegalStateException("Could not resolve CKB indication with id '" + indicationId + "'");
         }
 
-        throw new IllegalStateException("Could not resolve CKB indication with id '" + indicationInfo.id() + "'");
+        return ImmutableIndication.builder()
+                .id(indication.id())
+                .name(indication.name())
+                .source(indication.source())
+                .definition(indication.definition())
+                .currentPreferredTerm(indication.currentPreferredTerm())
+                .lastUpdateDateFromDO(indication.lastUpdateDateFromDO())
+                .termId(indication.termId())
+                .altIds(indication.altIds())
+                .build();
     }
 }
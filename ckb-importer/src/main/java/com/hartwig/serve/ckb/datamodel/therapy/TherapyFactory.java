@@ -1,6 +1,8 @@
 package com.hartwig.serve.ckb.datamodel.therapy;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.Lists;
 import com.hartwig.serve.ckb.datamodel.drug.DrugFactory;
@@ -14,37 +16,50 @@ import org.jetbrains.annotations.NotNull;
 
 public final class TherapyFactory {
 
-    private TherapyFactory() {
+    @NotNull
+    private final CkbJsonDatabase ckbJsonDatabase;
+    @NotNull
+    private final DrugFactory drugFactory;
+    @NotNull
+    private final Map<Integer, Therapy> therapiesById = new ConcurrentHashMap<>();
+
+    public TherapyFactory(@NotNull final CkbJsonDatabase ckbJsonDatabase, @NotNull final DrugFactory drugFactory) {
+        this.ckbJsonDatabase = ckbJsonDatabase;
+        this.drugFactory = drugFactory;
     }
 
     @NotNull
-    public static List<Therapy> extractTherapies(@NotNull CkbJsonDatabase ckbJsonDatabase, @NotNull List<TherapyInfo> therapyInfos) {
+    public List<Therapy> extractTherapies(@NotNull List<TherapyInfo> therapyInfos) {
         List<Therapy> therapies = Lists.newArrayList();
         for (TherapyInfo therapyInfo : therapyInfos) {
-            therapies.add(TherapyFactory.resolveTherapy(ckbJsonDatabase, therapyInfo));
+            therapies.add(resolveTherapy(therapyInfo));
         }
         return therapies;
     }
 
     @NotNull
-    public static Therapy resolveTherapy(@NotNull CkbJsonDatabase ckbJsonDatabase, @NotNull TherapyInfo therapyInfo) {
-        for (JsonTherapy therapy : ckbJsonDatabase.therapies()) {
-            if (therapy.id() == therapyInfo.id()) {
-                return ImmutableTherapy.builder()
-                        .id(therapy.id())
-                        .createDate(therapy.createDate())
-                        .updateDate(therapy.updateDate())
-                        .therapyName(therapy.therapyName())
-                        .drugs(DrugFactory.extractDrugs(ckbJsonDatabase, therapy.drugs()))
-                        .synonyms(therapy.synonyms())
-                        .description(ReferenceFactory.extractDescription("therapy", therapy.id(), therapy.descriptions()))
-                        .references(ReferenceFactory.extractDescriptionReferences(ckbJsonDatabase, therapy.descriptions()))
-                        .globalApprovalStatuses(convertGlobalApprovalStatuses(therapy.globalApprovalStatuses()))
-                        .build();
-            }
+    public Therapy resolveTherapy(@NotNull TherapyInfo therapyInfo) {
+        return therapiesById.computeIfAbsent(therapyInfo.id(), this::createTherapy);
+    }
+
+    @NotNull
+    private Therapy createTherapy(int therapyId) {
+        JsonTherapy therapy = ckbJsonDatabase.therapiesById().get(therapyId);
+        if (therapy == null) {
+            throw new IllegalStateException("Could not resolve CKB therapy with id '" + therapyId + "'");
         }
 
-        throw new IllegalStateException("Could not resolve CKB therapy with id '" + therapyInfo.id() + "'");
+        return ImmutableTherapy.builder()
+                .id(therapy.id())
+                .createDate(therapy.createDate())
+                .updateDate(therapy.updateDate())
+                .therapyName(therapy.therapyName())
+                .drugs(drugFactory.extractDrugs(therapy.drugs()))
+                .synonyms(therapy.synonyms())
+                .description(ReferenceFactory.extractDescription("therapy", therapy.id(), therapy.descriptions()))
+                .references(ReferenceFactory.extractDescriptionReferences(ckbJsonDatabase, therapy.descriptions()))
+                .globalApprovalStatuses(convertGlobalApprovalStatuses(therapy.globalApprovalStatuses()))
+                .build();
     }
 
     @NotNull
@@ -1,97 +1,103 @@
 package com.hartwig.serve.ckb.datamodel.treatmentapproaches;
 
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.Lists;
 import com.hartwig.serve.ckb.datamodel.drug.DrugFactory;
 import com.hartwig.serve.ckb.datamodel.reference.ReferenceFactory;
 import com.hartwig.serve.ckb.datamodel.therapy.TherapyFactory;
 import com.hartwig.serve.ckb.json.CkbJsonDatabase;
+import com.hartwig.serve.ckb.json.common.DrugClassInfo;
+import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.json.common.TreatmentApproachInfo;
 import com.hartwig.serve.ckb.json.treatmentapproach.JsonTreatmentApproach;
 
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 public final class RelevantTreatmentApproachesFactory {
 
-    private RelevantTreatmentApproachesFactory() {
+    @NotNull
+    private final CkbJsonDatabase ckbJsonDatabase;
+    @NotNull
+    private final DrugFactory drugFactory;
+    @NotNull
+    private final TherapyFactory therapyFactory;
+    @NotNull
+    private final Map<Integer, Optional<DrugClassTreatmentApproach>> drugTreatmentApproachesById = new ConcurrentHashMap<>();
+    @NotNull
+    private final Map<Integer, Optional<TherapyTreatmentApproach>> therapyTreatmentApproachesById = new ConcurrentHashMap<>();
+
+    public RelevantTreatmentApproachesFactory(@NotNull final CkbJsonDatabase ckbJsonDatabase, @NotNull final DrugFactory drugFactory,
+            @NotNull final TherapyFactory therapyFactory) {
+        this.ckbJsonDatabase = ckbJsonDatabase;
+        this.drugFactory = drugFactory;
+        this.therapyFactory = therapyFactory;
     }
 
     @NotNull
-    public static List<DrugClassTreatmentApproach> extractDrugTreatmentApproaches(@NotNull CkbJsonDatabase ckbJsonDatabase,
-            @NotNull List<TreatmentApproachInfo> treatmentApproachInfos) {
+    public List<DrugClassTreatmentApproach> extractDrugTreatmentApproaches(@NotNull List<TreatmentApproachInfo> treatmentApproachInfos) {
         List<DrugClassTreatmentApproach> relevantTreatmentApproach = Lists.newArrayList();
 
         for (TreatmentApproachInfo treatmentApproachInfo : treatmentApproachInfos) {
-            DrugClassTreatmentApproach resolvedRelevantTreatmentApproaches =
-                    resolveDrugTreatmentApproaches(ckbJsonDatabase, treatmentApproachInfo);
-            if (resolvedRelevantTreatmentApproaches != null) {
-                relevantTreatmentApproach.add(resolvedRelevantTreatmentApproaches);
-            }
+            drugTreatmentApproachesById.computeIfAbsent(treatmentApproachInfo.id(), this::createDrugTreatmentApproach)
+                    .ifPresent(relevantTreatmentApproach::add);
         }
         return relevantTreatmentApproach;
     }
 
     @NotNull
-    public static List<TherapyTreatmentApproach> extractTherapyTreatmentApproaches(@NotNull CkbJsonDatabase ckbJsonDatabase,
-            @NotNull List<TreatmentApproachInfo> treatmentApproachInfos) {
+    public List<TherapyTreatmentApproach> extractTherapyTreatmentApproaches(@NotNull List<TreatmentApproachInfo> treatmentApproachInfos) {
         List<TherapyTreatmentApproach> relevantTreatmentApproach = Lists.newArrayList();
 
         for (TreatmentApproachInfo treatmentApproachInfo : treatmentApproachInfos) {
-            TherapyTreatmentApproach resolvedRelevantTreatmentApproaches =
-                    resolveTherapyTreatmentApproaches(ckbJsonDatabase, treatmentApproachInfo);
-            if (resolvedRelevantTreatmentApproaches != null) {
-                relevantTreatmentApproach.add(resolvedRelevantTreatmentApproaches);
-            }
+            therapyTreatmentApproachesById.computeIfAbsent(treatmentApproachInfo.id(), this::createTherapyTreatmentApproach)
+                    .ifPresent(relevantTreatmentApproach::add);
         }
         return relevantTreatmentApproach;
     }
 
-    @Nullable
-    private static DrugClassTreatmentApproach resolveDrugTreatmentApproaches(@NotNull CkbJsonDatabase ckbJsonDatabase,
-            @NotNull TreatmentApproachInfo treatmentApproachInfo) {
-
-        for (JsonTreatmentApproach treatmentApproach : ckbJsonDatabase.treatmentApproaches()) {
-            if (treatmentApproach.id() == treatmentApproachInfo.id()) {
-                var drugClass = treatmentApproach.drugClass();
-                if (drugClass != null) {
-                    return ImmutableDrugClassTreatmentApproach.builder()
-                            .id(treatmentApproach.id())
-                            .drugClass(DrugFactory.resolveDrugClass(ckbJsonDatabase, Objects.requireNonNull(treatmentApproach.drugClass())))
-                            .references(ReferenceFactory.extractReferences(ckbJsonDatabase, treatmentApproach.references()))
-                            .createDate(treatmentApproach.createDate())
-                            .updateDate(treatmentApproach.updateDate())
-                            .build();
-                } else {
-                    return null;
-                }
-            }
+    @NotNull
+    private Optional<DrugClassTreatmentApproach> createDrugTreatmentApproach(int treatmentApproachId) {
+        JsonTreatmentApproach treatmentApproach = ckbJsonDatabase.treatmentApproachesById().get(treatmentApproachId);
+        if (treatmentApproach == null) {
+            throw new IllegalStateException("Could not resolve CKB treatment approach drug class with id '" + treatmentApproachId + "'");
+        }
+
+        DrugClassInfo drugClass = treatmentApproach.drugClass();
+        if (drugClass == null) {
+            return Optional.empty();
         }
-        throw new IllegalStateException("Could not resolve CKB treatment approach drug class with id '" + treatmentApproachInfo.id() + "'");
+
+        return Optional.of(ImmutableDrugClassTreatmentApproach.builder()
+                .id(treatmentApproach.id())
+                .drugClass(drugFactory.resolveDrugClass(drugClass))
+                .references(ReferenceFactory.extractReferences(ckbJsonDatabase, treatmentApproach.references()))
+                .createDate(treatmentApproach.createDate())
+                .updateDate(treatmentApproach.updateDate())
+                .build());
     }
 
-    @Nullable
-    private static TherapyTreatmentApproach resolveTherapyTreatmentApproaches(@NotNull CkbJsonDatabase ckbJsonDatabase,
-            @NotNull TreatmentApproachInfo treatmentApproachInfo) {
-
-        for (JsonTreatmentApproach treatmentApproach : ckbJsonDatabase.treatmentApproaches()) {
-            if (treatmentApproach.id() == treatmentApproachInfo.id()) {
-                var therapy = treatmentApproach.therapy();
-                if (therapy != null) {
-                    return ImmutableTherapyTreatmentApproach.builder()
-                            .id(treatmentApproach.id())
-                            .therapy(TherapyFactory.resolveTherapy(ckbJsonDatabase, therapy))
-                            .references(ReferenceFactory.extractReferences(ckbJsonDatabase, treatmentApproach.references()))
-                            .createDate(treatmentApproach.createDate())
-                            .updateDate(treatmentApproach.updateDate())
-                            .build();
-                } else {
-                    return null;
-                }
-            }
+    @NotNull
+    private Optional<TherapyTreatmentApproach> createTherapyTreatmentApproach(int treatmentApproachId) {
+        JsonTreatmentApproach treatmentApproach = ckbJsonDatabase.treatmentApproachesById().get(treatmentApproachId);
+        if (treatmentApproach == null) {
+            throw new IllegalStateException("Could not resolve CKB treatment approach therapy with id '" + treatmentApproachId + "'");
         }
-        throw new IllegalStateException("Could not resolve CKB treatment approach therapy with id '" + treatmentApproachInfo.id() + "'");
+
+        TherapyInfo therapy = treatmentApproach.therapy();
+        if (therapy == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(ImmutableTherapyTreatmentApproach.builder()
+                .id(treatmentApproach.id())
+                .therapy(therapyFactory.resolveTherapy(therapy))
+                .references(ReferenceFactory.extractReferences(ckbJsonDatabase, treatmentApproach.references()))
+                .createDate(treatmentApproach.createDate())
+                .updateDate(treatmentApproach.updateDate())
+                .build());
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.hartwig.serve.ckb.datamodel.variant;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
@@ -21,25 +22,25 @@ public final class VariantFactory {
     @NotNull
     private final CkbJsonDatabase ckbJsonDatabase;
     @NotNull
-    private final Map<Integer, JsonVariant> variantsById;
+    private final Map<Integer, Variant> variantsById = new ConcurrentHashMap<>();
     @NotNull
-    private final Map<Integer, JsonGene> genesById;
+    private final Map<Integer, Gene> genesById = new ConcurrentHashMap<>();
 
     public VariantFactory(@NotNull CkbJsonDatabase ckbJsonDatabase) {
         this.ckbJsonDatabase = ckbJsonDatabase;
-        variantsById = ckbJsonDatabase.variants().stream().collect(Collectors.toMap(JsonVariant::id, variant -> variant));
-        genesById = ckbJsonDatabase.genes().stream().collect(Collectors.toMap(JsonGene::id, gene -> gene));
     }
 
     @NotNull
     public List<Variant> extractVariants(@NotNull List<VariantInfo> variantInfos) {
-        return variantInfos.stream().map(this::resolveVariant).collect(Collectors.toList());
+        return variantInfos.stream()
+                .map(variantInfo -> variantsById.computeIfAbsent(variantInfo.id(), this::createVariant))
+                .collect(Collectors.toList());
     }
 
     @NotNull
-    private Variant resolveVariant(@NotNull VariantInfo variantInfo) {
-        if (variantsById.containsKey(variantInfo.id())) {
-            JsonVariant variant = variantsById.get(variantInfo.id());
+    private Variant createVariant(int variantId) {
+        JsonVariant variant = ckbJsonDatabase.variantsById().get(variantId);
+        if (variant != null) {
             return ImmutableVariant.builder()
                     .id(variant.id())
                     .createDate(variant.createDate())
@@ -64,13 +65,18 @@ public final class VariantFactory {
                     .build();
         }
 
-        throw new IllegalStateException("Could not resolve CKB variant with id '" + variantInfo.id() + "'");
+        throw new IllegalStateException("Could not resolve CKB variant with id '" + variantId + "'");
     }
 
     @NotNull
     private Gene resolveGene(@NotNull GeneInfo geneInfo) {
-        if (genesById.containsKey(geneInfo.id())) {
-            JsonGene gene = genesById.get(geneInfo.id());
+        return genesById.computeIfAbsent(geneInfo.id(), this::createGene);
+    }
+
+    @NotNull
+    private Gene createGene(int geneId) {
+        JsonGene gene = ckbJsonDatabase.genesById().get(geneId);
+        if (gene != null) {
             return ImmutableGene.builder()
                     .id(gene.id())
                     .createDate(gene.createDate())
@@ -88,7 +94,7 @@ public final class VariantFactory {
                     .build();
         }
 
-        throw new IllegalStateException("Could not resolve CKB gene with id '" + geneInfo.id() + "'");
+        throw new IllegalStateException("Could not resolve CKB gene with id '" + geneId + "'");
     }
 
     @Nullable
@@ -2,7 +2,9 @@ package com.hartwig.serve.ckb.json;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
+import com.google.common.collect.Maps;
 import com.hartwig.serve.ckb.json.clinicaltrial.JsonClinicalTrial;
 import com.hartwig.serve.ckb.json.drug.JsonDrug;
 import com.hartwig.serve.ckb.json.drugclass.JsonDrugClass;
@@ -15,6 +17,8 @@ import com.hartwig.serve.ckb.json.therapy.JsonTherapy;
 import com.hartwig.serve.ckb.json.treatmentapproach.JsonTreatmentApproach;
 import com.hartwig.serve.ckb.json.variant.JsonVariant;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -23,6 +27,8 @@ import org.jetbrains.annotations.Nullable;
 @Value.Style(passAnnotations = { NotNull.class, Nullable.class })
 public abstract class CkbJsonDatabase {
 
+    private static final Logger LOGGER = LogManager.getLogger(CkbJsonDatabase.class);
+
     @NotNull
     public abstract List<JsonMolecularProfile> molecularProfiles();
 
@@ -56,6 +62,72 @@ public abstract class CkbJsonDatabase {
     @NotNull
     public abstract List<JsonReference> references();
 
+    // The indexes below are built once on first use and are used to resolve references between CKB objects by ID.
+
+    @Value.Lazy
+    @NotNull
+    public Map<Integer, JsonVariant> variantsById() {
+        return index("variant", variants(), JsonVariant::id);
+    }
+
+    @Value.Lazy
+    @NotNull
+    public Map<Integer, JsonGene> genesById() {
+        return index("gene", genes(), JsonGene::id);
+    }
+
+    @Value.Lazy
+    @NotNull
+    public Map<Integer, JsonIndication> indicationsById() {
+        return index("indication", indications(), JsonIndication::id);
+    }
+
+    @Value.Lazy
+    @NotNull
+    public Map<Integer, JsonTreatmentApproach> treatmentApproachesById() {
+        return index("treatment approach", treatmentApproaches(), JsonTreatmentApproach::id);
+    }
+
+    @Value.Lazy
+    @NotNull
+    public Map<Integer, JsonTherapy> therapiesById() {
+        return index("therapy", therapies(), JsonTherapy::id);
+    }
+
+    @Value.Lazy
+    @NotNull
+    public Map<Integer, JsonDrug> drugsById() {
+        return index("drug", drugs(), JsonDrug::id);
+    }
+
+    @Value.Lazy
+    @NotNull
+    public Map<Integer, JsonDrugClass> drugClassesById() {
+        return index("drug class", drugClasses(), JsonDrugClass::id);
+    }
+
+    @Value.Lazy
+    @NotNull
+    public Map<String, JsonClinicalTrial> clinicalTrialsByNctId() {
+        return index("clinical trial", clinicalTrials(), JsonClinicalTrial::nctId);
+    }
+
+    @Value.Lazy
+    @NotNull
+    public Map<Integer, JsonReference> referencesById() {
+        return index("reference", references(), JsonReference::id);
+    }
+
     @NotNull
-    public abstract Map<Integer, JsonReference> referencesById();
+    private static <K, V> Map<K, V> index(@NotNull String type, @NotNull List<V> values, @NotNull Function<V, K> keyExtractor) {
+        // In case of duplicate keys the first value wins, which is consistent with resolving references by scanning the list.
+        Map<K, V> index = Maps.newHashMapWithExpectedSize(values.size());
+        for (V value : values) {
+            K key = keyExtractor.apply(value);
+            if (index.putIfAbsent(key, value) != null) {
+                LOGGER.warn("Duplicate CKB {} with id '{}' found, only the first occurrence is used", type, key);
+            }
+        }
+        return index;
+    }
 }
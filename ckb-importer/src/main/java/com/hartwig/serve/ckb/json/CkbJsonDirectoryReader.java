@@ -1,18 +1,22 @@
 package com.hartwig.serve.ckb.json;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
+import com.hartwig.serve.common.json.JsonDatamodelChecker;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,9 +29,11 @@ public abstract class CkbJsonDirectoryReader<T extends CkbJsonObject> {
 
     @Nullable
     private final Integer maxFilesToRead;
+    private final boolean checkDatamodel;
 
-    public CkbJsonDirectoryReader(@Nullable final Integer maxFilesToRead) {
+    public CkbJsonDirectoryReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
         this.maxFilesToRead = maxFilesToRead;
+        this.checkDatamodel = checkDatamodel;
     }
 
     @NotNull
@@ -38,15 +44,15 @@ public abstract class CkbJsonDirectoryReader<T extends CkbJsonObject> {
 
         Stream<File> fileStream = (maxFilesToRead == null) ? Arrays.stream(files) : Arrays.stream(files).limit(maxFilesToRead);
         List<T> entries = fileStream.parallel().flatMap(file -> {
-            try {
-                JsonReader reader = new JsonReader(new FileReader(file));
+            try (BufferedReader fileReader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                JsonReader reader = new JsonReader(fileReader);
                 reader.setLenient(true);
 
+                // Entries are mapped straight from the json tokens, without building an intermediate json tree per document.
                 List<T> entriesForFile = new ArrayList<>();
                 while (reader.peek() != JsonToken.END_DOCUMENT) {
-                    entriesForFile.add(read(JsonParser.parseReader(reader).getAsJsonObject()));
+                    entriesForFile.add(read(reader));
                 }
-                reader.close();
                 return entriesForFile.stream();
             } catch (IOException e) {
                 throw new RuntimeException(e);
@@ -58,5 +64,48 @@ public abstract class CkbJsonDirectoryReader<T extends CkbJsonObject> {
     }
 
     @NotNull
-    protected abstract T read(@NotNull JsonObject object);
+    protected abstract T read(@NotNull JsonReader reader) throws IOException;
+
+    protected void readObject(@NotNull JsonReader reader, @NotNull JsonDatamodelChecker checker, @NotNull FieldReader fieldReader)
+            throws IOException {
+        // The datamodel check requires every key of every object, which is only worth collecting when verifying a new CKB dump.
+        Set<String> keys = checkDatamodel ? Sets.newHashSet() : null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (keys != null) {
+                keys.add(field);
+            }
+            fieldReader.read(field);
+        }
+        reader.endObject();
+
+        if (keys != null) {
+            checker.check(keys);
+        }
+    }
+
+    @NotNull
+    protected static <E> List<E> readArray(@NotNull JsonReader reader, @NotNull ElementReader<E> elementReader) throws IOException {
+        List<E> elements = Lists.newArrayList();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            elements.add(elementReader.read());
+        }
+        reader.endArray();
+        return elements;
+    }
+
+    protected interface FieldReader {
+
+        // Reads the value of the field, or skips it in case the field is not part of the datamodel.
+        void read(@NotNull String field) throws IOException;
+    }
+
+    protected interface ElementReader<E> {
+
+        @NotNull
+        E read() throws IOException;
+    }
 }
@@ -3,9 +3,6 @@ package com.hartwig.serve.ckb.json;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.hartwig.serve.ckb.json.clinicaltrial.ClinicalTrialReader;
 import com.hartwig.serve.ckb.json.clinicaltrial.JsonClinicalTrial;
@@ -52,28 +49,37 @@ public final class CkbJsonReader {
 
     @NotNull
     public static CkbJsonDatabase read(@NotNull String ckbDir) throws IOException {
-        return read(ckbDir, null);
+        return read(ckbDir, null, true);
     }
 
     @NotNull
-    public static CkbJsonDatabase read(@NotNull String ckbDir, @Nullable Integer maxFilesToReadPerType) throws IOException {
-        List<JsonMolecularProfile> molecularProfiles =
-                new MolecularProfileReader(maxFilesToReadPerType).read(ckbDir + File.separator + MOLECULAR_PROFILES_DIR);
-        List<JsonVariant> variants = new VariantReader(maxFilesToReadPerType).read(ckbDir + File.separator + VARIANTS_DIR);
-        List<JsonGene> genes = new GeneReader(maxFilesToReadPerType).read(ckbDir + File.separator + GENES_DIR);
-        List<JsonIndication> indications = new IndicationReader(maxFilesToReadPerType).read(ckbDir + File.separator + INDICATIONS_DIR);
-        List<JsonTreatmentApproach> treatmentApproaches =
-                new TreatmentApproachReader(maxFilesToReadPerType).read(ckbDir + File.separator + TREATMENT_APPROACHES_DIR);
-        List<JsonTherapy> therapies = new TherapyReader(maxFilesToReadPerType).read(ckbDir + File.separator + THERAPIES_DIR);
-        List<JsonDrug> drugs = new DrugReader(maxFilesToReadPerType).read(ckbDir + File.separator + DRUGS_DIR);
-        List<JsonDrugClass> drugClasses = new DrugClassReader(maxFilesToReadPerType).read(ckbDir + File.separator + DRUG_CLASSES_DIR);
+    public static CkbJsonDatabase read(@NotNull String ckbDir, boolean checkDatamodel) throws IOException {
+        return read(ckbDir, null, checkDatamodel);
+    }
+
+    @NotNull
+    public static CkbJsonDatabase read(@NotNull String ckbDir, @Nullable Integer maxFilesToReadPerType, boolean checkDatamodel)
+            throws IOException {
+        List<JsonMolecularProfile> molecularProfiles = new MolecularProfileReader(maxFilesToReadPerType, checkDatamodel).read(
+                ckbDir + File.separator + MOLECULAR_PROFILES_DIR);
+        List<JsonVariant> variants = new VariantReader(maxFilesToReadPerType, checkDatamodel).read(ckbDir + File.separator + VARIANTS_DIR);
+        List<JsonGene> genes = new GeneReader(maxFilesToReadPerType, checkDatamodel).read(ckbDir + File.separator + GENES_DIR);
+        List<JsonIndication> indications =
+                new IndicationReader(maxFilesToReadPerType, checkDatamodel).read(ckbDir + File.separator + INDICATIONS_DIR);
+        List<JsonTreatmentApproach> treatmentApproaches = new TreatmentApproachReader(maxFilesToReadPerType, checkDatamodel).read(
+                ckbDir + File.separator + TREATMENT_APPROACHES_DIR);
+        List<JsonTherapy> therapies =
+                new TherapyReader(maxFilesToReadPerType, checkDatamodel).read(ckbDir + File.separator + THERAPIES_DIR);
+        List<JsonDrug> drugs = new DrugReader(maxFilesToReadPerType, checkDatamodel).read(ckbDir + File.separator + DRUGS_DIR);
+        List<JsonDrugClass> drugClasses =
+                new DrugClassReader(maxFilesToReadPerType, checkDatamodel).read(ckbDir + File.separator + DRUG_CLASSES_DIR);
         List<JsonClinicalTrial> clinicalTrials =
-                new ClinicalTrialReader(maxFilesToReadPerType).read(ckbDir + File.separator + CLINICAL_TRIALS_DIR);
+                new ClinicalTrialReader(maxFilesToReadPerType, checkDatamodel).read(ckbDir + File.separator + CLINICAL_TRIALS_DIR);
         List<JsonGlobalTherapyApprovalStatus> globalTherapyApprovalStatuses =
-                new GlobalTherapyApprovalStatusReader(maxFilesToReadPerType).read(
+                new GlobalTherapyApprovalStatusReader(maxFilesToReadPerType, checkDatamodel).read(
                         ckbDir + File.separator + GLOBAL_THERAPY_APPROVAL_STATUSES_DIR);
-        List<JsonReference> references = new ReferenceReader(maxFilesToReadPerType).read(ckbDir + File.separator + REFERENCES_DIR);
-        Map<Integer, JsonReference> referencesById = references.stream().collect(Collectors.toMap(JsonReference::id, Function.identity()));
+        List<JsonReference> references =
+                new ReferenceReader(maxFilesToReadPerType, checkDatamodel).read(ckbDir + File.separator + REFERENCES_DIR);
 
         return ImmutableCkbJsonDatabase.builder()
                 .molecularProfiles(molecularProfiles)
@@ -87,7 +93,6 @@ public final class CkbJsonReader {
                 .clinicalTrials(clinicalTrials)
                 .globalTherapyApprovalStatuses(globalTherapyApprovalStatuses)
                 .references(references)
-                .referencesById(referencesById)
                 .build();
     }
 }
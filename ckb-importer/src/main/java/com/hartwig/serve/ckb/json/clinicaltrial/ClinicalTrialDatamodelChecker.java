@@ -9,11 +9,61 @@ import org.jetbrains.annotations.NotNull;
 
 final class ClinicalTrialDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker CLINICAL_TRIAL_OBJECT_CHECKER = createClinicalTrialObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker VARIANT_REQUIREMENT_DETAIL_OBJECT_CHECKER = createVariantRequirementDetailObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker MOLECULAR_PROFILE_OBJECT_CHECKER = createMolecularProfileObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_OBJECT_CHECKER = createTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker INDICATION_OBJECT_CHECKER = createIndicationObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker LOCATION_OBJECT_CHECKER = createLocationObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker CONTACT_OBJECT_CHECKER = createContactObjectChecker();
+
     private ClinicalTrialDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker clinicalTrialObjectChecker() {
+        return CLINICAL_TRIAL_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker variantRequirementDetailObjectChecker() {
+        return VARIANT_REQUIREMENT_DETAIL_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+        return MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker therapyObjectChecker() {
+        return THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker indicationObjectChecker() {
+        return INDICATION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker locationObjectChecker() {
+        return LOCATION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker contactObjectChecker() {
+        return CONTACT_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createClinicalTrialObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("nctId", true);
         map.put("title", true);
@@ -35,7 +85,7 @@ final class ClinicalTrialDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker variantRequirementDetailObjectChecker() {
+    private static JsonDatamodelChecker createVariantRequirementDetailObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("molecularProfile", true);
         map.put("requirementType", true);
@@ -44,7 +94,7 @@ final class ClinicalTrialDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+    private static JsonDatamodelChecker createMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
@@ -52,7 +102,7 @@ final class ClinicalTrialDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker therapyObjectChecker() {
+    private static JsonDatamodelChecker createTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -62,7 +112,7 @@ final class ClinicalTrialDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker indicationObjectChecker() {
+    private static JsonDatamodelChecker createIndicationObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -71,7 +121,7 @@ final class ClinicalTrialDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker locationObjectChecker() {
+    private static JsonDatamodelChecker createLocationObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("nctId", true);
         map.put("facility", true);
@@ -85,7 +135,7 @@ final class ClinicalTrialDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker contactObjectChecker() {
+    private static JsonDatamodelChecker createContactObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("name", true);
         map.put("email", true);
@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.clinicaltrial;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.ImmutableIndicationInfo;
 import com.hartwig.serve.ckb.json.common.ImmutableMolecularProfileInfo;
@@ -14,148 +12,226 @@ import com.hartwig.serve.ckb.json.common.IndicationInfo;
 import com.hartwig.serve.ckb.json.common.MolecularProfileInfo;
 import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.util.DateConverter;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class ClinicalTrialReader extends CkbJsonDirectoryReader<JsonClinicalTrial> {
 
-    public ClinicalTrialReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public ClinicalTrialReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonClinicalTrial read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker clinicalTrialChecker = ClinicalTrialDatamodelChecker.clinicalTrialObjectChecker();
-        clinicalTrialChecker.check(object);
-
-        return ImmutableJsonClinicalTrial.builder()
-                .nctId(Json.string(object, "nctId"))
-                .title(Json.string(object, "title"))
-                .phase(Json.nullableString(object, "phase"))
-                .recruitment(Json.string(object, "recruitment"))
-                .therapies(extractTherapies(object.getAsJsonArray("therapies")))
-                .ageGroups(Json.stringList(object, "ageGroups"))
-                .gender(Json.nullableString(object, "gender"))
-                .variantRequirements(Json.string(object, "variantRequirements"))
-                .sponsors(Json.nullableString(object, "sponsors"))
-                .updateDate(DateConverter.toDate(Json.string(object, "updateDate")))
-                .indications(extractIndications(object.getAsJsonArray("indications")))
-                .variantRequirementDetails(extractVariantRequirementDetails(object.getAsJsonArray("variantRequirementDetails")))
-                .locations(extractLocations(object.getAsJsonArray("clinicalTrialLocations")))
-                .coveredCountries(Json.stringList(object, "coveredCountries"))
-                .acronym(Json.nullableString(object, "acronym"))
-                .build();
+    protected JsonClinicalTrial read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonClinicalTrial.Builder builder = ImmutableJsonClinicalTrial.builder();
+        readObject(reader, ClinicalTrialDatamodelChecker.clinicalTrialObjectChecker(), field -> {
+            switch (field) {
+                case "nctId":
+                    builder.nctId(JsonStream.string(reader));
+                    break;
+                case "title":
+                    builder.title(JsonStream.string(reader));
+                    break;
+                case "phase":
+                    builder.phase(JsonStream.nullableString(reader));
+                    break;
+                case "recruitment":
+                    builder.recruitment(JsonStream.string(reader));
+                    break;
+                case "therapies":
+                    builder.therapies(extractTherapies(reader));
+                    break;
+                case "ageGroups":
+                    builder.ageGroups(JsonStream.stringList(reader));
+                    break;
+                case "gender":
+                    builder.gender(JsonStream.nullableString(reader));
+                    break;
+                case "variantRequirements":
+                    builder.variantRequirements(JsonStream.string(reader));
+                    break;
+                case "sponsors":
+                    builder.sponsors(JsonStream.nullableString(reader));
+                    break;
+                case "updateDate":
+                    builder.updateDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "indications":
+                    builder.indications(extractIndications(reader));
+                    break;
+                case "variantRequirementDetails":
+                    builder.variantRequirementDetails(extractVariantRequirementDetails(reader));
+                    break;
+                case "clinicalTrialLocations":
+                    builder.locations(extractLocations(reader));
+                    break;
+                case "coveredCountries":
+                    builder.coveredCountries(JsonStream.stringList(reader));
+                    break;
+                case "acronym":
+                    builder.acronym(JsonStream.nullableString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<TherapyInfo> extractTherapies(@NotNull JsonArray jsonArray) {
-        List<TherapyInfo> therapies = Lists.newArrayList();
-        JsonDatamodelChecker therapyChecker = ClinicalTrialDatamodelChecker.therapyObjectChecker();
-
-        for (JsonElement therapy : jsonArray) {
-            JsonObject therapyObject = therapy.getAsJsonObject();
-            therapyChecker.check(therapyObject);
-
-            therapies.add(ImmutableTherapyInfo.builder()
-                    .id(Json.integer(therapyObject, "id"))
-                    .therapyName(Json.string(therapyObject, "therapyName"))
-                    .synonyms(Json.nullableStringList(therapyObject, "synonyms"))
-                    .build());
-        }
-        return therapies;
+    private List<TherapyInfo> extractTherapies(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+            readObject(reader, ClinicalTrialDatamodelChecker.therapyObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapyName":
+                        builder.therapyName(JsonStream.string(reader));
+                        break;
+                    case "synonyms":
+                        builder.synonyms(JsonStream.nullableStringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<IndicationInfo> extractIndications(@NotNull JsonArray jsonArray) {
-        List<IndicationInfo> indications = Lists.newArrayList();
-        JsonDatamodelChecker indicationChecker = ClinicalTrialDatamodelChecker.indicationObjectChecker();
-
-        for (JsonElement indication : jsonArray) {
-            JsonObject indicationObject = indication.getAsJsonObject();
-            indicationChecker.check(indicationObject);
-
-            indications.add(ImmutableIndicationInfo.builder()
-                    .id(Json.integer(indicationObject, "id"))
-                    .name(Json.string(indicationObject, "name"))
-                    .source(Json.string(indicationObject, "source"))
-                    .build());
-        }
-        return indications;
+    private List<IndicationInfo> extractIndications(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+            readObject(reader, ClinicalTrialDatamodelChecker.indicationObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "name":
+                        builder.name(JsonStream.string(reader));
+                        break;
+                    case "source":
+                        builder.source(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfile(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker molecularProfileChecker = ClinicalTrialDatamodelChecker.molecularProfileObjectChecker();
-        molecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfile(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, ClinicalTrialDatamodelChecker.molecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<JsonVariantRequirementDetail> extractVariantRequirementDetails(@NotNull JsonArray jsonArray) {
-        List<JsonVariantRequirementDetail> variantRequirementDetails = Lists.newArrayList();
-        JsonDatamodelChecker variantRequirementDetailChecker = ClinicalTrialDatamodelChecker.variantRequirementDetailObjectChecker();
-
-        for (JsonElement variantRequirementDetail : jsonArray) {
-            JsonObject variantRequirementDetailObject = variantRequirementDetail.getAsJsonObject();
-            variantRequirementDetailChecker.check(variantRequirementDetailObject);
-
-            variantRequirementDetails.add(ImmutableJsonVariantRequirementDetail.builder()
-                    .molecularProfile(extractMolecularProfile(variantRequirementDetailObject.getAsJsonObject("molecularProfile")))
-                    .requirementType(Json.string(variantRequirementDetailObject, "requirementType"))
-                    .variantOrigin(Json.nullableString(variantRequirementDetailObject, "variantOrigin"))
-                    .build());
-        }
-        return variantRequirementDetails;
+    private List<JsonVariantRequirementDetail> extractVariantRequirementDetails(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableJsonVariantRequirementDetail.Builder builder = ImmutableJsonVariantRequirementDetail.builder();
+            readObject(reader, ClinicalTrialDatamodelChecker.variantRequirementDetailObjectChecker(), field -> {
+                switch (field) {
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "requirementType":
+                        builder.requirementType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<JsonLocation> extractLocations(@NotNull JsonArray jsonArray) {
-        List<JsonLocation> locations = Lists.newArrayList();
-        JsonDatamodelChecker locationChecker = ClinicalTrialDatamodelChecker.locationObjectChecker();
-
-        for (JsonElement location : jsonArray) {
-            JsonObject locationObject = location.getAsJsonObject();
-            locationChecker.check(locationObject);
-
-            locations.add(ImmutableJsonLocation.builder()
-                    .nctId(Json.string(locationObject, "nctId"))
-                    .facility(Json.nullableString(locationObject, "facility"))
-                    .city(Json.nullableString(locationObject, "city"))
-                    .country(Json.nullableString(locationObject, "country"))
-                    .status(Json.nullableString(locationObject, "status"))
-                    .state(Json.nullableString(locationObject, "state"))
-                    .zip(Json.nullableString(locationObject, "zip"))
-                    .contacts(extractContacts(locationObject.getAsJsonArray("clinicalTrialContacts")))
-                    .build());
-        }
-        return locations;
+    private List<JsonLocation> extractLocations(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableJsonLocation.Builder builder = ImmutableJsonLocation.builder();
+            readObject(reader, ClinicalTrialDatamodelChecker.locationObjectChecker(), field -> {
+                switch (field) {
+                    case "nctId":
+                        builder.nctId(JsonStream.string(reader));
+                        break;
+                    case "facility":
+                        builder.facility(JsonStream.nullableString(reader));
+                        break;
+                    case "city":
+                        builder.city(JsonStream.nullableString(reader));
+                        break;
+                    case "country":
+                        builder.country(JsonStream.nullableString(reader));
+                        break;
+                    case "status":
+                        builder.status(JsonStream.nullableString(reader));
+                        break;
+                    case "state":
+                        builder.state(JsonStream.nullableString(reader));
+                        break;
+                    case "zip":
+                        builder.zip(JsonStream.nullableString(reader));
+                        break;
+                    case "clinicalTrialContacts":
+                        builder.contacts(extractContacts(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<JsonContact> extractContacts(@NotNull JsonArray jsonArray) {
-        List<JsonContact> contacts = Lists.newArrayList();
-        JsonDatamodelChecker contactChecker = ClinicalTrialDatamodelChecker.contactObjectChecker();
-
-        for (JsonElement contact : jsonArray) {
-            JsonObject contactObject = contact.getAsJsonObject();
-
-            contactChecker.check(contactObject);
-            contacts.add(ImmutableJsonContact.builder()
-                    .name(Json.nullableString(contactObject, "name"))
-                    .email(Json.nullableString(contactObject, "email"))
-                    .phone(Json.nullableString(contactObject, "phone"))
-                    .phoneExt(Json.nullableString(contactObject, "phoneExt"))
-                    .role(Json.string(contactObject, "role"))
-                    .build());
-        }
-        return contacts;
+    private List<JsonContact> extractContacts(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableJsonContact.Builder builder = ImmutableJsonContact.builder();
+            readObject(reader, ClinicalTrialDatamodelChecker.contactObjectChecker(), field -> {
+                switch (field) {
+                    case "name":
+                        builder.name(JsonStream.nullableString(reader));
+                        break;
+                    case "email":
+                        builder.email(JsonStream.nullableString(reader));
+                        break;
+                    case "phone":
+                        builder.phone(JsonStream.nullableString(reader));
+                        break;
+                    case "phoneExt":
+                        builder.phoneExt(JsonStream.nullableString(reader));
+                        break;
+                    case "role":
+                        builder.role(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 }
@@ -9,11 +9,127 @@ import org.jetbrains.annotations.NotNull;
 
 final class DrugDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker DRUG_OBJECT_CHECKER = createDrugObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker DESCRIPTION_OBJECT_CHECKER = createDescriptionObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker REFERENCE_OBJECT_CHECKER = createReferenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker DRUG_CLASS_OBJECT_CHECKER = createDrugClassObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker CLINICAL_TRIAL_OBJECT_CHECKER = createClinicalTrialObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker CLINICAL_TRIAL_THERAPY_OBJECT_CHECKER = createClinicalTrialTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_OBJECT_CHECKER = createEvidenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_MOLECULAR_PROFILE_OBJECT_CHECKER = createEvidenceMolecularProfileObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_THERAPY_OBJECT_CHECKER = createEvidenceTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_INDICATION_OBJECT_CHECKER = createEvidenceIndicationObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_REFERENCE_OBJECT_CHECKER = createEvidenceReferenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_OBJECT_CHECKER = createTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker GLOBAL_APPROVAL_STATUS_OBJECT_CHECKER = createGlobalApprovalStatusObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker GLOBAL_APPROVAL_STATUS_THERAPY_OBJECT_CHECKER =
+            createGlobalApprovalStatusTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker GLOBAL_APPROVAL_STATUS_INDICATION_OBJECT_CHECKER =
+            createGlobalApprovalStatusIndicationObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker GLOBAL_APPROVAL_STATUS_MOLECULAR_PROFILE_OBJECT_CHECKER =
+            createGlobalApprovalStatusMolecularProfileObjectChecker();
+
     private DrugDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker drugObjectChecker() {
+        return DRUG_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker descriptionObjectChecker() {
+        return DESCRIPTION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker referenceObjectChecker() {
+        return REFERENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker drugClassObjectChecker() {
+        return DRUG_CLASS_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker clinicalTrialObjectChecker() {
+        return CLINICAL_TRIAL_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker clinicalTrialTherapyObjectChecker() {
+        return CLINICAL_TRIAL_THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceObjectChecker() {
+        return EVIDENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceMolecularProfileObjectChecker() {
+        return EVIDENCE_MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceTherapyObjectChecker() {
+        return EVIDENCE_THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceIndicationObjectChecker() {
+        return EVIDENCE_INDICATION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceReferenceObjectChecker() {
+        return EVIDENCE_REFERENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker therapyObjectChecker() {
+        return THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker globalApprovalStatusObjectChecker() {
+        return GLOBAL_APPROVAL_STATUS_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker globalApprovalStatusTherapyObjectChecker() {
+        return GLOBAL_APPROVAL_STATUS_THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker globalApprovalStatusIndicationObjectChecker() {
+        return GLOBAL_APPROVAL_STATUS_INDICATION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker globalApprovalStatusMolecularProfileObjectChecker() {
+        return GLOBAL_APPROVAL_STATUS_MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createDrugObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("drugName", true);
@@ -34,7 +150,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker descriptionObjectChecker() {
+    private static JsonDatamodelChecker createDescriptionObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("description", true);
         map.put("references", true);
@@ -43,7 +159,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker referenceObjectChecker() {
+    private static JsonDatamodelChecker createReferenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
@@ -63,7 +179,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker drugClassObjectChecker() {
+    private static JsonDatamodelChecker createDrugClassObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("drugClass", true);
@@ -72,7 +188,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker clinicalTrialObjectChecker() {
+    private static JsonDatamodelChecker createClinicalTrialObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("nctId", true);
         map.put("title", true);
@@ -84,7 +200,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker clinicalTrialTherapyObjectChecker() {
+    private static JsonDatamodelChecker createClinicalTrialTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -94,7 +210,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -114,7 +230,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceMolecularProfileObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
@@ -123,7 +239,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceTherapyObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -133,7 +249,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceIndicationObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceIndicationObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -143,7 +259,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceReferenceObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceReferenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
@@ -154,7 +270,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker therapyObjectChecker() {
+    private static JsonDatamodelChecker createTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -164,7 +280,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker globalApprovalStatusObjectChecker() {
+    private static JsonDatamodelChecker createGlobalApprovalStatusObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapy", true);
@@ -177,7 +293,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker globalApprovalStatusTherapyObjectChecker() {
+    private static JsonDatamodelChecker createGlobalApprovalStatusTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -187,7 +303,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker globalApprovalStatusIndicationObjectChecker() {
+    private static JsonDatamodelChecker createGlobalApprovalStatusIndicationObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -197,7 +313,7 @@ final class DrugDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker globalApprovalStatusMolecularProfileObjectChecker() {
+    private static JsonDatamodelChecker createGlobalApprovalStatusMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", false);
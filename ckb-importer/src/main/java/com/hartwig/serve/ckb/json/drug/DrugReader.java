@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.drug;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.ClinicalTrialInfo;
 import com.hartwig.serve.ckb.json.common.DescriptionInfo;
@@ -26,295 +24,468 @@ import com.hartwig.serve.ckb.json.common.MolecularProfileInfo;
 import com.hartwig.serve.ckb.json.common.ReferenceInfo;
 import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.util.DateConverter;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class DrugReader extends CkbJsonDirectoryReader<JsonDrug> {
 
-    public DrugReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public DrugReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonDrug read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker drugChecker = DrugDatamodelChecker.drugObjectChecker();
-        drugChecker.check(object);
-
-        return ImmutableJsonDrug.builder()
-                .id(Json.integer(object, "id"))
-                .drugName(Json.string(object, "drugName"))
-                .terms(Json.stringList(object, "terms"))
-                .synonyms(Json.stringList(object, "synonyms"))
-                .tradeName(Json.nullableString(object, "tradeName"))
-                .descriptions(extractDescriptions(object.getAsJsonArray("drugDescriptions")))
-                .drugClasses(extractDrugsClasses(object.getAsJsonArray("drugClasses")))
-                .casRegistryNum(Json.nullableString(object, "casRegistryNum"))
-                .ncitId(Json.nullableString(object, "ncitId"))
-                .createDate(DateConverter.toDate(Json.string(object, "createDate")))
-                .clinicalTrials(extractClinicalTrials(object.getAsJsonArray("clinicalTrials")))
-                .evidence(extractEvidence(object.getAsJsonArray("evidence")))
-                .therapies(extractTherapies(object.getAsJsonArray("therapies")))
-                .globalApprovalStatus(extractGlobalApprovalStatus(object.getAsJsonArray("globalApprovalStatus")))
-                .build();
+    protected JsonDrug read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonDrug.Builder builder = ImmutableJsonDrug.builder();
+        readObject(reader, DrugDatamodelChecker.drugObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "drugName":
+                    builder.drugName(JsonStream.string(reader));
+                    break;
+                case "terms":
+                    builder.terms(JsonStream.stringList(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.stringList(reader));
+                    break;
+                case "tradeName":
+                    builder.tradeName(JsonStream.nullableString(reader));
+                    break;
+                case "drugDescriptions":
+                    builder.descriptions(extractDescriptions(reader));
+                    break;
+                case "drugClasses":
+                    builder.drugClasses(extractDrugsClasses(reader));
+                    break;
+                case "casRegistryNum":
+                    builder.casRegistryNum(JsonStream.nullableString(reader));
+                    break;
+                case "ncitId":
+                    builder.ncitId(JsonStream.nullableString(reader));
+                    break;
+                case "createDate":
+                    builder.createDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "clinicalTrials":
+                    builder.clinicalTrials(extractClinicalTrials(reader));
+                    break;
+                case "evidence":
+                    builder.evidence(extractEvidence(reader));
+                    break;
+                case "therapies":
+                    builder.therapies(extractTherapies(reader));
+                    break;
+                case "globalApprovalStatus":
+                    builder.globalApprovalStatus(extractGlobalApprovalStatus(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<DescriptionInfo> extractDescriptions(@NotNull JsonArray jsonArray) {
-        List<DescriptionInfo> descriptions = Lists.newArrayList();
-        JsonDatamodelChecker descriptionChecker = DrugDatamodelChecker.descriptionObjectChecker();
-        for (JsonElement description : jsonArray) {
-            JsonObject descriptionObject = description.getAsJsonObject();
-            descriptionChecker.check(descriptionObject);
-
-            descriptions.add(ImmutableDescriptionInfo.builder()
-                    .description(Json.string(descriptionObject, "description"))
-                    .references(extractDrugReferences(descriptionObject.getAsJsonArray("references")))
-                    .build());
-        }
-        return descriptions;
+    private List<DescriptionInfo> extractDescriptions(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableDescriptionInfo.Builder builder = ImmutableDescriptionInfo.builder();
+            readObject(reader, DrugDatamodelChecker.descriptionObjectChecker(), field -> {
+                switch (field) {
+                    case "description":
+                        builder.description(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractDrugReferences(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<ReferenceInfo> extractDrugReferences(@NotNull JsonArray jsonArray) {
-        List<ReferenceInfo> references = Lists.newArrayList();
-        JsonDatamodelChecker referenceChecker = DrugDatamodelChecker.referenceObjectChecker();
-
-        for (JsonElement reference : jsonArray) {
-            JsonObject referenceObject = reference.getAsJsonObject();
-            referenceChecker.check(referenceObject);
-
-            references.add(ImmutableReferenceInfo.builder()
-                    .id(Json.integer(referenceObject, "id"))
-                    .pubMedId(Json.nullableString(referenceObject, "pubMedId"))
-                    .title(Json.nullableString(referenceObject, "title"))
-                    .shortJournalTitle(Json.nullableString(referenceObject, "shortJournalTitle"))
-                    .pages(Json.nullableString(referenceObject, "pages"))
-                    .url(Json.nullableString(referenceObject, "url"))
-                    .authors(Json.nullableString(referenceObject, "authors"))
-                    .journal(Json.nullableString(referenceObject, "journal"))
-                    .volume(Json.nullableString(referenceObject, "volume"))
-                    .issue(Json.nullableString(referenceObject, "issue"))
-                    .date(Json.nullableString(referenceObject, "date"))
-                    .abstractText(Json.nullableString(referenceObject, "abstractText"))
-                    .year(Json.nullableString(referenceObject, "year"))
-                    .build());
-        }
-        return references;
+    private List<ReferenceInfo> extractDrugReferences(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableReferenceInfo.Builder builder = ImmutableReferenceInfo.builder();
+            readObject(reader, DrugDatamodelChecker.referenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "pubMedId":
+                        builder.pubMedId(JsonStream.nullableString(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.nullableString(reader));
+                        break;
+                    case "shortJournalTitle":
+                        builder.shortJournalTitle(JsonStream.nullableString(reader));
+                        break;
+                    case "pages":
+                        builder.pages(JsonStream.nullableString(reader));
+                        break;
+                    case "url":
+                        builder.url(JsonStream.nullableString(reader));
+                        break;
+                    case "authors":
+                        builder.authors(JsonStream.nullableString(reader));
+                        break;
+                    case "journal":
+                        builder.journal(JsonStream.nullableString(reader));
+                        break;
+                    case "volume":
+                        builder.volume(JsonStream.nullableString(reader));
+                        break;
+                    case "issue":
+                        builder.issue(JsonStream.nullableString(reader));
+                        break;
+                    case "date":
+                        builder.date(JsonStream.nullableString(reader));
+                        break;
+                    case "abstractText":
+                        builder.abstractText(JsonStream.nullableString(reader));
+                        break;
+                    case "year":
+                        builder.year(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<DrugClassInfo> extractDrugsClasses(@NotNull JsonArray jsonArray) {
-        List<DrugClassInfo> drugClasses = Lists.newArrayList();
-        JsonDatamodelChecker drugClassChecker = DrugDatamodelChecker.drugClassObjectChecker();
-
-        for (JsonElement drugClass : jsonArray) {
-            JsonObject drugClassObject = drugClass.getAsJsonObject();
-            drugClassChecker.check(drugClassObject);
-
-            drugClasses.add(ImmutableDrugClassInfo.builder()
-                    .id(Json.integer(drugClassObject, "id"))
-                    .drugClass(Json.string(drugClassObject, "drugClass"))
-                    .build());
-        }
-        return drugClasses;
+    private List<DrugClassInfo> extractDrugsClasses(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableDrugClassInfo.Builder builder = ImmutableDrugClassInfo.builder();
+            readObject(reader, DrugDatamodelChecker.drugClassObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "drugClass":
+                        builder.drugClass(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<ClinicalTrialInfo> extractClinicalTrials(@NotNull JsonArray jsonArray) {
-        List<ClinicalTrialInfo> clinicalTrials = Lists.newArrayList();
-        JsonDatamodelChecker clinicalTrialChecker = DrugDatamodelChecker.clinicalTrialObjectChecker();
-
-        for (JsonElement clinicalTrial : jsonArray) {
-            JsonObject clinicalTrialObject = clinicalTrial.getAsJsonObject();
-            clinicalTrialChecker.check(clinicalTrialObject);
-
-            clinicalTrials.add(ImmutableClinicalTrialInfo.builder()
-                    .nctId(Json.string(clinicalTrialObject, "nctId"))
-                    .title(Json.string(clinicalTrialObject, "title"))
-                    .phase(Json.nullableString(clinicalTrialObject, "phase"))
-                    .recruitment(Json.string(clinicalTrialObject, "recruitment"))
-                    .therapies(extractClinicalTrialTherapies(clinicalTrialObject.getAsJsonArray("therapies")))
-                    .build());
-        }
-        return clinicalTrials;
+    private List<ClinicalTrialInfo> extractClinicalTrials(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableClinicalTrialInfo.Builder builder = ImmutableClinicalTrialInfo.builder();
+            readObject(reader, DrugDatamodelChecker.clinicalTrialObjectChecker(), field -> {
+                switch (field) {
+                    case "nctId":
+                        builder.nctId(JsonStream.string(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.string(reader));
+                        break;
+                    case "phase":
+                        builder.phase(JsonStream.nullableString(reader));
+                        break;
+                    case "recruitment":
+                        builder.recruitment(JsonStream.string(reader));
+                        break;
+                    case "therapies":
+                        builder.therapies(extractClinicalTrialTherapies(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TherapyInfo> extractClinicalTrialTherapies(@NotNull JsonArray jsonArray) {
-        List<TherapyInfo> therapies = Lists.newArrayList();
-        JsonDatamodelChecker clinicalTrialTherapyChecker = DrugDatamodelChecker.clinicalTrialTherapyObjectChecker();
-
-        for (JsonElement therapy : jsonArray) {
-            JsonObject therapyObject = therapy.getAsJsonObject();
-            clinicalTrialTherapyChecker.check(therapyObject);
-
-            therapies.add(ImmutableTherapyInfo.builder()
-                    .id(Json.integer(therapyObject, "id"))
-                    .therapyName(Json.string(therapyObject, "therapyName"))
-                    .synonyms(Json.nullableStringList(therapyObject, "synonyms"))
-                    .build());
-        }
-        return therapies;
+    private List<TherapyInfo> extractClinicalTrialTherapies(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+            readObject(reader, DrugDatamodelChecker.clinicalTrialTherapyObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapyName":
+                        builder.therapyName(JsonStream.string(reader));
+                        break;
+                    case "synonyms":
+                        builder.synonyms(JsonStream.nullableStringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractEvidence(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> evidences = Lists.newArrayList();
-        JsonDatamodelChecker evidenceChecker = DrugDatamodelChecker.evidenceObjectChecker();
-
-        for (JsonElement evidence : jsonArray) {
-            JsonObject evidenceObject = evidence.getAsJsonObject();
-            evidenceChecker.check(evidenceObject);
-
-            evidences.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(evidenceObject, "id"))
-                    .approvalStatus(Json.string(evidenceObject, "approvalStatus"))
-                    .evidenceType(Json.string(evidenceObject, "evidenceType"))
-                    .variantOrigin(Json.nullableString(evidenceObject, "variantOrigin"))
-                    .efficacyEvidence(Json.string(evidenceObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(evidenceObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(evidenceObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(evidenceObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(evidenceObject, "responseType"))
-                    .references(extractEvidenceReferences(evidenceObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(evidenceObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(evidenceObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(evidenceObject, "ageGroups"))
-                    .build());
-        }
-        return evidences;
+    private List<EvidenceInfo> extractEvidence(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, DrugDatamodelChecker.evidenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractEvidenceReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfile(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker evidenceMolecularProfileChecker = DrugDatamodelChecker.evidenceMolecularProfileObjectChecker();
-        evidenceMolecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfile(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, DrugDatamodelChecker.evidenceMolecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static TherapyInfo extractTherapy(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker evidenceTherapyChecker = DrugDatamodelChecker.evidenceTherapyObjectChecker();
-        evidenceTherapyChecker.check(jsonObject);
-
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+    private TherapyInfo extractTherapy(@NotNull JsonReader reader) throws IOException {
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, DrugDatamodelChecker.evidenceTherapyObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static IndicationInfo extractIndication(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker evidenceIndicationChecker = DrugDatamodelChecker.evidenceIndicationObjectChecker();
-        evidenceIndicationChecker.check(jsonObject);
-
-        return ImmutableIndicationInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .name(Json.string(jsonObject, "name"))
-                .source(Json.string(jsonObject, "source"))
-                .build();
+    private IndicationInfo extractIndication(@NotNull JsonReader reader) throws IOException {
+        ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+        readObject(reader, DrugDatamodelChecker.evidenceIndicationObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<ReferenceInfo> extractEvidenceReferences(@NotNull JsonArray jsonArray) {
-        List<ReferenceInfo> references = Lists.newArrayList();
-        JsonDatamodelChecker evidenceReferenceChecker = DrugDatamodelChecker.evidenceReferenceObjectChecker();
-
-        for (JsonElement reference : jsonArray) {
-            JsonObject referenceObject = reference.getAsJsonObject();
-            evidenceReferenceChecker.check(referenceObject);
-
-            references.add(ImmutableReferenceInfo.builder()
-                    .id(Json.integer(referenceObject, "id"))
-                    .pubMedId(Json.nullableString(referenceObject, "pubMedId"))
-                    .title(Json.nullableString(referenceObject, "title"))
-                    .url(Json.nullableString(referenceObject, "url"))
-                    .build());
-        }
-        return references;
+    private List<ReferenceInfo> extractEvidenceReferences(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableReferenceInfo.Builder builder = ImmutableReferenceInfo.builder();
+            readObject(reader, DrugDatamodelChecker.evidenceReferenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "pubMedId":
+                        builder.pubMedId(JsonStream.nullableString(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.nullableString(reader));
+                        break;
+                    case "url":
+                        builder.url(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TherapyInfo> extractTherapies(@NotNull JsonArray jsonArray) {
-        List<TherapyInfo> therapies = Lists.newArrayList();
-        JsonDatamodelChecker therapyChecker = DrugDatamodelChecker.therapyObjectChecker();
-
-        for (JsonElement therapy : jsonArray) {
-            JsonObject therapyObject = therapy.getAsJsonObject();
-            therapyChecker.check(therapyObject);
-
-            therapies.add(ImmutableTherapyInfo.builder()
-                    .id(Json.integer(therapyObject, "id"))
-                    .therapyName(Json.string(therapyObject, "therapyName"))
-                    .synonyms(Json.nullableStringList(therapyObject, "synonyms"))
-                    .build());
-        }
-        return therapies;
+    private List<TherapyInfo> extractTherapies(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+            readObject(reader, DrugDatamodelChecker.therapyObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapyName":
+                        builder.therapyName(JsonStream.string(reader));
+                        break;
+                    case "synonyms":
+                        builder.synonyms(JsonStream.nullableStringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<GlobalApprovalStatusInfo> extractGlobalApprovalStatus(@NotNull JsonArray jsonArray) {
-        List<GlobalApprovalStatusInfo> globalApprovalStatuses = Lists.newArrayList();
-        JsonDatamodelChecker drugGlobalApprovalStatusChecker = DrugDatamodelChecker.globalApprovalStatusObjectChecker();
-
-        for (JsonElement globalApprovalStatus : jsonArray) {
-            JsonObject globalStatusObject = globalApprovalStatus.getAsJsonObject();
-            drugGlobalApprovalStatusChecker.check(globalStatusObject);
-
-            globalApprovalStatuses.add(ImmutableGlobalApprovalStatusInfo.builder()
-                    .id(Json.integer(globalStatusObject, "id"))
-                    .therapy(extractTherapyGlobalApprovalStatus(globalStatusObject.getAsJsonObject("therapy")))
-                    .indication(extractIndicationGlobalApprovalStatus(globalStatusObject.getAsJsonObject("indication")))
-                    .molecularProfile(extractMolecularProfileGlobalApprovalStatus(globalStatusObject.getAsJsonObject("molecularProfile")))
-                    .approvalAuthority(Json.string(globalStatusObject, "approvalAuthority"))
-                    .approvalStatus(Json.string(globalStatusObject, "approvalStatus"))
-                    .build());
-        }
-        return globalApprovalStatuses;
+    private List<GlobalApprovalStatusInfo> extractGlobalApprovalStatus(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableGlobalApprovalStatusInfo.Builder builder = ImmutableGlobalApprovalStatusInfo.builder();
+            readObject(reader, DrugDatamodelChecker.globalApprovalStatusObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapyGlobalApprovalStatus(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndicationGlobalApprovalStatus(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfileGlobalApprovalStatus(reader));
+                        break;
+                    case "approvalAuthority":
+                        builder.approvalAuthority(JsonStream.string(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static TherapyInfo extractTherapyGlobalApprovalStatus(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker globalApprovalStatusTherapyChecker = DrugDatamodelChecker.globalApprovalStatusTherapyObjectChecker();
-        globalApprovalStatusTherapyChecker.check(jsonObject);
-
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+    private TherapyInfo extractTherapyGlobalApprovalStatus(@NotNull JsonReader reader) throws IOException {
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, DrugDatamodelChecker.globalApprovalStatusTherapyObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static IndicationInfo extractIndicationGlobalApprovalStatus(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker globalApprovalStatusIndicationChecker = DrugDatamodelChecker.globalApprovalStatusIndicationObjectChecker();
-        globalApprovalStatusIndicationChecker.check(jsonObject);
-
-        return ImmutableIndicationInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .name(Json.string(jsonObject, "name"))
-                .source(Json.string(jsonObject, "source"))
-                .build();
+    private IndicationInfo extractIndicationGlobalApprovalStatus(@NotNull JsonReader reader) throws IOException {
+        ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+        readObject(reader, DrugDatamodelChecker.globalApprovalStatusIndicationObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfileGlobalApprovalStatus(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker globalApprovalStatusMolecularProfileChecker =
-                DrugDatamodelChecker.globalApprovalStatusMolecularProfileObjectChecker();
-        globalApprovalStatusMolecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfileGlobalApprovalStatus(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, DrugDatamodelChecker.globalApprovalStatusMolecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 }
@@ -9,11 +9,33 @@ import org.jetbrains.annotations.NotNull;
 
 final class DrugClassDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker DRUG_CLASS_OBJECT_CHECKER = createDrugClassObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker DRUG_OBJECT_CHECKER = createDrugObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker TREATMENT_APPROACH_OBJECT_CHECKER = createTreatmentApproachObjectChecker();
+
     private DrugClassDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker drugClassObjectChecker() {
+        return DRUG_CLASS_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker drugObjectChecker() {
+        return DRUG_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker treatmentApproachObjectChecker() {
+        return TREATMENT_APPROACH_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createDrugClassObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("drugClass", true);
@@ -25,7 +47,7 @@ final class DrugClassDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker drugObjectChecker() {
+    private static JsonDatamodelChecker createDrugObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("drugName", true);
@@ -35,7 +57,7 @@ final class DrugClassDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker treatmentApproachObjectChecker() {
+    private static JsonDatamodelChecker createTreatmentApproachObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
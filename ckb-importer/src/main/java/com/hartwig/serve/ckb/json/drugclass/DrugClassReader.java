@@ -1,77 +1,97 @@
 package com.hartwig.serve.ckb.json.drugclass;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.DrugInfo;
 import com.hartwig.serve.ckb.json.common.ImmutableDrugInfo;
 import com.hartwig.serve.ckb.json.common.ImmutableTreatmentApproachInfo;
 import com.hartwig.serve.ckb.json.common.TreatmentApproachInfo;
 import com.hartwig.serve.ckb.util.DateConverter;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class DrugClassReader extends CkbJsonDirectoryReader<JsonDrugClass> {
 
-    public DrugClassReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public DrugClassReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonDrugClass read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker drugsClassChecker = DrugClassDatamodelChecker.drugClassObjectChecker();
-        drugsClassChecker.check(object);
-
-        return ImmutableJsonDrugClass.builder()
-                .id(Json.integer(object, "id"))
-                .drugClass(Json.string(object, "drugClass"))
-                .createDate(DateConverter.toDate(Json.string(object, "createDate")))
-                .drugs(extractDrugs(object.getAsJsonArray("drugs")))
-                .treatmentApproaches(extractTreatmentApproaches(object.getAsJsonArray("treatmentApproaches")))
-                .build();
+    protected JsonDrugClass read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonDrugClass.Builder builder = ImmutableJsonDrugClass.builder();
+        readObject(reader, DrugClassDatamodelChecker.drugClassObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "drugClass":
+                    builder.drugClass(JsonStream.string(reader));
+                    break;
+                case "createDate":
+                    builder.createDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "drugs":
+                    builder.drugs(extractDrugs(reader));
+                    break;
+                case "treatmentApproaches":
+                    builder.treatmentApproaches(extractTreatmentApproaches(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<DrugInfo> extractDrugs(@NotNull JsonArray jsonArray) {
-        List<DrugInfo> drugs = Lists.newArrayList();
-        JsonDatamodelChecker drugChecker = DrugClassDatamodelChecker.drugObjectChecker();
-
-        for (JsonElement drug : jsonArray) {
-            JsonObject drugObject = drug.getAsJsonObject();
-            drugChecker.check(drugObject);
-
-            drugs.add(ImmutableDrugInfo.builder()
-                    .id(Json.integer(drugObject, "id"))
-                    .drugName(Json.string(drugObject, "drugName"))
-                    .terms(Json.nullableStringList(drugObject, "terms"))
-                    .build());
-        }
-        return drugs;
+    private List<DrugInfo> extractDrugs(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableDrugInfo.Builder builder = ImmutableDrugInfo.builder();
+            readObject(reader, DrugClassDatamodelChecker.drugObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "drugName":
+                        builder.drugName(JsonStream.string(reader));
+                        break;
+                    case "terms":
+                        builder.terms(JsonStream.nullableStringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TreatmentApproachInfo> extractTreatmentApproaches(@NotNull JsonArray jsonArray) {
-        List<TreatmentApproachInfo> treatmentApproaches = Lists.newArrayList();
-        JsonDatamodelChecker treatmentApproachChecker = DrugClassDatamodelChecker.treatmentApproachObjectChecker();
-
-        for (JsonElement treatmentApproach : jsonArray) {
-            JsonObject treatmentApproachObject = treatmentApproach.getAsJsonObject();
-            treatmentApproachChecker.check(treatmentApproachObject);
-
-            treatmentApproaches.add(ImmutableTreatmentApproachInfo.builder()
-                    .id(Json.integer(treatmentApproachObject, "id"))
-                    .name(Json.string(treatmentApproachObject, "name"))
-                    .profileName(Json.string(treatmentApproachObject, "profileName"))
-                    .build());
-        }
-        return treatmentApproaches;
+    private List<TreatmentApproachInfo> extractTreatmentApproaches(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTreatmentApproachInfo.Builder builder = ImmutableTreatmentApproachInfo.builder();
+            readObject(reader, DrugClassDatamodelChecker.treatmentApproachObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "name":
+                        builder.name(JsonStream.string(reader));
+                        break;
+                    case "profileName":
+                        builder.profileName(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 }
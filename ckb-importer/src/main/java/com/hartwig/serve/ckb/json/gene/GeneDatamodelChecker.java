@@ -9,11 +9,96 @@ import org.jetbrains.annotations.NotNull;
 
 final class GeneDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker GENE_OBJECT_CHECKER = createGeneObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker DESCRIPTION_OBJECT_CHECKER = createDescriptionObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker REFERENCE_OBJECT_CHECKER = createReferenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker CLINICAL_TRIAL_OBJECT_CHECKER = createClinicalTrialObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_OBJECT_CHECKER = createTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_OBJECT_CHECKER = createEvidenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker MOLECULAR_PROFILE_OBJECT_CHECKER = createMolecularProfileObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker INDICATION_OBJECT_CHECKER = createIndicationObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker VARIANT_OBJECT_CHECKER = createVariantObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker VARIANT_DESCRIPTION_OBJECT_CHECKER = createVariantDescriptionObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker PROFILE_TREATMENT_APPROACH_OBJECT_CHECKER = createProfileTreatmentApproachObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker CATEGORY_VARIANT_OBJECT_CHECKER = createCategoryVariantObjectChecker();
+
     private GeneDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker geneObjectChecker() {
+        return GENE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker descriptionObjectChecker() {
+        return DESCRIPTION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker referenceObjectChecker() {
+        return REFERENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker clinicalTrialObjectChecker() {
+        return CLINICAL_TRIAL_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker therapyObjectChecker() {
+        return THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceObjectChecker() {
+        return EVIDENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+        return MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker indicationObjectChecker() {
+        return INDICATION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker variantObjectChecker() {
+        return VARIANT_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker variantDescriptionObjectChecker() {
+        return VARIANT_DESCRIPTION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker profileTreatmentApproachObjectChecker() {
+        return PROFILE_TREATMENT_APPROACH_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker categoryVariantObjectChecker() {
+        return CATEGORY_VARIANT_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createGeneObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("geneSymbol", true);
@@ -38,7 +123,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker descriptionObjectChecker() {
+    private static JsonDatamodelChecker createDescriptionObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("description", true);
         map.put("references", true);
@@ -47,7 +132,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker referenceObjectChecker() {
+    private static JsonDatamodelChecker createReferenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
@@ -58,7 +143,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker clinicalTrialObjectChecker() {
+    private static JsonDatamodelChecker createClinicalTrialObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("nctId", true);
         map.put("title", true);
@@ -70,7 +155,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker therapyObjectChecker() {
+    private static JsonDatamodelChecker createTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -80,7 +165,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -100,7 +185,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+    private static JsonDatamodelChecker createMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
@@ -110,7 +195,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker indicationObjectChecker() {
+    private static JsonDatamodelChecker createIndicationObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -120,7 +205,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker variantObjectChecker() {
+    private static JsonDatamodelChecker createVariantObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("fullName", true);
@@ -132,7 +217,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker variantDescriptionObjectChecker() {
+    private static JsonDatamodelChecker createVariantDescriptionObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("description", true);
         map.put("references", true);
@@ -141,7 +226,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker profileTreatmentApproachObjectChecker() {
+    private static JsonDatamodelChecker createProfileTreatmentApproachObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -151,7 +236,7 @@ final class GeneDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker categoryVariantObjectChecker() {
+    private static JsonDatamodelChecker createCategoryVariantObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("fullName", true);
@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.gene;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.ClinicalTrialInfo;
 import com.hartwig.serve.ckb.json.common.DescriptionInfo;
@@ -26,274 +24,413 @@ import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.json.common.TreatmentApproachInfo;
 import com.hartwig.serve.ckb.json.common.VariantInfo;
 import com.hartwig.serve.ckb.util.DateConverter;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class GeneReader extends CkbJsonDirectoryReader<JsonGene> {
 
-    public GeneReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public GeneReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonGene read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker geneChecker = GeneDatamodelChecker.geneObjectChecker();
-        geneChecker.check(object);
-
-        return ImmutableJsonGene.builder()
-                .id(Json.integer(object, "id"))
-                .geneSymbol(Json.string(object, "geneSymbol"))
-                .terms(Json.stringList(object, "terms"))
-                .entrezId(Json.nullableString(object, "entrezId"))
-                .synonyms(Json.stringList(object, "synonyms"))
-                .chromosome(Json.nullableString(object, "chromosome"))
-                .mapLocation(Json.nullableString(object, "mapLocation"))
-                .descriptions(extractDescriptions(object.getAsJsonArray("geneDescriptions")))
-                .canonicalTranscript(Json.nullableString(object, "canonicalTranscript"))
-                .geneRole(Json.string(object, "geneRole"))
-                .createDate(DateConverter.toDate(Json.string(object, "createDate")))
-                .updateDate(DateConverter.toDate(Json.nullableString(object, "updateDate")))
-                .clinicalTrials(extractClinicalTrials(object.getAsJsonArray("clinicalTrials")))
-                .evidence(extractEvidence(object.getAsJsonArray("evidence")))
-                .variants(extractVariants(object.getAsJsonArray("variants")))
-                .molecularProfiles(extractMolecularProfiles(object.getAsJsonArray("molecularProfiles")))
-                .categoryVariants(extractCategoryVariants(object.getAsJsonArray("categoryVariants")))
-                .build();
+    protected JsonGene read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonGene.Builder builder = ImmutableJsonGene.builder();
+        readObject(reader, GeneDatamodelChecker.geneObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "geneSymbol":
+                    builder.geneSymbol(JsonStream.string(reader));
+                    break;
+                case "terms":
+                    builder.terms(JsonStream.stringList(reader));
+                    break;
+                case "entrezId":
+                    builder.entrezId(JsonStream.nullableString(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.stringList(reader));
+                    break;
+                case "chromosome":
+                    builder.chromosome(JsonStream.nullableString(reader));
+                    break;
+                case "mapLocation":
+                    builder.mapLocation(JsonStream.nullableString(reader));
+                    break;
+                case "geneDescriptions":
+                    builder.descriptions(extractDescriptions(reader));
+                    break;
+                case "canonicalTranscript":
+                    builder.canonicalTranscript(JsonStream.nullableString(reader));
+                    break;
+                case "geneRole":
+                    builder.geneRole(JsonStream.string(reader));
+                    break;
+                case "createDate":
+                    builder.createDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "updateDate":
+                    builder.updateDate(DateConverter.toDate(JsonStream.nullableString(reader)));
+                    break;
+                case "clinicalTrials":
+                    builder.clinicalTrials(extractClinicalTrials(reader));
+                    break;
+                case "evidence":
+                    builder.evidence(extractEvidence(reader));
+                    break;
+                case "variants":
+                    builder.variants(extractVariants(reader));
+                    break;
+                case "molecularProfiles":
+                    builder.molecularProfiles(extractMolecularProfiles(reader));
+                    break;
+                case "categoryVariants":
+                    builder.categoryVariants(extractCategoryVariants(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<DescriptionInfo> extractDescriptions(@NotNull JsonArray jsonArray) {
-        List<DescriptionInfo> descriptions = Lists.newArrayList();
-        JsonDatamodelChecker descriptionChecker = GeneDatamodelChecker.descriptionObjectChecker();
-
-        for (JsonElement description : jsonArray) {
-            JsonObject descriptionJsonObject = description.getAsJsonObject();
-            descriptionChecker.check(descriptionJsonObject);
-
-            descriptions.add(ImmutableDescriptionInfo.builder()
-                    .description(Json.string(descriptionJsonObject, "description"))
-                    .references(extractReferences(descriptionJsonObject.getAsJsonArray("references")))
-                    .build());
-        }
-        return descriptions;
+    private List<DescriptionInfo> extractDescriptions(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableDescriptionInfo.Builder builder = ImmutableDescriptionInfo.builder();
+            readObject(reader, GeneDatamodelChecker.descriptionObjectChecker(), field -> {
+                switch (field) {
+                    case "description":
+                        builder.description(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<ReferenceInfo> extractReferences(@NotNull JsonArray jsonArray) {
-        List<ReferenceInfo> references = Lists.newArrayList();
-        JsonDatamodelChecker referenceChecker = GeneDatamodelChecker.referenceObjectChecker();
-
-        for (JsonElement reference : jsonArray) {
-            JsonObject referenceJsonObject = reference.getAsJsonObject();
-            referenceChecker.check(referenceJsonObject);
-
-            references.add(ImmutableReferenceInfo.builder()
-                    .id(Json.integer(referenceJsonObject, "id"))
-                    .pubMedId(Json.nullableString(referenceJsonObject, "pubMedId"))
-                    .title(Json.nullableString(referenceJsonObject, "title"))
-                    .url(Json.nullableString(referenceJsonObject, "url"))
-                    .build());
-
-        }
-        return references;
+    private List<ReferenceInfo> extractReferences(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableReferenceInfo.Builder builder = ImmutableReferenceInfo.builder();
+            readObject(reader, GeneDatamodelChecker.referenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "pubMedId":
+                        builder.pubMedId(JsonStream.nullableString(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.nullableString(reader));
+                        break;
+                    case "url":
+                        builder.url(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<ClinicalTrialInfo> extractClinicalTrials(@NotNull JsonArray jsonArray) {
-        List<ClinicalTrialInfo> clinicalTrials = Lists.newArrayList();
-        JsonDatamodelChecker clinicalTrialChecker = GeneDatamodelChecker.clinicalTrialObjectChecker();
-
-        for (JsonElement clinicalTrial : jsonArray) {
-            JsonObject clinicalTrialJsonObject = clinicalTrial.getAsJsonObject();
-            clinicalTrialChecker.check(clinicalTrialJsonObject);
-
-            clinicalTrials.add(ImmutableClinicalTrialInfo.builder()
-                    .nctId(Json.string(clinicalTrialJsonObject, "nctId"))
-                    .title(Json.string(clinicalTrialJsonObject, "title"))
-                    .phase(Json.nullableString(clinicalTrialJsonObject, "phase"))
-                    .recruitment(Json.string(clinicalTrialJsonObject, "recruitment"))
-                    .therapies(extractTherapies(clinicalTrialJsonObject.getAsJsonArray("therapies")))
-                    .build());
-        }
-        return clinicalTrials;
+    private List<ClinicalTrialInfo> extractClinicalTrials(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableClinicalTrialInfo.Builder builder = ImmutableClinicalTrialInfo.builder();
+            readObject(reader, GeneDatamodelChecker.clinicalTrialObjectChecker(), field -> {
+                switch (field) {
+                    case "nctId":
+                        builder.nctId(JsonStream.string(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.string(reader));
+                        break;
+                    case "phase":
+                        builder.phase(JsonStream.nullableString(reader));
+                        break;
+                    case "recruitment":
+                        builder.recruitment(JsonStream.string(reader));
+                        break;
+                    case "therapies":
+                        builder.therapies(extractTherapies(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TherapyInfo> extractTherapies(@NotNull JsonArray jsonArray) {
-        List<TherapyInfo> therapies = Lists.newArrayList();
-        JsonDatamodelChecker therapyChecker = GeneDatamodelChecker.therapyObjectChecker();
-
-        for (JsonElement therapy : jsonArray) {
-            JsonObject therapyJsonObject = therapy.getAsJsonObject();
-            therapyChecker.check(therapyJsonObject);
-
-            therapies.add(ImmutableTherapyInfo.builder()
-                    .id(Json.integer(therapyJsonObject, "id"))
-                    .therapyName(Json.string(therapyJsonObject, "therapyName"))
-                    .synonyms(Json.nullableStringList(therapyJsonObject, "synonyms"))
-                    .build());
-        }
-        return therapies;
+    private List<TherapyInfo> extractTherapies(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+            readObject(reader, GeneDatamodelChecker.therapyObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapyName":
+                        builder.therapyName(JsonStream.string(reader));
+                        break;
+                    case "synonyms":
+                        builder.synonyms(JsonStream.nullableStringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractEvidence(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> evidences = Lists.newArrayList();
-        JsonDatamodelChecker evidenceChecker = GeneDatamodelChecker.evidenceObjectChecker();
-
-        for (JsonElement evidence : jsonArray) {
-            JsonObject evidenceObject = evidence.getAsJsonObject();
-            evidenceChecker.check(evidenceObject);
-
-            evidences.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(evidenceObject, "id"))
-                    .approvalStatus(Json.string(evidenceObject, "approvalStatus"))
-                    .evidenceType(Json.string(evidenceObject, "evidenceType"))
-                    .variantOrigin(Json.nullableString(evidenceObject, "variantOrigin"))
-                    .efficacyEvidence(Json.string(evidenceObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfileObject(evidenceObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapyObject(evidenceObject.getAsJsonObject("therapy")))
-                    .indication(extractIndicationObject(evidenceObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(evidenceObject, "responseType"))
-                    .references(extractReferences(evidenceObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(evidenceObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(evidenceObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(evidenceObject, "ageGroups"))
-                    .build());
-        }
-        return evidences;
+    private List<EvidenceInfo> extractEvidence(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, GeneDatamodelChecker.evidenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfileObject(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapyObject(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndicationObject(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfileObject(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker molecularProfileChecker = GeneDatamodelChecker.molecularProfileObjectChecker();
-        molecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfileObject(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, GeneDatamodelChecker.molecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static TherapyInfo extractTherapyObject(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker therapyChecker = GeneDatamodelChecker.therapyObjectChecker();
-        therapyChecker.check(jsonObject);
-
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+    private TherapyInfo extractTherapyObject(@NotNull JsonReader reader) throws IOException {
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, GeneDatamodelChecker.therapyObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static IndicationInfo extractIndicationObject(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker indicationChecker = GeneDatamodelChecker.indicationObjectChecker();
-        indicationChecker.check(jsonObject);
-
-        return ImmutableIndicationInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .name(Json.string(jsonObject, "name"))
-                .source(Json.string(jsonObject, "source"))
-                .build();
+    private IndicationInfo extractIndicationObject(@NotNull JsonReader reader) throws IOException {
+        ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+        readObject(reader, GeneDatamodelChecker.indicationObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<VariantInfo> extractVariants(@NotNull JsonArray jsonArray) {
-        List<VariantInfo> variants = Lists.newArrayList();
-        JsonDatamodelChecker variantChecker = GeneDatamodelChecker.variantObjectChecker();
-
-        for (JsonElement variant : jsonArray) {
-            JsonObject variantObject = variant.getAsJsonObject();
-            variantChecker.check(variantObject);
-
-            variants.add(ImmutableVariantInfo.builder()
-                    .id(Json.integer(variantObject, "id"))
-                    .fullName(Json.string(variantObject, "fullName"))
-                    .impact(Json.nullableString(variantObject, "impact"))
-                    .proteinEffect(Json.nullableString(variantObject, "proteinEffect"))
-                    .descriptions(extractVariantDescriptions(variantObject.getAsJsonArray("geneVariantDescriptions")))
-                    .build());
-        }
-        return variants;
+    private List<VariantInfo> extractVariants(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableVariantInfo.Builder builder = ImmutableVariantInfo.builder();
+            readObject(reader, GeneDatamodelChecker.variantObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "fullName":
+                        builder.fullName(JsonStream.string(reader));
+                        break;
+                    case "impact":
+                        builder.impact(JsonStream.nullableString(reader));
+                        break;
+                    case "proteinEffect":
+                        builder.proteinEffect(JsonStream.nullableString(reader));
+                        break;
+                    case "geneVariantDescriptions":
+                        builder.descriptions(extractVariantDescriptions(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<DescriptionInfo> extractVariantDescriptions(@NotNull JsonArray jsonArray) {
-        List<DescriptionInfo> variantDescriptions = Lists.newArrayList();
-        JsonDatamodelChecker variantDescriptionChecker = GeneDatamodelChecker.variantDescriptionObjectChecker();
-
-        for (JsonElement variantDescription : jsonArray) {
-            JsonObject variantDescriptionObject = variantDescription.getAsJsonObject();
-            variantDescriptionChecker.check(variantDescriptionObject);
-
-            variantDescriptions.add(ImmutableDescriptionInfo.builder()
-                    .description(Json.string(variantDescriptionObject, "description"))
-                    .references(extractReferences(variantDescriptionObject.getAsJsonArray("references")))
-                    .build());
-        }
-        return variantDescriptions;
+    private List<DescriptionInfo> extractVariantDescriptions(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableDescriptionInfo.Builder builder = ImmutableDescriptionInfo.builder();
+            readObject(reader, GeneDatamodelChecker.variantDescriptionObjectChecker(), field -> {
+                switch (field) {
+                    case "description":
+                        builder.description(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<MolecularProfileInfo> extractMolecularProfiles(@NotNull JsonArray jsonArray) {
-        List<MolecularProfileInfo> molecularProfiles = Lists.newArrayList();
-        JsonDatamodelChecker molecularProfileChecker = GeneDatamodelChecker.molecularProfileObjectChecker();
-
-        for (JsonElement molecularProfile : jsonArray) {
-            JsonObject molecularProfileObject = molecularProfile.getAsJsonObject();
-            molecularProfileChecker.check(molecularProfileObject);
-
-            molecularProfiles.add(ImmutableMolecularProfileInfo.builder()
-                    .id(Json.integer(molecularProfileObject, "id"))
-                    .profileName(Json.string(molecularProfileObject, "profileName"))
-                    .treatmentApproaches(extractProfileTreatmentApproaches(molecularProfileObject.getAsJsonArray(
-                            "profileTreatmentApproaches")))
-                    .build());
-        }
-        return molecularProfiles;
+    private List<MolecularProfileInfo> extractMolecularProfiles(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+            readObject(reader, GeneDatamodelChecker.molecularProfileObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "profileName":
+                        builder.profileName(JsonStream.string(reader));
+                        break;
+                    case "profileTreatmentApproaches":
+                        builder.treatmentApproaches(extractProfileTreatmentApproaches(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TreatmentApproachInfo> extractProfileTreatmentApproaches(@NotNull JsonArray jsonArray) {
-        List<TreatmentApproachInfo> profileTreatmentApproaches = Lists.newArrayList();
-        JsonDatamodelChecker profileTreatmentApproachChecker = GeneDatamodelChecker.profileTreatmentApproachObjectChecker();
-
-        for (JsonElement profileTreatmentApproach : jsonArray) {
-            JsonObject profileTreatmentApproachObject = profileTreatmentApproach.getAsJsonObject();
-            profileTreatmentApproachChecker.check(profileTreatmentApproachObject);
-
-            profileTreatmentApproaches.add(ImmutableTreatmentApproachInfo.builder()
-                    .id(Json.integer(profileTreatmentApproachObject, "id"))
-                    .name(Json.string(profileTreatmentApproachObject, "name"))
-                    .profileName(Json.string(profileTreatmentApproachObject, "profileName"))
-                    .build());
-        }
-        return profileTreatmentApproaches;
+    private List<TreatmentApproachInfo> extractProfileTreatmentApproaches(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTreatmentApproachInfo.Builder builder = ImmutableTreatmentApproachInfo.builder();
+            readObject(reader, GeneDatamodelChecker.profileTreatmentApproachObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "name":
+                        builder.name(JsonStream.string(reader));
+                        break;
+                    case "profileName":
+                        builder.profileName(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<VariantInfo> extractCategoryVariants(@NotNull JsonArray jsonArray) {
-        List<VariantInfo> categoryVariants = Lists.newArrayList();
-        JsonDatamodelChecker categoryVariantObjectChecker = GeneDatamodelChecker.categoryVariantObjectChecker();
-
-        for (JsonElement categoryVariant : jsonArray) {
-            JsonObject categoryVariantObject = categoryVariant.getAsJsonObject();
-            categoryVariantObjectChecker.check(categoryVariantObject);
-
-            categoryVariants.add(ImmutableVariantInfo.builder()
-                    .id(Json.integer(categoryVariantObject, "id"))
-                    .fullName(Json.string(categoryVariantObject, "fullName"))
-                    .impact(Json.nullableString(categoryVariantObject, "impact"))
-                    .proteinEffect(Json.nullableString(categoryVariantObject, "proteinEffect"))
-                    .descriptions(extractVariantDescriptions(categoryVariantObject.getAsJsonArray("geneVariantDescriptions")))
-                    .build());
-        }
-        return categoryVariants;
+    private List<VariantInfo> extractCategoryVariants(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableVariantInfo.Builder builder = ImmutableVariantInfo.builder();
+            readObject(reader, GeneDatamodelChecker.categoryVariantObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "fullName":
+                        builder.fullName(JsonStream.string(reader));
+                        break;
+                    case "impact":
+                        builder.impact(JsonStream.nullableString(reader));
+                        break;
+                    case "proteinEffect":
+                        builder.proteinEffect(JsonStream.nullableString(reader));
+                        break;
+                    case "geneVariantDescriptions":
+                        builder.descriptions(extractVariantDescriptions(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 }
@@ -9,11 +9,48 @@ import org.jetbrains.annotations.NotNull;
 
 final class GlobalTherapyApprovalStatusDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker GLOBAL_THERAPY_APPROVAL_STATUS_OBJECT_CHECKER =
+            createGlobalTherapyApprovalStatusObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker LIST_OBJECT_CHECKER = createListObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_OBJECT_CHECKER = createTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker INDICATION_OBJECT_CHECKER = createIndicationObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker MOLECULAR_PROFILE_OBJECT_CHECKER = createMolecularProfileObjectChecker();
+
     private GlobalTherapyApprovalStatusDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker globalTherapyApprovalStatusObjectChecker() {
+        return GLOBAL_THERAPY_APPROVAL_STATUS_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker listObjectChecker() {
+        return LIST_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker therapyObjectChecker() {
+        return THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker indicationObjectChecker() {
+        return INDICATION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+        return MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createGlobalTherapyApprovalStatusObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("totalCount", true);
         map.put("globalTherapyApprovalStatuses", true);
@@ -22,7 +59,7 @@ final class GlobalTherapyApprovalStatusDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker listObjectChecker() {
+    private static JsonDatamodelChecker createListObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapy", true);
@@ -35,7 +72,7 @@ final class GlobalTherapyApprovalStatusDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker therapyObjectChecker() {
+    private static JsonDatamodelChecker createTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -45,7 +82,7 @@ final class GlobalTherapyApprovalStatusDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker indicationObjectChecker() {
+    private static JsonDatamodelChecker createIndicationObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -55,7 +92,7 @@ final class GlobalTherapyApprovalStatusDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+    private static JsonDatamodelChecker createMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
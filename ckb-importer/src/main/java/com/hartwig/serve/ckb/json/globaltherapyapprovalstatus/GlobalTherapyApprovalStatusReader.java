@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.globaltherapyapprovalstatus;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.GlobalApprovalStatusInfo;
 import com.hartwig.serve.ckb.json.common.ImmutableGlobalApprovalStatusInfo;
@@ -15,83 +13,125 @@ import com.hartwig.serve.ckb.json.common.ImmutableTherapyInfo;
 import com.hartwig.serve.ckb.json.common.IndicationInfo;
 import com.hartwig.serve.ckb.json.common.MolecularProfileInfo;
 import com.hartwig.serve.ckb.json.common.TherapyInfo;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class GlobalTherapyApprovalStatusReader extends CkbJsonDirectoryReader<JsonGlobalTherapyApprovalStatus> {
 
-    public GlobalTherapyApprovalStatusReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public GlobalTherapyApprovalStatusReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonGlobalTherapyApprovalStatus read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker statusChecker = GlobalTherapyApprovalStatusDatamodelChecker.globalTherapyApprovalStatusObjectChecker();
-        statusChecker.check(object);
-
-        return ImmutableJsonGlobalTherapyApprovalStatus.builder()
-                .totalCount(Json.integer(object, "totalCount"))
-                .globalApprovalStatuses(extractStatuses(object.getAsJsonArray("globalTherapyApprovalStatuses")))
-                .build();
+    protected JsonGlobalTherapyApprovalStatus read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonGlobalTherapyApprovalStatus.Builder builder = ImmutableJsonGlobalTherapyApprovalStatus.builder();
+        readObject(reader, GlobalTherapyApprovalStatusDatamodelChecker.globalTherapyApprovalStatusObjectChecker(), field -> {
+            switch (field) {
+                case "totalCount":
+                    builder.totalCount(JsonStream.integer(reader));
+                    break;
+                case "globalTherapyApprovalStatuses":
+                    builder.globalApprovalStatuses(extractStatuses(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<GlobalApprovalStatusInfo> extractStatuses(@NotNull JsonArray jsonArray) {
-        List<GlobalApprovalStatusInfo> statuses = Lists.newArrayList();
-        JsonDatamodelChecker listChecker = GlobalTherapyApprovalStatusDatamodelChecker.listObjectChecker();
-
-        for (JsonElement status : jsonArray) {
-            JsonObject statusJsonObject = status.getAsJsonObject();
-            listChecker.check(statusJsonObject);
-
-            statuses.add(ImmutableGlobalApprovalStatusInfo.builder()
-                    .id(Json.integer(statusJsonObject, "id"))
-                    .therapy(extractTherapy(statusJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(statusJsonObject.getAsJsonObject("indication")))
-                    .molecularProfile(extractMolecularProfile(statusJsonObject.getAsJsonObject("molecularProfile")))
-                    .approvalAuthority(Json.string(statusJsonObject, "approvalAuthority"))
-                    .approvalStatus(Json.string(statusJsonObject, "approvalStatus"))
-                    .build());
-        }
-        return statuses;
+    private List<GlobalApprovalStatusInfo> extractStatuses(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableGlobalApprovalStatusInfo.Builder builder = ImmutableGlobalApprovalStatusInfo.builder();
+            readObject(reader, GlobalTherapyApprovalStatusDatamodelChecker.listObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "approvalAuthority":
+                        builder.approvalAuthority(JsonStream.string(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static TherapyInfo extractTherapy(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker therapyChecker = GlobalTherapyApprovalStatusDatamodelChecker.therapyObjectChecker();
-        therapyChecker.check(jsonObject);
-
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+    private TherapyInfo extractTherapy(@NotNull JsonReader reader) throws IOException {
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, GlobalTherapyApprovalStatusDatamodelChecker.therapyObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static IndicationInfo extractIndication(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker indicationChecker = GlobalTherapyApprovalStatusDatamodelChecker.indicationObjectChecker();
-        indicationChecker.check(jsonObject);
-
-        return ImmutableIndicationInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .name(Json.string(jsonObject, "name"))
-                .source(Json.string(jsonObject, "source"))
-                .build();
+    private IndicationInfo extractIndication(@NotNull JsonReader reader) throws IOException {
+        ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+        readObject(reader, GlobalTherapyApprovalStatusDatamodelChecker.indicationObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfile(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker molecularProfileChecker = GlobalTherapyApprovalStatusDatamodelChecker.molecularProfileObjectChecker();
-        molecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfile(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, GlobalTherapyApprovalStatusDatamodelChecker.molecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 }
@@ -9,11 +9,61 @@ import org.jetbrains.annotations.NotNull;
 
 final class IndicationDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker INDICATION_OBJECT_CHECKER = createIndicationObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_OBJECT_CHECKER = createEvidenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_MOLECULAR_PROFILE_OBJECT_CHECKER = createEvidenceMolecularProfileObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_THERAPY_OBJECT_CHECKER = createEvidenceTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_INDICATION_OBJECT_CHECKER = createEvidenceIndicationObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_REFERENCE_OBJECT_CHECKER = createEvidenceReferenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker CLINICAL_TRIAL_OBJECT_CHECKER = createClinicalTrialObjectChecker();
+
     private IndicationDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker indicationObjectChecker() {
+        return INDICATION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceObjectChecker() {
+        return EVIDENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceMolecularProfileObjectChecker() {
+        return EVIDENCE_MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceTherapyObjectChecker() {
+        return EVIDENCE_THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceIndicationObjectChecker() {
+        return EVIDENCE_INDICATION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceReferenceObjectChecker() {
+        return EVIDENCE_REFERENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker clinicalTrialObjectChecker() {
+        return CLINICAL_TRIAL_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createIndicationObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -30,7 +80,7 @@ final class IndicationDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -50,7 +100,7 @@ final class IndicationDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceMolecularProfileObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
@@ -59,7 +109,7 @@ final class IndicationDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceTherapyObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -69,7 +119,7 @@ final class IndicationDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceIndicationObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceIndicationObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -79,7 +129,7 @@ final class IndicationDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceReferenceObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceReferenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
@@ -90,7 +140,7 @@ final class IndicationDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker clinicalTrialObjectChecker() {
+    private static JsonDatamodelChecker createClinicalTrialObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("nctId", true);
         map.put("title", true);
@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.indication;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.ClinicalTrialInfo;
 import com.hartwig.serve.ckb.json.common.EvidenceInfo;
@@ -20,155 +18,248 @@ import com.hartwig.serve.ckb.json.common.MolecularProfileInfo;
 import com.hartwig.serve.ckb.json.common.ReferenceInfo;
 import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.util.DateConverter;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class IndicationReader extends CkbJsonDirectoryReader<JsonIndication> {
 
-    public IndicationReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public IndicationReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonIndication read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker indicationChecker = IndicationDatamodelChecker.indicationObjectChecker();
-        indicationChecker.check(object);
-
-        return ImmutableJsonIndication.builder()
-                .id(Json.integer(object, "id"))
-                .name(Json.string(object, "name"))
-                .source(Json.string(object, "source"))
-                .definition(Json.nullableString(object, "definition"))
-                .currentPreferredTerm(Json.nullableString(object, "currentPreferredTerm"))
-                .lastUpdateDateFromDO(DateConverter.toDate(Json.nullableString(object, "lastUpdateDateFromDO")))
-                .altIds(Json.stringList(object, "altIds"))
-                .termId(Json.string(object, "termId"))
-                .evidence(extractEvidence(object.getAsJsonArray("evidence")))
-                .clinicalTrials(extractClinicalTrials(object.getAsJsonArray("clinicalTrials")))
-                .build();
+    protected JsonIndication read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonIndication.Builder builder = ImmutableJsonIndication.builder();
+        readObject(reader, IndicationDatamodelChecker.indicationObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                case "definition":
+                    builder.definition(JsonStream.nullableString(reader));
+                    break;
+                case "currentPreferredTerm":
+                    builder.currentPreferredTerm(JsonStream.nullableString(reader));
+                    break;
+                case "lastUpdateDateFromDO":
+                    builder.lastUpdateDateFromDO(DateConverter.toDate(JsonStream.nullableString(reader)));
+                    break;
+                case "altIds":
+                    builder.altIds(JsonStream.stringList(reader));
+                    break;
+                case "termId":
+                    builder.termId(JsonStream.string(reader));
+                    break;
+                case "evidence":
+                    builder.evidence(extractEvidence(reader));
+                    break;
+                case "clinicalTrials":
+                    builder.clinicalTrials(extractClinicalTrials(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractEvidence(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> evidences = Lists.newArrayList();
-        JsonDatamodelChecker evidenceChecker = IndicationDatamodelChecker.evidenceObjectChecker();
-
-        for (JsonElement evidence : jsonArray) {
-            JsonObject evidenceJsonObject = evidence.getAsJsonObject();
-            evidenceChecker.check(evidenceJsonObject);
-
-            evidences.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(evidenceJsonObject, "id"))
-                    .approvalStatus(Json.string(evidenceJsonObject, "approvalStatus"))
-                    .evidenceType(Json.string(evidenceJsonObject, "evidenceType"))
-                    .variantOrigin(Json.nullableString(evidenceJsonObject, "variantOrigin"))
-                    .efficacyEvidence(Json.string(evidenceJsonObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(evidenceJsonObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(evidenceJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(evidenceJsonObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(evidenceJsonObject, "responseType"))
-                    .references(extractReferences(evidenceJsonObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(evidenceJsonObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(evidenceJsonObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(evidenceJsonObject, "ageGroups"))
-                    .build());
-        }
-        return evidences;
+    private List<EvidenceInfo> extractEvidence(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, IndicationDatamodelChecker.evidenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfile(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker evidenceMolecularProfileChecker = IndicationDatamodelChecker.evidenceMolecularProfileObjectChecker();
-        evidenceMolecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfile(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, IndicationDatamodelChecker.evidenceMolecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static TherapyInfo extractTherapy(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker evidenceTherapyChecker = IndicationDatamodelChecker.evidenceTherapyObjectChecker();
-        evidenceTherapyChecker.check(jsonObject);
-
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+    private TherapyInfo extractTherapy(@NotNull JsonReader reader) throws IOException {
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, IndicationDatamodelChecker.evidenceTherapyObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static IndicationInfo extractIndication(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker evidenceIndicationChecker = IndicationDatamodelChecker.evidenceIndicationObjectChecker();
-        evidenceIndicationChecker.check(jsonObject);
-
-        return ImmutableIndicationInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .name(Json.string(jsonObject, "name"))
-                .source(Json.string(jsonObject, "source"))
-                .build();
+    private IndicationInfo extractIndication(@NotNull JsonReader reader) throws IOException {
+        ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+        readObject(reader, IndicationDatamodelChecker.evidenceIndicationObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<ReferenceInfo> extractReferences(@NotNull JsonArray jsonArray) {
-        List<ReferenceInfo> references = Lists.newArrayList();
-        JsonDatamodelChecker evidenceReferenceChecker = IndicationDatamodelChecker.evidenceReferenceObjectChecker();
-
-        for (JsonElement reference : jsonArray) {
-            JsonObject referenceJsonObject = reference.getAsJsonObject();
-            evidenceReferenceChecker.check(referenceJsonObject);
-
-            references.add(ImmutableReferenceInfo.builder()
-                    .id(Json.integer(referenceJsonObject, "id"))
-                    .pubMedId(Json.nullableString(referenceJsonObject, "pubMedId"))
-                    .title(Json.nullableString(referenceJsonObject, "title"))
-                    .url(Json.nullableString(referenceJsonObject, "url"))
-                    .build());
-        }
-        return references;
+    private List<ReferenceInfo> extractReferences(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableReferenceInfo.Builder builder = ImmutableReferenceInfo.builder();
+            readObject(reader, IndicationDatamodelChecker.evidenceReferenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "pubMedId":
+                        builder.pubMedId(JsonStream.nullableString(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.nullableString(reader));
+                        break;
+                    case "url":
+                        builder.url(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<ClinicalTrialInfo> extractClinicalTrials(@NotNull JsonArray jsonArray) {
-        List<ClinicalTrialInfo> clinicalTrials = Lists.newArrayList();
-        JsonDatamodelChecker clinicalTrialChecker = IndicationDatamodelChecker.clinicalTrialObjectChecker();
-
-        for (JsonElement clinicalTrial : jsonArray) {
-            JsonObject clinicalTrialJsonObject = clinicalTrial.getAsJsonObject();
-            clinicalTrialChecker.check(clinicalTrialJsonObject);
-
-            clinicalTrials.add(ImmutableClinicalTrialInfo.builder()
-                    .nctId(Json.string(clinicalTrialJsonObject, "nctId"))
-                    .title(Json.string(clinicalTrialJsonObject, "title"))
-                    .phase(Json.nullableString(clinicalTrialJsonObject, "phase"))
-                    .recruitment(Json.string(clinicalTrialJsonObject, "recruitment"))
-                    .therapies(extractTherapies(clinicalTrialJsonObject.getAsJsonArray("therapies")))
-                    .build());
-        }
-        return clinicalTrials;
+    private List<ClinicalTrialInfo> extractClinicalTrials(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableClinicalTrialInfo.Builder builder = ImmutableClinicalTrialInfo.builder();
+            readObject(reader, IndicationDatamodelChecker.clinicalTrialObjectChecker(), field -> {
+                switch (field) {
+                    case "nctId":
+                        builder.nctId(JsonStream.string(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.string(reader));
+                        break;
+                    case "phase":
+                        builder.phase(JsonStream.nullableString(reader));
+                        break;
+                    case "recruitment":
+                        builder.recruitment(JsonStream.string(reader));
+                        break;
+                    case "therapies":
+                        builder.therapies(extractTherapies(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TherapyInfo> extractTherapies(@NotNull JsonArray jsonArray) {
-        List<TherapyInfo> therapies = Lists.newArrayList();
-        JsonDatamodelChecker clinicalTrialTherapyChecker = IndicationDatamodelChecker.evidenceTherapyObjectChecker();
-
-        for (JsonElement therapy : jsonArray) {
-            JsonObject therapyJsonObject = therapy.getAsJsonObject();
-            clinicalTrialTherapyChecker.check(therapyJsonObject);
-
-            therapies.add(ImmutableTherapyInfo.builder()
-                    .id(Json.integer(therapyJsonObject, "id"))
-                    .therapyName(Json.string(therapyJsonObject, "therapyName"))
-                    .synonyms(Json.nullableStringList(therapyJsonObject, "synonyms"))
-                    .build());
-        }
-        return therapies;
+    private List<TherapyInfo> extractTherapies(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+            readObject(reader, IndicationDatamodelChecker.evidenceTherapyObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapyName":
+                        builder.therapyName(JsonStream.string(reader));
+                        break;
+                    case "synonyms":
+                        builder.synonyms(JsonStream.nullableStringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 }
\ No newline at end of file
@@ -9,11 +9,132 @@ import org.jetbrains.annotations.NotNull;
 
 final class MolecularProfileDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker MOLECULAR_PROFILE_OBJECT_CHECKER = createMolecularProfileObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker GENE_VARIANT_OBJECT_CHECKER = createGeneVariantObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker PROFILE_TREATMENT_APPROACH_OBJECT_CHECKER = createProfileTreatmentApproachObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker COMPLEX_MOLECULAR_PROFILE_EVIDENCE_CHECKER = createComplexMolecularProfileEvidenceChecker();
+    @NotNull
+    private static final JsonDatamodelChecker COMPLEX_MOLECULAR_PROFILE_EVIDENCE_LIST_CHECKER =
+            createComplexMolecularProfileEvidenceListChecker();
+    @NotNull
+    private static final JsonDatamodelChecker MOLECULAR_PROFILE_CHECKER = createMolecularProfileChecker();
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_CHECKER = createTherapyChecker();
+    @NotNull
+    private static final JsonDatamodelChecker INDICATION_CHECKER = createIndicationChecker();
+    @NotNull
+    private static final JsonDatamodelChecker REFERENCE_CHECKER = createReferenceChecker();
+    @NotNull
+    private static final JsonDatamodelChecker RELEVANT_TREATMENT_APPROACH_CHECKER = createRelevantTreatmentApproachChecker();
+    @NotNull
+    private static final JsonDatamodelChecker TREATMENT_APPROACH_EVIDENCE_CHECKER = createTreatmentApproachEvidenceChecker();
+    @NotNull
+    private static final JsonDatamodelChecker TREATMENT_APPROACH_EVIDENCE_LIST_CHECKER = createTreatmentApproachEvidenceListChecker();
+    @NotNull
+    private static final JsonDatamodelChecker VARIANT_ASSOCIATED_CLINICAL_TRIAL_CHECKER = createVariantAssociatedClinicalTrialChecker();
+    @NotNull
+    private static final JsonDatamodelChecker VARIANT_LEVEL_EVIDENCE_CHECKER = createVariantLevelEvidenceChecker();
+    @NotNull
+    private static final JsonDatamodelChecker VARIANT_LEVEL_EVIDENCE_LIST_CHECKER = createVariantLevelEvidenceListChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EXTENDED_EVIDENCE_CHECKER = createExtendedEvidenceChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EXTENDED_EVIDENCE_LIST_CHECKER = createExtendedEvidenceListChecker();
+
     private MolecularProfileDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker molecularProfileObjectChecker() {
+        return MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker geneVariantObjectChecker() {
+        return GENE_VARIANT_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker profileTreatmentApproachObjectChecker() {
+        return PROFILE_TREATMENT_APPROACH_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker complexMolecularProfileEvidenceChecker() {
+        return COMPLEX_MOLECULAR_PROFILE_EVIDENCE_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker complexMolecularProfileEvidenceListChecker() {
+        return COMPLEX_MOLECULAR_PROFILE_EVIDENCE_LIST_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker molecularProfileChecker() {
+        return MOLECULAR_PROFILE_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker therapyChecker() {
+        return THERAPY_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker indicationChecker() {
+        return INDICATION_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker referenceChecker() {
+        return REFERENCE_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker relevantTreatmentApproachChecker() {
+        return RELEVANT_TREATMENT_APPROACH_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker treatmentApproachEvidenceChecker() {
+        return TREATMENT_APPROACH_EVIDENCE_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker treatmentApproachEvidenceListChecker() {
+        return TREATMENT_APPROACH_EVIDENCE_LIST_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker variantAssociatedClinicalTrialChecker() {
+        return VARIANT_ASSOCIATED_CLINICAL_TRIAL_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker variantLevelEvidenceChecker() {
+        return VARIANT_LEVEL_EVIDENCE_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker variantLevelEvidenceListChecker() {
+        return VARIANT_LEVEL_EVIDENCE_LIST_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker extendedEvidenceChecker() {
+        return EXTENDED_EVIDENCE_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker extendedEvidenceListChecker() {
+        return EXTENDED_EVIDENCE_LIST_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
@@ -31,7 +152,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker geneVariantObjectChecker() {
+    private static JsonDatamodelChecker createGeneVariantObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("fullName", true);
@@ -42,7 +163,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker profileTreatmentApproachObjectChecker() {
+    private static JsonDatamodelChecker createProfileTreatmentApproachObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -52,7 +173,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker complexMolecularProfileEvidenceChecker() {
+    private static JsonDatamodelChecker createComplexMolecularProfileEvidenceChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("totalCount", true);
         map.put("complexMolecularProfileEvidence", true);
@@ -61,7 +182,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker complexMolecularProfileEvidenceListChecker() {
+    private static JsonDatamodelChecker createComplexMolecularProfileEvidenceListChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -82,7 +203,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker molecularProfileChecker() {
+    private static JsonDatamodelChecker createMolecularProfileChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
@@ -91,7 +212,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker therapyChecker() {
+    private static JsonDatamodelChecker createTherapyChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -101,7 +222,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker indicationChecker() {
+    private static JsonDatamodelChecker createIndicationChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -111,7 +232,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker referenceChecker() {
+    private static JsonDatamodelChecker createReferenceChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
@@ -122,7 +243,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker relevantTreatmentApproachChecker() {
+    private static JsonDatamodelChecker createRelevantTreatmentApproachChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -132,7 +253,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker treatmentApproachEvidenceChecker() {
+    private static JsonDatamodelChecker createTreatmentApproachEvidenceChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("totalCount", true);
         map.put("treatmentApproachEvidence", true);
@@ -141,7 +262,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker treatmentApproachEvidenceListChecker() {
+    private static JsonDatamodelChecker createTreatmentApproachEvidenceListChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -162,7 +283,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker variantAssociatedClinicalTrialChecker() {
+    private static JsonDatamodelChecker createVariantAssociatedClinicalTrialChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("nctId", true);
         map.put("title", true);
@@ -174,7 +295,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker variantLevelEvidenceChecker() {
+    private static JsonDatamodelChecker createVariantLevelEvidenceChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("totalCount", true);
         map.put("variantLevelEvidences", true);
@@ -183,7 +304,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker variantLevelEvidenceListChecker() {
+    private static JsonDatamodelChecker createVariantLevelEvidenceListChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -204,7 +325,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker extendedEvidenceChecker() {
+    private static JsonDatamodelChecker createExtendedEvidenceChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("totalCount", true);
         map.put("extendedEvidence", true);
@@ -213,7 +334,7 @@ final class MolecularProfileDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker extendedEvidenceListChecker() {
+    private static JsonDatamodelChecker createExtendedEvidenceListChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
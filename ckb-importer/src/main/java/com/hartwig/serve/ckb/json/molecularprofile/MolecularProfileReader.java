@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.molecularprofile;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.ClinicalTrialInfo;
 import com.hartwig.serve.ckb.json.common.EvidenceInfo;
@@ -24,350 +22,560 @@ import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.json.common.TreatmentApproachInfo;
 import com.hartwig.serve.ckb.json.common.VariantInfo;
 import com.hartwig.serve.ckb.util.DateConverter;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class MolecularProfileReader extends CkbJsonDirectoryReader<JsonMolecularProfile> {
 
-    public MolecularProfileReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public MolecularProfileReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonMolecularProfile read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker molecularProfileChecker = MolecularProfileDatamodelChecker.molecularProfileObjectChecker();
-        molecularProfileChecker.check(object);
-
-        return ImmutableJsonMolecularProfile.builder()
-                .id(Json.integer(object, "id"))
-                .profileName(Json.string(object, "profileName"))
-                .geneVariants(extractGeneVariants(object.getAsJsonArray("geneVariants")))
-                .treatmentApproaches(extractProfileTreatmentApproaches(object.getAsJsonArray("profileTreatmentApproaches")))
-                .createDate(DateConverter.toDate(Json.string(object, "createDate")))
-                .updateDate(DateConverter.toDate(Json.string(object, "updateDate")))
-                .complexMolecularProfileEvidence(extractComplexMolecularProfileEvidence(object.getAsJsonObject(
-                        "complexMolecularProfileEvidence")))
-                .treatmentApproachEvidence(extractTreatmentApproachEvidence(object.getAsJsonObject("treatmentApproachEvidence")))
-                .variantAssociatedClinicalTrials(extractVariantAssociatedClinicalTrials(object.getAsJsonArray(
-                        "variantAssociatedClinicalTrials")))
-                .variantLevelEvidence(extractVariantLevelEvidence(object.getAsJsonObject("variantLevelEvidence")))
-                .extendedEvidence(extractExtendedEvidence(object.getAsJsonObject("extendedEvidence")))
-                .build();
+    protected JsonMolecularProfile read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonMolecularProfile.Builder builder = ImmutableJsonMolecularProfile.builder();
+        readObject(reader, MolecularProfileDatamodelChecker.molecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                case "geneVariants":
+                    builder.geneVariants(extractGeneVariants(reader));
+                    break;
+                case "profileTreatmentApproaches":
+                    builder.treatmentApproaches(extractProfileTreatmentApproaches(reader));
+                    break;
+                case "createDate":
+                    builder.createDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "updateDate":
+                    builder.updateDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "complexMolecularProfileEvidence":
+                    builder.complexMolecularProfileEvidence(extractComplexMolecularProfileEvidence(reader));
+                    break;
+                case "treatmentApproachEvidence":
+                    builder.treatmentApproachEvidence(extractTreatmentApproachEvidence(reader));
+                    break;
+                case "variantAssociatedClinicalTrials":
+                    builder.variantAssociatedClinicalTrials(extractVariantAssociatedClinicalTrials(reader));
+                    break;
+                case "variantLevelEvidence":
+                    builder.variantLevelEvidence(extractVariantLevelEvidence(reader));
+                    break;
+                case "extendedEvidence":
+                    builder.extendedEvidence(extractExtendedEvidence(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<VariantInfo> extractGeneVariants(@NotNull JsonArray jsonArray) {
-        List<VariantInfo> geneVariants = Lists.newArrayList();
-        JsonDatamodelChecker geneVariantChecker = MolecularProfileDatamodelChecker.geneVariantObjectChecker();
-
-        for (JsonElement geneVariant : jsonArray) {
-            JsonObject geneVariantJsonObject = geneVariant.getAsJsonObject();
-            geneVariantChecker.check(geneVariantJsonObject);
-
-            geneVariants.add(ImmutableVariantInfo.builder()
-                    .id(Json.integer(geneVariantJsonObject, "id"))
-                    .fullName(Json.string(geneVariantJsonObject, "fullName"))
-                    .impact(Json.nullableString(geneVariantJsonObject, "impact"))
-                    .proteinEffect(Json.nullableString(geneVariantJsonObject, "proteinEffect"))
-                    .build());
-        }
-        return geneVariants;
+    private List<VariantInfo> extractGeneVariants(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableVariantInfo.Builder builder = ImmutableVariantInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.geneVariantObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "fullName":
+                        builder.fullName(JsonStream.string(reader));
+                        break;
+                    case "impact":
+                        builder.impact(JsonStream.nullableString(reader));
+                        break;
+                    case "proteinEffect":
+                        builder.proteinEffect(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TreatmentApproachInfo> extractProfileTreatmentApproaches(@NotNull JsonArray jsonArray) {
-        List<TreatmentApproachInfo> profileTreatmentApproaches = Lists.newArrayList();
-        JsonDatamodelChecker profileTreatmentApproachChecker = MolecularProfileDatamodelChecker.profileTreatmentApproachObjectChecker();
-
-        for (JsonElement profileTreatmentApproach : jsonArray) {
-            JsonObject profileTreatmentApproachJsonObject = profileTreatmentApproach.getAsJsonObject();
-            profileTreatmentApproachChecker.check(profileTreatmentApproachJsonObject);
-
-            profileTreatmentApproaches.add(ImmutableTreatmentApproachInfo.builder()
-                    .id(Json.integer(profileTreatmentApproachJsonObject, "id"))
-                    .name(Json.string(profileTreatmentApproachJsonObject, "name"))
-                    .profileName(Json.string(profileTreatmentApproachJsonObject, "profileName"))
-                    .build());
-        }
-        return profileTreatmentApproaches;
+    private List<TreatmentApproachInfo> extractProfileTreatmentApproaches(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTreatmentApproachInfo.Builder builder = ImmutableTreatmentApproachInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.profileTreatmentApproachObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "name":
+                        builder.name(JsonStream.string(reader));
+                        break;
+                    case "profileName":
+                        builder.profileName(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static JsonMolecularProfileExtendedEvidence extractComplexMolecularProfileEvidence(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker complexMolecularProfileEvidenceChecker =
-                MolecularProfileDatamodelChecker.complexMolecularProfileEvidenceChecker();
-        complexMolecularProfileEvidenceChecker.check(jsonObject);
-
-        return ImmutableJsonMolecularProfileExtendedEvidence.builder()
-                .totalCount(Json.integer(jsonObject, "totalCount"))
-                .evidences(extractComplexMolecularProfileEvidenceList(jsonObject.getAsJsonArray("complexMolecularProfileEvidence")))
-                .build();
+    private JsonMolecularProfileExtendedEvidence extractComplexMolecularProfileEvidence(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonMolecularProfileExtendedEvidence.Builder builder = ImmutableJsonMolecularProfileExtendedEvidence.builder();
+        readObject(reader, MolecularProfileDatamodelChecker.complexMolecularProfileEvidenceChecker(), field -> {
+            switch (field) {
+                case "totalCount":
+                    builder.totalCount(JsonStream.integer(reader));
+                    break;
+                case "complexMolecularProfileEvidence":
+                    builder.evidences(extractComplexMolecularProfileEvidenceList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractComplexMolecularProfileEvidenceList(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> complexMolecularProfileEvidenceList = Lists.newArrayList();
-        JsonDatamodelChecker complexMolecularProfileEvidenceListChecker =
-                MolecularProfileDatamodelChecker.complexMolecularProfileEvidenceListChecker();
-
-        for (JsonElement complexMolecularProfileEvidence : jsonArray) {
-            JsonObject complexMolecularProfileEvidenceJsonObject = complexMolecularProfileEvidence.getAsJsonObject();
-            complexMolecularProfileEvidenceListChecker.check(complexMolecularProfileEvidenceJsonObject);
-
-            complexMolecularProfileEvidenceList.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(complexMolecularProfileEvidenceJsonObject, "id"))
-                    .approvalStatus(Json.string(complexMolecularProfileEvidenceJsonObject, "approvalStatus"))
-                    .evidenceType(Json.string(complexMolecularProfileEvidenceJsonObject, "evidenceType"))
-                    .variantOrigin(Json.nullableString(complexMolecularProfileEvidenceJsonObject, "variantOrigin"))
-                    .efficacyEvidence(Json.string(complexMolecularProfileEvidenceJsonObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(complexMolecularProfileEvidenceJsonObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(complexMolecularProfileEvidenceJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(complexMolecularProfileEvidenceJsonObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(complexMolecularProfileEvidenceJsonObject, "responseType"))
-                    .references(extractReferences(complexMolecularProfileEvidenceJsonObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(complexMolecularProfileEvidenceJsonObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(complexMolecularProfileEvidenceJsonObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(complexMolecularProfileEvidenceJsonObject, "ageGroups"))
-                    .treatmentApproaches(extractRelevantTreatmentApproaches(complexMolecularProfileEvidenceJsonObject.getAsJsonArray(
-                            "relevantTreatmentApproaches")))
-                    .build());
-        }
-        return complexMolecularProfileEvidenceList;
+    private List<EvidenceInfo> extractComplexMolecularProfileEvidenceList(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.complexMolecularProfileEvidenceListChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    case "relevantTreatmentApproaches":
+                        builder.treatmentApproaches(extractRelevantTreatmentApproaches(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfile(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker molecularProfileChecker = MolecularProfileDatamodelChecker.molecularProfileChecker();
-        molecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfile(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, MolecularProfileDatamodelChecker.molecularProfileChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static TherapyInfo extractTherapy(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker therapyChecker = MolecularProfileDatamodelChecker.therapyChecker();
-        therapyChecker.check(jsonObject);
-
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+    private TherapyInfo extractTherapy(@NotNull JsonReader reader) throws IOException {
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, MolecularProfileDatamodelChecker.therapyChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static IndicationInfo extractIndication(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker indicationChecker = MolecularProfileDatamodelChecker.indicationChecker();
-        indicationChecker.check(jsonObject);
-
-        return ImmutableIndicationInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .name(Json.string(jsonObject, "name"))
-                .source(Json.string(jsonObject, "source"))
-                .build();
+    private IndicationInfo extractIndication(@NotNull JsonReader reader) throws IOException {
+        ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+        readObject(reader, MolecularProfileDatamodelChecker.indicationChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<ReferenceInfo> extractReferences(@NotNull JsonArray jsonArray) {
-        List<ReferenceInfo> references = Lists.newArrayList();
-        JsonDatamodelChecker referenceChecker = MolecularProfileDatamodelChecker.referenceChecker();
-
-        for (JsonElement reference : jsonArray) {
-            JsonObject referenceJsonObject = reference.getAsJsonObject();
-            referenceChecker.check(referenceJsonObject);
-
-            references.add(ImmutableReferenceInfo.builder()
-                    .id(Json.integer(referenceJsonObject, "id"))
-                    .pubMedId(Json.nullableString(referenceJsonObject, "pubMedId"))
-                    .title(Json.nullableString(referenceJsonObject, "title"))
-                    .url(Json.nullableString(referenceJsonObject, "url"))
-                    .build());
-        }
-        return references;
+    private List<ReferenceInfo> extractReferences(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableReferenceInfo.Builder builder = ImmutableReferenceInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.referenceChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "pubMedId":
+                        builder.pubMedId(JsonStream.nullableString(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.nullableString(reader));
+                        break;
+                    case "url":
+                        builder.url(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TreatmentApproachInfo> extractRelevantTreatmentApproaches(@NotNull JsonArray jsonArray) {
-        List<TreatmentApproachInfo> relevantTreatmentApproaches = Lists.newArrayList();
-        JsonDatamodelChecker relevantTreatmentApproachChecker = MolecularProfileDatamodelChecker.relevantTreatmentApproachChecker();
-
-        for (JsonElement relevantTreatmentApproach : jsonArray) {
-            JsonObject relevantTreatmentApproachJsonObject = relevantTreatmentApproach.getAsJsonObject();
-            relevantTreatmentApproachChecker.check(relevantTreatmentApproachJsonObject);
-
-            relevantTreatmentApproaches.add(ImmutableTreatmentApproachInfo.builder()
-                    .id(Json.integer(relevantTreatmentApproachJsonObject, "id"))
-                    .name(Json.string(relevantTreatmentApproachJsonObject, "name"))
-                    .profileName(Json.string(relevantTreatmentApproachJsonObject, "profileName"))
-                    .build());
-        }
-        return relevantTreatmentApproaches;
+    private List<TreatmentApproachInfo> extractRelevantTreatmentApproaches(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTreatmentApproachInfo.Builder builder = ImmutableTreatmentApproachInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.relevantTreatmentApproachChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "name":
+                        builder.name(JsonStream.string(reader));
+                        break;
+                    case "profileName":
+                        builder.profileName(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static JsonMolecularProfileExtendedEvidence extractTreatmentApproachEvidence(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker treatmentApproachEvidenceChecker = MolecularProfileDatamodelChecker.treatmentApproachEvidenceChecker();
-        treatmentApproachEvidenceChecker.check(jsonObject);
-
-        return ImmutableJsonMolecularProfileExtendedEvidence.builder()
-                .totalCount(Json.integer(jsonObject, "totalCount"))
-                .evidences(extractTreatmentApproachEvidenceList(jsonObject.getAsJsonArray("treatmentApproachEvidence")))
-                .build();
+    private JsonMolecularProfileExtendedEvidence extractTreatmentApproachEvidence(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonMolecularProfileExtendedEvidence.Builder builder = ImmutableJsonMolecularProfileExtendedEvidence.builder();
+        readObject(reader, MolecularProfileDatamodelChecker.treatmentApproachEvidenceChecker(), field -> {
+            switch (field) {
+                case "totalCount":
+                    builder.totalCount(JsonStream.integer(reader));
+                    break;
+                case "treatmentApproachEvidence":
+                    builder.evidences(extractTreatmentApproachEvidenceList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractTreatmentApproachEvidenceList(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> treatmentApproachEvidenceList = Lists.newArrayList();
-        JsonDatamodelChecker treatmentApproachEvidenceListChecker = MolecularProfileDatamodelChecker.treatmentApproachEvidenceListChecker();
-
-        for (JsonElement treatmentApproachEvidence : jsonArray) {
-            JsonObject treatmentApproachEvidenceJsonObject = treatmentApproachEvidence.getAsJsonObject();
-            treatmentApproachEvidenceListChecker.check(treatmentApproachEvidenceJsonObject);
-
-            treatmentApproachEvidenceList.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(treatmentApproachEvidenceJsonObject, "id"))
-                    .approvalStatus(Json.string(treatmentApproachEvidenceJsonObject, "approvalStatus"))
-                    .evidenceType(Json.string(treatmentApproachEvidenceJsonObject, "evidenceType"))
-                    .efficacyEvidence(Json.string(treatmentApproachEvidenceJsonObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(treatmentApproachEvidenceJsonObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(treatmentApproachEvidenceJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(treatmentApproachEvidenceJsonObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(treatmentApproachEvidenceJsonObject, "responseType"))
-                    .references(extractReferences(treatmentApproachEvidenceJsonObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(treatmentApproachEvidenceJsonObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(treatmentApproachEvidenceJsonObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(treatmentApproachEvidenceJsonObject, "ageGroups"))
-                    .treatmentApproaches(extractRelevantTreatmentApproaches(treatmentApproachEvidenceJsonObject.getAsJsonArray(
-                            "relevantTreatmentApproaches")))
-                    .build());
-        }
-        return treatmentApproachEvidenceList;
+    private List<EvidenceInfo> extractTreatmentApproachEvidenceList(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.treatmentApproachEvidenceListChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    case "relevantTreatmentApproaches":
+                        builder.treatmentApproaches(extractRelevantTreatmentApproaches(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<ClinicalTrialInfo> extractVariantAssociatedClinicalTrials(@NotNull JsonArray jsonArray) {
-        List<ClinicalTrialInfo> variantAssociatedClinicalTrials = Lists.newArrayList();
-        JsonDatamodelChecker variantAssociatedClinicalTrialChecker =
-                MolecularProfileDatamodelChecker.variantAssociatedClinicalTrialChecker();
-
-        for (JsonElement variantAssociatedClinicalTrial : jsonArray) {
-            JsonObject variantAssociatedClinicalTrialJsonObject = variantAssociatedClinicalTrial.getAsJsonObject();
-            variantAssociatedClinicalTrialChecker.check(variantAssociatedClinicalTrialJsonObject);
-
-            variantAssociatedClinicalTrials.add(ImmutableClinicalTrialInfo.builder()
-                    .nctId(Json.string(variantAssociatedClinicalTrialJsonObject, "nctId"))
-                    .title(Json.string(variantAssociatedClinicalTrialJsonObject, "title"))
-                    .phase(Json.nullableString(variantAssociatedClinicalTrialJsonObject, "phase"))
-                    .recruitment(Json.string(variantAssociatedClinicalTrialJsonObject, "recruitment"))
-                    .therapies(extractTherapyList(variantAssociatedClinicalTrialJsonObject.getAsJsonArray("therapies")))
-                    .build());
-        }
-        return variantAssociatedClinicalTrials;
+    private List<ClinicalTrialInfo> extractVariantAssociatedClinicalTrials(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableClinicalTrialInfo.Builder builder = ImmutableClinicalTrialInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.variantAssociatedClinicalTrialChecker(), field -> {
+                switch (field) {
+                    case "nctId":
+                        builder.nctId(JsonStream.string(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.string(reader));
+                        break;
+                    case "phase":
+                        builder.phase(JsonStream.nullableString(reader));
+                        break;
+                    case "recruitment":
+                        builder.recruitment(JsonStream.string(reader));
+                        break;
+                    case "therapies":
+                        builder.therapies(extractTherapyList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TherapyInfo> extractTherapyList(@NotNull JsonArray jsonArray) {
-        List<TherapyInfo> therapies = Lists.newArrayList();
-        JsonDatamodelChecker therapyChecker = MolecularProfileDatamodelChecker.therapyChecker();
-
-        for (JsonElement therapy : jsonArray) {
-            JsonObject therapyJsonObject = therapy.getAsJsonObject();
-            therapyChecker.check(therapyJsonObject);
-
-            therapies.add(ImmutableTherapyInfo.builder()
-                    .id(Json.integer(therapyJsonObject, "id"))
-                    .therapyName(Json.string(therapyJsonObject, "therapyName"))
-                    .synonyms(Json.nullableStringList(therapyJsonObject, "synonyms"))
-                    .build());
-        }
-        return therapies;
+    private List<TherapyInfo> extractTherapyList(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.therapyChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapyName":
+                        builder.therapyName(JsonStream.string(reader));
+                        break;
+                    case "synonyms":
+                        builder.synonyms(JsonStream.nullableStringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static JsonMolecularProfileExtendedEvidence extractVariantLevelEvidence(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker variantLevelEvidenceChecker = MolecularProfileDatamodelChecker.variantLevelEvidenceChecker();
-        variantLevelEvidenceChecker.check(jsonObject);
-
-        return ImmutableJsonMolecularProfileExtendedEvidence.builder()
-                .totalCount(Json.integer(jsonObject, "totalCount"))
-                .evidences(extractVariantLevelEvidenceList(jsonObject.getAsJsonArray("variantLevelEvidences")))
-                .build();
+    private JsonMolecularProfileExtendedEvidence extractVariantLevelEvidence(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonMolecularProfileExtendedEvidence.Builder builder = ImmutableJsonMolecularProfileExtendedEvidence.builder();
+        readObject(reader, MolecularProfileDatamodelChecker.variantLevelEvidenceChecker(), field -> {
+            switch (field) {
+                case "totalCount":
+                    builder.totalCount(JsonStream.integer(reader));
+                    break;
+                case "variantLevelEvidences":
+                    builder.evidences(extractVariantLevelEvidenceList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractVariantLevelEvidenceList(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> variantLevelEvidenceList = Lists.newArrayList();
-        JsonDatamodelChecker variantLevelEvidenceListChecker = MolecularProfileDatamodelChecker.variantLevelEvidenceListChecker();
-
-        for (JsonElement variantLevelEvidence : jsonArray) {
-            JsonObject variantLevelEvidenceJsonObject = variantLevelEvidence.getAsJsonObject();
-            variantLevelEvidenceListChecker.check(variantLevelEvidenceJsonObject);
-
-            variantLevelEvidenceList.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(variantLevelEvidenceJsonObject, "id"))
-                    .approvalStatus(Json.string(variantLevelEvidenceJsonObject, "approvalStatus"))
-                    .evidenceType(Json.string(variantLevelEvidenceJsonObject, "evidenceType"))
-                    .variantOrigin(Json.nullableString(variantLevelEvidenceJsonObject, "variantOrigin"))
-                    .efficacyEvidence(Json.string(variantLevelEvidenceJsonObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(variantLevelEvidenceJsonObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(variantLevelEvidenceJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(variantLevelEvidenceJsonObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(variantLevelEvidenceJsonObject, "responseType"))
-                    .references(extractReferences(variantLevelEvidenceJsonObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(variantLevelEvidenceJsonObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(variantLevelEvidenceJsonObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(variantLevelEvidenceJsonObject, "ageGroups"))
-                    .treatmentApproaches(extractRelevantTreatmentApproaches(variantLevelEvidenceJsonObject.getAsJsonArray(
-                            "relevantTreatmentApproaches")))
-                    .build());
-        }
-        return variantLevelEvidenceList;
+    private List<EvidenceInfo> extractVariantLevelEvidenceList(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.variantLevelEvidenceListChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    case "relevantTreatmentApproaches":
+                        builder.treatmentApproaches(extractRelevantTreatmentApproaches(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static JsonMolecularProfileExtendedEvidence extractExtendedEvidence(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker extendedEvidenceChecker = MolecularProfileDatamodelChecker.extendedEvidenceChecker();
-        extendedEvidenceChecker.check(jsonObject);
-
-        return ImmutableJsonMolecularProfileExtendedEvidence.builder()
-                .totalCount(Json.integer(jsonObject, "totalCount"))
-                .evidences(extractExtendedEvidenceList(jsonObject.getAsJsonArray("extendedEvidence")))
-                .build();
+    private JsonMolecularProfileExtendedEvidence extractExtendedEvidence(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonMolecularProfileExtendedEvidence.Builder builder = ImmutableJsonMolecularProfileExtendedEvidence.builder();
+        readObject(reader, MolecularProfileDatamodelChecker.extendedEvidenceChecker(), field -> {
+            switch (field) {
+                case "totalCount":
+                    builder.totalCount(JsonStream.integer(reader));
+                    break;
+                case "extendedEvidence":
+                    builder.evidences(extractExtendedEvidenceList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractExtendedEvidenceList(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> extendedEvidenceList = Lists.newArrayList();
-        JsonDatamodelChecker extendedEvidenceListChecker = MolecularProfileDatamodelChecker.extendedEvidenceListChecker();
-
-        for (JsonElement extendedEvidence : jsonArray) {
-            JsonObject extendedEvidenceJsonObject = extendedEvidence.getAsJsonObject();
-            extendedEvidenceListChecker.check(extendedEvidenceJsonObject);
-
-            extendedEvidenceList.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(extendedEvidenceJsonObject, "id"))
-                    .approvalStatus(Json.string(extendedEvidenceJsonObject, "approvalStatus"))
-                    .evidenceType(Json.string(extendedEvidenceJsonObject, "evidenceType"))
-                    .variantOrigin(Json.nullableString(extendedEvidenceJsonObject, "variantOrigin"))
-                    .efficacyEvidence(Json.string(extendedEvidenceJsonObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(extendedEvidenceJsonObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(extendedEvidenceJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(extendedEvidenceJsonObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(extendedEvidenceJsonObject, "responseType"))
-                    .references(extractReferences(extendedEvidenceJsonObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(extendedEvidenceJsonObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(extendedEvidenceJsonObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(extendedEvidenceJsonObject, "ageGroups"))
-
-                    .build());
-        }
-        return extendedEvidenceList;
+    private List<EvidenceInfo> extractExtendedEvidenceList(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, MolecularProfileDatamodelChecker.extendedEvidenceListChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 }
@@ -9,11 +9,82 @@ import org.jetbrains.annotations.NotNull;
 
 final class ReferenceDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker REFERENCE_OBJECT_CHECKER = createReferenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker DRUG_OBJECT_CHECKER = createDrugObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker GENE_OBJECT_CHECKER = createGeneObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_OBJECT_CHECKER = createEvidenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker MOLECULAR_PROFILE_OBJECT_CHECKER = createMolecularProfileObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_CHECKER = createTherapyChecker();
+    @NotNull
+    private static final JsonDatamodelChecker INDICATION_CHECKER = createIndicationChecker();
+    @NotNull
+    private static final JsonDatamodelChecker REFERENCE_CHECKER = createReferenceChecker();
+    @NotNull
+    private static final JsonDatamodelChecker TREATMENT_APPROACH_OBJECT_CHECKER = createTreatmentApproachObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker VARIANT_OBJECT_CHECKER = createVariantObjectChecker();
+
     private ReferenceDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker referenceObjectChecker() {
+        return REFERENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker drugObjectChecker() {
+        return DRUG_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker geneObjectChecker() {
+        return GENE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceObjectChecker() {
+        return EVIDENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+        return MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker therapyChecker() {
+        return THERAPY_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker indicationChecker() {
+        return INDICATION_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker referenceChecker() {
+        return REFERENCE_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker treatmentApproachObjectChecker() {
+        return TREATMENT_APPROACH_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker variantObjectChecker() {
+        return VARIANT_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createReferenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
@@ -39,7 +110,7 @@ final class ReferenceDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker drugObjectChecker() {
+    private static JsonDatamodelChecker createDrugObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("drugName", true);
@@ -49,7 +120,7 @@ final class ReferenceDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker geneObjectChecker() {
+    private static JsonDatamodelChecker createGeneObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("geneSymbol", true);
@@ -59,7 +130,7 @@ final class ReferenceDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -79,7 +150,7 @@ final class ReferenceDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+    private static JsonDatamodelChecker createMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
@@ -88,7 +159,7 @@ final class ReferenceDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker therapyChecker() {
+    private static JsonDatamodelChecker createTherapyChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -98,7 +169,7 @@ final class ReferenceDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker indicationChecker() {
+    private static JsonDatamodelChecker createIndicationChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -108,7 +179,7 @@ final class ReferenceDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker referenceChecker() {
+    private static JsonDatamodelChecker createReferenceChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
@@ -119,7 +190,7 @@ final class ReferenceDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker treatmentApproachObjectChecker() {
+    private static JsonDatamodelChecker createTreatmentApproachObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -129,7 +200,7 @@ final class ReferenceDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker variantObjectChecker() {
+    private static JsonDatamodelChecker createVariantObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("fullName", true);
@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.reference;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.DrugInfo;
 import com.hartwig.serve.ckb.json.common.EvidenceInfo;
@@ -25,218 +23,341 @@ import com.hartwig.serve.ckb.json.common.ReferenceInfo;
 import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.json.common.TreatmentApproachInfo;
 import com.hartwig.serve.ckb.json.common.VariantInfo;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class ReferenceReader extends CkbJsonDirectoryReader<JsonReference> {
 
-    public ReferenceReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public ReferenceReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonReference read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker referenceChecker = ReferenceDatamodelChecker.referenceObjectChecker();
-        referenceChecker.check(object);
-
-        return ImmutableJsonReference.builder()
-                .id(Json.integer(object, "id"))
-                .pubMedId(Json.nullableString(object, "pubMedId"))
-                .title(Json.nullableString(object, "title"))
-                .shortJournalTitle(Json.nullableString(object, "shortJournalTitle"))
-                .pages(Json.nullableString(object, "pages"))
-                .url(Json.nullableString(object, "url"))
-                .authors(Json.nullableString(object, "authors"))
-                .journal(Json.nullableString(object, "journal"))
-                .volume(Json.nullableString(object, "volume"))
-                .issue(Json.nullableString(object, "issue"))
-                .date(Json.nullableString(object, "date"))
-                .abstractText(Json.nullableString(object, "abstractText"))
-                .year(Json.nullableString(object, "year"))
-                .drugs(extractDrugs(object.getAsJsonArray("drugs")))
-                .genes(extractGenes(object.getAsJsonArray("genes")))
-                .evidence(extractEvidence(object.getAsJsonArray("evidence")))
-                .therapies(extractTherapies(object.getAsJsonArray("therapies")))
-                .treatmentApproaches(extractTreatmentApproaches(object.getAsJsonArray("treatmentApproaches")))
-                .variants(extractVariants(object.getAsJsonArray("variants")))
-                .build();
+    protected JsonReference read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonReference.Builder builder = ImmutableJsonReference.builder();
+        readObject(reader, ReferenceDatamodelChecker.referenceObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "pubMedId":
+                    builder.pubMedId(JsonStream.nullableString(reader));
+                    break;
+                case "title":
+                    builder.title(JsonStream.nullableString(reader));
+                    break;
+                case "shortJournalTitle":
+                    builder.shortJournalTitle(JsonStream.nullableString(reader));
+                    break;
+                case "pages":
+                    builder.pages(JsonStream.nullableString(reader));
+                    break;
+                case "url":
+                    builder.url(JsonStream.nullableString(reader));
+                    break;
+                case "authors":
+                    builder.authors(JsonStream.nullableString(reader));
+                    break;
+                case "journal":
+                    builder.journal(JsonStream.nullableString(reader));
+                    break;
+                case "volume":
+                    builder.volume(JsonStream.nullableString(reader));
+                    break;
+                case "issue":
+                    builder.issue(JsonStream.nullableString(reader));
+                    break;
+                case "date":
+                    builder.date(JsonStream.nullableString(reader));
+                    break;
+                case "abstractText":
+                    builder.abstractText(JsonStream.nullableString(reader));
+                    break;
+                case "year":
+                    builder.year(JsonStream.nullableString(reader));
+                    break;
+                case "drugs":
+                    builder.drugs(extractDrugs(reader));
+                    break;
+                case "genes":
+                    builder.genes(extractGenes(reader));
+                    break;
+                case "evidence":
+                    builder.evidence(extractEvidence(reader));
+                    break;
+                case "therapies":
+                    builder.therapies(extractTherapies(reader));
+                    break;
+                case "treatmentApproaches":
+                    builder.treatmentApproaches(extractTreatmentApproaches(reader));
+                    break;
+                case "variants":
+                    builder.variants(extractVariants(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<DrugInfo> extractDrugs(@NotNull JsonArray jsonArray) {
-        List<DrugInfo> referenceDrugs = Lists.newArrayList();
-        JsonDatamodelChecker drugChecker = ReferenceDatamodelChecker.drugObjectChecker();
-
-        for (JsonElement drug : jsonArray) {
-            JsonObject drugJsonObject = drug.getAsJsonObject();
-            drugChecker.check(drugJsonObject);
-
-            referenceDrugs.add(ImmutableDrugInfo.builder()
-                    .id(Json.integer(drugJsonObject, "id"))
-                    .drugName(Json.string(drugJsonObject, "drugName"))
-                    .terms(Json.stringList(drugJsonObject, "terms"))
-                    .build());
-        }
-        return referenceDrugs;
+    private List<DrugInfo> extractDrugs(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableDrugInfo.Builder builder = ImmutableDrugInfo.builder();
+            readObject(reader, ReferenceDatamodelChecker.drugObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "drugName":
+                        builder.drugName(JsonStream.string(reader));
+                        break;
+                    case "terms":
+                        builder.terms(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<GeneInfo> extractGenes(@NotNull JsonArray jsonArray) {
-        List<GeneInfo> genes = Lists.newArrayList();
-        JsonDatamodelChecker geneChecker = ReferenceDatamodelChecker.geneObjectChecker();
-
-        for (JsonElement gene : jsonArray) {
-            JsonObject geneJsonObject = gene.getAsJsonObject();
-            geneChecker.check(geneJsonObject);
-
-            genes.add(ImmutableGeneInfo.builder()
-                    .id(Json.integer(geneJsonObject, "id"))
-                    .geneSymbol(Json.string(geneJsonObject, "geneSymbol"))
-                    .terms(Json.stringList(geneJsonObject, "terms"))
-                    .build());
-        }
-        return genes;
+    private List<GeneInfo> extractGenes(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableGeneInfo.Builder builder = ImmutableGeneInfo.builder();
+            readObject(reader, ReferenceDatamodelChecker.geneObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "geneSymbol":
+                        builder.geneSymbol(JsonStream.string(reader));
+                        break;
+                    case "terms":
+                        builder.terms(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractEvidence(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> evidences = Lists.newArrayList();
-        JsonDatamodelChecker evidenceChecker = ReferenceDatamodelChecker.evidenceObjectChecker();
-
-        for (JsonElement evidence : jsonArray) {
-            JsonObject evidenceJsonObject = evidence.getAsJsonObject();
-            evidenceChecker.check(evidenceJsonObject);
-
-            evidences.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(evidenceJsonObject, "id"))
-                    .approvalStatus(Json.string(evidenceJsonObject, "approvalStatus"))
-                    .evidenceType(Json.string(evidenceJsonObject, "evidenceType"))
-                    .variantOrigin(Json.nullableString(evidenceJsonObject, "variantOrigin"))
-                    .efficacyEvidence(Json.string(evidenceJsonObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(evidenceJsonObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(evidenceJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(evidenceJsonObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(evidenceJsonObject, "responseType"))
-                    .references(extractReferences(evidenceJsonObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(evidenceJsonObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(evidenceJsonObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(evidenceJsonObject, "ageGroups"))
-                    .build());
-        }
-
-        return evidences;
+    private List<EvidenceInfo> extractEvidence(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, ReferenceDatamodelChecker.evidenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfile(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker molecularProfileChecker = ReferenceDatamodelChecker.molecularProfileObjectChecker();
-        molecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfile(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, ReferenceDatamodelChecker.molecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static TherapyInfo extractTherapy(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker therapyChecker = ReferenceDatamodelChecker.therapyChecker();
-        therapyChecker.check(jsonObject);
-
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+    private TherapyInfo extractTherapy(@NotNull JsonReader reader) throws IOException {
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, ReferenceDatamodelChecker.therapyChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static IndicationInfo extractIndication(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker indicationChecker = ReferenceDatamodelChecker.indicationChecker();
-        indicationChecker.check(jsonObject);
-
-        return ImmutableIndicationInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .name(Json.string(jsonObject, "name"))
-                .source(Json.string(jsonObject, "source"))
-                .build();
+    private IndicationInfo extractIndication(@NotNull JsonReader reader) throws IOException {
+        ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+        readObject(reader, ReferenceDatamodelChecker.indicationChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<ReferenceInfo> extractReferences(@NotNull JsonArray jsonArray) {
-        List<ReferenceInfo> references = Lists.newArrayList();
-        JsonDatamodelChecker referenceChecker = ReferenceDatamodelChecker.referenceChecker();
-
-        for (JsonElement reference : jsonArray) {
-            JsonObject referenceJsonObject = reference.getAsJsonObject();
-            referenceChecker.check(referenceJsonObject);
-
-            references.add(ImmutableReferenceInfo.builder()
-                    .id(Json.integer(referenceJsonObject, "id"))
-                    .pubMedId(Json.nullableString(referenceJsonObject, "pubMedId"))
-                    .title(Json.nullableString(referenceJsonObject, "title"))
-                    .url(Json.nullableString(referenceJsonObject, "url"))
-                    .build());
-        }
-        return references;
+    private List<ReferenceInfo> extractReferences(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableReferenceInfo.Builder builder = ImmutableReferenceInfo.builder();
+            readObject(reader, ReferenceDatamodelChecker.referenceChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "pubMedId":
+                        builder.pubMedId(JsonStream.nullableString(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.nullableString(reader));
+                        break;
+                    case "url":
+                        builder.url(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TherapyInfo> extractTherapies(@NotNull JsonArray jsonArray) {
-        List<TherapyInfo> therapies = Lists.newArrayList();
-        JsonDatamodelChecker therapyChecker = ReferenceDatamodelChecker.therapyChecker();
-
-        for (JsonElement therapy : jsonArray) {
-            JsonObject therapyJsonObject = therapy.getAsJsonObject();
-            therapyChecker.check(therapyJsonObject);
-
-            therapies.add(ImmutableTherapyInfo.builder()
-                    .id(Json.integer(therapyJsonObject, "id"))
-                    .therapyName(Json.string(therapyJsonObject, "therapyName"))
-                    .synonyms(Json.nullableStringList(therapyJsonObject, "synonyms"))
-                    .build());
-        }
-        return therapies;
+    private List<TherapyInfo> extractTherapies(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+            readObject(reader, ReferenceDatamodelChecker.therapyChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapyName":
+                        builder.therapyName(JsonStream.string(reader));
+                        break;
+                    case "synonyms":
+                        builder.synonyms(JsonStream.nullableStringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TreatmentApproachInfo> extractTreatmentApproaches(@NotNull JsonArray jsonArray) {
-        List<TreatmentApproachInfo> treatmentApproaches = Lists.newArrayList();
-        JsonDatamodelChecker treatmentApproachChecker = ReferenceDatamodelChecker.treatmentApproachObjectChecker();
-
-        for (JsonElement treatmentApproach : jsonArray) {
-            JsonObject treatmentApproachJsonObject = treatmentApproach.getAsJsonObject();
-            treatmentApproachChecker.check(treatmentApproachJsonObject);
-
-            treatmentApproaches.add(ImmutableTreatmentApproachInfo.builder()
-                    .id(Json.integer(treatmentApproachJsonObject, "id"))
-                    .name(Json.string(treatmentApproachJsonObject, "name"))
-                    .profileName(Json.string(treatmentApproachJsonObject, "profileName"))
-                    .build());
-        }
-        return treatmentApproaches;
+    private List<TreatmentApproachInfo> extractTreatmentApproaches(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTreatmentApproachInfo.Builder builder = ImmutableTreatmentApproachInfo.builder();
+            readObject(reader, ReferenceDatamodelChecker.treatmentApproachObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "name":
+                        builder.name(JsonStream.string(reader));
+                        break;
+                    case "profileName":
+                        builder.profileName(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<VariantInfo> extractVariants(@NotNull JsonArray jsonArray) {
-        List<VariantInfo> variants = Lists.newArrayList();
-        JsonDatamodelChecker variantChecker = ReferenceDatamodelChecker.variantObjectChecker();
-
-        for (JsonElement variant : jsonArray) {
-            JsonObject variantJsonObject = variant.getAsJsonObject();
-            variantChecker.check(variantJsonObject);
-
-            variants.add(ImmutableVariantInfo.builder()
-                    .id(Json.integer(variantJsonObject, "id"))
-                    .fullName(Json.string(variantJsonObject, "fullName"))
-                    .impact(Json.nullableString(variantJsonObject, "impact"))
-                    .proteinEffect(Json.nullableString(variantJsonObject, "proteinEffect"))
-                    .build());
-        }
-        return variants;
+    private List<VariantInfo> extractVariants(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableVariantInfo.Builder builder = ImmutableVariantInfo.builder();
+            readObject(reader, ReferenceDatamodelChecker.variantObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "fullName":
+                        builder.fullName(JsonStream.string(reader));
+                        break;
+                    case "impact":
+                        builder.impact(JsonStream.nullableString(reader));
+                        break;
+                    case "proteinEffect":
+                        builder.proteinEffect(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 }
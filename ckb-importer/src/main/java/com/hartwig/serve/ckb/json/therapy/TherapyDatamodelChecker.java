@@ -9,11 +9,82 @@ import org.jetbrains.annotations.NotNull;
 
 final class TherapyDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_OBJECT_CHECKER = createTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker DESCRIPTION_OBJECT_CHECKER = createDescriptionObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker REFERENCE_OBJECT_CHECKER = createReferenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_OBJECT_CHECKER = createEvidenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker MOLECULAR_PROFILE_OBJECT_CHECKER = createMolecularProfileObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_CHECKER = createTherapyChecker();
+    @NotNull
+    private static final JsonDatamodelChecker INDICATION_CHECKER = createIndicationChecker();
+    @NotNull
+    private static final JsonDatamodelChecker CLINICAL_TRIAL_CHECKER = createClinicalTrialChecker();
+    @NotNull
+    private static final JsonDatamodelChecker DRUG_CHECKER = createDrugChecker();
+    @NotNull
+    private static final JsonDatamodelChecker GLOBAL_APPROVAL_STATUS_CHECKER = createGlobalApprovalStatusChecker();
+
     private TherapyDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker therapyObjectChecker() {
+        return THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker descriptionObjectChecker() {
+        return DESCRIPTION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker referenceObjectChecker() {
+        return REFERENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceObjectChecker() {
+        return EVIDENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+        return MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker therapyChecker() {
+        return THERAPY_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker indicationChecker() {
+        return INDICATION_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker clinicalTrialChecker() {
+        return CLINICAL_TRIAL_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker drugChecker() {
+        return DRUG_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker globalApprovalStatusChecker() {
+        return GLOBAL_APPROVAL_STATUS_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -30,7 +101,7 @@ final class TherapyDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker descriptionObjectChecker() {
+    private static JsonDatamodelChecker createDescriptionObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("description", true);
         map.put("references", true);
@@ -39,7 +110,7 @@ final class TherapyDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker referenceObjectChecker() {
+    private static JsonDatamodelChecker createReferenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
@@ -50,7 +121,7 @@ final class TherapyDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -70,7 +141,7 @@ final class TherapyDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+    private static JsonDatamodelChecker createMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
@@ -79,7 +150,7 @@ final class TherapyDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker therapyChecker() {
+    private static JsonDatamodelChecker createTherapyChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -89,7 +160,7 @@ final class TherapyDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker indicationChecker() {
+    private static JsonDatamodelChecker createIndicationChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -99,7 +170,7 @@ final class TherapyDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker clinicalTrialChecker() {
+    private static JsonDatamodelChecker createClinicalTrialChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("nctId", true);
         map.put("title", true);
@@ -111,7 +182,7 @@ final class TherapyDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker drugChecker() {
+    private static JsonDatamodelChecker createDrugChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("drugName", true);
@@ -121,7 +192,7 @@ final class TherapyDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker globalApprovalStatusChecker() {
+    private static JsonDatamodelChecker createGlobalApprovalStatusChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapy", true);
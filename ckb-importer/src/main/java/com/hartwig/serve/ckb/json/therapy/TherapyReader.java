@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.therapy;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.ClinicalTrialInfo;
 import com.hartwig.serve.ckb.json.common.DescriptionInfo;
@@ -26,211 +24,323 @@ import com.hartwig.serve.ckb.json.common.MolecularProfileInfo;
 import com.hartwig.serve.ckb.json.common.ReferenceInfo;
 import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.util.DateConverter;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class TherapyReader extends CkbJsonDirectoryReader<JsonTherapy> {
 
-    public TherapyReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public TherapyReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonTherapy read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker therapyObjectChecker = TherapyDatamodelChecker.therapyObjectChecker();
-        therapyObjectChecker.check(object);
-
-        return ImmutableJsonTherapy.builder()
-                .id(Json.integer(object, "id"))
-                .therapyName(Json.string(object, "therapyName"))
-                .synonyms(Json.nullableStringList(object, "synonyms"))
-                .descriptions(extractDescriptions(object.getAsJsonArray("therapyDescriptions")))
-                .createDate(DateConverter.toDate(Json.string(object, "createDate")))
-                .updateDate(DateConverter.toDate(Json.nullableString(object, "updateDate")))
-                .evidence(extractEvidence(object.getAsJsonArray("evidence")))
-                .clinicalTrials(extractClinicalTrials(object.getAsJsonArray("clinicalTrials")))
-                .drugs(extractDrugs(object.getAsJsonArray("drugs")))
-                .globalApprovalStatuses(extractGlobalApprovalStatuses(object.getAsJsonArray("globalApprovalStatus")))
-                .build();
+    protected JsonTherapy read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonTherapy.Builder builder = ImmutableJsonTherapy.builder();
+        readObject(reader, TherapyDatamodelChecker.therapyObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                case "therapyDescriptions":
+                    builder.descriptions(extractDescriptions(reader));
+                    break;
+                case "createDate":
+                    builder.createDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "updateDate":
+                    builder.updateDate(DateConverter.toDate(JsonStream.nullableString(reader)));
+                    break;
+                case "evidence":
+                    builder.evidence(extractEvidence(reader));
+                    break;
+                case "clinicalTrials":
+                    builder.clinicalTrials(extractClinicalTrials(reader));
+                    break;
+                case "drugs":
+                    builder.drugs(extractDrugs(reader));
+                    break;
+                case "globalApprovalStatus":
+                    builder.globalApprovalStatuses(extractGlobalApprovalStatuses(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<DescriptionInfo> extractDescriptions(@NotNull JsonArray jsonArray) {
-        List<DescriptionInfo> descriptions = Lists.newArrayList();
-        JsonDatamodelChecker descriptionChecker = TherapyDatamodelChecker.descriptionObjectChecker();
-
-        for (JsonElement description : jsonArray) {
-            JsonObject descriptionJsonObject = description.getAsJsonObject();
-            descriptionChecker.check(descriptionJsonObject);
-
-            descriptions.add(ImmutableDescriptionInfo.builder()
-                    .description(Json.nullableString(descriptionJsonObject, "description"))
-                    .references(extractReferences(descriptionJsonObject.getAsJsonArray("references")))
-                    .build());
-        }
-        return descriptions;
+    private List<DescriptionInfo> extractDescriptions(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableDescriptionInfo.Builder builder = ImmutableDescriptionInfo.builder();
+            readObject(reader, TherapyDatamodelChecker.descriptionObjectChecker(), field -> {
+                switch (field) {
+                    case "description":
+                        builder.description(JsonStream.nullableString(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<ReferenceInfo> extractReferences(@NotNull JsonArray jsonArray) {
-        List<ReferenceInfo> references = Lists.newArrayList();
-        JsonDatamodelChecker referenceChecker = TherapyDatamodelChecker.referenceObjectChecker();
-
-        for (JsonElement reference : jsonArray) {
-            JsonObject referenceJsonObject = reference.getAsJsonObject();
-            referenceChecker.check(referenceJsonObject);
-
-            references.add(ImmutableReferenceInfo.builder()
-                    .id(Json.integer(referenceJsonObject, "id"))
-                    .pubMedId(Json.nullableString(referenceJsonObject, "pubMedId"))
-                    .title(Json.nullableString(referenceJsonObject, "title"))
-                    .url(Json.nullableString(referenceJsonObject, "url"))
-                    .build());
-        }
-        return references;
+    private List<ReferenceInfo> extractReferences(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableReferenceInfo.Builder builder = ImmutableReferenceInfo.builder();
+            readObject(reader, TherapyDatamodelChecker.referenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "pubMedId":
+                        builder.pubMedId(JsonStream.nullableString(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.nullableString(reader));
+                        break;
+                    case "url":
+                        builder.url(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractEvidence(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> evidences = Lists.newArrayList();
-        JsonDatamodelChecker evidenceChecker = TherapyDatamodelChecker.evidenceObjectChecker();
-
-        for (JsonElement evidence : jsonArray) {
-            JsonObject evidenceJsonObject = evidence.getAsJsonObject();
-            evidenceChecker.check(evidenceJsonObject);
-
-            evidences.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(evidenceJsonObject, "id"))
-                    .approvalStatus(Json.string(evidenceJsonObject, "approvalStatus"))
-                    .evidenceType(Json.string(evidenceJsonObject, "evidenceType"))
-                    .variantOrigin(Json.nullableString(evidenceJsonObject, "variantOrigin"))
-                    .efficacyEvidence(Json.string(evidenceJsonObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(evidenceJsonObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(evidenceJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(evidenceJsonObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(evidenceJsonObject, "responseType"))
-                    .references(extractReferences(evidenceJsonObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(evidenceJsonObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(evidenceJsonObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(evidenceJsonObject, "ageGroups"))
-                    .build());
-        }
-        return evidences;
+    private List<EvidenceInfo> extractEvidence(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, TherapyDatamodelChecker.evidenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfile(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker molecularProfileChecker = TherapyDatamodelChecker.molecularProfileObjectChecker();
-        molecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfile(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, TherapyDatamodelChecker.molecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static TherapyInfo extractTherapy(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker therapyChecker = TherapyDatamodelChecker.therapyChecker();
-        therapyChecker.check(jsonObject);
-
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+    private TherapyInfo extractTherapy(@NotNull JsonReader reader) throws IOException {
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, TherapyDatamodelChecker.therapyChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static IndicationInfo extractIndication(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker indicationChecker = TherapyDatamodelChecker.indicationChecker();
-        indicationChecker.check(jsonObject);
-
-        return ImmutableIndicationInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .name(Json.string(jsonObject, "name"))
-                .source(Json.string(jsonObject, "source"))
-                .build();
+    private IndicationInfo extractIndication(@NotNull JsonReader reader) throws IOException {
+        ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+        readObject(reader, TherapyDatamodelChecker.indicationChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<ClinicalTrialInfo> extractClinicalTrials(@NotNull JsonArray jsonArray) {
-        List<ClinicalTrialInfo> clinicalTrials = Lists.newArrayList();
-        JsonDatamodelChecker clinicalTrialChecker = TherapyDatamodelChecker.clinicalTrialChecker();
-
-        for (JsonElement clinicalTrial : jsonArray) {
-            JsonObject clinicalTrialJsonObject = clinicalTrial.getAsJsonObject();
-            clinicalTrialChecker.check(clinicalTrialJsonObject);
-
-            clinicalTrials.add(ImmutableClinicalTrialInfo.builder()
-                    .nctId(Json.string(clinicalTrialJsonObject, "nctId"))
-                    .title(Json.string(clinicalTrialJsonObject, "title"))
-                    .phase(Json.nullableString(clinicalTrialJsonObject, "phase"))
-                    .recruitment(Json.string(clinicalTrialJsonObject, "recruitment"))
-                    .therapies(extractTherapyList(clinicalTrialJsonObject.getAsJsonArray("therapies")))
-                    .build());
-        }
-        return clinicalTrials;
+    private List<ClinicalTrialInfo> extractClinicalTrials(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableClinicalTrialInfo.Builder builder = ImmutableClinicalTrialInfo.builder();
+            readObject(reader, TherapyDatamodelChecker.clinicalTrialChecker(), field -> {
+                switch (field) {
+                    case "nctId":
+                        builder.nctId(JsonStream.string(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.string(reader));
+                        break;
+                    case "phase":
+                        builder.phase(JsonStream.nullableString(reader));
+                        break;
+                    case "recruitment":
+                        builder.recruitment(JsonStream.string(reader));
+                        break;
+                    case "therapies":
+                        builder.therapies(extractTherapyList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TherapyInfo> extractTherapyList(@NotNull JsonArray jsonArray) {
-        List<TherapyInfo> therapies = Lists.newArrayList();
-        JsonDatamodelChecker therapyChecker = TherapyDatamodelChecker.therapyChecker();
-
-        for (JsonElement therapy : jsonArray) {
-            JsonObject therapyJsonObject = therapy.getAsJsonObject();
-            therapyChecker.check(therapyJsonObject);
-
-            therapies.add(ImmutableTherapyInfo.builder()
-                    .id(Json.integer(therapyJsonObject, "id"))
-                    .therapyName(Json.string(therapyJsonObject, "therapyName"))
-                    .synonyms(Json.nullableStringList(therapyJsonObject, "synonyms"))
-                    .build());
-        }
-        return therapies;
+    private List<TherapyInfo> extractTherapyList(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+            readObject(reader, TherapyDatamodelChecker.therapyChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapyName":
+                        builder.therapyName(JsonStream.string(reader));
+                        break;
+                    case "synonyms":
+                        builder.synonyms(JsonStream.nullableStringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<DrugInfo> extractDrugs(@NotNull JsonArray jsonArray) {
-        List<DrugInfo> drugs = Lists.newArrayList();
-        JsonDatamodelChecker drugChecker = TherapyDatamodelChecker.drugChecker();
-
-        for (JsonElement drug : jsonArray) {
-            JsonObject drugJsonObject = drug.getAsJsonObject();
-            drugChecker.check(drugJsonObject);
-
-            drugs.add(ImmutableDrugInfo.builder()
-                    .id(Json.integer(drugJsonObject, "id"))
-                    .drugName(Json.string(drugJsonObject, "drugName"))
-                    .terms(Json.stringList(drugJsonObject, "terms"))
-                    .build());
-        }
-        return drugs;
+    private List<DrugInfo> extractDrugs(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableDrugInfo.Builder builder = ImmutableDrugInfo.builder();
+            readObject(reader, TherapyDatamodelChecker.drugChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "drugName":
+                        builder.drugName(JsonStream.string(reader));
+                        break;
+                    case "terms":
+                        builder.terms(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<GlobalApprovalStatusInfo> extractGlobalApprovalStatuses(@NotNull JsonArray jsonArray) {
-        List<GlobalApprovalStatusInfo> globalApprovalStatuses = Lists.newArrayList();
-        JsonDatamodelChecker globalApprovalStatusChecker = TherapyDatamodelChecker.globalApprovalStatusChecker();
-
-        for (JsonElement globalApprovalStatus : jsonArray) {
-            JsonObject globalApprovalStatusJsonObject = globalApprovalStatus.getAsJsonObject();
-            globalApprovalStatusChecker.check(globalApprovalStatusJsonObject);
-
-            globalApprovalStatuses.add(ImmutableGlobalApprovalStatusInfo.builder()
-                    .id(Json.integer(globalApprovalStatusJsonObject, "id"))
-                    .therapy(extractTherapy(globalApprovalStatusJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(globalApprovalStatusJsonObject.getAsJsonObject("indication")))
-                    .molecularProfile(extractMolecularProfile(globalApprovalStatusJsonObject.getAsJsonObject("molecularProfile")))
-                    .approvalAuthority(Json.string(globalApprovalStatusJsonObject, "approvalAuthority"))
-                    .approvalStatus(Json.string(globalApprovalStatusJsonObject, "approvalStatus"))
-                    .build());
-        }
-        return globalApprovalStatuses;
+    private List<GlobalApprovalStatusInfo> extractGlobalApprovalStatuses(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableGlobalApprovalStatusInfo.Builder builder = ImmutableGlobalApprovalStatusInfo.builder();
+            readObject(reader, TherapyDatamodelChecker.globalApprovalStatusChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "approvalAuthority":
+                        builder.approvalAuthority(JsonStream.string(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 }
\ No newline at end of file
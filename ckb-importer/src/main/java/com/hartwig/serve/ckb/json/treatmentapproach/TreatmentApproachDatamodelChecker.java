@@ -9,11 +9,40 @@ import org.jetbrains.annotations.NotNull;
 
 final class TreatmentApproachDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker TREATMENT_APPROACH_OBJECT_CHECKER = createTreatmentApproachObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker DRUG_CLASS_OBJECT_CHECKER = createDrugClassObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_OBJECT_CHECKER = createTherapyObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker REFERENCE_OBJECT_CHECKER = createReferenceObjectChecker();
+
     private TreatmentApproachDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker treatmentApproachObjectChecker() {
+        return TREATMENT_APPROACH_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker drugClassObjectChecker() {
+        return DRUG_CLASS_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker therapyObjectChecker() {
+        return THERAPY_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker referenceObjectChecker() {
+        return REFERENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createTreatmentApproachObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -28,7 +57,7 @@ final class TreatmentApproachDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker drugClassObjectChecker() {
+    private static JsonDatamodelChecker createDrugClassObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("drugClass", true);
@@ -37,7 +66,7 @@ final class TreatmentApproachDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker therapyObjectChecker() {
+    private static JsonDatamodelChecker createTherapyObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -47,7 +76,7 @@ final class TreatmentApproachDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker referenceObjectChecker() {
+    private static JsonDatamodelChecker createReferenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
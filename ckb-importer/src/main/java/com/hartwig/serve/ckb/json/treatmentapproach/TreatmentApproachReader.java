@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.treatmentapproach;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.DrugClassInfo;
 import com.hartwig.serve.ckb.json.common.ImmutableDrugClassInfo;
@@ -14,75 +12,124 @@ import com.hartwig.serve.ckb.json.common.ImmutableTherapyInfo;
 import com.hartwig.serve.ckb.json.common.ReferenceInfo;
 import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.util.DateConverter;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class TreatmentApproachReader extends CkbJsonDirectoryReader<JsonTreatmentApproach> {
 
-    public TreatmentApproachReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public TreatmentApproachReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonTreatmentApproach read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker treatmentApproachObjectChecker = TreatmentApproachDatamodelChecker.treatmentApproachObjectChecker();
-        treatmentApproachObjectChecker.check(object);
-
-        return ImmutableJsonTreatmentApproach.builder()
-                .id(Json.integer(object, "id"))
-                .name(Json.string(object, "name"))
-                .profileName(Json.string(object, "profileName"))
-                .drugClass(object.has("drugClass") && !object.get("drugClass").isJsonNull() ? extractDrugClass(object.getAsJsonObject(
-                        "drugClass")) : null)
-                .therapy(object.has("therapy") && !object.get("therapy").isJsonNull()
-                        ? extractTherapy(object.getAsJsonObject("therapy"))
-                        : null)
-                .references(extractReferences(object.getAsJsonArray("references")))
-                .createDate(DateConverter.toDate(Json.string(object, "createDate")))
-                .updateDate(DateConverter.toDate(Json.string(object, "updateDate")))
-                .build();
+    protected JsonTreatmentApproach read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonTreatmentApproach.Builder builder = ImmutableJsonTreatmentApproach.builder();
+        readObject(reader, TreatmentApproachDatamodelChecker.treatmentApproachObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                case "drugClass":
+                    builder.drugClass(extractDrugClass(reader));
+                    break;
+                case "therapy":
+                    builder.therapy(extractTherapy(reader));
+                    break;
+                case "references":
+                    builder.references(extractReferences(reader));
+                    break;
+                case "createDate":
+                    builder.createDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "updateDate":
+                    builder.updateDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
-    @NotNull
-    private static DrugClassInfo extractDrugClass(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker drugClassObjectChecker = TreatmentApproachDatamodelChecker.drugClassObjectChecker();
-        drugClassObjectChecker.check(jsonObject);
+    @Nullable
+    private DrugClassInfo extractDrugClass(@NotNull JsonReader reader) throws IOException {
+        if (JsonStream.isNull(reader)) {
+            return null;
+        }
 
-        return ImmutableDrugClassInfo.builder().id(Json.integer(jsonObject, "id")).drugClass(Json.string(jsonObject, "drugClass")).build();
+        ImmutableDrugClassInfo.Builder builder = ImmutableDrugClassInfo.builder();
+        readObject(reader, TreatmentApproachDatamodelChecker.drugClassObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "drugClass":
+                    builder.drugClass(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
-    @NotNull
-    private static TherapyInfo extractTherapy(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker therapyObjectChecker = TreatmentApproachDatamodelChecker.therapyObjectChecker();
-        therapyObjectChecker.check(jsonObject);
+    @Nullable
+    private TherapyInfo extractTherapy(@NotNull JsonReader reader) throws IOException {
+        if (JsonStream.isNull(reader)) {
+            return null;
+        }
 
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, TreatmentApproachDatamodelChecker.therapyObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<ReferenceInfo> extractReferences(@NotNull JsonArray jsonArray) {
-        List<ReferenceInfo> references = Lists.newArrayList();
-        JsonDatamodelChecker referenceObjectChecker = TreatmentApproachDatamodelChecker.referenceObjectChecker();
-
-        for (JsonElement reference : jsonArray) {
-            JsonObject referenceJsonObject = reference.getAsJsonObject();
-            referenceObjectChecker.check(referenceJsonObject);
-
-            references.add(ImmutableReferenceInfo.builder()
-                    .id(Json.integer(referenceJsonObject, "id"))
-                    .pubMedId(Json.nullableString(referenceJsonObject, "pubMedId"))
-                    .title(Json.string(referenceJsonObject, "title"))
-                    .url(Json.nullableString(referenceJsonObject, "url"))
-                    .build());
-        }
-        return references;
+    private List<ReferenceInfo> extractReferences(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableReferenceInfo.Builder builder = ImmutableReferenceInfo.builder();
+            readObject(reader, TreatmentApproachDatamodelChecker.referenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "pubMedId":
+                        builder.pubMedId(JsonStream.nullableString(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.string(reader));
+                        break;
+                    case "url":
+                        builder.url(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 }
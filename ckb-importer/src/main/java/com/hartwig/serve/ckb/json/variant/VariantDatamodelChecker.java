@@ -9,11 +9,125 @@ import org.jetbrains.annotations.NotNull;
 
 final class VariantDatamodelChecker {
 
+    @NotNull
+    private static final JsonDatamodelChecker VARIANT_OBJECT_CHECKER = createVariantObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker GENE_VARIANT_DESCRIPTION_OBJECT_CHECKER = createGeneVariantDescriptionObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker REFERENCE_OBJECT_CHECKER = createReferenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker GENE_OBJECT_CHECKER = createGeneObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker REFERENCE_TRANSCRIPT_COORDINATE_OBJECT_CHECKER =
+            createReferenceTranscriptCoordinateObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker PARTNER_GENE_OBJECT_CHECKER = createPartnerGeneObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker CATEGORY_VARIANT_PATH_OBJECT_CHECKER = createCategoryVariantPathObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker VARIANT_VARIANT_OBJECT_CHECKER = createVariantVariantObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EVIDENCE_OBJECT_CHECKER = createEvidenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker MOLECULAR_PROFILE_OBJECT_CHECKER = createMolecularProfileObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker THERAPY_CHECKER = createTherapyChecker();
+    @NotNull
+    private static final JsonDatamodelChecker INDICATION_CHECKER = createIndicationChecker();
+    @NotNull
+    private static final JsonDatamodelChecker EXTENDED_EVIDENCE_OBJECT_CHECKER = createExtendedEvidenceObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker PROFILE_TREATMENT_APPROACH_OBJECT_CHECKER = createProfileTreatmentApproachObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker ALL_TRANSCRIPT_COORDINATE_OBJECT_CHECKER = createAllTranscriptCoordinateObjectChecker();
+    @NotNull
+    private static final JsonDatamodelChecker MEMBER_VARIANT_OBJECT_CHECKER = createMemberVariantObjectChecker();
+
     private VariantDatamodelChecker() {
     }
 
     @NotNull
     public static JsonDatamodelChecker variantObjectChecker() {
+        return VARIANT_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker geneVariantDescriptionObjectChecker() {
+        return GENE_VARIANT_DESCRIPTION_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker referenceObjectChecker() {
+        return REFERENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker geneObjectChecker() {
+        return GENE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker referenceTranscriptCoordinateObjectChecker() {
+        return REFERENCE_TRANSCRIPT_COORDINATE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker partnerGeneObjectChecker() {
+        return PARTNER_GENE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker categoryVariantPathObjectChecker() {
+        return CATEGORY_VARIANT_PATH_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker variantVariantObjectChecker() {
+        return VARIANT_VARIANT_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker evidenceObjectChecker() {
+        return EVIDENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+        return MOLECULAR_PROFILE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker therapyChecker() {
+        return THERAPY_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker indicationChecker() {
+        return INDICATION_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker extendedEvidenceObjectChecker() {
+        return EXTENDED_EVIDENCE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker profileTreatmentApproachObjectChecker() {
+        return PROFILE_TREATMENT_APPROACH_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker allTranscriptCoordinateObjectChecker() {
+        return ALL_TRANSCRIPT_COORDINATE_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    public static JsonDatamodelChecker memberVariantObjectChecker() {
+        return MEMBER_VARIANT_OBJECT_CHECKER;
+    }
+
+    @NotNull
+    private static JsonDatamodelChecker createVariantObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("fullName", true);
@@ -42,7 +156,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker geneVariantDescriptionObjectChecker() {
+    private static JsonDatamodelChecker createGeneVariantDescriptionObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("description", true);
         map.put("references", true);
@@ -51,7 +165,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker referenceObjectChecker() {
+    private static JsonDatamodelChecker createReferenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("pubMedId", true);
@@ -62,7 +176,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker geneObjectChecker() {
+    private static JsonDatamodelChecker createGeneObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("geneSymbol", true);
@@ -72,7 +186,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker referenceTranscriptCoordinateObjectChecker() {
+    private static JsonDatamodelChecker createReferenceTranscriptCoordinateObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("transcript", true);
@@ -86,7 +200,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker partnerGeneObjectChecker() {
+    private static JsonDatamodelChecker createPartnerGeneObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("gene", true);
 
@@ -94,7 +208,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker categoryVariantPathObjectChecker() {
+    private static JsonDatamodelChecker createCategoryVariantPathObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("variantPath", true);
         map.put("variants", true);
@@ -103,7 +217,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker variantVariantObjectChecker() {
+    private static JsonDatamodelChecker createVariantVariantObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("fullName", true);
@@ -117,7 +231,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker evidenceObjectChecker() {
+    private static JsonDatamodelChecker createEvidenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -137,7 +251,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker molecularProfileObjectChecker() {
+    private static JsonDatamodelChecker createMolecularProfileObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("profileName", true);
@@ -147,7 +261,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker therapyChecker() {
+    private static JsonDatamodelChecker createTherapyChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("therapyName", true);
@@ -157,7 +271,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker indicationChecker() {
+    private static JsonDatamodelChecker createIndicationChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -167,7 +281,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker extendedEvidenceObjectChecker() {
+    private static JsonDatamodelChecker createExtendedEvidenceObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("approvalStatus", true);
@@ -187,7 +301,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker profileTreatmentApproachObjectChecker() {
+    private static JsonDatamodelChecker createProfileTreatmentApproachObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("name", true);
@@ -197,7 +311,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker allTranscriptCoordinateObjectChecker() {
+    private static JsonDatamodelChecker createAllTranscriptCoordinateObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("transcript", true);
@@ -211,7 +325,7 @@ final class VariantDatamodelChecker {
     }
 
     @NotNull
-    public static JsonDatamodelChecker memberVariantObjectChecker() {
+    private static JsonDatamodelChecker createMemberVariantObjectChecker() {
         Map<String, Boolean> map = Maps.newHashMap();
         map.put("id", true);
         map.put("fullName", true);
@@ -1,11 +1,9 @@
 package com.hartwig.serve.ckb.json.variant;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.hartwig.serve.ckb.json.CkbJsonDirectoryReader;
 import com.hartwig.serve.ckb.json.common.DescriptionInfo;
 import com.hartwig.serve.ckb.json.common.EvidenceInfo;
@@ -26,342 +24,533 @@ import com.hartwig.serve.ckb.json.common.TherapyInfo;
 import com.hartwig.serve.ckb.json.common.TreatmentApproachInfo;
 import com.hartwig.serve.ckb.json.common.VariantInfo;
 import com.hartwig.serve.ckb.util.DateConverter;
-import com.hartwig.serve.common.json.Json;
-import com.hartwig.serve.common.json.JsonDatamodelChecker;
+import com.hartwig.serve.common.json.JsonStream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class VariantReader extends CkbJsonDirectoryReader<JsonVariant> {
 
-    public VariantReader(@Nullable final Integer maxFilesToRead) {
-        super(maxFilesToRead);
+    public VariantReader(@Nullable final Integer maxFilesToRead, boolean checkDatamodel) {
+        super(maxFilesToRead, checkDatamodel);
     }
 
     @NotNull
     @Override
-    protected JsonVariant read(@NotNull final JsonObject object) {
-        JsonDatamodelChecker variantObjectChecker = VariantDatamodelChecker.variantObjectChecker();
-        variantObjectChecker.check(object);
-
-        return ImmutableJsonVariant.builder()
-                .id(Json.integer(object, "id"))
-                .fullName(Json.string(object, "fullName"))
-                .impact(Json.nullableString(object, "impact"))
-                .proteinEffect(Json.nullableString(object, "proteinEffect"))
-                .descriptions(extractGeneDescriptions(object.getAsJsonArray("geneVariantDescriptions")))
-                .type(Json.nullableString(object, "type"))
-                .gene(extractGene(object.getAsJsonObject("gene")))
-                .variant(Json.string(object, "variant"))
-                .associatedWithDrugResistance(Json.nullableString(object, "associatedWithDrugResistance"))
-                .transformingActivity(Json.nullableString(object, "transformingActivity"))
-                .polymorphism(Json.nullableString(object, "polymorphism"))
-                .hotspotReference(Json.nullableString(object, "hotspotReference"))
-                .createDate(DateConverter.toDate(Json.string(object, "createDate")))
-                .updateDate(DateConverter.toDate(Json.string(object, "updateDate")))
-                .referenceTranscriptCoordinate(extractReferenceTranscriptCoordinate(Json.nullableObject(object,
-                        "referenceTranscriptCoordinates")))
-                .partnerGenes(extractPartnerGenes(object.getAsJsonArray("partnerGenes")))
-                .categoryVariantPaths(extractCategoryVariantPaths(object.getAsJsonArray("categoryVariantPaths")))
-                .evidence(extractEvidence(object.getAsJsonArray("evidence")))
-                .extendedEvidence(extractExtendedEvidence(object.getAsJsonArray("extendedEvidence")))
-                .molecularProfiles(extractMolecularProfiles(object.getAsJsonArray("molecularProfiles")))
-                .allTranscriptCoordinates(extractAllTranscriptCoordinates(object.getAsJsonArray("allTranscriptCoordinates")))
-                .memberVariants(extractMemberVariants(object.getAsJsonArray("memberVariants")))
-                .build();
+    protected JsonVariant read(@NotNull JsonReader reader) throws IOException {
+        ImmutableJsonVariant.Builder builder = ImmutableJsonVariant.builder();
+        readObject(reader, VariantDatamodelChecker.variantObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "fullName":
+                    builder.fullName(JsonStream.string(reader));
+                    break;
+                case "impact":
+                    builder.impact(JsonStream.nullableString(reader));
+                    break;
+                case "proteinEffect":
+                    builder.proteinEffect(JsonStream.nullableString(reader));
+                    break;
+                case "geneVariantDescriptions":
+                    builder.descriptions(extractGeneDescriptions(reader));
+                    break;
+                case "type":
+                    builder.type(JsonStream.nullableString(reader));
+                    break;
+                case "gene":
+                    builder.gene(extractGene(reader));
+                    break;
+                case "variant":
+                    builder.variant(JsonStream.string(reader));
+                    break;
+                case "associatedWithDrugResistance":
+                    builder.associatedWithDrugResistance(JsonStream.nullableString(reader));
+                    break;
+                case "transformingActivity":
+                    builder.transformingActivity(JsonStream.nullableString(reader));
+                    break;
+                case "polymorphism":
+                    builder.polymorphism(JsonStream.nullableString(reader));
+                    break;
+                case "hotspotReference":
+                    builder.hotspotReference(JsonStream.nullableString(reader));
+                    break;
+                case "createDate":
+                    builder.createDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "updateDate":
+                    builder.updateDate(DateConverter.toDate(JsonStream.string(reader)));
+                    break;
+                case "referenceTranscriptCoordinates":
+                    builder.referenceTranscriptCoordinate(extractReferenceTranscriptCoordinate(reader));
+                    break;
+                case "partnerGenes":
+                    builder.partnerGenes(extractPartnerGenes(reader));
+                    break;
+                case "categoryVariantPaths":
+                    builder.categoryVariantPaths(extractCategoryVariantPaths(reader));
+                    break;
+                case "evidence":
+                    builder.evidence(extractEvidence(reader));
+                    break;
+                case "extendedEvidence":
+                    builder.extendedEvidence(extractExtendedEvidence(reader));
+                    break;
+                case "molecularProfiles":
+                    builder.molecularProfiles(extractMolecularProfiles(reader));
+                    break;
+                case "allTranscriptCoordinates":
+                    builder.allTranscriptCoordinates(extractAllTranscriptCoordinates(reader));
+                    break;
+                case "memberVariants":
+                    builder.memberVariants(extractMemberVariants(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<DescriptionInfo> extractGeneDescriptions(@NotNull JsonArray jsonArray) {
-        List<DescriptionInfo> geneVariantDescriptions = Lists.newArrayList();
-        JsonDatamodelChecker geneVariantDescriptionObjectChecker = VariantDatamodelChecker.geneVariantDescriptionObjectChecker();
-
-        for (JsonElement geneVariantDescription : jsonArray) {
-            JsonObject geneVariantDescriptionJsonObject = geneVariantDescription.getAsJsonObject();
-            geneVariantDescriptionObjectChecker.check(geneVariantDescriptionJsonObject);
-
-            geneVariantDescriptions.add(ImmutableDescriptionInfo.builder()
-                    .description(Json.string(geneVariantDescriptionJsonObject, "description"))
-                    .references(extractReferences(geneVariantDescriptionJsonObject.getAsJsonArray("references")))
-                    .build());
-        }
-        return geneVariantDescriptions;
+    private List<DescriptionInfo> extractGeneDescriptions(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableDescriptionInfo.Builder builder = ImmutableDescriptionInfo.builder();
+            readObject(reader, VariantDatamodelChecker.geneVariantDescriptionObjectChecker(), field -> {
+                switch (field) {
+                    case "description":
+                        builder.description(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<ReferenceInfo> extractReferences(@NotNull JsonArray jsonArray) {
-        List<ReferenceInfo> references = Lists.newArrayList();
-        JsonDatamodelChecker referenceObjectChecker = VariantDatamodelChecker.referenceObjectChecker();
-
-        for (JsonElement reference : jsonArray) {
-            JsonObject referenceJsonObject = reference.getAsJsonObject();
-            referenceObjectChecker.check(referenceJsonObject);
-
-            references.add(ImmutableReferenceInfo.builder()
-                    .id(Json.integer(referenceJsonObject, "id"))
-                    .pubMedId(Json.nullableString(referenceJsonObject, "pubMedId"))
-                    .title(Json.nullableString(referenceJsonObject, "title"))
-                    .url(Json.nullableString(referenceJsonObject, "url"))
-                    .build());
-        }
-        return references;
+    private List<ReferenceInfo> extractReferences(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableReferenceInfo.Builder builder = ImmutableReferenceInfo.builder();
+            readObject(reader, VariantDatamodelChecker.referenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "pubMedId":
+                        builder.pubMedId(JsonStream.nullableString(reader));
+                        break;
+                    case "title":
+                        builder.title(JsonStream.nullableString(reader));
+                        break;
+                    case "url":
+                        builder.url(JsonStream.nullableString(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static GeneInfo extractGene(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker geneObjectChecker = VariantDatamodelChecker.geneObjectChecker();
-        geneObjectChecker.check(jsonObject);
-
-        return ImmutableGeneInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .geneSymbol(Json.string(jsonObject, "geneSymbol"))
-                .terms(Json.stringList(jsonObject, "terms"))
-                .build();
+    private GeneInfo extractGene(@NotNull JsonReader reader) throws IOException {
+        ImmutableGeneInfo.Builder builder = ImmutableGeneInfo.builder();
+        readObject(reader, VariantDatamodelChecker.geneObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "geneSymbol":
+                    builder.geneSymbol(JsonStream.string(reader));
+                    break;
+                case "terms":
+                    builder.terms(JsonStream.stringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @Nullable
-    private static JsonTranscriptCoordinate extractReferenceTranscriptCoordinate(@Nullable JsonObject jsonObject) {
-        if (jsonObject == null) {
+    private JsonTranscriptCoordinate extractReferenceTranscriptCoordinate(@NotNull JsonReader reader) throws IOException {
+        if (JsonStream.isNull(reader)) {
             return null;
         }
 
-        JsonDatamodelChecker referenceTranscriptCoordinateObjectChecker =
-                VariantDatamodelChecker.referenceTranscriptCoordinateObjectChecker();
-        referenceTranscriptCoordinateObjectChecker.check(jsonObject);
-
-        return ImmutableJsonTranscriptCoordinate.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .transcript(Json.string(jsonObject, "transcript"))
-                .gDNA(Json.string(jsonObject, "gDna"))
-                .cDNA(Json.string(jsonObject, "cDna"))
-                .protein(Json.string(jsonObject, "protein"))
-                .sourceDB(Json.string(jsonObject, "sourceDb"))
-                .refGenomeBuild(Json.string(jsonObject, "refGenomeBuild"))
-                .build();
+        ImmutableJsonTranscriptCoordinate.Builder builder = ImmutableJsonTranscriptCoordinate.builder();
+        readObject(reader, VariantDatamodelChecker.referenceTranscriptCoordinateObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "transcript":
+                    builder.transcript(JsonStream.string(reader));
+                    break;
+                case "gDna":
+                    builder.gDNA(JsonStream.string(reader));
+                    break;
+                case "cDna":
+                    builder.cDNA(JsonStream.string(reader));
+                    break;
+                case "protein":
+                    builder.protein(JsonStream.string(reader));
+                    break;
+                case "sourceDb":
+                    builder.sourceDB(JsonStream.string(reader));
+                    break;
+                case "refGenomeBuild":
+                    builder.refGenomeBuild(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<JsonVariantPartnerGene> extractPartnerGenes(@NotNull JsonArray jsonArray) {
-        List<JsonVariantPartnerGene> partnerGenes = Lists.newArrayList();
-        JsonDatamodelChecker partnerGeneObjectChecker = VariantDatamodelChecker.partnerGeneObjectChecker();
-
-        for (JsonElement partnerGene : jsonArray) {
-            JsonObject partnerGenePathJsonObject = partnerGene.getAsJsonObject();
-            partnerGeneObjectChecker.check(partnerGenePathJsonObject);
-
-            partnerGenes.add(ImmutableJsonVariantPartnerGene.builder()
-                    .gene(extractGene(partnerGenePathJsonObject.getAsJsonObject("gene")))
-                    .build());
-        }
-
-        return partnerGenes;
+    private List<JsonVariantPartnerGene> extractPartnerGenes(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableJsonVariantPartnerGene.Builder builder = ImmutableJsonVariantPartnerGene.builder();
+            readObject(reader, VariantDatamodelChecker.partnerGeneObjectChecker(), field -> {
+                switch (field) {
+                    case "gene":
+                        builder.gene(extractGene(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<JsonCategoryVariantPath> extractCategoryVariantPaths(@NotNull JsonArray jsonArray) {
-        List<JsonCategoryVariantPath> categoryVariantPaths = Lists.newArrayList();
-        JsonDatamodelChecker categoryVariantPathObjectChecker = VariantDatamodelChecker.categoryVariantPathObjectChecker();
-
-        for (JsonElement categoryVariantPath : jsonArray) {
-            JsonObject categoryVariantPathJsonObject = categoryVariantPath.getAsJsonObject();
-            categoryVariantPathObjectChecker.check(categoryVariantPathJsonObject);
-
-            categoryVariantPaths.add(ImmutableJsonCategoryVariantPath.builder()
-                    .variantPath(Json.string(categoryVariantPathJsonObject, "variantPath"))
-                    .variants(extractVariants(categoryVariantPathJsonObject.getAsJsonArray("variants")))
-                    .build());
-        }
-
-        return categoryVariantPaths;
+    private List<JsonCategoryVariantPath> extractCategoryVariantPaths(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableJsonCategoryVariantPath.Builder builder = ImmutableJsonCategoryVariantPath.builder();
+            readObject(reader, VariantDatamodelChecker.categoryVariantPathObjectChecker(), field -> {
+                switch (field) {
+                    case "variantPath":
+                        builder.variantPath(JsonStream.string(reader));
+                        break;
+                    case "variants":
+                        builder.variants(extractVariants(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<VariantInfo> extractVariants(@NotNull JsonArray jsonArray) {
-        List<VariantInfo> variants = Lists.newArrayList();
-        JsonDatamodelChecker variantObjectChecker = VariantDatamodelChecker.variantVariantObjectChecker();
-
-        for (JsonElement variant : jsonArray) {
-            JsonObject variantJsonObject = variant.getAsJsonObject();
-            variantObjectChecker.check(variantJsonObject);
-
-            variants.add(ImmutableVariantInfo.builder()
-                    .id(Json.integer(variantJsonObject, "id"))
-                    .fullName(Json.string(variantJsonObject, "fullName"))
-                    .impact(Json.string(variantJsonObject, "impact"))
-                    .proteinEffect(Json.string(variantJsonObject, "proteinEffect"))
-                    .build());
-        }
-        return variants;
+    private List<VariantInfo> extractVariants(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableVariantInfo.Builder builder = ImmutableVariantInfo.builder();
+            readObject(reader, VariantDatamodelChecker.variantVariantObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "fullName":
+                        builder.fullName(JsonStream.string(reader));
+                        break;
+                    case "impact":
+                        builder.impact(JsonStream.string(reader));
+                        break;
+                    case "proteinEffect":
+                        builder.proteinEffect(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractEvidence(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> evidences = Lists.newArrayList();
-        JsonDatamodelChecker evidenceChecker = VariantDatamodelChecker.evidenceObjectChecker();
-
-        for (JsonElement evidence : jsonArray) {
-            JsonObject evidenceJsonObject = evidence.getAsJsonObject();
-            evidenceChecker.check(evidenceJsonObject);
-
-            evidences.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(evidenceJsonObject, "id"))
-                    .approvalStatus(Json.string(evidenceJsonObject, "approvalStatus"))
-                    .evidenceType(Json.string(evidenceJsonObject, "evidenceType"))
-                    .variantOrigin(Json.nullableString(evidenceJsonObject, "variantOrigin"))
-                    .efficacyEvidence(Json.string(evidenceJsonObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(evidenceJsonObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(evidenceJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(evidenceJsonObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(evidenceJsonObject, "responseType"))
-                    .references(extractReferences(evidenceJsonObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(evidenceJsonObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(evidenceJsonObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(evidenceJsonObject, "ageGroups"))
-                    .build());
-        }
-        return evidences;
+    private List<EvidenceInfo> extractEvidence(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, VariantDatamodelChecker.evidenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "variantOrigin":
+                        builder.variantOrigin(JsonStream.nullableString(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static MolecularProfileInfo extractMolecularProfile(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker molecularProfileChecker = VariantDatamodelChecker.molecularProfileObjectChecker();
-        molecularProfileChecker.check(jsonObject);
-
-        return ImmutableMolecularProfileInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .profileName(Json.string(jsonObject, "profileName"))
-                .build();
+    private MolecularProfileInfo extractMolecularProfile(@NotNull JsonReader reader) throws IOException {
+        ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+        readObject(reader, VariantDatamodelChecker.molecularProfileObjectChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "profileName":
+                    builder.profileName(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static TherapyInfo extractTherapy(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker therapyChecker = VariantDatamodelChecker.therapyChecker();
-        therapyChecker.check(jsonObject);
-
-        return ImmutableTherapyInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .therapyName(Json.string(jsonObject, "therapyName"))
-                .synonyms(Json.nullableStringList(jsonObject, "synonyms"))
-                .build();
+    private TherapyInfo extractTherapy(@NotNull JsonReader reader) throws IOException {
+        ImmutableTherapyInfo.Builder builder = ImmutableTherapyInfo.builder();
+        readObject(reader, VariantDatamodelChecker.therapyChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "therapyName":
+                    builder.therapyName(JsonStream.string(reader));
+                    break;
+                case "synonyms":
+                    builder.synonyms(JsonStream.nullableStringList(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static IndicationInfo extractIndication(@NotNull JsonObject jsonObject) {
-        JsonDatamodelChecker indicationChecker = VariantDatamodelChecker.indicationChecker();
-        indicationChecker.check(jsonObject);
-
-        return ImmutableIndicationInfo.builder()
-                .id(Json.integer(jsonObject, "id"))
-                .name(Json.string(jsonObject, "name"))
-                .source(Json.string(jsonObject, "source"))
-                .build();
+    private IndicationInfo extractIndication(@NotNull JsonReader reader) throws IOException {
+        ImmutableIndicationInfo.Builder builder = ImmutableIndicationInfo.builder();
+        readObject(reader, VariantDatamodelChecker.indicationChecker(), field -> {
+            switch (field) {
+                case "id":
+                    builder.id(JsonStream.integer(reader));
+                    break;
+                case "name":
+                    builder.name(JsonStream.string(reader));
+                    break;
+                case "source":
+                    builder.source(JsonStream.string(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        });
+        return builder.build();
     }
 
     @NotNull
-    private static List<EvidenceInfo> extractExtendedEvidence(@NotNull JsonArray jsonArray) {
-        List<EvidenceInfo> extendedEvidences = Lists.newArrayList();
-        JsonDatamodelChecker extendedEvidenceChecker = VariantDatamodelChecker.extendedEvidenceObjectChecker();
-
-        for (JsonElement extendedEvidence : jsonArray) {
-            JsonObject extendedEvidenceJsonObject = extendedEvidence.getAsJsonObject();
-            extendedEvidenceChecker.check(extendedEvidenceJsonObject);
-
-            extendedEvidences.add(ImmutableEvidenceInfo.builder()
-                    .id(Json.integer(extendedEvidenceJsonObject, "id"))
-                    .approvalStatus(Json.string(extendedEvidenceJsonObject, "approvalStatus"))
-                    .evidenceType(Json.string(extendedEvidenceJsonObject, "evidenceType"))
-                    .efficacyEvidence(Json.string(extendedEvidenceJsonObject, "efficacyEvidence"))
-                    .molecularProfile(extractMolecularProfile(extendedEvidenceJsonObject.getAsJsonObject("molecularProfile")))
-                    .therapy(extractTherapy(extendedEvidenceJsonObject.getAsJsonObject("therapy")))
-                    .indication(extractIndication(extendedEvidenceJsonObject.getAsJsonObject("indication")))
-                    .responseType(Json.string(extendedEvidenceJsonObject, "responseType"))
-                    .references(extractReferences(extendedEvidenceJsonObject.getAsJsonArray("references")))
-                    .ampCapAscoEvidenceLevel(Json.string(extendedEvidenceJsonObject, "ampCapAscoEvidenceLevel"))
-                    .ampCapAscoInferredTier(Json.string(extendedEvidenceJsonObject, "ampCapAscoInferredTier"))
-                    .ageGroups(Json.stringList(extendedEvidenceJsonObject, "ageGroups"))
-                    .build());
-        }
-        return extendedEvidences;
+    private List<EvidenceInfo> extractExtendedEvidence(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableEvidenceInfo.Builder builder = ImmutableEvidenceInfo.builder();
+            readObject(reader, VariantDatamodelChecker.extendedEvidenceObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "approvalStatus":
+                        builder.approvalStatus(JsonStream.string(reader));
+                        break;
+                    case "evidenceType":
+                        builder.evidenceType(JsonStream.string(reader));
+                        break;
+                    case "efficacyEvidence":
+                        builder.efficacyEvidence(JsonStream.string(reader));
+                        break;
+                    case "molecularProfile":
+                        builder.molecularProfile(extractMolecularProfile(reader));
+                        break;
+                    case "therapy":
+                        builder.therapy(extractTherapy(reader));
+                        break;
+                    case "indication":
+                        builder.indication(extractIndication(reader));
+                        break;
+                    case "responseType":
+                        builder.responseType(JsonStream.string(reader));
+                        break;
+                    case "references":
+                        builder.references(extractReferences(reader));
+                        break;
+                    case "ampCapAscoEvidenceLevel":
+                        builder.ampCapAscoEvidenceLevel(JsonStream.string(reader));
+                        break;
+                    case "ampCapAscoInferredTier":
+                        builder.ampCapAscoInferredTier(JsonStream.string(reader));
+                        break;
+                    case "ageGroups":
+                        builder.ageGroups(JsonStream.stringList(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<MolecularProfileInfo> extractMolecularProfiles(@NotNull JsonArray jsonArray) {
-        List<MolecularProfileInfo> molecularProfiles = Lists.newArrayList();
-        JsonDatamodelChecker molecularProfileChecker = VariantDatamodelChecker.molecularProfileObjectChecker();
-
-        for (JsonElement molecularProfile : jsonArray) {
-            JsonObject molecularProfileJsonObject = molecularProfile.getAsJsonObject();
-            molecularProfileChecker.check(molecularProfileJsonObject);
-            molecularProfiles.add(ImmutableMolecularProfileInfo.builder()
-                    .id(Json.integer(molecularProfileJsonObject, "id"))
-                    .profileName(Json.string(molecularProfileJsonObject, "profileName"))
-                    .treatmentApproaches(extractProfileTreatmentApproaches(molecularProfileJsonObject.getAsJsonArray(
-                            "profileTreatmentApproaches")))
-                    .build());
-        }
-
-        return molecularProfiles;
+    private List<MolecularProfileInfo> extractMolecularProfiles(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableMolecularProfileInfo.Builder builder = ImmutableMolecularProfileInfo.builder();
+            readObject(reader, VariantDatamodelChecker.molecularProfileObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "profileName":
+                        builder.profileName(JsonStream.string(reader));
+                        break;
+                    case "profileTreatmentApproaches":
+                        builder.treatmentApproaches(extractProfileTreatmentApproaches(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<TreatmentApproachInfo> extractProfileTreatmentApproaches(@NotNull JsonArray jsonArray) {
-        List<TreatmentApproachInfo> profileTreatmentApproaches = Lists.newArrayList();
-        JsonDatamodelChecker profileTreatmentApproachChecker = VariantDatamodelChecker.profileTreatmentApproachObjectChecker();
-
-        for (JsonElement profileTreatmentApproach : jsonArray) {
-            JsonObject profileTreatmentApproachJsonObject = profileTreatmentApproach.getAsJsonObject();
-            profileTreatmentApproachChecker.check(profileTreatmentApproachJsonObject);
-
-            profileTreatmentApproaches.add(ImmutableTreatmentApproachInfo.builder()
-                    .id(Json.integer(profileTreatmentApproachJsonObject, "id"))
-                    .name(Json.string(profileTreatmentApproachJsonObject, "name"))
-                    .profileName(Json.string(profileTreatmentApproachJsonObject, "profileName"))
-                    .build());
-        }
-
-        return profileTreatmentApproaches;
+    private List<TreatmentApproachInfo> extractProfileTreatmentApproaches(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableTreatmentApproachInfo.Builder builder = ImmutableTreatmentApproachInfo.builder();
+            readObject(reader, VariantDatamodelChecker.profileTreatmentApproachObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "name":
+                        builder.name(JsonStream.string(reader));
+                        break;
+                    case "profileName":
+                        builder.profileName(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<JsonTranscriptCoordinate> extractAllTranscriptCoordinates(@NotNull JsonArray jsonArray) {
-        List<JsonTranscriptCoordinate> allTranscriptCoordinates = Lists.newArrayList();
-        JsonDatamodelChecker allTranscriptCoordinateChecker = VariantDatamodelChecker.allTranscriptCoordinateObjectChecker();
-
-        for (JsonElement allTranscriptCoordinate : jsonArray) {
-            JsonObject allTranscriptCoordinatesJsonObject = allTranscriptCoordinate.getAsJsonObject();
-            allTranscriptCoordinateChecker.check(allTranscriptCoordinatesJsonObject);
-
-            allTranscriptCoordinates.add(ImmutableJsonTranscriptCoordinate.builder()
-                    .id(Json.integer(allTranscriptCoordinatesJsonObject, "id"))
-                    .transcript(Json.string(allTranscriptCoordinatesJsonObject, "transcript"))
-                    .gDNA(Json.string(allTranscriptCoordinatesJsonObject, "gDna"))
-                    .cDNA(Json.string(allTranscriptCoordinatesJsonObject, "cDna"))
-                    .protein(Json.string(allTranscriptCoordinatesJsonObject, "protein"))
-                    .sourceDB(Json.string(allTranscriptCoordinatesJsonObject, "sourceDb"))
-                    .refGenomeBuild(Json.string(allTranscriptCoordinatesJsonObject, "refGenomeBuild"))
-                    .build());
-        }
-
-        return allTranscriptCoordinates;
+    private List<JsonTranscriptCoordinate> extractAllTranscriptCoordinates(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableJsonTranscriptCoordinate.Builder builder = ImmutableJsonTranscriptCoordinate.builder();
+            readObject(reader, VariantDatamodelChecker.allTranscriptCoordinateObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "transcript":
+                        builder.transcript(JsonStream.string(reader));
+                        break;
+                    case "gDna":
+                        builder.gDNA(JsonStream.string(reader));
+                        break;
+                    case "cDna":
+                        builder.cDNA(JsonStream.string(reader));
+                        break;
+                    case "protein":
+                        builder.protein(JsonStream.string(reader));
+                        break;
+                    case "sourceDb":
+                        builder.sourceDB(JsonStream.string(reader));
+                        break;
+                    case "refGenomeBuild":
+                        builder.refGenomeBuild(JsonStream.string(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 
     @NotNull
-    private static List<VariantInfo> extractMemberVariants(@NotNull JsonArray jsonArray) {
-        List<VariantInfo> memberVariants = Lists.newArrayList();
-        JsonDatamodelChecker memberVariantChecker = VariantDatamodelChecker.memberVariantObjectChecker();
-
-        for (JsonElement memberVariant : jsonArray) {
-            JsonObject memberVariantObject = memberVariant.getAsJsonObject();
-            memberVariantChecker.check(memberVariantObject);
-
-            memberVariants.add(ImmutableVariantInfo.builder()
-                    .id(Json.integer(memberVariantObject, "id"))
-                    .fullName(Json.string(memberVariantObject, "fullName"))
-                    .impact(Json.string(memberVariantObject, "impact"))
-                    .proteinEffect(Json.string(memberVariantObject, "proteinEffect"))
-                    .descriptions(extractGeneDescriptions(memberVariantObject.getAsJsonArray("geneVariantDescriptions")))
-                    .build());
-        }
-        return memberVariants;
+    private List<VariantInfo> extractMemberVariants(@NotNull JsonReader reader) throws IOException {
+        return readArray(reader, () -> {
+            ImmutableVariantInfo.Builder builder = ImmutableVariantInfo.builder();
+            readObject(reader, VariantDatamodelChecker.memberVariantObjectChecker(), field -> {
+                switch (field) {
+                    case "id":
+                        builder.id(JsonStream.integer(reader));
+                        break;
+                    case "fullName":
+                        builder.fullName(JsonStream.string(reader));
+                        break;
+                    case "impact":
+                        builder.impact(JsonStream.string(reader));
+                        break;
+                    case "proteinEffect":
+                        builder.proteinEffect(JsonStream.string(reader));
+                        break;
+                    case "geneVariantDescriptions":
+                        builder.descriptions(extractGeneDescriptions(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            });
+            return builder.build();
+        });
     }
 }
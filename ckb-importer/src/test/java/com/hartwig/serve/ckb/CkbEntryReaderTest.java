@@ -1,19 +1,43 @@
 package com.hartwig.serve.ckb;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.IOException;
+import java.util.List;
 
 import com.google.common.io.Resources;
+import com.hartwig.serve.ckb.datamodel.CkbEntry;
+import com.hartwig.serve.ckb.datamodel.variant.Variant;
 
 import org.junit.Test;
 
 public class CkbEntryReaderTest {
 
     private static final String CKB_DIR = Resources.getResource("ckb").getPath();
+    private static final String CKB_VARIANTS_DIR = Resources.getResource("ckb_variants").getPath();
 
     @Test
     public void canReadFromTestDir() throws IOException {
         assertNotNull(CkbEntryReader.read(CKB_DIR));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void skippingDatamodelCheckDoesNotAffectEntries() throws IOException {
+        assertEquals(CkbEntryReader.read(CKB_DIR, true), CkbEntryReader.read(CKB_DIR, false));
+    }
+
+    @Test
+    public void canReadVariantsOfMolecularProfiles() throws IOException {
+        List<CkbEntry> entries = CkbEntryReader.read(CKB_VARIANTS_DIR, false);
+        assertEquals(87, entries.size());
+
+        CkbEntry entry = entries.stream().filter(candidate -> candidate.profileId() == 8).findFirst().orElseThrow();
+        assertEquals(1, entry.variants().size());
+
+        Variant variant = entry.variants().get(0);
+        assertEquals("KIAA1549 - BRAF", variant.variant());
+        assertEquals("fusion", variant.impact());
+        assertEquals("BRAF", variant.gene().geneSymbol());
+    }
+}
@@ -0,0 +1,65 @@
+package com.hartwig.serve.ckb.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.hartwig.serve.ckb.datamodel.CkbEntry;
+import com.hartwig.serve.ckb.datamodel.ImmutableCkbEntry;
+
+import org.apache.logging.log4j.util.Strings;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class CkbEntryDeltaFactoryTest {
+
+    private static final LocalDate PREVIOUS_DATE = LocalDate.of(2021, 2, 20);
+    private static final LocalDate CURRENT_DATE = LocalDate.of(2021, 3, 20);
+
+    @Test
+    public void canDetermineDeltaBetweenStoredAndIncomingEntries() {
+        Map<Integer, LocalDate> storedUpdateDatePerProfileId = Maps.newHashMap();
+        storedUpdateDatePerProfileId.put(1, PREVIOUS_DATE);
+        storedUpdateDatePerProfileId.put(2, PREVIOUS_DATE);
+        storedUpdateDatePerProfileId.put(3, PREVIOUS_DATE);
+
+        CkbEntry unchanged = createEntry(1, PREVIOUS_DATE);
+        CkbEntry changed = createEntry(2, CURRENT_DATE);
+        CkbEntry added = createEntry(4, CURRENT_DATE);
+
+        CkbEntryDelta delta = CkbEntryDeltaFactory.create(storedUpdateDatePerProfileId, Lists.newArrayList(unchanged, changed, added));
+
+        assertEquals(Lists.newArrayList(added), delta.addedEntries());
+        assertEquals(Lists.newArrayList(changed), delta.changedEntries());
+        assertEquals(Sets.newHashSet(3), delta.removedProfileIds());
+        assertEquals(1, delta.unchangedEntryCount());
+    }
+
+    @Test
+    public void considersAllEntriesAddedForEmptyDatabase() {
+        List<CkbEntry> entries = Lists.newArrayList(createEntry(1, CURRENT_DATE), createEntry(2, CURRENT_DATE));
+
+        CkbEntryDelta delta = CkbEntryDeltaFactory.create(Maps.newHashMap(), entries);
+
+        assertEquals(entries, delta.addedEntries());
+        assertTrue(delta.changedEntries().isEmpty());
+        assertTrue(delta.removedProfileIds().isEmpty());
+        assertEquals(0, delta.unchangedEntryCount());
+    }
+
+    @NotNull
+    private static CkbEntry createEntry(int profileId, @NotNull LocalDate updateDate) {
+        return ImmutableCkbEntry.builder()
+                .profileId(profileId)
+                .createDate(PREVIOUS_DATE)
+                .updateDate(updateDate)
+                .profileName(Strings.EMPTY)
+                .build();
+    }
+}
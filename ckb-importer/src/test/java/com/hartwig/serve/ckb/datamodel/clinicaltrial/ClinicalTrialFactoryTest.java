@@ -0,0 +1,50 @@
+package com.hartwig.serve.ckb.datamodel.clinicaltrial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.io.Resources;
+import com.hartwig.serve.ckb.datamodel.drug.DrugFactory;
+import com.hartwig.serve.ckb.datamodel.indication.IndicationFactory;
+import com.hartwig.serve.ckb.datamodel.therapy.Therapy;
+import com.hartwig.serve.ckb.datamodel.therapy.TherapyFactory;
+import com.hartwig.serve.ckb.json.CkbJsonDatabase;
+import com.hartwig.serve.ckb.json.CkbJsonReader;
+import com.hartwig.serve.ckb.json.clinicaltrial.JsonClinicalTrial;
+import com.hartwig.serve.ckb.json.common.ClinicalTrialInfo;
+import com.hartwig.serve.ckb.json.common.ImmutableClinicalTrialInfo;
+
+import org.junit.Test;
+
+public class ClinicalTrialFactoryTest {
+
+    private static final String CKB_DIR = Resources.getResource("ckb").getPath();
+
+    @Test
+    public void sharesResolvedClinicalTrialsAndTherapies() throws IOException {
+        CkbJsonDatabase database = CkbJsonReader.read(CKB_DIR);
+        TherapyFactory therapyFactory = new TherapyFactory(database, new DrugFactory(database));
+        ClinicalTrialFactory clinicalTrialFactory = new ClinicalTrialFactory(database, therapyFactory, new IndicationFactory(database));
+
+        JsonClinicalTrial jsonClinicalTrial = database.clinicalTrials().get(0);
+        ClinicalTrialInfo clinicalTrialInfo = ImmutableClinicalTrialInfo.builder()
+                .nctId(jsonClinicalTrial.nctId())
+                .title(jsonClinicalTrial.title())
+                .phase(jsonClinicalTrial.phase())
+                .recruitment(jsonClinicalTrial.recruitment())
+                .therapies(jsonClinicalTrial.therapies())
+                .build();
+
+        List<ClinicalTrial> first = clinicalTrialFactory.extractClinicalTrials(List.of(clinicalTrialInfo));
+        List<ClinicalTrial> second = clinicalTrialFactory.extractClinicalTrials(List.of(clinicalTrialInfo));
+        assertEquals(1, first.size());
+        assertSame(first.get(0), second.get(0));
+
+        // Therapies of clinical trials are the same instances as the ones resolved for evidences.
+        Therapy therapy = first.get(0).therapies().get(0);
+        assertSame(therapy, therapyFactory.resolveTherapy(jsonClinicalTrial.therapies().get(0)));
+    }
+}
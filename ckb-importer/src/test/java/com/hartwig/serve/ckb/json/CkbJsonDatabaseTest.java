@@ -0,0 +1,48 @@
+package com.hartwig.serve.ckb.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+
+import com.google.common.io.Resources;
+import com.hartwig.serve.ckb.json.therapy.ImmutableJsonTherapy;
+import com.hartwig.serve.ckb.json.therapy.JsonTherapy;
+
+import org.junit.Test;
+
+public class CkbJsonDatabaseTest {
+
+    private static final String CKB_DIR = Resources.getResource("ckb").getPath();
+
+    @Test
+    public void canIndexTestResourcesById() throws IOException {
+        CkbJsonDatabase database = CkbJsonReader.read(CKB_DIR);
+
+        assertSame(database.variants().get(0), database.variantsById().get(database.variants().get(0).id()));
+        assertSame(database.genes().get(0), database.genesById().get(database.genes().get(0).id()));
+        assertSame(database.indications().get(0), database.indicationsById().get(database.indications().get(0).id()));
+        assertSame(database.treatmentApproaches().get(0),
+                database.treatmentApproachesById().get(database.treatmentApproaches().get(0).id()));
+        assertSame(database.therapies().get(0), database.therapiesById().get(database.therapies().get(0).id()));
+        assertSame(database.drugs().get(0), database.drugsById().get(database.drugs().get(0).id()));
+        assertSame(database.drugClasses().get(0), database.drugClassesById().get(database.drugClasses().get(0).id()));
+        assertSame(database.clinicalTrials().get(0), database.clinicalTrialsByNctId().get(database.clinicalTrials().get(0).nctId()));
+        assertSame(database.references().get(0), database.referencesById().get(database.references().get(0).id()));
+
+        assertNull(database.therapiesById().get(-1));
+    }
+
+    @Test
+    public void keepsFirstObjectForDuplicateIds() throws IOException {
+        CkbJsonDatabase testDatabase = CkbJsonReader.read(CKB_DIR);
+        JsonTherapy first = testDatabase.therapies().get(0);
+        JsonTherapy duplicate = ImmutableJsonTherapy.builder().from(first).therapyName("duplicate").build();
+
+        CkbJsonDatabase database = ImmutableCkbJsonDatabase.builder().from(testDatabase).addTherapies(duplicate).build();
+
+        assertEquals(1, database.therapiesById().size());
+        assertSame(first, database.therapiesById().get(first.id()));
+    }
+}
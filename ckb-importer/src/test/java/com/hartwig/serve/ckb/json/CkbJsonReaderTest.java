@@ -0,0 +1,55 @@
+package com.hartwig.serve.ckb.json;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.Resources;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class CkbJsonReaderTest {
+
+    // Every key of every CKB type is populated with a unique value, including keys that are known to the datamodel but not read.
+    private static final String CKB_COMPLETE_DIR = Resources.getResource("ckb_complete").getPath();
+
+    // One entry per line, as read from CKB_COMPLETE_DIR by the json tree based readers that the token based readers replaced.
+    private static final String CKB_COMPLETE_EXPECTED = "ckb_complete_expected.txt";
+
+    @Test
+    public void canReadEveryFieldOfAllCkbTypes() throws IOException {
+        List<String> expected = Resources.readLines(Resources.getResource(CKB_COMPLETE_EXPECTED), StandardCharsets.UTF_8);
+        List<String> actual = toLines(CkbJsonReader.read(CKB_COMPLETE_DIR));
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @NotNull
+    private static List<String> toLines(@NotNull CkbJsonDatabase database) {
+        List<Object> entries = Lists.newArrayList();
+        entries.addAll(database.molecularProfiles());
+        entries.addAll(database.variants());
+        entries.addAll(database.genes());
+        entries.addAll(database.indications());
+        entries.addAll(database.treatmentApproaches());
+        entries.addAll(database.therapies());
+        entries.addAll(database.drugs());
+        entries.addAll(database.drugClasses());
+        entries.addAll(database.clinicalTrials());
+        entries.addAll(database.globalTherapyApprovalStatuses());
+        entries.addAll(database.references());
+
+        List<String> lines = Lists.newArrayList();
+        for (Object entry : entries) {
+            lines.add(entry.toString());
+        }
+        return lines;
+    }
+}
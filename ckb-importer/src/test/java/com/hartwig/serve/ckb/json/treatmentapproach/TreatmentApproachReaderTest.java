@@ -0,0 +1,56 @@
+package com.hartwig.serve.ckb.json.treatmentapproach;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.Resources;
+import com.hartwig.serve.ckb.json.common.DrugClassInfo;
+import com.hartwig.serve.ckb.json.common.ReferenceInfo;
+import com.hartwig.serve.ckb.json.common.TherapyInfo;
+
+import org.junit.Test;
+
+public class TreatmentApproachReaderTest {
+
+    private static final String TREATMENT_APPROACH_DIR = Resources.getResource("ckb_treatment_approaches").getPath();
+
+    @Test
+    public void canReadConsecutiveTreatmentApproaches() {
+        List<JsonTreatmentApproach> treatmentApproaches = new TreatmentApproachReader(null, true).read(TREATMENT_APPROACH_DIR);
+        assertEquals(2, treatmentApproaches.size());
+
+        JsonTreatmentApproach first = treatmentApproaches.get(0);
+        assertEquals(1, first.id());
+        assertEquals("EGFR Inhibitor", first.name());
+        assertEquals(LocalDate.of(2019, 2, 3), first.createDate());
+        assertEquals(LocalDate.of(2020, 4, 5), first.updateDate());
+        assertNull(first.therapy());
+
+        DrugClassInfo drugClass = first.drugClass();
+        assertNotNull(drugClass);
+        assertEquals(2, drugClass.id());
+        assertEquals("EGFR Inhibitor", drugClass.drugClass());
+
+        assertEquals(1, first.references().size());
+        ReferenceInfo reference = first.references().get(0);
+        assertEquals(3, reference.id());
+        assertEquals("12345", reference.pubMedId());
+        assertEquals("A title", reference.title());
+        assertNull(reference.url());
+
+        JsonTreatmentApproach second = treatmentApproaches.get(1);
+        assertEquals(4, second.id());
+        assertNull(second.drugClass());
+        assertEquals(0, second.references().size());
+
+        TherapyInfo therapy = second.therapy();
+        assertNotNull(therapy);
+        assertEquals("Erlotinib", therapy.therapyName());
+        assertEquals(Lists.newArrayList("Tarceva"), therapy.synonyms());
+    }
+}
@@ -1,37 +1,72 @@
 package com.hartwig.serve.common.classification;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Maps;
 import com.hartwig.serve.common.classification.matchers.EventMatcher;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class EventClassifier {
 
     private static final Logger LOGGER = LogManager.getLogger(EventClassifier.class);
 
     @NotNull
-    private final Map<EventType, EventMatcher> matchers;
+    private final List<Map<EventType, EventMatcher>> matcherTiers;
+    @Nullable
+    private final Cache<Map.Entry<String, String>, EventType> typePerGeneAndEvent;
 
     public EventClassifier(@NotNull final Map<EventType, EventMatcher> matchers) {
-        this.matchers = matchers;
+        this.matcherTiers = List.of(matchers);
+        this.typePerGeneAndEvent = null;
+    }
+
+    public EventClassifier(@NotNull final List<Map<EventType, EventMatcher>> matcherTiers, int maxCachedTypes) {
+        this.matcherTiers = matcherTiers;
+        this.typePerGeneAndEvent = CacheBuilder.newBuilder().maximumSize(maxCachedTypes).build();
     }
 
     @NotNull
     public EventType determineType(@NotNull String gene, @NotNull String event) {
-        Set<EventType> positiveTypes = matchers.entrySet().stream()
-                .filter(entry -> entry.getValue().matches(gene, event))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet());
-
-        if (positiveTypes.size() > 1) {
-            LOGGER.warn("More than one type evaluated to true for '{}' on '{}': {}", event, gene, positiveTypes);
-        } else if (positiveTypes.size() == 1) {
-            return positiveTypes.iterator().next();
+        if (typePerGeneAndEvent == null) {
+            return classify(gene, event);
+        }
+
+        // The same gene and event are classified many times across sources, and classification only depends on these two.
+        Map.Entry<String, String> key = Maps.immutableEntry(gene, event);
+        EventType type = typePerGeneAndEvent.getIfPresent(key);
+        if (type == null) {
+            type = classify(gene, event);
+            typePerGeneAndEvent.put(key, type);
+        }
+        return type;
+    }
+
+    @NotNull
+    private EventType classify(@NotNull String gene, @NotNull String event) {
+        // Matchers of a tier are only evaluated when none of the matchers of the previous tiers has matched.
+        for (Map<EventType, EventMatcher> matchers : matcherTiers) {
+            Set<EventType> positiveTypes = EnumSet.noneOf(EventType.class);
+            for (Map.Entry<EventType, EventMatcher> entry : matchers.entrySet()) {
+                if (entry.getValue().matches(gene, event)) {
+                    positiveTypes.add(entry.getKey());
+                }
+            }
+
+            if (positiveTypes.size() > 1) {
+                LOGGER.warn("More than one type evaluated to true for '{}' on '{}': {}", event, gene, positiveTypes);
+                return EventType.UNKNOWN;
+            } else if (positiveTypes.size() == 1) {
+                return positiveTypes.iterator().next();
+            }
         }
 
         return EventType.UNKNOWN;
@@ -6,11 +6,13 @@ import org.jetbrains.annotations.NotNull;
 
 public final class EventClassifierFactory {
 
+    private static final int MAX_CACHED_TYPES = 100000;
+
     private EventClassifierFactory() {
     }
 
     @NotNull
     public static EventClassifier buildClassifier(@NotNull EventClassifierConfig config) {
-        return new EventClassifier(EventMatcherFactory.buildMatcherMap(config));
+        return new EventClassifier(EventMatcherFactory.buildMatcherTiers(config), MAX_CACHED_TYPES);
     }
 }
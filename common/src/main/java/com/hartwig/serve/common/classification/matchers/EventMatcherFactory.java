@@ -8,25 +8,47 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.hartwig.serve.common.classification.EventClassifierConfig;
+import com.hartwig.serve.common.classification.EventPreprocessor;
 import com.hartwig.serve.common.classification.EventType;
 
 import org.jetbrains.annotations.NotNull;
 
 public final class EventMatcherFactory {
 
+    private static final int MAX_PREPROCESSED_EVENTS = 10000;
+
     private EventMatcherFactory() {
     }
 
     @NotNull
     public static Map<EventType, EventMatcher> buildMatcherMap(@NotNull EventClassifierConfig config) {
+        List<Map<EventType, EventMatcher>> matcherTiers = buildMatcherTiers(config, config.proteinAnnotationExtractor());
+        List<EventMatcher> firstTierEventMatchers = Lists.newArrayList(matcherTiers.get(0).values());
+
+        Map<EventType, EventMatcher> map = Maps.newHashMap(matcherTiers.get(0));
+        for (Map.Entry<EventType, EventMatcher> entry : matcherTiers.get(1).entrySet()) {
+            map.put(entry.getKey(), withFirstTierMatchers(firstTierEventMatchers, entry.getValue()));
+        }
+        return map;
+    }
+
+    @NotNull
+    public static List<Map<EventType, EventMatcher>> buildMatcherTiers(@NotNull EventClassifierConfig config) {
+        // Several matchers extract the protein annotation from the same event, so the extraction is shared between them.
+        return buildMatcherTiers(config, new MemoizingEventPreprocessor(config.proteinAnnotationExtractor(), MAX_PREPROCESSED_EVENTS));
+    }
+
+    @NotNull
+    private static List<Map<EventType, EventMatcher>> buildMatcherTiers(@NotNull EventClassifierConfig config,
+            @NotNull EventPreprocessor proteinAnnotationExtractor) {
         FusionPairMatcher fusionPairMatcher = new FusionPairMatcher(config.exonicDelDupFusionKeyPhrases(),
                 config.exonicDelDupFusionEvents(),
                 config.fusionPairEventsToSkip());
         PromiscuousFusionMatcher promiscuousFusionMatcher =
                 new PromiscuousFusionMatcher(config.promiscuousFusionKeyPhrases(), fusionPairMatcher);
 
-        VariantMatcher variantMatcher = new VariantMatcher(config.proteinAnnotationExtractor(), fusionPairMatcher);
-        CodonMatcher codonMatcher = new CodonMatcher(config.proteinAnnotationExtractor());
+        VariantMatcher variantMatcher = new VariantMatcher(proteinAnnotationExtractor, fusionPairMatcher);
+        CodonMatcher codonMatcher = new CodonMatcher(proteinAnnotationExtractor);
         ExonMatcher exonMatcher = new ExonMatcher(config.exonIdentifiers(),
                 config.exonKeywords(),
                 config.exonBlacklistKeyPhrases(),
@@ -60,29 +82,30 @@ public final class EventMatcherFactory {
         CombinedMatcher combinedMatcher =
                 new CombinedMatcher(config.combinedEventsPerGene(), variantMatcher, fusionPairMatcher, amplificationMatcher);
 
-        List<EventMatcher> firstTierEventMatchers = Lists.newArrayList(complexMatcher, combinedMatcher, fusionPairAndExonMatcher);
-
-        Map<EventType, EventMatcher> map = Maps.newHashMap();
-        map.put(EventType.VARIANT, withFirstTierMatchers(firstTierEventMatchers, variantMatcher));
-        map.put(EventType.CODON, withFirstTierMatchers(firstTierEventMatchers, codonMatcher));
-        map.put(EventType.EXON, withFirstTierMatchers(firstTierEventMatchers, exonMatcher));
-        map.put(EventType.FUSION_PAIR_AND_EXON, fusionPairAndExonMatcher);
-        map.put(EventType.GENE_LEVEL, withFirstTierMatchers(firstTierEventMatchers, geneLevelMatcher));
-        map.put(EventType.WILD_TYPE, withFirstTierMatchers(firstTierEventMatchers, wildTypeMatcher));
-        map.put(EventType.AMPLIFICATION, withFirstTierMatchers(firstTierEventMatchers, amplificationMatcher));
-        map.put(EventType.OVEREXPRESSION, withFirstTierMatchers(firstTierEventMatchers, overExpressionMatcher));
-        map.put(EventType.DELETION, withFirstTierMatchers(firstTierEventMatchers, deletionMatcher));
-        map.put(EventType.UNDEREXPRESSION, withFirstTierMatchers(firstTierEventMatchers, underExpressionMatcher));
-        map.put(EventType.FUSION_PAIR, withFirstTierMatchers(firstTierEventMatchers, fusionPairMatcher));
-        map.put(EventType.PROMISCUOUS_FUSION, withFirstTierMatchers(firstTierEventMatchers, promiscuousFusionMatcher));
-        map.put(EventType.CHARACTERISTIC, withFirstTierMatchers(firstTierEventMatchers, characteristicMatcher));
-        map.put(EventType.IMMUNO_HLA, withFirstTierMatchers(firstTierEventMatchers, hlaMatcher));
-        map.put(EventType.ABSENCE_OF_PROTEIN, withFirstTierMatchers(firstTierEventMatchers, absenceOfProteinMatcher));
-        map.put(EventType.PRESENCE_OF_PROTEIN, withFirstTierMatchers(firstTierEventMatchers, presenceOfProteinMatcher));
-        map.put(EventType.COMBINED, combinedMatcher);
-        map.put(EventType.COMPLEX, complexMatcher);
-
-        return map;
+        // Whenever one of the first tier matchers matches an event, none of the second tier matchers is considered.
+        Map<EventType, EventMatcher> firstTier = Maps.newLinkedHashMap();
+        firstTier.put(EventType.COMPLEX, complexMatcher);
+        firstTier.put(EventType.COMBINED, combinedMatcher);
+        firstTier.put(EventType.FUSION_PAIR_AND_EXON, fusionPairAndExonMatcher);
+
+        Map<EventType, EventMatcher> secondTier = Maps.newLinkedHashMap();
+        secondTier.put(EventType.VARIANT, variantMatcher);
+        secondTier.put(EventType.CODON, codonMatcher);
+        secondTier.put(EventType.EXON, exonMatcher);
+        secondTier.put(EventType.GENE_LEVEL, geneLevelMatcher);
+        secondTier.put(EventType.WILD_TYPE, wildTypeMatcher);
+        secondTier.put(EventType.AMPLIFICATION, amplificationMatcher);
+        secondTier.put(EventType.OVEREXPRESSION, overExpressionMatcher);
+        secondTier.put(EventType.DELETION, deletionMatcher);
+        secondTier.put(EventType.UNDEREXPRESSION, underExpressionMatcher);
+        secondTier.put(EventType.FUSION_PAIR, fusionPairMatcher);
+        secondTier.put(EventType.PROMISCUOUS_FUSION, promiscuousFusionMatcher);
+        secondTier.put(EventType.CHARACTERISTIC, characteristicMatcher);
+        secondTier.put(EventType.IMMUNO_HLA, hlaMatcher);
+        secondTier.put(EventType.ABSENCE_OF_PROTEIN, absenceOfProteinMatcher);
+        secondTier.put(EventType.PRESENCE_OF_PROTEIN, presenceOfProteinMatcher);
+
+        return List.of(firstTier, secondTier);
     }
 
     @NotNull
@@ -0,0 +1,32 @@
+package com.hartwig.serve.common.classification.matchers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hartwig.serve.common.classification.EventPreprocessor;
+
+import org.jetbrains.annotations.NotNull;
+
+class MemoizingEventPreprocessor implements EventPreprocessor {
+
+    @NotNull
+    private final EventPreprocessor preprocessor;
+    @NotNull
+    private final Cache<String, String> outputPerEvent;
+
+    MemoizingEventPreprocessor(@NotNull final EventPreprocessor preprocessor, int maxCachedEvents) {
+        this.preprocessor = preprocessor;
+        this.outputPerEvent = CacheBuilder.newBuilder().maximumSize(maxCachedEvents).build();
+    }
+
+    @NotNull
+    @Override
+    public String apply(@NotNull String event) {
+        // Events are classified concurrently, so a cache is shared rather than only remembering the last event.
+        String output = outputPerEvent.getIfPresent(event);
+        if (output == null) {
+            output = preprocessor.apply(event);
+            outputPerEvent.put(event, output);
+        }
+        return output;
+    }
+}
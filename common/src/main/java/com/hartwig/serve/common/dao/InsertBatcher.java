@@ -0,0 +1,104 @@
+package com.hartwig.serve.common.dao;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStepN;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+
+public final class InsertBatcher {
+
+    public static final int DB_BATCH_INSERT_SIZE = 1000;
+
+    @NotNull
+    private final DSLContext context;
+    @NotNull
+    private final Map<Table<?>, Batch> batchPerTable = Maps.newLinkedHashMap();
+    @NotNull
+    private final Map<Table<?>, Integer> nextIdPerTable = Maps.newHashMap();
+
+    public InsertBatcher(@NotNull final DSLContext context) {
+        this.context = context;
+    }
+
+    @NotNull
+    public Batch into(@NotNull Table<?> table, @NotNull Field<?>... fields) {
+        Batch batch = batchPerTable.get(table);
+        if (batch == null) {
+            batch = new Batch(table, fields);
+            batchPerTable.put(table, batch);
+        } else if (!Arrays.equals(batch.fields, fields)) {
+            throw new IllegalStateException("Inconsistent fields used for batched inserts into " + table.getName());
+        }
+        return batch;
+    }
+
+    public int nextId(@NotNull TableField<?, Integer> idField) {
+        // IDs are assigned client-side so that rows referring to this table can be batched along without fetching generated keys.
+        Table<?> table = idField.getTable();
+        Integer nextId = nextIdPerTable.get(table);
+        if (nextId == null) {
+            Integer maxId = context.select(DSL.max(idField)).from(table).fetchOne(0, Integer.class);
+            nextId = maxId != null ? maxId + 1 : 1;
+        }
+        nextIdPerTable.put(table, nextId + 1);
+        return nextId;
+    }
+
+    public void flush() {
+        // Batches are written in the order in which their tables have first been inserted into. As long as every row is added after the
+        // row it refers to, parent rows are therefore always written before the child rows that refer to them.
+        for (Batch batch : batchPerTable.values()) {
+            batch.execute();
+        }
+    }
+
+    public final class Batch {
+
+        @NotNull
+        private final Table<?> table;
+        @NotNull
+        private final Field<?>[] fields;
+        @NotNull
+        private final List<Object[]> rows = Lists.newArrayList();
+
+        private Batch(@NotNull final Table<?> table, @NotNull final Field<?>[] fields) {
+            this.table = table;
+            this.fields = fields;
+        }
+
+        public void values(@Nullable Object... values) {
+            rows.add(values);
+            if (rows.size() >= DB_BATCH_INSERT_SIZE) {
+                flush();
+            }
+        }
+
+        private void execute() {
+            if (!rows.isEmpty()) {
+                insert(context, table, fields, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private static <R extends Record> void insert(@NotNull DSLContext context, @NotNull Table<R> table, @NotNull Field<?>[] fields,
+            @NotNull List<Object[]> rows) {
+        InsertValuesStepN<R> inserter = context.insertInto(table, fields);
+        for (Object[] row : rows) {
+            inserter = inserter.values(row);
+        }
+        inserter.execute();
+    }
+}
@@ -0,0 +1,65 @@
+package com.hartwig.serve.common.drivergene;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class DriverGeneCatalog {
+
+    @NotNull
+    private final List<DriverGene> driverGenes;
+    @NotNull
+    private final Map<String, DriverGene> driverGenePerGene;
+    @NotNull
+    private final Map<String, DriverCategory> driverCategoryPerGene;
+
+    @NotNull
+    public static DriverGeneCatalog create(@NotNull List<DriverGene> driverGenes) {
+        // In case a gene is present multiple times, the first entry wins, in line with a scan over the list of driver genes.
+        Map<String, DriverGene> driverGenePerGene = Maps.newLinkedHashMap();
+        for (DriverGene driverGene : driverGenes) {
+            driverGenePerGene.putIfAbsent(driverGene.gene(), driverGene);
+        }
+
+        Map<String, DriverCategory> driverCategoryPerGene = Maps.newLinkedHashMap();
+        for (DriverGene driverGene : driverGenePerGene.values()) {
+            driverCategoryPerGene.put(driverGene.gene(), driverGene.likelihoodType());
+        }
+
+        return new DriverGeneCatalog(ImmutableList.copyOf(driverGenes),
+                ImmutableMap.copyOf(driverGenePerGene),
+                ImmutableMap.copyOf(driverCategoryPerGene));
+    }
+
+    private DriverGeneCatalog(@NotNull final List<DriverGene> driverGenes, @NotNull final Map<String, DriverGene> driverGenePerGene,
+            @NotNull final Map<String, DriverCategory> driverCategoryPerGene) {
+        this.driverGenes = driverGenes;
+        this.driverGenePerGene = driverGenePerGene;
+        this.driverCategoryPerGene = driverCategoryPerGene;
+    }
+
+    @NotNull
+    public List<DriverGene> driverGenes() {
+        return driverGenes;
+    }
+
+    public boolean contains(@NotNull String gene) {
+        return driverGenePerGene.containsKey(gene);
+    }
+
+    @Nullable
+    public DriverGene findByGene(@NotNull String gene) {
+        return driverGenePerGene.get(gene);
+    }
+
+    @Nullable
+    public DriverCategory findCategoryByGene(@NotNull String gene) {
+        return driverCategoryPerGene.get(gene);
+    }
+}
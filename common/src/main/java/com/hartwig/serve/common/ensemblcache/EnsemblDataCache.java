@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.Maps;
+
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -15,6 +17,8 @@ public class EnsemblDataCache {
     private final Map<String, GeneData> genesPerName;
     @NotNull
     private final Map<String, List<TranscriptData>> transcriptsPerGeneId;
+    @NotNull
+    private final Map<String, TranscriptData> canonicalTranscriptPerGeneId;
 
     public EnsemblDataCache(@NotNull final Map<String, List<GeneData>> genesPerChromosome,
             @NotNull final Map<String, List<TranscriptData>> transcriptsPerGeneId) {
@@ -23,6 +27,7 @@ public class EnsemblDataCache {
         this.genesPerName = genesPerChromosome.values().stream()
                 .flatMap(List::stream)
                 .collect(Collectors.toMap(GeneData::geneName, gene -> gene));
+        this.canonicalTranscriptPerGeneId = buildCanonicalTranscriptPerGeneId(transcriptsPerGeneId);
     }
 
     @NotNull
@@ -42,12 +47,20 @@ public class EnsemblDataCache {
 
     @Nullable
     public TranscriptData findCanonicalTranscript(@NotNull String geneId) {
-        List<TranscriptData> transcripts = transcriptsPerGeneId.get(geneId);
-
-        return transcripts == null ? null : transcripts.stream()
-                .filter(TranscriptData::isCanonical)
-                .findFirst()
-                .orElse(null);
+        return canonicalTranscriptPerGeneId.get(geneId);
+    }
 
+    @NotNull
+    private static Map<String, TranscriptData> buildCanonicalTranscriptPerGeneId(
+            @NotNull Map<String, List<TranscriptData>> transcriptsPerGeneId) {
+        Map<String, TranscriptData> canonicalTranscriptPerGeneId = Maps.newHashMap();
+        for (Map.Entry<String, List<TranscriptData>> entry : transcriptsPerGeneId.entrySet()) {
+            entry.getValue()
+                    .stream()
+                    .filter(TranscriptData::isCanonical)
+                    .findFirst()
+                    .ifPresent(transcript -> canonicalTranscriptPerGeneId.put(entry.getKey(), transcript));
+        }
+        return canonicalTranscriptPerGeneId;
     }
 }
@@ -33,9 +33,44 @@ public final class EnsemblDataLoader {
 
     @NotNull
     public static EnsemblDataCache load(@NotNull String dataPath, @NotNull RefGenome refGenome) throws IOException {
+        return load(dataPath, refGenome, null);
+    }
+
+    @NotNull
+    public static EnsemblDataCache load(@NotNull String dataPath, @NotNull RefGenome refGenome, @Nullable String snapshotDir)
+            throws IOException {
         String basePath = dataPath + File.separator;
-        Map<String, List<GeneData>> genesPerChromosome = loadGeneData(basePath + ENSEMBL_GENE_DATA_FILE, refGenome);
-        Map<String, List<TranscriptData>> transcriptsPerGeneId = loadTranscriptData(basePath + ENSEMBL_TRANS_EXON_DATA_FILE);
+        String geneDataFile = basePath + ENSEMBL_GENE_DATA_FILE;
+        String transcriptDataFile = basePath + ENSEMBL_TRANS_EXON_DATA_FILE;
+
+        if (snapshotDir == null) {
+            return loadFromCsv(geneDataFile, transcriptDataFile, refGenome);
+        }
+
+        String snapshotFile = EnsemblDataSnapshot.snapshotFile(snapshotDir, refGenome);
+        String fingerprint = EnsemblDataSnapshot.fingerprint(List.of(geneDataFile, transcriptDataFile));
+        EnsemblDataCache snapshot = EnsemblDataSnapshot.read(snapshotFile, refGenome, fingerprint);
+        if (snapshot != null) {
+            LOGGER.debug("Loaded ensembl data cache from snapshot {}", snapshotFile);
+            return snapshot;
+        }
+
+        EnsemblDataCache cache = loadFromCsv(geneDataFile, transcriptDataFile, refGenome);
+        try {
+            EnsemblDataSnapshot.write(snapshotFile, refGenome, fingerprint, cache);
+            LOGGER.debug("Written ensembl data cache snapshot to {}", snapshotFile);
+        } catch (IOException exception) {
+            // The snapshot only speeds up subsequent loads, so a snapshot dir that isn't writable is no reason to fail.
+            LOGGER.warn("Could not write ensembl data cache snapshot to {}: {}", snapshotFile, exception.getMessage());
+        }
+        return cache;
+    }
+
+    @NotNull
+    static EnsemblDataCache loadFromCsv(@NotNull String geneDataFile, @NotNull String transcriptDataFile, @NotNull RefGenome refGenome)
+            throws IOException {
+        Map<String, List<GeneData>> genesPerChromosome = loadGeneData(geneDataFile, refGenome);
+        Map<String, List<TranscriptData>> transcriptsPerGeneId = loadTranscriptData(transcriptDataFile);
 
         return new EnsemblDataCache(genesPerChromosome, transcriptsPerGeneId);
     }
@@ -0,0 +1,291 @@
+package com.hartwig.serve.common.ensemblcache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.hartwig.serve.datamodel.RefGenome;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+final class EnsemblDataSnapshot {
+
+    private static final Logger LOGGER = LogManager.getLogger(EnsemblDataSnapshot.class);
+
+    private static final int MAGIC = 0x53455645;
+
+    // Bump whenever the layout of the snapshot or the interpretation of the ensembl data files changes.
+    private static final int SNAPSHOT_FORMAT_VERSION = 2;
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private EnsemblDataSnapshot() {
+    }
+
+    @NotNull
+    static String snapshotFile(@NotNull String snapshotDir, @NotNull RefGenome refGenome) {
+        return snapshotDir + File.separator + "ensembl_data_cache." + refGenome.toString().toLowerCase() + ".snapshot";
+    }
+
+    @NotNull
+    static String fingerprint(@NotNull List<String> dataFiles) throws IOException {
+        // The size and modification time of the data files are cheap to determine and change whenever the files are replaced.
+        StringJoiner fingerprint = new StringJoiner(";");
+        for (String dataFile : dataFiles) {
+            Path path = new File(dataFile).getAbsoluteFile().toPath();
+            fingerprint.add(path + ":" + Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis());
+        }
+        return fingerprint.toString();
+    }
+
+    @Nullable
+    static EnsemblDataCache read(@NotNull String file, @NotNull RefGenome refGenome, @NotNull String expectedFingerprint)
+            throws IOException {
+        File snapshotFile = new File(file);
+        if (!snapshotFile.exists()) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != SNAPSHOT_FORMAT_VERSION) {
+                return null;
+            }
+
+            if (!readString(buffer).equals(refGenome.toString()) || !readString(buffer).equals(expectedFingerprint)) {
+                return null;
+            }
+
+            String[] strings = new String[checkedCount(buffer, buffer.getInt(), Integer.BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(buffer);
+            }
+
+            return new EnsemblDataCache(readGenesPerChromosome(buffer, strings), readTranscriptsPerGeneId(buffer, strings));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException exception) {
+            // A truncated or otherwise corrupt snapshot is treated like a missing one, so that the data files are read instead.
+            LOGGER.warn("Ignoring corrupt ensembl data cache snapshot {}: {}", file, exception.toString());
+            return null;
+        }
+    }
+
+    static void write(@NotNull String file, @NotNull RefGenome refGenome, @NotNull String fingerprint, @NotNull EnsemblDataCache cache)
+            throws IOException {
+        StringTable strings = new StringTable();
+        for (List<GeneData> genes : cache.genesPerChromosome().values()) {
+            for (GeneData gene : genes) {
+                strings.add(gene.chromosome());
+                strings.add(gene.geneId());
+                strings.add(gene.geneName());
+                strings.add(gene.karyotypeBand());
+            }
+        }
+        for (Map.Entry<String, List<TranscriptData>> entry : cache.transcriptsPerGeneId().entrySet()) {
+            strings.add(entry.getKey());
+            for (TranscriptData transcript : entry.getValue()) {
+                strings.add(transcript.transcriptName());
+                strings.add(transcript.geneId());
+                strings.add(transcript.bioType());
+            }
+        }
+
+        // Write to a temporary file first so that an interrupted run never leaves a corrupt snapshot behind.
+        File target = new File(file);
+        File temporary = new File(file + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(SNAPSHOT_FORMAT_VERSION);
+            writeString(output, refGenome.toString());
+            writeString(output, fingerprint);
+
+            output.writeInt(strings.values.size());
+            for (String value : strings.values) {
+                writeString(output, value);
+            }
+
+            writeGenesPerChromosome(output, strings, cache.genesPerChromosome());
+            writeTranscriptsPerGeneId(output, strings, cache.transcriptsPerGeneId());
+        }
+        Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeGenesPerChromosome(@NotNull DataOutputStream output, @NotNull StringTable strings,
+            @NotNull Map<String, List<GeneData>> genesPerChromosome) throws IOException {
+        output.writeInt(genesPerChromosome.size());
+        for (Map.Entry<String, List<GeneData>> entry : genesPerChromosome.entrySet()) {
+            output.writeInt(strings.indexOf(entry.getKey()));
+            output.writeInt(entry.getValue().size());
+            for (GeneData gene : entry.getValue()) {
+                output.writeInt(strings.indexOf(gene.geneId()));
+                output.writeInt(strings.indexOf(gene.geneName()));
+                output.writeInt(strings.indexOf(gene.chromosome()));
+                output.writeByte(gene.strand());
+                output.writeInt(gene.geneStart());
+                output.writeInt(gene.geneEnd());
+                output.writeInt(strings.indexOf(gene.karyotypeBand()));
+            }
+        }
+    }
+
+    @NotNull
+    private static Map<String, List<GeneData>> readGenesPerChromosome(@NotNull ByteBuffer buffer, @NotNull String[] strings) {
+        int chromosomeCount = buffer.getInt();
+        Map<String, List<GeneData>> genesPerChromosome = Maps.newHashMapWithExpectedSize(chromosomeCount);
+        for (int i = 0; i < chromosomeCount; i++) {
+            String chromosome = strings[buffer.getInt()];
+            int geneCount = buffer.getInt();
+            List<GeneData> genes = Lists.newArrayListWithCapacity(geneCount);
+            for (int j = 0; j < geneCount; j++) {
+                genes.add(ImmutableGeneData.builder()
+                        .geneId(strings[buffer.getInt()])
+                        .geneName(strings[buffer.getInt()])
+                        .chromosome(strings[buffer.getInt()])
+                        .strand(buffer.get())
+                        .geneStart(buffer.getInt())
+                        .geneEnd(buffer.getInt())
+                        .karyotypeBand(strings[buffer.getInt()])
+                        .build());
+            }
+            genesPerChromosome.put(chromosome, genes);
+        }
+        return genesPerChromosome;
+    }
+
+    private static void writeTranscriptsPerGeneId(@NotNull DataOutputStream output, @NotNull StringTable strings,
+            @NotNull Map<String, List<TranscriptData>> transcriptsPerGeneId) throws IOException {
+        output.writeInt(transcriptsPerGeneId.size());
+        for (Map.Entry<String, List<TranscriptData>> entry : transcriptsPerGeneId.entrySet()) {
+            output.writeInt(strings.indexOf(entry.getKey()));
+            output.writeInt(entry.getValue().size());
+            for (TranscriptData transcript : entry.getValue()) {
+                output.writeInt(transcript.transcriptId());
+                output.writeInt(strings.indexOf(transcript.transcriptName()));
+                output.writeInt(strings.indexOf(transcript.geneId()));
+                output.writeBoolean(transcript.isCanonical());
+                output.writeByte(transcript.strand());
+                output.writeInt(transcript.transcriptStart());
+                output.writeInt(transcript.transcriptEnd());
+                output.writeInt(transcript.codingStart() != null ? transcript.codingStart() : NULL_INT);
+                output.writeInt(transcript.codingEnd() != null ? transcript.codingEnd() : NULL_INT);
+                output.writeInt(strings.indexOf(transcript.bioType()));
+
+                output.writeInt(transcript.exons().size());
+                for (ExonData exon : transcript.exons()) {
+                    output.writeInt(exon.start());
+                    output.writeInt(exon.end());
+                    output.writeInt(exon.rank());
+                    output.writeInt(exon.phaseStart());
+                    output.writeInt(exon.phaseEnd());
+                }
+            }
+        }
+    }
+
+    @NotNull
+    private static Map<String, List<TranscriptData>> readTranscriptsPerGeneId(@NotNull ByteBuffer buffer, @NotNull String[] strings) {
+        int geneCount = buffer.getInt();
+        Map<String, List<TranscriptData>> transcriptsPerGeneId = Maps.newHashMapWithExpectedSize(geneCount);
+        for (int i = 0; i < geneCount; i++) {
+            String geneId = strings[buffer.getInt()];
+            int transcriptCount = buffer.getInt();
+            List<TranscriptData> transcripts = Lists.newArrayListWithCapacity(transcriptCount);
+            for (int j = 0; j < transcriptCount; j++) {
+                ImmutableTranscriptData.Builder builder = ImmutableTranscriptData.builder()
+                        .transcriptId(buffer.getInt())
+                        .transcriptName(strings[buffer.getInt()])
+                        .geneId(strings[buffer.getInt()])
+                        .isCanonical(buffer.get() != 0)
+                        .strand(buffer.get())
+                        .transcriptStart(buffer.getInt())
+                        .transcriptEnd(buffer.getInt())
+                        .codingStart(nullableInt(buffer.getInt()))
+                        .codingEnd(nullableInt(buffer.getInt()))
+                        .bioType(strings[buffer.getInt()]);
+
+                transcripts.add(builder.exons(readExons(buffer)).build());
+            }
+            transcriptsPerGeneId.put(geneId, transcripts);
+        }
+        return transcriptsPerGeneId;
+    }
+
+    @NotNull
+    private static List<ExonData> readExons(@NotNull ByteBuffer buffer) {
+        // Every exon is stored as 5 ints, which are read straight into the exon data that the rest of SERVE works with.
+        int exonCount = checkedCount(buffer, buffer.getInt(), 5 * Integer.BYTES);
+        List<ExonData> exons = Lists.newArrayListWithCapacity(exonCount);
+        for (int i = 0; i < exonCount; i++) {
+            exons.add(ImmutableExonData.builder()
+                    .start(buffer.getInt())
+                    .end(buffer.getInt())
+                    .rank(buffer.getInt())
+                    .phaseStart(buffer.getInt())
+                    .phaseEnd(buffer.getInt())
+                    .build());
+        }
+        return exons;
+    }
+
+    @Nullable
+    private static Integer nullableInt(int value) {
+        return value != NULL_INT ? value : null;
+    }
+
+    private static int checkedCount(@NotNull ByteBuffer buffer, int count, int bytesPerValue) {
+        // Guards against allocating huge arrays for counts read from a corrupt snapshot.
+        if (count < 0 || (long) count * bytesPerValue > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static void writeString(@NotNull DataOutputStream output, @NotNull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @NotNull
+    private static String readString(@NotNull ByteBuffer buffer) {
+        byte[] bytes = new byte[checkedCount(buffer, buffer.getInt(), Byte.BYTES)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class StringTable {
+
+        @NotNull
+        private final List<String> values = Lists.newArrayList();
+        @NotNull
+        private final Map<String, Integer> indexPerValue = Maps.newHashMap();
+
+        public void add(@NotNull String value) {
+            if (!indexPerValue.containsKey(value)) {
+                indexPerValue.put(value, values.size());
+                values.add(value);
+            }
+        }
+
+        public int indexOf(@NotNull String value) {
+            return indexPerValue.get(value);
+        }
+    }
+}
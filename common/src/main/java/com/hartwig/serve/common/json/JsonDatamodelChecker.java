@@ -24,8 +24,11 @@ public class JsonDatamodelChecker {
     }
 
     public boolean check(@NotNull JsonObject object) {
+        return check(object.keySet());
+    }
+
+    public boolean check(@NotNull Set<String> keys) {
         boolean correct = true;
-        Set<String> keys = object.keySet();
 
         for (String key : keys) {
             if (!datamodel.containsKey(key)) {
@@ -0,0 +1,61 @@
+package com.hartwig.serve.common.json;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Streaming counterpart of Json, reading the value the reader is currently positioned at.
+public final class JsonStream {
+
+    private JsonStream() {
+    }
+
+    @Nullable
+    public static List<String> nullableStringList(@NotNull JsonReader reader) throws IOException {
+        return !isNull(reader) ? stringList(reader) : null;
+    }
+
+    @NotNull
+    public static List<String> stringList(@NotNull JsonReader reader) throws IOException {
+        List<String> values = Lists.newArrayList();
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            values.add(string(reader));
+        } else {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                values.add(string(reader));
+            }
+            reader.endArray();
+        }
+        return values;
+    }
+
+    @Nullable
+    public static String nullableString(@NotNull JsonReader reader) throws IOException {
+        return !isNull(reader) ? string(reader) : null;
+    }
+
+    @NotNull
+    public static String string(@NotNull JsonReader reader) throws IOException {
+        // Any primitive can be read as string, in line with reading a json primitive as string.
+        return reader.peek() == JsonToken.BOOLEAN ? String.valueOf(reader.nextBoolean()) : reader.nextString();
+    }
+
+    public static int integer(@NotNull JsonReader reader) throws IOException {
+        return reader.nextInt();
+    }
+
+    public static boolean isNull(@NotNull JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return true;
+        }
+        return false;
+    }
+}
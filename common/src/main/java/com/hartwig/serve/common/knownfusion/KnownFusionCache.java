@@ -3,19 +3,22 @@ package com.hartwig.serve.common.knownfusion;
 import java.util.List;
 import java.util.Map;
 
+import com.google.common.collect.ImmutableSetMultimap;
+
 import org.jetbrains.annotations.NotNull;
 
 public class KnownFusionCache {
 
     @NotNull
     private final List<KnownFusionData> knownFusions;
+    // Multimaps are immutable and their inverses are cached, so every query is a hash lookup that is safe to run concurrently.
     @NotNull
-    private final Map<KnownFusionType, List<KnownFusionData>> knownFusionsByType;
+    private final Map<KnownFusionType, ImmutableSetMultimap<String, String>> threeGenesPerFiveGeneByType;
 
     public KnownFusionCache(@NotNull final List<KnownFusionData> knownFusions,
-            @NotNull final Map<KnownFusionType, List<KnownFusionData>> knownFusionsByType) {
+            @NotNull final Map<KnownFusionType, ImmutableSetMultimap<String, String>> threeGenesPerFiveGeneByType) {
         this.knownFusions = knownFusions;
-        this.knownFusionsByType = knownFusionsByType;
+        this.threeGenesPerFiveGeneByType = threeGenesPerFiveGeneByType;
     }
 
     @NotNull
@@ -24,44 +27,40 @@ public class KnownFusionCache {
     }
 
     public boolean hasKnownFusion(@NotNull String fiveGene, @NotNull String threeGene) {
-        return knownFusionsByType.get(KnownFusionType.KNOWN_PAIR)
-                .stream()
-                .anyMatch(x -> x.fiveGene().equals(fiveGene) && x.threeGene().equals(threeGene));
+        return threeGenesPerFiveGene(KnownFusionType.KNOWN_PAIR).containsEntry(fiveGene, threeGene);
     }
 
     public boolean hasKnownIgFusion(@NotNull String fiveGene, @NotNull String threeGene) {
-        return knownFusionsByType.get(KnownFusionType.IG_KNOWN_PAIR)
-                .stream()
-                .anyMatch(x -> x.fiveGene().equals(fiveGene) && x.threeGene().equals(threeGene));
+        return threeGenesPerFiveGene(KnownFusionType.IG_KNOWN_PAIR).containsEntry(fiveGene, threeGene);
     }
 
     public boolean hasKnownPairGene(@NotNull String gene) {
-        return knownFusionsByType.get(KnownFusionType.KNOWN_PAIR)
-                .stream()
-                .anyMatch(x -> x.fiveGene().equals(gene) && x.threeGene().equals(gene));
+        return threeGenesPerFiveGene(KnownFusionType.KNOWN_PAIR).containsEntry(gene, gene);
     }
 
     public boolean hasPromiscuousIgFusion(@NotNull String gene) {
-        return knownFusionsByType.get(KnownFusionType.IG_PROMISCUOUS).stream().anyMatch(x -> x.fiveGene().equals(gene));
+        return threeGenesPerFiveGene(KnownFusionType.IG_PROMISCUOUS).containsKey(gene);
     }
 
     public boolean hasPromiscuousFiveGene(@NotNull String gene) {
-        return knownFusionsByType.get(KnownFusionType.PROMISCUOUS_5).stream().anyMatch(x -> x.fiveGene().equals(gene));
+        return threeGenesPerFiveGene(KnownFusionType.PROMISCUOUS_5).containsKey(gene);
     }
 
     public boolean hasPromiscuousThreeGene(@NotNull String gene) {
-        return knownFusionsByType.get(KnownFusionType.PROMISCUOUS_3).stream().anyMatch(x -> x.threeGene().equals(gene));
+        return threeGenesPerFiveGene(KnownFusionType.PROMISCUOUS_3).inverse().containsKey(gene);
     }
 
     public boolean hasAnyIgFusion(@NotNull String gene) {
-        return knownFusionsByType.get(KnownFusionType.IG_KNOWN_PAIR)
-                .stream()
-                .anyMatch(x -> x.fiveGene().equals(gene) || x.threeGene().equals(gene));
+        ImmutableSetMultimap<String, String> igKnownPairs = threeGenesPerFiveGene(KnownFusionType.IG_KNOWN_PAIR);
+        return igKnownPairs.containsKey(gene) || igKnownPairs.inverse().containsKey(gene);
     }
 
     public boolean hasAnyExonDelDup(@NotNull String gene) {
-        return knownFusionsByType.get(KnownFusionType.EXON_DEL_DUP)
-                .stream()
-                .anyMatch(x -> x.fiveGene().equals(gene) && x.threeGene().equals(gene));
+        return threeGenesPerFiveGene(KnownFusionType.EXON_DEL_DUP).containsEntry(gene, gene);
+    }
+
+    @NotNull
+    private ImmutableSetMultimap<String, String> threeGenesPerFiveGene(@NotNull KnownFusionType type) {
+        return threeGenesPerFiveGeneByType.getOrDefault(type, ImmutableSetMultimap.of());
     }
 }
@@ -7,6 +7,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.hartwig.serve.common.serialization.SerializationUtil;
@@ -43,22 +46,23 @@ public final class KnownFusionCacheLoader {
             knownFusions.add(fromLine(line, fields));
         }
 
-        Map<KnownFusionType, List<KnownFusionData>> knownFusionsByType = Maps.newHashMap();
-        for (KnownFusionType type : KnownFusionType.values()) {
-            if (type != KnownFusionType.NONE) {
-                knownFusionsByType.put(type, Lists.newArrayList());
-            }
-        }
-
+        Map<KnownFusionType, ImmutableSetMultimap.Builder<String, String>> builderPerType = Maps.newEnumMap(KnownFusionType.class);
         for (KnownFusionData knownFusion : knownFusions) {
             if (knownFusion.type() != KnownFusionType.NONE) {
-                List<KnownFusionData> current = knownFusionsByType.get(knownFusion.type());
-                current.add(knownFusion);
-                knownFusionsByType.put(knownFusion.type(), current);
+                builderPerType.computeIfAbsent(knownFusion.type(), type -> ImmutableSetMultimap.builder())
+                        .put(knownFusion.fiveGene(), knownFusion.threeGene());
             }
         }
 
-        return new KnownFusionCache(knownFusions, knownFusionsByType);
+        Map<KnownFusionType, ImmutableSetMultimap<String, String>> threeGenesPerFiveGeneByType = Maps.newEnumMap(KnownFusionType.class);
+        for (Map.Entry<KnownFusionType, ImmutableSetMultimap.Builder<String, String>> entry : builderPerType.entrySet()) {
+            ImmutableSetMultimap<String, String> threeGenesPerFiveGene = entry.getValue().build();
+            // Build the inverse up front so that lookups by three gene never need to initialize it lazily.
+            threeGenesPerFiveGene.inverse();
+            threeGenesPerFiveGeneByType.put(entry.getKey(), threeGenesPerFiveGene);
+        }
+
+        return new KnownFusionCache(ImmutableList.copyOf(knownFusions), ImmutableMap.copyOf(threeGenesPerFiveGeneByType));
     }
 
     @NotNull
@@ -2,7 +2,9 @@ package com.hartwig.serve.common.classification;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.Maps;
 import com.hartwig.serve.common.classification.matchers.EventMatcher;
@@ -29,6 +31,31 @@ public class EventClassifierTest {
         assertEquals(EventType.UNKNOWN, classifier.determineType("any", "any"));
     }
 
+    @Test
+    public void canDetermineMutationTypesInTiers() {
+        AtomicInteger secondTierEvaluations = new AtomicInteger();
+
+        Map<EventType, EventMatcher> firstTier = Maps.newHashMap();
+        firstTier.put(EventType.COMPLEX, (gene, event) -> event.equals(MULTIPLE));
+        Map<EventType, EventMatcher> secondTier = Maps.newHashMap();
+        secondTier.put(EventType.VARIANT, (gene, event) -> secondTierEvaluations.incrementAndGet() > 0 && !event.equals(FUSION_PAIR));
+        secondTier.put(EventType.FUSION_PAIR, (gene, event) -> event.equals(FUSION_PAIR) || event.equals(MULTIPLE));
+
+        EventClassifier classifier = new EventClassifier(List.of(firstTier, secondTier), 10);
+
+        // Second tier matchers should not be evaluated once a first tier matcher has matched.
+        assertEquals(EventType.COMPLEX, classifier.determineType("any", MULTIPLE));
+        assertEquals(0, secondTierEvaluations.get());
+
+        assertEquals(EventType.VARIANT, classifier.determineType("any", VARIANT));
+        assertEquals(EventType.FUSION_PAIR, classifier.determineType("any", FUSION_PAIR));
+        assertEquals(2, secondTierEvaluations.get());
+
+        // Repeated classifications should be served from the cache.
+        assertEquals(EventType.VARIANT, classifier.determineType("any", VARIANT));
+        assertEquals(2, secondTierEvaluations.get());
+    }
+
     @NotNull
     private static Map<EventType, EventMatcher> buildTestMatcherMap() {
         Map<EventType, EventMatcher> map = Maps.newHashMap();
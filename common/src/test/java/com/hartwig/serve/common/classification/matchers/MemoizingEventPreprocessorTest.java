@@ -0,0 +1,40 @@
+package com.hartwig.serve.common.classification.matchers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class MemoizingEventPreprocessorTest {
+
+    @Test
+    public void canReuseResultForRepeatedEvents() {
+        AtomicInteger applications = new AtomicInteger();
+        MemoizingEventPreprocessor preprocessor = new MemoizingEventPreprocessor(event -> {
+            applications.incrementAndGet();
+            return event.toUpperCase();
+        }, 10);
+
+        assertEquals("V600E", preprocessor.apply("v600e"));
+        assertEquals("V600E", preprocessor.apply("v600e"));
+        assertEquals(1, applications.get());
+
+        assertEquals("G12D", preprocessor.apply("g12d"));
+        assertEquals("V600E", preprocessor.apply("v600e"));
+        assertEquals(2, applications.get());
+    }
+
+    @Test
+    public void doesNotCacheBeyondMaximum() {
+        AtomicInteger applications = new AtomicInteger();
+        MemoizingEventPreprocessor preprocessor = new MemoizingEventPreprocessor(event -> {
+            applications.incrementAndGet();
+            return event.toUpperCase();
+        }, 0);
+
+        assertEquals("V600E", preprocessor.apply("v600e"));
+        assertEquals("V600E", preprocessor.apply("v600e"));
+        assertEquals(2, applications.get());
+    }
+}
@@ -0,0 +1,170 @@
+package com.hartwig.serve.common.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Test;
+
+public class InsertBatcherTest {
+
+    private static final TestTable PARENT = new TestTable("parent");
+    private static final TestTable CHILD = new TestTable("child");
+
+    @Test
+    public void canAssignIdsClientSide() {
+        RecordingDatabase database = new RecordingDatabase(Map.of("parent", 41));
+        InsertBatcher batcher = new InsertBatcher(database.context());
+
+        assertEquals(42, batcher.nextId(PARENT.ID));
+        assertEquals(43, batcher.nextId(PARENT.ID));
+        assertEquals(1, batcher.nextId(CHILD.ID));
+        assertEquals(44, batcher.nextId(PARENT.ID));
+        assertEquals(2, batcher.nextId(CHILD.ID));
+
+        // The maximum stored ID is only fetched once per table.
+        assertEquals(2, database.statements.size());
+        assertTrue(database.statements.stream().allMatch(statement -> statement.sql.startsWith("select max")));
+    }
+
+    @Test
+    public void canGroupRowsPerTableAndWriteParentsFirst() {
+        RecordingDatabase database = new RecordingDatabase(Map.of());
+        InsertBatcher batcher = new InsertBatcher(database.context());
+
+        int firstParentId = batcher.nextId(PARENT.ID);
+        batcher.into(PARENT, PARENT.ID, PARENT.NAME).values(firstParentId, "first");
+        batcher.into(CHILD, CHILD.ID, CHILD.PARENT_ID, CHILD.NAME).values(batcher.nextId(CHILD.ID), firstParentId, "child of first");
+
+        int secondParentId = batcher.nextId(PARENT.ID);
+        batcher.into(PARENT, PARENT.ID, PARENT.NAME).values(secondParentId, "second");
+        batcher.into(CHILD, CHILD.ID, CHILD.PARENT_ID, CHILD.NAME).values(batcher.nextId(CHILD.ID), secondParentId, "child of second");
+
+        database.statements.clear();
+        batcher.flush();
+
+        assertEquals(2, database.statements.size());
+        assertInsert(database.statements.get(0), "parent", 1, "first", 2, "second");
+        assertInsert(database.statements.get(1), "child", 1, 1, "child of first", 2, 2, "child of second");
+
+        // Rows are only written once.
+        batcher.flush();
+        assertEquals(2, database.statements.size());
+    }
+
+    @Test
+    public void flushesAllTablesOnceBatchIsFull() {
+        RecordingDatabase database = new RecordingDatabase(Map.of());
+        InsertBatcher batcher = new InsertBatcher(database.context());
+
+        batcher.into(PARENT, PARENT.ID, PARENT.NAME).values(1, "parent");
+        for (int i = 1; i < InsertBatcher.DB_BATCH_INSERT_SIZE; i++) {
+            batcher.into(CHILD, CHILD.ID, CHILD.PARENT_ID, CHILD.NAME).values(i, 1, "child");
+        }
+        assertEquals(0, database.statements.size());
+
+        batcher.into(CHILD, CHILD.ID, CHILD.PARENT_ID, CHILD.NAME).values(InsertBatcher.DB_BATCH_INSERT_SIZE, 1, "child");
+        assertEquals(2, database.statements.size());
+        assertEquals(2, database.statements.get(0).bindings.length);
+        assertEquals(3 * InsertBatcher.DB_BATCH_INSERT_SIZE, database.statements.get(1).bindings.length);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void crashOnInconsistentFields() {
+        InsertBatcher batcher = new InsertBatcher(new RecordingDatabase(Map.of()).context());
+
+        batcher.into(PARENT, PARENT.ID, PARENT.NAME).values(1, "parent");
+        batcher.into(PARENT, PARENT.ID).values(2);
+    }
+
+    private static void assertInsert(@NotNull Statement statement, @NotNull String table, @NotNull Object... expectedBindings) {
+        assertTrue(statement.sql.startsWith("insert into \"" + table + "\""));
+        assertEquals(Arrays.asList(expectedBindings), Arrays.asList(statement.bindings));
+    }
+
+    private static final class TestTable extends TableImpl<Record> {
+
+        private final TableField<Record, Integer> ID = createField(DSL.name("id"), SQLDataType.INTEGER, this, "");
+        private final TableField<Record, Integer> PARENT_ID = createField(DSL.name("parentId"), SQLDataType.INTEGER, this, "");
+        private final TableField<Record, String> NAME = createField(DSL.name("name"), SQLDataType.VARCHAR, this, "");
+
+        private TestTable(@NotNull String name) {
+            super(DSL.name(name));
+        }
+    }
+
+    private static final class Statement {
+
+        @NotNull
+        private final String sql;
+        @NotNull
+        private final Object[] bindings;
+
+        private Statement(@NotNull final String sql, @NotNull final Object[] bindings) {
+            this.sql = sql;
+            this.bindings = bindings;
+        }
+    }
+
+    private static final class RecordingDatabase {
+
+        @NotNull
+        private final Map<String, Integer> maxIdPerTable;
+        @NotNull
+        private final List<Statement> statements = Lists.newArrayList();
+
+        private RecordingDatabase(@NotNull final Map<String, Integer> maxIdPerTable) {
+            this.maxIdPerTable = maxIdPerTable;
+        }
+
+        @NotNull
+        private DSLContext context() {
+            return DSL.using(new MockConnection(this::execute), SQLDialect.DEFAULT);
+        }
+
+        @NotNull
+        private MockResult[] execute(@NotNull MockExecuteContext executeContext) {
+            String sql = executeContext.sql();
+            statements.add(new Statement(sql, executeContext.bindings()));
+            if (!sql.startsWith("select max")) {
+                return new MockResult[] { new MockResult(executeContext.bindings().length, null) };
+            }
+
+            DSLContext create = DSL.using(SQLDialect.DEFAULT);
+            Field<Integer> max = DSL.field("max", Integer.class);
+            Result<Record1<Integer>> result = create.newResult(max);
+            result.add(create.newRecord(max).values(maxIdForQuery(sql)));
+            return new MockResult[] { new MockResult(1, result) };
+        }
+
+        @Nullable
+        private Integer maxIdForQuery(@NotNull String sql) {
+            for (Map.Entry<String, Integer> entry : maxIdPerTable.entrySet()) {
+                if (sql.contains("from \"" + entry.getKey() + "\"")) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+    }
+}
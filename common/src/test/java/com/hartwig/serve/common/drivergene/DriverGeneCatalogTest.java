@@ -0,0 +1,40 @@
+package com.hartwig.serve.common.drivergene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.io.Resources;
+
+import org.junit.Test;
+
+public class DriverGeneCatalogTest {
+
+    private static final String DRIVER_GENE_FILE = Resources.getResource("driver_genes/driver_gene_panel.tsv").getPath();
+
+    @Test
+    public void canLookupDriverGenes() throws IOException {
+        List<DriverGene> driverGenes = DriverGeneFile.read(DRIVER_GENE_FILE);
+        DriverGeneCatalog catalog = DriverGeneCatalog.create(driverGenes);
+
+        assertEquals(driverGenes, catalog.driverGenes());
+
+        assertTrue(catalog.contains("A"));
+        assertTrue(catalog.contains("B"));
+        assertFalse(catalog.contains("C"));
+
+        DriverGene geneB = catalog.findByGene("B");
+        assertNotNull(geneB);
+        assertEquals(2, geneB.additionalReportedTranscripts().size());
+        assertNull(catalog.findByGene("C"));
+
+        assertEquals(DriverCategory.TSG, catalog.findCategoryByGene("A"));
+        assertEquals(DriverCategory.ONCO, catalog.findCategoryByGene("B"));
+        assertNull(catalog.findCategoryByGene("C"));
+    }
+}
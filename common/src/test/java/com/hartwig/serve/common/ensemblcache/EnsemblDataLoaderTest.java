@@ -5,7 +5,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +29,21 @@ public class EnsemblDataLoaderTest {
         assertEnsemblTranscripts(cache.transcriptsPerGeneId());
     }
 
+    @Test
+    public void canLoadEnsemblDataCacheThroughSnapshot() throws IOException {
+        String snapshotDir = Files.createTempDirectory("ensembl_snapshot").toString();
+
+        EnsemblDataCache cache = EnsemblDataLoader.load(ENSEMBL_DATA_DIR, RefGenome.V37, snapshotDir);
+        assertTrue(new File(EnsemblDataSnapshot.snapshotFile(snapshotDir, RefGenome.V37)).exists());
+        assertFalse(new File(EnsemblDataSnapshot.snapshotFile(ENSEMBL_DATA_DIR, RefGenome.V37)).exists());
+
+        EnsemblDataCache snapshot = EnsemblDataLoader.load(ENSEMBL_DATA_DIR, RefGenome.V37, snapshotDir);
+        assertEquals(cache.genesPerChromosome(), snapshot.genesPerChromosome());
+        assertEquals(cache.transcriptsPerGeneId(), snapshot.transcriptsPerGeneId());
+        assertEnsemblGenes(snapshot.genesPerChromosome());
+        assertEnsemblTranscripts(snapshot.transcriptsPerGeneId());
+    }
+
     private static void assertEnsemblGenes(@NotNull Map<String, List<GeneData>> genesPerChromosome) {
         assertEquals(3, genesPerChromosome.size());
         for (List<GeneData> genes : genesPerChromosome.values()) {
@@ -0,0 +1,65 @@
+package com.hartwig.serve.common.ensemblcache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.io.Resources;
+import com.hartwig.serve.datamodel.RefGenome;
+
+import org.junit.Test;
+
+public class EnsemblDataSnapshotTest {
+
+    private static final String ENSEMBL_DATA_DIR = Resources.getResource("ensembl_data_cache").getPath();
+    private static final String GENE_DATA_FILE = ENSEMBL_DATA_DIR + File.separator + "ensembl_gene_data.csv";
+    private static final String TRANSCRIPT_DATA_FILE = ENSEMBL_DATA_DIR + File.separator + "ensembl_trans_exon_data.csv";
+
+    @Test
+    public void canWriteAndReadSnapshot() throws IOException {
+        EnsemblDataCache cache = EnsemblDataLoader.loadFromCsv(GENE_DATA_FILE, TRANSCRIPT_DATA_FILE, RefGenome.V37);
+        String fingerprint = EnsemblDataSnapshot.fingerprint(List.of(GENE_DATA_FILE, TRANSCRIPT_DATA_FILE));
+
+        String snapshotFile = EnsemblDataSnapshot.snapshotFile(Files.createTempDirectory("ensembl_snapshot").toString(), RefGenome.V37);
+        EnsemblDataSnapshot.write(snapshotFile, RefGenome.V37, fingerprint, cache);
+
+        EnsemblDataCache snapshot = EnsemblDataSnapshot.read(snapshotFile, RefGenome.V37, fingerprint);
+        assertNotNull(snapshot);
+        assertEquals(cache.genesPerChromosome(), snapshot.genesPerChromosome());
+        assertEquals(cache.transcriptsPerGeneId(), snapshot.transcriptsPerGeneId());
+    }
+
+    @Test
+    public void ignoresSnapshotWithDifferentFingerprintOrRefGenome() throws IOException {
+        EnsemblDataCache cache = EnsemblDataLoader.loadFromCsv(GENE_DATA_FILE, TRANSCRIPT_DATA_FILE, RefGenome.V37);
+
+        String snapshotFile = EnsemblDataSnapshot.snapshotFile(Files.createTempDirectory("ensembl_snapshot").toString(), RefGenome.V37);
+        assertNull(EnsemblDataSnapshot.read(snapshotFile, RefGenome.V37, "fingerprint"));
+
+        EnsemblDataSnapshot.write(snapshotFile, RefGenome.V37, "fingerprint", cache);
+        assertNull(EnsemblDataSnapshot.read(snapshotFile, RefGenome.V37, "other fingerprint"));
+        assertNull(EnsemblDataSnapshot.read(snapshotFile, RefGenome.V38, "fingerprint"));
+    }
+
+    @Test
+    public void ignoresTruncatedSnapshot() throws IOException {
+        EnsemblDataCache cache = EnsemblDataLoader.loadFromCsv(GENE_DATA_FILE, TRANSCRIPT_DATA_FILE, RefGenome.V37);
+
+        String snapshotFile = EnsemblDataSnapshot.snapshotFile(Files.createTempDirectory("ensembl_snapshot").toString(), RefGenome.V37);
+        EnsemblDataSnapshot.write(snapshotFile, RefGenome.V37, "fingerprint", cache);
+
+        Path snapshotPath = new File(snapshotFile).toPath();
+        byte[] content = Files.readAllBytes(snapshotPath);
+        for (int length : new int[] { 0, 6, content.length / 3, content.length - 1 }) {
+            Files.write(snapshotPath, Arrays.copyOf(content, length));
+            assertNull(EnsemblDataSnapshot.read(snapshotFile, RefGenome.V37, "fingerprint"));
+        }
+    }
+}
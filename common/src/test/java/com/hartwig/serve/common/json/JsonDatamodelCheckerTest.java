@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import java.util.Map;
 
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.gson.JsonObject;
 
 import org.junit.Test;
@@ -31,5 +32,8 @@ public class JsonDatamodelCheckerTest {
 
         object.addProperty("C", "test C");
         assertFalse(checker.check(object));
+
+        assertTrue(checker.check(Sets.newHashSet("A")));
+        assertFalse(checker.check(Sets.newHashSet("B")));
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.hartwig.serve.common.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import com.google.common.collect.Lists;
+import com.google.gson.stream.JsonReader;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class JsonStreamTest {
+
+    @Test
+    public void canReadStringLists() throws IOException {
+        JsonReader reader = toReader("[null, [\"value1\", \"value2\"], \"string\"]");
+
+        assertNull(JsonStream.nullableStringList(reader));
+        assertEquals(Lists.newArrayList("value1", "value2"), JsonStream.nullableStringList(reader));
+        assertEquals(Lists.newArrayList("string"), JsonStream.stringList(reader));
+    }
+
+    @Test
+    public void canReadStrings() throws IOException {
+        JsonReader reader = toReader("[null, \"value\", 1, true]");
+
+        assertNull(JsonStream.nullableString(reader));
+        assertEquals("value", JsonStream.nullableString(reader));
+        assertEquals("1", JsonStream.string(reader));
+        assertEquals("true", JsonStream.string(reader));
+    }
+
+    @Test
+    public void canReadIntegers() throws IOException {
+        JsonReader reader = toReader("[8, \"9\"]");
+
+        assertEquals(8, JsonStream.integer(reader));
+        assertEquals(9, JsonStream.integer(reader));
+    }
+
+    @Test
+    public void canDetermineNulls() throws IOException {
+        JsonReader reader = toReader("[null, 1]");
+
+        assertTrue(JsonStream.isNull(reader));
+        assertFalse(JsonStream.isNull(reader));
+        assertEquals(1, JsonStream.integer(reader));
+    }
+
+    @NotNull
+    private static JsonReader toReader(@NotNull String json) throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(json));
+        reader.beginArray();
+        return reader;
+    }
+}
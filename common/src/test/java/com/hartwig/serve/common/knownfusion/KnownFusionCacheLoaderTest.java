@@ -45,6 +45,22 @@ public class KnownFusionCacheLoaderTest {
         assertFalse(fusion3.highImpactPromiscuous());
     }
 
+    @Test
+    public void canQueryKnownFusionCache() throws IOException {
+        KnownFusionCache cache = KnownFusionCacheLoader.load(KNOWN_FUSION_FILE);
+
+        assertTrue(cache.hasKnownFusion("EML4", "ALK"));
+        assertFalse(cache.hasKnownFusion("ALK", "EML4"));
+        assertFalse(cache.hasKnownIgFusion("EML4", "ALK"));
+
+        assertTrue(cache.hasPromiscuousThreeGene("NTRK3"));
+        assertFalse(cache.hasPromiscuousFiveGene("NTRK3"));
+
+        assertTrue(cache.hasAnyExonDelDup("AHR"));
+        assertFalse(cache.hasAnyExonDelDup("ALK"));
+        assertFalse(cache.hasAnyIgFusion("ALK"));
+    }
+
     private static KnownFusionData findByThreeGene(@NotNull List<KnownFusionData> knownFusions, @NotNull String threeGeneToFind) {
         return knownFusions.stream().filter(fusion -> fusion.threeGene().equals(threeGeneToFind)).findFirst().orElseThrow();
     }
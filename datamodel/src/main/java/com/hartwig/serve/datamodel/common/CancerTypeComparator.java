@@ -2,6 +2,8 @@ package com.hartwig.serve.datamodel.common;
 
 import java.util.Comparator;
 
+import com.hartwig.serve.datamodel.util.ComparisonKey;
+
 import org.jetbrains.annotations.NotNull;
 
 public class CancerTypeComparator implements Comparator<CancerType> {
@@ -15,4 +17,8 @@ public class CancerTypeComparator implements Comparator<CancerType> {
 
         return cancerType1.doid().compareTo(cancerType2.doid());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull CancerType cancerType) {
+        key.add(cancerType.name()).add(cancerType.doid());
+    }
 }
@@ -3,6 +3,7 @@ package com.hartwig.serve.datamodel.common;
 import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.util.CompareFunctions;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -20,4 +21,9 @@ public class IndicationComparator implements Comparator<Indication> {
 
         return CompareFunctions.compareSetOfComparable(indication1.excludedSubTypes(), indication2.excludedSubTypes());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull Indication indication) {
+        CancerTypeComparator.addToKey(key, indication.applicableType());
+        key.addSet(indication.excludedSubTypes(), CancerTypeComparator::addToKey);
+    }
 }
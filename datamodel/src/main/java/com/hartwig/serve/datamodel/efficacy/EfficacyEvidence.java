@@ -1,6 +1,5 @@
 package com.hartwig.serve.datamodel.efficacy;
 
-import java.util.Comparator;
 import java.util.Set;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -8,20 +7,19 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.hartwig.serve.datamodel.Knowledgebase;
 import com.hartwig.serve.datamodel.common.Indication;
 import com.hartwig.serve.datamodel.molecular.MolecularCriterium;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-@Value.Immutable
+@Value.Immutable(prehash = true)
 @JsonSerialize(as = ImmutableEfficacyEvidence.class)
 @JsonDeserialize(as = ImmutableEfficacyEvidence.class)
 @Value.Style(passAnnotations = { NotNull.class, Nullable.class },
              jdkOnly = true)
 public abstract class EfficacyEvidence implements Comparable<EfficacyEvidence> {
 
-    private static final Comparator<EfficacyEvidence> COMPARATOR = new EfficacyEvidenceComparator();
-
     @NotNull
     public abstract Knowledgebase source();
 
@@ -51,8 +49,26 @@ public abstract class EfficacyEvidence implements Comparable<EfficacyEvidence> {
     @NotNull
     public abstract Set<String> urls();
 
+    // The source, treatment and indication are compared on a key that is encoded once, instead of on their fields for every pair.
+    @NotNull
+    @Value.Lazy
+    public String comparisonKey() {
+        ComparisonKey key = new ComparisonKey();
+        EfficacyEvidenceComparator.addToKey(key, this);
+        return key.build();
+    }
+
     @Override
     public int compareTo(EfficacyEvidence other) {
-        return COMPARATOR.compare(this, other);
+        if (this == other) {
+            return 0;
+        }
+
+        int keyCompare = comparisonKey().compareTo(other.comparisonKey());
+        if (keyCompare != 0) {
+            return keyCompare;
+        }
+
+        return EfficacyEvidenceComparator.compareFromMolecularCriterium(this, other);
     }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.hartwig.serve.datamodel.efficacy;
 
 import java.util.Comparator;
 
+import com.hartwig.serve.datamodel.common.IndicationComparator;
 import com.hartwig.serve.datamodel.util.CompareFunctions;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -10,6 +12,10 @@ public class EfficacyEvidenceComparator implements Comparator<EfficacyEvidence>
 
     @Override
     public int compare(@NotNull EfficacyEvidence evidence1, @NotNull EfficacyEvidence evidence2) {
+        if (evidence1 == evidence2) {
+            return 0;
+        }
+
         int sourceCompare = evidence1.source().compareTo(evidence2.source());
         if (sourceCompare != 0) {
             return sourceCompare;
@@ -25,6 +31,18 @@ public class EfficacyEvidenceComparator implements Comparator<EfficacyEvidence>
             return indicationCompare;
         }
 
+        return compareFromMolecularCriterium(evidence1, evidence2);
+    }
+
+    // Encodes the fields that are compared before the molecular criterium. The criterium has a key of its own, and embedding it
+    // would make evidences that share it compare the full criterium key.
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull EfficacyEvidence evidence) {
+        key.add(evidence.source());
+        TreatmentComparator.addToKey(key, evidence.treatment());
+        IndicationComparator.addToKey(key, evidence.indication());
+    }
+
+    static int compareFromMolecularCriterium(@NotNull EfficacyEvidence evidence1, @NotNull EfficacyEvidence evidence2) {
         int molecularCriteriumCompare = evidence1.molecularCriterium().compareTo(evidence2.molecularCriterium());
         if (molecularCriteriumCompare != 0) {
             return molecularCriteriumCompare;
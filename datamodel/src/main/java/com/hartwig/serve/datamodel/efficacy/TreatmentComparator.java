@@ -3,6 +3,7 @@ package com.hartwig.serve.datamodel.efficacy;
 import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.util.CompareFunctions;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -23,4 +24,10 @@ public class TreatmentComparator implements Comparator<Treatment> {
 
         return CompareFunctions.compareSetOfComparable(treatment1.treatmentApproachesTherapy(), treatment2.treatmentApproachesTherapy());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull Treatment treatment) {
+        key.add(treatment.name())
+                .addStrings(treatment.treatmentApproachesDrugClass())
+                .addStrings(treatment.treatmentApproachesTherapy());
+    }
 }
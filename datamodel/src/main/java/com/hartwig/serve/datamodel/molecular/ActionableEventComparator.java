@@ -3,6 +3,7 @@ package com.hartwig.serve.datamodel.molecular;
 import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.util.CompareFunctions;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -22,4 +23,8 @@ public class ActionableEventComparator implements Comparator<ActionableEvent> {
 
         return CompareFunctions.compareSetOfComparable(event1.sourceUrls(), event2.sourceUrls());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull ActionableEvent event) {
+        key.add(event.sourceEvent()).addDescending(event.sourceDate()).addStrings(event.sourceUrls());
+    }
 }
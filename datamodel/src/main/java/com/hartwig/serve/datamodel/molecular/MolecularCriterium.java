@@ -1,6 +1,5 @@
 package com.hartwig.serve.datamodel.molecular;
 
-import java.util.Comparator;
 import java.util.Set;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -11,20 +10,19 @@ import com.hartwig.serve.datamodel.molecular.gene.ActionableGene;
 import com.hartwig.serve.datamodel.molecular.hotspot.ActionableHotspot;
 import com.hartwig.serve.datamodel.molecular.immuno.ActionableHLA;
 import com.hartwig.serve.datamodel.molecular.range.ActionableRange;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-@Value.Immutable
+@Value.Immutable(prehash = true)
 @Value.Style(passAnnotations = { NotNull.class, Nullable.class },
              jdkOnly = true)
 @JsonSerialize(as = ImmutableMolecularCriterium.class)
 @JsonDeserialize(as = ImmutableMolecularCriterium.class)
 public abstract class MolecularCriterium implements Comparable<MolecularCriterium> {
 
-    private static final Comparator<MolecularCriterium> COMPARATOR = new MolecularCriteriumComparator();
-
     @NotNull
     public abstract Set<ActionableHotspot> hotspots();
 
@@ -46,9 +44,22 @@ public abstract class MolecularCriterium implements Comparable<MolecularCriteriu
     @NotNull
     public abstract Set<ActionableHLA> hla();
 
+    // Orders the same as MolecularCriteriumComparator, but sorting compares one string per pair instead of walking all nested sets.
+    @NotNull
+    @Value.Lazy
+    public String comparisonKey() {
+        ComparisonKey key = new ComparisonKey();
+        MolecularCriteriumComparator.addToKey(key, this);
+        return key.build();
+    }
+
     @Override
     public int compareTo(MolecularCriterium other) {
-        return COMPARATOR.compare(this, other);
+        if (this == other) {
+            return 0;
+        }
+
+        return comparisonKey().compareTo(other.comparisonKey());
     }
 
 }
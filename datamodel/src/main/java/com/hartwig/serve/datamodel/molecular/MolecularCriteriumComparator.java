@@ -2,7 +2,14 @@ package com.hartwig.serve.datamodel.molecular;
 
 import java.util.Comparator;
 
+import com.hartwig.serve.datamodel.molecular.characteristic.ActionableCharacteristicComparator;
+import com.hartwig.serve.datamodel.molecular.fusion.ActionableFusionComparator;
+import com.hartwig.serve.datamodel.molecular.gene.ActionableGeneComparator;
+import com.hartwig.serve.datamodel.molecular.hotspot.ActionableHotspotComparator;
+import com.hartwig.serve.datamodel.molecular.immuno.ActionableHLAComparator;
+import com.hartwig.serve.datamodel.molecular.range.ActionableRangeComparator;
 import com.hartwig.serve.datamodel.util.CompareFunctions;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -10,6 +17,10 @@ public class MolecularCriteriumComparator implements Comparator<MolecularCriteri
 
     @Override
     public int compare(@NotNull MolecularCriterium molecularCriterium1, @NotNull MolecularCriterium molecularCriterium2) {
+        if (molecularCriterium1 == molecularCriterium2) {
+            return 0;
+        }
+
         int hotspotsCompare = CompareFunctions.compareSetOfComparable(molecularCriterium1.hotspots(), molecularCriterium2.hotspots());
         if (hotspotsCompare != 0) {
             return hotspotsCompare;
@@ -43,4 +54,14 @@ public class MolecularCriteriumComparator implements Comparator<MolecularCriteri
 
         return CompareFunctions.compareSetOfComparable(molecularCriterium1.hla(), molecularCriterium2.hla());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull MolecularCriterium molecularCriterium) {
+        key.addSet(molecularCriterium.hotspots(), ActionableHotspotComparator::addToKey)
+                .addSet(molecularCriterium.codons(), ActionableRangeComparator::addToKey)
+                .addSet(molecularCriterium.exons(), ActionableRangeComparator::addToKey)
+                .addSet(molecularCriterium.genes(), ActionableGeneComparator::addToKey)
+                .addSet(molecularCriterium.fusions(), ActionableFusionComparator::addToKey)
+                .addSet(molecularCriterium.characteristics(), ActionableCharacteristicComparator::addToKey)
+                .addSet(molecularCriterium.hla(), ActionableHLAComparator::addToKey);
+    }
 }
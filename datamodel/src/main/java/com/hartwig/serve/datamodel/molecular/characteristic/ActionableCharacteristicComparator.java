@@ -4,6 +4,7 @@ import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.molecular.ActionableEvent;
 import com.hartwig.serve.datamodel.molecular.ActionableEventComparator;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -23,4 +24,9 @@ public class ActionableCharacteristicComparator implements Comparator<Actionable
 
         return actionableEventComparator.compare(characteristic1, characteristic2);
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull ActionableCharacteristic characteristic) {
+        TumorCharacteristicComparator.addToKey(key, characteristic);
+        ActionableEventComparator.addToKey(key, characteristic);
+    }
 }
@@ -3,6 +3,7 @@ package com.hartwig.serve.datamodel.molecular.characteristic;
 import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.util.CompareFunctions;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,4 +36,11 @@ public class TumorCharacteristicComparator implements Comparator<TumorCharacteri
 
         return type1.toString().compareTo(type2.toString());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull TumorCharacteristic characteristic) {
+        TumorCharacteristicCutoffType cutoffType = characteristic.cutoffType();
+        key.add(characteristic.type().toString())
+                .addNullable(characteristic.cutoff())
+                .addNullable(cutoffType != null ? cutoffType.toString() : null);
+    }
 }
@@ -2,6 +2,8 @@ package com.hartwig.serve.datamodel.molecular.common;
 
 import java.util.Comparator;
 
+import com.hartwig.serve.datamodel.util.ComparisonKey;
+
 import org.jetbrains.annotations.NotNull;
 
 public class ChromosomeComparator implements Comparator<String> {
@@ -35,4 +37,8 @@ public class ChromosomeComparator implements Comparator<String> {
 
         return chromosome;
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull String chromosome) {
+        key.add(chromosomeRank(chromosome));
+    }
 }
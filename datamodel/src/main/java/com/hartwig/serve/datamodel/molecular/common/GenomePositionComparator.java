@@ -2,6 +2,8 @@ package com.hartwig.serve.datamodel.molecular.common;
 
 import java.util.Comparator;
 
+import com.hartwig.serve.datamodel.util.ComparisonKey;
+
 import org.jetbrains.annotations.NotNull;
 
 public class GenomePositionComparator implements Comparator<GenomePosition> {
@@ -18,4 +20,9 @@ public class GenomePositionComparator implements Comparator<GenomePosition> {
 
         return Integer.compare(position1.position(), position2.position());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull GenomePosition position) {
+        ChromosomeComparator.addToKey(key, position.chromosome());
+        key.add(position.position());
+    }
 }
@@ -2,6 +2,8 @@ package com.hartwig.serve.datamodel.molecular.common;
 
 import java.util.Comparator;
 
+import com.hartwig.serve.datamodel.util.ComparisonKey;
+
 import org.jetbrains.annotations.NotNull;
 
 public class GenomeRegionComparator implements Comparator<GenomeRegion> {
@@ -23,4 +25,9 @@ public class GenomeRegionComparator implements Comparator<GenomeRegion> {
 
         return Integer.compare(region1.end(), region2.end());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull GenomeRegion region) {
+        ChromosomeComparator.addToKey(key, region.chromosome());
+        key.add(region.start()).add(region.end());
+    }
 }
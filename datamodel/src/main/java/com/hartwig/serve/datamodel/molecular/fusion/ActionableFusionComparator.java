@@ -4,6 +4,7 @@ import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.molecular.ActionableEvent;
 import com.hartwig.serve.datamodel.molecular.ActionableEventComparator;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -23,4 +24,9 @@ public class ActionableFusionComparator implements Comparator<ActionableFusion>
 
         return actionableEventComparator.compare(fusion1, fusion2);
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull ActionableFusion fusion) {
+        FusionPairComparator.addToKey(key, fusion);
+        ActionableEventComparator.addToKey(key, fusion);
+    }
 }
@@ -3,6 +3,7 @@ package com.hartwig.serve.datamodel.molecular.fusion;
 import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.util.CompareFunctions;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -27,4 +28,8 @@ public class FusionPairComparator implements Comparator<FusionPair> {
 
         return CompareFunctions.compareNullableIntegers(pair1.minExonDown(), pair2.minExonDown());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull FusionPair pair) {
+        key.add(pair.geneUp()).add(pair.geneDown()).addNullable(pair.minExonUp()).addNullable(pair.minExonDown());
+    }
 }
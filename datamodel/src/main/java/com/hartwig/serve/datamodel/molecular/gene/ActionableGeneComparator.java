@@ -4,6 +4,7 @@ import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.molecular.ActionableEvent;
 import com.hartwig.serve.datamodel.molecular.ActionableEventComparator;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -23,4 +24,9 @@ public class ActionableGeneComparator implements Comparator<ActionableGene> {
 
         return actionableEventComparator.compare(gene1, gene2);
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull ActionableGene gene) {
+        GeneAnnotationComparator.addToKey(key, gene);
+        ActionableEventComparator.addToKey(key, gene);
+    }
 }
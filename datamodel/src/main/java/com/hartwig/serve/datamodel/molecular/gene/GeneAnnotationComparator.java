@@ -2,6 +2,8 @@ package com.hartwig.serve.datamodel.molecular.gene;
 
 import java.util.Comparator;
 
+import com.hartwig.serve.datamodel.util.ComparisonKey;
+
 import org.jetbrains.annotations.NotNull;
 
 public class GeneAnnotationComparator implements Comparator<GeneAnnotation> {
@@ -15,4 +17,8 @@ public class GeneAnnotationComparator implements Comparator<GeneAnnotation> {
 
         return annotation1.event().toString().compareTo(annotation2.event().toString());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull GeneAnnotation annotation) {
+        key.add(annotation.gene()).add(annotation.event().toString());
+    }
 }
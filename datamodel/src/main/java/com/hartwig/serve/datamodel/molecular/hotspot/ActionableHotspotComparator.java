@@ -5,6 +5,7 @@ import java.util.Comparator;
 import com.hartwig.serve.datamodel.molecular.ActionableEvent;
 import com.hartwig.serve.datamodel.molecular.ActionableEventComparator;
 import com.hartwig.serve.datamodel.util.CompareFunctions;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -22,4 +23,9 @@ public class ActionableHotspotComparator implements Comparator<ActionableHotspot
 
         return actionableEventComparator.compare(hotspot1, hotspot2);
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull ActionableHotspot hotspot) {
+        key.addSet(hotspot.variants(), VariantHotspotComparator::addToKey);
+        ActionableEventComparator.addToKey(key, hotspot);
+    }
 }
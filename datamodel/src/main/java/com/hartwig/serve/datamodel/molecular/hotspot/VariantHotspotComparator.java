@@ -4,6 +4,7 @@ import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.molecular.common.GenomePosition;
 import com.hartwig.serve.datamodel.molecular.common.GenomePositionComparator;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -38,4 +39,9 @@ public class VariantHotspotComparator implements Comparator<VariantHotspot> {
 
         return variant1.gene().compareTo(variant2.gene());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull VariantHotspot variant) {
+        GenomePositionComparator.addToKey(key, variant);
+        key.add(Math.max(variant.ref().length(), variant.alt().length())).add(variant.ref()).add(variant.alt()).add(variant.gene());
+    }
 }
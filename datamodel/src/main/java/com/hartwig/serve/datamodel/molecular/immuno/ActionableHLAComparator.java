@@ -4,6 +4,7 @@ import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.molecular.ActionableEvent;
 import com.hartwig.serve.datamodel.molecular.ActionableEventComparator;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -23,4 +24,9 @@ public class ActionableHLAComparator implements Comparator<ActionableHLA> {
 
         return actionableEventComparator.compare(hla1, hla2);
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull ActionableHLA hla) {
+        ImmunoAnnotationComparator.addToKey(key, hla);
+        ActionableEventComparator.addToKey(key, hla);
+    }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.hartwig.serve.datamodel.molecular.immuno;
 
 import java.util.Comparator;
 
+import com.hartwig.serve.datamodel.util.ComparisonKey;
+
 import org.jetbrains.annotations.NotNull;
 
 public class ImmunoAnnotationComparator implements Comparator<ImmunoAnnotation> {
@@ -15,4 +17,8 @@ public class ImmunoAnnotationComparator implements Comparator<ImmunoAnnotation>
 
         return pair1.alleleGroup().compareTo(pair2.alleleGroup());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull ImmunoAnnotation annotation) {
+        key.add(annotation.gene()).add(annotation.alleleGroup());
+    }
 }
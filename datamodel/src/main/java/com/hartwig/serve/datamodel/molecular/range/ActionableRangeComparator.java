@@ -4,6 +4,7 @@ import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.molecular.ActionableEvent;
 import com.hartwig.serve.datamodel.molecular.ActionableEventComparator;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -23,4 +24,9 @@ public class ActionableRangeComparator implements Comparator<ActionableRange> {
 
         return actionableEventComparator.compare(range1, range2);
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull ActionableRange range) {
+        RangeAnnotationComparator.addToKey(key, range);
+        ActionableEventComparator.addToKey(key, range);
+    }
 }
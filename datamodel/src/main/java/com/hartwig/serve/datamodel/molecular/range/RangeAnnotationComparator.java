@@ -4,6 +4,7 @@ import java.util.Comparator;
 
 import com.hartwig.serve.datamodel.molecular.common.GenomeRegion;
 import com.hartwig.serve.datamodel.molecular.common.GenomeRegionComparator;
+import com.hartwig.serve.datamodel.util.ComparisonKey;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -26,4 +27,9 @@ public class RangeAnnotationComparator implements Comparator<RangeAnnotation> {
 
         return annotation1.applicableMutationType().toString().compareTo(annotation2.applicableMutationType().toString());
     }
+
+    public static void addToKey(@NotNull ComparisonKey key, @NotNull RangeAnnotation annotation) {
+        GenomeRegionComparator.addToKey(key, annotation);
+        key.add(annotation.gene()).add(annotation.applicableMutationType().toString());
+    }
 }
@@ -0,0 +1,168 @@
+package com.hartwig.serve.datamodel.serialization;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.hartwig.serve.datamodel.ImmutableServeDatabase;
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.datamodel.ServeDatabase;
+import com.hartwig.serve.datamodel.ServeRecord;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public final class ServeBinary {
+
+    private static final int MAGIC = 0x53525642;
+
+    // Bump whenever the layout of the binary format or the encoding of any datamodel type changes.
+    private static final int SCHEMA_VERSION = 2;
+
+    private ServeBinary() {
+    }
+
+    @NotNull
+    public static String binaryFilePath(@NotNull String outputDir) {
+        return outputDir + File.separator + "serve.bin";
+    }
+
+    @NotNull
+    public static ServeDatabase read(@NotNull String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            return readFromBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @Nullable
+    public static ServeRecord readRecord(@NotNull String filePath, @NotNull RefGenome refGenome) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            return readRecordFromBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), refGenome);
+        }
+    }
+
+    public static void write(@NotNull ServeDatabase database, @NotNull String filePath) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(filePath))) {
+            writeToStream(database, outputStream);
+        }
+    }
+
+    @NotNull
+    static ServeDatabase readFromStream(@NotNull InputStream inputStream) throws IOException {
+        return readFromBuffer(ByteBuffer.wrap(inputStream.readAllBytes()));
+    }
+
+    @Nullable
+    static ServeRecord readRecordFromStream(@NotNull InputStream inputStream, @NotNull RefGenome refGenome) throws IOException {
+        return readRecordFromBuffer(ByteBuffer.wrap(inputStream.readAllBytes()), refGenome);
+    }
+
+    static void writeToStream(@NotNull ServeDatabase database, @NotNull OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeInt(SCHEMA_VERSION);
+        writeHeaderString(output, database.version());
+
+        Map<RefGenome, ServeRecord> records = new TreeMap<>(database.records());
+        output.writeInt(records.size());
+        for (Map.Entry<RefGenome, ServeRecord> entry : records.entrySet()) {
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            ServeBinaryEncoder.encodeRecord(entry.getValue(), new DataOutputStream(recordBytes));
+
+            writeHeaderString(output, entry.getKey().name());
+            output.writeInt(recordBytes.size());
+            recordBytes.writeTo(output);
+        }
+        output.flush();
+    }
+
+    @NotNull
+    private static ServeDatabase readFromBuffer(@NotNull ByteBuffer buffer) throws IOException {
+        try {
+            ImmutableServeDatabase.Builder builder = ImmutableServeDatabase.builder().version(readHeader(buffer));
+            int recordCount = buffer.getInt();
+            for (int i = 0; i < recordCount; i++) {
+                RefGenome refGenome = RefGenome.valueOf(readHeaderString(buffer));
+                int recordLength = buffer.getInt();
+                builder.putRecords(refGenome, ServeBinaryDecoder.decodeRecord(recordSlice(buffer, recordLength)));
+            }
+            return builder.build();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | DateTimeException exception) {
+            throw new IOException("Binary SERVE database is truncated or corrupt", exception);
+        }
+    }
+
+    @Nullable
+    private static ServeRecord readRecordFromBuffer(@NotNull ByteBuffer buffer, @NotNull RefGenome refGenome) throws IOException {
+        try {
+            readHeader(buffer);
+            int recordCount = buffer.getInt();
+            for (int i = 0; i < recordCount; i++) {
+                RefGenome recordRefGenome = RefGenome.valueOf(readHeaderString(buffer));
+                int recordLength = buffer.getInt();
+                ByteBuffer record = recordSlice(buffer, recordLength);
+                if (recordRefGenome == refGenome) {
+                    return ServeBinaryDecoder.decodeRecord(record);
+                }
+                // Every record is prefixed with its length, so records of other ref genome versions are skipped without decoding them.
+            }
+            return null;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | DateTimeException exception) {
+            throw new IOException("Binary SERVE database is truncated or corrupt", exception);
+        }
+    }
+
+    @NotNull
+    private static String readHeader(@NotNull ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("Input is not a binary SERVE database");
+        }
+
+        int schemaVersion = buffer.getInt();
+        if (schemaVersion != SCHEMA_VERSION) {
+            throw new IOException("Unsupported binary SERVE database schema version " + schemaVersion + ", expected " + SCHEMA_VERSION);
+        }
+        return readHeaderString(buffer);
+    }
+
+    @NotNull
+    private static ByteBuffer recordSlice(@NotNull ByteBuffer buffer, int recordLength) {
+        if (recordLength < 0 || recordLength > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer record = buffer.slice(buffer.position(), recordLength);
+        buffer.position(buffer.position() + recordLength);
+        return record;
+    }
+
+    private static void writeHeaderString(@NotNull DataOutputStream output, @NotNull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @NotNull
+    private static String readHeaderString(@NotNull ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,525 @@
+package com.hartwig.serve.datamodel.serialization;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.hartwig.serve.datamodel.ImmutableServeRecord;
+import com.hartwig.serve.datamodel.Knowledgebase;
+import com.hartwig.serve.datamodel.ServeRecord;
+import com.hartwig.serve.datamodel.common.CancerType;
+import com.hartwig.serve.datamodel.common.ImmutableCancerType;
+import com.hartwig.serve.datamodel.common.ImmutableIndication;
+import com.hartwig.serve.datamodel.common.Indication;
+import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
+import com.hartwig.serve.datamodel.efficacy.EvidenceDirection;
+import com.hartwig.serve.datamodel.efficacy.EvidenceLevel;
+import com.hartwig.serve.datamodel.efficacy.EvidenceLevelDetails;
+import com.hartwig.serve.datamodel.efficacy.ImmutableEfficacyEvidence;
+import com.hartwig.serve.datamodel.efficacy.ImmutableTreatment;
+import com.hartwig.serve.datamodel.efficacy.Treatment;
+import com.hartwig.serve.datamodel.molecular.ImmutableKnownEvents;
+import com.hartwig.serve.datamodel.molecular.ImmutableMolecularCriterium;
+import com.hartwig.serve.datamodel.molecular.KnownEvents;
+import com.hartwig.serve.datamodel.molecular.MolecularCriterium;
+import com.hartwig.serve.datamodel.molecular.MutationType;
+import com.hartwig.serve.datamodel.molecular.characteristic.ActionableCharacteristic;
+import com.hartwig.serve.datamodel.molecular.characteristic.ImmutableActionableCharacteristic;
+import com.hartwig.serve.datamodel.molecular.characteristic.TumorCharacteristicCutoffType;
+import com.hartwig.serve.datamodel.molecular.characteristic.TumorCharacteristicType;
+import com.hartwig.serve.datamodel.molecular.common.GeneRole;
+import com.hartwig.serve.datamodel.molecular.common.ProteinEffect;
+import com.hartwig.serve.datamodel.molecular.fusion.ActionableFusion;
+import com.hartwig.serve.datamodel.molecular.fusion.ImmutableActionableFusion;
+import com.hartwig.serve.datamodel.molecular.fusion.ImmutableKnownFusion;
+import com.hartwig.serve.datamodel.molecular.fusion.KnownFusion;
+import com.hartwig.serve.datamodel.molecular.gene.ActionableGene;
+import com.hartwig.serve.datamodel.molecular.gene.GeneEvent;
+import com.hartwig.serve.datamodel.molecular.gene.ImmutableActionableGene;
+import com.hartwig.serve.datamodel.molecular.gene.ImmutableKnownCopyNumber;
+import com.hartwig.serve.datamodel.molecular.gene.ImmutableKnownGene;
+import com.hartwig.serve.datamodel.molecular.gene.KnownCopyNumber;
+import com.hartwig.serve.datamodel.molecular.gene.KnownGene;
+import com.hartwig.serve.datamodel.molecular.hotspot.ActionableHotspot;
+import com.hartwig.serve.datamodel.molecular.hotspot.ImmutableActionableHotspot;
+import com.hartwig.serve.datamodel.molecular.hotspot.ImmutableKnownHotspot;
+import com.hartwig.serve.datamodel.molecular.hotspot.ImmutableVariantAnnotation;
+import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
+import com.hartwig.serve.datamodel.molecular.hotspot.VariantAnnotation;
+import com.hartwig.serve.datamodel.molecular.immuno.ActionableHLA;
+import com.hartwig.serve.datamodel.molecular.immuno.ImmutableActionableHLA;
+import com.hartwig.serve.datamodel.molecular.range.ActionableRange;
+import com.hartwig.serve.datamodel.molecular.range.ImmutableActionableRange;
+import com.hartwig.serve.datamodel.molecular.range.ImmutableKnownCodon;
+import com.hartwig.serve.datamodel.molecular.range.ImmutableKnownExon;
+import com.hartwig.serve.datamodel.molecular.range.KnownCodon;
+import com.hartwig.serve.datamodel.molecular.range.KnownExon;
+import com.hartwig.serve.datamodel.trial.ActionableTrial;
+import com.hartwig.serve.datamodel.trial.Country;
+import com.hartwig.serve.datamodel.trial.GenderCriterium;
+import com.hartwig.serve.datamodel.trial.Hospital;
+import com.hartwig.serve.datamodel.trial.ImmutableActionableTrial;
+import com.hartwig.serve.datamodel.trial.ImmutableCountry;
+import com.hartwig.serve.datamodel.trial.ImmutableHospital;
+import com.hartwig.serve.datamodel.trial.Phase;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Decodes a record written by ServeBinaryEncoder, reading every datamodel type in the exact order in which its fields were written.
+final class ServeBinaryDecoder {
+
+    @NotNull
+    private final ByteBuffer input;
+    @NotNull
+    private final String[] dictionary;
+    @NotNull
+    private final List<Treatment> treatments = new ArrayList<>();
+    @NotNull
+    private final List<Indication> indications = new ArrayList<>();
+    @NotNull
+    private final List<MolecularCriterium> molecularCriteria = new ArrayList<>();
+
+    private ServeBinaryDecoder(@NotNull final ByteBuffer input, @NotNull final String[] dictionary) {
+        this.input = input;
+        this.dictionary = dictionary;
+    }
+
+    @NotNull
+    static ServeRecord decodeRecord(@NotNull ByteBuffer input) {
+        // Every distinct string is decoded only once, so repeated values share a single instance on the heap.
+        String[] dictionary = new String[checkedCount(input, readVarInt(input))];
+        byte[] bytes = new byte[0];
+        for (int i = 0; i < dictionary.length; i++) {
+            int length = checkedCount(input, readVarInt(input));
+            if (bytes.length < length) {
+                bytes = new byte[Math.max(length, 2 * bytes.length)];
+            }
+            input.get(bytes, 0, length);
+            dictionary[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        return new ServeBinaryDecoder(input, dictionary).readRecord();
+    }
+
+    @NotNull
+    private ServeRecord readRecord() {
+        ImmutableServeRecord.Builder builder = ImmutableServeRecord.builder().knownEvents(readKnownEvents());
+
+        int evidenceCount = readCount();
+        List<EfficacyEvidence> evidences = new ArrayList<>(evidenceCount);
+        for (int i = 0; i < evidenceCount; i++) {
+            evidences.add(readEvidence());
+        }
+
+        int trialCount = readCount();
+        List<ActionableTrial> trials = new ArrayList<>(trialCount);
+        for (int i = 0; i < trialCount; i++) {
+            trials.add(readTrial());
+        }
+
+        return builder.evidences(evidences).trials(trials).build();
+    }
+
+    @NotNull
+    private KnownEvents readKnownEvents() {
+        int hotspotCount = readCount();
+        List<KnownHotspot> hotspots = new ArrayList<>(hotspotCount);
+        for (int i = 0; i < hotspotCount; i++) {
+            hotspots.add(ImmutableKnownHotspot.builder()
+                    .gene(readString())
+                    .chromosome(readString())
+                    .position(readSignedVarInt())
+                    .ref(readString())
+                    .alt(readString())
+                    .geneRole(readEnum(GeneRole.class))
+                    .proteinEffect(readEnum(ProteinEffect.class))
+                    .associatedWithDrugResistance(readNullableBoolean())
+                    .sources(readSources())
+                    .inputTranscript(readNullableString())
+                    .inputProteinAnnotation(readString())
+                    .build());
+        }
+
+        int codonCount = readCount();
+        List<KnownCodon> codons = new ArrayList<>(codonCount);
+        for (int i = 0; i < codonCount; i++) {
+            codons.add(ImmutableKnownCodon.builder()
+                    .gene(readString())
+                    .chromosome(readString())
+                    .start(readSignedVarInt())
+                    .end(readSignedVarInt())
+                    .applicableMutationType(readEnum(MutationType.class))
+                    .geneRole(readEnum(GeneRole.class))
+                    .proteinEffect(readEnum(ProteinEffect.class))
+                    .associatedWithDrugResistance(readNullableBoolean())
+                    .sources(readSources())
+                    .inputTranscript(readString())
+                    .inputCodonRank(readSignedVarInt())
+                    .build());
+        }
+
+        int exonCount = readCount();
+        List<KnownExon> exons = new ArrayList<>(exonCount);
+        for (int i = 0; i < exonCount; i++) {
+            exons.add(ImmutableKnownExon.builder()
+                    .gene(readString())
+                    .chromosome(readString())
+                    .start(readSignedVarInt())
+                    .end(readSignedVarInt())
+                    .applicableMutationType(readEnum(MutationType.class))
+                    .geneRole(readEnum(GeneRole.class))
+                    .proteinEffect(readEnum(ProteinEffect.class))
+                    .associatedWithDrugResistance(readNullableBoolean())
+                    .sources(readSources())
+                    .inputTranscript(readString())
+                    .inputExonRank(readSignedVarInt())
+                    .build());
+        }
+
+        int geneCount = readCount();
+        List<KnownGene> genes = new ArrayList<>(geneCount);
+        for (int i = 0; i < geneCount; i++) {
+            genes.add(ImmutableKnownGene.builder().gene(readString()).geneRole(readEnum(GeneRole.class)).sources(readSources()).build());
+        }
+
+        int copyNumberCount = readCount();
+        List<KnownCopyNumber> copyNumbers = new ArrayList<>(copyNumberCount);
+        for (int i = 0; i < copyNumberCount; i++) {
+            copyNumbers.add(ImmutableKnownCopyNumber.builder()
+                    .gene(readString())
+                    .event(readEnum(GeneEvent.class))
+                    .geneRole(readEnum(GeneRole.class))
+                    .proteinEffect(readEnum(ProteinEffect.class))
+                    .associatedWithDrugResistance(readNullableBoolean())
+                    .sources(readSources())
+                    .build());
+        }
+
+        int fusionCount = readCount();
+        List<KnownFusion> fusions = new ArrayList<>(fusionCount);
+        for (int i = 0; i < fusionCount; i++) {
+            fusions.add(ImmutableKnownFusion.builder()
+                    .geneUp(readString())
+                    .minExonUp(readNullableInteger())
+                    .maxExonUp(readNullableInteger())
+                    .geneDown(readString())
+                    .minExonDown(readNullableInteger())
+                    .maxExonDown(readNullableInteger())
+                    .proteinEffect(readEnum(ProteinEffect.class))
+                    .associatedWithDrugResistance(readNullableBoolean())
+                    .sources(readSources())
+                    .build());
+        }
+
+        return ImmutableKnownEvents.builder()
+                .hotspots(hotspots)
+                .codons(codons)
+                .exons(exons)
+                .genes(genes)
+                .copyNumbers(copyNumbers)
+                .fusions(fusions)
+                .build();
+    }
+
+    @NotNull
+    private EfficacyEvidence readEvidence() {
+        return ImmutableEfficacyEvidence.builder()
+                .source(readEnum(Knowledgebase.class))
+                .treatment(readTreatment())
+                .indication(readIndication())
+                .molecularCriterium(readMolecularCriterium())
+                .efficacyDescription(readString())
+                .evidenceLevel(readEnum(EvidenceLevel.class))
+                .evidenceLevelDetails(readEnum(EvidenceLevelDetails.class))
+                .evidenceDirection(readEnum(EvidenceDirection.class))
+                .evidenceYear(readSignedVarInt())
+                .urls(readStrings())
+                .build();
+    }
+
+    @NotNull
+    private ActionableTrial readTrial() {
+        ImmutableActionableTrial.Builder builder = ImmutableActionableTrial.builder()
+                .source(readEnum(Knowledgebase.class))
+                .nctId(readString())
+                .title(readString())
+                .acronym(readNullableString())
+                .phase(readEnum(Phase.class));
+
+        int countryCount = readCount();
+        for (int i = 0; i < countryCount; i++) {
+            builder.addCountries(readCountry());
+        }
+
+        builder.therapyNames(readStrings()).genderCriterium(readNullableEnum(GenderCriterium.class));
+
+        int indicationCount = readCount();
+        for (int i = 0; i < indicationCount; i++) {
+            builder.addIndications(readIndication());
+        }
+
+        int molecularCriteriumCount = readCount();
+        for (int i = 0; i < molecularCriteriumCount; i++) {
+            builder.addAnyMolecularCriteria(readMolecularCriterium());
+        }
+
+        return builder.urls(readStrings()).build();
+    }
+
+    @NotNull
+    private Country readCountry() {
+        ImmutableCountry.Builder builder = ImmutableCountry.builder().name(readString());
+        int cityCount = readCount();
+        Map<String, Set<Hospital>> hospitalsPerCity = new LinkedHashMap<>();
+        for (int i = 0; i < cityCount; i++) {
+            String city = readString();
+            int hospitalCount = readCount();
+            Set<Hospital> hospitals = new LinkedHashSet<>();
+            for (int j = 0; j < hospitalCount; j++) {
+                hospitals.add(ImmutableHospital.builder().name(readString()).isChildrensHospital(readNullableBoolean()).build());
+            }
+            hospitalsPerCity.put(city, hospitals);
+        }
+        return builder.hospitalsPerCity(hospitalsPerCity).build();
+    }
+
+    @NotNull
+    private Treatment readTreatment() {
+        int reference = readVarInt(input);
+        if (reference > 0) {
+            return treatments.get(reference - 1);
+        }
+
+        Treatment treatment = ImmutableTreatment.builder()
+                .name(readString())
+                .treatmentApproachesDrugClass(readStrings())
+                .treatmentApproachesTherapy(readStrings())
+                .build();
+        treatments.add(treatment);
+        return treatment;
+    }
+
+    @NotNull
+    private Indication readIndication() {
+        int reference = readVarInt(input);
+        if (reference > 0) {
+            return indications.get(reference - 1);
+        }
+
+        ImmutableIndication.Builder builder = ImmutableIndication.builder().applicableType(readCancerType());
+        int excludedSubTypeCount = readCount();
+        for (int i = 0; i < excludedSubTypeCount; i++) {
+            builder.addExcludedSubTypes(readCancerType());
+        }
+        Indication indication = builder.build();
+        indications.add(indication);
+        return indication;
+    }
+
+    @NotNull
+    private CancerType readCancerType() {
+        return ImmutableCancerType.builder().name(readString()).doid(readString()).build();
+    }
+
+    @NotNull
+    private MolecularCriterium readMolecularCriterium() {
+        int reference = readVarInt(input);
+        if (reference > 0) {
+            return molecularCriteria.get(reference - 1);
+        }
+
+        ImmutableMolecularCriterium.Builder builder = ImmutableMolecularCriterium.builder();
+
+        int hotspotCount = readCount();
+        for (int i = 0; i < hotspotCount; i++) {
+            ImmutableActionableHotspot.Builder hotspot = ImmutableActionableHotspot.builder();
+            readActionableEvent(hotspot::sourceDate, hotspot::sourceEvent, hotspot::sourceUrls);
+            int variantCount = readCount();
+            for (int j = 0; j < variantCount; j++) {
+                hotspot.addVariants(readVariant());
+            }
+            builder.addHotspots(hotspot.build());
+        }
+
+        builder.codons(readActionableRanges());
+        builder.exons(readActionableRanges());
+
+        int geneCount = readCount();
+        for (int i = 0; i < geneCount; i++) {
+            ImmutableActionableGene.Builder gene = ImmutableActionableGene.builder();
+            readActionableEvent(gene::sourceDate, gene::sourceEvent, gene::sourceUrls);
+            builder.addGenes(gene.gene(readString()).event(readEnum(GeneEvent.class)).build());
+        }
+
+        int fusionCount = readCount();
+        for (int i = 0; i < fusionCount; i++) {
+            ImmutableActionableFusion.Builder fusion = ImmutableActionableFusion.builder();
+            readActionableEvent(fusion::sourceDate, fusion::sourceEvent, fusion::sourceUrls);
+            builder.addFusions(fusion.geneUp(readString())
+                    .minExonUp(readNullableInteger())
+                    .maxExonUp(readNullableInteger())
+                    .geneDown(readString())
+                    .minExonDown(readNullableInteger())
+                    .maxExonDown(readNullableInteger())
+                    .build());
+        }
+
+        int characteristicCount = readCount();
+        for (int i = 0; i < characteristicCount; i++) {
+            ImmutableActionableCharacteristic.Builder characteristic = ImmutableActionableCharacteristic.builder();
+            readActionableEvent(characteristic::sourceDate, characteristic::sourceEvent, characteristic::sourceUrls);
+            builder.addCharacteristics(characteristic.type(readEnum(TumorCharacteristicType.class))
+                    .cutoffType(readNullableEnum(TumorCharacteristicCutoffType.class))
+                    .cutoff(readNullableDouble())
+                    .build());
+        }
+
+        int hlaCount = readCount();
+        for (int i = 0; i < hlaCount; i++) {
+            ImmutableActionableHLA.Builder hla = ImmutableActionableHLA.builder();
+            readActionableEvent(hla::sourceDate, hla::sourceEvent, hla::sourceUrls);
+            builder.addHla(hla.gene(readString())
+                    .alleleGroup(readString())
+                    .hlaProtein(readNullableString())
+                    .synonymousDnaChange(readNullableString())
+                    .nonCodingDifferences(readNullableString())
+                    .expressionStatus(readNullableString())
+                    .build());
+        }
+
+        MolecularCriterium molecularCriterium = builder.build();
+        molecularCriteria.add(molecularCriterium);
+        return molecularCriterium;
+    }
+
+    @NotNull
+    private VariantAnnotation readVariant() {
+        return ImmutableVariantAnnotation.builder()
+                .gene(readString())
+                .chromosome(readString())
+                .position(readSignedVarInt())
+                .ref(readString())
+                .alt(readString())
+                .build();
+    }
+
+    @NotNull
+    private List<ActionableRange> readActionableRanges() {
+        int rangeCount = readCount();
+        List<ActionableRange> ranges = new ArrayList<>(rangeCount);
+        for (int i = 0; i < rangeCount; i++) {
+            ImmutableActionableRange.Builder range = ImmutableActionableRange.builder();
+            readActionableEvent(range::sourceDate, range::sourceEvent, range::sourceUrls);
+            ranges.add(range.gene(readString())
+                    .chromosome(readString())
+                    .start(readSignedVarInt())
+                    .end(readSignedVarInt())
+                    .applicableMutationType(readEnum(MutationType.class))
+                    .build());
+        }
+        return ranges;
+    }
+
+    private void readActionableEvent(@NotNull Function<LocalDate, ?> sourceDate, @NotNull Function<String, ?> sourceEvent,
+            @NotNull Function<Iterable<String>, ?> sourceUrls) {
+        // The builders of the actionable events share no common type, so the shared fields are passed to them through their setters.
+        sourceDate.apply(LocalDate.ofEpochDay(readSignedVarInt()));
+        sourceEvent.apply(readString());
+        sourceUrls.apply(readStrings());
+    }
+
+    @NotNull
+    private List<Knowledgebase> readSources() {
+        int sourceCount = readCount();
+        List<Knowledgebase> sources = new ArrayList<>(sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            sources.add(readEnum(Knowledgebase.class));
+        }
+        return sources;
+    }
+
+    @NotNull
+    private List<String> readStrings() {
+        int valueCount = readCount();
+        List<String> values = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    @NotNull
+    private String readString() {
+        return dictionary[readVarInt(input)];
+    }
+
+    @Nullable
+    private String readNullableString() {
+        return input.get() != 0 ? readString() : null;
+    }
+
+    @NotNull
+    private <E extends Enum<E>> E readEnum(@NotNull Class<E> enumClass) {
+        return Enum.valueOf(enumClass, readString());
+    }
+
+    @Nullable
+    private <E extends Enum<E>> E readNullableEnum(@NotNull Class<E> enumClass) {
+        String name = readNullableString();
+        return name != null ? Enum.valueOf(enumClass, name) : null;
+    }
+
+    @Nullable
+    private Integer readNullableInteger() {
+        return input.get() != 0 ? readSignedVarInt() : null;
+    }
+
+    @Nullable
+    private Boolean readNullableBoolean() {
+        byte value = input.get();
+        return value == 0 ? null : value == 2;
+    }
+
+    @Nullable
+    private Double readNullableDouble() {
+        return input.get() != 0 ? input.getDouble() : null;
+    }
+
+    private int readCount() {
+        return checkedCount(input, readVarInt(input));
+    }
+
+    private int readSignedVarInt() {
+        int value = readVarInt(input);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int readVarInt(@NotNull ByteBuffer input) {
+        int value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = input.get();
+            value |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    private static int checkedCount(@NotNull ByteBuffer input, int count) {
+        // Every element takes at least one byte, which guards against allocating huge collections for counts read from a corrupt file.
+        if (count < 0 || count > input.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,420 @@
+package com.hartwig.serve.datamodel.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.hartwig.serve.datamodel.Knowledgebase;
+import com.hartwig.serve.datamodel.ServeRecord;
+import com.hartwig.serve.datamodel.common.CancerType;
+import com.hartwig.serve.datamodel.common.Indication;
+import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
+import com.hartwig.serve.datamodel.efficacy.Treatment;
+import com.hartwig.serve.datamodel.molecular.ActionableEvent;
+import com.hartwig.serve.datamodel.molecular.KnownEvents;
+import com.hartwig.serve.datamodel.molecular.MolecularCriterium;
+import com.hartwig.serve.datamodel.molecular.characteristic.ActionableCharacteristic;
+import com.hartwig.serve.datamodel.molecular.fusion.ActionableFusion;
+import com.hartwig.serve.datamodel.molecular.fusion.FusionPair;
+import com.hartwig.serve.datamodel.molecular.fusion.KnownFusion;
+import com.hartwig.serve.datamodel.molecular.gene.ActionableGene;
+import com.hartwig.serve.datamodel.molecular.gene.KnownCopyNumber;
+import com.hartwig.serve.datamodel.molecular.gene.KnownGene;
+import com.hartwig.serve.datamodel.molecular.hotspot.ActionableHotspot;
+import com.hartwig.serve.datamodel.molecular.hotspot.KnownHotspot;
+import com.hartwig.serve.datamodel.molecular.hotspot.VariantAnnotation;
+import com.hartwig.serve.datamodel.molecular.immuno.ActionableHLA;
+import com.hartwig.serve.datamodel.molecular.range.ActionableRange;
+import com.hartwig.serve.datamodel.molecular.range.KnownCodon;
+import com.hartwig.serve.datamodel.molecular.range.KnownExon;
+import com.hartwig.serve.datamodel.molecular.range.RangeAnnotation;
+import com.hartwig.serve.datamodel.trial.ActionableTrial;
+import com.hartwig.serve.datamodel.trial.Country;
+import com.hartwig.serve.datamodel.trial.Hospital;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Encodes a record field by field in a fixed order per datamodel type. Strings are replaced by their index in a dictionary that
+// precedes the record, and treatments, indications and molecular criteria that occur more than once are only encoded once.
+final class ServeBinaryEncoder {
+
+    @NotNull
+    private final DataOutputStream output;
+    @NotNull
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    @NotNull
+    private final List<String> dictionaryValues = new ArrayList<>();
+    @NotNull
+    private final Map<Treatment, Integer> treatments = new HashMap<>();
+    @NotNull
+    private final Map<Indication, Integer> indications = new HashMap<>();
+    @NotNull
+    private final Map<MolecularCriterium, Integer> molecularCriteria = new HashMap<>();
+
+    private ServeBinaryEncoder(@NotNull final DataOutputStream output) {
+        this.output = output;
+    }
+
+    static void encodeRecord(@NotNull ServeRecord record, @NotNull DataOutputStream recordOutput) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ServeBinaryEncoder encoder = new ServeBinaryEncoder(new DataOutputStream(body));
+        encoder.writeRecord(record);
+        encoder.output.flush();
+
+        // The dictionary is only complete once the whole record has been encoded, and is written in front of it.
+        writeVarInt(recordOutput, encoder.dictionaryValues.size());
+        for (String value : encoder.dictionaryValues) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(recordOutput, bytes.length);
+            recordOutput.write(bytes);
+        }
+        body.writeTo(recordOutput);
+        recordOutput.flush();
+    }
+
+    private void writeRecord(@NotNull ServeRecord record) throws IOException {
+        writeKnownEvents(record.knownEvents());
+
+        List<EfficacyEvidence> evidences = inOrder(record.evidences());
+        writeVarInt(evidences.size());
+        for (EfficacyEvidence evidence : evidences) {
+            writeEvidence(evidence);
+        }
+
+        List<ActionableTrial> trials = inOrder(record.trials());
+        writeVarInt(trials.size());
+        for (ActionableTrial trial : trials) {
+            writeTrial(trial);
+        }
+    }
+
+    private void writeKnownEvents(@NotNull KnownEvents knownEvents) throws IOException {
+        writeVarInt(knownEvents.hotspots().size());
+        for (KnownHotspot hotspot : inOrder(knownEvents.hotspots())) {
+            writeString(hotspot.gene());
+            writeString(hotspot.chromosome());
+            writeSignedVarInt(hotspot.position());
+            writeString(hotspot.ref());
+            writeString(hotspot.alt());
+            writeEnum(hotspot.geneRole());
+            writeEnum(hotspot.proteinEffect());
+            writeNullableBoolean(hotspot.associatedWithDrugResistance());
+            writeSources(hotspot.sources());
+            writeNullableString(hotspot.inputTranscript());
+            writeString(hotspot.inputProteinAnnotation());
+        }
+
+        writeVarInt(knownEvents.codons().size());
+        for (KnownCodon codon : inOrder(knownEvents.codons())) {
+            writeRangeAnnotation(codon);
+            writeEnum(codon.geneRole());
+            writeEnum(codon.proteinEffect());
+            writeNullableBoolean(codon.associatedWithDrugResistance());
+            writeSources(codon.sources());
+            writeString(codon.inputTranscript());
+            writeSignedVarInt(codon.inputCodonRank());
+        }
+
+        writeVarInt(knownEvents.exons().size());
+        for (KnownExon exon : inOrder(knownEvents.exons())) {
+            writeRangeAnnotation(exon);
+            writeEnum(exon.geneRole());
+            writeEnum(exon.proteinEffect());
+            writeNullableBoolean(exon.associatedWithDrugResistance());
+            writeSources(exon.sources());
+            writeString(exon.inputTranscript());
+            writeSignedVarInt(exon.inputExonRank());
+        }
+
+        writeVarInt(knownEvents.genes().size());
+        for (KnownGene gene : inOrder(knownEvents.genes())) {
+            writeString(gene.gene());
+            writeEnum(gene.geneRole());
+            writeSources(gene.sources());
+        }
+
+        writeVarInt(knownEvents.copyNumbers().size());
+        for (KnownCopyNumber copyNumber : inOrder(knownEvents.copyNumbers())) {
+            writeString(copyNumber.gene());
+            writeEnum(copyNumber.event());
+            writeEnum(copyNumber.geneRole());
+            writeEnum(copyNumber.proteinEffect());
+            writeNullableBoolean(copyNumber.associatedWithDrugResistance());
+            writeSources(copyNumber.sources());
+        }
+
+        writeVarInt(knownEvents.fusions().size());
+        for (KnownFusion fusion : inOrder(knownEvents.fusions())) {
+            writeFusionPair(fusion);
+            writeEnum(fusion.proteinEffect());
+            writeNullableBoolean(fusion.associatedWithDrugResistance());
+            writeSources(fusion.sources());
+        }
+    }
+
+    private void writeEvidence(@NotNull EfficacyEvidence evidence) throws IOException {
+        writeEnum(evidence.source());
+        writeTreatment(evidence.treatment());
+        writeIndication(evidence.indication());
+        writeMolecularCriterium(evidence.molecularCriterium());
+        writeString(evidence.efficacyDescription());
+        writeEnum(evidence.evidenceLevel());
+        writeEnum(evidence.evidenceLevelDetails());
+        writeEnum(evidence.evidenceDirection());
+        writeSignedVarInt(evidence.evidenceYear());
+        writeStrings(evidence.urls());
+    }
+
+    private void writeTrial(@NotNull ActionableTrial trial) throws IOException {
+        writeEnum(trial.source());
+        writeString(trial.nctId());
+        writeString(trial.title());
+        writeNullableString(trial.acronym());
+        writeEnum(trial.phase());
+
+        writeVarInt(trial.countries().size());
+        for (Country country : inOrder(trial.countries())) {
+            writeString(country.name());
+            Map<String, Set<Hospital>> hospitalsPerCity = new TreeMap<>(country.hospitalsPerCity());
+            writeVarInt(hospitalsPerCity.size());
+            for (Map.Entry<String, Set<Hospital>> entry : hospitalsPerCity.entrySet()) {
+                writeString(entry.getKey());
+                writeVarInt(entry.getValue().size());
+                for (Hospital hospital : inOrder(entry.getValue())) {
+                    writeString(hospital.name());
+                    writeNullableBoolean(hospital.isChildrensHospital());
+                }
+            }
+        }
+
+        writeStrings(trial.therapyNames());
+        writeNullableEnum(trial.genderCriterium());
+
+        writeVarInt(trial.indications().size());
+        for (Indication indication : inOrder(trial.indications())) {
+            writeIndication(indication);
+        }
+
+        writeVarInt(trial.anyMolecularCriteria().size());
+        for (MolecularCriterium molecularCriterium : inOrder(trial.anyMolecularCriteria())) {
+            writeMolecularCriterium(molecularCriterium);
+        }
+
+        writeStrings(trial.urls());
+    }
+
+    private void writeTreatment(@NotNull Treatment treatment) throws IOException {
+        if (writeReference(treatments, treatment)) {
+            writeString(treatment.name());
+            writeStrings(treatment.treatmentApproachesDrugClass());
+            writeStrings(treatment.treatmentApproachesTherapy());
+        }
+    }
+
+    private void writeIndication(@NotNull Indication indication) throws IOException {
+        if (writeReference(indications, indication)) {
+            writeCancerType(indication.applicableType());
+            writeVarInt(indication.excludedSubTypes().size());
+            for (CancerType excludedSubType : inOrder(indication.excludedSubTypes())) {
+                writeCancerType(excludedSubType);
+            }
+        }
+    }
+
+    private void writeCancerType(@NotNull CancerType cancerType) throws IOException {
+        writeString(cancerType.name());
+        writeString(cancerType.doid());
+    }
+
+    private void writeMolecularCriterium(@NotNull MolecularCriterium molecularCriterium) throws IOException {
+        if (!writeReference(molecularCriteria, molecularCriterium)) {
+            return;
+        }
+
+        writeVarInt(molecularCriterium.hotspots().size());
+        for (ActionableHotspot hotspot : inOrder(molecularCriterium.hotspots())) {
+            writeActionableEvent(hotspot);
+            writeVarInt(hotspot.variants().size());
+            for (VariantAnnotation variant : inOrder(hotspot.variants())) {
+                writeString(variant.gene());
+                writeString(variant.chromosome());
+                writeSignedVarInt(variant.position());
+                writeString(variant.ref());
+                writeString(variant.alt());
+            }
+        }
+
+        writeActionableRanges(molecularCriterium.codons());
+        writeActionableRanges(molecularCriterium.exons());
+
+        writeVarInt(molecularCriterium.genes().size());
+        for (ActionableGene gene : inOrder(molecularCriterium.genes())) {
+            writeActionableEvent(gene);
+            writeString(gene.gene());
+            writeEnum(gene.event());
+        }
+
+        writeVarInt(molecularCriterium.fusions().size());
+        for (ActionableFusion fusion : inOrder(molecularCriterium.fusions())) {
+            writeActionableEvent(fusion);
+            writeFusionPair(fusion);
+        }
+
+        writeVarInt(molecularCriterium.characteristics().size());
+        for (ActionableCharacteristic characteristic : inOrder(molecularCriterium.characteristics())) {
+            writeActionableEvent(characteristic);
+            writeEnum(characteristic.type());
+            writeNullableEnum(characteristic.cutoffType());
+            writeNullableDouble(characteristic.cutoff());
+        }
+
+        writeVarInt(molecularCriterium.hla().size());
+        for (ActionableHLA hla : inOrder(molecularCriterium.hla())) {
+            writeActionableEvent(hla);
+            writeString(hla.gene());
+            writeString(hla.alleleGroup());
+            writeNullableString(hla.hlaProtein());
+            writeNullableString(hla.synonymousDnaChange());
+            writeNullableString(hla.nonCodingDifferences());
+            writeNullableString(hla.expressionStatus());
+        }
+    }
+
+    private void writeActionableRanges(@NotNull Set<ActionableRange> ranges) throws IOException {
+        writeVarInt(ranges.size());
+        for (ActionableRange range : inOrder(ranges)) {
+            writeActionableEvent(range);
+            writeRangeAnnotation(range);
+        }
+    }
+
+    private void writeActionableEvent(@NotNull ActionableEvent event) throws IOException {
+        LocalDate sourceDate = event.sourceDate();
+        writeSignedVarInt(Math.toIntExact(sourceDate.toEpochDay()));
+        writeString(event.sourceEvent());
+        writeStrings(event.sourceUrls());
+    }
+
+    private void writeRangeAnnotation(@NotNull RangeAnnotation range) throws IOException {
+        writeString(range.gene());
+        writeString(range.chromosome());
+        writeSignedVarInt(range.start());
+        writeSignedVarInt(range.end());
+        writeEnum(range.applicableMutationType());
+    }
+
+    private void writeFusionPair(@NotNull FusionPair fusionPair) throws IOException {
+        writeString(fusionPair.geneUp());
+        writeNullableInteger(fusionPair.minExonUp());
+        writeNullableInteger(fusionPair.maxExonUp());
+        writeString(fusionPair.geneDown());
+        writeNullableInteger(fusionPair.minExonDown());
+        writeNullableInteger(fusionPair.maxExonDown());
+    }
+
+    private <T> boolean writeReference(@NotNull Map<T, Integer> table, @NotNull T value) throws IOException {
+        // A value that was encoded before is referenced by its position in the table, shifted by one since zero marks a new value.
+        Integer index = table.get(value);
+        if (index != null) {
+            writeVarInt(index + 1);
+            return false;
+        }
+        table.put(value, table.size());
+        writeVarInt(0);
+        return true;
+    }
+
+    private void writeSources(@NotNull Set<Knowledgebase> sources) throws IOException {
+        writeVarInt(sources.size());
+        for (Knowledgebase source : inOrder(sources)) {
+            writeEnum(source);
+        }
+    }
+
+    private void writeStrings(@NotNull Set<String> values) throws IOException {
+        writeVarInt(values.size());
+        for (String value : inOrder(values)) {
+            writeString(value);
+        }
+    }
+
+    private void writeString(@NotNull String value) throws IOException {
+        Integer index = dictionary.get(value);
+        if (index == null) {
+            index = dictionaryValues.size();
+            dictionary.put(value, index);
+            dictionaryValues.add(value);
+        }
+        writeVarInt(index);
+    }
+
+    private void writeNullableString(@Nullable String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            writeString(value);
+        }
+    }
+
+    private void writeEnum(@NotNull Enum<?> value) throws IOException {
+        // Enums are encoded by name so that reordering or extending an enum does not silently change the meaning of existing files.
+        writeString(value.name());
+    }
+
+    private void writeNullableEnum(@Nullable Enum<?> value) throws IOException {
+        writeNullableString(value != null ? value.name() : null);
+    }
+
+    private void writeNullableInteger(@Nullable Integer value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            writeSignedVarInt(value);
+        }
+    }
+
+    private void writeNullableBoolean(@Nullable Boolean value) throws IOException {
+        output.writeByte(value == null ? 0 : (value ? 2 : 1));
+    }
+
+    private void writeNullableDouble(@Nullable Double value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeDouble(value);
+        }
+    }
+
+    private void writeSignedVarInt(int value) throws IOException {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        writeVarInt(output, value);
+    }
+
+    private static void writeVarInt(@NotNull DataOutputStream output, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte(remaining);
+    }
+
+    @NotNull
+    private static <T extends Comparable<? super T>> List<T> inOrder(@NotNull Collection<T> values) {
+        // Elements are written in the same order as in serve.json, so that both formats read back into identical records.
+        List<T> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted;
+    }
+}
@@ -1,6 +1,9 @@
 package com.hartwig.serve.datamodel.serialization;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -19,21 +22,37 @@ import java.util.TreeSet;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hartwig.serve.datamodel.ImmutableServeRecord;
+import com.hartwig.serve.datamodel.RefGenome;
 import com.hartwig.serve.datamodel.ServeDatabase;
+import com.hartwig.serve.datamodel.ServeRecord;
+import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
+import com.hartwig.serve.datamodel.molecular.KnownEvents;
+import com.hartwig.serve.datamodel.trial.ActionableTrial;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 @SuppressWarnings("ALL")
 public final class ServeJson {
 
+    private static final String VERSION_FIELD = "version";
+    private static final String RECORDS_FIELD = "records";
+    private static final String KNOWN_EVENTS_FIELD = "knownEvents";
+    private static final String EVIDENCES_FIELD = "evidences";
+    private static final String TRIALS_FIELD = "trials";
+
     private static final JsonMapper MAPPER = JsonMapper.builder()
             // KD: Note - the sorting that is done here may be unnecessary/obsolete 
             // since the code that generates the datamodel already fixes sorting
@@ -46,6 +65,9 @@ public final class ServeJson {
             .serializationInclusion(JsonInclude.Include.NON_NULL)
             .build();
 
+    // Elements are written one by one into a single generator, which should only be flushed once everything has been written.
+    private static final ObjectWriter ELEMENT_WRITER = MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     @NotNull
     public static String jsonFilePath(@NotNull String outputDir) {
         return outputDir + File.separator + "serve.json";
@@ -56,8 +78,24 @@ public final class ServeJson {
         return MAPPER.readValue(new File(filePath), ServeDatabase.class);
     }
 
+    @Nullable
+    public static ServeRecord readRecord(@NotNull String filePath, @NotNull RefGenome refGenome) throws IOException {
+        try (InputStream inputStream = new FileInputStream(filePath)) {
+            return readRecordFromStream(inputStream, refGenome);
+        }
+    }
+
+    public static boolean visitRecord(@NotNull String filePath, @NotNull RefGenome refGenome, @NotNull ServeRecordVisitor visitor)
+            throws IOException {
+        try (InputStream inputStream = new FileInputStream(filePath)) {
+            return visitRecordFromStream(inputStream, refGenome, visitor);
+        }
+    }
+
     public static void write(@NotNull ServeDatabase database, @NotNull String filePath) throws IOException {
-        MAPPER.writeValue(new File(filePath), database);
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(filePath))) {
+            writeToStream(database, outputStream);
+        }
     }
 
     @NotNull
@@ -65,8 +103,156 @@ public final class ServeJson {
         return MAPPER.readValue(inputStream, ServeDatabase.class);
     }
 
-    static void writeToStream(@NotNull ServeDatabase record, @NotNull OutputStream outputStream) throws IOException {
-        MAPPER.writeValue(outputStream, record);
+    @Nullable
+    static ServeRecord readRecordFromStream(@NotNull InputStream inputStream, @NotNull RefGenome refGenome) throws IOException {
+        ImmutableServeRecord.Builder builder = ImmutableServeRecord.builder();
+        boolean found = visitRecordFromStream(inputStream, refGenome, new ServeRecordVisitor() {
+            @Override
+            public void visitKnownEvents(@NotNull KnownEvents knownEvents) {
+                builder.knownEvents(knownEvents);
+            }
+
+            @Override
+            public void visitEvidence(@NotNull EfficacyEvidence evidence) {
+                builder.addEvidences(evidence);
+            }
+
+            @Override
+            public void visitTrial(@NotNull ActionableTrial trial) {
+                builder.addTrials(trial);
+            }
+        });
+        return found ? builder.build() : null;
+    }
+
+    static boolean visitRecordFromStream(@NotNull InputStream inputStream, @NotNull RefGenome refGenome,
+            @NotNull ServeRecordVisitor visitor) throws IOException {
+        try (JsonParser parser = MAPPER.createParser(inputStream)) {
+            expectToken(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (field.equals(RECORDS_FIELD)) {
+                    if (visitRecords(parser, refGenome, visitor)) {
+                        return true;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return false;
+    }
+
+    static void writeToStream(@NotNull ServeDatabase database, @NotNull OutputStream outputStream) throws IOException {
+        // Every record is written section by section and element by element, so no object tree of the full database is ever built.
+        try (JsonGenerator generator = MAPPER.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField(VERSION_FIELD, database.version());
+            generator.writeObjectFieldStart(RECORDS_FIELD);
+            for (Map.Entry<RefGenome, ServeRecord> entry : new TreeMap<>(database.records()).entrySet()) {
+                generator.writeObjectFieldStart(entry.getKey().toString());
+                writeRecord(generator, entry.getValue());
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeRecord(@NotNull JsonGenerator generator, @NotNull ServeRecord record) throws IOException {
+        generator.writeFieldName(KNOWN_EVENTS_FIELD);
+        ELEMENT_WRITER.writeValue(generator, record.knownEvents());
+
+        generator.writeArrayFieldStart(EVIDENCES_FIELD);
+        for (EfficacyEvidence evidence : inOrder(record.evidences())) {
+            ELEMENT_WRITER.writeValue(generator, evidence);
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(TRIALS_FIELD);
+        for (ActionableTrial trial : inOrder(record.trials())) {
+            ELEMENT_WRITER.writeValue(generator, trial);
+        }
+        generator.writeEndArray();
+    }
+
+    private static boolean visitRecords(@NotNull JsonParser parser, @NotNull RefGenome refGenome, @NotNull ServeRecordVisitor visitor)
+            throws IOException {
+        expectToken(parser.currentToken(), JsonToken.START_OBJECT);
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String recordRefGenome = parser.currentName();
+            parser.nextToken();
+            if (!found && recordRefGenome.equals(refGenome.toString())) {
+                visitRecord(parser, visitor);
+                found = true;
+            } else {
+                // Records of other ref genome versions are skipped without being deserialized.
+                parser.skipChildren();
+            }
+        }
+        return found;
+    }
+
+    private static void visitRecord(@NotNull JsonParser parser, @NotNull ServeRecordVisitor visitor) throws IOException {
+        expectToken(parser.currentToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String section = parser.currentName();
+            parser.nextToken();
+            switch (section) {
+                case KNOWN_EVENTS_FIELD:
+                    visitor.visitKnownEvents(MAPPER.readValue(parser, KnownEvents.class));
+                    break;
+                case EVIDENCES_FIELD:
+                    expectToken(parser.currentToken(), JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        visitor.visitEvidence(MAPPER.readValue(parser, EfficacyEvidence.class));
+                    }
+                    break;
+                case TRIALS_FIELD:
+                    expectToken(parser.currentToken(), JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        visitor.visitTrial(MAPPER.readValue(parser, ActionableTrial.class));
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+
+    private static void expectToken(@Nullable JsonToken actual, @NotNull JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Unexpected token in SERVE json: expected " + expected + " but found " + actual);
+        }
+    }
+
+    @NotNull
+    private static <T extends Comparable<? super T>> List<T> inOrder(@NotNull List<T> list) {
+        if (isSorted(list)) {
+            return list;
+        }
+        List<T> sortedList = new ArrayList<>(list);
+        Collections.sort(sortedList);
+        return sortedList;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static boolean isSorted(@NotNull Iterable<?> iterable) {
+        // The datamodel is normally generated in sorted order already, in which case a single pass suffices to confirm that.
+        Comparable previous = null;
+        for (Object item : iterable) {
+            if (!(item instanceof Comparable)) {
+                return true;
+            }
+            Comparable current = (Comparable) item;
+            if (previous != null && previous.compareTo(current) > 0) {
+                return false;
+            }
+            previous = current;
+        }
+        return true;
     }
 
     private static class LocalDateSerializer extends StdSerializer<LocalDate> {
@@ -109,7 +295,7 @@ public final class ServeJson {
 
             gen.writeStartArray();
             if (!set.isEmpty()) {
-                if (!SortedSet.class.isAssignableFrom(set.getClass())) {
+                if (!SortedSet.class.isAssignableFrom(set.getClass()) && !isSorted(set)) {
                     Object item = set.iterator().next();
                     if (Comparable.class.isAssignableFrom(item.getClass())) {
                         set = new TreeSet(set);
@@ -134,7 +320,7 @@ public final class ServeJson {
 
             gen.writeStartObject();
             if (!map.isEmpty()) {
-                if (!SortedMap.class.isAssignableFrom(map.getClass())) {
+                if (!SortedMap.class.isAssignableFrom(map.getClass()) && !isSorted(map.keySet())) {
                     Object key = map.keySet().iterator().next();
                     if (Comparable.class.isAssignableFrom(key.getClass())) {
                         map = new TreeMap<>(map);
@@ -166,7 +352,7 @@ public final class ServeJson {
             gen.writeStartArray();
             if (!list.isEmpty()) {
                 Object item = list.get(0);
-                if (item instanceof Comparable) {
+                if (item instanceof Comparable && !isSorted(list)) {
                     List<Object> sortedList = new ArrayList<>(list);
                     Collections.sort(sortedList, Comparator.comparing(o -> (Comparable) o));
                     for (Object element : sortedList) {
@@ -0,0 +1,16 @@
+package com.hartwig.serve.datamodel.serialization;
+
+import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
+import com.hartwig.serve.datamodel.molecular.KnownEvents;
+import com.hartwig.serve.datamodel.trial.ActionableTrial;
+
+import org.jetbrains.annotations.NotNull;
+
+public interface ServeRecordVisitor {
+
+    void visitKnownEvents(@NotNull KnownEvents knownEvents);
+
+    void visitEvidence(@NotNull EfficacyEvidence evidence);
+
+    void visitTrial(@NotNull ActionableTrial trial);
+}
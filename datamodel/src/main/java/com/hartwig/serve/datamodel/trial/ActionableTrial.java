@@ -13,7 +13,7 @@ import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-@Value.Immutable
+@Value.Immutable(prehash = true)
 @Value.Style(passAnnotations = { NotNull.class, Nullable.class },
              jdkOnly = true)
 @JsonSerialize(as = ImmutableActionableTrial.class)
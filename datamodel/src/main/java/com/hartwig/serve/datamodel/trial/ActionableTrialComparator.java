@@ -10,6 +10,10 @@ public class ActionableTrialComparator implements Comparator<ActionableTrial> {
 
     @Override
     public int compare(@NotNull ActionableTrial actionableTrial1, @NotNull ActionableTrial actionableTrial2) {
+        if (actionableTrial1 == actionableTrial2) {
+            return 0;
+        }
+
         int sourceCompare = actionableTrial1.source().compareTo(actionableTrial2.source());
         if (sourceCompare != 0) {
             return sourceCompare;
@@ -12,6 +12,11 @@ public final class CompareFunctions {
     }
 
     public static <T extends Comparable<T>> int compareSetOfComparable(@NotNull Set<T> set1, @NotNull Set<T> set2) {
+        // Sets are often shared between the objects that are compared, in which case there is no need to walk them.
+        if (set1 == set2) {
+            return 0;
+        }
+
         // KD: This function assumes that sets are sorted, and if not, then there is a specific reason for by the caller of this function
         Iterator<T> set1Iterator = set1.iterator();
         Iterator<T> set2Iterator = set2.iterator();
@@ -0,0 +1,119 @@
+package com.hartwig.serve.datamodel.util;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Encodes values into a string such that String.compareTo on two keys orders them the same as comparing the values one by one.
+// Every encoding is self-delimiting, so a value never compares against a part of the next value.
+public final class ComparisonKey {
+
+    private static final char END = 0;
+    private static final char ESCAPE = 1;
+    private static final char PRESENT = 1;
+    private static final char ABSENT = 2;
+
+    @NotNull
+    private final StringBuilder key = new StringBuilder();
+
+    @NotNull
+    public ComparisonKey add(@NotNull String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character <= ESCAPE) {
+                key.append(ESCAPE);
+                key.append((char) (character + 1));
+            } else {
+                key.append(character);
+            }
+        }
+        key.append(END);
+        return this;
+    }
+
+    @NotNull
+    public ComparisonKey addNullable(@Nullable String value) {
+        // Nulls are ordered last, as in CompareFunctions.
+        return value != null ? present().add(value) : absent();
+    }
+
+    @NotNull
+    public ComparisonKey add(int value) {
+        int unsigned = value ^ Integer.MIN_VALUE;
+        key.append((char) (unsigned >>> 16));
+        key.append((char) unsigned);
+        return this;
+    }
+
+    @NotNull
+    public ComparisonKey addNullable(@Nullable Integer value) {
+        return value != null ? present().add(value) : absent();
+    }
+
+    @NotNull
+    public ComparisonKey addNullable(@Nullable Boolean value) {
+        return value != null ? present().add(value ? 1 : 0) : absent();
+    }
+
+    @NotNull
+    public ComparisonKey addNullable(@Nullable Double value) {
+        if (value == null) {
+            return absent();
+        }
+
+        // Flips the bits of the double such that their unsigned order is the order of Double.compare.
+        long bits = Double.doubleToLongBits(value);
+        long sortable = bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+        present();
+        for (int shift = 48; shift >= 0; shift -= 16) {
+            key.append((char) (sortable >>> shift));
+        }
+        return this;
+    }
+
+    @NotNull
+    public ComparisonKey add(@NotNull Enum<?> value) {
+        return add(value.ordinal());
+    }
+
+    @NotNull
+    public ComparisonKey addDescending(@NotNull LocalDate value) {
+        return add(~Math.toIntExact(value.toEpochDay()));
+    }
+
+    @NotNull
+    public ComparisonKey addStrings(@NotNull Set<String> values) {
+        return addSet(values, ComparisonKey::add);
+    }
+
+    @NotNull
+    public <T> ComparisonKey addSet(@NotNull Set<T> values, @NotNull BiConsumer<ComparisonKey, T> elementEncoder) {
+        // Elements are compared in iteration order and a set that runs out of elements first is ordered first, as in CompareFunctions.
+        for (T value : values) {
+            present();
+            elementEncoder.accept(this, value);
+        }
+        key.append(END);
+        return this;
+    }
+
+    @NotNull
+    public String build() {
+        return key.toString();
+    }
+
+    @NotNull
+    private ComparisonKey present() {
+        key.append(PRESENT);
+        return this;
+    }
+
+    @NotNull
+    private ComparisonKey absent() {
+        key.append(ABSENT);
+        return this;
+    }
+}
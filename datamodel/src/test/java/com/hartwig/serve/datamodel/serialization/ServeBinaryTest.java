@@ -0,0 +1,142 @@
+package com.hartwig.serve.datamodel.serialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import com.hartwig.serve.datamodel.ImmutableServeDatabase;
+import com.hartwig.serve.datamodel.ImmutableServeRecord;
+import com.hartwig.serve.datamodel.RefGenome;
+import com.hartwig.serve.datamodel.ServeDatabase;
+import com.hartwig.serve.datamodel.ServeRecord;
+import com.hartwig.serve.datamodel.TestServeDatabaseFactory;
+import com.hartwig.serve.datamodel.efficacy.EfficacyEvidence;
+import com.hartwig.serve.datamodel.efficacy.ImmutableEfficacyEvidence;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class ServeBinaryTest {
+
+    private static final String TEST_SERVE_JSON = ServeBinaryTest.class.getResource("/example.serve.json").getPath();
+
+    @Test
+    public void canRoundTripDatabases() throws IOException {
+        for (ServeDatabase database : List.of(TestServeDatabaseFactory.createEmptyDatabase(),
+                TestServeDatabaseFactory.createMinimalDatabase(),
+                TestServeDatabaseFactory.createExhaustiveDatabase())) {
+            assertEquals(database, ServeBinary.readFromStream(new ByteArrayInputStream(write(database))));
+        }
+    }
+
+    @Test
+    public void readsSameDatabaseAsJson() throws IOException {
+        ServeDatabase jsonDatabase = readWrittenJson();
+        ServeDatabase binaryDatabase = ServeBinary.readFromStream(new ByteArrayInputStream(write(jsonDatabase)));
+
+        assertEquals(jsonDatabase, binaryDatabase);
+
+        ServeRecord jsonRecord = jsonDatabase.records().get(RefGenome.V37);
+        ServeRecord binaryRecord = binaryDatabase.records().get(RefGenome.V37);
+        assertEquals(jsonRecord.evidences(), binaryRecord.evidences());
+        assertEquals(jsonRecord.trials(), binaryRecord.trials());
+
+        ByteArrayOutputStream jsonFromJson = new ByteArrayOutputStream();
+        ServeJson.writeToStream(jsonDatabase, jsonFromJson);
+        ByteArrayOutputStream jsonFromBinary = new ByteArrayOutputStream();
+        ServeJson.writeToStream(binaryDatabase, jsonFromBinary);
+        assertEquals(jsonFromJson.toString(), jsonFromBinary.toString());
+    }
+
+    @Test
+    public void canReadAndWriteFiles() throws IOException {
+        ServeDatabase database = readWrittenJson();
+        File binaryFile = Files.createTempFile("serve", ".bin").toFile();
+        try {
+            ServeBinary.write(database, binaryFile.getPath());
+
+            assertEquals(database, ServeBinary.read(binaryFile.getPath()));
+            assertEquals(database.records().get(RefGenome.V37), ServeBinary.readRecord(binaryFile.getPath(), RefGenome.V37));
+            assertNull(ServeBinary.readRecord(binaryFile.getPath(), RefGenome.V38));
+            assertTrue(binaryFile.length() < new File(TEST_SERVE_JSON).length());
+        } finally {
+            Files.delete(binaryFile.toPath());
+        }
+    }
+
+    @Test
+    public void canReadSingleRecord() throws IOException {
+        ServeDatabase database = TestServeDatabaseFactory.createExhaustiveDatabase();
+        byte[] bytes = write(database);
+
+        for (RefGenome refGenome : database.records().keySet()) {
+            assertEquals(database.records().get(refGenome), ServeBinary.readRecordFromStream(new ByteArrayInputStream(bytes), refGenome));
+        }
+
+        byte[] minimalBytes = write(TestServeDatabaseFactory.createMinimalDatabase());
+        assertNull(ServeBinary.readRecordFromStream(new ByteArrayInputStream(minimalBytes), RefGenome.V38));
+    }
+
+    @Test
+    public void sharesRepeatedValuesAfterReading() throws IOException {
+        ServeRecord record = ServeJson.read(TEST_SERVE_JSON).records().get(RefGenome.V37);
+        EfficacyEvidence evidence = record.evidences().get(0);
+        EfficacyEvidence firstCopy = ImmutableEfficacyEvidence.copyOf(evidence).withEfficacyDescription("copy 1");
+        EfficacyEvidence secondCopy = ImmutableEfficacyEvidence.copyOf(evidence).withEfficacyDescription("copy 2");
+        ServeDatabase database = ImmutableServeDatabase.builder()
+                .version("shared")
+                .putRecords(RefGenome.V37, ImmutableServeRecord.builder().from(record).addEvidences(firstCopy, secondCopy).build())
+                .build();
+
+        List<EfficacyEvidence> evidences = ServeBinary.readFromStream(new ByteArrayInputStream(write(database)))
+                .records()
+                .get(RefGenome.V37)
+                .evidences();
+        EfficacyEvidence readEvidence = find(evidences, firstCopy.efficacyDescription());
+        EfficacyEvidence readCopy = find(evidences, secondCopy.efficacyDescription());
+
+        assertSame(readEvidence.treatment(), readCopy.treatment());
+        assertSame(readEvidence.indication(), readCopy.indication());
+        assertSame(readEvidence.molecularCriterium(), readCopy.molecularCriterium());
+    }
+
+    @Test(expected = IOException.class)
+    public void crashOnNonBinaryInput() throws IOException {
+        ServeBinary.readFromStream(new ByteArrayInputStream("{\"version\": \"json\"}".getBytes()));
+    }
+
+    @Test(expected = IOException.class)
+    public void crashOnTruncatedInput() throws IOException {
+        byte[] bytes = write(TestServeDatabaseFactory.createExhaustiveDatabase());
+        ServeBinary.readFromStream(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 10)));
+    }
+
+    @NotNull
+    private static ServeDatabase readWrittenJson() throws IOException {
+        // Both formats write lists in their natural order, so compare against the json database in the order it is written in.
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ServeJson.writeToStream(ServeJson.read(TEST_SERVE_JSON), outputStream);
+        return ServeJson.readFromStream(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    @NotNull
+    private static EfficacyEvidence find(@NotNull List<EfficacyEvidence> evidences, @NotNull String efficacyDescription) {
+        return evidences.stream().filter(evidence -> evidence.efficacyDescription().equals(efficacyDescription)).findFirst().orElseThrow();
+    }
+
+    @NotNull
+    private static byte[] write(@NotNull ServeDatabase database) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ServeBinary.writeToStream(database, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -1,6 +1,7 @@
 package com.hartwig.serve.datamodel.serialization;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -61,6 +62,26 @@ public class ServeJsonTest {
         assertEquals(7, record37.trials().size());
     }
 
+    @Test
+    public void canReadSingleRecordFromRealServeJson() throws IOException {
+        ServeDatabase database = ServeJson.read(TEST_SERVE_JSON);
+
+        assertEquals(database.records().get(RefGenome.V37), ServeJson.readRecord(TEST_SERVE_JSON, RefGenome.V37));
+        assertNull(ServeJson.readRecord(TEST_SERVE_JSON, RefGenome.V38));
+    }
+
+    @Test
+    public void canReadSingleRecordFromStreamedDatabase() throws IOException {
+        ServeDatabase database = TestServeDatabaseFactory.createExhaustiveDatabase();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ServeJson.writeToStream(database, outputStream);
+
+        for (RefGenome refGenome : database.records().keySet()) {
+            ServeRecord record = ServeJson.readRecordFromStream(new ByteArrayInputStream(outputStream.toByteArray()), refGenome);
+            assertEquals(database.records().get(refGenome), record);
+        }
+    }
+
     @NotNull
     private static ServeDatabase roundTrip(@NotNull ServeDatabase database) throws IOException {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
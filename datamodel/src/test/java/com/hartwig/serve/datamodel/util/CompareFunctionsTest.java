@@ -13,6 +13,9 @@ public class CompareFunctionsTest {
         assertEquals(-1, CompareFunctions.compareSetOfComparable(Set.of(), Set.of("string")));
         assertEquals(0, CompareFunctions.compareSetOfComparable(Set.of("string"), Set.of("string")));
         assertEquals(1, CompareFunctions.compareSetOfComparable(Set.of("string"), Set.of()));
+
+        Set<String> set = Set.of("string 1", "string 2");
+        assertEquals(0, CompareFunctions.compareSetOfComparable(set, set));
     }
 
     @Test
@@ -0,0 +1,125 @@
+package com.hartwig.serve.datamodel.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.hartwig.serve.datamodel.ServeDatabase;
+import com.hartwig.serve.datamodel.ServeRecord;
+import com.hartwig.serve.datamodel.TestServeDatabaseFactory;
+import com.hartwig.serve.datamodel.efficacy.EfficacyEvidenceComparator;
+import com.hartwig.serve.datamodel.efficacy.EvidenceLevel;
+import com.hartwig.serve.datamodel.molecular.MolecularCriterium;
+import com.hartwig.serve.datamodel.molecular.MolecularCriteriumComparator;
+import com.hartwig.serve.datamodel.serialization.ServeJson;
+import com.hartwig.serve.datamodel.trial.ActionableTrialComparator;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class ComparisonKeyTest {
+
+    private static final String TEST_SERVE_JSON = ComparisonKeyTest.class.getResource("/example.serve.json").getPath();
+
+    @Test
+    public void canOrderStrings() {
+        assertOrdered(List.of("", "\u0000", "\u0000a", "\u0001", "a", "a\u0000", "ab", "b"), key -> key::add);
+        assertOrdered(List.of("a", "b"), key -> key::addNullable);
+        assertTrue(compare(key -> key.addNullable("z"), key -> key.addNullable((String) null)) < 0);
+        assertTrue(compare(key -> key.add("a").add("b"), key -> key.add("ab").add("")) < 0);
+    }
+
+    @Test
+    public void canOrderNumbers() {
+        assertOrdered(List.of(Integer.MIN_VALUE, -70000, -1, 0, 1, 70000, Integer.MAX_VALUE), key -> key::add);
+        assertOrdered(List.of(Double.NEGATIVE_INFINITY, -2.5, -0.0, 0.0, 1E-300, 2.5, Double.POSITIVE_INFINITY, Double.NaN),
+                key -> key::addNullable);
+        assertTrue(compare(key -> key.addNullable(Integer.MAX_VALUE), key -> key.addNullable((Integer) null)) < 0);
+        assertTrue(compare(key -> key.addNullable(Double.NaN), key -> key.addNullable((Double) null)) < 0);
+    }
+
+    @Test
+    public void canOrderOtherValues() {
+        assertOrdered(List.of(EvidenceLevel.A, EvidenceLevel.B, EvidenceLevel.D), key -> key::add);
+        assertOrdered(List.of(false, true), key -> key::addNullable);
+        assertTrue(compare(key -> key.addNullable(true), key -> key.addNullable((Boolean) null)) < 0);
+
+        List<LocalDate> newestFirst = List.of(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 29), LocalDate.of(1960, 1, 1));
+        assertOrdered(newestFirst, key -> key::addDescending);
+    }
+
+    @Test
+    public void canOrderSetsLikeCompareFunctions() {
+        List<Set<String>> sets = List.of(Set.of(), orderedSet("a"), orderedSet("a", ""), orderedSet("a", "b"), orderedSet("b"));
+        assertOrdered(sets, key -> key::addStrings);
+
+        for (Set<String> set1 : sets) {
+            for (Set<String> set2 : sets) {
+                assertEquals(Integer.signum(CompareFunctions.compareSetOfComparable(set1, set2)),
+                        Integer.signum(compare(key -> key.addStrings(set1), key -> key.addStrings(set2))));
+            }
+        }
+    }
+
+    @Test
+    public void naturalOrderMatchesComparators() throws IOException {
+        for (ServeDatabase database : List.of(ServeJson.read(TEST_SERVE_JSON), TestServeDatabaseFactory.createExhaustiveDatabase())) {
+            for (ServeRecord record : database.records().values()) {
+                List<MolecularCriterium> criteria = new ArrayList<>();
+                record.evidences().forEach(evidence -> criteria.add(evidence.molecularCriterium()));
+                record.trials().forEach(trial -> criteria.addAll(trial.anyMolecularCriteria()));
+
+                assertSameOrder(record.evidences(), new EfficacyEvidenceComparator());
+                assertSameOrder(record.trials(), new ActionableTrialComparator());
+                assertSameOrder(criteria, new MolecularCriteriumComparator());
+            }
+        }
+    }
+
+    private static <T extends Comparable<T>> void assertSameOrder(@NotNull List<T> values, @NotNull Comparator<T> comparator) {
+        List<T> sortedByComparator = new ArrayList<>(values);
+        sortedByComparator.sort(comparator);
+        List<T> sortedByNaturalOrder = new ArrayList<>(values);
+        sortedByNaturalOrder.sort(Comparator.naturalOrder());
+        assertEquals(sortedByComparator, sortedByNaturalOrder);
+
+        for (T value1 : values) {
+            for (T value2 : values) {
+                assertEquals(Integer.signum(comparator.compare(value1, value2)), Integer.signum(value1.compareTo(value2)));
+            }
+        }
+    }
+
+    private static <T> void assertOrdered(@NotNull List<T> ascendingValues, @NotNull Function<ComparisonKey, Consumer<T>> encoder) {
+        for (int i = 0; i < ascendingValues.size(); i++) {
+            for (int j = 0; j < ascendingValues.size(); j++) {
+                T value1 = ascendingValues.get(i);
+                T value2 = ascendingValues.get(j);
+                int keyCompare = compare(key -> encoder.apply(key).accept(value1), key -> encoder.apply(key).accept(value2));
+                assertEquals(value1 + " vs " + value2, Integer.signum(Integer.compare(i, j)), Integer.signum(keyCompare));
+            }
+        }
+    }
+
+    private static int compare(@NotNull Consumer<ComparisonKey> encoder1, @NotNull Consumer<ComparisonKey> encoder2) {
+        ComparisonKey key1 = new ComparisonKey();
+        encoder1.accept(key1);
+        ComparisonKey key2 = new ComparisonKey();
+        encoder2.accept(key2);
+        return key1.build().compareTo(key2.build());
+    }
+
+    @NotNull
+    private static Set<String> orderedSet(@NotNull String... values) {
+        return new LinkedHashSet<>(List.of(values));
+    }
+}
@@ -30,6 +30,7 @@ public class ViccJsonSQLImporter {
     private static final String DB_URL = "db_url";
 
     private static final String SKIP_DATABASE_WRITING = "skip_database_writing";
+    private static final String DEFER_KEY_CHECKS = "defer_key_checks";
 
     private static final String VERSION = ViccJsonSQLImporter.class.getPackage().getImplementationVersion();
 
@@ -55,14 +56,7 @@ public class ViccJsonSQLImporter {
             LOGGER.info("Deleting all from VICC db");
             viccDAO.deleteAll();
             LOGGER.info("Starting insertion of all VICC entries");
-            int count = 0;
-            for (ViccEntry viccEntry : viccEntries) {
-                viccDAO.writeViccEntry(viccEntry);
-                count++;
-                if (count % 1000 == 0) {
-                    LOGGER.info(" Completed inserting {} VICC entries into VICC db", count);
-                }
-            }
+            viccDAO.write(viccEntries, cmd.hasOption(DEFER_KEY_CHECKS));
             LOGGER.info("Done inserting {} entries into VICC db", viccEntries.size());
         }
     }
@@ -96,6 +90,7 @@ public class ViccJsonSQLImporter {
         options.addOption(DB_URL, true, "Database url.");
 
         options.addOption(SKIP_DATABASE_WRITING, false, "If this flag is set to true, we skip the writing to the database");
+        options.addOption(DEFER_KEY_CHECKS, false, "If set, foreign key and unique checks are disabled while inserting entries");
 
         return options;
     }
@@ -10,6 +10,7 @@ import static com.hartwig.serve.vicc.database.Tables.BRCAANNOTATIONEXAC;
 import static com.hartwig.serve.vicc.database.Tables.BRCAANNOTATIONEXLOVD;
 import static com.hartwig.serve.vicc.database.Tables.BRCAANNOTATIONLOVD;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.brca.Brca;
 
 import org.jetbrains.annotations.NotNull;
@@ -20,8 +21,10 @@ final class BRCADAOFunctions {
     private BRCADAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull Brca brca) {
-        int id = context.insertInto(BRCA,
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull Brca brca) {
+        int id = batcher.nextId(BRCA.ID);
+        batcher.into(BRCA,
+                        BRCA.ID,
                         BRCA.GENESYMBOL,
                         BRCA.CHR,
                         BRCA.POS,
@@ -57,7 +60,8 @@ final class BRCADAOFunctions {
                         BRCA.SOURCE,
                         BRCA.SOURCEURL,
                         BRCA.VICCENTRYID)
-                .values(brca.geneSymbol(),
+                .values(id,
+                        brca.geneSymbol(),
                         brca.chr(),
                         brca.pos(),
                         brca.ref(),
@@ -91,12 +95,9 @@ final class BRCADAOFunctions {
                         brca.dataReleaseId(),
                         brca.source(),
                         brca.sourceURL(),
-                        viccEntryId)
-                .returning(BRCA.ID)
-                .fetchOne()
-                .getValue(BRCA.ID);
+                        viccEntryId);
 
-        context.insertInto(BRCAANNOTATION1000GENOMES,
+        batcher.into(BRCAANNOTATION1000GENOMES,
                         BRCAANNOTATION1000GENOMES.VARIANTIN1000GENOMES,
                         BRCAANNOTATION1000GENOMES.BXID,
                         BRCAANNOTATION1000GENOMES.ALLELEFREQUENCY,
@@ -114,10 +115,9 @@ final class BRCADAOFunctions {
                         brca.annotation1000Genomes().easAlleleFrequency(),
                         brca.annotation1000Genomes().eurAlleleFrequency(),
                         brca.annotation1000Genomes().sasAlleleFrequency(),
-                        id)
-                .execute();
+                        id);
 
-        context.insertInto(BRCAANNOTATIONBIC,
+        batcher.into(BRCAANNOTATIONBIC,
                         BRCAANNOTATIONBIC.VARIANTINBIC,
                         BRCAANNOTATIONBIC.BXID,
                         BRCAANNOTATIONBIC.MUTATIONTYPE,
@@ -141,10 +141,9 @@ final class BRCADAOFunctions {
                         brca.annotationBIC().germlineOrSomatic(),
                         brca.annotationBIC().numberOfFamilyMemberCarryingMutation(),
                         brca.annotationBIC().literatureCitation(),
-                        id)
-                .execute();
+                        id);
 
-        context.insertInto(BRCAANNOTATIONCLINVAR,
+        batcher.into(BRCAANNOTATIONCLINVAR,
                         BRCAANNOTATIONCLINVAR.VARIANTINCLINVAR,
                         BRCAANNOTATIONCLINVAR.BXID,
                         BRCAANNOTATIONCLINVAR.CLINICALSIGNIFICANCE,
@@ -162,10 +161,9 @@ final class BRCADAOFunctions {
                         brca.annotationClinVar().alleleOrigin(),
                         brca.annotationClinVar().scv(),
                         brca.annotationClinVar().dateLastUpdated(),
-                        id)
-                .execute();
+                        id);
 
-        context.insertInto(BRCAANNOTATIONENIGMA,
+        batcher.into(BRCAANNOTATIONENIGMA,
                         BRCAANNOTATIONENIGMA.VARIANTINENIGMA,
                         BRCAANNOTATIONENIGMA.BXID,
                         BRCAANNOTATIONENIGMA.ALLELEORIGIN,
@@ -197,10 +195,9 @@ final class BRCADAOFunctions {
                         brca.annotationENIGMA().commentOnClinicalSignificance(),
                         brca.annotationENIGMA().dateLastEvaluated(),
                         brca.annotationENIGMA().url(),
-                        id)
-                .execute();
+                        id);
 
-        context.insertInto(BRCAANNOTATIONESP,
+        batcher.into(BRCAANNOTATIONESP,
                         BRCAANNOTATIONESP.VARIANTINESP,
                         BRCAANNOTATIONESP.BXID,
                         BRCAANNOTATIONESP.MINORALLELEFREQUENCYPERCENT,
@@ -214,10 +211,9 @@ final class BRCADAOFunctions {
                         brca.annotationESP().alleleFrequency(),
                         brca.annotationESP().aaAlleleFrequency(),
                         brca.annotationESP().eaAlleleFrequency(),
-                        id)
-                .execute();
+                        id);
 
-        context.insertInto(BRCAANNOTATIONEXAC,
+        batcher.into(BRCAANNOTATIONEXAC,
                         BRCAANNOTATIONEXAC.VARIANTINEXAC,
                         BRCAANNOTATIONEXAC.BXID,
                         BRCAANNOTATIONEXAC.ALLELEFREQUENCY,
@@ -281,10 +277,9 @@ final class BRCADAOFunctions {
                         brca.annotationExAC().alleleCountNFE(),
                         brca.annotationExAC().alleleCountOTH(),
                         brca.annotationExAC().alleleCountSAS(),
-                        id)
-                .execute();
+                        id);
 
-        context.insertInto(BRCAANNOTATIONEXLOVD,
+        batcher.into(BRCAANNOTATIONEXLOVD,
                         BRCAANNOTATIONEXLOVD.VARIANTINEXLOVD,
                         BRCAANNOTATIONEXLOVD.BXID,
                         BRCAANNOTATIONEXLOVD.COOCCURRENCELR,
@@ -306,10 +301,9 @@ final class BRCADAOFunctions {
                         brca.annotationExLOVD().combinedPriorProbability(),
                         brca.annotationExLOVD().iarcClass(),
                         brca.annotationExLOVD().literatureSource(),
-                        id)
-                .execute();
+                        id);
 
-        context.insertInto(BRCAANNOTATIONLOVD,
+        batcher.into(BRCAANNOTATIONLOVD,
                         BRCAANNOTATIONLOVD.VARIANTINLOVD,
                         BRCAANNOTATIONLOVD.BXID,
                         BRCAANNOTATIONLOVD.DBID,
@@ -339,8 +333,7 @@ final class BRCADAOFunctions {
                         brca.annotationLOVD().functionalAnalysisResult(),
                         brca.annotationLOVD().submitters(),
                         brca.annotationLOVD().individuals(),
-                        id)
-                .execute();
+                        id);
     }
 
     static void deleteAll(@NotNull DSLContext context) {
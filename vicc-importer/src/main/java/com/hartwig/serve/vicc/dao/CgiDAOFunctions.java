@@ -9,6 +9,7 @@ import static com.hartwig.serve.vicc.database.Tables.CGIREGION;
 import static com.hartwig.serve.vicc.database.Tables.CGISTRAND;
 import static com.hartwig.serve.vicc.database.Tables.CGITRANSCRIPT;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.cgi.Cgi;
 
 import org.jetbrains.annotations.NotNull;
@@ -19,8 +20,10 @@ final class CgiDAOFunctions {
     private CgiDAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull Cgi cgi) {
-        int id = context.insertInto(CGI,
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull Cgi cgi) {
+        int id = batcher.nextId(CGI.ID);
+        batcher.into(CGI,
+                        CGI.ID,
                         CGI.GENE,
                         CGI.BIOMARKER,
                         CGI.ALTERATION,
@@ -38,7 +41,8 @@ final class CgiDAOFunctions {
                         CGI.CURATOR,
                         CGI.ASSAYTYPE,
                         CGI.VICCENTRYID)
-                .values(cgi.gene(),
+                .values(id,
+                        cgi.gene(),
                         cgi.biomarker(),
                         cgi.alteration(),
                         cgi.alterationType(),
@@ -54,39 +58,35 @@ final class CgiDAOFunctions {
                         cgi.source(),
                         cgi.curator(),
                         cgi.assayType(),
-                        viccEntryId)
-                .returning(CGI.ID)
-                .fetchOne()
-                .getValue(CGI.ID);
+                        viccEntryId);
 
         for (String transcript : cgi.transcripts()) {
-            context.insertInto(CGITRANSCRIPT, CGITRANSCRIPT.TRANSCRIPT, CGITRANSCRIPT.CGIID).values(transcript, id).execute();
+            batcher.into(CGITRANSCRIPT, CGITRANSCRIPT.TRANSCRIPT, CGITRANSCRIPT.CGIID).values(transcript, id);
         }
 
         for (String individualMutation : cgi.individualMutations()) {
-            context.insertInto(CGIINDIVIDUALMUTATION, CGIINDIVIDUALMUTATION.INDIVIDUALMUTATION, CGIINDIVIDUALMUTATION.CGIID)
-                    .values(individualMutation, id)
-                    .execute();
+            batcher.into(CGIINDIVIDUALMUTATION, CGIINDIVIDUALMUTATION.INDIVIDUALMUTATION, CGIINDIVIDUALMUTATION.CGIID)
+                    .values(individualMutation, id);
         }
 
         for (String gDNA : cgi.gDNA()) {
-            context.insertInto(CGIGDNA, CGIGDNA.GDNA, CGIGDNA.CGIID).values(gDNA, id).execute();
+            batcher.into(CGIGDNA, CGIGDNA.GDNA, CGIGDNA.CGIID).values(gDNA, id);
         }
 
         for (String cDNA : cgi.cDNA()) {
-            context.insertInto(CGICDNA, CGICDNA.CDNA, CGICDNA.CGIID).values(cDNA, id).execute();
+            batcher.into(CGICDNA, CGICDNA.CDNA, CGICDNA.CGIID).values(cDNA, id);
         }
 
         for (String info : cgi.info()) {
-            context.insertInto(CGIINFO, CGIINFO.INFO, CGIINFO.CGIID).values(info, id).execute();
+            batcher.into(CGIINFO, CGIINFO.INFO, CGIINFO.CGIID).values(info, id);
         }
 
         for (String region : cgi.regions()) {
-            context.insertInto(CGIREGION, CGIREGION.REGION, CGIREGION.CGIID).values(region, id).execute();
+            batcher.into(CGIREGION, CGIREGION.REGION, CGIREGION.CGIID).values(region, id);
         }
 
         for (String strand : cgi.strands()) {
-            context.insertInto(CGISTRAND, CGISTRAND.STRAND, CGISTRAND.CGIID).values(strand, id).execute();
+            batcher.into(CGISTRAND, CGISTRAND.STRAND, CGISTRAND.CGIID).values(strand, id);
         }
     }
 
@@ -38,6 +38,7 @@ import static com.hartwig.serve.vicc.database.Tables.CIVICVARIANTGROUPTYPE;
 import static com.hartwig.serve.vicc.database.Tables.CIVICVARIANTGROUPVARIANT;
 import static com.hartwig.serve.vicc.database.Tables.CIVICVARIANTTYPE;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.civic.Civic;
 import com.hartwig.serve.vicc.datamodel.civic.CivicClinicalTrial;
 import com.hartwig.serve.vicc.datamodel.civic.CivicCoordinates;
@@ -61,8 +62,10 @@ final class CivicDAOFunctions {
     private CivicDAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull Civic civic) {
-        int id = context.insertInto(CIVIC,
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull Civic civic) {
+        int id = batcher.nextId(CIVIC.ID);
+        batcher.into(CIVIC,
+                        CIVIC.ID,
                         CIVIC.ENTREZID,
                         CIVIC.ENTREZNAME,
                         CIVIC.NAME,
@@ -73,7 +76,8 @@ final class CivicDAOFunctions {
                         CIVIC.GENEID,
                         CIVIC.DESCRIPTION,
                         CIVIC.VICCENTRYID)
-                .values(civic.entrezId(),
+                .values(id,
+                        civic.entrezId(),
                         civic.entrezName(),
                         civic.name(),
                         civic.type(),
@@ -82,35 +86,29 @@ final class CivicDAOFunctions {
                         civic.id(),
                         civic.geneId(),
                         civic.description(),
-                        viccEntryId)
-                .returning(CIVIC.ID)
-                .fetchOne()
-                .getValue(CIVIC.ID);
+                        viccEntryId);
 
         for (String assertion : civic.assertions()) {
-            context.insertInto(CIVICASSERTION, CIVICASSERTION.ASSERTION, CIVICASSERTION.CIVICID).values(assertion, id).execute();
+            batcher.into(CIVICASSERTION, CIVICASSERTION.ASSERTION, CIVICASSERTION.CIVICID).values(assertion, id);
         }
 
         for (String hgvsExpression : civic.hgvsExpressions()) {
-            context.insertInto(CIVICHGVSEXPRESSION, CIVICHGVSEXPRESSION.HGVSEXPRESSION, CIVICHGVSEXPRESSION.CIVICID)
-                    .values(hgvsExpression, id)
-                    .execute();
+            batcher.into(CIVICHGVSEXPRESSION, CIVICHGVSEXPRESSION.HGVSEXPRESSION, CIVICHGVSEXPRESSION.CIVICID)
+                    .values(hgvsExpression, id);
         }
 
         for (String clinVarEntry : civic.clinVarEntries()) {
-            context.insertInto(CIVICCLINVARENTRY, CIVICCLINVARENTRY.CLINVARENTRY, CIVICCLINVARENTRY.CIVICID)
-                    .values(clinVarEntry, id)
-                    .execute();
+            batcher.into(CIVICCLINVARENTRY, CIVICCLINVARENTRY.CLINVARENTRY, CIVICCLINVARENTRY.CIVICID)
+                    .values(clinVarEntry, id);
         }
 
         for (String variantAlias : civic.variantAliases()) {
-            context.insertInto(CIVICVARIANTALIAS, CIVICVARIANTALIAS.VARIANTALIAS, CIVICVARIANTALIAS.CIVICID)
-                    .values(variantAlias, id)
-                    .execute();
+            batcher.into(CIVICVARIANTALIAS, CIVICVARIANTALIAS.VARIANTALIAS, CIVICVARIANTALIAS.CIVICID)
+                    .values(variantAlias, id);
         }
 
         for (CivicVariantType variantType : civic.variantTypes()) {
-            context.insertInto(CIVICVARIANTTYPE,
+            batcher.into(CIVICVARIANTTYPE,
                             CIVICVARIANTTYPE.NAME,
                             CIVICVARIANTTYPE.DISPLAYNAME,
                             CIVICVARIANTTYPE.DESCRIPTION,
@@ -124,19 +122,18 @@ final class CivicDAOFunctions {
                             variantType.url(),
                             variantType.soId(),
                             variantType.id(),
-                            id)
-                    .execute();
+                            id);
         }
 
         CivicProvisionalValue provisionalValue = civic.provisionalValue();
         if (provisionalValue != null) {
-            context.insertInto(CIVICPROVISIONALVALUE,
+            batcher.into(CIVICPROVISIONALVALUE,
                     CIVICPROVISIONALVALUE.REVISIONID,
                     CIVICPROVISIONALVALUE.VALUE,
-                    CIVICPROVISIONALVALUE.CIVICID).values(provisionalValue.revisionId(), provisionalValue.value(), id).execute();
+                    CIVICPROVISIONALVALUE.CIVICID).values(provisionalValue.revisionId(), provisionalValue.value(), id);
         }
 
-        context.insertInto(CIVICCOORDINATES,
+        batcher.into(CIVICCOORDINATES,
                         CIVICCOORDINATES.CHROMOSOME,
                         CIVICCOORDINATES.START,
                         CIVICCOORDINATES.STOP,
@@ -162,23 +159,23 @@ final class CivicDAOFunctions {
                         civic.coordinates().start2(),
                         civic.coordinates().stop2(),
                         civic.coordinates().representativeTranscript2(),
-                        id)
-                .execute();
+                        id);
 
         for (CivicVariantGroup variantGroup : civic.variantGroups()) {
-            int idVariantGroup = context.insertInto(CIVICVARIANTGROUP,
+            int idVariantGroup = batcher.nextId(CIVICVARIANTGROUP.ID);
+            batcher.into(CIVICVARIANTGROUP,
+                            CIVICVARIANTGROUP.ID,
                             CIVICVARIANTGROUP.NAME,
                             CIVICVARIANTGROUP.TYPE,
                             CIVICVARIANTGROUP.DESCRIPTION,
                             CIVICVARIANTGROUP.IDVARIANTGROUP,
                             CIVICVARIANTGROUP.CIVICID)
-                    .values(variantGroup.name(), variantGroup.type(), variantGroup.description(), variantGroup.id(), id)
-                    .returning(CIVICVARIANTGROUP.ID)
-                    .fetchOne()
-                    .getValue(CIVICVARIANTGROUP.ID);
+                    .values(idVariantGroup, variantGroup.name(), variantGroup.type(), variantGroup.description(), variantGroup.id(), id);
 
             for (CivicVariant variant : variantGroup.variants()) {
-                int idVariantGroupVariant = context.insertInto(CIVICVARIANTGROUPVARIANT,
+                int idVariantGroupVariant = batcher.nextId(CIVICVARIANTGROUPVARIANT.ID);
+                batcher.into(CIVICVARIANTGROUPVARIANT,
+                                CIVICVARIANTGROUPVARIANT.ID,
                                 CIVICVARIANTGROUPVARIANT.ENTREZID,
                                 CIVICVARIANTGROUPVARIANT.ENTREZNAME,
                                 CIVICVARIANTGROUPVARIANT.NAME,
@@ -188,7 +185,8 @@ final class CivicDAOFunctions {
                                 CIVICVARIANTGROUPVARIANT.GENEID,
                                 CIVICVARIANTGROUPVARIANT.DESCRIPTION,
                                 CIVICVARIANTGROUPVARIANT.CIVICVARIANTGROUPID)
-                        .values(variant.entrezId(),
+                        .values(idVariantGroupVariant,
+                                variant.entrezId(),
                                 variant.entrezName(),
                                 variant.name(),
                                 variant.type(),
@@ -196,14 +194,11 @@ final class CivicDAOFunctions {
                                 variant.id(),
                                 variant.geneId(),
                                 variant.description(),
-                                idVariantGroup)
-                        .returning(CIVICVARIANTGROUPVARIANT.ID)
-                        .fetchOne()
-                        .getValue(CIVICVARIANTGROUPVARIANT.ID);
+                                idVariantGroup);
 
                 CivicCoordinates coordinates = variant.coordinates();
                 if (coordinates != null) {
-                    context.insertInto(CIVICVARIANTGROUPCOORDINATES,
+                    batcher.into(CIVICVARIANTGROUPCOORDINATES,
                                     CIVICVARIANTGROUPCOORDINATES.CHROMOSOME,
                                     CIVICVARIANTGROUPCOORDINATES.START,
                                     CIVICVARIANTGROUPCOORDINATES.STOP,
@@ -229,12 +224,11 @@ final class CivicDAOFunctions {
                                     coordinates.start2(),
                                     coordinates.stop2(),
                                     coordinates.representativeTranscript2(),
-                                    idVariantGroupVariant)
-                            .execute();
+                                    idVariantGroupVariant);
                 }
 
                 for (CivicVariantType variantType : variant.variantTypes()) {
-                    context.insertInto(CIVICVARIANTGROUPTYPE,
+                    batcher.into(CIVICVARIANTGROUPTYPE,
                                     CIVICVARIANTGROUPTYPE.NAME,
                                     CIVICVARIANTGROUPTYPE.DISPLAYNAME,
                                     CIVICVARIANTGROUPTYPE.DESCRIPTION,
@@ -248,13 +242,14 @@ final class CivicDAOFunctions {
                                     variantType.url(),
                                     variantType.soId(),
                                     variantType.id(),
-                                    idVariantGroupVariant)
-                            .execute();
+                                    idVariantGroupVariant);
                 }
             }
         }
 
-        int idEvidenceItem = context.insertInto(CIVICEVIDENCEITEM,
+        int idEvidenceItem = batcher.nextId(CIVICEVIDENCEITEM.ID);
+        batcher.into(CIVICEVIDENCEITEM,
+                        CIVICEVIDENCEITEM.ID,
                         CIVICEVIDENCEITEM.NAME,
                         CIVICEVIDENCEITEM.TYPE,
                         CIVICEVIDENCEITEM.STATUS,
@@ -270,7 +265,8 @@ final class CivicDAOFunctions {
                         CIVICEVIDENCEITEM.VARIANTID,
                         CIVICEVIDENCEITEM.IDEVIDENCEITEM,
                         CIVICEVIDENCEITEM.CIVICID)
-                .values(civic.evidenceItem().name(),
+                .values(idEvidenceItem,
+                        civic.evidenceItem().name(),
                         civic.evidenceItem().type(),
                         civic.evidenceItem().status(),
                         civic.evidenceItem().rating(),
@@ -284,18 +280,14 @@ final class CivicDAOFunctions {
                         civic.evidenceItem().description(),
                         civic.evidenceItem().variantId(),
                         civic.evidenceItem().id(),
-                        id)
-                .returning(CIVICEVIDENCEITEM.ID)
-                .fetchOne()
-                .getValue(CIVICEVIDENCEITEM.ID);
+                        id);
 
         for (CivicDrug drug : civic.evidenceItem().drugs()) {
-            context.insertInto(CIVICDRUG, CIVICDRUG.NAME, CIVICDRUG.PUBCHEMID, CIVICDRUG.IDDRUG, CIVICDRUG.CIVICEVIDENCEITEMID)
-                    .values(drug.name(), drug.pubchemId(), drug.id(), idEvidenceItem)
-                    .execute();
+            batcher.into(CIVICDRUG, CIVICDRUG.NAME, CIVICDRUG.PUBCHEMID, CIVICDRUG.IDDRUG, CIVICDRUG.CIVICEVIDENCEITEMID)
+                    .values(drug.name(), drug.pubchemId(), drug.id(), idEvidenceItem);
         }
 
-        context.insertInto(CIVICDISEASE,
+        batcher.into(CIVICDISEASE,
                         CIVICDISEASE.NAME,
                         CIVICDISEASE.DISPLAYNAME,
                         CIVICDISEASE.DOID,
@@ -307,10 +299,11 @@ final class CivicDAOFunctions {
                         civic.evidenceItem().disease().doid(),
                         civic.evidenceItem().disease().url(),
                         civic.evidenceItem().disease().id(),
-                        idEvidenceItem)
-                .execute();
+                        idEvidenceItem);
 
-        int idEvidenceItemSource = context.insertInto(CIVICEVIDENCEITEMSOURCE,
+        int idEvidenceItemSource = batcher.nextId(CIVICEVIDENCEITEMSOURCE.ID);
+        batcher.into(CIVICEVIDENCEITEMSOURCE,
+                        CIVICEVIDENCEITEMSOURCE.ID,
                         CIVICEVIDENCEITEMSOURCE.NAME,
                         CIVICEVIDENCEITEMSOURCE.STATUS,
                         CIVICEVIDENCEITEMSOURCE.OPENACCESS,
@@ -323,7 +316,8 @@ final class CivicDAOFunctions {
                         CIVICEVIDENCEITEMSOURCE.ISREVIEW,
                         CIVICEVIDENCEITEMSOURCE.IDSOURCE,
                         CIVICEVIDENCEITEMSOURCE.CIVICEVIDENCEITEMID)
-                .values(civic.evidenceItem().source().name(),
+                .values(idEvidenceItemSource,
+                        civic.evidenceItem().source().name(),
                         civic.evidenceItem().source().status(),
                         civic.evidenceItem().source().openAccess(),
                         civic.evidenceItem().source().journal(),
@@ -334,12 +328,9 @@ final class CivicDAOFunctions {
                         civic.evidenceItem().source().pubmedId(),
                         civic.evidenceItem().source().isReview(),
                         civic.evidenceItem().source().id(),
-                        idEvidenceItem)
-                .returning(CIVICEVIDENCEITEMSOURCE.ID)
-                .fetchOne()
-                .getValue(CIVICEVIDENCEITEMSOURCE.ID);
+                        idEvidenceItem);
 
-        context.insertInto(CIVICEVIDENCEITEMPUBLICATION,
+        batcher.into(CIVICEVIDENCEITEMPUBLICATION,
                         CIVICEVIDENCEITEMPUBLICATION.YEAR,
                         CIVICEVIDENCEITEMPUBLICATION.MONTH,
                         CIVICEVIDENCEITEMPUBLICATION.DAY,
@@ -347,11 +338,10 @@ final class CivicDAOFunctions {
                 .values(civic.evidenceItem().source().publicationDate().year(),
                         civic.evidenceItem().source().publicationDate().month(),
                         civic.evidenceItem().source().publicationDate().day(),
-                        idEvidenceItemSource)
-                .execute();
+                        idEvidenceItemSource);
 
         for (CivicClinicalTrial clinicalTrial : civic.evidenceItem().source().clinicalTrials()) {
-            context.insertInto(CIVICEVIDENCEITEMCLINICALTRIAL,
+            batcher.into(CIVICEVIDENCEITEMCLINICALTRIAL,
                             CIVICEVIDENCEITEMCLINICALTRIAL.NAME,
                             CIVICEVIDENCEITEMCLINICALTRIAL.NCTID,
                             CIVICEVIDENCEITEMCLINICALTRIAL.CLINICALTRIALURL,
@@ -361,12 +351,13 @@ final class CivicDAOFunctions {
                             clinicalTrial.nctId(),
                             clinicalTrial.clinicalTrialUrl(),
                             clinicalTrial.description(),
-                            idEvidenceItemSource)
-                    .execute();
+                            idEvidenceItemSource);
         }
 
         for (CivicSource source : civic.sources()) {
-            int idSource = context.insertInto(CIVICSOURCE,
+            int idSource = batcher.nextId(CIVICSOURCE.ID);
+            batcher.into(CIVICSOURCE,
+                            CIVICSOURCE.ID,
                             CIVICSOURCE.NAME,
                             CIVICSOURCE.STATUS,
                             CIVICSOURCE.OPENACCESS,
@@ -379,7 +370,8 @@ final class CivicDAOFunctions {
                             CIVICSOURCE.ISREVIEW,
                             CIVICSOURCE.IDSOURCE,
                             CIVICSOURCE.CIVICID)
-                    .values(source.name(),
+                    .values(idSource,
+                            source.name(),
                             source.status(),
                             source.openAccess(),
                             source.journal(),
@@ -390,21 +382,17 @@ final class CivicDAOFunctions {
                             source.pubmedId(),
                             source.isReview(),
                             source.id(),
-                            id)
-                    .returning(CIVICSOURCE.ID)
-                    .fetchOne()
-                    .getValue(CIVICSOURCE.ID);
+                            id);
 
-            context.insertInto(CIVICPUBLICATION,
+            batcher.into(CIVICPUBLICATION,
                             CIVICPUBLICATION.YEAR,
                             CIVICPUBLICATION.MONTH,
                             CIVICPUBLICATION.DAY,
                             CIVICPUBLICATION.CIVICSOURCEID)
-                    .values(source.publicationDate().year(), source.publicationDate().month(), source.publicationDate().day(), idSource)
-                    .execute();
+                    .values(source.publicationDate().year(), source.publicationDate().month(), source.publicationDate().day(), idSource);
 
             for (CivicClinicalTrial clinicalTrial : source.clinicalTrials()) {
-                context.insertInto(CIVICCLINICALTRIAL,
+                batcher.into(CIVICCLINICALTRIAL,
                                 CIVICCLINICALTRIAL.NAME,
                                 CIVICCLINICALTRIAL.NCTID,
                                 CIVICCLINICALTRIAL.CLINICALTRIALURL,
@@ -414,28 +402,27 @@ final class CivicDAOFunctions {
                                 clinicalTrial.nctId(),
                                 clinicalTrial.clinicalTrialUrl(),
                                 clinicalTrial.description(),
-                                idSource)
-                        .execute();
+                                idSource);
             }
         }
 
-        int idLifecycleActions = context.insertInto(CIVICLIFECYCLEACTIONS, CIVICLIFECYCLEACTIONS.CIVICID)
-                .values(id)
-                .returning(CIVICLIFECYCLEACTIONS.ID)
-                .fetchOne()
-                .getValue(CIVICLIFECYCLEACTIONS.ID);
+        int idLifecycleActions = batcher.nextId(CIVICLIFECYCLEACTIONS.ID);
+        batcher.into(CIVICLIFECYCLEACTIONS, CIVICLIFECYCLEACTIONS.ID, CIVICLIFECYCLEACTIONS.CIVICID)
+                .values(idLifecycleActions, id);
 
         CivicLastCommentedOn lastCommentedOn = civic.lifecycleActions().lastCommentedOn();
         if (lastCommentedOn != null) {
-            int idLastCommentedOn =
-                    context.insertInto(CIVICLASTCOMMENTEDON, CIVICLASTCOMMENTEDON.TIMESTAMP, CIVICLASTCOMMENTEDON.CIVICLIFECYCLEACTIONSID)
-                            .values(lastCommentedOn.timestamp(), idLifecycleActions)
-                            .returning(CIVICLASTCOMMENTEDON.ID)
-                            .fetchOne()
-                            .getValue(CIVICLASTCOMMENTEDON.ID);
+            int idLastCommentedOn = batcher.nextId(CIVICLASTCOMMENTEDON.ID);
+            batcher.into(CIVICLASTCOMMENTEDON,
+                            CIVICLASTCOMMENTEDON.ID,
+                            CIVICLASTCOMMENTEDON.TIMESTAMP,
+                            CIVICLASTCOMMENTEDON.CIVICLIFECYCLEACTIONSID)
+                    .values(idLastCommentedOn, lastCommentedOn.timestamp(), idLifecycleActions);
 
             CivicUser userLastCommentedOn = lastCommentedOn.user();
-            int idLastCommentedOnUser = context.insertInto(CIVICLASTCOMMENTEDONUSER,
+            int idLastCommentedOnUser = batcher.nextId(CIVICLASTCOMMENTEDONUSER.ID);
+            batcher.into(CIVICLASTCOMMENTEDONUSER,
+                            CIVICLASTCOMMENTEDONUSER.ID,
                             CIVICLASTCOMMENTEDONUSER.USERNAME,
                             CIVICLASTCOMMENTEDONUSER.NAME,
                             CIVICLASTCOMMENTEDONUSER.DISPLAYNAME,
@@ -456,7 +443,8 @@ final class CivicDAOFunctions {
                             CIVICLASTCOMMENTEDONUSER.ACCEPTEDLICENSE,
                             CIVICLASTCOMMENTEDONUSER.IDUSER,
                             CIVICLASTCOMMENTEDONUSER.CIVICLASTCOMMENTEDONID)
-                    .values(userLastCommentedOn.username(),
+                    .values(idLastCommentedOnUser,
+                            userLastCommentedOn.username(),
                             userLastCommentedOn.name(),
                             userLastCommentedOn.displayName(),
                             userLastCommentedOn.role(),
@@ -475,12 +463,9 @@ final class CivicDAOFunctions {
                             userLastCommentedOn.signupComplete(),
                             userLastCommentedOn.acceptedLicense(),
                             userLastCommentedOn.id(),
-                            idLastCommentedOn)
-                    .returning(CIVICLASTCOMMENTEDONUSER.ID)
-                    .fetchOne()
-                    .getValue(CIVICLASTCOMMENTEDONUSER.ID);
+                            idLastCommentedOn);
 
-            context.insertInto(CIVICLASTCOMMENTEDONAVATARS,
+            batcher.into(CIVICLASTCOMMENTEDONAVATARS,
                             CIVICLASTCOMMENTEDONAVATARS.X14,
                             CIVICLASTCOMMENTEDONAVATARS.X32,
                             CIVICLASTCOMMENTEDONAVATARS.X64,
@@ -490,27 +475,26 @@ final class CivicDAOFunctions {
                             userLastCommentedOn.avatars().x32(),
                             userLastCommentedOn.avatars().x64(),
                             userLastCommentedOn.avatars().x128(),
-                            idLastCommentedOnUser)
-                    .execute();
+                            idLastCommentedOnUser);
 
-            int idLastCommentOnOrganization = context.insertInto(CIVICLASTCOMMENTEDONORGANIZATION,
+            int idLastCommentOnOrganization = batcher.nextId(CIVICLASTCOMMENTEDONORGANIZATION.ID);
+            batcher.into(CIVICLASTCOMMENTEDONORGANIZATION,
+                            CIVICLASTCOMMENTEDONORGANIZATION.ID,
                             CIVICLASTCOMMENTEDONORGANIZATION.NAME,
                             CIVICLASTCOMMENTEDONORGANIZATION.URL,
                             CIVICLASTCOMMENTEDONORGANIZATION.IDORGANIZATION,
                             CIVICLASTCOMMENTEDONORGANIZATION.DESCRIPTION,
                             CIVICLASTCOMMENTEDONORGANIZATION.CIVICLASTCOMMENTEDONUSERID)
-                    .values(userLastCommentedOn.organization().name(),
+                    .values(idLastCommentOnOrganization,
+                            userLastCommentedOn.organization().name(),
                             userLastCommentedOn.organization().url(),
                             userLastCommentedOn.organization().id(),
                             userLastCommentedOn.organization().description(),
-                            idLastCommentedOnUser)
-                    .returning(CIVICLASTCOMMENTEDONORGANIZATION.ID)
-                    .fetchOne()
-                    .getValue(CIVICLASTCOMMENTEDONORGANIZATION.ID);
+                            idLastCommentedOnUser);
 
             CivicProfileImage userLastCommentedOnProfileImage = userLastCommentedOn.organization().profileImage();
             if (userLastCommentedOnProfileImage != null) {
-                context.insertInto(CIVICLASTCOMMENTEDONPROFILEIMAGE,
+                batcher.into(CIVICLASTCOMMENTEDONPROFILEIMAGE,
                                 CIVICLASTCOMMENTEDONPROFILEIMAGE.X14,
                                 CIVICLASTCOMMENTEDONPROFILEIMAGE.X32,
                                 CIVICLASTCOMMENTEDONPROFILEIMAGE.X64,
@@ -522,23 +506,21 @@ final class CivicDAOFunctions {
                                 userLastCommentedOnProfileImage.x64(),
                                 userLastCommentedOnProfileImage.x128(),
                                 userLastCommentedOnProfileImage.x256(),
-                                idLastCommentOnOrganization)
-                        .execute();
+                                idLastCommentOnOrganization);
             }
         }
 
         CivicLastModified lastModified = civic.lifecycleActions().lastModified();
         if (lastModified != null) {
-            int idLastModified =
-                    context.insertInto(CIVICLASTMODIFIED, CIVICLASTMODIFIED.TIMESTAMP, CIVICLASTMODIFIED.CIVICLIFECYCLEACTIONSID)
-                            .values(lastModified.timestamp(), idLifecycleActions)
-                            .returning(CIVICLASTMODIFIED.ID)
-                            .fetchOne()
-                            .getValue(CIVICLASTMODIFIED.ID);
+            int idLastModified = batcher.nextId(CIVICLASTMODIFIED.ID);
+            batcher.into(CIVICLASTMODIFIED, CIVICLASTMODIFIED.ID, CIVICLASTMODIFIED.TIMESTAMP, CIVICLASTMODIFIED.CIVICLIFECYCLEACTIONSID)
+                    .values(idLastModified, lastModified.timestamp(), idLifecycleActions);
 
             CivicUser userLastModified = lastModified.user();
 
-            int idLastModifiedUser = context.insertInto(CIVICLASTMODIFIEDUSER,
+            int idLastModifiedUser = batcher.nextId(CIVICLASTMODIFIEDUSER.ID);
+            batcher.into(CIVICLASTMODIFIEDUSER,
+                            CIVICLASTMODIFIEDUSER.ID,
                             CIVICLASTMODIFIEDUSER.USERNAME,
                             CIVICLASTMODIFIEDUSER.NAME,
                             CIVICLASTMODIFIEDUSER.DISPLAYNAME,
@@ -559,7 +541,8 @@ final class CivicDAOFunctions {
                             CIVICLASTMODIFIEDUSER.ACCEPTEDLICENSE,
                             CIVICLASTMODIFIEDUSER.IDUSER,
                             CIVICLASTMODIFIEDUSER.CIVICLASTMODIFIEDID)
-                    .values(userLastModified.username(),
+                    .values(idLastModifiedUser,
+                            userLastModified.username(),
                             userLastModified.name(),
                             userLastModified.displayName(),
                             userLastModified.role(),
@@ -578,12 +561,9 @@ final class CivicDAOFunctions {
                             userLastModified.signupComplete(),
                             userLastModified.acceptedLicense(),
                             userLastModified.id(),
-                            idLastModified)
-                    .returning(CIVICLASTMODIFIEDUSER.ID)
-                    .fetchOne()
-                    .getValue(CIVICLASTMODIFIEDUSER.ID);
+                            idLastModified);
 
-            context.insertInto(CIVICLASTMODIFIEDAVATARS,
+            batcher.into(CIVICLASTMODIFIEDAVATARS,
                             CIVICLASTMODIFIEDAVATARS.X14,
                             CIVICLASTMODIFIEDAVATARS.X32,
                             CIVICLASTMODIFIEDAVATARS.X64,
@@ -593,27 +573,26 @@ final class CivicDAOFunctions {
                             userLastModified.avatars().x32(),
                             userLastModified.avatars().x64(),
                             userLastModified.avatars().x128(),
-                            idLastModifiedUser)
-                    .execute();
+                            idLastModifiedUser);
 
-            int idLastModifiedOrganization = context.insertInto(CIVICLASTMODIFIEDORGANIZATION,
+            int idLastModifiedOrganization = batcher.nextId(CIVICLASTMODIFIEDORGANIZATION.ID);
+            batcher.into(CIVICLASTMODIFIEDORGANIZATION,
+                            CIVICLASTMODIFIEDORGANIZATION.ID,
                             CIVICLASTMODIFIEDORGANIZATION.NAME,
                             CIVICLASTMODIFIEDORGANIZATION.URL,
                             CIVICLASTMODIFIEDORGANIZATION.IDORGANIZATION,
                             CIVICLASTMODIFIEDORGANIZATION.DESCRIPTION,
                             CIVICLASTMODIFIEDORGANIZATION.CIVICLASTMODIFIEDUSERID)
-                    .values(userLastModified.organization().name(),
+                    .values(idLastModifiedOrganization,
+                            userLastModified.organization().name(),
                             userLastModified.organization().url(),
                             userLastModified.organization().id(),
                             userLastModified.organization().description(),
-                            idLastModifiedUser)
-                    .returning(CIVICLASTMODIFIEDORGANIZATION.ID)
-                    .fetchOne()
-                    .getValue(CIVICLASTMODIFIEDORGANIZATION.ID);
+                            idLastModifiedUser);
 
             CivicProfileImage userLastModifiedProfileImage = userLastModified.organization().profileImage();
             if (userLastModifiedProfileImage != null) {
-                context.insertInto(CIVICLASTMODIFIEDPROFILEIMAGE,
+                batcher.into(CIVICLASTMODIFIEDPROFILEIMAGE,
                                 CIVICLASTMODIFIEDPROFILEIMAGE.X14,
                                 CIVICLASTMODIFIEDPROFILEIMAGE.X32,
                                 CIVICLASTMODIFIEDPROFILEIMAGE.X64,
@@ -625,22 +604,20 @@ final class CivicDAOFunctions {
                                 userLastModifiedProfileImage.x64(),
                                 userLastModifiedProfileImage.x128(),
                                 userLastModifiedProfileImage.x256(),
-                                idLastModifiedOrganization)
-                        .execute();
+                                idLastModifiedOrganization);
             }
         }
 
         CivicLastReviewed lastReviewed = civic.lifecycleActions().lastReviewed();
         if (lastReviewed != null) {
-            int idLastReviewed =
-                    context.insertInto(CIVICLASTREVIEWED, CIVICLASTREVIEWED.TIMESTAMP, CIVICLASTREVIEWED.CIVICLIFECYCLEACTIONSID)
-                            .values(lastReviewed.timestamp(), idLifecycleActions)
-                            .returning(CIVICLASTREVIEWED.ID)
-                            .fetchOne()
-                            .getValue(CIVICLASTREVIEWED.ID);
+            int idLastReviewed = batcher.nextId(CIVICLASTREVIEWED.ID);
+            batcher.into(CIVICLASTREVIEWED, CIVICLASTREVIEWED.ID, CIVICLASTREVIEWED.TIMESTAMP, CIVICLASTREVIEWED.CIVICLIFECYCLEACTIONSID)
+                    .values(idLastReviewed, lastReviewed.timestamp(), idLifecycleActions);
 
             CivicUser userLastReviewed = lastReviewed.user();
-            int idLastReviewedUser = context.insertInto(CIVICLASTREVIEWEDUSER,
+            int idLastReviewedUser = batcher.nextId(CIVICLASTREVIEWEDUSER.ID);
+            batcher.into(CIVICLASTREVIEWEDUSER,
+                            CIVICLASTREVIEWEDUSER.ID,
                             CIVICLASTREVIEWEDUSER.USERNAME,
                             CIVICLASTREVIEWEDUSER.NAME,
                             CIVICLASTREVIEWEDUSER.DISPLAYNAME,
@@ -661,7 +638,8 @@ final class CivicDAOFunctions {
                             CIVICLASTREVIEWEDUSER.ACCEPTEDLICENSE,
                             CIVICLASTREVIEWEDUSER.IDUSER,
                             CIVICLASTREVIEWEDUSER.CIVICLASTREVIEWEDID)
-                    .values(userLastReviewed.username(),
+                    .values(idLastReviewedUser,
+                            userLastReviewed.username(),
                             userLastReviewed.name(),
                             userLastReviewed.displayName(),
                             userLastReviewed.role(),
@@ -680,12 +658,9 @@ final class CivicDAOFunctions {
                             userLastReviewed.signupComplete(),
                             userLastReviewed.acceptedLicense(),
                             userLastReviewed.id(),
-                            idLastReviewed)
-                    .returning(CIVICLASTREVIEWEDUSER.ID)
-                    .fetchOne()
-                    .getValue(CIVICLASTREVIEWEDUSER.ID);
+                            idLastReviewed);
 
-            context.insertInto(CIVICLASTREVIEWEDAVATARS,
+            batcher.into(CIVICLASTREVIEWEDAVATARS,
                             CIVICLASTREVIEWEDAVATARS.X14,
                             CIVICLASTREVIEWEDAVATARS.X32,
                             CIVICLASTREVIEWEDAVATARS.X64,
@@ -695,27 +670,26 @@ final class CivicDAOFunctions {
                             userLastReviewed.avatars().x32(),
                             userLastReviewed.avatars().x64(),
                             userLastReviewed.avatars().x128(),
-                            idLastReviewedUser)
-                    .execute();
+                            idLastReviewedUser);
 
-            int idLastReviewedOrganization = context.insertInto(CIVICLASTREVIEWEDORGANIZATION,
+            int idLastReviewedOrganization = batcher.nextId(CIVICLASTREVIEWEDORGANIZATION.ID);
+            batcher.into(CIVICLASTREVIEWEDORGANIZATION,
+                            CIVICLASTREVIEWEDORGANIZATION.ID,
                             CIVICLASTREVIEWEDORGANIZATION.NAME,
                             CIVICLASTREVIEWEDORGANIZATION.URL,
                             CIVICLASTREVIEWEDORGANIZATION.IDORGANIZATION,
                             CIVICLASTREVIEWEDORGANIZATION.DESCRIPTION,
                             CIVICLASTREVIEWEDORGANIZATION.CIVICLASTREVIEWEDUSERID)
-                    .values(userLastReviewed.organization().name(),
+                    .values(idLastReviewedOrganization,
+                            userLastReviewed.organization().name(),
                             userLastReviewed.organization().url(),
                             userLastReviewed.organization().id(),
                             userLastReviewed.organization().description(),
-                            idLastReviewedUser)
-                    .returning(CIVICLASTREVIEWEDORGANIZATION.ID)
-                    .fetchOne()
-                    .getValue(CIVICLASTREVIEWEDORGANIZATION.ID);
+                            idLastReviewedUser);
 
             CivicProfileImage userLastReviewedProfileImage = userLastReviewed.organization().profileImage();
             if (userLastReviewedProfileImage != null) {
-                context.insertInto(CIVICLASTREVIEWEDPROFILEIMAGE,
+                batcher.into(CIVICLASTREVIEWEDPROFILEIMAGE,
                                 CIVICLASTREVIEWEDPROFILEIMAGE.X14,
                                 CIVICLASTREVIEWEDPROFILEIMAGE.X32,
                                 CIVICLASTREVIEWEDPROFILEIMAGE.X64,
@@ -727,8 +701,7 @@ final class CivicDAOFunctions {
                                 userLastReviewedProfileImage.x64(),
                                 userLastReviewedProfileImage.x128(),
                                 userLastReviewedProfileImage.x256(),
-                                idLastReviewedOrganization)
-                        .execute();
+                                idLastReviewedOrganization);
             }
         }
     }
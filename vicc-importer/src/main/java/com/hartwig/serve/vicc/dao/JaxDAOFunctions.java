@@ -6,6 +6,7 @@ import static com.hartwig.serve.vicc.database.Tables.JAXMOLECULARPROFILE;
 import static com.hartwig.serve.vicc.database.Tables.JAXREFERENCE;
 import static com.hartwig.serve.vicc.database.Tables.JAXTHERAPY;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.jax.Jax;
 import com.hartwig.serve.vicc.datamodel.jax.JaxReference;
 
@@ -17,39 +18,36 @@ final class JaxDAOFunctions {
     private JaxDAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull Jax jax) {
-        int id = context.insertInto(JAX,
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull Jax jax) {
+        int id = batcher.nextId(JAX.ID);
+        batcher.into(JAX,
+                        JAX.ID,
                         JAX.RESPONSETYPE,
                         JAX.APPROVALSTATUS,
                         JAX.EVIDENCETYPE,
                         JAX.EFFICACYEVIDENCE,
                         JAX.IDJAXENTRY,
                         JAX.VICCENTRYID)
-                .values(jax.responseType(), jax.approvalStatus(), jax.evidenceType(), jax.efficacyEvidence(), jax.id(), viccEntryId)
-                .returning(JAX.ID)
-                .fetchOne()
-                .getValue(JAX.ID);
+                .values(id, jax.responseType(), jax.approvalStatus(), jax.evidenceType(), jax.efficacyEvidence(), jax.id(), viccEntryId);
 
-        context.insertInto(JAXMOLECULARPROFILE,
+        batcher.into(JAXMOLECULARPROFILE,
                 JAXMOLECULARPROFILE.PROFILENAME,
                 JAXMOLECULARPROFILE.IDMOLECULARPROFILE,
-                JAXMOLECULARPROFILE.JAXID).values(jax.molecularProfile().profileName(), jax.molecularProfile().id(), id).execute();
+                JAXMOLECULARPROFILE.JAXID).values(jax.molecularProfile().profileName(), jax.molecularProfile().id(), id);
 
-        context.insertInto(JAXTHERAPY, JAXTHERAPY.THERAPYNAME, JAXTHERAPY.IDTHERAPY, JAXTHERAPY.JAXID)
-                .values(jax.therapy().therapyName(), jax.therapy().id(), id)
-                .execute();
+        batcher.into(JAXTHERAPY, JAXTHERAPY.THERAPYNAME, JAXTHERAPY.IDTHERAPY, JAXTHERAPY.JAXID)
+                .values(jax.therapy().therapyName(), jax.therapy().id(), id);
 
-        context.insertInto(JAXINDICATION, JAXINDICATION.SOURCE, JAXINDICATION.IDINDICATION, JAXINDICATION.NAME, JAXINDICATION.JAXID)
-                .values(jax.indication().source(), jax.indication().id(), jax.indication().name(), id)
-                .execute();
+        batcher.into(JAXINDICATION, JAXINDICATION.SOURCE, JAXINDICATION.IDINDICATION, JAXINDICATION.NAME, JAXINDICATION.JAXID)
+                .values(jax.indication().source(), jax.indication().id(), jax.indication().name(), id);
 
         for (JaxReference references : jax.references()) {
-            context.insertInto(JAXREFERENCE,
+            batcher.into(JAXREFERENCE,
                     JAXREFERENCE.URL,
                     JAXREFERENCE.IDREFERENCE,
                     JAXREFERENCE.PUBMEDID,
                     JAXREFERENCE.TITLE,
-                    JAXREFERENCE.JAXID).values(references.url(), references.id(), references.pubMedId(), references.title(), id).execute();
+                    JAXREFERENCE.JAXID).values(references.url(), references.id(), references.pubMedId(), references.title(), id);
         }
     }
 
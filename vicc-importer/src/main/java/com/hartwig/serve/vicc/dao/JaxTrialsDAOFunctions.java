@@ -5,6 +5,7 @@ import static com.hartwig.serve.vicc.database.Tables.JAXTRIALSINDICATION;
 import static com.hartwig.serve.vicc.database.Tables.JAXTRIALSMOLECULARPROFILE;
 import static com.hartwig.serve.vicc.database.Tables.JAXTRIALSTHERAPY;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.jaxtrials.JaxTrials;
 import com.hartwig.serve.vicc.datamodel.jaxtrials.JaxTrialsIndication;
 import com.hartwig.serve.vicc.datamodel.jaxtrials.JaxTrialsMolecularProfile;
@@ -18,8 +19,10 @@ final class JaxTrialsDAOFunctions {
     private JaxTrialsDAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull JaxTrials jaxTrials) {
-        int id = context.insertInto(JAXTRIALS,
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull JaxTrials jaxTrials) {
+        int id = batcher.nextId(JAXTRIALS.ID);
+        batcher.into(JAXTRIALS,
+                        JAXTRIALS.ID,
                         JAXTRIALS.NCTID,
                         JAXTRIALS.TITLE,
                         JAXTRIALS.VARIANTREQUIREMENTS,
@@ -29,7 +32,8 @@ final class JaxTrialsDAOFunctions {
                         JAXTRIALS.SPONSORS,
                         JAXTRIALS.UPDATEDATE,
                         JAXTRIALS.VICCENTRYID)
-                .values(jaxTrials.nctId(),
+                .values(id,
+                        jaxTrials.nctId(),
                         jaxTrials.title(),
                         jaxTrials.variantRequirements(),
                         jaxTrials.gender(),
@@ -37,33 +41,28 @@ final class JaxTrialsDAOFunctions {
                         jaxTrials.phase(),
                         jaxTrials.sponsors(),
                         jaxTrials.updateDate(),
-                        viccEntryId)
-                .returning(JAXTRIALS.ID)
-                .fetchOne()
-                .getValue(JAXTRIALS.ID);
+                        viccEntryId);
 
         for (JaxTrialsMolecularProfile molecularProfile : jaxTrials.molecularProfiles()) {
-            context.insertInto(JAXTRIALSMOLECULARPROFILE,
+            batcher.into(JAXTRIALSMOLECULARPROFILE,
                             JAXTRIALSMOLECULARPROFILE.REQUIREMENTTYPE,
                             JAXTRIALSMOLECULARPROFILE.PROFILENAME,
                             JAXTRIALSMOLECULARPROFILE.IDMOLECULARPROFILE,
                             JAXTRIALSMOLECULARPROFILE.JAXTRIALSID)
-                    .values(molecularProfile.requirementType(), molecularProfile.profileName(), molecularProfile.id(), id)
-                    .execute();
+                    .values(molecularProfile.requirementType(), molecularProfile.profileName(), molecularProfile.id(), id);
         }
 
         for (JaxTrialsIndication indication : jaxTrials.indications()) {
-            context.insertInto(JAXTRIALSINDICATION,
+            batcher.into(JAXTRIALSINDICATION,
                     JAXTRIALSINDICATION.NAME,
                     JAXTRIALSINDICATION.SOURCE,
                     JAXTRIALSINDICATION.IDINDICATION,
-                    JAXTRIALSINDICATION.JAXTRIALSID).values(indication.name(), indication.source(), indication.id(), id).execute();
+                    JAXTRIALSINDICATION.JAXTRIALSID).values(indication.name(), indication.source(), indication.id(), id);
         }
 
         for (JaxTrialsTherapy therapy : jaxTrials.therapies()) {
-            context.insertInto(JAXTRIALSTHERAPY, JAXTRIALSTHERAPY.THERAPYNAME, JAXTRIALSTHERAPY.IDTHERAPY, JAXTRIALSTHERAPY.JAXTRIALSID)
-                    .values(therapy.therapyName(), therapy.id(), id)
-                    .execute();
+            batcher.into(JAXTRIALSTHERAPY, JAXTRIALSTHERAPY.THERAPYNAME, JAXTRIALSTHERAPY.IDTHERAPY, JAXTRIALSTHERAPY.JAXTRIALSID)
+                    .values(therapy.therapyName(), therapy.id(), id);
         }
     }
 
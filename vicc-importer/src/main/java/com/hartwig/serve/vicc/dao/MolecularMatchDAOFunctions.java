@@ -135,6 +135,7 @@ import static com.hartwig.serve.vicc.database.Tables.MOLECULARMATCHVARIANTINFOLO
 
 import java.util.List;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.molecularmatch.MolecularMatch;
 import com.hartwig.serve.vicc.datamodel.molecularmatch.MolecularMatchAst;
 import com.hartwig.serve.vicc.datamodel.molecularmatch.MolecularMatchAstLeft;
@@ -173,8 +174,10 @@ final class MolecularMatchDAOFunctions {
     private MolecularMatchDAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull MolecularMatch molecularMatch) {
-        int id = context.insertInto(MOLECULARMATCH,
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull MolecularMatch molecularMatch) {
+        int id = batcher.nextId(MOLECULARMATCH.ID);
+        batcher.into(MOLECULARMATCH,
+                        MOLECULARMATCH.ID,
                         MOLECULARMATCH.DIRECTION,
                         MOLECULARMATCH.BIOMARKERCLASS,
                         MOLECULARMATCH.SCORE,
@@ -198,7 +201,8 @@ final class MolecularMatchDAOFunctions {
                         MOLECULARMATCH.UNIQUEKEY,
                         MOLECULARMATCH.HASHKEY,
                         MOLECULARMATCH.VICCENTRYID)
-                .values(molecularMatch.direction(),
+                .values(id,
+                        molecularMatch.direction(),
                         molecularMatch.biomarkerClass(),
                         molecularMatch.score(),
                         molecularMatch.clinicalSignificance(),
@@ -220,102 +224,96 @@ final class MolecularMatchDAOFunctions {
                         molecularMatch.id(),
                         molecularMatch.uniqueKey(),
                         molecularMatch.hashKey(),
-                        viccEntryId)
-                .returning(MOLECULARMATCH.ID)
-                .fetchOne()
-                .getValue(MOLECULARMATCH.ID);
+                        viccEntryId);
 
-        insertMutations(context, molecularMatch.mutations(), id);
-        insertVariantInfos(context, molecularMatch.variantInfos(), id);
-        insertAst(context, molecularMatch.ast(), id);
-        insertClassifications(context, molecularMatch.classifications(), id);
+        insertMutations(batcher, molecularMatch.mutations(), id);
+        insertVariantInfos(batcher, molecularMatch.variantInfos(), id);
+        insertAst(batcher, molecularMatch.ast(), id);
+        insertClassifications(batcher, molecularMatch.classifications(), id);
 
         for (String includeGene1 : molecularMatch.includeGene1()) {
-            context.insertInto(MOLECULARMATCHINCLUDEGENE1,
+            batcher.into(MOLECULARMATCHINCLUDEGENE1,
                     MOLECULARMATCHINCLUDEGENE1.INCLUDEGENE1,
-                    MOLECULARMATCHINCLUDEGENE1.MOLECULARMATCHID).values(includeGene1, id).execute();
+                    MOLECULARMATCHINCLUDEGENE1.MOLECULARMATCHID).values(includeGene1, id);
         }
 
         for (String includeFinding1 : molecularMatch.includeFinding1()) {
-            context.insertInto(MOLECULARMATCHINCLUDEFINDING1,
+            batcher.into(MOLECULARMATCHINCLUDEFINDING1,
                     MOLECULARMATCHINCLUDEFINDING1.INCLUDEFINDING1,
-                    MOLECULARMATCHINCLUDEFINDING1.MOLECULARMATCHID).values(includeFinding1, id).execute();
+                    MOLECULARMATCHINCLUDEFINDING1.MOLECULARMATCHID).values(includeFinding1, id);
         }
 
         for (String includeCondition1 : molecularMatch.includeCondition1()) {
-            context.insertInto(MOLECULARMATCHINCLUDECONDITION1,
+            batcher.into(MOLECULARMATCHINCLUDECONDITION1,
                     MOLECULARMATCHINCLUDECONDITION1.INCLUDECONDITION1,
-                    MOLECULARMATCHINCLUDECONDITION1.MOLECULARMATCHID).values(includeCondition1, id).execute();
+                    MOLECULARMATCHINCLUDECONDITION1.MOLECULARMATCHID).values(includeCondition1, id);
         }
 
         for (String includeMutation1 : molecularMatch.includeMutation1()) {
-            context.insertInto(MOLECULARMATCHINCLUDEMUTATION1,
+            batcher.into(MOLECULARMATCHINCLUDEMUTATION1,
                     MOLECULARMATCHINCLUDEMUTATION1.INCLUDEMUTATION1,
-                    MOLECULARMATCHINCLUDEMUTATION1.MOLECULARMATCHID).values(includeMutation1, id).execute();
+                    MOLECULARMATCHINCLUDEMUTATION1.MOLECULARMATCHID).values(includeMutation1, id);
         }
 
         for (String includeDrug1 : molecularMatch.includeDrug1()) {
-            context.insertInto(MOLECULARMATCHINCLUDEDRUG1,
+            batcher.into(MOLECULARMATCHINCLUDEDRUG1,
                     MOLECULARMATCHINCLUDEDRUG1.INCLUDEDRUG1,
-                    MOLECULARMATCHINCLUDEDRUG1.MOLECULARMATCHID).values(includeDrug1, id).execute();
+                    MOLECULARMATCHINCLUDEDRUG1.MOLECULARMATCHID).values(includeDrug1, id);
         }
 
         for (String includeDrugClass1 : molecularMatch.includeDrugClass1()) {
-            context.insertInto(MOLECULARMATCHINCLUDEDRUGCLASS1,
+            batcher.into(MOLECULARMATCHINCLUDEDRUGCLASS1,
                     MOLECULARMATCHINCLUDEDRUGCLASS1.INCLUDEDRUGCLASS1,
-                    MOLECULARMATCHINCLUDEDRUGCLASS1.MOLECULARMATCHID).values(includeDrugClass1, id).execute();
+                    MOLECULARMATCHINCLUDEDRUGCLASS1.MOLECULARMATCHID).values(includeDrugClass1, id);
         }
 
         for (String includeResistance1 : molecularMatch.includeResistance1()) {
-            context.insertInto(MOLECULARMATCHINCLUDERESISTANCE1,
+            batcher.into(MOLECULARMATCHINCLUDERESISTANCE1,
                     MOLECULARMATCHINCLUDERESISTANCE1.INCLUDERESISTANCE1,
-                    MOLECULARMATCHINCLUDERESISTANCE1.MOLECULARMATCHID).values(includeResistance1, id).execute();
+                    MOLECULARMATCHINCLUDERESISTANCE1.MOLECULARMATCHID).values(includeResistance1, id);
         }
 
         for (String includeStage0 : molecularMatch.includeStage0()) {
-            context.insertInto(MOLECULARMATCHINCLUDESTAGE0,
+            batcher.into(MOLECULARMATCHINCLUDESTAGE0,
                     MOLECULARMATCHINCLUDESTAGE0.INCLUDESTAGE0,
-                    MOLECULARMATCHINCLUDESTAGE0.MOLECULARMATCHID).values(includeStage0, id).execute();
+                    MOLECULARMATCHINCLUDESTAGE0.MOLECULARMATCHID).values(includeStage0, id);
         }
 
         for (String includeGene0 : molecularMatch.includeGene0()) {
-            context.insertInto(MOLECULARMATCHINCLUDEGENE0,
+            batcher.into(MOLECULARMATCHINCLUDEGENE0,
                     MOLECULARMATCHINCLUDEGENE0.INCLUDEGENE0,
-                    MOLECULARMATCHINCLUDEGENE0.MOLECULARMATCHID).values(includeGene0, id).execute();
+                    MOLECULARMATCHINCLUDEGENE0.MOLECULARMATCHID).values(includeGene0, id);
         }
 
         for (String includeCondition0 : molecularMatch.includeCondition0()) {
-            context.insertInto(MOLECULARMATCHINCLUDECONDITION0,
+            batcher.into(MOLECULARMATCHINCLUDECONDITION0,
                     MOLECULARMATCHINCLUDECONDITION0.INCLUDECONDITION0,
-                    MOLECULARMATCHINCLUDECONDITION0.MOLECULARMATCHID).values(includeCondition0, id).execute();
+                    MOLECULARMATCHINCLUDECONDITION0.MOLECULARMATCHID).values(includeCondition0, id);
         }
 
         for (String includeMutation0 : molecularMatch.includeMutation0()) {
-            context.insertInto(MOLECULARMATCHINCLUDEMUTATION0,
+            batcher.into(MOLECULARMATCHINCLUDEMUTATION0,
                     MOLECULARMATCHINCLUDEMUTATION0.INCLUDEMUTATION0,
-                    MOLECULARMATCHINCLUDEMUTATION0.MOLECULARMATCHID).values(includeMutation0, id).execute();
+                    MOLECULARMATCHINCLUDEMUTATION0.MOLECULARMATCHID).values(includeMutation0, id);
         }
 
         for (String criteriaMet : molecularMatch.criteriaMets()) {
-            context.insertInto(MOLECULARMATCHCRITERIAMET, MOLECULARMATCHCRITERIAMET.CRITERIAMET, MOLECULARMATCHCRITERIAMET.MOLECULARMATCHID)
-                    .values(criteriaMet, id)
-                    .execute();
+            batcher.into(MOLECULARMATCHCRITERIAMET, MOLECULARMATCHCRITERIAMET.CRITERIAMET, MOLECULARMATCHCRITERIAMET.MOLECULARMATCHID)
+                    .values(criteriaMet, id);
         }
 
         for (String institution : molecularMatch.institutions()) {
-            context.insertInto(MOLECULARMATCHINSTITUTION, MOLECULARMATCHINSTITUTION.INSTITUTION, MOLECULARMATCHINSTITUTION.MOLECULARMATCHID)
-                    .values(institution, id)
-                    .execute();
+            batcher.into(MOLECULARMATCHINSTITUTION, MOLECULARMATCHINSTITUTION.INSTITUTION, MOLECULARMATCHINSTITUTION.MOLECULARMATCHID)
+                    .values(institution, id);
         }
 
         for (String externalId : molecularMatch.externalIds()) {
-            context.insertInto(MOLECULARMATCHEXTERNALID, MOLECULARMATCHEXTERNALID.EXTERNALID, MOLECULARMATCHEXTERNALID.MOLECULARMATCHID)
-                    .values(externalId, id)
-                    .execute();
+            batcher.into(MOLECULARMATCHEXTERNALID, MOLECULARMATCHEXTERNALID.EXTERNALID, MOLECULARMATCHEXTERNALID.MOLECULARMATCHID)
+                    .values(externalId, id);
         }
 
         for (MolecularMatchSource source : molecularMatch.sources()) {
-            context.insertInto(MOLECULARMATCHSOURCE,
+            batcher.into(MOLECULARMATCHSOURCE,
                             MOLECULARMATCHSOURCE.NAME,
                             MOLECULARMATCHSOURCE.TYPE,
                             MOLECULARMATCHSOURCE.SUBTYPE,
@@ -345,23 +343,21 @@ final class MolecularMatchDAOFunctions {
                             source.trustRating(),
                             source.suppress(),
                             source.id(),
-                            id)
-                    .execute();
+                            id);
         }
 
         for (MolecularMatchTierExplanation tierExplanation : molecularMatch.tierExplanations()) {
-            context.insertInto(MOLECULARMATCHTIEREXPLANATION,
+            batcher.into(MOLECULARMATCHTIEREXPLANATION,
                             MOLECULARMATCHTIEREXPLANATION.TIER,
                             MOLECULARMATCHTIEREXPLANATION.STEP,
                             MOLECULARMATCHTIEREXPLANATION.MESSAGE,
                             MOLECULARMATCHTIEREXPLANATION.SUCCESS,
                             MOLECULARMATCHTIEREXPLANATION.MOLECULARMATCHID)
-                    .values(tierExplanation.tier(), tierExplanation.step(), tierExplanation.message(), tierExplanation.success(), id)
-                    .execute();
+                    .values(tierExplanation.tier(), tierExplanation.step(), tierExplanation.message(), tierExplanation.success(), id);
         }
 
         for (MolecularMatchTherapeuticContext therapeuticContext : molecularMatch.therapeuticContexts()) {
-            context.insertInto(MOLECULARMATCHTHERAPEUTICCONTEXT,
+            batcher.into(MOLECULARMATCHTHERAPEUTICCONTEXT,
                             MOLECULARMATCHTHERAPEUTICCONTEXT.NAME,
                             MOLECULARMATCHTHERAPEUTICCONTEXT.FACET,
                             MOLECULARMATCHTHERAPEUTICCONTEXT.SUPPRESS,
@@ -371,12 +367,11 @@ final class MolecularMatchDAOFunctions {
                             therapeuticContext.facet(),
                             therapeuticContext.suppress(),
                             therapeuticContext.valid(),
-                            id)
-                    .execute();
+                            id);
         }
 
         for (MolecularMatchTag tag : molecularMatch.tags()) {
-            context.insertInto(MOLECULARMATCHTAG,
+            batcher.into(MOLECULARMATCHTAG,
                             MOLECULARMATCHTAG.TERM,
                             MOLECULARMATCHTAG.FACET,
                             MOLECULARMATCHTAG.FILTERTYPE,
@@ -408,12 +403,11 @@ final class MolecularMatchDAOFunctions {
                             tag.manualSuppress(),
                             tag.composite(),
                             tag.compositeKey(),
-                            id)
-                    .execute();
+                            id);
         }
 
         for (MolecularMatchCriteriaUnmet criteriaUnmet : molecularMatch.criteriaUnmets()) {
-            context.insertInto(MOLECULARMATCHCRITERIAUNMET,
+            batcher.into(MOLECULARMATCHCRITERIAUNMET,
                             MOLECULARMATCHCRITERIAUNMET.TERM,
                             MOLECULARMATCHCRITERIAUNMET.FILTERTYPE,
                             MOLECULARMATCHCRITERIAUNMET.PRIORITY,
@@ -443,12 +437,11 @@ final class MolecularMatchDAOFunctions {
                             criteriaUnmet.primary(),
                             criteriaUnmet.compositeKey(),
                             criteriaUnmet.custom(),
-                            id)
-                    .execute();
+                            id);
         }
 
         for (MolecularMatchPrevalence prevalence : molecularMatch.prevalences()) {
-            context.insertInto(MOLECULARMATCHPREVALENCE,
+            batcher.into(MOLECULARMATCHPREVALENCE,
                             MOLECULARMATCHPREVALENCE.STUDYID,
                             MOLECULARMATCHPREVALENCE.COUNT,
                             MOLECULARMATCHPREVALENCE.SAMPLES,
@@ -462,105 +455,99 @@ final class MolecularMatchDAOFunctions {
                             prevalence.percent(),
                             prevalence.molecular(),
                             prevalence.condition(),
-                            id)
-                    .execute();
+                            id);
         }
     }
 
-    private static void insertAst(@NotNull DSLContext context, @NotNull MolecularMatchAst ast, int molecularMatchId) {
-        int astId = context.insertInto(MOLECULARMATCHAST,
+    private static void insertAst(@NotNull InsertBatcher batcher, @NotNull MolecularMatchAst ast, int molecularMatchId) {
+        int astId = batcher.nextId(MOLECULARMATCHAST.ID);
+        batcher.into(MOLECULARMATCHAST,
+                        MOLECULARMATCHAST.ID,
                         MOLECULARMATCHAST.TYPE,
                         MOLECULARMATCHAST.RAW,
                         MOLECULARMATCHAST.VALUE,
                         MOLECULARMATCHAST.OPERATOR,
                         MOLECULARMATCHAST.MOLECULARMATCHID)
-                .values(ast.type(), ast.raw(), ast.value(), ast.operator(), molecularMatchId)
-                .returning(MOLECULARMATCHAST.ID)
-                .fetchOne()
-                .getValue(MOLECULARMATCHAST.ID);
+                .values(astId, ast.type(), ast.raw(), ast.value(), ast.operator(), molecularMatchId);
 
         MolecularMatchAstLeft astLeft = ast.left();
         if (astLeft != null) {
-            int astLeftId = context.insertInto(MOLECULARMATCHASTLEFT,
+            int astLeftId = batcher.nextId(MOLECULARMATCHASTLEFT.ID);
+            batcher.into(MOLECULARMATCHASTLEFT,
+                            MOLECULARMATCHASTLEFT.ID,
                             MOLECULARMATCHASTLEFT.TYPE,
                             MOLECULARMATCHASTLEFT.RAW,
                             MOLECULARMATCHASTLEFT.VALUE,
                             MOLECULARMATCHASTLEFT.OPERATOR,
                             MOLECULARMATCHASTLEFT.MOLECULARMATCHASTID)
-                    .values(astLeft.type(), astLeft.raw(), astLeft.value(), astLeft.operator(), astId)
-                    .returning(MOLECULARMATCHASTLEFT.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHASTLEFT.ID);
+                    .values(astLeftId, astLeft.type(), astLeft.raw(), astLeft.value(), astLeft.operator(), astId);
 
             MolecularMatchAstLeftLeft astLeftLeft = astLeft.left();
             if (astLeftLeft != null) {
-                context.insertInto(MOLECULARMATCHASTLEFTLEFT,
+                batcher.into(MOLECULARMATCHASTLEFTLEFT,
                                 MOLECULARMATCHASTLEFTLEFT.TYPE,
                                 MOLECULARMATCHASTLEFTLEFT.RAW,
                                 MOLECULARMATCHASTLEFTLEFT.VALUE,
                                 MOLECULARMATCHASTLEFTLEFT.OPERATOR,
                                 MOLECULARMATCHASTLEFTLEFT.MOLECULARMATCHASTLEFTID)
-                        .values(astLeftLeft.type(), astLeftLeft.raw(), astLeftLeft.value(), astLeftLeft.operator(), astLeftId)
-                        .execute();
+                        .values(astLeftLeft.type(), astLeftLeft.raw(), astLeftLeft.value(), astLeftLeft.operator(), astLeftId);
             }
 
             MolecularMatchAstLeftRight astLeftRight = astLeft.right();
             if (astLeftRight != null) {
-                context.insertInto(MOLECULARMATCHASTLEFTRIGHT,
+                batcher.into(MOLECULARMATCHASTLEFTRIGHT,
                                 MOLECULARMATCHASTLEFTRIGHT.TYPE,
                                 MOLECULARMATCHASTLEFTRIGHT.RAW,
                                 MOLECULARMATCHASTLEFTRIGHT.VALUE,
                                 MOLECULARMATCHASTLEFTRIGHT.OPERATOR,
                                 MOLECULARMATCHASTLEFTRIGHT.MOLECULARMATCHASTLEFTID)
-                        .values(astLeftRight.type(), astLeftRight.raw(), astLeftRight.value(), astLeftRight.operator(), astLeftId)
-                        .execute();
+                        .values(astLeftRight.type(), astLeftRight.raw(), astLeftRight.value(), astLeftRight.operator(), astLeftId);
             }
         }
 
         MolecularMatchAstRight astRight = ast.right();
         if (astRight != null) {
-            int astRightId = context.insertInto(MOLECULARMATCHASTRIGHT,
+            int astRightId = batcher.nextId(MOLECULARMATCHASTRIGHT.ID);
+            batcher.into(MOLECULARMATCHASTRIGHT,
+                            MOLECULARMATCHASTRIGHT.ID,
                             MOLECULARMATCHASTRIGHT.TYPE,
                             MOLECULARMATCHASTRIGHT.RAW,
                             MOLECULARMATCHASTRIGHT.VALUE,
                             MOLECULARMATCHASTRIGHT.OPERATOR,
                             MOLECULARMATCHASTRIGHT.MOLECULARMATCHASTID)
-                    .values(astRight.type(), astRight.raw(), astRight.value(), astRight.operator(), astId)
-                    .returning(MOLECULARMATCHASTRIGHT.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHASTRIGHT.ID);
+                    .values(astRightId, astRight.type(), astRight.raw(), astRight.value(), astRight.operator(), astId);
 
             MolecularMatchAstRightLeft astRightLeft = astRight.left();
             if (astRightLeft != null) {
-                context.insertInto(MOLECULARMATCHASTRIGHTLEFT,
+                batcher.into(MOLECULARMATCHASTRIGHTLEFT,
                                 MOLECULARMATCHASTRIGHTLEFT.TYPE,
                                 MOLECULARMATCHASTRIGHTLEFT.RAW,
                                 MOLECULARMATCHASTRIGHTLEFT.VALUE,
                                 MOLECULARMATCHASTRIGHTLEFT.OPERATOR,
                                 MOLECULARMATCHASTRIGHTLEFT.MOLECULARMATCHASTRIGHTID)
-                        .values(astRightLeft.type(), astRightLeft.raw(), astRightLeft.value(), astRightLeft.operator(), astRightId)
-                        .execute();
+                        .values(astRightLeft.type(), astRightLeft.raw(), astRightLeft.value(), astRightLeft.operator(), astRightId);
             }
 
             MolecularMatchAstRightRight astRightRight = astRight.right();
             if (astRightRight != null) {
-                context.insertInto(MOLECULARMATCHASTRIGHTRIGHT,
+                batcher.into(MOLECULARMATCHASTRIGHTRIGHT,
                                 MOLECULARMATCHASTRIGHTRIGHT.TYPE,
                                 MOLECULARMATCHASTRIGHTRIGHT.RAW,
                                 MOLECULARMATCHASTRIGHTRIGHT.VALUE,
                                 MOLECULARMATCHASTRIGHTRIGHT.OPERATOR,
                                 MOLECULARMATCHASTRIGHTRIGHT.MOLECULARMATCHASTRIGHTID)
-                        .values(astRightRight.type(), astRightRight.raw(), astRightRight.value(), astRightRight.operator(), astRightId)
-                        .execute();
+                        .values(astRightRight.type(), astRightRight.raw(), astRightRight.value(), astRightRight.operator(), astRightId);
             }
 
         }
     }
 
-    private static void insertVariantInfos(@NotNull DSLContext context, @NotNull List<MolecularMatchVariantInfo> variantInfos,
+    private static void insertVariantInfos(@NotNull InsertBatcher batcher, @NotNull List<MolecularMatchVariantInfo> variantInfos,
             int molecularMatchId) {
         for (MolecularMatchVariantInfo variantInfo : variantInfos) {
-            int variantInfoId = context.insertInto(MOLECULARMATCHVARIANTINFO,
+            int variantInfoId = batcher.nextId(MOLECULARMATCHVARIANTINFO.ID);
+            batcher.into(MOLECULARMATCHVARIANTINFO,
+                            MOLECULARMATCHVARIANTINFO.ID,
                             MOLECULARMATCHVARIANTINFO.NAME,
                             MOLECULARMATCHVARIANTINFO.GENE,
                             MOLECULARMATCHVARIANTINFO.TRANSCRIPT,
@@ -569,26 +556,24 @@ final class MolecularMatchDAOFunctions {
                             MOLECULARMATCHVARIANTINFO.COSMICID,
                             MOLECULARMATCHVARIANTINFO.POPFREQMAX,
                             MOLECULARMATCHVARIANTINFO.MOLECULARMATCHID)
-                    .values(variantInfo.name(),
+                    .values(variantInfoId,
+                            variantInfo.name(),
                             variantInfo.gene(),
                             variantInfo.transcript(),
                             variantInfo.classification(),
                             variantInfo.geneFusionPartner(),
                             variantInfo.cosmicId(),
                             variantInfo.popFreqMax(),
-                            molecularMatchId)
-                    .returning(MOLECULARMATCHVARIANTINFO.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHVARIANTINFO.ID);
+                            molecularMatchId);
 
             for (String consequence : variantInfo.consequences()) {
-                context.insertInto(MOLECULARMATCHVARIANTINFOCONSEQUENCE,
+                batcher.into(MOLECULARMATCHVARIANTINFOCONSEQUENCE,
                         MOLECULARMATCHVARIANTINFOCONSEQUENCE.CONSEQUENCE,
-                        MOLECULARMATCHVARIANTINFOCONSEQUENCE.MOLECULARMATCHVARIANTINFOID).values(consequence, variantInfoId).execute();
+                        MOLECULARMATCHVARIANTINFOCONSEQUENCE.MOLECULARMATCHVARIANTINFOID).values(consequence, variantInfoId);
             }
 
             for (MolecularMatchFusion fusion : variantInfo.fusions()) {
-                context.insertInto(MOLECULARMATCHVARIANTINFOFUSION,
+                batcher.into(MOLECULARMATCHVARIANTINFOFUSION,
                                 MOLECULARMATCHVARIANTINFOFUSION.CHR,
                                 MOLECULARMATCHVARIANTINFOFUSION.REFERENCEGENOME,
                                 MOLECULARMATCHVARIANTINFOFUSION.LBPWREP,
@@ -606,12 +591,13 @@ final class MolecularMatchDAOFunctions {
                                 fusion.RBPWLEP(),
                                 fusion.intronNumber(),
                                 fusion.exonNumber(),
-                                variantInfoId)
-                        .execute();
+                                variantInfoId);
             }
 
             for (MolecularMatchLocation location : variantInfo.locations()) {
-                int locationId = context.insertInto(MOLECULARMATCHVARIANTINFOLOCATION,
+                int locationId = batcher.nextId(MOLECULARMATCHVARIANTINFOLOCATION.ID);
+                batcher.into(MOLECULARMATCHVARIANTINFOLOCATION,
+                                MOLECULARMATCHVARIANTINFOLOCATION.ID,
                                 MOLECULARMATCHVARIANTINFOLOCATION.CHR,
                                 MOLECULARMATCHVARIANTINFOLOCATION.START,
                                 MOLECULARMATCHVARIANTINFOLOCATION.STOP,
@@ -623,7 +609,8 @@ final class MolecularMatchDAOFunctions {
                                 MOLECULARMATCHVARIANTINFOLOCATION.STRAND,
                                 MOLECULARMATCHVARIANTINFOLOCATION.INTRONNUMBER,
                                 MOLECULARMATCHVARIANTINFOLOCATION.MOLECULARMATCHVARIANTINFOID)
-                        .values(location.chr(),
+                        .values(locationId,
+                                location.chr(),
                                 location.start(),
                                 location.stop(),
                                 location.ref(),
@@ -633,26 +620,24 @@ final class MolecularMatchDAOFunctions {
                                 location.referenceGenome(),
                                 location.strand(),
                                 location.intronNumber(),
-                                variantInfoId)
-                        .returning(MOLECULARMATCHVARIANTINFOLOCATION.ID)
-                        .fetchOne()
-                        .getValue(MOLECULARMATCHVARIANTINFOLOCATION.ID);
+                                variantInfoId);
 
                 for (String exonNumber : location.exonNumbers()) {
-                    context.insertInto(MOLECULARMATCHVARIANTINFOLOCATIONEXONNUMBER,
+                    batcher.into(MOLECULARMATCHVARIANTINFOLOCATIONEXONNUMBER,
                                     MOLECULARMATCHVARIANTINFOLOCATIONEXONNUMBER.EXONNUMBER,
                                     MOLECULARMATCHVARIANTINFOLOCATIONEXONNUMBER.MOLECULARMATCHVARIANTINFOLOCATIONID)
-                            .values(exonNumber, locationId)
-                            .execute();
+                            .values(exonNumber, locationId);
                 }
             }
         }
     }
 
-    private static void insertClassifications(@NotNull DSLContext context, @NotNull List<MolecularMatchClassification> classifications,
+    private static void insertClassifications(@NotNull InsertBatcher batcher, @NotNull List<MolecularMatchClassification> classifications,
             int molecularMatchId) {
         for (MolecularMatchClassification classification : classifications) {
-            int classificationId = context.insertInto(MOLECULARMATCHCLASSIFICATION,
+            int classificationId = batcher.nextId(MOLECULARMATCHCLASSIFICATION.ID);
+            batcher.into(MOLECULARMATCHCLASSIFICATION,
+                            MOLECULARMATCHCLASSIFICATION.ID,
                             MOLECULARMATCHCLASSIFICATION.NAME,
                             MOLECULARMATCHCLASSIFICATION.GENESYMBOL,
                             MOLECULARMATCHCLASSIFICATION.EXPANDGENESEARCH,
@@ -670,7 +655,8 @@ final class MolecularMatchDAOFunctions {
                             MOLECULARMATCHCLASSIFICATION.PRIORITY,
                             MOLECULARMATCHCLASSIFICATION.DESCRIPTION,
                             MOLECULARMATCHCLASSIFICATION.MOLECULARMATCHID)
-                    .values(classification.name(),
+                    .values(classificationId,
+                            classification.name(),
                             classification.geneSymbol(),
                             classification.expandGeneSearch(),
                             classification.transcript(),
@@ -686,131 +672,123 @@ final class MolecularMatchDAOFunctions {
                             classification.alias(),
                             classification.priority(),
                             classification.description(),
-                            molecularMatchId)
-                    .returning(MOLECULARMATCHCLASSIFICATION.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHCLASSIFICATION.ID);
+                            molecularMatchId);
 
             for (String transcript : classification.transcripts()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONTRANSCRIPT,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONTRANSCRIPT,
                                 MOLECULARMATCHCLASSIFICATIONTRANSCRIPT.TRANSCRIPT,
                                 MOLECULARMATCHCLASSIFICATIONTRANSCRIPT.MOLECULARMATCHCLASSIFICATIONID)
-                        .values(transcript, classificationId)
-                        .execute();
+                        .values(transcript, classificationId);
             }
 
             for (String chromosome : classification.chromosomes()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONCHROMOSOME,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONCHROMOSOME,
                                 MOLECULARMATCHCLASSIFICATIONCHROMOSOME.CHROMOSOME,
                                 MOLECULARMATCHCLASSIFICATIONCHROMOSOME.MOLECULARMATCHCLASSIFICATIONID)
-                        .values(chromosome, classificationId)
-                        .execute();
+                        .values(chromosome, classificationId);
             }
 
             for (String start : classification.starts()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONSTART,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONSTART,
                         MOLECULARMATCHCLASSIFICATIONSTART.START,
-                        MOLECULARMATCHCLASSIFICATIONSTART.MOLECULARMATCHCLASSIFICATIONID).values(start, classificationId).execute();
+                        MOLECULARMATCHCLASSIFICATIONSTART.MOLECULARMATCHCLASSIFICATIONID).values(start, classificationId);
             }
 
             for (String end : classification.ends()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONEND,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONEND,
                         MOLECULARMATCHCLASSIFICATIONEND.END,
-                        MOLECULARMATCHCLASSIFICATIONEND.MOLECULARMATCHCLASSIFICATIONID).values(end, classificationId).execute();
+                        MOLECULARMATCHCLASSIFICATIONEND.MOLECULARMATCHCLASSIFICATIONID).values(end, classificationId);
             }
 
             for (String ref : classification.refs()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONREF,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONREF,
                         MOLECULARMATCHCLASSIFICATIONREF.REF,
-                        MOLECULARMATCHCLASSIFICATIONREF.MOLECULARMATCHCLASSIFICATIONID).values(ref, classificationId).execute();
+                        MOLECULARMATCHCLASSIFICATIONREF.MOLECULARMATCHCLASSIFICATIONID).values(ref, classificationId);
             }
 
             for (String alt : classification.alts()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONALT,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONALT,
                         MOLECULARMATCHCLASSIFICATIONALT.ALT,
-                        MOLECULARMATCHCLASSIFICATIONALT.MOLECULARMATCHCLASSIFICATIONID).values(alt, classificationId).execute();
+                        MOLECULARMATCHCLASSIFICATIONALT.MOLECULARMATCHCLASSIFICATIONID).values(alt, classificationId);
             }
 
             for (String nucleotideChange : classification.nucleotideChanges()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONNUCLEOTIDECHANGE,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONNUCLEOTIDECHANGE,
                                 MOLECULARMATCHCLASSIFICATIONNUCLEOTIDECHANGE.NUCLEOTIDECHANGE,
                                 MOLECULARMATCHCLASSIFICATIONNUCLEOTIDECHANGE.MOLECULARMATCHCLASSIFICATIONID)
-                        .values(nucleotideChange, classificationId)
-                        .execute();
+                        .values(nucleotideChange, classificationId);
             }
 
             for (String exon : classification.exons()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONEXON,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONEXON,
                         MOLECULARMATCHCLASSIFICATIONEXON.EXON,
-                        MOLECULARMATCHCLASSIFICATIONEXON.MOLECULARMATCHCLASSIFICATIONID).values(exon, classificationId).execute();
+                        MOLECULARMATCHCLASSIFICATIONEXON.MOLECULARMATCHCLASSIFICATIONID).values(exon, classificationId);
             }
 
             for (String exonicFunc : classification.exonicFuncs()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONEXONICFUNC,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONEXONICFUNC,
                                 MOLECULARMATCHCLASSIFICATIONEXONICFUNC.EXONICFUNC,
                                 MOLECULARMATCHCLASSIFICATIONEXONICFUNC.MOLECULARMATCHCLASSIFICATIONID)
-                        .values(exonicFunc, classificationId)
-                        .execute();
+                        .values(exonicFunc, classificationId);
             }
 
             for (String pathology : classification.pathology()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONPATHOLOGY,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONPATHOLOGY,
                         MOLECULARMATCHCLASSIFICATIONPATHOLOGY.PATHOLOGY,
-                        MOLECULARMATCHCLASSIFICATIONPATHOLOGY.MOLECULARMATCHCLASSIFICATIONID).values(pathology, classificationId).execute();
+                        MOLECULARMATCHCLASSIFICATIONPATHOLOGY.MOLECULARMATCHCLASSIFICATIONID).values(pathology, classificationId);
             }
 
             for (String source : classification.sources()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONSOURCE,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONSOURCE,
                         MOLECULARMATCHCLASSIFICATIONSOURCE.SOURCE,
-                        MOLECULARMATCHCLASSIFICATIONSOURCE.MOLECULARMATCHCLASSIFICATIONID).values(source, classificationId).execute();
+                        MOLECULARMATCHCLASSIFICATIONSOURCE.MOLECULARMATCHCLASSIFICATIONID).values(source, classificationId);
             }
 
             for (String dbSNP : classification.dbSNPs()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONDBSNP,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONDBSNP,
                         MOLECULARMATCHCLASSIFICATIONDBSNP.DBSNP,
-                        MOLECULARMATCHCLASSIFICATIONDBSNP.MOLECULARMATCHCLASSIFICATIONID).values(dbSNP, classificationId).execute();
+                        MOLECULARMATCHCLASSIFICATIONDBSNP.MOLECULARMATCHCLASSIFICATIONID).values(dbSNP, classificationId);
             }
 
             for (String cosmicId : classification.cosmicIds()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONCOSMICID,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONCOSMICID,
                         MOLECULARMATCHCLASSIFICATIONCOSMICID.COSMICID,
-                        MOLECULARMATCHCLASSIFICATIONCOSMICID.MOLECULARMATCHCLASSIFICATIONID).values(cosmicId, classificationId).execute();
+                        MOLECULARMATCHCLASSIFICATIONCOSMICID.MOLECULARMATCHCLASSIFICATIONID).values(cosmicId, classificationId);
             }
 
             for (String popFreqMax : classification.popFreqMaxes()) {
-                context.insertInto(MOLECULARMATCHCLASSIFICATIONPOPFREQMAX,
+                batcher.into(MOLECULARMATCHCLASSIFICATIONPOPFREQMAX,
                                 MOLECULARMATCHCLASSIFICATIONPOPFREQMAX.POPFREQMAX,
                                 MOLECULARMATCHCLASSIFICATIONPOPFREQMAX.MOLECULARMATCHCLASSIFICATIONID)
-                        .values(popFreqMax, classificationId)
-                        .execute();
+                        .values(popFreqMax, classificationId);
             }
 
             for (MolecularMatchParent parent : classification.parents()) {
-                int parentId = context.insertInto(MOLECULARMATCHCLASSIFICATIONPARENT,
+                int parentId = batcher.nextId(MOLECULARMATCHCLASSIFICATIONPARENT.ID);
+                batcher.into(MOLECULARMATCHCLASSIFICATIONPARENT,
+                                MOLECULARMATCHCLASSIFICATIONPARENT.ID,
                                 MOLECULARMATCHCLASSIFICATIONPARENT.NAME,
                                 MOLECULARMATCHCLASSIFICATIONPARENT.TYPE,
                                 MOLECULARMATCHCLASSIFICATIONPARENT.ACTIONABLEPARENT,
                                 MOLECULARMATCHCLASSIFICATIONPARENT.MOLECULARMATCHCLASSIFICATIONID)
-                        .values(parent.name(), parent.type(), parent.actionableParent(), classificationId)
-                        .returning(MOLECULARMATCHCLASSIFICATIONPARENT.ID)
-                        .fetchOne()
-                        .getValue(MOLECULARMATCHCLASSIFICATIONPARENT.ID);
+                        .values(parentId, parent.name(), parent.type(), parent.actionableParent(), classificationId);
 
                 for (String transcript : parent.transcripts()) {
-                    context.insertInto(MOLECULARMATCHCLASSIFICATIONPARENTTRANSCRIPT,
+                    batcher.into(MOLECULARMATCHCLASSIFICATIONPARENTTRANSCRIPT,
                                     MOLECULARMATCHCLASSIFICATIONPARENTTRANSCRIPT.TRANSCRIPT,
                                     MOLECULARMATCHCLASSIFICATIONPARENTTRANSCRIPT.MOLECULARMATCHCLASSIFICATIONPARENTID)
-                            .values(transcript, parentId)
-                            .execute();
+                            .values(transcript, parentId);
                 }
             }
         }
     }
 
-    private static void insertMutations(@NotNull DSLContext context, @NotNull List<MolecularMatchMutation> mutations,
+    private static void insertMutations(@NotNull InsertBatcher batcher, @NotNull List<MolecularMatchMutation> mutations,
             int molecularMatchId) {
         for (MolecularMatchMutation mutation : mutations) {
-            int mutationId = context.insertInto(MOLECULARMATCHMUTATION,
+            int mutationId = batcher.nextId(MOLECULARMATCHMUTATION.ID);
+            batcher.into(MOLECULARMATCHMUTATION,
+                            MOLECULARMATCHMUTATION.ID,
                             MOLECULARMATCHMUTATION.GENESYMBOL,
                             MOLECULARMATCHMUTATION.NAME,
                             MOLECULARMATCHMUTATION.TRANSCRIPTRECOGNIZED,
@@ -821,7 +799,8 @@ final class MolecularMatchDAOFunctions {
                             MOLECULARMATCHMUTATION.SRC,
                             MOLECULARMATCHMUTATION.IDMUTATION,
                             MOLECULARMATCHMUTATION.MOLECULARMATCHID)
-                    .values(mutation.geneSymbol(),
+                    .values(mutationId,
+                            mutation.geneSymbol(),
                             mutation.name(),
                             mutation.transcriptRecognized(),
                             mutation.transcript(),
@@ -830,43 +809,42 @@ final class MolecularMatchDAOFunctions {
                             mutation.description(),
                             mutation.src(),
                             mutation.id(),
-                            molecularMatchId)
-                    .returning(MOLECULARMATCHMUTATION.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHMUTATION.ID);
+                            molecularMatchId);
 
             for (String mutationType : mutation.mutationTypes()) {
-                context.insertInto(MOLECULARMATCHMUTATIONMUTATIONTYPE,
+                batcher.into(MOLECULARMATCHMUTATIONMUTATIONTYPE,
                         MOLECULARMATCHMUTATIONMUTATIONTYPE.MUTATIONTYPE,
-                        MOLECULARMATCHMUTATIONMUTATIONTYPE.MOLECULARMATCHMUTATIONID).values(mutationType, mutationId).execute();
+                        MOLECULARMATCHMUTATIONMUTATIONTYPE.MOLECULARMATCHMUTATIONID).values(mutationType, mutationId);
             }
 
             for (String source : mutation.sources()) {
-                context.insertInto(MOLECULARMATCHMUTATIONSOURCE,
+                batcher.into(MOLECULARMATCHMUTATIONSOURCE,
                         MOLECULARMATCHMUTATIONSOURCE.SOURCE,
-                        MOLECULARMATCHMUTATIONSOURCE.MOLECULARMATCHMUTATIONID).values(source, mutationId).execute();
+                        MOLECULARMATCHMUTATIONSOURCE.MOLECULARMATCHMUTATIONID).values(source, mutationId);
             }
 
             for (String synonym : mutation.synonyms()) {
-                context.insertInto(MOLECULARMATCHMUTATIONSYNONYM,
+                batcher.into(MOLECULARMATCHMUTATIONSYNONYM,
                         MOLECULARMATCHMUTATIONSYNONYM.SYNONYM,
-                        MOLECULARMATCHMUTATIONSYNONYM.MOLECULARMATCHMUTATIONID).values(synonym, mutationId).execute();
+                        MOLECULARMATCHMUTATIONSYNONYM.MOLECULARMATCHMUTATIONID).values(synonym, mutationId);
             }
 
             for (String pathology : mutation.pathology()) {
-                context.insertInto(MOLECULARMATCHMUTATIONPATHOLOGY,
+                batcher.into(MOLECULARMATCHMUTATIONPATHOLOGY,
                         MOLECULARMATCHMUTATIONPATHOLOGY.PATHOLOGY,
-                        MOLECULARMATCHMUTATIONPATHOLOGY.MOLECULARMATCHMUTATIONID).values(pathology, mutationId).execute();
+                        MOLECULARMATCHMUTATIONPATHOLOGY.MOLECULARMATCHMUTATIONID).values(pathology, mutationId);
             }
 
             for (String cDNA : mutation.cDNA()) {
-                context.insertInto(MOLECULARMATCHMUTATIONCDNA,
+                batcher.into(MOLECULARMATCHMUTATIONCDNA,
                         MOLECULARMATCHMUTATIONCDNA.CDNA,
-                        MOLECULARMATCHMUTATIONCDNA.MOLECULARMATCHMUTATIONID).values(cDNA, mutationId).execute();
+                        MOLECULARMATCHMUTATIONCDNA.MOLECULARMATCHMUTATIONID).values(cDNA, mutationId);
             }
 
             for (MolecularMatchTranscriptConsequence transcriptConsequence : mutation.transcriptConsequences()) {
-                int transcriptConsequenceId = context.insertInto(MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE,
+                int transcriptConsequenceId = batcher.nextId(MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.ID);
+                batcher.into(MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE,
+                                MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.ID,
                                 MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.CHR,
                                 MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.START,
                                 MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.STOP,
@@ -883,7 +861,8 @@ final class MolecularMatchDAOFunctions {
                                 MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.VALIDATED,
                                 MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.COMPOSITEKEY,
                                 MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.MOLECULARMATCHMUTATIONID)
-                        .values(transcriptConsequence.chr(),
+                        .values(transcriptConsequenceId,
+                                transcriptConsequence.chr(),
                                 transcriptConsequence.start(),
                                 transcriptConsequence.stop(),
                                 transcriptConsequence.ref(),
@@ -898,54 +877,51 @@ final class MolecularMatchDAOFunctions {
                                 transcriptConsequence.custom(),
                                 transcriptConsequence.validated(),
                                 transcriptConsequence.compositeKey(),
-                                mutationId)
-                        .returning(MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.ID)
-                        .fetchOne()
-                        .getValue(MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCE.ID);
+                                mutationId);
 
                 for (String exonNumber : transcriptConsequence.exonNumbers()) {
-                    context.insertInto(MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCEEXONNUMBER,
+                    batcher.into(MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCEEXONNUMBER,
                                     MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCEEXONNUMBER.EXONNUMBER,
                                     MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCEEXONNUMBER.MOLECULARMATCHMUTATIONTRANSCRIPTCONSEQUENCEID)
-                            .values(exonNumber, transcriptConsequenceId)
-                            .execute();
+                            .values(exonNumber, transcriptConsequenceId);
                 }
             }
 
             for (MolecularMatchParent parent : mutation.parents()) {
-                int idParent = context.insertInto(MOLECULARMATCHMUTATIONPARENT,
+                int idParent = batcher.nextId(MOLECULARMATCHMUTATIONPARENT.ID);
+                batcher.into(MOLECULARMATCHMUTATIONPARENT,
+                                MOLECULARMATCHMUTATIONPARENT.ID,
                                 MOLECULARMATCHMUTATIONPARENT.NAME,
                                 MOLECULARMATCHMUTATIONPARENT.TYPE,
                                 MOLECULARMATCHMUTATIONPARENT.ACTIONABLEPARENT,
                                 MOLECULARMATCHMUTATIONPARENT.MOLECULARMATCHMUTATIONID)
-                        .values(parent.name(), parent.type(), parent.actionableParent(), mutationId)
-                        .returning(MOLECULARMATCHMUTATIONPARENT.ID)
-                        .fetchOne()
-                        .getValue(MOLECULARMATCHMUTATIONPARENT.ID);
+                        .values(idParent, parent.name(), parent.type(), parent.actionableParent(), mutationId);
 
                 for (String transcript : parent.transcripts()) {
-                    context.insertInto(MOLECULARMATCHMUTATIONPARENTTRANSCRIPT,
+                    batcher.into(MOLECULARMATCHMUTATIONPARENTTRANSCRIPT,
                             MOLECULARMATCHMUTATIONPARENTTRANSCRIPT.TRANSCRIPT,
-                            MOLECULARMATCHMUTATIONPARENTTRANSCRIPT.MOLECULARMATCHMUTATIONPARENTID).values(transcript, idParent).execute();
+                            MOLECULARMATCHMUTATIONPARENTTRANSCRIPT.MOLECULARMATCHMUTATIONPARENTID).values(transcript, idParent);
                 }
             }
 
-            insertMutationWGSALocations(context, mutation.wgsaLocations(), mutationId);
-            insertMutationWGSAMaps(context, mutation.wgsaMaps(), mutationId);
-            insertMutationGRCh37Locations(context, mutation.grch37Locations(), mutationId);
-            insertMutationFusions(context, mutation.fusionData(), mutationId);
+            insertMutationWGSALocations(batcher, mutation.wgsaLocations(), mutationId);
+            insertMutationWGSAMaps(batcher, mutation.wgsaMaps(), mutationId);
+            insertMutationGRCh37Locations(batcher, mutation.grch37Locations(), mutationId);
+            insertMutationFusions(batcher, mutation.fusionData(), mutationId);
 
             MolecularMatchExonsInfo exonsInfo = mutation.exonsInfo();
             if (exonsInfo != null) {
-                insertMutationExonsInfo(context, exonsInfo, mutationId);
+                insertMutationExonsInfo(batcher, exonsInfo, mutationId);
             }
         }
     }
 
-    private static void insertMutationWGSALocations(@NotNull DSLContext context, @NotNull List<MolecularMatchWGSALocation> wgsaLocations,
+    private static void insertMutationWGSALocations(@NotNull InsertBatcher batcher, @NotNull List<MolecularMatchWGSALocation> wgsaLocations,
             int mutationId) {
         for (MolecularMatchWGSALocation wgsaLocation : wgsaLocations) {
-            int wgsaLocationId = context.insertInto(MOLECULARMATCHMUTATIONWGSALOCATION,
+            int wgsaLocationId = batcher.nextId(MOLECULARMATCHMUTATIONWGSALOCATION.ID);
+            batcher.into(MOLECULARMATCHMUTATIONWGSALOCATION,
+                            MOLECULARMATCHMUTATIONWGSALOCATION.ID,
                             MOLECULARMATCHMUTATIONWGSALOCATION.CHR,
                             MOLECULARMATCHMUTATIONWGSALOCATION.START,
                             MOLECULARMATCHMUTATIONWGSALOCATION.END,
@@ -988,7 +964,8 @@ final class MolecularMatchDAOFunctions {
                             MOLECULARMATCHMUTATIONWGSALOCATION.TARGETSCANS,
                             MOLECULARMATCHMUTATIONWGSALOCATION.KEYVALUE,
                             MOLECULARMATCHMUTATIONWGSALOCATION.MOLECULARMATCHMUTATIONID)
-                    .values(wgsaLocation.chr(),
+                    .values(wgsaLocationId,
+                            wgsaLocation.chr(),
                             wgsaLocation.start(),
                             wgsaLocation.end(),
                             wgsaLocation.ref(),
@@ -1029,62 +1006,57 @@ final class MolecularMatchDAOFunctions {
                             wgsaLocation.wgRna(),
                             wgsaLocation.targetScanS(),
                             wgsaLocation.key(),
-                            mutationId)
-                    .returning(MOLECULARMATCHMUTATIONWGSALOCATION.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHMUTATIONWGSALOCATION.ID);
+                            mutationId);
 
             for (String gene : wgsaLocation.genes()) {
-                context.insertInto(MOLECULARMATCHMUTATIONWGSALOCATIONGENE,
+                batcher.into(MOLECULARMATCHMUTATIONWGSALOCATIONGENE,
                         MOLECULARMATCHMUTATIONWGSALOCATIONGENE.GENE,
-                        MOLECULARMATCHMUTATIONWGSALOCATIONGENE.MOLECULARMATCHMUTATIONWGSALOCATIONID).values(gene, wgsaLocationId).execute();
+                        MOLECULARMATCHMUTATIONWGSALOCATIONGENE.MOLECULARMATCHMUTATIONWGSALOCATIONID).values(gene, wgsaLocationId);
             }
 
             for (String fullAA : wgsaLocation.fullAAs()) {
-                context.insertInto(MOLECULARMATCHMUTATIONWGSALOCATIONFULLAA,
+                batcher.into(MOLECULARMATCHMUTATIONWGSALOCATIONFULLAA,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONFULLAA.FULLAA,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONFULLAA.MOLECULARMATCHMUTATIONWGSALOCATIONID)
-                        .values(fullAA, wgsaLocationId)
-                        .execute();
+                        .values(fullAA, wgsaLocationId);
             }
 
             for (String clinVarDisease : wgsaLocation.clinVarDiseases()) {
-                context.insertInto(MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARDISEASE,
+                batcher.into(MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARDISEASE,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARDISEASE.CLINVARDISEASE,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARDISEASE.MOLECULARMATCHMUTATIONWGSALOCATIONID)
-                        .values(clinVarDisease, wgsaLocationId)
-                        .execute();
+                        .values(clinVarDisease, wgsaLocationId);
             }
 
             for (String clinVarSig : wgsaLocation.clinVarSigs()) {
-                context.insertInto(MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARSIG,
+                batcher.into(MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARSIG,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARSIG.CLINVARSIG,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARSIG.MOLECULARMATCHMUTATIONWGSALOCATIONID)
-                        .values(clinVarSig, wgsaLocationId)
-                        .execute();
+                        .values(clinVarSig, wgsaLocationId);
             }
 
             for (String clinVarStatus : wgsaLocation.clinVarStates()) {
-                context.insertInto(MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARSTATUS,
+                batcher.into(MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARSTATUS,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARSTATUS.CLINVARSTATUS,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARSTATUS.MOLECULARMATCHMUTATIONWGSALOCATIONID)
-                        .values(clinVarStatus, wgsaLocationId)
-                        .execute();
+                        .values(clinVarStatus, wgsaLocationId);
             }
 
             for (String clinVarDbId : wgsaLocation.clinVarDbIds()) {
-                context.insertInto(MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARDBID,
+                batcher.into(MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARDBID,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARDBID.CLINVARDBID,
                                 MOLECULARMATCHMUTATIONWGSALOCATIONCLINVARDBID.MOLECULARMATCHMUTATIONWGSALOCATIONID)
-                        .values(clinVarDbId, wgsaLocationId)
-                        .execute();
+                        .values(clinVarDbId, wgsaLocationId);
             }
         }
     }
 
-    private static void insertMutationWGSAMaps(@NotNull DSLContext context, @NotNull List<MolecularMatchWGSAMap> wgsaMaps, int mutationId) {
+    private static void insertMutationWGSAMaps(@NotNull InsertBatcher batcher, @NotNull List<MolecularMatchWGSAMap> wgsaMaps,
+            int mutationId) {
         for (MolecularMatchWGSAMap wgsaMap : wgsaMaps) {
-            int wgsaMapId = context.insertInto(MOLECULARMATCHMUTATIONWGSAMAP,
+            int wgsaMapId = batcher.nextId(MOLECULARMATCHMUTATIONWGSAMAP.ID);
+            batcher.into(MOLECULARMATCHMUTATIONWGSAMAP,
+                            MOLECULARMATCHMUTATIONWGSAMAP.ID,
                             MOLECULARMATCHMUTATIONWGSAMAP.NAME,
                             MOLECULARMATCHMUTATIONWGSAMAP.GENE,
                             MOLECULARMATCHMUTATIONWGSAMAP.TRANSCRIPT,
@@ -1093,36 +1065,36 @@ final class MolecularMatchDAOFunctions {
                             MOLECULARMATCHMUTATIONWGSAMAP.NUCLEOTIDECHANGE,
                             MOLECULARMATCHMUTATIONWGSAMAP.AA,
                             MOLECULARMATCHMUTATIONWGSAMAP.MOLECULARMATCHMUTATIONID)
-                    .values(wgsaMap.name(),
+                    .values(wgsaMapId,
+                            wgsaMap.name(),
                             wgsaMap.gene(),
                             wgsaMap.transcript(),
                             wgsaMap.exon(),
                             wgsaMap.grch37ChrStartRefAlt(),
                             wgsaMap.nucleotideChange(),
                             wgsaMap.aa(),
-                            mutationId)
-                    .returning(MOLECULARMATCHMUTATIONWGSAMAP.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHMUTATIONWGSAMAP.ID);
+                            mutationId);
 
             for (String synonym : wgsaMap.synonyms()) {
-                context.insertInto(MOLECULARMATCHMUTATIONWGSAMAPSYNONYM,
+                batcher.into(MOLECULARMATCHMUTATIONWGSAMAPSYNONYM,
                         MOLECULARMATCHMUTATIONWGSAMAPSYNONYM.SYNONYM,
-                        MOLECULARMATCHMUTATIONWGSAMAPSYNONYM.MOLECULARMATCHMUTATIONWGSAMAPID).values(synonym, wgsaMapId).execute();
+                        MOLECULARMATCHMUTATIONWGSAMAPSYNONYM.MOLECULARMATCHMUTATIONWGSAMAPID).values(synonym, wgsaMapId);
             }
 
             for (String protCoord : wgsaMap.protCoords()) {
-                context.insertInto(MOLECULARMATCHMUTATIONWGSAMAPPROTCOORD,
+                batcher.into(MOLECULARMATCHMUTATIONWGSAMAPPROTCOORD,
                         MOLECULARMATCHMUTATIONWGSAMAPPROTCOORD.PROTCOORD,
-                        MOLECULARMATCHMUTATIONWGSAMAPPROTCOORD.MOLECULARMATCHMUTATIONWGSAMAPID).values(protCoord, wgsaMapId).execute();
+                        MOLECULARMATCHMUTATIONWGSAMAPPROTCOORD.MOLECULARMATCHMUTATIONWGSAMAPID).values(protCoord, wgsaMapId);
             }
         }
     }
 
-    private static void insertMutationGRCh37Locations(@NotNull DSLContext context,
+    private static void insertMutationGRCh37Locations(@NotNull InsertBatcher batcher,
             @NotNull List<MolecularMatchGRCh37Location> grch37Locations, int mutationId) {
         for (MolecularMatchGRCh37Location grch37Location : grch37Locations) {
-            int locationId = context.insertInto(MOLECULARMATCHMUTATIONGRCH37LOC,
+            int locationId = batcher.nextId(MOLECULARMATCHMUTATIONGRCH37LOC.ID);
+            batcher.into(MOLECULARMATCHMUTATIONGRCH37LOC,
+                            MOLECULARMATCHMUTATIONGRCH37LOC.ID,
                             MOLECULARMATCHMUTATIONGRCH37LOC.CHR,
                             MOLECULARMATCHMUTATIONGRCH37LOC.START,
                             MOLECULARMATCHMUTATIONGRCH37LOC.STOP,
@@ -1132,7 +1104,8 @@ final class MolecularMatchDAOFunctions {
                             MOLECULARMATCHMUTATIONGRCH37LOC.VALIDATED,
                             MOLECULARMATCHMUTATIONGRCH37LOC.COMPOSITEKEY,
                             MOLECULARMATCHMUTATIONGRCH37LOC.MOLECULARMATCHMUTATIONID)
-                    .values(grch37Location.chr(),
+                    .values(locationId,
+                            grch37Location.chr(),
                             grch37Location.start(),
                             grch37Location.stop(),
                             grch37Location.ref(),
@@ -1140,159 +1113,154 @@ final class MolecularMatchDAOFunctions {
                             grch37Location.strand(),
                             grch37Location.validated(),
                             grch37Location.compositeKey(),
-                            mutationId)
-                    .returning(MOLECULARMATCHMUTATIONGRCH37LOC.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHMUTATIONGRCH37LOC.ID);
+                            mutationId);
 
             for (MolecularMatchGRCh37TranscriptConsequence transcriptConsequence : grch37Location.transcriptConsequences()) {
-                int consequenceId = context.insertInto(MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE,
+                int consequenceId = batcher.nextId(MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE.ID);
+                batcher.into(MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE,
+                                MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE.ID,
                                 MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE.TRANSCRIPT,
                                 MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE.CDNA,
                                 MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE.AMINOACIDCHANGE,
                                 MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE.INTRONNUMBER,
                                 MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE.MOLECULARMATCHMUTATIONGRCH37LOCID)
-                        .values(transcriptConsequence.transcript(),
+                        .values(consequenceId,
+                                transcriptConsequence.transcript(),
                                 transcriptConsequence.cdna(),
                                 transcriptConsequence.aminoAcidChange(),
                                 transcriptConsequence.intronNumber(),
-                                locationId)
-                        .returning(MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE.ID)
-                        .fetchOne()
-                        .getValue(MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCE.ID);
+                                locationId);
 
                 for (String txSite : transcriptConsequence.txSites()) {
-                    context.insertInto(MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCETXSITE,
+                    batcher.into(MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCETXSITE,
                                     MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCETXSITE.TXSITE,
                                     MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCETXSITE.MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCEID)
-                            .values(txSite, consequenceId)
-                            .execute();
+                            .values(txSite, consequenceId);
                 }
 
                 for (String exonNumber : transcriptConsequence.exonNumbers()) {
-                    context.insertInto(MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCEEXONNUMBER,
+                    batcher.into(MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCEEXONNUMBER,
                                     MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCEEXONNUMBER.EXONNUMBER,
                                     MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCEEXONNUMBER.MOLECULARMATCHMUTATIONGRCH37LOCCONSEQUENCEID)
-                            .values(exonNumber, consequenceId)
-                            .execute();
+                            .values(exonNumber, consequenceId);
                 }
             }
         }
     }
 
-    private static void insertMutationFusions(@NotNull DSLContext context, @NotNull List<MolecularMatchFusionData> fusions,
+    private static void insertMutationFusions(@NotNull InsertBatcher batcher, @NotNull List<MolecularMatchFusionData> fusions,
             int mutationId) {
         for (MolecularMatchFusionData fusion : fusions) {
-            int fusionId = context.insertInto(MOLECULARMATCHMUTATIONFUSION,
+            int fusionId = batcher.nextId(MOLECULARMATCHMUTATIONFUSION.ID);
+            batcher.into(MOLECULARMATCHMUTATIONFUSION,
+                            MOLECULARMATCHMUTATIONFUSION.ID,
                             MOLECULARMATCHMUTATIONFUSION.SOURCE,
                             MOLECULARMATCHMUTATIONFUSION.SYNONYM,
                             MOLECULARMATCHMUTATIONFUSION.PAPER,
                             MOLECULARMATCHMUTATIONFUSION.MOLECULARMATCHMUTATIONID)
-                    .values(fusion.source(), fusion.synonym(), fusion.paper(), mutationId)
-                    .returning(MOLECULARMATCHMUTATIONFUSION.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHMUTATIONFUSION.ID);
+                    .values(fusionId, fusion.source(), fusion.synonym(), fusion.paper(), mutationId);
 
             for (String chromosome : fusion.aChromosomes()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONACHROMOSOME,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONACHROMOSOME,
                         MOLECULARMATCHMUTATIONFUSIONACHROMOSOME.CHROMOSOME,
-                        MOLECULARMATCHMUTATIONFUSIONACHROMOSOME.MOLECULARMATCHMUTATIONFUSIONID).values(chromosome, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONACHROMOSOME.MOLECULARMATCHMUTATIONFUSIONID).values(chromosome, fusionId);
             }
 
             for (String band : fusion.aBands()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONABAND,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONABAND,
                         MOLECULARMATCHMUTATIONFUSIONABAND.BAND,
-                        MOLECULARMATCHMUTATIONFUSIONABAND.MOLECULARMATCHMUTATIONFUSIONID).values(band, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONABAND.MOLECULARMATCHMUTATIONFUSIONID).values(band, fusionId);
             }
 
             for (String gene : fusion.aGenes()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONAGENE,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONAGENE,
                         MOLECULARMATCHMUTATIONFUSIONAGENE.GENE,
-                        MOLECULARMATCHMUTATIONFUSIONAGENE.MOLECULARMATCHMUTATIONFUSIONID).values(gene, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONAGENE.MOLECULARMATCHMUTATIONFUSIONID).values(gene, fusionId);
             }
 
             for (String coord : fusion.aCoords()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONACOORD,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONACOORD,
                         MOLECULARMATCHMUTATIONFUSIONACOORD.COORD,
-                        MOLECULARMATCHMUTATIONFUSIONACOORD.MOLECULARMATCHMUTATIONFUSIONID).values(coord, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONACOORD.MOLECULARMATCHMUTATIONFUSIONID).values(coord, fusionId);
             }
 
             for (String transcript : fusion.aTranscripts()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONATRANSCRIPT,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONATRANSCRIPT,
                         MOLECULARMATCHMUTATIONFUSIONATRANSCRIPT.TRANSCRIPT,
-                        MOLECULARMATCHMUTATIONFUSIONATRANSCRIPT.MOLECULARMATCHMUTATIONFUSIONID).values(transcript, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONATRANSCRIPT.MOLECULARMATCHMUTATIONFUSIONID).values(transcript, fusionId);
             }
 
             for (String orientation : fusion.aOrientations()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONAORIENTATION,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONAORIENTATION,
                         MOLECULARMATCHMUTATIONFUSIONAORIENTATION.ORIENTATION,
-                        MOLECULARMATCHMUTATIONFUSIONAORIENTATION.MOLECULARMATCHMUTATIONFUSIONID).values(orientation, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONAORIENTATION.MOLECULARMATCHMUTATIONFUSIONID).values(orientation, fusionId);
             }
 
             for (MolecularMatchFusionGenomicRegion genomicRegion : fusion.aGenomicRegions()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONAGENOMICREGION,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONAGENOMICREGION,
                                 MOLECULARMATCHMUTATIONFUSIONAGENOMICREGION.NUM,
                                 MOLECULARMATCHMUTATIONFUSIONAGENOMICREGION.TYPE,
                                 MOLECULARMATCHMUTATIONFUSIONAGENOMICREGION.MOLECULARMATCHMUTATIONFUSIONID)
-                        .values(genomicRegion.num(), genomicRegion.type(), fusionId)
-                        .execute();
+                        .values(genomicRegion.num(), genomicRegion.type(), fusionId);
             }
 
             for (String chromosome : fusion.bChromosomes()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONBCHROMOSOME,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONBCHROMOSOME,
                         MOLECULARMATCHMUTATIONFUSIONBCHROMOSOME.CHROMOSOME,
-                        MOLECULARMATCHMUTATIONFUSIONBCHROMOSOME.MOLECULARMATCHMUTATIONFUSIONID).values(chromosome, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONBCHROMOSOME.MOLECULARMATCHMUTATIONFUSIONID).values(chromosome, fusionId);
             }
 
             for (String band : fusion.bBands()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONBBAND,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONBBAND,
                         MOLECULARMATCHMUTATIONFUSIONBBAND.BAND,
-                        MOLECULARMATCHMUTATIONFUSIONBBAND.MOLECULARMATCHMUTATIONFUSIONID).values(band, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONBBAND.MOLECULARMATCHMUTATIONFUSIONID).values(band, fusionId);
             }
 
             for (String gene : fusion.bGenes()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONBGENE,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONBGENE,
                         MOLECULARMATCHMUTATIONFUSIONBGENE.GENE,
-                        MOLECULARMATCHMUTATIONFUSIONBGENE.MOLECULARMATCHMUTATIONFUSIONID).values(gene, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONBGENE.MOLECULARMATCHMUTATIONFUSIONID).values(gene, fusionId);
             }
 
             for (String coord : fusion.bCoords()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONBCOORD,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONBCOORD,
                         MOLECULARMATCHMUTATIONFUSIONBCOORD.COORD,
-                        MOLECULARMATCHMUTATIONFUSIONBCOORD.MOLECULARMATCHMUTATIONFUSIONID).values(coord, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONBCOORD.MOLECULARMATCHMUTATIONFUSIONID).values(coord, fusionId);
             }
 
             for (String transcript : fusion.bTranscripts()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONBTRANSCRIPT,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONBTRANSCRIPT,
                         MOLECULARMATCHMUTATIONFUSIONBTRANSCRIPT.TRANSCRIPT,
-                        MOLECULARMATCHMUTATIONFUSIONBTRANSCRIPT.MOLECULARMATCHMUTATIONFUSIONID).values(transcript, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONBTRANSCRIPT.MOLECULARMATCHMUTATIONFUSIONID).values(transcript, fusionId);
             }
 
             for (String orientation : fusion.bOrientations()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONBORIENTATION,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONBORIENTATION,
                         MOLECULARMATCHMUTATIONFUSIONBORIENTATION.ORIENTATION,
-                        MOLECULARMATCHMUTATIONFUSIONBORIENTATION.MOLECULARMATCHMUTATIONFUSIONID).values(orientation, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONBORIENTATION.MOLECULARMATCHMUTATIONFUSIONID).values(orientation, fusionId);
             }
 
             for (MolecularMatchFusionGenomicRegion genomicRegion : fusion.bGenomicRegions()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONBGENOMICREGION,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONBGENOMICREGION,
                                 MOLECULARMATCHMUTATIONFUSIONBGENOMICREGION.NUM,
                                 MOLECULARMATCHMUTATIONFUSIONBGENOMICREGION.TYPE,
                                 MOLECULARMATCHMUTATIONFUSIONBGENOMICREGION.MOLECULARMATCHMUTATIONFUSIONID)
-                        .values(genomicRegion.num(), genomicRegion.type(), fusionId)
-                        .execute();
+                        .values(genomicRegion.num(), genomicRegion.type(), fusionId);
             }
 
             for (String insert : fusion.inserts()) {
-                context.insertInto(MOLECULARMATCHMUTATIONFUSIONINSERT,
+                batcher.into(MOLECULARMATCHMUTATIONFUSIONINSERT,
                         MOLECULARMATCHMUTATIONFUSIONINSERT.INS,
-                        MOLECULARMATCHMUTATIONFUSIONINSERT.MOLECULARMATCHMUTATIONFUSIONID).values(insert, fusionId).execute();
+                        MOLECULARMATCHMUTATIONFUSIONINSERT.MOLECULARMATCHMUTATIONFUSIONID).values(insert, fusionId);
             }
         }
     }
 
-    private static void insertMutationExonsInfo(@NotNull DSLContext context, @NotNull MolecularMatchExonsInfo exonsInfo, int mutationId) {
-        int exonInfoId = context.insertInto(MOLECULARMATCHMUTATIONEXONSINFO,
+    private static void insertMutationExonsInfo(@NotNull InsertBatcher batcher, @NotNull MolecularMatchExonsInfo exonsInfo,
+            int mutationId) {
+        int exonInfoId = batcher.nextId(MOLECULARMATCHMUTATIONEXONSINFO.ID);
+        batcher.into(MOLECULARMATCHMUTATIONEXONSINFO,
+                        MOLECULARMATCHMUTATIONEXONSINFO.ID,
                         MOLECULARMATCHMUTATIONEXONSINFO.CHR,
                         MOLECULARMATCHMUTATIONEXONSINFO.TRANSCRIPT,
                         MOLECULARMATCHMUTATIONEXONSINFO.TXSTART,
@@ -1300,425 +1268,382 @@ final class MolecularMatchDAOFunctions {
                         MOLECULARMATCHMUTATIONEXONSINFO.CDSSTART,
                         MOLECULARMATCHMUTATIONEXONSINFO.CDSEND,
                         MOLECULARMATCHMUTATIONEXONSINFO.MOLECULARMATCHMUTATIONID)
-                .values(exonsInfo.chr(),
+                .values(exonInfoId,
+                        exonsInfo.chr(),
                         exonsInfo.transcript(),
                         exonsInfo.txStart(),
                         exonsInfo.txEnd(),
                         exonsInfo.cdsStart(),
                         exonsInfo.cdsEnd(),
-                        mutationId)
-                .returning(MOLECULARMATCHMUTATIONEXONSINFO.ID)
-                .fetchOne()
-                .getValue(MOLECULARMATCHMUTATIONEXONSINFO.ID);
+                        mutationId);
 
         MolecularMatchPosition exon1Position = exonsInfo.exonBoundaries().exon1();
         if (exon1Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON1,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON1,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON1.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON1.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON1.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon1Position.start(), exon1Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon1Position.start(), exon1Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon2Position = exonsInfo.exonBoundaries().exon2();
         if (exon2Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON2,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON2,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON2.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON2.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON2.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon2Position.start(), exon2Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon2Position.start(), exon2Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon3Position = exonsInfo.exonBoundaries().exon3();
         if (exon3Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON3,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON3,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON3.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON3.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON3.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon3Position.start(), exon3Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon3Position.start(), exon3Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon4Position = exonsInfo.exonBoundaries().exon4();
         if (exon4Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON4,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON4,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON4.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON4.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON4.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon4Position.start(), exon4Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon4Position.start(), exon4Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon5Position = exonsInfo.exonBoundaries().exon5();
         if (exon5Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON5,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON5,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON5.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON5.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON5.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon5Position.start(), exon5Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon5Position.start(), exon5Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon6Position = exonsInfo.exonBoundaries().exon6();
         if (exon6Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON6,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON6,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON6.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON6.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON6.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon6Position.start(), exon6Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon6Position.start(), exon6Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon7Position = exonsInfo.exonBoundaries().exon7();
         if (exon7Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON7,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON7,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON7.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON7.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON7.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon7Position.start(), exon7Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon7Position.start(), exon7Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon8Position = exonsInfo.exonBoundaries().exon8();
         if (exon8Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON8,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON8,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON8.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON8.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON8.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon8Position.start(), exon8Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon8Position.start(), exon8Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon9Position = exonsInfo.exonBoundaries().exon9();
         if (exon9Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON9,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON9,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON9.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON9.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON9.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon9Position.start(), exon9Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon9Position.start(), exon9Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon10Position = exonsInfo.exonBoundaries().exon10();
         if (exon10Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON10,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON10,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON10.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON10.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON10.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon10Position.start(), exon10Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon10Position.start(), exon10Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon11Position = exonsInfo.exonBoundaries().exon11();
         if (exon11Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON11,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON11,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON11.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON11.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON11.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon11Position.start(), exon11Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon11Position.start(), exon11Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon12Position = exonsInfo.exonBoundaries().exon12();
         if (exon12Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON12,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON12,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON12.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON12.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON12.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon12Position.start(), exon12Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon12Position.start(), exon12Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon13Position = exonsInfo.exonBoundaries().exon13();
         if (exon13Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON13,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON13,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON13.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON13.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON13.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon13Position.start(), exon13Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon13Position.start(), exon13Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon14Position = exonsInfo.exonBoundaries().exon14();
         if (exon14Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON14,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON14,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON14.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON14.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON14.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon14Position.start(), exon14Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon14Position.start(), exon14Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon15Position = exonsInfo.exonBoundaries().exon15();
         if (exon15Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON15,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON15,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON15.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON15.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON15.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon15Position.start(), exon15Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon15Position.start(), exon15Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon16Position = exonsInfo.exonBoundaries().exon16();
         if (exon16Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON16,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON16,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON16.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON16.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON16.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon16Position.start(), exon16Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon16Position.start(), exon16Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon17Position = exonsInfo.exonBoundaries().exon17();
         if (exon17Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON17,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON17,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON17.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON17.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON17.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon17Position.start(), exon17Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon17Position.start(), exon17Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon18Position = exonsInfo.exonBoundaries().exon18();
         if (exon18Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON18,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON18,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON18.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON18.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON18.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon18Position.start(), exon18Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon18Position.start(), exon18Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon19Position = exonsInfo.exonBoundaries().exon19();
         if (exon19Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON19,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON19,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON19.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON19.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON19.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon19Position.start(), exon19Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon19Position.start(), exon19Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon20Position = exonsInfo.exonBoundaries().exon20();
         if (exon20Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON20,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON20,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON20.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON20.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON20.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon20Position.start(), exon20Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon20Position.start(), exon20Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon21Position = exonsInfo.exonBoundaries().exon21();
         if (exon21Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON21,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON21,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON21.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON21.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON21.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon21Position.start(), exon21Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon21Position.start(), exon21Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon22Position = exonsInfo.exonBoundaries().exon22();
         if (exon22Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON22,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON22,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON22.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON22.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON22.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon22Position.start(), exon22Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon22Position.start(), exon22Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon23Position = exonsInfo.exonBoundaries().exon23();
         if (exon23Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON23,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON23,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON23.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON23.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON23.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon23Position.start(), exon23Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon23Position.start(), exon23Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon24Position = exonsInfo.exonBoundaries().exon24();
         if (exon24Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON24,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON24,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON24.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON24.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON24.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon24Position.start(), exon24Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon24Position.start(), exon24Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon25Position = exonsInfo.exonBoundaries().exon25();
         if (exon25Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON25,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON25,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON25.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON25.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON25.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon25Position.start(), exon25Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon25Position.start(), exon25Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon26Position = exonsInfo.exonBoundaries().exon26();
         if (exon26Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON26,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON26,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON26.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON26.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON26.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon26Position.start(), exon26Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon26Position.start(), exon26Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon27Position = exonsInfo.exonBoundaries().exon27();
         if (exon27Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON27,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON27,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON27.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON27.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON27.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon27Position.start(), exon27Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon27Position.start(), exon27Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon28Position = exonsInfo.exonBoundaries().exon28();
         if (exon28Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON28,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON28,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON28.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON28.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON28.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon28Position.start(), exon28Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon28Position.start(), exon28Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon29Position = exonsInfo.exonBoundaries().exon29();
         if (exon29Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON29,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON29,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON29.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON29.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON29.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon29Position.start(), exon29Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon29Position.start(), exon29Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon30Position = exonsInfo.exonBoundaries().exon30();
         if (exon30Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON30,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON30,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON30.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON30.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON30.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon30Position.start(), exon30Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon30Position.start(), exon30Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon31Position = exonsInfo.exonBoundaries().exon31();
         if (exon31Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON31,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON31,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON31.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON31.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON31.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon31Position.start(), exon31Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon31Position.start(), exon31Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon32Position = exonsInfo.exonBoundaries().exon32();
         if (exon32Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON32,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON32,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON32.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON32.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON32.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon32Position.start(), exon32Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon32Position.start(), exon32Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon33Position = exonsInfo.exonBoundaries().exon33();
         if (exon33Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON33,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON33,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON33.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON33.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON33.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon33Position.start(), exon33Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon33Position.start(), exon33Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon34Position = exonsInfo.exonBoundaries().exon34();
         if (exon34Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON34,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON34,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON34.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON34.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON34.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon34Position.start(), exon34Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon34Position.start(), exon34Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon35Position = exonsInfo.exonBoundaries().exon35();
         if (exon35Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON35,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON35,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON35.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON35.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON35.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon35Position.start(), exon35Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon35Position.start(), exon35Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon36Position = exonsInfo.exonBoundaries().exon36();
         if (exon36Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON36,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON36,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON36.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON36.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON36.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon36Position.start(), exon36Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon36Position.start(), exon36Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon37Position = exonsInfo.exonBoundaries().exon37();
         if (exon37Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON37,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON37,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON37.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON37.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON37.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon37Position.start(), exon37Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon37Position.start(), exon37Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon38Position = exonsInfo.exonBoundaries().exon38();
         if (exon38Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON38,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON38,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON38.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON38.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON38.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon38Position.start(), exon38Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon38Position.start(), exon38Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon39Position = exonsInfo.exonBoundaries().exon39();
         if (exon39Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON39,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON39,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON39.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON39.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON39.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon39Position.start(), exon39Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon39Position.start(), exon39Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon40Position = exonsInfo.exonBoundaries().exon40();
         if (exon40Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON40,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON40,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON40.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON40.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON40.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon40Position.start(), exon40Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon40Position.start(), exon40Position.stop(), exonInfoId);
         }
 
         MolecularMatchPosition exon41Position = exonsInfo.exonBoundaries().exon41();
         if (exon41Position != null) {
-            context.insertInto(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON41,
+            batcher.into(MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON41,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON41.START,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON41.END,
                             MOLECULARMATCHMUTATIONEXONSINFOBOUNDARYEXON41.MOLECULARMATCHMUTATIONEXONSINFOID)
-                    .values(exon41Position.start(), exon41Position.stop(), exonInfoId)
-                    .execute();
+                    .values(exon41Position.start(), exon41Position.stop(), exonInfoId);
         }
     }
 
@@ -13,6 +13,7 @@ import static com.hartwig.serve.vicc.database.Tables.MOLECULARMATCHTRIALSOVERALL
 import static com.hartwig.serve.vicc.database.Tables.MOLECULARMATCHTRIALSSUBLOCATION;
 import static com.hartwig.serve.vicc.database.Tables.MOLECULARMATCHTRIALSTAG;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.molecularmatchtrials.MolecularMatchTrials;
 import com.hartwig.serve.vicc.datamodel.molecularmatchtrials.MolecularMatchTrialsContact;
 import com.hartwig.serve.vicc.datamodel.molecularmatchtrials.MolecularMatchTrialsGeo;
@@ -30,8 +31,10 @@ final class MolecularMatchTrialsDAOFunctions {
     private MolecularMatchTrialsDAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull MolecularMatchTrials molecularMatchTrials) {
-        int id = context.insertInto(MOLECULARMATCHTRIALS,
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull MolecularMatchTrials molecularMatchTrials) {
+        int id = batcher.nextId(MOLECULARMATCHTRIALS.ID);
+        batcher.into(MOLECULARMATCHTRIALS,
+                        MOLECULARMATCHTRIALS.ID,
                         MOLECULARMATCHTRIALS.STATUS,
                         MOLECULARMATCHTRIALS.STARTDATE,
                         MOLECULARMATCHTRIALS.TITLE,
@@ -42,7 +45,8 @@ final class MolecularMatchTrialsDAOFunctions {
                         MOLECULARMATCHTRIALS.PHASE,
                         MOLECULARMATCHTRIALS.IDMOLECULARMATCHTRIALS,
                         MOLECULARMATCHTRIALS.VICCENTRYID)
-                .values(molecularMatchTrials.status(),
+                .values(id,
+                        molecularMatchTrials.status(),
                         molecularMatchTrials.startDate(),
                         molecularMatchTrials.title(),
                         molecularMatchTrials.briefTitle(),
@@ -51,45 +55,46 @@ final class MolecularMatchTrialsDAOFunctions {
                         molecularMatchTrials.link(),
                         molecularMatchTrials.phase(),
                         molecularMatchTrials.id(),
-                        viccEntryId)
-                .returning(MOLECULARMATCHTRIALS.ID)
-                .fetchOne()
-                .getValue(MOLECULARMATCHTRIALS.ID);
+                        viccEntryId);
 
         for (String molecularAlteration : molecularMatchTrials.molecularAlterations()) {
-            context.insertInto(MOLECULARMATCHTRIALSALTERATION,
+            batcher.into(MOLECULARMATCHTRIALSALTERATION,
                     MOLECULARMATCHTRIALSALTERATION.MOLECULARALTERATION,
-                    MOLECULARMATCHTRIALSALTERATION.MOLECULARMATCHTRIALSID).values(molecularAlteration, id).execute();
+                    MOLECULARMATCHTRIALSALTERATION.MOLECULARMATCHTRIALSID).values(molecularAlteration, id);
         }
 
         for (MolecularMatchTrialsIntervention intervention : molecularMatchTrials.interventions()) {
-            int idIntervention = context.insertInto(MOLECULARMATCHTRIALSINTERVENTION,
+            int idIntervention = batcher.nextId(MOLECULARMATCHTRIALSINTERVENTION.ID);
+            batcher.into(MOLECULARMATCHTRIALSINTERVENTION,
+                            MOLECULARMATCHTRIALSINTERVENTION.ID,
                             MOLECULARMATCHTRIALSINTERVENTION.INTERVENTIONNAME,
                             MOLECULARMATCHTRIALSINTERVENTION.INTERVENTIONTYPE,
                             MOLECULARMATCHTRIALSINTERVENTION.DESCRIPTION,
                             MOLECULARMATCHTRIALSINTERVENTION.MOLECULARMATCHTRIALSID)
-                    .values(intervention.interventionName(), intervention.interventionType(), intervention.description(), id)
-                    .returning(MOLECULARMATCHTRIALSINTERVENTION.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHTRIALSINTERVENTION.ID);
+                    .values(idIntervention,
+                            intervention.interventionName(),
+                            intervention.interventionType(),
+                            intervention.description(),
+                            id);
 
             for (String otherName : intervention.otherNames()) {
-                context.insertInto(MOLECULARMATCHTRIALSOTHERNAME,
+                batcher.into(MOLECULARMATCHTRIALSOTHERNAME,
                         MOLECULARMATCHTRIALSOTHERNAME.OTHERNAME,
-                        MOLECULARMATCHTRIALSOTHERNAME.MOLECULARMATCHTRIALSINTERVENTIONID).values(otherName, idIntervention).execute();
+                        MOLECULARMATCHTRIALSOTHERNAME.MOLECULARMATCHTRIALSINTERVENTIONID).values(otherName, idIntervention);
             }
 
             for (String armGroupLabel : intervention.armGroupLabels()) {
-                context.insertInto(MOLECULARMATCHTRIALSARMGROUPLABEL,
+                batcher.into(MOLECULARMATCHTRIALSARMGROUPLABEL,
                                 MOLECULARMATCHTRIALSARMGROUPLABEL.ARMGROUPLABEL,
                                 MOLECULARMATCHTRIALSARMGROUPLABEL.MOLECULARMATCHTRIALSINTERVENTIONID)
-                        .values(armGroupLabel, idIntervention)
-                        .execute();
+                        .values(armGroupLabel, idIntervention);
             }
         }
 
         for (MolecularMatchTrialsLocation location : molecularMatchTrials.locations()) {
-            int idLocation = context.insertInto(MOLECULARMATCHTRIALSLOCATION,
+            int idLocation = batcher.nextId(MOLECULARMATCHTRIALSLOCATION.ID);
+            batcher.into(MOLECULARMATCHTRIALSLOCATION,
+                            MOLECULARMATCHTRIALSLOCATION.ID,
                             MOLECULARMATCHTRIALSLOCATION.STATUS,
                             MOLECULARMATCHTRIALSLOCATION.NAME,
                             MOLECULARMATCHTRIALSLOCATION.LASTNAME,
@@ -114,7 +119,8 @@ final class MolecularMatchTrialsDAOFunctions {
                             MOLECULARMATCHTRIALSLOCATION.LASTUPDATED,
                             MOLECULARMATCHTRIALSLOCATION.FAILEDGEOCODE,
                             MOLECULARMATCHTRIALSLOCATION.MOLECULARMATCHTRIALSID)
-                    .values(location.status(),
+                    .values(idLocation,
+                            location.status(),
                             location.name(),
                             location.lastName(),
                             location.email(),
@@ -137,51 +143,46 @@ final class MolecularMatchTrialsDAOFunctions {
                             location.created(),
                             location.lastUpdated(),
                             location.failedGeocode(),
-                            id)
-                    .returning(MOLECULARMATCHTRIALSLOCATION.ID)
-                    .fetchOne()
-                    .getValue(MOLECULARMATCHTRIALSLOCATION.ID);
+                            id);
 
             MolecularMatchTrialsContact contact = location.contact();
             if (contact != null) {
-                context.insertInto(MOLECULARMATCHTRIALSCONTACT,
+                batcher.into(MOLECULARMATCHTRIALSCONTACT,
                                 MOLECULARMATCHTRIALSCONTACT.NAME,
                                 MOLECULARMATCHTRIALSCONTACT.EMAIL,
                                 MOLECULARMATCHTRIALSCONTACT.PHONE,
                                 MOLECULARMATCHTRIALSCONTACT.MOLECULARMATCHTRIALSLOCATIONID)
-                        .values(contact.name(), contact.email(), contact.phone(), idLocation)
-                        .execute();
+                        .values(contact.name(), contact.email(), contact.phone(), idLocation);
             }
 
             MolecularMatchTrialsSubLocation subLocation = location.subLocation();
             if (subLocation != null) {
-                int idSubLocation = context.insertInto(MOLECULARMATCHTRIALSSUBLOCATION,
+                int idSubLocation = batcher.nextId(MOLECULARMATCHTRIALSSUBLOCATION.ID);
+                batcher.into(MOLECULARMATCHTRIALSSUBLOCATION,
+                                MOLECULARMATCHTRIALSSUBLOCATION.ID,
                                 MOLECULARMATCHTRIALSSUBLOCATION.TYPE,
                                 MOLECULARMATCHTRIALSSUBLOCATION.MOLECULARMATCHTRIALSLOCATIONID)
-                        .values(subLocation.type(), idLocation)
-                        .returning(MOLECULARMATCHTRIALSSUBLOCATION.ID)
-                        .fetchOne()
-                        .getValue(MOLECULARMATCHTRIALSSUBLOCATION.ID);
+                        .values(idSubLocation, subLocation.type(), idLocation);
 
                 for (String coordinate : subLocation.coordinates()) {
-                    context.insertInto(MOLECULARMATCHTRIALSCOORDINATES,
+                    batcher.into(MOLECULARMATCHTRIALSCOORDINATES,
                             MOLECULARMATCHTRIALSCOORDINATES.COORDINATES,
-                            MOLECULARMATCHTRIALSCOORDINATES.MOLECULARMATCHTRIALSSUBLOCATIONID).values(coordinate, idSubLocation).execute();
+                            MOLECULARMATCHTRIALSCOORDINATES.MOLECULARMATCHTRIALSSUBLOCATIONID).values(coordinate, idSubLocation);
                 }
             }
 
             MolecularMatchTrialsGeo geo = location.geo();
             if (geo != null) {
-                context.insertInto(MOLECULARMATCHTRIALSGEO,
+                batcher.into(MOLECULARMATCHTRIALSGEO,
                         MOLECULARMATCHTRIALSGEO.LAT,
                         MOLECULARMATCHTRIALSGEO.LON,
-                        MOLECULARMATCHTRIALSGEO.MOLECULARMATCHTRIALSLOCATIONID).values(geo.lat(), geo.lon(), idLocation).execute();
+                        MOLECULARMATCHTRIALSGEO.MOLECULARMATCHTRIALSLOCATIONID).values(geo.lat(), geo.lon(), idLocation);
             }
         }
 
         MolecularMatchTrialsOverallContact overallContact = molecularMatchTrials.overallContact();
         if (overallContact != null) {
-            context.insertInto(MOLECULARMATCHTRIALSOVERALLCONTACT,
+            batcher.into(MOLECULARMATCHTRIALSOVERALLCONTACT,
                             MOLECULARMATCHTRIALSOVERALLCONTACT.NAME,
                             MOLECULARMATCHTRIALSOVERALLCONTACT.TYPE,
                             MOLECULARMATCHTRIALSOVERALLCONTACT.AFFILIATION,
@@ -207,12 +208,11 @@ final class MolecularMatchTrialsDAOFunctions {
                             overallContact.city(),
                             overallContact.country(),
                             overallContact.url(),
-                            id)
-                    .execute();
+                            id);
         }
 
         for (MolecularMatchTrialsTag tag : molecularMatchTrials.tags()) {
-            context.insertInto(MOLECULARMATCHTRIALSTAG,
+            batcher.into(MOLECULARMATCHTRIALSTAG,
                             MOLECULARMATCHTRIALSTAG.FACET,
                             MOLECULARMATCHTRIALSTAG.COMPOSITEKEY,
                             MOLECULARMATCHTRIALSTAG.SUPPRESS,
@@ -240,8 +240,7 @@ final class MolecularMatchTrialsDAOFunctions {
                             tag.generatedByTerm(),
                             tag.id(),
                             tag.manualPriority(),
-                            id)
-                    .execute();
+                            id);
         }
     }
 
@@ -13,6 +13,7 @@ import static com.hartwig.serve.vicc.database.Tables.ONCOKBGENECLINICAL;
 import static com.hartwig.serve.vicc.database.Tables.ONCOKBVARIANTBIOLOGICAL;
 import static com.hartwig.serve.vicc.database.Tables.ONCOKBVARIANTCLINICAL;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.oncokb.OncoKb;
 import com.hartwig.serve.vicc.datamodel.oncokb.OncoKbBiological;
 import com.hartwig.serve.vicc.datamodel.oncokb.OncoKbClinical;
@@ -29,12 +30,15 @@ final class OncokbDAOFunctions {
     private OncokbDAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull OncoKb oncoKb) {
-        int id = context.insertInto(ONCOKB, ONCOKB.VICCENTRYID).values(viccEntryId).returning(ONCOKB.ID).fetchOne().getValue(ONCOKB.ID);
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull OncoKb oncoKb) {
+        int id = batcher.nextId(ONCOKB.ID);
+        batcher.into(ONCOKB, ONCOKB.ID, ONCOKB.VICCENTRYID).values(id, viccEntryId);
 
         OncoKbBiological oncokbBiological = oncoKb.oncoKbBiological();
         if (oncokbBiological != null) {
-            int idBiological = context.insertInto(ONCOKBBIOLOGICAL,
+            int idBiological = batcher.nextId(ONCOKBBIOLOGICAL.ID);
+            batcher.into(ONCOKBBIOLOGICAL,
+                            ONCOKBBIOLOGICAL.ID,
                             ONCOKBBIOLOGICAL.GENE,
                             ONCOKBBIOLOGICAL.ENTREZGENEID,
                             ONCOKBBIOLOGICAL.ISOFORM,
@@ -44,7 +48,8 @@ final class OncokbDAOFunctions {
                             ONCOKBBIOLOGICAL.MUTATIONEFFECTPMIDS,
                             ONCOKBBIOLOGICAL.MUTATIONEFFECTABSTRACTS,
                             ONCOKBBIOLOGICAL.ONCOKBID)
-                    .values(oncokbBiological.gene(),
+                    .values(idBiological,
+                            oncokbBiological.gene(),
                             oncokbBiological.entrezGeneId(),
                             oncokbBiological.isoform(),
                             oncokbBiological.refSeq(),
@@ -52,13 +57,12 @@ final class OncokbDAOFunctions {
                             oncokbBiological.mutationEffect(),
                             oncokbBiological.mutationEffectPmids(),
                             oncokbBiological.mutationEffectAbstracts(),
-                            id)
-                    .returning(ONCOKBBIOLOGICAL.ID)
-                    .fetchOne()
-                    .getValue(ONCOKBBIOLOGICAL.ID);
+                            id);
 
             OncoKbVariant oncokbVariant = oncokbBiological.oncokbVariant();
-            int idVariant = context.insertInto(ONCOKBVARIANTBIOLOGICAL,
+            int idVariant = batcher.nextId(ONCOKBVARIANTBIOLOGICAL.ID);
+            batcher.into(ONCOKBVARIANTBIOLOGICAL,
+                            ONCOKBVARIANTBIOLOGICAL.ID,
                             ONCOKBVARIANTBIOLOGICAL.NAME,
                             ONCOKBVARIANTBIOLOGICAL.ALTERATION,
                             ONCOKBVARIANTBIOLOGICAL.PROTEINSTART,
@@ -66,28 +70,30 @@ final class OncokbDAOFunctions {
                             ONCOKBVARIANTBIOLOGICAL.REFRESIDUES,
                             ONCOKBVARIANTBIOLOGICAL.VARIANTRESIDUES,
                             ONCOKBVARIANTBIOLOGICAL.ONCOKBBIOLOGICALID)
-                    .values(oncokbVariant.name(),
+                    .values(idVariant,
+                            oncokbVariant.name(),
                             oncokbVariant.alteration(),
                             oncokbVariant.proteinStart(),
                             oncokbVariant.proteinEnd(),
                             oncokbVariant.refResidues(),
                             oncokbVariant.variantResidues(),
-                            idBiological)
-                    .returning(ONCOKBVARIANTBIOLOGICAL.ID)
-                    .fetchOne()
-                    .getValue(ONCOKBVARIANTBIOLOGICAL.ID);
+                            idBiological);
 
             OncoKbConsequence oncoKbConsequence = oncokbBiological.oncokbVariant().consequence();
-            context.insertInto(ONCOKBCONSEQUENCEBIOLOGICAL,
+            batcher.into(ONCOKBCONSEQUENCEBIOLOGICAL,
                             ONCOKBCONSEQUENCEBIOLOGICAL.TERM,
                             ONCOKBCONSEQUENCEBIOLOGICAL.DESCRIPTION,
                             ONCOKBCONSEQUENCEBIOLOGICAL.ISGENERALLYTRUNCATING,
                             ONCOKBCONSEQUENCEBIOLOGICAL.ONCOKBVARIANTBIOLOGICALID)
-                    .values(oncoKbConsequence.term(), oncoKbConsequence.description(), oncoKbConsequence.isGenerallyTruncating(), idVariant)
-                    .execute();
+                    .values(oncoKbConsequence.term(),
+                            oncoKbConsequence.description(),
+                            oncoKbConsequence.isGenerallyTruncating(),
+                            idVariant);
 
             OncoKbGene oncoKbGene = oncokbBiological.oncokbVariant().gene();
-            int idGene = context.insertInto(ONCOKBGENEBIOLOGICAL,
+            int idGene = batcher.nextId(ONCOKBGENEBIOLOGICAL.ID);
+            batcher.into(ONCOKBGENEBIOLOGICAL,
+                            ONCOKBGENEBIOLOGICAL.ID,
                             ONCOKBGENEBIOLOGICAL.HUGOSYMBOL,
                             ONCOKBGENEBIOLOGICAL.NAME,
                             ONCOKBGENEBIOLOGICAL.ENTREZGENEID,
@@ -96,28 +102,28 @@ final class OncokbDAOFunctions {
                             ONCOKBGENEBIOLOGICAL.ONCOGENE,
                             ONCOKBGENEBIOLOGICAL.TSG,
                             ONCOKBGENEBIOLOGICAL.ONCOKBVARIANTBIOLOGICALID)
-                    .values(oncoKbGene.hugoSymbol(),
+                    .values(idGene,
+                            oncoKbGene.hugoSymbol(),
                             oncoKbGene.name(),
                             oncoKbGene.entrezGeneId(),
                             oncoKbGene.curatedIsoform(),
                             oncoKbGene.curatedRefSeq(),
                             oncoKbGene.oncogene(),
                             oncoKbGene.tsg(),
-                            idVariant)
-                    .returning(ONCOKBGENEBIOLOGICAL.ID)
-                    .fetchOne()
-                    .getValue(ONCOKBGENEBIOLOGICAL.ID);
+                            idVariant);
 
             for (String geneAlias : oncoKbGene.geneAliases()) {
-                context.insertInto(ONCOKBGENEALIASBIOLOGICAL,
+                batcher.into(ONCOKBGENEALIASBIOLOGICAL,
                         ONCOKBGENEALIASBIOLOGICAL.GENEALIAS,
-                        ONCOKBGENEALIASBIOLOGICAL.ONCOKBGENEBIOLOGICALID).values(geneAlias, idGene).execute();
+                        ONCOKBGENEALIASBIOLOGICAL.ONCOKBGENEBIOLOGICALID).values(geneAlias, idGene);
             }
         }
 
         OncoKbClinical oncokbClinical = oncoKb.oncoKbClinical();
         if (oncokbClinical != null) {
-            int idClinical = context.insertInto(ONCOKBCLINICAL,
+            int idClinical = batcher.nextId(ONCOKBCLINICAL.ID);
+            batcher.into(ONCOKBCLINICAL,
+                            ONCOKBCLINICAL.ID,
                             ONCOKBCLINICAL.GENE,
                             ONCOKBCLINICAL.ENTREZGENEID,
                             ONCOKBCLINICAL.ISOFORM,
@@ -128,7 +134,8 @@ final class OncokbDAOFunctions {
                             ONCOKBCLINICAL.LEVEL,
                             ONCOKBCLINICAL.LEVELLABEL,
                             ONCOKBCLINICAL.ONCOKBID)
-                    .values(oncokbClinical.gene(),
+                    .values(idClinical,
+                            oncokbClinical.gene(),
                             oncokbClinical.entrezGeneId(),
                             oncokbClinical.isoform(),
                             oncokbClinical.refSeq(),
@@ -137,20 +144,19 @@ final class OncokbDAOFunctions {
                             oncokbClinical.drugPmids(),
                             oncokbClinical.level(),
                             oncokbClinical.levelLabel(),
-                            id)
-                    .returning(ONCOKBCLINICAL.ID)
-                    .fetchOne()
-                    .getValue(ONCOKBCLINICAL.ID);
+                            id);
 
             for (OncoKbDrugAbstract drugAbstract : oncokbClinical.drugAbstracts()) {
-                context.insertInto(ONCOKBDRUGABSTRACTCLINICAL,
+                batcher.into(ONCOKBDRUGABSTRACTCLINICAL,
                         ONCOKBDRUGABSTRACTCLINICAL.TEXT,
                         ONCOKBDRUGABSTRACTCLINICAL.LINK,
-                        ONCOKBDRUGABSTRACTCLINICAL.ONCOKBCLINICALID).values(drugAbstract.text(), drugAbstract.link(), idClinical).execute();
+                        ONCOKBDRUGABSTRACTCLINICAL.ONCOKBCLINICALID).values(drugAbstract.text(), drugAbstract.link(), idClinical);
             }
 
             OncoKbVariant variantClinical = oncokbClinical.variant();
-            int idClinicalVariant = context.insertInto(ONCOKBVARIANTCLINICAL,
+            int idClinicalVariant = batcher.nextId(ONCOKBVARIANTCLINICAL.ID);
+            batcher.into(ONCOKBVARIANTCLINICAL,
+                            ONCOKBVARIANTCLINICAL.ID,
                             ONCOKBVARIANTCLINICAL.NAME,
                             ONCOKBVARIANTCLINICAL.ALTERATION,
                             ONCOKBVARIANTCLINICAL.PROTEINSTART,
@@ -158,19 +164,17 @@ final class OncokbDAOFunctions {
                             ONCOKBVARIANTCLINICAL.REFRESIDUES,
                             ONCOKBVARIANTCLINICAL.VARIANTRESIDUES,
                             ONCOKBVARIANTCLINICAL.ONCOKBCLINICALID)
-                    .values(variantClinical.name(),
+                    .values(idClinicalVariant,
+                            variantClinical.name(),
                             variantClinical.alteration(),
                             variantClinical.proteinStart(),
                             variantClinical.proteinEnd(),
                             variantClinical.refResidues(),
                             variantClinical.variantResidues(),
-                            idClinical)
-                    .returning(ONCOKBVARIANTCLINICAL.ID)
-                    .fetchOne()
-                    .getValue(ONCOKBVARIANTCLINICAL.ID);
+                            idClinical);
 
             OncoKbConsequence consequenceClinical = oncokbClinical.variant().consequence();
-            context.insertInto(ONCOKBCONSEQUENCECLINICAL,
+            batcher.into(ONCOKBCONSEQUENCECLINICAL,
                             ONCOKBCONSEQUENCECLINICAL.TERM,
                             ONCOKBCONSEQUENCECLINICAL.DESCRIPTION,
                             ONCOKBCONSEQUENCECLINICAL.ISGENERALLYTRUNCATING,
@@ -178,11 +182,12 @@ final class OncokbDAOFunctions {
                     .values(consequenceClinical.term(),
                             consequenceClinical.description(),
                             consequenceClinical.isGenerallyTruncating(),
-                            idClinicalVariant)
-                    .execute();
+                            idClinicalVariant);
 
             OncoKbGene geneClinical = oncokbClinical.variant().gene();
-            int idGeneClinical = context.insertInto(ONCOKBGENECLINICAL,
+            int idGeneClinical = batcher.nextId(ONCOKBGENECLINICAL.ID);
+            batcher.into(ONCOKBGENECLINICAL,
+                            ONCOKBGENECLINICAL.ID,
                             ONCOKBGENECLINICAL.HUGOSYMBOL,
                             ONCOKBGENECLINICAL.NAME,
                             ONCOKBGENECLINICAL.ENTREZGENEID,
@@ -191,22 +196,19 @@ final class OncokbDAOFunctions {
                             ONCOKBGENECLINICAL.ONCOGENE,
                             ONCOKBGENECLINICAL.TSG,
                             ONCOKBGENECLINICAL.ONCOKBVARIANTCLINICALID)
-                    .values(geneClinical.hugoSymbol(),
+                    .values(idGeneClinical,
+                            geneClinical.hugoSymbol(),
                             geneClinical.name(),
                             geneClinical.entrezGeneId(),
                             geneClinical.curatedIsoform(),
                             geneClinical.curatedRefSeq(),
                             geneClinical.oncogene(),
                             geneClinical.tsg(),
-                            idClinicalVariant)
-                    .returning(ONCOKBGENECLINICAL.ID)
-                    .fetchOne()
-                    .getValue(ONCOKBGENECLINICAL.ID);
+                            idClinicalVariant);
 
             for (String geneAlias : geneClinical.geneAliases()) {
-                context.insertInto(ONCOKBGENEALIASCLINICAL, ONCOKBGENEALIASCLINICAL.GENEALIAS, ONCOKBGENEALIASCLINICAL.ONCOKBGENECLINICALID)
-                        .values(geneAlias, idGeneClinical)
-                        .execute();
+                batcher.into(ONCOKBGENEALIASCLINICAL, ONCOKBGENEALIASCLINICAL.GENEALIAS, ONCOKBGENEALIASCLINICAL.ONCOKBGENECLINICALID)
+                        .values(geneAlias, idGeneClinical);
             }
         }
     }
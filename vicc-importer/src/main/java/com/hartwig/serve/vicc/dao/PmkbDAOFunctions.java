@@ -6,6 +6,7 @@ import static com.hartwig.serve.vicc.database.Tables.PMKBTISSUE;
 import static com.hartwig.serve.vicc.database.Tables.PMKBTUMOR;
 import static com.hartwig.serve.vicc.database.Tables.PMKBVARIANT;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.pmkb.Pmkb;
 import com.hartwig.serve.vicc.datamodel.pmkb.PmkbTissue;
 
@@ -17,20 +18,21 @@ final class PmkbDAOFunctions {
     private PmkbDAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull Pmkb pmkb) {
-        int id = context.insertInto(PMKB, PMKB.VICCENTRYID).values(viccEntryId).returning(PMKB.ID).fetchOne().getValue(PMKB.ID);
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull Pmkb pmkb) {
+        int id = batcher.nextId(PMKB.ID);
+        batcher.into(PMKB, PMKB.ID, PMKB.VICCENTRYID).values(id, viccEntryId);
 
-        context.insertInto(PMKBTUMOR, PMKBTUMOR.NAME, PMKBTUMOR.IDTUMOR, PMKBTUMOR.PMKBID)
-                .values(pmkb.tumor().name(), pmkb.tumor().id(), id)
-                .execute();
+        batcher.into(PMKBTUMOR, PMKBTUMOR.NAME, PMKBTUMOR.IDTUMOR, PMKBTUMOR.PMKBID)
+                .values(pmkb.tumor().name(), pmkb.tumor().id(), id);
 
         for (PmkbTissue tissue : pmkb.tissues()) {
-            context.insertInto(PMKBTISSUE, PMKBTISSUE.NAME, PMKBTISSUE.IDTISSUE, PMKBTISSUE.PMKBID)
-                    .values(tissue.name(), tissue.id(), id)
-                    .execute();
+            batcher.into(PMKBTISSUE, PMKBTISSUE.NAME, PMKBTISSUE.IDTISSUE, PMKBTISSUE.PMKBID)
+                    .values(tissue.name(), tissue.id(), id);
         }
 
-        int variantId = context.insertInto(PMKBVARIANT,
+        int variantId = batcher.nextId(PMKBVARIANT.ID);
+        batcher.into(PMKBVARIANT,
+                        PMKBVARIANT.ID,
                         PMKBVARIANT.NAME,
                         PMKBVARIANT.COORDINATES,
                         PMKBVARIANT.CHROMOSOME,
@@ -52,7 +54,8 @@ final class PmkbDAOFunctions {
                         PMKBVARIANT.NOTES,
                         PMKBVARIANT.IDVARIANT,
                         PMKBVARIANT.PMKBID)
-                .values(pmkb.variant().name(),
+                .values(variantId,
+                        pmkb.variant().name(),
                         pmkb.variant().coordinates(),
                         pmkb.variant().chromosome(),
                         pmkb.variant().cytoband(),
@@ -72,12 +75,9 @@ final class PmkbDAOFunctions {
                         pmkb.variant().descriptionType(),
                         pmkb.variant().notes(),
                         pmkb.variant().id(),
-                        id)
-                .returning(PMKBVARIANT.ID)
-                .fetchOne()
-                .getValue(PMKBVARIANT.ID);
+                        id);
 
-        context.insertInto(PMKBGENE,
+        batcher.into(PMKBGENE,
                         PMKBGENE.NAME,
                         PMKBGENE.CREATEDAT,
                         PMKBGENE.UPDATEDAT,
@@ -93,8 +93,7 @@ final class PmkbDAOFunctions {
                         pmkb.variant().gene().externalId(),
                         pmkb.variant().gene().description(),
                         pmkb.variant().gene().id(),
-                        variantId)
-                .execute();
+                        variantId);
     }
 
     static void deleteAll(@NotNull DSLContext context) {
@@ -2,6 +2,7 @@ package com.hartwig.serve.vicc.dao;
 
 import static com.hartwig.serve.vicc.database.Tables.SAGE;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.sage.Sage;
 
 import org.jetbrains.annotations.NotNull;
@@ -12,8 +13,8 @@ final class SageDAOFunctions {
     private SageDAOFunctions() {
     }
 
-    static void write(@NotNull DSLContext context, int viccEntryId, @NotNull Sage sage) {
-        context.insertInto(SAGE,
+    static void write(@NotNull InsertBatcher batcher, int viccEntryId, @NotNull Sage sage) {
+        batcher.into(SAGE,
                         SAGE.GENE,
                         SAGE.ENTREZID,
                         SAGE.CLINICALMANIFESTATION,
@@ -31,8 +32,7 @@ final class SageDAOFunctions {
                         sage.drugLabels(),
                         sage.germlineOrSomatic(),
                         sage.publicationUrl(),
-                        viccEntryId)
-                .execute();
+                        viccEntryId);
     }
 
     static void deleteAll(@NotNull DSLContext context) {
@@ -31,6 +31,7 @@ import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.List;
 
+import com.hartwig.serve.common.dao.InsertBatcher;
 import com.hartwig.serve.vicc.datamodel.Association;
 import com.hartwig.serve.vicc.datamodel.EnvironmentalContext;
 import com.hartwig.serve.vicc.datamodel.Evidence;
@@ -76,6 +77,8 @@ public class ViccDAO {
 
     @NotNull
     private final DSLContext context;
+    @NotNull
+    private final InsertBatcher batcher;
 
     @NotNull
     public static ViccDAO connectToViccDAO(@NotNull String userName, @NotNull String password, @NotNull String url) throws SQLException {
@@ -101,14 +104,43 @@ public class ViccDAO {
 
     private ViccDAO(@NotNull final DSLContext context) {
         this.context = context;
+        this.batcher = new InsertBatcher(context);
+    }
+
+    public void write(@NotNull List<ViccEntry> viccEntries, boolean deferKeyChecks) {
+        // All entries are written in a single transaction so that a failing import never leaves a partially filled database behind.
+        context.transaction(configuration -> new ViccDAO(DSL.using(configuration)).writeInTransaction(viccEntries, deferKeyChecks));
+    }
+
+    private void writeInTransaction(@NotNull List<ViccEntry> viccEntries, boolean deferKeyChecks) {
+        if (deferKeyChecks) {
+            // Rows are written in an order that satisfies all constraints, so checking them per row only slows down bulk loading.
+            context.execute("SET foreign_key_checks = 0");
+            context.execute("SET unique_checks = 0");
+        }
+
+        try {
+            int count = 0;
+            for (ViccEntry viccEntry : viccEntries) {
+                writeViccEntry(viccEntry);
+                count++;
+                if (count % 1000 == 0) {
+                    LOGGER.info(" Completed inserting {} VICC entries into VICC db", count);
+                }
+            }
+            batcher.flush();
+        } finally {
+            // The checks are session settings, so they have to be restored even when the transaction is rolled back.
+            if (deferKeyChecks) {
+                context.execute("SET unique_checks = 1");
+                context.execute("SET foreign_key_checks = 1");
+            }
+        }
     }
 
-    public void writeViccEntry(@NotNull ViccEntry viccEntry) {
-        int id = context.insertInto(VICCENTRY, VICCENTRY.SOURCE)
-                .values(viccEntry.source().display())
-                .returning(VICCENTRY.ID)
-                .fetchOne()
-                .getValue(VICCENTRY.ID);
+    private void writeViccEntry(@NotNull ViccEntry viccEntry) {
+        int id = batcher.nextId(VICCENTRY.ID);
+        batcher.into(VICCENTRY, VICCENTRY.ID, VICCENTRY.SOURCE).values(id, viccEntry.source().display());
         writeTags(id, viccEntry.tags());
         writeDevTags(id, viccEntry.devTags());
         writeGeneIdentifiers(id, viccEntry.geneIdentifiers());
@@ -167,43 +199,44 @@ public class ViccDAO {
 
     private void writeTags(int viccEntryId, @NotNull List<String> tags) {
         for (String tag : tags) {
-            context.insertInto(TAG, TAG.TAGNAME, TAG.VICCENTRYID).values(tag, viccEntryId).execute();
+            batcher.into(TAG, TAG.TAGNAME, TAG.VICCENTRYID).values(tag, viccEntryId);
         }
     }
 
     private void writeDevTags(int viccEntryId, @NotNull List<String> devTags) {
         for (String devTag : devTags) {
-            context.insertInto(DEVTAG, DEVTAG.DEVTAGNAME, DEVTAG.VICCENTRYID).values(devTag, viccEntryId).execute();
+            batcher.into(DEVTAG, DEVTAG.DEVTAGNAME, DEVTAG.VICCENTRYID).values(devTag, viccEntryId);
         }
     }
 
     private void writeGeneIdentifiers(int viccEntryId, @NotNull List<GeneIdentifier> geneIdentifiers) {
         for (GeneIdentifier geneIdentifier : geneIdentifiers) {
-            context.insertInto(GENEIDENTIFIER,
+            batcher.into(GENEIDENTIFIER,
                             GENEIDENTIFIER.SYMBOL,
                             GENEIDENTIFIER.ENTREZID,
                             GENEIDENTIFIER.ENSEMBLGENEID,
                             GENEIDENTIFIER.VICCENTRYID)
-                    .values(geneIdentifier.symbol(), geneIdentifier.entrezId(), geneIdentifier.ensemblGeneId(), viccEntryId)
-                    .execute();
+                    .values(geneIdentifier.symbol(), geneIdentifier.entrezId(), geneIdentifier.ensemblGeneId(), viccEntryId);
         }
     }
 
     private void writeGenes(int viccEntryId, @NotNull List<String> genes) {
         for (String gene : genes) {
-            context.insertInto(GENE, GENE.GENENAME, GENE.VICCENTRYID).values(gene, viccEntryId).execute();
+            batcher.into(GENE, GENE.GENENAME, GENE.VICCENTRYID).values(gene, viccEntryId);
         }
     }
 
     private void writeFeatureNames(int viccEntryId, @NotNull List<String> featureNames) {
         for (String featureName : featureNames) {
-            context.insertInto(FEATURENAME, FEATURENAME.NAMEOFFEATURE, FEATURENAME.VICCENTRYID).values(featureName, viccEntryId).execute();
+            batcher.into(FEATURENAME, FEATURENAME.NAMEOFFEATURE, FEATURENAME.VICCENTRYID).values(featureName, viccEntryId);
         }
     }
 
     private void writeFeatures(int viccEntryId, @NotNull List<Feature> features) {
         for (Feature feature : features) {
-            int id = context.insertInto(FEATURE,
+            int id = batcher.nextId(FEATURE.ID);
+            batcher.into(FEATURE,
+                            FEATURE.ID,
                             FEATURE.NAME,
                             FEATURE.BIOMARKERTYPE,
                             FEATURE.REFERENCENAME,
@@ -217,7 +250,8 @@ public class ViccDAO {
                             FEATURE.ENTREZID,
                             FEATURE.DESCRIPTION,
                             FEATURE.VICCENTRYID)
-                    .values(feature.name(),
+                    .values(id,
+                            feature.name(),
                             feature.biomarkerType(),
                             feature.referenceName(),
                             feature.chromosome(),
@@ -229,10 +263,7 @@ public class ViccDAO {
                             feature.geneSymbol(),
                             feature.entrezId(),
                             feature.description(),
-                            viccEntryId)
-                    .returning(FEATURE.ID)
-                    .fetchOne()
-                    .getValue(FEATURE.ID);
+                            viccEntryId);
             writeFeatureInfo(id, feature.info());
             writeFeatureAttribute(id, feature.attribute());
             writeProvenance(id, feature.provenance());
@@ -244,15 +275,14 @@ public class ViccDAO {
 
     private void writeFeatureInfo(int featureId, @Nullable FeatureInfo featureInfo) {
         if (featureInfo != null) {
-            context.insertInto(FEATUREINFO, FEATUREINFO.GERMLINEORSOMATIC, FEATUREINFO.FEATUREID)
-                    .values(featureInfo.germlineOrSomatic(), featureId)
-                    .execute();
+            batcher.into(FEATUREINFO, FEATUREINFO.GERMLINEORSOMATIC, FEATUREINFO.FEATUREID)
+                    .values(featureInfo.germlineOrSomatic(), featureId);
         }
     }
 
     private void writeFeatureAttribute(int featureId, @Nullable FeatureAttribute featureAttribute) {
         if (featureAttribute != null) {
-            context.insertInto(FEATUREATTRIBUTE,
+            batcher.into(FEATUREATTRIBUTE,
                             FEATUREATTRIBUTE.AMINOACIDCHANGE,
                             FEATUREATTRIBUTE.GERMLINE,
                             FEATUREATTRIBUTE.PARTNERGENE,
@@ -290,59 +320,59 @@ public class ViccDAO {
                             featureAttribute.transcript(),
                             featureAttribute.descriptionType(),
                             featureAttribute.chromosome(),
-                            featureId)
-                    .execute();
+                            featureId);
         }
     }
 
     private void writeProvenance(int featureId, @NotNull List<String> provenances) {
         for (String provenance : provenances) {
-            context.insertInto(PROVENANCE, PROVENANCE.PROVENANCENAME, PROVENANCE.FEATUREID).values(provenance, featureId).execute();
+            batcher.into(PROVENANCE, PROVENANCE.PROVENANCENAME, PROVENANCE.FEATUREID).values(provenance, featureId);
         }
     }
 
     private void writeSynonyms(int featureId, @NotNull List<String> synonyms) {
         for (String synonym : synonyms) {
-            context.insertInto(SYNONYM, SYNONYM.SYNONYMNAME, SYNONYM.FEATUREID).values(synonym, featureId).execute();
+            batcher.into(SYNONYM, SYNONYM.SYNONYMNAME, SYNONYM.FEATUREID).values(synonym, featureId);
         }
     }
 
     private void writeLinks(int featureId, @NotNull List<String> links) {
         for (String link : links) {
-            context.insertInto(LINK, LINK.LINKNAME, LINK.FEATUREID).values(link, featureId).execute();
+            batcher.into(LINK, LINK.LINKNAME, LINK.FEATUREID).values(link, featureId);
         }
     }
 
     private void writeSequenceOntology(int featureId, @Nullable SequenceOntology sequenceOntologies) {
         if (sequenceOntologies != null) {
-            int id = context.insertInto(SEQUENCEONTOLOGY,
+            int id = batcher.nextId(SEQUENCEONTOLOGY.ID);
+            batcher.into(SEQUENCEONTOLOGY,
+                            SEQUENCEONTOLOGY.ID,
                             SEQUENCEONTOLOGY.SOID,
                             SEQUENCEONTOLOGY.PARENTSOID,
                             SEQUENCEONTOLOGY.NAME,
                             SEQUENCEONTOLOGY.PARENTNAME,
                             SEQUENCEONTOLOGY.FEATUREID)
-                    .values(sequenceOntologies.soid(),
+                    .values(id,
+                            sequenceOntologies.soid(),
                             sequenceOntologies.parentSoid(),
                             sequenceOntologies.name(),
                             sequenceOntologies.parentName(),
-                            featureId)
-                    .returning(SEQUENCEONTOLOGY.ID)
-                    .fetchOne()
-                    .getValue(SEQUENCEONTOLOGY.ID);
+                            featureId);
             writeHierarchy(id, sequenceOntologies.hierarchy());
         }
     }
 
     private void writeHierarchy(int sequenceOntologyId, @NotNull List<String> hierarchies) {
         for (String hierarchy : hierarchies) {
-            context.insertInto(HIERARCHY, HIERARCHY.HIERARCHYNAME, HIERARCHY.SEQUENCEONTOLOGYID)
-                    .values(hierarchy, sequenceOntologyId)
-                    .execute();
+            batcher.into(HIERARCHY, HIERARCHY.HIERARCHYNAME, HIERARCHY.SEQUENCEONTOLOGYID)
+                    .values(hierarchy, sequenceOntologyId);
         }
     }
 
     private void writeAssociation(int viccEntryId, @NotNull Association association) {
-        int id = context.insertInto(ASSOCIATION,
+        int id = batcher.nextId(ASSOCIATION.ID);
+        batcher.into(ASSOCIATION,
+                        ASSOCIATION.ID,
                         ASSOCIATION.EVIDENCELEVEL,
                         ASSOCIATION.EVIDENCELABEL,
                         ASSOCIATION.RESPONSETYPE,
@@ -351,17 +381,15 @@ public class ViccDAO {
                         ASSOCIATION.DESCRIPTION,
                         ASSOCIATION.ONCOGENIC,
                         ASSOCIATION.VICCENTRYID)
-                .values(association.evidenceLevel(),
+                .values(id,
+                        association.evidenceLevel(),
                         association.evidenceLabel(),
                         association.responseType(),
                         association.drugLabels(),
                         association.sourceLink(),
                         association.description(),
                         association.oncogenic(),
-                        viccEntryId)
-                .returning(ASSOCIATION.ID)
-                .fetchOne()
-                .getValue(ASSOCIATION.ID);
+                        viccEntryId);
         writeVariantNames(id, association.variantNames());
         writeEvidence(id, association.evidence());
         writePublicationsUrls(id, association.publicationUrls());
@@ -371,18 +399,15 @@ public class ViccDAO {
 
     private void writeVariantNames(int associationId, @NotNull List<String> variantNames) {
         for (String variant : variantNames) {
-            context.insertInto(ASSOCIATIONVARIANT, ASSOCIATIONVARIANT.VARIANTNAME, ASSOCIATIONVARIANT.ASSOCIATIONID)
-                    .values(variant, associationId)
-                    .execute();
+            batcher.into(ASSOCIATIONVARIANT, ASSOCIATIONVARIANT.VARIANTNAME, ASSOCIATIONVARIANT.ASSOCIATIONID)
+                    .values(variant, associationId);
         }
     }
 
     private void writeEvidence(int associationId, @NotNull Evidence evidence) {
-        int id = context.insertInto(EVIDENCE, EVIDENCE.DESCRIPTION, EVIDENCE.ASSOCIATIONID)
-                .values(evidence.description(), associationId)
-                .returning(EVIDENCE.ID)
-                .fetchOne()
-                .getValue(EVIDENCE.ID);
+        int id = batcher.nextId(EVIDENCE.ID);
+        batcher.into(EVIDENCE, EVIDENCE.ID, EVIDENCE.DESCRIPTION, EVIDENCE.ASSOCIATIONID)
+                .values(id, evidence.description(), associationId);
         writeEvidenceInfo(id, evidence.info());
         writeEvidenceType(id, evidence.evidenceType());
     }
@@ -390,54 +415,50 @@ public class ViccDAO {
     private void writeEvidenceInfo(int evidenceId, @Nullable EvidenceInfo evidenceInfo) {
         if (evidenceInfo != null) {
             for (String publication : evidenceInfo.publications()) {
-                context.insertInto(EVIDENCEINFO, EVIDENCEINFO.PUBLICATION, EVIDENCEINFO.EVIDENCEID)
-                        .values(publication, evidenceId)
-                        .execute();
+                batcher.into(EVIDENCEINFO, EVIDENCEINFO.PUBLICATION, EVIDENCEINFO.EVIDENCEID)
+                        .values(publication, evidenceId);
             }
         }
     }
 
     private void writeEvidenceType(int evidenceId, @NotNull EvidenceType evidenceType) {
-        context.insertInto(EVIDENCETYPE, EVIDENCETYPE.SOURCENAME, EVIDENCETYPE.IDEVIDENCETYPE, EVIDENCETYPE.EVIDENCEID)
-                .values(evidenceType.sourceName(), evidenceType.id(), evidenceId)
-                .execute();
+        batcher.into(EVIDENCETYPE, EVIDENCETYPE.SOURCENAME, EVIDENCETYPE.IDEVIDENCETYPE, EVIDENCETYPE.EVIDENCEID)
+                .values(evidenceType.sourceName(), evidenceType.id(), evidenceId);
     }
 
     private void writePublicationsUrls(int associationId, @NotNull List<String> publicationsUrls) {
         for (String publicationUrl : publicationsUrls) {
-            context.insertInto(PUBLICATIONURL, PUBLICATIONURL.URLOFPUBLICATION, PUBLICATIONURL.ASSOCIATIONID)
-                    .values(publicationUrl, associationId)
-                    .execute();
+            batcher.into(PUBLICATIONURL, PUBLICATIONURL.URLOFPUBLICATION, PUBLICATIONURL.ASSOCIATIONID)
+                    .values(publicationUrl, associationId);
         }
     }
 
     private void writePhenotype(int associationId, @Nullable Phenotype phenotype) {
         if (phenotype != null) {
-            int id = context.insertInto(PHENOTYPE, PHENOTYPE.DESCRIPTION, PHENOTYPE.FAMILY, PHENOTYPE.IDPHENOTYPE, PHENOTYPE.ASSOCIATIONID)
-                    .values(phenotype.description(), phenotype.family(), phenotype.id(), associationId)
-                    .returning(PHENOTYPE.ID)
-                    .fetchOne()
-                    .getValue(PHENOTYPE.ID);
+            int id = batcher.nextId(PHENOTYPE.ID);
+            batcher.into(PHENOTYPE, PHENOTYPE.ID, PHENOTYPE.DESCRIPTION, PHENOTYPE.FAMILY, PHENOTYPE.IDPHENOTYPE, PHENOTYPE.ASSOCIATIONID)
+                    .values(id, phenotype.description(), phenotype.family(), phenotype.id(), associationId);
             writePhenotypeType(id, phenotype.type());
         }
     }
 
     private void writePhenotypeType(int phenotypeId, @Nullable PhenotypeType phenotypeType) {
         if (phenotypeType != null) {
-            context.insertInto(PHENOTYPETYPE,
+            batcher.into(PHENOTYPETYPE,
                             PHENOTYPETYPE.SOURCE,
                             PHENOTYPETYPE.TERM,
                             PHENOTYPETYPE.IDPHENOTYPETYPE,
                             PHENOTYPETYPE.PHENOTYPEID)
-                    .values(phenotypeType.source(), phenotypeType.term(), phenotypeType.id(), phenotypeId)
-                    .execute();
+                    .values(phenotypeType.source(), phenotypeType.term(), phenotypeType.id(), phenotypeId);
         }
     }
 
     private void writeEnvironmentalContexts(int associationId, @Nullable List<EnvironmentalContext> environmentalContexts) {
         if (environmentalContexts != null) {
             for (EnvironmentalContext environmentalContext : environmentalContexts) {
-                int id = context.insertInto(ENVIRONMENTALCONTEXT,
+                int id = batcher.nextId(ENVIRONMENTALCONTEXT.ID);
+                batcher.into(ENVIRONMENTALCONTEXT,
+                                ENVIRONMENTALCONTEXT.ID,
                                 ENVIRONMENTALCONTEXT.TERM,
                                 ENVIRONMENTALCONTEXT.DESCRIPTION,
                                 ENVIRONMENTALCONTEXT.SOURCE,
@@ -445,16 +466,14 @@ public class ViccDAO {
                                 ENVIRONMENTALCONTEXT.TOXICITY,
                                 ENVIRONMENTALCONTEXT.IDENVIRONMENTALCONTEXT,
                                 ENVIRONMENTALCONTEXT.ASSOCIATIONID)
-                        .values(environmentalContext.term(),
+                        .values(id,
+                                environmentalContext.term(),
                                 environmentalContext.description(),
                                 environmentalContext.source(),
                                 environmentalContext.usanStem(),
                                 environmentalContext.toxicity(),
                                 environmentalContext.id(),
-                                associationId)
-                        .returning(ENVIRONMENTALCONTEXT.ID)
-                        .fetchOne()
-                        .getValue(ENVIRONMENTALCONTEXT.ID);
+                                associationId);
                 writeApprovedCountries(id, environmentalContext.approvedCountries());
                 writeTaxonomy(id, environmentalContext.taxonomy());
             }
@@ -463,15 +482,14 @@ public class ViccDAO {
 
     private void writeApprovedCountries(int environmentalContextsId, @NotNull List<String> approvedCountries) {
         for (String approvesCountry : approvedCountries) {
-            context.insertInto(APPROVEDCOUNTRY, APPROVEDCOUNTRY.APPROVEDCOUNTRYNAME, APPROVEDCOUNTRY.ENVIRONMENTALCONTEXTID)
-                    .values(approvesCountry, environmentalContextsId)
-                    .execute();
+            batcher.into(APPROVEDCOUNTRY, APPROVEDCOUNTRY.APPROVEDCOUNTRYNAME, APPROVEDCOUNTRY.ENVIRONMENTALCONTEXTID)
+                    .values(approvesCountry, environmentalContextsId);
         }
     }
 
     private void writeTaxonomy(int environmentalContextsId, @Nullable Taxonomy taxonomy) {
         if (taxonomy != null) {
-            context.insertInto(TAXONOMY,
+            batcher.into(TAXONOMY,
                             TAXONOMY.KINGDOM,
                             TAXONOMY.DIRECTPARENT,
                             TAXONOMY.CLASS,
@@ -483,32 +501,31 @@ public class ViccDAO {
                             taxonomy.classs(),
                             taxonomy.subClass(),
                             taxonomy.superClass(),
-                            environmentalContextsId)
-                    .execute();
+                            environmentalContextsId);
         }
     }
 
     private void writeKbSpecificObject(int viccEntryId, @NotNull KbSpecificObject object) {
         if (object instanceof Sage) {
-            SageDAOFunctions.write(context, viccEntryId, (Sage) object);
+            SageDAOFunctions.write(batcher, viccEntryId, (Sage) object);
         } else if (object instanceof Brca) {
-            BRCADAOFunctions.write(context, viccEntryId, (Brca) object);
+            BRCADAOFunctions.write(batcher, viccEntryId, (Brca) object);
         } else if (object instanceof Cgi) {
-            CgiDAOFunctions.write(context, viccEntryId, (Cgi) object);
+            CgiDAOFunctions.write(batcher, viccEntryId, (Cgi) object);
         } else if (object instanceof Jax) {
-            JaxDAOFunctions.write(context, viccEntryId, (Jax) object);
+            JaxDAOFunctions.write(batcher, viccEntryId, (Jax) object);
         } else if (object instanceof JaxTrials) {
-            JaxTrialsDAOFunctions.write(context, viccEntryId, (JaxTrials) object);
+            JaxTrialsDAOFunctions.write(batcher, viccEntryId, (JaxTrials) object);
         } else if (object instanceof Pmkb) {
-            PmkbDAOFunctions.write(context, viccEntryId, (Pmkb) object);
+            PmkbDAOFunctions.write(batcher, viccEntryId, (Pmkb) object);
         } else if (object instanceof OncoKb) {
-            OncokbDAOFunctions.write(context, viccEntryId, (OncoKb) object);
+            OncokbDAOFunctions.write(batcher, viccEntryId, (OncoKb) object);
         } else if (object instanceof MolecularMatchTrials) {
-            MolecularMatchTrialsDAOFunctions.write(context, viccEntryId, (MolecularMatchTrials) object);
+            MolecularMatchTrialsDAOFunctions.write(batcher, viccEntryId, (MolecularMatchTrials) object);
         } else if (object instanceof Civic) {
-            CivicDAOFunctions.write(context, viccEntryId, (Civic) object);
+            CivicDAOFunctions.write(batcher, viccEntryId, (Civic) object);
         } else if (object instanceof MolecularMatch) {
-            MolecularMatchDAOFunctions.write(context, viccEntryId, (MolecularMatch) object);
+            MolecularMatchDAOFunctions.write(batcher, viccEntryId, (MolecularMatch) object);
         } else {
             LOGGER.warn("Could not resolve kb specific object of class {}", object.getClass().getCanonicalName());
         }
@@ -9,13 +9,24 @@ import static com.hartwig.serve.vicc.util.ViccJson.optionalOrNullableObject;
 import static com.hartwig.serve.vicc.util.ViccJson.optionalOrNullableString;
 import static com.hartwig.serve.vicc.util.ViccJson.optionalStringList;
 
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import javax.annotation.Nullable;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -65,16 +76,24 @@ public class ViccJsonReader {
 
     private static final Logger LOGGER = LogManager.getLogger(ViccJsonReader.class);
 
+    private static final String SOURCE_FIELD = "source";
+
+    // Every entry holds its knowledgebase specific object under a key equal to the name of its source.
+    @NotNull
+    private static final Map<String, ViccSource> SOURCE_PER_KNOWLEDGEBASE_KEY = createSourcePerKnowledgebaseKey();
+
     @NotNull
     private final TranscriptExtractor transcriptExtractor;
+    private final int parallelism;
 
     @NotNull
     public static ViccJsonReader buildProductionReader() {
-        return new ViccJsonReader(new TranscriptExtractor());
+        return new ViccJsonReader(new TranscriptExtractor(), Runtime.getRuntime().availableProcessors());
     }
 
-    public ViccJsonReader(@NotNull final TranscriptExtractor transcriptExtractor) {
+    public ViccJsonReader(@NotNull final TranscriptExtractor transcriptExtractor, int parallelism) {
         this.transcriptExtractor = transcriptExtractor;
+        this.parallelism = parallelism;
     }
 
     @NotNull
@@ -85,29 +104,93 @@ public class ViccJsonReader {
 
     @NotNull
     public List<ViccEntry> readSelection(@NotNull String jsonPath, @NotNull ViccQuerySelection querySelection) throws IOException {
-        List<ViccEntry> entries = Lists.newArrayList();
+        Integer maxEntriesToInclude = querySelection.maxEntriesToInclude();
 
-        JsonReader reader = new JsonReader(new FileReader(jsonPath));
-        reader.setLenient(true);
+        // Reading the json is inherently sequential, but converting the selected entries is independent per entry.
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, createConverterThreadFactory());
+
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(Paths.get(jsonPath), StandardCharsets.UTF_8))) {
+            reader.setLenient(true);
+
+            List<Future<ViccEntry>> futureEntries = Lists.newArrayList();
+            while (reader.peek() != JsonToken.END_DOCUMENT && (maxEntriesToInclude == null
+                    || futureEntries.size() < maxEntriesToInclude)) {
+                JsonObject viccEntryObject = readSelectedEntryObject(reader, querySelection.sourcesToFilterOn());
+                if (viccEntryObject != null) {
+                    futureEntries.add(executor.submit(() -> createViccEntry(viccEntryObject)));
+                }
+            }
 
-        while (reader.peek() != JsonToken.END_DOCUMENT && (querySelection.maxEntriesToInclude() == null
-                || entries.size() < querySelection.maxEntriesToInclude())) {
-            JsonObject viccEntryObject = JsonParser.parseReader(reader).getAsJsonObject();
-            ViccSource source = ViccSource.fromViccKnowledgebaseString(string(viccEntryObject, "source"));
-            if (querySelection.sourcesToFilterOn() == null || querySelection.sourcesToFilterOn().contains(source)) {
-                entries.add(createViccEntry(source, viccEntryObject));
+            List<ViccEntry> entries = Lists.newArrayListWithCapacity(futureEntries.size());
+            for (Future<ViccEntry> futureEntry : futureEntries) {
+                entries.add(futureEntry.get());
             }
+            return entries;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while converting VICC entries", exception);
+        } catch (ExecutionException exception) {
+            throw new RuntimeException("Could not convert VICC entry", exception.getCause());
+        } finally {
+            executor.shutdownNow();
         }
+    }
 
-        reader.close();
+    @NotNull
+    @VisibleForTesting
+    static ThreadFactory createConverterThreadFactory() {
+        return new ThreadFactoryBuilder().setNameFormat("vicc-entry-converter-%d").setDaemon(true).build();
+    }
 
-        return entries;
+    @Nullable
+    private static JsonObject readSelectedEntryObject(@NotNull JsonReader reader, @Nullable List<ViccSource> sourcesToFilterOn)
+            throws IOException {
+        if (sourcesToFilterOn == null) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+
+        // Fields are parsed until the source of the entry is known. The remaining fields of entries from other sources are
+        // skipped without building their json tree.
+        JsonObject viccEntryObject = new JsonObject();
+        ViccSource source = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (source != null && !sourcesToFilterOn.contains(source)) {
+                reader.skipValue();
+            } else {
+                JsonElement value = JsonParser.parseReader(reader);
+                viccEntryObject.add(name, value);
+                if (name.equals(SOURCE_FIELD) && value.isJsonPrimitive()) {
+                    source = ViccSource.fromViccKnowledgebaseString(value.getAsString());
+                } else if (source == null) {
+                    source = SOURCE_PER_KNOWLEDGEBASE_KEY.get(name);
+                }
+            }
+        }
+        reader.endObject();
+
+        return source == null || sourcesToFilterOn.contains(source) ? viccEntryObject : null;
+    }
+
+    @NotNull
+    private static Map<String, ViccSource> createSourcePerKnowledgebaseKey() {
+        Map<String, ViccSource> sourcePerKnowledgebaseKey = Maps.newHashMap();
+        for (ViccSource source : ViccSource.values()) {
+            if (source != ViccSource.UNKNOWN) {
+                sourcePerKnowledgebaseKey.put(source.display(), source);
+            }
+        }
+        return sourcePerKnowledgebaseKey;
     }
 
     @NotNull
-    private ViccEntry createViccEntry(@NotNull ViccSource source, @NotNull JsonObject viccEntryObject) {
+    private ViccEntry createViccEntry(@NotNull JsonObject viccEntryObject) {
         ViccDatamodelCheckerFactory.viccEntryChecker().check(viccEntryObject);
 
+        ViccSource source = ViccSource.fromViccKnowledgebaseString(string(viccEntryObject, SOURCE_FIELD));
+
         ImmutableViccEntry.Builder viccEntryBuilder = ImmutableViccEntry.builder();
         viccEntryBuilder.source(source);
         viccEntryBuilder.genes(stringList(viccEntryObject, "genes"));
@@ -0,0 +1,98 @@
+package com.hartwig.serve.vicc.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.Resources;
+import com.hartwig.serve.vicc.annotation.TranscriptExtractor;
+import com.hartwig.serve.vicc.datamodel.ViccEntry;
+import com.hartwig.serve.vicc.datamodel.ViccSource;
+import com.hartwig.serve.vicc.datamodel.pmkb.Pmkb;
+import com.hartwig.serve.vicc.datamodel.sage.Sage;
+import com.hartwig.serve.vicc.selection.ImmutableViccQuerySelection;
+import com.hartwig.serve.vicc.selection.ViccQuerySelection;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class ViccJsonReaderTest {
+
+    // Contains SAGE and PMKB entries. The second entry lists its knowledgebase specific object before its source.
+    private static final String VICC_JSON = Resources.getResource("vicc_entries.json").getPath();
+
+    @Test
+    public void canReadAllEntriesInOrder() throws IOException {
+        List<ViccEntry> entries = createReader(3).readAll(VICC_JSON);
+
+        assertEquals(Lists.newArrayList("BRAF", "EGFR", "KRAS", "ALK", "NRAS"), genes(entries));
+        assertEquals(Lists.newArrayList(ViccSource.SAGE, ViccSource.PMKB, ViccSource.SAGE, ViccSource.PMKB, ViccSource.SAGE),
+                entries.stream().map(ViccEntry::source).collect(Collectors.toList()));
+        assertTrue(entries.get(0).kbSpecificObject() instanceof Sage);
+        assertTrue(entries.get(1).kbSpecificObject() instanceof Pmkb);
+    }
+
+    @Test
+    public void canFilterOnSources() throws IOException {
+        ViccJsonReader reader = createReader(3);
+        List<ViccEntry> allEntries = reader.readAll(VICC_JSON);
+
+        for (ViccSource source : Lists.newArrayList(ViccSource.SAGE, ViccSource.PMKB, ViccSource.CIVIC)) {
+            ViccQuerySelection selection = ImmutableViccQuerySelection.builder().addSourcesToFilterOn(source).build();
+
+            // Filtering while reading has to select the same entries as filtering after reading everything.
+            List<ViccEntry> expected = allEntries.stream().filter(entry -> entry.source() == source).collect(Collectors.toList());
+            assertEquals(expected, reader.readSelection(VICC_JSON, selection));
+        }
+
+        ViccQuerySelection pmkbOnly = ImmutableViccQuerySelection.builder().addSourcesToFilterOn(ViccSource.PMKB).build();
+        assertEquals(Lists.newArrayList("EGFR", "ALK"), genes(reader.readSelection(VICC_JSON, pmkbOnly)));
+    }
+
+    @Test
+    public void canLimitNumberOfSelectedEntries() throws IOException {
+        ViccJsonReader reader = createReader(3);
+
+        ViccQuerySelection firstThree = ImmutableViccQuerySelection.builder().maxEntriesToInclude(3).build();
+        assertEquals(Lists.newArrayList("BRAF", "EGFR", "KRAS"), genes(reader.readSelection(VICC_JSON, firstThree)));
+
+        // The maximum applies to the selected entries rather than to all entries that have been read.
+        ViccQuerySelection firstTwoSage =
+                ImmutableViccQuerySelection.builder().addSourcesToFilterOn(ViccSource.SAGE).maxEntriesToInclude(2).build();
+        assertEquals(Lists.newArrayList("BRAF", "KRAS"), genes(reader.readSelection(VICC_JSON, firstTwoSage)));
+    }
+
+    @Test
+    public void parallelismDoesNotAffectOutput() throws IOException {
+        assertEquals(createReader(1).readAll(VICC_JSON), createReader(4).readAll(VICC_JSON));
+    }
+
+    @Test
+    public void converterThreadsHaveDistinctNames() {
+        ThreadFactory threadFactory = ViccJsonReader.createConverterThreadFactory();
+        Thread first = threadFactory.newThread(() -> {
+        });
+        Thread second = threadFactory.newThread(() -> {
+        });
+
+        assertTrue(first.getName().startsWith("vicc-entry-converter-"));
+        assertNotEquals(first.getName(), second.getName());
+        assertTrue(first.isDaemon());
+    }
+
+    @NotNull
+    private static ViccJsonReader createReader(int parallelism) {
+        return new ViccJsonReader(new TranscriptExtractor(), parallelism);
+    }
+
+    @NotNull
+    private static List<String> genes(@NotNull List<ViccEntry> entries) {
+        return entries.stream().map(entry -> entry.genes().get(0)).collect(Collectors.toList());
+    }
+}